@@ -24,6 +24,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.LongFunction;
 import java.util.function.LongUnaryOperator;
@@ -62,6 +63,7 @@ import io.aklivity.zilla.runtime.engine.binding.BindingHandler;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
 import io.aklivity.zilla.runtime.engine.buffer.BufferPool;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
+import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 import io.aklivity.zilla.runtime.engine.config.BindingConfig;
 
 public final class PgsqlKafkaProxyFactory implements PgsqlKafkaStreamFactory
@@ -82,6 +84,8 @@ public final class PgsqlKafkaProxyFactory implements PgsqlKafkaStreamFactory
     private static final int COMMAND_PROCESSED_ERRORED = -1;
     private static final int COMMAND_PROCESSED_NONE = 0;
 
+    private static final int SCHEMA_RESOLVED_SIGNAL_ID = 1;
+
     private static final int FLAGS_INIT = 0x02;
     private static final int FLAGS_CONT = 0x00;
     private static final int FLAGS_FIN = 0x01;
@@ -130,6 +134,7 @@ public final class PgsqlKafkaProxyFactory implements PgsqlKafkaStreamFactory
     private final LongUnaryOperator supplyReplyId;
     private final LongFunction<CatalogHandler> supplyCatalog;
     private final BindingHandler streamFactory;
+    private final Signaler signaler;
 
     private final int decodeMax;
 
@@ -159,6 +164,7 @@ public final class PgsqlKafkaProxyFactory implements PgsqlKafkaStreamFactory
         this.supplyInitialId = context::supplyInitialId;
         this.supplyReplyId = context::supplyReplyId;
         this.streamFactory = context.streamFactory();
+        this.signaler = context.signaler();
         this.bufferPool = context.bufferPool();
         this.decodeMax = bufferPool.slotCapacity();
         this.supplyCatalog = context::supplyCatalog;
@@ -262,6 +268,9 @@ public final class PgsqlKafkaProxyFactory implements PgsqlKafkaStreamFactory
         private int commandsProcessed = 0;
         private int queryProgressOffset;
 
+        private boolean resolving;
+        private long resolvingAuthorization;
+
         private PgsqlProxy(
             MessageConsumer app,
             long originId,
@@ -318,6 +327,10 @@ public final class PgsqlKafkaProxyFactory implements PgsqlKafkaStreamFactory
                 final WindowFW window = windowRO.wrap(buffer, index, index + length);
                 onAppWindow(window);
                 break;
+            case SignalFW.TYPE_ID:
+                final SignalFW signal = signalRO.wrap(buffer, index, index + length);
+                onAppSignal(signal);
+                break;
             default:
                 // ignore
                 break;
@@ -655,7 +668,7 @@ public final class PgsqlKafkaProxyFactory implements PgsqlKafkaStreamFactory
             long traceId,
             long authorizationId)
         {
-            if (parserSlot != NO_SLOT)
+            if (!resolving && parserSlot != NO_SLOT)
             {
                 final MutableDirectBuffer parserBuffer = bufferPool.buffer(parserSlot);
 
@@ -673,6 +686,31 @@ public final class PgsqlKafkaProxyFactory implements PgsqlKafkaStreamFactory
             }
         }
 
+        private void doResolveSchema(
+            long traceId,
+            long authorization,
+            CompletableFuture<?> future)
+        {
+            resolving = true;
+            resolvingAuthorization = authorization;
+
+            future.whenComplete((r, ex) ->
+                signaler.signalNow(originId, routedId, replyId, traceId, SCHEMA_RESOLVED_SIGNAL_ID, 0));
+        }
+
+        private void onAppSignal(
+            SignalFW signal)
+        {
+            final long traceId = signal.traceId();
+            final int signalId = signal.signalId();
+
+            if (signalId == SCHEMA_RESOLVED_SIGNAL_ID && resolving)
+            {
+                resolving = false;
+                doParseQuery(traceId, resolvingAuthorization);
+            }
+        }
+
         private void doCommandError(
             long traceId,
             long authorization,
@@ -1398,24 +1436,33 @@ public final class PgsqlKafkaProxyFactory implements PgsqlKafkaStreamFactory
         final CatalogHandler catalog = binding.catalog;
 
         final String subjectValue = String.format("%s.%s-value", schema, topic);
-        final int schemaId = catalog.resolve(subjectValue, "latest");
-        final String existingSchemaJson = catalog.resolve(schemaId);
-        final String schemaValue = binding.avroValueSchema.generate(existingSchemaJson, alter);
+        final CompletableFuture<Integer> schemaId = catalog.resolveAsync(subjectValue, "latest");
+        final CompletableFuture<String> existingSchema = schemaId.isDone() ? catalog.resolveAsync(schemaId.join()) : null;
 
-        if (schemaValue != null)
+        if (existingSchema == null || !existingSchema.isDone())
         {
-            int versionId = catalog.register(subjectValue, schemaValue);
-            //TODO: check if the versionId is the same as the one in the existing schema
+            server.doResolveSchema(traceId, authorization, existingSchema != null ? existingSchema : schemaId);
         }
         else
         {
-            server.doCommandError(traceId, authorization, SEVERITY_ERROR, CODE_XX000,
-                String.format("Unable to alter topic %s\u0000", topic));
-            server.commandsProcessed = COMMAND_PROCESSED_ERRORED;
-        }
+            final String existingSchemaJson = existingSchema.join();
+            final String schemaValue = binding.avroValueSchema.generate(existingSchemaJson, alter);
+
+            if (schemaValue != null)
+            {
+                int versionId = catalog.register(subjectValue, schemaValue);
+                //TODO: check if the versionId is the same as the one in the existing schema
+            }
+            else
+            {
+                server.doCommandError(traceId, authorization, SEVERITY_ERROR, CODE_XX000,
+                    String.format("Unable to alter topic %s\u0000", topic));
+                server.commandsProcessed = COMMAND_PROCESSED_ERRORED;
+            }
 
-        final int length = statement.length();
-        server.onCommandCompleted(traceId, authorization, length, PgsqlKafkaCompletionCommand.ALTER_TOPIC_COMMAND);
+            final int length = statement.length();
+            server.onCommandCompleted(traceId, authorization, length, PgsqlKafkaCompletionCommand.ALTER_TOPIC_COMMAND);
+        }
     }
 
     private void decodeDropTopicCommand(
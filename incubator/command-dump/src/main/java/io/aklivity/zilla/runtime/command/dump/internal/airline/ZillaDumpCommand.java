@@ -87,7 +87,7 @@ public final class ZillaDumpCommand extends ZillaCommand
 {
     private static final String OPTION_PROPERTIES_PATH_DEFAULT = ".zilla/zilla.properties";
     private static final Pattern PATTERN_NAMESPACED_BINDING = Pattern.compile("(?<namespace>[^\\.]+)\\.(?<binding>[^\\\\.]+)");
-    private static final Pattern STREAMS_PATTERN = Pattern.compile("data(\\d+)");
+    private static final Pattern STREAMS_PATTERN = Pattern.compile("data(\\d+)(?:-\\d+)?");
 
     private static final long MAX_PARK_NS = MILLISECONDS.toNanos(100L);
     private static final long MIN_PARK_NS = MILLISECONDS.toNanos(1L);
@@ -307,12 +307,13 @@ public final class ZillaDumpCommand extends ZillaCommand
             try (Stream<Path> files = Files.walk(directory, 3);
                  WritableByteChannel writer = Files.newByteChannel(output, CREATE, WRITE, TRUNCATE_EXISTING))
             {
-                final RingBufferSpy[] streamBuffers = files
+                final List<Path> streamPaths = files
                     .filter(this::isStreamsFile)
                     .sorted()
                     .peek(this::onDiscovered)
+                    .collect(Collectors.toList());
+                final RingBufferSpy[] streamBuffers = streamPaths.stream()
                     .map(this::createStreamBuffer)
-                    .collect(Collectors.toList())
                     .toArray(RingBufferSpy[]::new);
                 final int streamBufferCount = streamBuffers.length;
 
@@ -323,7 +324,8 @@ public final class ZillaDumpCommand extends ZillaCommand
                 final DumpHandler[] dumpHandlers = new DumpHandler[streamBufferCount];
                 for (int i = 0; i < streamBufferCount; i++)
                 {
-                    dumpHandlers[i] = new DumpHandler(i, filter, labels::lookupLabel, bindings.bindings()::get, writer);
+                    final int worker = workerIndex(streamPaths.get(i));
+                    dumpHandlers[i] = new DumpHandler(worker, filter, labels::lookupLabel, bindings.bindings()::get, writer);
                 }
 
                 final MutableDirectBuffer buffer = writeBuffer;
@@ -389,6 +391,14 @@ public final class ZillaDumpCommand extends ZillaCommand
         return layout.streamsBuffer();
     }
 
+    private int workerIndex(
+        Path path)
+    {
+        final Matcher matcher = STREAMS_PATTERN.matcher(path.getFileName().toString());
+        matcher.matches();
+        return parseInt(matcher.group(1));
+    }
+
     private boolean isStreamsFile(
         Path path)
     {
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.command.dump.internal.airline.layouts;
+
+import static org.agrona.IoUtil.mapNewFile;
+import static org.agrona.IoUtil.unmap;
+import static org.agrona.concurrent.ringbuffer.RingBufferDescriptor.TRAILER_LENGTH;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.ringbuffer.ManyToOneRingBuffer;
+import org.agrona.concurrent.ringbuffer.OneToOneRingBuffer;
+import org.agrona.concurrent.ringbuffer.RingBuffer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.aklivity.zilla.runtime.command.dump.internal.airline.spy.RingBufferSpy;
+import io.aklivity.zilla.runtime.command.dump.internal.airline.spy.RingBufferSpy.SpyPosition;
+
+public class StreamsLayoutTest
+{
+    private static final int CAPACITY = 1024;
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldSpyStreams() throws Exception
+    {
+        Path path = tempFolder.getRoot().toPath().resolve("data0");
+        MappedByteBuffer mapped = mapNewFile(path.toFile(), CAPACITY + TRAILER_LENGTH);
+
+        assertSpied(path, new ManyToOneRingBuffer(new UnsafeBuffer(mapped)));
+
+        unmap(mapped);
+    }
+
+    @Test
+    public void shouldSpyStreamsChannel() throws Exception
+    {
+        Path path = tempFolder.getRoot().toPath().resolve("data0-1");
+        MappedByteBuffer mapped = mapNewFile(path.toFile(), CAPACITY + TRAILER_LENGTH);
+
+        assertSpied(path, new OneToOneRingBuffer(new UnsafeBuffer(mapped)));
+
+        unmap(mapped);
+    }
+
+    private void assertSpied(
+        Path path,
+        RingBuffer writer)
+    {
+        UnsafeBuffer buffer = new UnsafeBuffer(new byte[Integer.BYTES]);
+        for (int value = 1; value <= 3; value++)
+        {
+            buffer.putInt(0, value);
+            writer.write(42, buffer, 0, buffer.capacity());
+        }
+
+        StreamsLayout layout = new StreamsLayout.Builder()
+            .path(path)
+            .readonly(true)
+            .spyAt(SpyPosition.ZERO)
+            .build();
+        RingBufferSpy spy = layout.streamsBuffer();
+
+        List<Integer> values = new ArrayList<>();
+        int count = spy.spy((t, b, i, l) -> t == 42 && values.add(b.getInt(i)));
+
+        assertThat(count, equalTo(3));
+        assertThat(values, contains(1, 2, 3));
+
+        layout.close();
+    }
+}
@@ -91,15 +91,17 @@ public final class LogBuffersCommand implements Runnable
     {
         final DirectBuffer poolBuffer = bufferPool.poolBuffer();
         final int slotCapacity = bufferPool.slotCapacity();
+        final int minSlotCapacity = bufferPool.minSlotCapacity();
         final int slotCount = bufferPool.slotCount();
         final int slotOffsetsAt = slotCapacity * slotCount;
+        final int unitCount = slotOffsetsAt / minSlotCapacity;
 
-        for (int slot = 0; slot < slotCount; slot++)
+        for (int slot = 0; slot < unitCount; slot++)
         {
             final long streamId = poolBuffer.getLong(slotOffsetsAt + slot * Long.BYTES);
             if (streamId != 0L)
             {
-                final long slotOffset = slot * slotCapacity;
+                final long slotOffset = (long) slot * minSlotCapacity;
                 out.printf("%s [0x%016x] [0x%08x]\n", name, streamId, slotOffset);
             }
         }
@@ -31,7 +31,7 @@ import io.aklivity.zilla.runtime.engine.EngineConfiguration;
 
 public final class LogQueueDepthCommand implements Runnable
 {
-    private static final Pattern STREAMS_PATTERN = Pattern.compile("data\\d+");
+    private static final Pattern STREAMS_PATTERN = Pattern.compile("data\\d+(?:-\\d+)?");
 
     private final Path directory;
     private final boolean verbose;
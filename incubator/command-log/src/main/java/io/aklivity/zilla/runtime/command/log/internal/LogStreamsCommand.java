@@ -37,7 +37,7 @@ import io.aklivity.zilla.runtime.engine.EngineConfiguration;
 
 public final class LogStreamsCommand implements Runnable
 {
-    private static final Pattern STREAMS_PATTERN = Pattern.compile("data(\\d+)");
+    private static final Pattern STREAMS_PATTERN = Pattern.compile("data(\\d+)(?:-\\d+)?");
 
     private static final long MAX_PARK_NS = MILLISECONDS.toNanos(100L);
     private static final long MIN_PARK_NS = MILLISECONDS.toNanos(1L);
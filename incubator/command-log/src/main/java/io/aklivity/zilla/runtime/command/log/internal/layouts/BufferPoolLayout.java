@@ -26,6 +26,8 @@ import io.aklivity.zilla.runtime.engine.internal.buffer.DefaultBufferPool;
 
 public final class BufferPoolLayout extends Layout
 {
+    private static final int METADATA_LENGTH = 3 * Integer.BYTES;
+
     private final DefaultBufferPool bufferPool;
 
     private BufferPoolLayout(
@@ -49,6 +51,7 @@ public final class BufferPoolLayout extends Layout
     {
         private int slotCount;
         private int slotCapacity;
+        private int minSlotCapacity;
         private Path path;
         private boolean readonly;
 
@@ -88,14 +91,15 @@ public final class BufferPoolLayout extends Layout
             assert readonly;
 
             MappedByteBuffer metadata = mapExistingFile(layoutFile, "metadata");
-            slotCount = metadata.getInt(metadata.capacity() - Integer.BYTES);
+            final int metadataIndex = metadata.capacity() - METADATA_LENGTH;
+            minSlotCapacity = metadata.getInt(metadataIndex);
+            slotCapacity = metadata.getInt(metadataIndex + Integer.BYTES);
+            slotCount = metadata.getInt(metadataIndex + 2 * Integer.BYTES);
             unmap(metadata);
 
-            slotCapacity = (metadata.capacity() - Integer.BYTES) / slotCount - Long.BYTES;
-
             final MappedByteBuffer mapped = mapExistingFile(layoutFile, "bufferPool");
 
-            return new BufferPoolLayout(new DefaultBufferPool(slotCapacity, slotCount, mapped));
+            return new BufferPoolLayout(new DefaultBufferPool(slotCapacity, minSlotCapacity, slotCount, mapped));
         }
     }
 }
@@ -20,6 +20,7 @@ import static java.nio.file.StandardOpenOption.READ;
 import static java.nio.file.StandardOpenOption.WRITE;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
@@ -27,6 +28,7 @@ import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.LongPredicate;
@@ -73,6 +75,9 @@ public final class ZillaTuneCommand extends ZillaCommand
                     workers = byteBuf.getInt(Long.BYTES);
                 }
 
+                final int words = Math.max((workers + Long.SIZE - 1) / Long.SIZE, 1);
+                final int maskBytes = words * Long.BYTES;
+
                 LongPredicate filter = id -> true;
                 Consumer<ByteBuffer> updater = buf -> {};
 
@@ -98,8 +103,15 @@ public final class ZillaTuneCommand extends ZillaCommand
 
                     if (value != null)
                     {
-                        final long mask = Long.decode(value);
-                        updater = buf -> buf.putLong(buf.position() - Long.BYTES, mask);
+                        final BigInteger mask = decodeMask(value);
+                        updater = buf ->
+                        {
+                            for (int word = 0; word < words; word++)
+                            {
+                                final long maskWord = mask.shiftRight(word * Long.SIZE).longValue();
+                                buf.putLong(buf.position() - maskBytes + word * Long.BYTES, maskWord);
+                            }
+                        };
                     }
                 }
 
@@ -108,15 +120,21 @@ public final class ZillaTuneCommand extends ZillaCommand
                     MappedByteBuffer byteBuf = channel.map(MapMode.READ_WRITE, 0, Files.size(tuning));
                     byteBuf.order(nativeOrder());
 
-                    while (byteBuf.remaining() >= Long.BYTES + Long.BYTES)
+                    while (byteBuf.remaining() >= Long.BYTES + maskBytes)
                     {
                         long bindingId = byteBuf.getLong();
-                        long mask = byteBuf.getLong();
+                        byteBuf.position(byteBuf.position() + maskBytes);
 
                         if (filter.test(bindingId))
                         {
                             updater.accept(byteBuf);
-                            mask = byteBuf.getLong(byteBuf.position() - Long.BYTES);
+
+                            long[] maskWords = new long[words];
+                            for (int word = 0; word < words; word++)
+                            {
+                                maskWords[word] = byteBuf.getLong(byteBuf.position() - maskBytes + word * Long.BYTES);
+                            }
+                            BitSet mask = BitSet.valueOf(maskWords);
 
                             int namespaceId = (int)(bindingId >> 32) & 0xffff_ffff;
                             int localId = (int)(bindingId >> 0) & 0xffff_ffff;
@@ -124,14 +142,11 @@ public final class ZillaTuneCommand extends ZillaCommand
                             String namespace = labels.lookupLabel(namespaceId);
                             String binding = labels.lookupLabel(localId);
 
-                            String format = String.format("%%%ds", workers);
-                            String maskBits = new StringBuilder()
-                                .append(String.format(format, Long.toBinaryString(mask))
-                                        .replace(' ', '.')
-                                        .replace('0', '.')
-                                        .replace('1', 'x'))
-                                .reverse()
-                                .toString();
+                            StringBuilder maskBits = new StringBuilder(Math.max(workers, mask.length()));
+                            for (int bit = 0; bit < Math.max(workers, mask.length()); bit++)
+                            {
+                                maskBits.append(mask.get(bit) ? 'x' : '.');
+                            }
 
                             System.out.printf("%s  %s.%s\n", maskBits, namespace, binding);
                         }
@@ -144,4 +159,44 @@ public final class ZillaTuneCommand extends ZillaCommand
             }
         }
     }
+
+    static BigInteger decodeMask(
+        String value)
+    {
+        // same formats as Long.decode, without the 64-bit limit
+        int index = 0;
+        boolean negative = false;
+
+        if (value.startsWith("-") || value.startsWith("+"))
+        {
+            negative = value.charAt(0) == '-';
+            index++;
+        }
+
+        int radix = 10;
+        if (value.startsWith("0x", index) || value.startsWith("0X", index))
+        {
+            radix = 16;
+            index += 2;
+        }
+        else if (value.startsWith("#", index))
+        {
+            radix = 16;
+            index++;
+        }
+        else if (value.startsWith("0", index) && value.length() > index + 1)
+        {
+            radix = 8;
+            index++;
+        }
+
+        final String digits = value.substring(index);
+        if (digits.isEmpty() || digits.startsWith("-") || digits.startsWith("+"))
+        {
+            throw new NumberFormatException(String.format("Invalid mask: %s", value));
+        }
+
+        final BigInteger mask = new BigInteger(digits, radix);
+        return negative ? mask.negate() : mask;
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.command.tune.internal.airline;
+
+import static io.aklivity.zilla.runtime.command.tune.internal.airline.ZillaTuneCommand.decodeMask;
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+public class ZillaTuneCommandTest
+{
+    @Test
+    public void shouldDecodeDecimalMask()
+    {
+        assertEquals(BigInteger.valueOf(5L), decodeMask("5"));
+        assertEquals(BigInteger.ZERO, decodeMask("0"));
+    }
+
+    @Test
+    public void shouldDecodeHexMask()
+    {
+        assertEquals(BigInteger.valueOf(0xffL), decodeMask("0xff"));
+        assertEquals(BigInteger.valueOf(0xffL), decodeMask("0XFF"));
+        assertEquals(BigInteger.valueOf(0xffL), decodeMask("#ff"));
+    }
+
+    @Test
+    public void shouldDecodeOctalMask()
+    {
+        assertEquals(BigInteger.valueOf(8L), decodeMask("010"));
+    }
+
+    @Test
+    public void shouldDecodeSignedMask()
+    {
+        assertEquals(BigInteger.valueOf(-1L), decodeMask("-1"));
+        assertEquals(BigInteger.valueOf(-1L), decodeMask("-0x1"));
+        assertEquals(BigInteger.valueOf(3L), decodeMask("+3"));
+    }
+
+    @Test
+    public void shouldDecodeLegacyMasksAsLongDecode()
+    {
+        for (String value : new String[] { "7", "0x7f", "#7f", "017", "-1", "-0x8000000000000000", "0x7fffffffffffffff" })
+        {
+            assertEquals(BigInteger.valueOf(Long.decode(value)), decodeMask(value));
+        }
+    }
+
+    @Test
+    public void shouldDecodeWideHexMask()
+    {
+        assertEquals(BigInteger.ONE.shiftLeft(100), decodeMask("0x10000000000000000000000000"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void shouldRejectSignAfterRadixPrefix()
+    {
+        decodeMask("0x-1");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void shouldRejectMissingDigits()
+    {
+        decodeMask("0x");
+    }
+}
@@ -19,6 +19,7 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import io.aklivity.zilla.runtime.binding.grpc.kafka.config.GrpcKafkaOptionsConfig;
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.Array32FW;
@@ -37,7 +38,8 @@ public final class GrpcKafkaBindingConfig
     public final List<GrpcKafkaRouteConfig> routes;
 
     public GrpcKafkaBindingConfig(
-        BindingConfig binding)
+        BindingConfig binding,
+        Supplier<String> supplyCorrelationId)
     {
         this.id = binding.id;
         this.name = binding.name;
@@ -45,7 +47,9 @@ public final class GrpcKafkaBindingConfig
         this.options = Optional.ofNullable(binding.options)
                 .map(GrpcKafkaOptionsConfig.class::cast)
                 .orElse(DEFAULT);
-        this.routes = binding.routes.stream().map(r -> new GrpcKafkaRouteConfig(options, r)).collect(toList());
+        this.routes = binding.routes.stream()
+            .map(r -> new GrpcKafkaRouteConfig(options, r, supplyCorrelationId))
+            .collect(toList());
     }
 
     public GrpcKafkaRouteConfig resolve(
@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.LongFunction;
 import java.util.function.LongPredicate;
+import java.util.function.Supplier;
 import java.util.regex.MatchResult;
 import java.util.stream.Collectors;
 
@@ -43,7 +44,8 @@ public final class GrpcKafkaRouteConfig
 
     public GrpcKafkaRouteConfig(
         GrpcKafkaOptionsConfig options,
-        RouteConfig route)
+        RouteConfig route,
+        Supplier<String> supplyCorrelationId)
     {
         this.id = route.id;
         this.when = route.when.stream()
@@ -64,7 +66,7 @@ public final class GrpcKafkaRouteConfig
 
         this.with = Optional.of(route.with)
             .map(GrpcKafkaWithConfig.class::cast)
-            .map(c -> new GrpcKafkaWithResolver(options, identityReplacer, c))
+            .map(c -> new GrpcKafkaWithResolver(options, identityReplacer, supplyCorrelationId, c))
             .get();
         this.authorized = route.authorized;
     }
@@ -63,6 +63,7 @@ public class GrpcKafkaWithProduceResult
     private final String16FW method;
     private final Array32FW<GrpcMetadataFW> metadata;
     private final ExpandableDirectByteBuffer nameBuffer;
+    private final boolean unique;
 
     GrpcKafkaWithProduceResult(
         String16FW service,
@@ -74,7 +75,8 @@ public class GrpcKafkaWithProduceResult
         List<GrpcKafkaWithProduceOverrideResult> overrides,
         String16FW replyTo,
         GrpcKafkaCorrelationConfig correlation,
-        GrpcKafkaWithProduceHash hash)
+        GrpcKafkaWithProduceHash hash,
+        boolean unique)
     {
         this.service = service;
         this.method = method;
@@ -86,6 +88,7 @@ public class GrpcKafkaWithProduceResult
         this.acks = acks;
         this.keyRef = keyRef;
         this.hash = hash;
+        this.unique = unique;
         this.nameBuffer = new ExpandableDirectByteBuffer();
         this.nameBuffer.putStringWithoutLengthAscii(0, META_PREFIX);
 
@@ -249,6 +252,21 @@ public class GrpcKafkaWithProduceResult
                     .value(hashCorrelationId.value(), 0, hashCorrelationId.sizeof()))));
     }
 
+    public String16FW correlationIdName()
+    {
+        return correlation.correlationId;
+    }
+
+    public OctetsFW correlationId()
+    {
+        return hash.correlationId();
+    }
+
+    public boolean unique()
+    {
+        return unique;
+    }
+
     public boolean hasReplyTo()
     {
         return replyTo != null && replyTo.value() != null;
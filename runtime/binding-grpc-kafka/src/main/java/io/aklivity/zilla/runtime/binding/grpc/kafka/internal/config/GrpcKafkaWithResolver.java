@@ -16,7 +16,6 @@ package io.aklivity.zilla.runtime.binding.grpc.kafka.internal.config;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
@@ -54,16 +53,19 @@ public final class GrpcKafkaWithResolver
     private final Varuint32FW fieldId;
     private final GrpcKafkaOptionsConfig options;
     private final LongObjectBiFunction<MatchResult, String> identityReplacer;
+    private final Supplier<String> supplyCorrelationId;
     private final GrpcKafkaWithConfig with;
     private final Matcher identityMatcher;
 
     public GrpcKafkaWithResolver(
         GrpcKafkaOptionsConfig options,
         LongObjectBiFunction<MatchResult, String> identityReplacer,
+        Supplier<String> supplyCorrelationId,
         GrpcKafkaWithConfig with)
     {
         this.options = options;
         this.identityReplacer = identityReplacer;
+        this.supplyCorrelationId = supplyCorrelationId;
         this.with = with;
         this.identityMatcher = IDENTITY_PATTERN.matcher("");
         this.fieldId = new Varuint32FW.Builder() .wrap(new UnsafeBuffer(new byte[8]), 0, 8)
@@ -160,7 +162,10 @@ public final class GrpcKafkaWithResolver
         final String16FW service = new String16FW(beginEx.service().asString());
         final String16FW method = new String16FW(beginEx.method().asString());
 
-        OctetsFW correlationId = resolveCorrelationId(metadata);
+        final GrpcMetadataFW idempotencyKey = metadata.matchFirst(m ->
+            options.idempotency.metadata.value().compareTo(m.name().value()) == 0);
+
+        OctetsFW correlationId = resolveCorrelationId(idempotencyKey);
         Supplier<DirectBuffer> keyRef = resolveKey(authorization, produce);
 
         GrpcKafkaWithProduceHash hash = new GrpcKafkaWithProduceHash(octetsRW, dashOctetsRW, correlationId, hashBytesRW);
@@ -170,14 +175,12 @@ public final class GrpcKafkaWithResolver
         String16FW replyTo = new String16FW(produce.replyTo);
 
         return new GrpcKafkaWithProduceResult(service, method, metadata, topic, acks, keyRef, overrides, replyTo,
-            options.correlation, hash);
+            options.correlation, hash, idempotencyKey == null);
     }
 
     private OctetsFW resolveCorrelationId(
-        Array32FW<GrpcMetadataFW> metadata)
+        GrpcMetadataFW idempotencyKey)
     {
-        final GrpcMetadataFW idempotencyKey = metadata.matchFirst(m ->
-            options.idempotency.metadata.value().compareTo(m.name().value()) == 0);
         OctetsFW correlationId = null;
         if (idempotencyKey != null)
         {
@@ -188,7 +191,7 @@ public final class GrpcKafkaWithResolver
         }
         else
         {
-            final byte[] newIdempotencyKey = UUID.randomUUID().toString().getBytes();
+            final byte[] newIdempotencyKey = supplyCorrelationId.get().getBytes();
             correlationId = new OctetsFW.Builder()
                 .wrap(new UnsafeBuffer(new byte[newIdempotencyKey.length]), 0, newIdempotencyKey.length)
                 .set(newIdempotencyKey)
@@ -18,14 +18,23 @@ import static io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.KafkaC
 import static io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.KafkaCapabilities.PRODUCE_ONLY;
 import static io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.GrpcType.BASE64;
 import static io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.GrpcType.TEXT;
+import static io.aklivity.zilla.runtime.engine.budget.BudgetCreditor.NO_BUDGET_ID;
+import static io.aklivity.zilla.runtime.engine.budget.BudgetDebitor.NO_DEBITOR_INDEX;
 import static java.time.Instant.now;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
 import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
 
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Object2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.GrpcKafkaConfiguration;
@@ -46,6 +55,7 @@ import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.BeginF
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.DataFW;
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.EndFW;
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.ExtensionFW;
+import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.FlushFW;
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.GrpcAbortExFW;
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.GrpcBeginExFW;
 import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.GrpcDataExFW;
@@ -62,6 +72,7 @@ import io.aklivity.zilla.runtime.binding.grpc.kafka.internal.types.stream.Window
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.BindingHandler;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
+import io.aklivity.zilla.runtime.engine.budget.BudgetDebitor;
 import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 import io.aklivity.zilla.runtime.engine.config.BindingConfig;
 
@@ -99,6 +110,7 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
     private final DataFW dataRO = new DataFW();
     private final EndFW endRO = new EndFW();
     private final AbortFW abortRO = new AbortFW();
+    private final FlushFW flushRO = new FlushFW();
 
     private final String16FW.Builder statusRW = new
         String16FW.Builder().wrap(new UnsafeBuffer(new byte[256], 0, 256), 0, 256);
@@ -111,6 +123,8 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
     private final WindowFW windowRO = new WindowFW();
     private final ResetFW resetRO = new ResetFW();
     private final SignalFW signalRO = new SignalFW();
+    private final MutableDirectBuffer replyKeyRW = new ExpandableArrayBuffer();
+    private final DirectBuffer replyKeyRO = new UnsafeBuffer(0L, 0);
 
     private final WindowFW.Builder windowRW = new WindowFW.Builder();
     private final ResetFW.Builder resetRW = new ResetFW.Builder();
@@ -141,10 +155,14 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
     private final LongUnaryOperator supplyInitialId;
     private final LongUnaryOperator supplyReplyId;
     private final Signaler signaler;
+    private final LongFunction<BudgetDebitor> supplyDebitor;
     private final int grpcTypeId;
     private final int kafkaTypeId;
+    private final boolean replyShared;
+    private final Supplier<String> supplyCorrelationId;
 
     private final Long2ObjectHashMap<GrpcKafkaBindingConfig> bindings;
+    private final Long2ObjectHashMap<Map<DirectBuffer, KafkaReplyDemux>> repliesByBindingId;
 
     public GrpcKafkaProxyFactory(
         GrpcKafkaConfiguration config,
@@ -158,9 +176,13 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
         this.supplyInitialId = context::supplyInitialId;
         this.supplyReplyId = context::supplyReplyId;
         this.signaler = context.signaler();
+        this.supplyDebitor = context::supplyDebitor;
         this.bindings = new Long2ObjectHashMap<>();
+        this.repliesByBindingId = new Long2ObjectHashMap<>();
         this.grpcTypeId = context.supplyTypeId(GRPC_TYPE_NAME);
         this.kafkaTypeId = context.supplyTypeId(KAFKA_TYPE_NAME);
+        this.replyShared = config.replyShared();
+        this.supplyCorrelationId = config.correlationId();
     }
 
     @Override
@@ -179,7 +201,7 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
     public void attach(
         BindingConfig binding)
     {
-        GrpcKafkaBindingConfig newBinding = new GrpcKafkaBindingConfig(binding);
+        GrpcKafkaBindingConfig newBinding = new GrpcKafkaBindingConfig(binding, supplyCorrelationId);
         bindings.put(binding.id, newBinding);
     }
 
@@ -188,6 +210,12 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
         long bindingId)
     {
         bindings.remove(bindingId);
+
+        final Map<DirectBuffer, KafkaReplyDemux> replies = repliesByBindingId.remove(bindingId);
+        if (replies != null)
+        {
+            new ArrayList<>(replies.values()).forEach(KafkaReplyDemux::doRepliesDetach);
+        }
     }
 
     @Override
@@ -2371,6 +2399,7 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
         private final long replyId;
         private final GrpcKafkaWithProduceResult result;
         private final GrpcProxy delegate;
+        private final boolean shared;
 
         private int state;
 
@@ -2384,6 +2413,13 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
         private long replyBud;
         private int replyPad;
         private int replyCap;
+        private long replyBudIndex = NO_DEBITOR_INDEX;
+        private BudgetDebitor replyDeb;
+
+        private KafkaReplyDemux replies;
+        private KafkaCorrelateProxy nextCorrelated;
+        private DirectBuffer correlationId;
+        private long correlationHash;
 
         private KafkaCorrelateProxy(
             long originId,
@@ -2395,6 +2431,7 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
             this.routedId = routedId;
             this.delegate = delegate;
             this.result = result;
+            this.shared = replyShared && result.unique();
             this.initialId = supplyInitialId.applyAsLong(routedId);
             this.replyId = supplyReplyId.applyAsLong(initialId);
         }
@@ -2407,8 +2444,24 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
             initialMax = delegate.initialMax;
             state = GrpcKafkaState.openingInitial(state);
 
-            kafka = newKafkaCorrelater(this::onKafkaMessage, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                    traceId, authorization, affinity, result);
+            replies = shared ? supplyReplies(originId, routedId, result) : null;
+
+            if (replies != null)
+            {
+                final OctetsFW newCorrelationId = result.correlationId();
+                final byte[] bytes = new byte[newCorrelationId.sizeof()];
+                newCorrelationId.value().getBytes(0, bytes);
+                correlationId = new UnsafeBuffer(bytes);
+                correlationHash = correlationHash(correlationId, 0, bytes.length);
+                state = GrpcKafkaState.openingReply(state);
+
+                replies.doRepliesRegister(this, traceId, affinity);
+            }
+            else
+            {
+                kafka = newKafkaCorrelater(this::onKafkaMessage, originId, routedId, initialId, initialSeq, initialAck,
+                    initialMax, traceId, authorization, affinity, result);
+            }
 
             doKafkaWindow(traceId);
         }
@@ -2424,8 +2477,21 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
                 initialMax = delegate.initialMax;
                 state = GrpcKafkaState.closeInitial(state);
 
-                doEnd(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                        traceId, authorization);
+                if (replies != null)
+                {
+                    replies.doRepliesUnregister(this, traceId);
+
+                    if (!GrpcKafkaState.replyClosed(state))
+                    {
+                        state = GrpcKafkaState.closeReply(state);
+                        delegate.onKafkaEnd(traceId, authorization);
+                    }
+                }
+                else
+                {
+                    doEnd(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                            traceId, authorization);
+                }
             }
         }
 
@@ -2433,7 +2499,14 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
             long traceId,
             long authorization)
         {
-            if (!GrpcKafkaState.initialClosed(state) && kafka != null)
+            if (!GrpcKafkaState.initialClosed(state) && replies != null)
+            {
+                state = GrpcKafkaState.closeInitial(state);
+                state = GrpcKafkaState.closeReply(state);
+
+                replies.doRepliesUnregister(this, traceId);
+            }
+            else if (!GrpcKafkaState.initialClosed(state) && kafka != null)
             {
                 initialSeq = delegate.initialSeq;
                 initialAck = delegate.initialAck;
@@ -2445,6 +2518,55 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
             }
         }
 
+        private void onReplyData(
+            long traceId,
+            long authorization,
+            int flags,
+            int reserved,
+            OctetsFW payload,
+            KafkaDataExFW kafkaDataEx)
+        {
+            replySeq += reserved;
+
+            int claimed = reserved;
+            if (replySeq <= replyAck + replyMax && replyDeb != null)
+            {
+                claimed = replyDeb.claim(traceId, replyBudIndex, replyId, reserved, reserved, 0);
+            }
+
+            if (replySeq > replyAck + replyMax || claimed != reserved)
+            {
+                doKafkaReset(traceId, authorization);
+                delegate.onKafkaReset(traceId, authorization);
+            }
+            else
+            {
+                delegate.onKafkaData(traceId, authorization, replyBud, reserved, flags, payload, kafkaDataEx);
+            }
+        }
+
+        private void onReplyAbort(
+            long traceId,
+            long authorization)
+        {
+            if (!GrpcKafkaState.replyClosed(state))
+            {
+                state = GrpcKafkaState.closeReply(state);
+
+                delegate.onKafkaAbort(traceId, authorization);
+            }
+        }
+
+        private void cleanupReply()
+        {
+            if (replyDeb != null)
+            {
+                replyDeb.release(replyBudIndex, replyId);
+                replyBudIndex = NO_DEBITOR_INDEX;
+                replyDeb = null;
+            }
+        }
+
         private void onKafkaMessage(
             int msgTypeId,
             DirectBuffer buffer,
@@ -2638,7 +2760,13 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
             long traceId,
             long authorization)
         {
-            if (!GrpcKafkaState.replyClosed(state) && kafka != null)
+            if (!GrpcKafkaState.replyClosed(state) && replies != null)
+            {
+                state = GrpcKafkaState.closeReply(state);
+
+                replies.doRepliesUnregister(this, traceId);
+            }
+            else if (!GrpcKafkaState.replyClosed(state) && kafka != null)
             {
                 state = GrpcKafkaState.closeReply(state);
 
@@ -2650,7 +2778,7 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
         private void doKafkaWindow(
             long traceId)
         {
-            if (kafka != null)
+            if (kafka != null || replies != null)
             {
                 replyAck = delegate.replyAck;
                 replyMax = delegate.replyMax;
@@ -2658,10 +2786,484 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
                 replyPad = delegate.replyPad;
                 replyCap = delegate.replyCap;
 
+                if (replies != null)
+                {
+                    if (replyBud != NO_BUDGET_ID && replyDeb == null)
+                    {
+                        replyDeb = supplyDebitor.apply(replyBud);
+                        replyBudIndex = replyDeb.acquire(replyBud, replyId,
+                            tid -> replyDeb.claim(tid, replyBudIndex, replyId, 0, 0, 0));
+                    }
+
+                    replies.doRepliesWindow(traceId, replyPad);
+                }
+                else
+                {
+                    doWindow(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                            traceId, 0L, replyBud, replyPad, replyCap);
+                }
+            }
+        }
+    }
+
+    private final class KafkaReplyDemux
+    {
+        private final Map<DirectBuffer, KafkaReplyDemux> replies;
+        private final DirectBuffer key;
+        private final String16FW correlationIdName;
+        private final long originId;
+        private final long routedId;
+        private final long initialId;
+        private final long replyId;
+        private final Long2ObjectHashMap<KafkaCorrelateProxy> correlaters;
+        private final DirectBuffer correlationIdRO;
+
+        private MessageConsumer kafka;
+        private KafkaCorrelateProxy correlated;
+        private int correlations;
+        private boolean detached;
+
+        private int state;
+
+        private long initialSeq;
+        private long initialAck;
+        private int initialMax;
+
+        private long replySeq;
+        private long replyAck;
+        private int replyMax;
+        private int replyPad;
+
+        private KafkaReplyDemux(
+            Map<DirectBuffer, KafkaReplyDemux> replies,
+            DirectBuffer key,
+            long originId,
+            long routedId,
+            String16FW correlationIdName)
+        {
+            this.replies = replies;
+            this.key = key;
+            this.originId = originId;
+            this.routedId = routedId;
+            this.correlationIdName = correlationIdName;
+            this.initialId = supplyInitialId.applyAsLong(routedId);
+            this.replyId = supplyReplyId.applyAsLong(initialId);
+            this.correlaters = new Long2ObjectHashMap<>();
+            this.correlationIdRO = new UnsafeBuffer(0L, 0);
+        }
+
+        private void doRepliesBegin(
+            long traceId,
+            long affinity,
+            GrpcKafkaWithProduceResult result)
+        {
+            state = GrpcKafkaState.openingInitial(state);
+
+            kafka = newKafkaReplies(this::onRepliesMessage, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                traceId, affinity, result);
+        }
+
+        private void doRepliesRegister(
+            KafkaCorrelateProxy correlater,
+            long traceId,
+            long affinity)
+        {
+            if (kafka == null)
+            {
+                doRepliesBegin(traceId, affinity, correlater.result);
+            }
+
+            correlater.nextCorrelated = correlaters.put(correlater.correlationHash, correlater);
+            correlations++;
+        }
+
+        private void doRepliesUnregister(
+            KafkaCorrelateProxy correlater,
+            long traceId)
+        {
+            final long hash = correlater.correlationHash;
+
+            KafkaCorrelateProxy previous = null;
+            KafkaCorrelateProxy current = correlaters.get(hash);
+            while (current != null && current != correlater)
+            {
+                previous = current;
+                current = current.nextCorrelated;
+            }
+
+            if (current != null)
+            {
+                if (previous != null)
+                {
+                    previous.nextCorrelated = current.nextCorrelated;
+                }
+                else if (current.nextCorrelated != null)
+                {
+                    correlaters.put(hash, current.nextCorrelated);
+                }
+                else
+                {
+                    correlaters.remove(hash);
+                }
+
+                current.nextCorrelated = null;
+                correlations--;
+            }
+
+            if (correlated == correlater)
+            {
+                correlated = null;
+            }
+
+            correlater.cleanupReply();
+
+            if (detached && correlations == 0)
+            {
+                doRepliesEnd(traceId);
+            }
+        }
+
+        private void doRepliesDetach()
+        {
+            detached = true;
+
+            if (correlations == 0)
+            {
+                doRepliesEnd(0L);
+            }
+        }
+
+        private void doRepliesEnd(
+            long traceId)
+        {
+            if (!GrpcKafkaState.initialClosed(state) && kafka != null)
+            {
+                state = GrpcKafkaState.closeInitial(state);
+
+                doEnd(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                    traceId, 0L);
+            }
+
+            doRepliesReset(traceId);
+        }
+
+        private void doRepliesReset(
+            long traceId)
+        {
+            if (!GrpcKafkaState.replyClosed(state) && kafka != null)
+            {
+                state = GrpcKafkaState.closeReply(state);
+
+                doReset(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                    traceId, 0L, emptyRO);
+            }
+        }
+
+        private void doRepliesWindow(
+            long traceId,
+            int padding)
+        {
+            if (padding > replyPad)
+            {
+                replyPad = padding;
+
+                if (GrpcKafkaState.replyOpening(state))
+                {
+                    doWindow(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                        traceId, 0L, 0L, replyPad, 0);
+                }
+            }
+        }
+
+        private void onRepliesMessage(
+            int msgTypeId,
+            DirectBuffer buffer,
+            int index,
+            int length)
+        {
+            switch (msgTypeId)
+            {
+            case BeginFW.TYPE_ID:
+                final BeginFW begin = beginRO.wrap(buffer, index, index + length);
+                onRepliesBegin(begin);
+                break;
+            case DataFW.TYPE_ID:
+                final DataFW data = dataRO.wrap(buffer, index, index + length);
+                onRepliesData(data);
+                break;
+            case FlushFW.TYPE_ID:
+                final FlushFW flush = flushRO.wrap(buffer, index, index + length);
+                onRepliesFlush(flush);
+                break;
+            case EndFW.TYPE_ID:
+                final EndFW end = endRO.wrap(buffer, index, index + length);
+                onRepliesEnd(end);
+                break;
+            case AbortFW.TYPE_ID:
+                final AbortFW abort = abortRO.wrap(buffer, index, index + length);
+                onRepliesAbort(abort);
+                break;
+            case WindowFW.TYPE_ID:
+                final WindowFW window = windowRO.wrap(buffer, index, index + length);
+                onRepliesWindow(window);
+                break;
+            case ResetFW.TYPE_ID:
+                final ResetFW reset = resetRO.wrap(buffer, index, index + length);
+                onRepliesReset(reset);
+                break;
+            }
+        }
+
+        private void onRepliesBegin(
+            BeginFW begin)
+        {
+            final long sequence = begin.sequence();
+            final long acknowledge = begin.acknowledge();
+            final long traceId = begin.traceId();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+            assert acknowledge >= replyAck;
+
+            replySeq = sequence;
+            replyAck = acknowledge;
+            replyMax = writeBuffer.capacity();
+            state = GrpcKafkaState.openingReply(state);
+
+            assert replyAck <= replySeq;
+
+            doWindow(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                traceId, 0L, 0L, replyPad, 0);
+        }
+
+        private void onRepliesData(
+            DataFW data)
+        {
+            final long sequence = data.sequence();
+            final long acknowledge = data.acknowledge();
+            final long traceId = data.traceId();
+            final long authorization = data.authorization();
+            final int reserved = data.reserved();
+            final int flags = data.flags();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence + reserved;
+
+            assert replyAck <= replySeq;
+
+            if (replySeq > replyAck + replyMax)
+            {
+                onRepliesFailed(traceId, authorization);
+            }
+            else
+            {
+                final OctetsFW payload = data.payload();
+                final OctetsFW extension = data.extension();
+
+                final ExtensionFW dataEx = extension.get(extensionRO::tryWrap);
+                final KafkaDataExFW kafkaDataEx =
+                    dataEx != null && dataEx.typeId() == kafkaTypeId ? extension.get(kafkaDataExRO::tryWrap) : null;
+
+                if ((flags & DATA_FLAG_INIT) != 0x00)
+                {
+                    correlated = kafkaDataEx != null ? correlate(kafkaDataEx.merged().fetch().headers()) : null;
+                }
+
+                final KafkaCorrelateProxy correlater = correlated;
+                if ((flags & DATA_FLAG_FIN) != 0x00)
+                {
+                    correlated = null;
+                }
+
+                if (correlater != null)
+                {
+                    correlater.onReplyData(traceId, authorization, flags, reserved, payload, kafkaDataEx);
+                }
+
+                replyAck = replySeq;
+
                 doWindow(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
-                        traceId, 0L, replyBud, replyPad, replyCap);
+                    traceId, 0L, 0L, replyPad, 0);
+            }
+        }
+
+        private void onRepliesFlush(
+            FlushFW flush)
+        {
+            final long sequence = flush.sequence();
+            final long acknowledge = flush.acknowledge();
+            final long traceId = flush.traceId();
+            final int reserved = flush.reserved();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence + reserved;
+            replyAck = replySeq;
+
+            doWindow(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                traceId, 0L, 0L, replyPad, 0);
+        }
+
+        private void onRepliesEnd(
+            EndFW end)
+        {
+            final long sequence = end.sequence();
+            final long acknowledge = end.acknowledge();
+            final long traceId = end.traceId();
+            final long authorization = end.authorization();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence;
+            state = GrpcKafkaState.closeReply(state);
+
+            onRepliesFailed(traceId, authorization);
+        }
+
+        private void onRepliesAbort(
+            AbortFW abort)
+        {
+            final long sequence = abort.sequence();
+            final long acknowledge = abort.acknowledge();
+            final long traceId = abort.traceId();
+            final long authorization = abort.authorization();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence;
+            state = GrpcKafkaState.closeReply(state);
+
+            onRepliesFailed(traceId, authorization);
+        }
+
+        private void onRepliesWindow(
+            WindowFW window)
+        {
+            final long sequence = window.sequence();
+            final long acknowledge = window.acknowledge();
+            final int maximum = window.maximum();
+
+            assert acknowledge <= sequence;
+            assert maximum >= initialMax;
+
+            initialAck = acknowledge;
+            initialMax = maximum;
+            state = GrpcKafkaState.openInitial(state);
+
+            assert initialAck <= initialSeq;
+        }
+
+        private void onRepliesReset(
+            ResetFW reset)
+        {
+            final long traceId = reset.traceId();
+            final long authorization = reset.authorization();
+
+            state = GrpcKafkaState.closeInitial(state);
+
+            onRepliesFailed(traceId, authorization);
+        }
+
+        private void onRepliesFailed(
+            long traceId,
+            long authorization)
+        {
+            if (replies.get(key) == this)
+            {
+                replies.remove(key);
             }
+
+            doRepliesEnd(traceId);
+
+            final List<KafkaCorrelateProxy> failed = new ArrayList<>(correlations);
+            correlaters.values().forEach(c ->
+            {
+                for (KafkaCorrelateProxy correlater = c; correlater != null; correlater = correlater.nextCorrelated)
+                {
+                    failed.add(correlater);
+                }
+            });
+
+            correlaters.clear();
+            correlations = 0;
+            correlated = null;
+
+            for (KafkaCorrelateProxy correlater : failed)
+            {
+                correlater.nextCorrelated = null;
+                correlater.cleanupReply();
+                correlater.onReplyAbort(traceId, authorization);
+            }
+        }
+
+        private KafkaCorrelateProxy correlate(
+            Array32FW<KafkaHeaderFW> headers)
+        {
+            final KafkaHeaderFW header = headers.matchFirst(h -> correlationIdName.value().equals(h.name().value()));
+
+            KafkaCorrelateProxy correlater = null;
+
+            if (header != null)
+            {
+                final OctetsFW value = header.value();
+                correlationIdRO.wrap(value.buffer(), value.offset(), value.sizeof());
+
+                correlater = correlaters.get(correlationHash(correlationIdRO, 0, correlationIdRO.capacity()));
+                while (correlater != null && !correlationIdRO.equals(correlater.correlationId))
+                {
+                    correlater = correlater.nextCorrelated;
+                }
+            }
+
+            return correlater;
+        }
+    }
+
+    private KafkaReplyDemux supplyReplies(
+        long originId,
+        long routedId,
+        GrpcKafkaWithProduceResult result)
+    {
+        final Map<DirectBuffer, KafkaReplyDemux> replies =
+            repliesByBindingId.computeIfAbsent(originId, id -> new Object2ObjectHashMap<>());
+
+        // one shared fetch per route and reply topic
+        final String16FW replyTo = result.replyTo();
+        replyKeyRW.putLong(0, routedId);
+        replyKeyRW.putBytes(Long.BYTES, replyTo.value(), 0, replyTo.length());
+        replyKeyRO.wrap(replyKeyRW, 0, Long.BYTES + replyTo.length());
+
+        KafkaReplyDemux demux = replies.get(replyKeyRO);
+
+        if (demux == null)
+        {
+            final byte[] bytes = new byte[replyKeyRO.capacity()];
+            replyKeyRO.getBytes(0, bytes);
+            final DirectBuffer key = new UnsafeBuffer(bytes);
+
+            demux = new KafkaReplyDemux(replies, key, originId, routedId, result.correlationIdName());
+            replies.put(key, demux);
+        }
+
+        return demux;
+    }
+
+    private static long correlationHash(
+        DirectBuffer buffer,
+        int index,
+        int length)
+    {
+        long hash = length;
+        for (int i = 0; i < length; i++)
+        {
+            hash = 31L * hash + buffer.getByte(index + i);
         }
+        return hash;
     }
 
     private void doBegin(
@@ -2946,6 +3548,48 @@ public final class GrpcKafkaProxyFactory implements GrpcKafkaStreamFactory
         return receiver;
     }
 
+    private MessageConsumer newKafkaReplies(
+        MessageConsumer sender,
+        long originId,
+        long routedId,
+        long streamId,
+        long sequence,
+        long acknowledge,
+        int maximum,
+        long traceId,
+        long affinity,
+        GrpcKafkaWithProduceResult result)
+    {
+        final KafkaBeginExFW kafkaBeginEx =
+            kafkaBeginExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                .typeId(kafkaTypeId)
+                .merged(m -> m.capabilities(c -> c.set(FETCH_ONLY))
+                              .topic(result.replyTo())
+                              .partitions(result::partitions)
+                              .filters(f -> {}))
+                .build();
+
+        final BeginFW begin = beginRW.wrap(writeBuffer, 0, writeBuffer.capacity())
+                .originId(originId)
+                .routedId(routedId)
+                .streamId(streamId)
+                .sequence(sequence)
+                .acknowledge(acknowledge)
+                .maximum(maximum)
+                .traceId(traceId)
+                .authorization(0L)
+                .affinity(affinity)
+                .extension(kafkaBeginEx.buffer(), kafkaBeginEx.offset(), kafkaBeginEx.sizeof())
+                .build();
+
+        MessageConsumer receiver =
+                streamFactory.newStream(begin.typeId(), begin.buffer(), begin.offset(), begin.sizeof(), sender);
+
+        receiver.accept(begin.typeId(), begin.buffer(), begin.offset(), begin.sizeof());
+
+        return receiver;
+    }
+
     private void doWindow(
         MessageConsumer sender,
         long originId,
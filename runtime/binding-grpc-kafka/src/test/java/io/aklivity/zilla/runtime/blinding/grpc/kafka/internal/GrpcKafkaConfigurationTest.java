@@ -0,0 +1,34 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.blinding.grpc.kafka.internal;
+
+import static io.aklivity.zilla.runtime.binding.grpc.kafka.internal.GrpcKafkaConfiguration.GRPC_KAFKA_CORRELATION_ID;
+import static io.aklivity.zilla.runtime.binding.grpc.kafka.internal.GrpcKafkaConfiguration.GRPC_KAFKA_REPLY_SHARED;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class GrpcKafkaConfigurationTest
+{
+    public static final String REPLY_SHARED_NAME = "zilla.binding.grpc.kafka.reply.shared";
+    public static final String CORRELATION_ID_NAME = "zilla.binding.grpc.kafka.correlation.id";
+
+    @Test
+    public void shouldVerifyConstants()
+    {
+        assertEquals(GRPC_KAFKA_REPLY_SHARED.name(), REPLY_SHARED_NAME);
+        assertEquals(GRPC_KAFKA_CORRELATION_ID.name(), CORRELATION_ID_NAME);
+    }
+}
@@ -14,6 +14,8 @@
  */
 package io.aklivity.zilla.runtime.blinding.grpc.kafka.internal.stream;
 
+import static io.aklivity.zilla.runtime.blinding.grpc.kafka.internal.GrpcKafkaConfigurationTest.CORRELATION_ID_NAME;
+import static io.aklivity.zilla.runtime.blinding.grpc.kafka.internal.GrpcKafkaConfigurationTest.REPLY_SHARED_NAME;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_BUFFER_SLOT_CAPACITY;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.rules.RuleChain.outerRule;
@@ -28,6 +30,7 @@ import io.aklivity.k3po.runtime.junit.annotation.Specification;
 import io.aklivity.k3po.runtime.junit.rules.K3poRule;
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class GrpcKafkaProduceProxyIT
 {
@@ -58,6 +61,30 @@ public class GrpcKafkaProduceProxyIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("produce.proxy.rpc.yaml")
+    @Configure(name = REPLY_SHARED_NAME, value = "true")
+    @Configure(name = CORRELATION_ID_NAME,
+        value = "io.aklivity.zilla.runtime.blinding.grpc.kafka.internal.stream.GrpcKafkaProduceProxyIT::supplyCorrelationId")
+    @Specification({
+        "${grpc}/unary.rpcs.reply.shared/client",
+        "${kafka}/unary.rpcs.reply.shared/server"})
+    public void shouldExchangeMessagesWithUnaryRpcReplyShared() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("produce.proxy.rpc.yaml")
+    @Configure(name = REPLY_SHARED_NAME, value = "true")
+    @Specification({
+        "${grpc}/unary.rpc/client",
+        "${kafka}/unary.rpc/server"})
+    public void shouldExchangeMessageWithUnaryRpcIdempotentReplyShared() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("produce.proxy.rpc.oneway.yaml")
     @Specification({
@@ -177,4 +204,9 @@ public class GrpcKafkaProduceProxyIT
     {
         k3po.finish();
     }
+
+    public static String supplyCorrelationId()
+    {
+        return "2e8ac1b5-87c5-4e8d-b8c4-4a0c4f9c1a6d";
+    }
 }
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.agrona.AsciiSequenceView;
 import org.agrona.DirectBuffer;
@@ -44,7 +45,8 @@ public final class HttpKafkaBindingConfig
     private final HttpKafkaHeaderHelper helper;
 
     public HttpKafkaBindingConfig(
-        BindingConfig binding)
+        BindingConfig binding,
+        Supplier<String> supplyCorrelationId)
     {
         this.id = binding.id;
         this.name = binding.name;
@@ -52,7 +54,9 @@ public final class HttpKafkaBindingConfig
         this.options = Optional.ofNullable(binding.options)
                 .map(HttpKafkaOptionsConfig.class::cast)
                 .orElse(HttpKafkaOptionsConfigAdapter.DEFAULT);
-        this.routes = binding.routes.stream().map(r -> new HttpKafkaRouteConfig(options, r)).collect(toList());
+        this.routes = binding.routes.stream()
+            .map(r -> new HttpKafkaRouteConfig(options, r, supplyCorrelationId))
+            .collect(toList());
         this.helper = new HttpKafkaHeaderHelper();
     }
 
@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.LongFunction;
 import java.util.function.LongPredicate;
+import java.util.function.Supplier;
 import java.util.regex.MatchResult;
 import java.util.stream.Collectors;
 
@@ -40,7 +41,8 @@ public final class HttpKafkaRouteConfig
 
     public HttpKafkaRouteConfig(
         HttpKafkaOptionsConfig options,
-        RouteConfig route)
+        RouteConfig route,
+        Supplier<String> supplyCorrelationId)
     {
         this.id = route.id;
 
@@ -57,7 +59,7 @@ public final class HttpKafkaRouteConfig
 
         this.with = Optional.of(route.with)
             .map(HttpKafkaWithConfig.class::cast)
-            .map(c -> new HttpKafkaWithResolver(options, identityReplacer, c))
+            .map(c -> new HttpKafkaWithResolver(options, identityReplacer, supplyCorrelationId, c))
             .get();
         this.when = route.when.stream()
                 .map(HttpKafkaConditionConfig.class::cast)
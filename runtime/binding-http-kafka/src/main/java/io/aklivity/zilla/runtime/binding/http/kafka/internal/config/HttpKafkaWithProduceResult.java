@@ -70,6 +70,7 @@ public class HttpKafkaWithProduceResult
     private final HttpKafkaWithProduceHash hash;
     private final long timeout;
     private final boolean idempotent;
+    private final boolean unique;
 
     HttpKafkaWithProduceResult(
         long compositeId,
@@ -81,6 +82,7 @@ public class HttpKafkaWithProduceResult
         String16FW ifMatch,
         String16FW replyTo,
         String16FW idempotencyKey,
+        boolean unique,
         List<HttpKafkaWithProduceAsyncHeaderResult> async,
         HttpKafkaWithProduceHash hash,
         long timeout)
@@ -96,6 +98,7 @@ public class HttpKafkaWithProduceResult
         this.async = async;
         this.hash = hash;
         this.idempotent = idempotencyKey != null;
+        this.unique = unique;
         this.timeout = timeout;
     }
 
@@ -319,6 +322,21 @@ public class HttpKafkaWithProduceResult
         return idempotent;
     }
 
+    public boolean unique()
+    {
+        return unique;
+    }
+
+    public String16FW correlationIdName()
+    {
+        return correlation.correlationId;
+    }
+
+    public String16FW correlationId()
+    {
+        return hash.correlationId();
+    }
+
     public boolean reply()
     {
         return replyTo != null;
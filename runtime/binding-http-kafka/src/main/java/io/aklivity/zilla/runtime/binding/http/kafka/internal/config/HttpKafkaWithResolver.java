@@ -18,7 +18,6 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.regex.MatchResult;
@@ -85,6 +84,7 @@ public final class HttpKafkaWithResolver
 
     private final HttpKafkaOptionsConfig options;
     private final LongObjectBiFunction<MatchResult, String> identityReplacer;
+    private final Supplier<String> supplyCorrelationId;
     private final HttpKafkaWithConfig with;
     private final Matcher paramsMatcher;
     private final Matcher identityMatcher;
@@ -99,10 +99,12 @@ public final class HttpKafkaWithResolver
     public HttpKafkaWithResolver(
         HttpKafkaOptionsConfig options,
         LongObjectBiFunction<MatchResult, String> identityReplacer,
+        Supplier<String> supplyCorrelationId,
         HttpKafkaWithConfig with)
     {
         this.options = options;
         this.identityReplacer = identityReplacer;
+        this.supplyCorrelationId = supplyCorrelationId;
         this.with = with;
         this.paramsMatcher = PARAMS_PATTERN.matcher("");
         this.identityMatcher = IDENTITY_PATTERN.matcher("");
@@ -279,7 +281,7 @@ public final class HttpKafkaWithResolver
         final String16FW idempotencyKey = correlationId == null && httpIdempotencyKey != null
                 ? new String16FW(httpIdempotencyKey.value().asString())
                 : correlationId == null
-                    ? new String16FW(UUID.randomUUID().toString())
+                    ? new String16FW(supplyCorrelationId.get())
                     : null;
 
         if (correlationId == null)
@@ -442,6 +444,6 @@ public final class HttpKafkaWithResolver
 
         return new HttpKafkaWithProduceResult(
                 compositeId, options.correlation, topic, acks, keyRef, overrides, ifMatch, replyTo,
-                idempotencyKey, async, hash, timeout);
+                idempotencyKey, asyncId == null && httpIdempotencyKey == null, async, hash, timeout);
     }
 }
@@ -16,14 +16,24 @@ package io.aklivity.zilla.runtime.binding.http.kafka.internal.stream;
 
 import static io.aklivity.zilla.runtime.binding.http.kafka.internal.types.KafkaCapabilities.FETCH_ONLY;
 import static io.aklivity.zilla.runtime.binding.http.kafka.internal.types.KafkaCapabilities.PRODUCE_ONLY;
+import static io.aklivity.zilla.runtime.engine.budget.BudgetCreditor.NO_BUDGET_ID;
+import static io.aklivity.zilla.runtime.engine.budget.BudgetDebitor.NO_DEBITOR_INDEX;
 import static io.aklivity.zilla.runtime.engine.concurrent.Signaler.NO_CANCEL_ID;
 import static java.time.Instant.now;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
 import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
 
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Object2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import io.aklivity.zilla.runtime.binding.http.kafka.internal.HttpKafkaConfiguration;
@@ -56,6 +66,7 @@ import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.stream.Window
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.BindingHandler;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
+import io.aklivity.zilla.runtime.engine.budget.BudgetDebitor;
 import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 import io.aklivity.zilla.runtime.engine.config.BindingConfig;
 
@@ -71,6 +82,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
     private final OctetsFW emptyRO = new OctetsFW().wrap(new UnsafeBuffer(0L, 0), 0, 0);
 
     private static final int SIGNAL_WAIT_EXPIRED = 1;
+    private static final int NO_EXPIRING_ID = -1;
 
     private final BeginFW beginRO = new BeginFW();
     private final DataFW dataRO = new DataFW();
@@ -87,6 +99,8 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
     private final WindowFW windowRO = new WindowFW();
     private final ResetFW resetRO = new ResetFW();
     private final SignalFW signalRO = new SignalFW();
+    private final MutableDirectBuffer replyKeyRW = new ExpandableArrayBuffer();
+    private final DirectBuffer replyKeyRO = new UnsafeBuffer(0L, 0);
 
     private final WindowFW.Builder windowRW = new WindowFW.Builder();
     private final ResetFW.Builder resetRW = new ResetFW.Builder();
@@ -110,8 +124,11 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
     private final LongUnaryOperator supplyInitialId;
     private final LongUnaryOperator supplyReplyId;
     private final Signaler signaler;
+    private final LongFunction<BudgetDebitor> supplyDebitor;
     private final int httpTypeId;
     private final int kafkaTypeId;
+    private final boolean replyShared;
+    private final Supplier<String> supplyCorrelationId;
 
     private final HttpBeginExFW httpBeginEx404;
     private final HttpBeginExFW httpBeginEx500;
@@ -125,6 +142,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
     private final String8FW httpEtag;
 
     private final Long2ObjectHashMap<HttpKafkaBindingConfig> bindings;
+    private final Long2ObjectHashMap<Map<DirectBuffer, KafkaReplyDemux>> repliesByBindingId;
 
     public HttpKafkaProxyFactory(
         HttpKafkaConfiguration config,
@@ -136,9 +154,13 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         this.supplyInitialId = context::supplyInitialId;
         this.supplyReplyId = context::supplyReplyId;
         this.signaler = context.signaler();
+        this.supplyDebitor = context::supplyDebitor;
         this.bindings = new Long2ObjectHashMap<>();
+        this.repliesByBindingId = new Long2ObjectHashMap<>();
         this.httpTypeId = context.supplyTypeId(HTTP_TYPE_NAME);
         this.kafkaTypeId = context.supplyTypeId(KAFKA_TYPE_NAME);
+        this.replyShared = config.replyShared();
+        this.supplyCorrelationId = config.correlationId();
         this.httpBeginEx404 = initHttpBeginEx("404");
         this.httpBeginEx500 = initHttpBeginEx("500");
         this.httpStatus200 = initHttpHeader(":status", "200");
@@ -160,7 +182,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
     public void attach(
         BindingConfig binding)
     {
-        HttpKafkaBindingConfig newBinding = new HttpKafkaBindingConfig(binding);
+        HttpKafkaBindingConfig newBinding = new HttpKafkaBindingConfig(binding, supplyCorrelationId);
         bindings.put(binding.id, newBinding);
     }
 
@@ -169,6 +191,12 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         long bindingId)
     {
         bindings.remove(bindingId);
+
+        final Map<DirectBuffer, KafkaReplyDemux> replies = repliesByBindingId.remove(bindingId);
+        if (replies != null)
+        {
+            new ArrayList<>(replies.values()).forEach(KafkaReplyDemux::doRepliesDetach);
+        }
     }
 
     @Override
@@ -1713,7 +1741,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             super(http, originId, routedId, initialId);
             this.affinity = affinity;
             this.producer = new KafkaProduceProxy(routedId, resolvedId, this, resolved);
-            this.correlater = new KafkaCorrelateProxy(routedId, resolvedId, this, resolved);
+            this.correlater = new KafkaCorrelateProxy(routedId, resolvedId, this, resolved, false);
         }
 
         private void onHttpMessage(
@@ -2901,7 +2929,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         {
             super(http, originId, routedId, initialId);
             this.affinity = affinity;
-            this.delegate = new KafkaCorrelateProxy(routedId, resolvedId, this, resolved);
+            this.delegate = new KafkaCorrelateProxy(routedId, resolvedId, this, resolved, false);
         }
 
         private void onHttpMessage(
@@ -3319,6 +3347,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         private final long replyId;
         private final HttpKafkaWithProduceResult resolved;
         private final HttpProxy delegate;
+        private final boolean shared;
 
         private int state;
 
@@ -3332,19 +3361,29 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         private long replyBud;
         private int replyPad;
         private int replyCap;
+        private long replyBudIndex = NO_DEBITOR_INDEX;
+        private BudgetDebitor replyDeb;
 
         private long cancelWait = NO_CANCEL_ID;
 
+        private KafkaReplyDemux replies;
+        private KafkaCorrelateProxy nextCorrelated;
+        private DirectBuffer correlationId;
+        private long correlationHash;
+        private int expiringId = NO_EXPIRING_ID;
+
         private KafkaCorrelateProxy(
             long originId,
             long routedId,
             HttpProxy delegate,
-            HttpKafkaWithProduceResult resolved)
+            HttpKafkaWithProduceResult resolved,
+            boolean shared)
         {
             this.originId = originId;
             this.routedId = routedId;
             this.delegate = delegate;
             this.resolved = resolved;
+            this.shared = shared;
             this.initialId = supplyInitialId.applyAsLong(routedId);
             this.replyId = supplyReplyId.applyAsLong(initialId);
         }
@@ -3357,16 +3396,40 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             initialMax = delegate.initialMax;
             state = HttpKafkaState.openingInitial(state);
 
-            kafka = newKafkaCorrelater(this::onKafkaMessage, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                    traceId, authorization, affinity, resolved);
+            replies = shared ? supplyReplies(originId, routedId, resolved) : null;
 
             final long timeout = resolved.timeout();
-            if (timeout > 0L)
+
+            if (replies != null)
             {
-                cancelWait = signaler.signalAt(now().toEpochMilli() + timeout, originId, routedId, initialId,
-                        traceId, SIGNAL_WAIT_EXPIRED, 0);
+                final String16FW newCorrelationId = resolved.correlationId();
+                final byte[] bytes = new byte[newCorrelationId.length()];
+                newCorrelationId.value().getBytes(0, bytes);
+                correlationId = new UnsafeBuffer(bytes);
+                correlationHash = correlationHash(correlationId, 0, bytes.length);
+                state = HttpKafkaState.openingReply(state);
+
+                doKafkaWindow(traceId);
+
+                replies.doRepliesRegister(this, traceId, affinity);
+
+                if (timeout > 0L && !HttpKafkaState.replyClosed(state))
+                {
+                    cancelWait = replies.doRepliesExpireAt(now().toEpochMilli() + timeout, this, traceId);
+                }
+            }
+            else
+            {
+                kafka = newKafkaCorrelater(this::onKafkaMessage, originId, routedId, initialId, initialSeq, initialAck,
+                        initialMax, traceId, authorization, affinity, resolved);
+
+                if (timeout > 0L)
+                {
+                    cancelWait = signaler.signalAt(now().toEpochMilli() + timeout, originId, routedId, initialId,
+                            traceId, SIGNAL_WAIT_EXPIRED, 0);
+                }
+                doKafkaWindow(traceId);
             }
-            doKafkaWindow(traceId);
         }
 
         private void doKafkaEnd(
@@ -3383,8 +3446,21 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
                 signaler.cancel(cancelWait);
                 cancelWait = NO_CANCEL_ID;
 
-                doEnd(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                        traceId, authorization);
+                if (replies != null)
+                {
+                    replies.doRepliesUnregister(this, traceId);
+
+                    if (!HttpKafkaState.replyClosed(state))
+                    {
+                        state = HttpKafkaState.closeReply(state);
+                        delegate.onKafkaEnd(traceId, authorization);
+                    }
+                }
+                else
+                {
+                    doEnd(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                            traceId, authorization);
+                }
             }
         }
 
@@ -3392,7 +3468,17 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             long traceId,
             long authorization)
         {
-            if (!HttpKafkaState.initialClosed(state) && kafka != null)
+            if (!HttpKafkaState.initialClosed(state) && replies != null)
+            {
+                state = HttpKafkaState.closeInitial(state);
+                state = HttpKafkaState.closeReply(state);
+
+                signaler.cancel(cancelWait);
+                cancelWait = NO_CANCEL_ID;
+
+                replies.doRepliesUnregister(this, traceId);
+            }
+            else if (!HttpKafkaState.initialClosed(state) && kafka != null)
             {
                 initialSeq = delegate.initialSeq;
                 initialAck = delegate.initialAck;
@@ -3625,10 +3711,85 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             doKafkaEnd(traceId, authorization);
         }
 
+        private void onReplyExpired(
+            long traceId)
+        {
+            cancelWait = NO_CANCEL_ID;
+
+            doKafkaEnd(traceId, 0L);
+        }
+
+        private void onReplyFlush(
+            long traceId)
+        {
+            delegate.onKafkaFlush(traceId, 0L, 0L, 0);
+        }
+
+        private void onReplyData(
+            long traceId,
+            long authorization,
+            int flags,
+            int reserved,
+            OctetsFW payload,
+            OctetsFW extension)
+        {
+            replySeq += reserved;
+
+            signaler.cancel(cancelWait);
+            cancelWait = NO_CANCEL_ID;
+
+            int claimed = reserved;
+            if (replySeq <= replyAck + replyMax && replyDeb != null)
+            {
+                claimed = replyDeb.claim(traceId, replyBudIndex, replyId, reserved, reserved, 0);
+            }
+
+            if (replySeq > replyAck + replyMax || claimed != reserved)
+            {
+                doKafkaReset(traceId);
+                delegate.onKafkaReset(traceId, authorization);
+            }
+            else
+            {
+                delegate.onKafkaData(traceId, authorization, replyBud, reserved, flags, payload, extension);
+            }
+        }
+
+        private void onReplyAbort(
+            long traceId,
+            long authorization)
+        {
+            if (!HttpKafkaState.replyClosed(state))
+            {
+                state = HttpKafkaState.closeReply(state);
+
+                signaler.cancel(cancelWait);
+                cancelWait = NO_CANCEL_ID;
+
+                delegate.onKafkaAbort(traceId, authorization);
+            }
+        }
+
+        private void cleanupReply()
+        {
+            if (replyDeb != null)
+            {
+                replyDeb.release(replyBudIndex, replyId);
+                replyBudIndex = NO_DEBITOR_INDEX;
+                replyDeb = null;
+            }
+        }
+
         private void doKafkaReset(
             long traceId)
         {
-            if (!HttpKafkaState.replyClosed(state) && kafka != null)
+            if (!HttpKafkaState.replyClosed(state) && replies != null)
+            {
+                state = HttpKafkaState.closeReply(state);
+
+                replies.doRepliesUnregister(this, traceId);
+            }
+            else if (!HttpKafkaState.replyClosed(state) && kafka != null)
             {
                 state = HttpKafkaState.closeReply(state);
 
@@ -3640,7 +3801,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         private void doKafkaWindow(
             long traceId)
         {
-            if (kafka != null)
+            if (kafka != null || replies != null)
             {
                 replyAck = delegate.replyAck;
                 replyMax = delegate.replyMax;
@@ -3648,10 +3809,553 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
                 replyPad = delegate.replyPad;
                 replyCap = delegate.replyCap;
 
+                if (replies != null)
+                {
+                    if (replyBud != NO_BUDGET_ID && replyDeb == null)
+                    {
+                        replyDeb = supplyDebitor.apply(replyBud);
+                        replyBudIndex = replyDeb.acquire(replyBud, replyId,
+                            tid -> replyDeb.claim(tid, replyBudIndex, replyId, 0, 0, 0));
+                    }
+
+                    replies.doRepliesWindow(traceId, replyPad);
+                }
+                else
+                {
+                    doWindow(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                            traceId, 0L, replyBud, replyPad, replyCap);
+                }
+            }
+        }
+    }
+
+    private final class KafkaReplyDemux
+    {
+        private final Map<DirectBuffer, KafkaReplyDemux> replies;
+        private final DirectBuffer key;
+        private final String16FW correlationIdName;
+        private final long originId;
+        private final long routedId;
+        private final long initialId;
+        private final long replyId;
+        private final Long2ObjectHashMap<KafkaCorrelateProxy> correlaters;
+        private final Int2ObjectHashMap<KafkaCorrelateProxy> expiring;
+        private final DirectBuffer correlationIdRO;
+
+        private int nextExpiringId;
+
+        private MessageConsumer kafka;
+        private KafkaCorrelateProxy correlated;
+        private int correlations;
+        private boolean detached;
+        private boolean flushed;
+
+        private int state;
+
+        private long initialSeq;
+        private long initialAck;
+        private int initialMax;
+
+        private long replySeq;
+        private long replyAck;
+        private int replyMax;
+        private int replyPad;
+
+        private KafkaReplyDemux(
+            Map<DirectBuffer, KafkaReplyDemux> replies,
+            DirectBuffer key,
+            long originId,
+            long routedId,
+            String16FW correlationIdName)
+        {
+            this.replies = replies;
+            this.key = key;
+            this.originId = originId;
+            this.routedId = routedId;
+            this.correlationIdName = correlationIdName;
+            this.initialId = supplyInitialId.applyAsLong(routedId);
+            this.replyId = supplyReplyId.applyAsLong(initialId);
+            this.correlaters = new Long2ObjectHashMap<>();
+            this.expiring = new Int2ObjectHashMap<>();
+            this.correlationIdRO = new UnsafeBuffer(0L, 0);
+        }
+
+        private void doRepliesBegin(
+            long traceId,
+            long affinity,
+            HttpKafkaWithProduceResult resolved)
+        {
+            state = HttpKafkaState.openingInitial(state);
+
+            kafka = newKafkaReplies(this::onRepliesMessage, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                traceId, affinity, resolved);
+        }
+
+        private void doRepliesRegister(
+            KafkaCorrelateProxy correlater,
+            long traceId,
+            long affinity)
+        {
+            correlater.nextCorrelated = correlaters.put(correlater.correlationHash, correlater);
+            correlations++;
+
+            if (kafka == null)
+            {
+                doRepliesBegin(traceId, affinity, correlater.resolved);
+            }
+            else if (flushed)
+            {
+                correlater.onReplyFlush(traceId);
+            }
+        }
+
+        private void doRepliesUnregister(
+            KafkaCorrelateProxy correlater,
+            long traceId)
+        {
+            final long hash = correlater.correlationHash;
+
+            KafkaCorrelateProxy previous = null;
+            KafkaCorrelateProxy current = correlaters.get(hash);
+            while (current != null && current != correlater)
+            {
+                previous = current;
+                current = current.nextCorrelated;
+            }
+
+            if (current != null)
+            {
+                if (previous != null)
+                {
+                    previous.nextCorrelated = current.nextCorrelated;
+                }
+                else if (current.nextCorrelated != null)
+                {
+                    correlaters.put(hash, current.nextCorrelated);
+                }
+                else
+                {
+                    correlaters.remove(hash);
+                }
+
+                current.nextCorrelated = null;
+                correlations--;
+            }
+
+            if (correlated == correlater)
+            {
+                correlated = null;
+            }
+
+            if (correlater.expiringId != NO_EXPIRING_ID)
+            {
+                expiring.remove(correlater.expiringId);
+                correlater.expiringId = NO_EXPIRING_ID;
+            }
+
+            correlater.cleanupReply();
+
+            if (detached && correlations == 0)
+            {
+                doRepliesEnd(traceId);
+            }
+        }
+
+        private long doRepliesExpireAt(
+            long timeMillis,
+            KafkaCorrelateProxy correlater,
+            long traceId)
+        {
+            final int expiringId = nextExpiringId;
+            nextExpiringId = (nextExpiringId + 1) & Integer.MAX_VALUE;
+
+            correlater.expiringId = expiringId;
+            expiring.put(expiringId, correlater);
+
+            return signaler.signalAt(timeMillis, originId, routedId, initialId, traceId, SIGNAL_WAIT_EXPIRED, expiringId);
+        }
+
+        private void doRepliesDetach()
+        {
+            detached = true;
+
+            if (correlations == 0)
+            {
+                doRepliesEnd(0L);
+            }
+        }
+
+        private void doRepliesEnd(
+            long traceId)
+        {
+            if (!HttpKafkaState.initialClosed(state) && kafka != null)
+            {
+                state = HttpKafkaState.closeInitial(state);
+
+                doEnd(kafka, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                    traceId, 0L);
+            }
+
+            doRepliesReset(traceId);
+        }
+
+        private void doRepliesReset(
+            long traceId)
+        {
+            if (!HttpKafkaState.replyClosed(state) && kafka != null)
+            {
+                state = HttpKafkaState.closeReply(state);
+
+                doReset(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                    traceId);
+            }
+        }
+
+        private void doRepliesWindow(
+            long traceId,
+            int padding)
+        {
+            if (padding > replyPad)
+            {
+                replyPad = padding;
+
+                if (HttpKafkaState.replyOpening(state))
+                {
+                    doWindow(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                        traceId, 0L, 0L, replyPad, 0);
+                }
+            }
+        }
+
+        private void onRepliesMessage(
+            int msgTypeId,
+            DirectBuffer buffer,
+            int index,
+            int length)
+        {
+            switch (msgTypeId)
+            {
+            case BeginFW.TYPE_ID:
+                final BeginFW begin = beginRO.wrap(buffer, index, index + length);
+                onRepliesBegin(begin);
+                break;
+            case DataFW.TYPE_ID:
+                final DataFW data = dataRO.wrap(buffer, index, index + length);
+                onRepliesData(data);
+                break;
+            case FlushFW.TYPE_ID:
+                final FlushFW flush = flushRO.wrap(buffer, index, index + length);
+                onRepliesFlush(flush);
+                break;
+            case EndFW.TYPE_ID:
+                final EndFW end = endRO.wrap(buffer, index, index + length);
+                onRepliesEnd(end);
+                break;
+            case AbortFW.TYPE_ID:
+                final AbortFW abort = abortRO.wrap(buffer, index, index + length);
+                onRepliesAbort(abort);
+                break;
+            case WindowFW.TYPE_ID:
+                final WindowFW window = windowRO.wrap(buffer, index, index + length);
+                onRepliesWindow(window);
+                break;
+            case ResetFW.TYPE_ID:
+                final ResetFW reset = resetRO.wrap(buffer, index, index + length);
+                onRepliesReset(reset);
+                break;
+            case SignalFW.TYPE_ID:
+                final SignalFW signal = signalRO.wrap(buffer, index, index + length);
+                onRepliesSignal(signal);
+                break;
+            }
+        }
+
+        private void onRepliesSignal(
+            SignalFW signal)
+        {
+            final int signalId = signal.signalId();
+            final int contextId = signal.contextId();
+            final long traceId = signal.traceId();
+
+            assert signalId == SIGNAL_WAIT_EXPIRED;
+
+            final KafkaCorrelateProxy correlater = expiring.remove(contextId);
+            if (correlater != null)
+            {
+                correlater.expiringId = NO_EXPIRING_ID;
+                correlater.onReplyExpired(traceId);
+            }
+        }
+
+        private void onRepliesBegin(
+            BeginFW begin)
+        {
+            final long sequence = begin.sequence();
+            final long acknowledge = begin.acknowledge();
+            final long traceId = begin.traceId();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+            assert acknowledge >= replyAck;
+
+            replySeq = sequence;
+            replyAck = acknowledge;
+            replyMax = writeBuffer.capacity();
+            state = HttpKafkaState.openingReply(state);
+
+            assert replyAck <= replySeq;
+
+            doWindow(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                traceId, 0L, 0L, replyPad, 0);
+        }
+
+        private void onRepliesData(
+            DataFW data)
+        {
+            final long sequence = data.sequence();
+            final long acknowledge = data.acknowledge();
+            final long traceId = data.traceId();
+            final long authorization = data.authorization();
+            final int reserved = data.reserved();
+            final int flags = data.flags();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence + reserved;
+
+            assert replyAck <= replySeq;
+
+            if (replySeq > replyAck + replyMax)
+            {
+                onRepliesFailed(traceId, authorization);
+            }
+            else
+            {
+                final OctetsFW payload = data.payload();
+                final OctetsFW extension = data.extension();
+
+                if ((flags & DATA_FLAG_INIT) != 0x00)
+                {
+                    final ExtensionFW dataEx = extension.get(extensionRO::tryWrap);
+                    final KafkaDataExFW kafkaDataEx =
+                        dataEx != null && dataEx.typeId() == kafkaTypeId ? extension.get(kafkaDataExRO::tryWrap) : null;
+
+                    correlated = kafkaDataEx != null ? correlate(kafkaDataEx.merged().fetch().headers()) : null;
+                }
+
+                final KafkaCorrelateProxy correlater = correlated;
+                if ((flags & DATA_FLAG_FIN) != 0x00)
+                {
+                    correlated = null;
+                }
+
+                if (correlater != null)
+                {
+                    correlater.onReplyData(traceId, authorization, flags, reserved, payload, extension);
+                }
+
+                replyAck = replySeq;
+
                 doWindow(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
-                        traceId, 0L, replyBud, replyPad, replyCap);
+                    traceId, 0L, 0L, replyPad, 0);
+            }
+        }
+
+        private void onRepliesFlush(
+            FlushFW flush)
+        {
+            final long sequence = flush.sequence();
+            final long acknowledge = flush.acknowledge();
+            final long traceId = flush.traceId();
+            final int reserved = flush.reserved();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence + reserved;
+            replyAck = replySeq;
+
+            if (!flushed)
+            {
+                flushed = true;
+
+                final List<KafkaCorrelateProxy> flushing = new ArrayList<>(correlations);
+                correlaters.values().forEach(c ->
+                {
+                    for (KafkaCorrelateProxy correlater = c; correlater != null; correlater = correlater.nextCorrelated)
+                    {
+                        flushing.add(correlater);
+                    }
+                });
+
+                flushing.forEach(c -> c.onReplyFlush(traceId));
+            }
+
+            doWindow(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                traceId, 0L, 0L, replyPad, 0);
+        }
+
+        private void onRepliesEnd(
+            EndFW end)
+        {
+            final long sequence = end.sequence();
+            final long acknowledge = end.acknowledge();
+            final long traceId = end.traceId();
+            final long authorization = end.authorization();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence;
+            state = HttpKafkaState.closeReply(state);
+
+            onRepliesFailed(traceId, authorization);
+        }
+
+        private void onRepliesAbort(
+            AbortFW abort)
+        {
+            final long sequence = abort.sequence();
+            final long acknowledge = abort.acknowledge();
+            final long traceId = abort.traceId();
+            final long authorization = abort.authorization();
+
+            assert acknowledge <= sequence;
+            assert sequence >= replySeq;
+
+            replySeq = sequence;
+            state = HttpKafkaState.closeReply(state);
+
+            onRepliesFailed(traceId, authorization);
+        }
+
+        private void onRepliesWindow(
+            WindowFW window)
+        {
+            final long sequence = window.sequence();
+            final long acknowledge = window.acknowledge();
+            final int maximum = window.maximum();
+
+            assert acknowledge <= sequence;
+            assert maximum >= initialMax;
+
+            initialAck = acknowledge;
+            initialMax = maximum;
+            state = HttpKafkaState.openInitial(state);
+
+            assert initialAck <= initialSeq;
+        }
+
+        private void onRepliesReset(
+            ResetFW reset)
+        {
+            final long traceId = reset.traceId();
+            final long authorization = reset.authorization();
+
+            state = HttpKafkaState.closeInitial(state);
+
+            onRepliesFailed(traceId, authorization);
+        }
+
+        private void onRepliesFailed(
+            long traceId,
+            long authorization)
+        {
+            if (replies.get(key) == this)
+            {
+                replies.remove(key);
+            }
+
+            doRepliesEnd(traceId);
+
+            final List<KafkaCorrelateProxy> failed = new ArrayList<>(correlations);
+            correlaters.values().forEach(c ->
+            {
+                for (KafkaCorrelateProxy correlater = c; correlater != null; correlater = correlater.nextCorrelated)
+                {
+                    failed.add(correlater);
+                }
+            });
+
+            correlaters.clear();
+            expiring.clear();
+            correlations = 0;
+            correlated = null;
+
+            for (KafkaCorrelateProxy correlater : failed)
+            {
+                correlater.nextCorrelated = null;
+                correlater.expiringId = NO_EXPIRING_ID;
+                correlater.cleanupReply();
+                correlater.onReplyAbort(traceId, authorization);
             }
         }
+
+        private KafkaCorrelateProxy correlate(
+            Array32FW<KafkaHeaderFW> headers)
+        {
+            final KafkaHeaderFW header = headers.matchFirst(h -> correlationIdName.value().equals(h.name().value()));
+
+            KafkaCorrelateProxy correlater = null;
+
+            if (header != null)
+            {
+                final OctetsFW value = header.value();
+                correlationIdRO.wrap(value.buffer(), value.offset(), value.sizeof());
+
+                correlater = correlaters.get(correlationHash(correlationIdRO, 0, correlationIdRO.capacity()));
+                while (correlater != null && !correlationIdRO.equals(correlater.correlationId))
+                {
+                    correlater = correlater.nextCorrelated;
+                }
+            }
+
+            return correlater;
+        }
+    }
+
+    private KafkaReplyDemux supplyReplies(
+        long originId,
+        long routedId,
+        HttpKafkaWithProduceResult resolved)
+    {
+        final Map<DirectBuffer, KafkaReplyDemux> replies =
+            repliesByBindingId.computeIfAbsent(originId, id -> new Object2ObjectHashMap<>());
+
+        // one shared fetch per route, composite and reply topic
+        final String16FW replyTo = resolved.replyTo();
+        replyKeyRW.putLong(0, routedId);
+        replyKeyRW.putLong(Long.BYTES, resolved.compositeId());
+        replyKeyRW.putBytes(Long.BYTES * 2, replyTo.value(), 0, replyTo.length());
+        replyKeyRO.wrap(replyKeyRW, 0, Long.BYTES * 2 + replyTo.length());
+
+        KafkaReplyDemux demux = replies.get(replyKeyRO);
+
+        if (demux == null)
+        {
+            final byte[] bytes = new byte[replyKeyRO.capacity()];
+            replyKeyRO.getBytes(0, bytes);
+            final DirectBuffer key = new UnsafeBuffer(bytes);
+
+            demux = new KafkaReplyDemux(replies, key, originId, routedId, resolved.correlationIdName());
+            replies.put(key, demux);
+        }
+
+        return demux;
+    }
+
+    private static long correlationHash(
+        DirectBuffer buffer,
+        int index,
+        int length)
+    {
+        long hash = length;
+        for (int i = 0; i < length; i++)
+        {
+            hash = 31L * hash + buffer.getByte(index + i);
+        }
+        return hash;
     }
 
     private final class HttpProduceSyncProxy extends HttpProxy
@@ -3673,7 +4377,8 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             super(http, originId, routedId, initialId);
             this.affinity = affinity;
             this.producer = new KafkaProduceProxy(routedId, resolvedId, this, resolved);
-            this.correlater = new KafkaCorrelateProxy(routedId, resolvedId, this, resolved);
+            this.correlater = new KafkaCorrelateProxy(routedId, resolvedId, this, resolved,
+                replyShared && resolved.unique());
         }
 
         private void onHttpMessage(
@@ -4457,6 +5162,49 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         return receiver;
     }
 
+    private MessageConsumer newKafkaReplies(
+        MessageConsumer sender,
+        long originId,
+        long routedId,
+        long streamId,
+        long sequence,
+        long acknowledge,
+        int maximum,
+        long traceId,
+        long affinity,
+        HttpKafkaWithProduceResult resolved)
+    {
+        final KafkaBeginExFW kafkaBeginEx =
+            kafkaBeginExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                .compositeId(resolved.compositeId())
+                .typeId(kafkaTypeId)
+                .merged(m -> m.capabilities(c -> c.set(FETCH_ONLY))
+                              .topic(resolved.replyTo())
+                              .partitions(resolved::partitions)
+                              .filters(f -> {}))
+                .build();
+
+        final BeginFW begin = beginRW.wrap(writeBuffer, 0, writeBuffer.capacity())
+                .originId(originId)
+                .routedId(routedId)
+                .streamId(streamId)
+                .sequence(sequence)
+                .acknowledge(acknowledge)
+                .maximum(maximum)
+                .traceId(traceId)
+                .authorization(0L)
+                .affinity(affinity)
+                .extension(kafkaBeginEx.buffer(), kafkaBeginEx.offset(), kafkaBeginEx.sizeof())
+                .build();
+
+        MessageConsumer receiver =
+                streamFactory.newStream(begin.typeId(), begin.buffer(), begin.offset(), begin.sizeof(), sender);
+
+        receiver.accept(begin.typeId(), begin.buffer(), begin.offset(), begin.sizeof());
+
+        return receiver;
+    }
+
     private void doWindow(
         MessageConsumer sender,
         long originId,
@@ -14,6 +14,8 @@
  */
 package io.aklivity.zilla.runtime.binding.http.kafka.internal.stream;
 
+import static io.aklivity.zilla.runtime.binding.http.kafka.internal.HttpKafkaConfigurationTest.CORRELATION_ID_NAME;
+import static io.aklivity.zilla.runtime.binding.http.kafka.internal.HttpKafkaConfigurationTest.REPLY_SHARED_NAME;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_BUFFER_SLOT_CAPACITY;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.rules.RuleChain.outerRule;
@@ -28,6 +30,7 @@ import io.aklivity.k3po.runtime.junit.annotation.Specification;
 import io.aklivity.k3po.runtime.junit.rules.K3poRule;
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class HttpKafkaProxyIT
 {
@@ -43,6 +46,7 @@ public class HttpKafkaProxyIT
         .configure(ENGINE_BUFFER_SLOT_CAPACITY, 8192)
         .configurationRoot("io/aklivity/zilla/specs/binding/http/kafka/config")
         .external("kafka0")
+        .external("kafka1")
         .clean();
 
     @Rule
@@ -598,6 +602,56 @@ public class HttpKafkaProxyIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("proxy.post.item.command.yaml")
+    @Configure(name = REPLY_SHARED_NAME, value = "true")
+    @Configure(name = CORRELATION_ID_NAME,
+        value = "io.aklivity.zilla.runtime.binding.http.kafka.internal.stream.HttpKafkaProxyIT::supplyCorrelationId")
+    @Specification({
+        "${http}/post.item.commands.reply.shared/client",
+        "${kafka}/post.item.commands.reply.shared/server"})
+    public void shouldPostItemCommandsReplyShared() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("proxy.post.item.command.exits.yaml")
+    @Configure(name = REPLY_SHARED_NAME, value = "true")
+    @Configure(name = CORRELATION_ID_NAME,
+        value = "io.aklivity.zilla.runtime.binding.http.kafka.internal.stream.HttpKafkaProxyIT::supplyCorrelationId")
+    @Specification({
+        "${http}/post.item.commands.reply.shared.exits/client",
+        "${kafka}/post.item.commands.reply.shared.exits/server"})
+    public void shouldPostItemCommandsReplySharedExits() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("proxy.post.item.command.yaml")
+    @Configure(name = REPLY_SHARED_NAME, value = "true")
+    @Specification({
+        "${http}/post.item.command/client",
+        "${kafka}/post.item.command/server"})
+    public void shouldPostItemCommandIdempotentReplyShared() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("proxy.get.item.command.async.yaml")
+    @Configure(name = REPLY_SHARED_NAME, value = "true")
+    @Configure(name = CORRELATION_ID_NAME,
+        value = "io.aklivity.zilla.runtime.binding.http.kafka.internal.stream.HttpKafkaProxyIT::supplyCorrelationId")
+    @Specification({
+        "${http}/get.item.command.prefer.wait.timeout/client",
+        "${kafka}/get.item.command.reply.shared.timeout/server"})
+    public void shouldNotGetItemCommandReplySharedTimeout() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("proxy.post.item.command.yaml")
     @Specification({
@@ -777,4 +831,9 @@ public class HttpKafkaProxyIT
     {
         k3po.finish();
     }
+
+    public static String supplyCorrelationId()
+    {
+        return "2e8ac1b5-87c5-4e8d-b8c4-4a0c4f9c1a6d";
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.codec;
+
+import static io.aklivity.zilla.runtime.binding.http.internal.codec.Http1RequestLineFW.isWhitespace;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import io.aklivity.zilla.runtime.binding.http.internal.types.Flyweight;
+
+/*
+    HTTP/1.x header line flyweight, with field name lowercased into a reusable buffer
+
+    header-field = field-name ":" OWS field-value CRLF
+ */
+public class Http1HeaderLineFW extends Flyweight
+{
+    private static final int MAXIMUM_NAME_LENGTH = 0xff;
+
+    private final MutableDirectBuffer nameRW = new UnsafeBuffer(new byte[MAXIMUM_NAME_LENGTH]);
+    private final UnsafeBuffer nameRO = new UnsafeBuffer(0L, 0);
+    private final UnsafeBuffer valueRO = new UnsafeBuffer(0L, 0);
+
+    private int limit;
+
+    public DirectBuffer name()
+    {
+        return nameRO;
+    }
+
+    public DirectBuffer value()
+    {
+        return valueRO;
+    }
+
+    @Override
+    public int limit()
+    {
+        return limit;
+    }
+
+    @Override
+    public Http1HeaderLineFW tryWrap(
+        DirectBuffer buffer,
+        int offset,
+        int maxLimit)
+    {
+        boolean wrappable = super.tryWrap(buffer, offset, maxLimit) != null;
+
+        int progress = offset;
+        while (wrappable && progress < maxLimit && buffer.getByte(progress) != ':')
+        {
+            final byte ch = buffer.getByte(progress);
+            final int length = progress - offset;
+            wrappable = !isWhitespace(ch) && length < MAXIMUM_NAME_LENGTH;
+            if (wrappable)
+            {
+                nameRW.putByte(length, ch >= 'A' && ch <= 'Z' ? (byte) (ch | 0x20) : ch);
+                progress++;
+            }
+        }
+        final int nameLength = progress - offset;
+        wrappable &= nameLength > 0 && progress < maxLimit;
+
+        if (wrappable)
+        {
+            progress++;
+            while (progress < maxLimit && isOptionalWhitespace(buffer.getByte(progress)))
+            {
+                progress++;
+            }
+
+            final int startOfValueAt = progress;
+            while (progress < maxLimit && !isLineEnd(buffer.getByte(progress)))
+            {
+                progress++;
+            }
+            final int endOfValueAt = progress;
+
+            wrappable = endOfValueAt + 2 <= maxLimit &&
+                buffer.getByte(endOfValueAt) == '\r' &&
+                buffer.getByte(endOfValueAt + 1) == '\n';
+
+            if (wrappable)
+            {
+                nameRO.wrap(nameRW, 0, nameLength);
+                valueRO.wrap(buffer, startOfValueAt, endOfValueAt - startOfValueAt);
+                limit = endOfValueAt + 2;
+            }
+        }
+
+        return wrappable ? this : null;
+    }
+
+    @Override
+    public Http1HeaderLineFW wrap(
+        DirectBuffer buffer,
+        int offset,
+        int maxLimit)
+    {
+        if (tryWrap(buffer, offset, maxLimit) == null)
+        {
+            throw new IllegalArgumentException("Invalid header line");
+        }
+
+        return this;
+    }
+
+    private static boolean isOptionalWhitespace(
+        byte ch)
+    {
+        return ch == ' ' || ch == '\t' || ch == 0x0b || ch == '\f';
+    }
+
+    private static boolean isLineEnd(
+        byte ch)
+    {
+        return ch == '\r' || ch == '\n';
+    }
+}
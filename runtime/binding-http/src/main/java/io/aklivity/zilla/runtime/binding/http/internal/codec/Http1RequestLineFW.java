@@ -0,0 +1,225 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.codec;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import io.aklivity.zilla.runtime.binding.http.internal.types.Flyweight;
+
+/*
+    HTTP/1.x request line flyweight
+
+    request-line = method SP request-target SP HTTP-version CRLF
+ */
+public class Http1RequestLineFW extends Flyweight
+{
+    private static final byte[] HTTP_NAME = { 'H', 'T', 'T', 'P', '/' };
+    private static final int VERSION_SIZE = HTTP_NAME.length + 3;
+
+    private static final boolean[] ORIGIN_FORM_BYTES = new boolean[128];
+
+    static
+    {
+        final String originForm =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-._~!$&'()*+,;=:@/?";
+        for (int i = 0; i < originForm.length(); i++)
+        {
+            ORIGIN_FORM_BYTES[originForm.charAt(i)] = true;
+        }
+    }
+
+    private final UnsafeBuffer methodRO = new UnsafeBuffer(0L, 0);
+    private final UnsafeBuffer targetRO = new UnsafeBuffer(0L, 0);
+
+    private int majorVersion;
+    private int minorVersion;
+    private boolean originForm;
+    private int limit;
+
+    public DirectBuffer method()
+    {
+        return methodRO;
+    }
+
+    public DirectBuffer target()
+    {
+        return targetRO;
+    }
+
+    public int majorVersion()
+    {
+        return majorVersion;
+    }
+
+    public int minorVersion()
+    {
+        return minorVersion;
+    }
+
+    /*
+     * Request target is an origin-form path and optional query with only characters valid in a URI,
+     * so it can be used as :path without further parsing.
+     */
+    public boolean originForm()
+    {
+        return originForm;
+    }
+
+    @Override
+    public int limit()
+    {
+        return limit;
+    }
+
+    @Override
+    public Http1RequestLineFW tryWrap(
+        DirectBuffer buffer,
+        int offset,
+        int maxLimit)
+    {
+        boolean wrappable = super.tryWrap(buffer, offset, maxLimit) != null;
+
+        int progress = offset;
+        while (progress < maxLimit && isMethodByte(buffer.getByte(progress)))
+        {
+            progress++;
+        }
+        final int endOfMethodAt = progress;
+        wrappable &= endOfMethodAt > offset;
+
+        progress = skipWhitespace(buffer, progress, maxLimit);
+        final int startOfTargetAt = progress;
+        wrappable &= startOfTargetAt > endOfMethodAt;
+
+        while (progress < maxLimit && !isWhitespace(buffer.getByte(progress)))
+        {
+            progress++;
+        }
+        final int endOfTargetAt = progress;
+        wrappable &= endOfTargetAt > startOfTargetAt;
+
+        progress = skipWhitespace(buffer, progress, maxLimit);
+        final int startOfVersionAt = progress;
+        wrappable &= startOfVersionAt > endOfTargetAt;
+
+        wrappable &= startOfVersionAt + VERSION_SIZE + 2 <= maxLimit;
+        if (wrappable)
+        {
+            for (int i = 0; i < HTTP_NAME.length; i++)
+            {
+                wrappable &= buffer.getByte(startOfVersionAt + i) == HTTP_NAME[i];
+            }
+
+            progress = startOfVersionAt + HTTP_NAME.length;
+            final byte major = buffer.getByte(progress++);
+            final byte dot = buffer.getByte(progress++);
+            final byte minor = buffer.getByte(progress++);
+            wrappable &= isDigit(major) && dot == '.' && isDigit(minor);
+            wrappable &= buffer.getByte(progress++) == '\r' && buffer.getByte(progress++) == '\n';
+
+            if (wrappable)
+            {
+                methodRO.wrap(buffer, offset, endOfMethodAt - offset);
+                targetRO.wrap(buffer, startOfTargetAt, endOfTargetAt - startOfTargetAt);
+                majorVersion = major - '0';
+                minorVersion = minor - '0';
+                originForm = isOriginForm(buffer, startOfTargetAt, endOfTargetAt);
+                limit = progress;
+            }
+        }
+
+        return wrappable ? this : null;
+    }
+
+    @Override
+    public Http1RequestLineFW wrap(
+        DirectBuffer buffer,
+        int offset,
+        int maxLimit)
+    {
+        if (tryWrap(buffer, offset, maxLimit) == null)
+        {
+            throw new IllegalArgumentException("Invalid request line");
+        }
+
+        return this;
+    }
+
+    private static boolean isOriginForm(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        boolean originForm = buffer.getByte(offset) == '/' &&
+            (limit - offset == 1 || buffer.getByte(offset + 1) != '/');
+
+        for (int progress = offset; originForm && progress < limit; progress++)
+        {
+            final byte ch = buffer.getByte(progress);
+            if (ch == '%')
+            {
+                originForm = progress + 2 < limit &&
+                    isHexDigit(buffer.getByte(progress + 1)) &&
+                    isHexDigit(buffer.getByte(progress + 2));
+                progress += 2;
+            }
+            else
+            {
+                originForm = ch >= 0 && ORIGIN_FORM_BYTES[ch];
+            }
+        }
+
+        return originForm;
+    }
+
+    private static int skipWhitespace(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        int progress = offset;
+        while (progress < limit && isWhitespace(buffer.getByte(progress)))
+        {
+            progress++;
+        }
+        return progress;
+    }
+
+    static boolean isWhitespace(
+        byte ch)
+    {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == 0x0b || ch == '\f' || ch == '\r';
+    }
+
+    private static boolean isMethodByte(
+        byte ch)
+    {
+        return ch >= 'A' && ch <= 'Z';
+    }
+
+    private static boolean isDigit(
+        byte ch)
+    {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isHexDigit(
+        byte ch)
+    {
+        return isDigit(ch) || ch >= 'a' && ch <= 'f' || ch >= 'A' && ch <= 'F';
+    }
+}
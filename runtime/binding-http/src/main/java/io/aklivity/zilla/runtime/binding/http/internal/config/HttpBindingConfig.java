@@ -70,6 +70,8 @@ public final class HttpBindingConfig
     public final Function<Function<String, String>, String> credentials;
     public final List<HttpRequestType> requests;
 
+    private final HttpRouteIndex index;
+
     public HttpBindingConfig(
         BindingConfig binding,
         Function<ModelConfig, ValidatorHandler> supplyValidator)
@@ -84,16 +86,14 @@ public final class HttpBindingConfig
         this.credentials = options != null && options.authorization != null ?
                 asAccessor(options.authorization.credentials) : DEFAULT_CREDENTIALS;
         this.requests = supplyValidator == null ? null : createRequestTypes(supplyValidator);
+        this.index = new HttpRouteIndex(routes);
     }
 
     public HttpRouteConfig resolve(
         long authorization,
         Function<String, String> headerByName)
     {
-        return routes.stream()
-            .filter(r -> r.authorized(authorization) && r.matches(headerByName))
-            .findFirst()
-            .orElse(null);
+        return index.resolve(authorization, headerByName);
     }
 
     public SortedSet<HttpVersion>  versions()
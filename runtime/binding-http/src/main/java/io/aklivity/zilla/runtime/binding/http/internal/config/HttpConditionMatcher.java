@@ -26,13 +26,22 @@ import io.aklivity.zilla.runtime.binding.http.config.HttpConditionConfig;
 
 public final class HttpConditionMatcher
 {
+    private static final String HEADER_PATH = ":path";
+    private static final String WILDCARD_CHARS = "*{}?+|()[]^$\\";
+    private static final String QUANTIFIER_CHARS = "{?+";
+    private static final String UNANCHORED_CHARS = "|()[]^$\\";
+
+    private final Map<String, String> headers;
     private final Map<String, Matcher> headersMatch;
+    private final Map<String, String> headersExact;
     private Consumer<HttpConditionMatcher> observer;
 
     public HttpConditionMatcher(
         HttpConditionConfig condition)
     {
+        this.headers = condition.headers;
         this.headersMatch = condition.headers != null ? asMatcherMap(condition.headers) : null;
+        this.headersExact = condition.headers != null ? asExactMap(condition.headers) : null;
     }
 
     public void observe(
@@ -54,7 +63,8 @@ public final class HttpConditionMatcher
     public String parameter(
         String name)
     {
-        return headersMatch.get(":path").group(name);
+        Matcher matcher = headersMatch.get(HEADER_PATH);
+        return matcher != null ? matcher.group(name) : null;
     }
 
     public boolean matches(
@@ -62,7 +72,18 @@ public final class HttpConditionMatcher
     {
         boolean match = true;
 
-        if (headersMatch != null)
+        if (headersExact != null)
+        {
+            for (Map.Entry<String, String> entry : headersExact.entrySet())
+            {
+                String name = entry.getKey();
+                String exact = entry.getValue();
+                String value = headerByName.apply(name);
+                match &= value != null && matchesExact(name, exact, value);
+            }
+        }
+
+        if (match && headersMatch != null)
         {
             for (Map.Entry<String, Matcher> entry : headersMatch.entrySet())
             {
@@ -76,12 +97,92 @@ public final class HttpConditionMatcher
         return match && observeMatched();
     }
 
+    String exact(
+        String header)
+    {
+        return headersExact != null ? headersExact.get(header) : null;
+    }
+
+    String prefix(
+        String header)
+    {
+        String wildcard = headers != null ? headers.get(header) : null;
+        return wildcard != null ? asPrefix(wildcard) : null;
+    }
+
+    private static boolean matchesExact(
+        String header,
+        String exact,
+        String value)
+    {
+        return HEADER_PATH.equals(header)
+            ? value.startsWith(exact) && (value.length() == exact.length() || value.charAt(exact.length()) == '?')
+            : value.equals(exact);
+    }
+
     private static Map<String, Matcher> asMatcherMap(
         Map<String, String> patterns)
     {
         Map<String, Matcher> matchers = new LinkedHashMap<>();
-        patterns.forEach((k, v) -> matchers.put(k, asMatcher(k, v)));
-        return matchers;
+        patterns.forEach((k, v) ->
+        {
+            if (!isExact(v))
+            {
+                matchers.put(k, asMatcher(k, v));
+            }
+        });
+        return matchers.isEmpty() ? null : matchers;
+    }
+
+    private static Map<String, String> asExactMap(
+        Map<String, String> patterns)
+    {
+        Map<String, String> exacts = new LinkedHashMap<>();
+        patterns.forEach((k, v) ->
+        {
+            if (isExact(v))
+            {
+                exacts.put(k, v);
+            }
+        });
+        return exacts.isEmpty() ? null : exacts;
+    }
+
+    private static boolean isExact(
+        String wildcard)
+    {
+        boolean exact = true;
+        for (int index = 0; exact && index < wildcard.length(); index++)
+        {
+            exact = WILDCARD_CHARS.indexOf(wildcard.charAt(index)) == -1;
+        }
+        return exact;
+    }
+
+    private static String asPrefix(
+        String wildcard)
+    {
+        String prefix = null;
+
+        int index = 0;
+        while (index < wildcard.length() && WILDCARD_CHARS.indexOf(wildcard.charAt(index)) == -1)
+        {
+            index++;
+        }
+
+        if (index == wildcard.length())
+        {
+            prefix = wildcard;
+        }
+        else if (wildcard.chars().noneMatch(c -> UNANCHORED_CHARS.indexOf(c) != -1))
+        {
+            char stop = wildcard.charAt(index);
+            boolean quantified = QUANTIFIER_CHARS.indexOf(stop) != -1 &&
+                !(stop == '{' && wildcard.substring(index).matches("\\{[a-zA-Z_]+\\}.*"));
+            prefix = wildcard.substring(0, quantified ? Math.max(index - 1, 0) : index);
+        }
+
+        return prefix;
     }
 
     private static Matcher asMatcher(
@@ -93,7 +194,7 @@ public final class HttpConditionMatcher
             .replace("*", ".*")
             .replaceAll("\\{([a-zA-Z_]+)\\}", "(?<$1>.+)");
 
-        if (":path".equals(header) && !pattern.endsWith(".*"))
+        if (HEADER_PATH.equals(header) && !pattern.endsWith(".*"))
         {
             pattern = pattern + "(\\?.*)?";
         }
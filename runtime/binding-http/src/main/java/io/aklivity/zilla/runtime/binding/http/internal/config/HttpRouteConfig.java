@@ -76,15 +76,20 @@ public final class HttpRouteConfig
         return overrides;
     }
 
-    boolean authorized(
+    public boolean authorized(
         long authorization)
     {
         return authorized.test(authorization);
     }
 
-    boolean matches(
+    public boolean matches(
         Function<String, String> headerByName)
     {
         return when.isEmpty() || when.stream().anyMatch(m -> m.matches(headerByName));
     }
+
+    List<HttpConditionMatcher> when()
+    {
+        return when;
+    }
 }
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.agrona.collections.Int2ObjectHashMap;
+
+public final class HttpRouteIndex
+{
+    private static final String HEADER_PATH = ":path";
+    private static final String HEADER_METHOD = ":method";
+    private static final String HEADER_AUTHORITY = ":authority";
+
+    private final HttpRouteConfig[] routes;
+    private final HttpConditionMatcher[] matchers;
+    private final PathNode paths;
+    private final long[] pathsAny;
+    private final Map<String, long[]> methods;
+    private final long[] methodsAny;
+    private final Map<String, long[]> authorities;
+    private final long[] authoritiesAny;
+    private final long[] candidates;
+
+    public HttpRouteIndex(
+        List<HttpRouteConfig> routes)
+    {
+        int entries = routes.stream().mapToInt(r -> Math.max(r.when().size(), 1)).sum();
+        int words = (entries + Long.SIZE - 1) / Long.SIZE;
+
+        this.routes = new HttpRouteConfig[entries];
+        this.matchers = new HttpConditionMatcher[entries];
+        this.paths = new PathNode();
+        this.pathsAny = new long[words];
+        this.methods = new HashMap<>();
+        this.methodsAny = new long[words];
+        this.authorities = new HashMap<>();
+        this.authoritiesAny = new long[words];
+        this.candidates = new long[words];
+
+        int entry = 0;
+        for (HttpRouteConfig route : routes)
+        {
+            List<HttpConditionMatcher> when = route.when();
+            if (when.isEmpty())
+            {
+                this.routes[entry] = route;
+                set(pathsAny, entry);
+                set(methodsAny, entry);
+                set(authoritiesAny, entry);
+                entry++;
+            }
+            else
+            {
+                for (HttpConditionMatcher matcher : when)
+                {
+                    this.routes[entry] = route;
+                    this.matchers[entry] = matcher;
+                    indexPath(matcher, entry);
+                    indexExact(matcher, HEADER_METHOD, methods, methodsAny, entry);
+                    indexExact(matcher, HEADER_AUTHORITY, authorities, authoritiesAny, entry);
+                    entry++;
+                }
+            }
+        }
+    }
+
+    public HttpRouteConfig resolve(
+        long authorization,
+        Function<String, String> headerByName)
+    {
+        final long[] candidates = this.candidates;
+
+        System.arraycopy(pathsAny, 0, candidates, 0, candidates.length);
+
+        final String path = headerByName.apply(HEADER_PATH);
+        if (path != null)
+        {
+            paths.collect(path, candidates);
+        }
+
+        retainExact(candidates, methods, methodsAny, headerByName.apply(HEADER_METHOD));
+        retainExact(candidates, authorities, authoritiesAny, headerByName.apply(HEADER_AUTHORITY));
+
+        HttpRouteConfig resolved = null;
+        HttpRouteConfig unauthorized = null;
+
+        resolve:
+        for (int word = 0; word < candidates.length; word++)
+        {
+            long bits = candidates[word];
+            while (bits != 0L)
+            {
+                final int entry = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+
+                final HttpRouteConfig route = routes[entry];
+                if (route == unauthorized)
+                {
+                    continue;
+                }
+
+                if (!route.authorized(authorization))
+                {
+                    unauthorized = route;
+                    continue;
+                }
+
+                final HttpConditionMatcher matcher = matchers[entry];
+                if (matcher == null || matcher.matches(headerByName))
+                {
+                    resolved = route;
+                    break resolve;
+                }
+            }
+        }
+
+        return resolved;
+    }
+
+    private void indexPath(
+        HttpConditionMatcher matcher,
+        int entry)
+    {
+        final String exact = matcher.exact(HEADER_PATH);
+        final String prefix = exact == null ? matcher.prefix(HEADER_PATH) : null;
+
+        if (exact != null)
+        {
+            PathNode node = paths.supply(exact);
+            node.exact = set(node.exact, pathsAny.length, entry);
+        }
+        else if (prefix != null && !prefix.isEmpty())
+        {
+            PathNode node = paths.supply(prefix);
+            node.prefix = set(node.prefix, pathsAny.length, entry);
+        }
+        else
+        {
+            set(pathsAny, entry);
+        }
+    }
+
+    private static void indexExact(
+        HttpConditionMatcher matcher,
+        String header,
+        Map<String, long[]> exacts,
+        long[] exactsAny,
+        int entry)
+    {
+        final String exact = matcher.exact(header);
+
+        if (exact != null)
+        {
+            set(exacts.computeIfAbsent(exact, e -> new long[exactsAny.length]), entry);
+        }
+        else
+        {
+            set(exactsAny, entry);
+        }
+    }
+
+    private static void retainExact(
+        long[] candidates,
+        Map<String, long[]> exacts,
+        long[] exactsAny,
+        String value)
+    {
+        final long[] matches = value != null ? exacts.get(value) : null;
+
+        for (int word = 0; word < candidates.length; word++)
+        {
+            candidates[word] &= matches != null ? exactsAny[word] | matches[word] : exactsAny[word];
+        }
+    }
+
+    private static long[] set(
+        long[] bits,
+        int words,
+        int entry)
+    {
+        long[] newBits = bits != null ? bits : new long[words];
+        set(newBits, entry);
+        return newBits;
+    }
+
+    private static void set(
+        long[] bits,
+        int entry)
+    {
+        bits[entry / Long.SIZE] |= 1L << (entry % Long.SIZE);
+    }
+
+    private static void or(
+        long[] candidates,
+        long[] bits)
+    {
+        if (bits != null)
+        {
+            for (int word = 0; word < candidates.length; word++)
+            {
+                candidates[word] |= bits[word];
+            }
+        }
+    }
+
+    private static final class PathNode
+    {
+        private final Int2ObjectHashMap<PathNode> children = new Int2ObjectHashMap<>();
+
+        private long[] exact;
+        private long[] prefix;
+
+        private PathNode supply(
+            String path)
+        {
+            PathNode node = this;
+            for (int index = 0; index < path.length(); index++)
+            {
+                node = node.children.computeIfAbsent(path.charAt(index), c -> new PathNode());
+            }
+            return node;
+        }
+
+        private void collect(
+            String path,
+            long[] candidates)
+        {
+            PathNode node = this;
+            int index = 0;
+
+            while (node != null)
+            {
+                or(candidates, node.prefix);
+
+                if (index == path.length() || path.charAt(index) == '?')
+                {
+                    or(candidates, node.exact);
+                    break;
+                }
+
+                node = node.children.get(path.charAt(index++));
+            }
+        }
+    }
+}
@@ -16,15 +16,12 @@
 package io.aklivity.zilla.runtime.binding.http.internal.hpack;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.Arrays;
 
+import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Hashing;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class HpackContext
@@ -108,44 +105,49 @@ public class HpackContext
     public static final DirectBuffer UPGRADE = new UnsafeBuffer("upgrade".getBytes(UTF_8));
     public static final DirectBuffer DEFAULT_ACCESS_CONTROL_ALLOW_ORIGIN = new UnsafeBuffer("*".getBytes(UTF_8));
 
-    // Dynamic table. Entries are added at the end (since it is in reverse order,
-    // need to calculate the index accordingly)
-    /* private */ final List<HeaderField> table = new ArrayList<>();
+    private static final int ENTRY_OVERHEAD = 32;
+    private static final int NO_ENTRY = -1;
+
+    // Dynamic table entries are stored as name then value bytes in a circular region,
+    // sized twice the max table size so that an entry never wraps around the end.
+    // Entry metadata is kept in circular arrays, oldest entry at head.
+    private UnsafeBuffer entries;
+    private int[] entryOffsets;
+    private int[] nameLengths;
+    private int[] valueLengths;
+    private int[] nameHashes;
+    private int[] nameValueHashes;
+    private int entryCapacity;
+    private int head;
+    private int tail;
+
+    /* private */ int tableEntries;
     /* private */ int tableSize;
 
     // No need to update the following index maps for decoding context
     private final boolean encoding;
 
-    // name --> uniquie id (stable across evictions) for dynamic entries.
+    // Open addressing from name, and from (name, value), to the newest dynamic entry.
     // Used during encoding
-    private final Map<DirectBuffer, Long> name2Index = new HashMap<>();
+    private int[] nameIndex;
+    private int[] nameValueIndex;
 
-    // (name, value) --> uniquie id (stable across evictions) for dynamic entries.
-    // Used during encoding
-    private final Map<NameValue, Long> namevalue2Index = new HashMap<>();
+    private final UnsafeBuffer nameRO = new UnsafeBuffer(0L, 0);
+    private final UnsafeBuffer valueRO = new UnsafeBuffer(0L, 0);
+    private final UnsafeBuffer entryNameRO = new UnsafeBuffer(0L, 0);
+    private final UnsafeBuffer entryValueRO = new UnsafeBuffer(0L, 0);
 
     private int maxTableSize;
 
-    // Keeps track of number of evictions and used in calculation of unique id
-    // (No need to worry about overflow as it takes many years to overflow in practice)
-    private long noEvictions;
-
     private static final class HeaderField
     {
         private final DirectBuffer name;
         private final DirectBuffer value;
-        private int size;
 
         HeaderField(String name, String value)
         {
-            this(buffer(name), buffer(value));
-        }
-
-        HeaderField(DirectBuffer name, DirectBuffer value)
-        {
-            this.name = requireNonNull(name);
-            this.value = requireNonNull(value);
-            this.size = name.capacity() + value.capacity() + 32;
+            this.name = buffer(name);
+            this.value = buffer(value);
         }
 
         private static DirectBuffer buffer(String str)
@@ -175,15 +177,17 @@ public class HpackContext
 
     public void add(DirectBuffer nameBuffer, DirectBuffer valueBuffer)
     {
-        HeaderField header = new HeaderField(nameBuffer, valueBuffer);
+        final int nameLength = nameBuffer.capacity();
+        final int valueLength = valueBuffer.capacity();
+        final int size = nameLength + valueLength + ENTRY_OVERHEAD;
 
         // See if the header can be added to dynamic table. Calculate the
         // number of entries to be evicted to make space in the table.
         int noEntries = 0;
-        int wouldbeSize = tableSize + header.size;
-        while (noEntries < table.size() && wouldbeSize > maxTableSize)
+        int wouldbeSize = tableSize + size;
+        while (noEntries < tableEntries && wouldbeSize > maxTableSize)
         {
-            wouldbeSize -= table.get(noEntries).size;
+            wouldbeSize -= entrySize(entry(noEntries));
             noEntries++;
         }
         if (noEntries > 0)
@@ -195,17 +199,37 @@ public class HpackContext
         boolean spaceAvailable = wouldbeSize <= maxTableSize;
         if (spaceAvailable)
         {
-            if (encoding)
+            if (entries == null || entries.capacity() < maxTableSize << 1)
             {
-                long id = noEvictions + table.size();
+                allocate(maxTableSize);
+            }
+
+            int offset = tail;
+            if (offset + nameLength + valueLength > entries.capacity())
+            {
+                offset = 0;
+            }
 
-                name2Index.putIfAbsent(header.name, id);
+            // name may refer to an evicted entry, copy tolerates overlap
+            entries.putBytes(offset, nameBuffer, 0, nameLength);
+            entries.putBytes(offset + nameLength, valueBuffer, 0, valueLength);
 
-                NameValue nameValue = new NameValue(header.name, header.value);
-                namevalue2Index.putIfAbsent(nameValue, id);
+            final int entry = entry(tableEntries);
+            final int nameHash = hash(entries, offset, nameLength);
+            entryOffsets[entry] = offset;
+            nameLengths[entry] = nameLength;
+            valueLengths[entry] = valueLength;
+            nameHashes[entry] = nameHash;
+            nameValueHashes[entry] = 31 * nameHash + hash(entries, offset + nameLength, valueLength);
+
+            if (encoding)
+            {
+                indexEntry(entry);
             }
-            table.add(header);
-            tableSize += header.size;
+
+            tail = offset + nameLength + valueLength;
+            tableEntries++;
+            tableSize += size;
         }
     }
 
@@ -215,12 +239,12 @@ public class HpackContext
         {
             // Calculate the number of entries to be evicted so that table size is
             // under new max table size
-            int wouldbeSize = maxTableSize;
+            int wouldbeSize = tableSize;
             int noEntries = 0;
 
-            while (noEntries < table.size() && wouldbeSize > newMaxTableSize)
+            while (noEntries < tableEntries && wouldbeSize > newMaxTableSize)
             {
-                wouldbeSize -= table.get(noEntries).size;
+                wouldbeSize -= entrySize(entry(noEntries));
                 noEntries++;
             }
             if (noEntries > 0)
@@ -238,34 +262,42 @@ public class HpackContext
     {
         for (int i = 0; i < noEntries; i++)
         {
-            HeaderField header = table.get(i);
-            tableSize -= header.size;
+            final int entry = head;
+            tableSize -= entrySize(entry);
 
             if (encoding)
             {
-                Long id = noEvictions + i;
-                if (id.equals(name2Index.get(header.name)))
-                {
-                    name2Index.remove(header.name, id);
+                wrapEntry(entry);
 
+                final int nameSlot = probeName(entryNameRO, nameHashes[entry]);
+                if (nameIndex[nameSlot] == entry)
+                {
+                    remove(nameIndex, nameSlot, nameHashes);
                 }
-                NameValue nameValue = new NameValue(header.name, header.value);
-                if (id.equals(namevalue2Index.get(nameValue)))
+
+                final int nameValueSlot = probeNameValue(entryNameRO, entryValueRO, nameValueHashes[entry]);
+                if (nameValueIndex[nameValueSlot] == entry)
                 {
-                    namevalue2Index.remove(nameValue, id);
+                    remove(nameValueIndex, nameValueSlot, nameValueHashes);
                 }
             }
+
+            head = (head + 1) % entryCapacity;
+            tableEntries--;
         }
 
-        table.subList(0, noEntries).clear();
-        noEvictions += noEntries;
+        if (tableEntries == 0)
+        {
+            head = 0;
+            tail = 0;
+        }
     }
 
     // @return true if the index is valid
     //         false otherwise
     public boolean valid(int index)
     {
-        return index != 0 && index < STATIC_TABLE.length + table.size();
+        return index != 0 && index < STATIC_TABLE_LENGTH + tableEntries;
     }
 
     String name(int index)
@@ -280,9 +312,19 @@ public class HpackContext
         {
             throw new IllegalArgumentException("Invalid index = " + index + " in HPACK context");
         }
-        return index < STATIC_TABLE.length
-                ? STATIC_TABLE[index].name
-                : table.get(table.size() - (index - STATIC_TABLE_LENGTH) - 1).name;
+
+        DirectBuffer name;
+        if (index < STATIC_TABLE_LENGTH)
+        {
+            name = STATIC_TABLE[index].name;
+        }
+        else
+        {
+            final int entry = indexToEntry(index);
+            nameRO.wrap(entries, entryOffsets[entry], nameLengths[entry]);
+            name = nameRO;
+        }
+        return name;
     }
 
     String value(int index)
@@ -297,9 +339,19 @@ public class HpackContext
         {
             throw new IllegalArgumentException("Invalid index = " + index + " in HPACK context");
         }
-        return index < STATIC_TABLE.length
-                ? STATIC_TABLE[index].value
-                : table.get(table.size() - (index - STATIC_TABLE_LENGTH) - 1).value;
+
+        DirectBuffer value;
+        if (index < STATIC_TABLE_LENGTH)
+        {
+            value = STATIC_TABLE[index].value;
+        }
+        else
+        {
+            final int entry = indexToEntry(index);
+            valueRO.wrap(entries, entryOffsets[entry] + nameLengths[entry], valueLengths[entry]);
+            value = valueRO;
+        }
+        return value;
     }
 
     int index(String name)
@@ -312,10 +364,10 @@ public class HpackContext
     {
         int index = staticIndex(name);
         // If there is no entry in static table, look in dynamic table
-        if (index == -1)
+        if (index == -1 && tableEntries != 0 && encoding)
         {
-            Long id = name2Index.get(name);
-            index = (id != null) ? idToIndex(id) : -1;
+            final int entry = nameIndex[probeName(name, hash(name, 0, name.capacity()))];
+            index = entry != NO_ENTRY ? entryToIndex(entry) : -1;
         }
         return index;
     }
@@ -332,49 +384,184 @@ public class HpackContext
     {
         int index = staticIndex(name, value);
         // If there is no entry in static table, look in dynamic table
-        if (index == -1)
+        if (index == -1 && tableEntries != 0 && encoding)
         {
-            Long id = namevalue2Index.get(new NameValue(name, value));
-            return (id != null) ? idToIndex(id) : -1;
+            final int hash = 31 * hash(name, 0, name.capacity()) + hash(value, 0, value.capacity());
+            final int entry = nameValueIndex[probeNameValue(name, value, hash)];
+            index = entry != NO_ENTRY ? entryToIndex(entry) : -1;
         }
         return index;
     }
 
-    private int idToIndex(long id)
+    private int entry(int position)
     {
-        return (int) (STATIC_TABLE_LENGTH + table.size() - (id - noEvictions) - 1);
+        return (head + position) % entryCapacity;
+    }
 
+    private int entrySize(int entry)
+    {
+        return nameLengths[entry] + valueLengths[entry] + ENTRY_OVERHEAD;
     }
 
-    private static final class NameValue
+    private int indexToEntry(int index)
     {
-        private final DirectBuffer name;
-        private final DirectBuffer value;
-        private final int hash;
+        return entry(tableEntries - (index - STATIC_TABLE_LENGTH) - 1);
+    }
 
-        NameValue(DirectBuffer name, DirectBuffer value)
+    private int entryToIndex(int entry)
+    {
+        final int position = (entry - head + entryCapacity) % entryCapacity;
+        return STATIC_TABLE_LENGTH + tableEntries - position - 1;
+    }
+
+    private void allocate(int maxTableSize)
+    {
+        final UnsafeBuffer oldEntries = entries;
+        final int[] oldEntryOffsets = entryOffsets;
+        final int[] oldNameLengths = nameLengths;
+        final int[] oldValueLengths = valueLengths;
+        final int[] oldNameHashes = nameHashes;
+        final int[] oldNameValueHashes = nameValueHashes;
+        final int oldHead = head;
+        final int oldEntryCapacity = entryCapacity;
+        final int oldTableEntries = tableEntries;
+
+        entryCapacity = maxTableSize / ENTRY_OVERHEAD + 1;
+        entries = new UnsafeBuffer(new byte[maxTableSize << 1]);
+        entryOffsets = new int[entryCapacity];
+        nameLengths = new int[entryCapacity];
+        valueLengths = new int[entryCapacity];
+        nameHashes = new int[entryCapacity];
+        nameValueHashes = new int[entryCapacity];
+
+        if (encoding)
         {
-            this.name = name;
-            this.value = value;
-            this.hash = Objects.hash(name, value);
+            final int indexCapacity = BitUtil.findNextPositivePowerOfTwo(entryCapacity << 1);
+            nameIndex = new int[indexCapacity];
+            nameValueIndex = new int[indexCapacity];
+            Arrays.fill(nameIndex, NO_ENTRY);
+            Arrays.fill(nameValueIndex, NO_ENTRY);
         }
 
-        @Override
-        public boolean equals(Object obj)
+        head = 0;
+        tail = 0;
+        tableEntries = 0;
+
+        for (int i = 0; i < oldTableEntries; i++)
         {
-            if (obj instanceof NameValue)
+            final int oldEntry = (oldHead + i) % oldEntryCapacity;
+            final int offset = oldEntryOffsets[oldEntry];
+            final int length = oldNameLengths[oldEntry] + oldValueLengths[oldEntry];
+
+            entries.putBytes(tail, oldEntries, offset, length);
+            entryOffsets[i] = tail;
+            nameLengths[i] = oldNameLengths[oldEntry];
+            valueLengths[i] = oldValueLengths[oldEntry];
+            nameHashes[i] = oldNameHashes[oldEntry];
+            nameValueHashes[i] = oldNameValueHashes[oldEntry];
+            tail += length;
+            tableEntries++;
+
+            if (encoding)
+            {
+                indexEntry(i);
+            }
+        }
+    }
+
+    // Indexes the entry, replacing any older entry with the same name or (name, value)
+    private void indexEntry(int entry)
+    {
+        wrapEntry(entry);
+        nameIndex[probeName(entryNameRO, nameHashes[entry])] = entry;
+        nameValueIndex[probeNameValue(entryNameRO, entryValueRO, nameValueHashes[entry])] = entry;
+    }
+
+    private void wrapEntry(int entry)
+    {
+        final int offset = entryOffsets[entry];
+        final int nameLength = nameLengths[entry];
+        entryNameRO.wrap(entries, offset, nameLength);
+        entryValueRO.wrap(entries, offset + nameLength, valueLengths[entry]);
+    }
+
+    // @return slot of matching entry if present
+    //         empty slot otherwise
+    private int probeName(DirectBuffer name, int hash)
+    {
+        final int mask = nameIndex.length - 1;
+        int slot = Hashing.hash(hash, mask);
+        for (int entry = nameIndex[slot]; entry != NO_ENTRY; entry = nameIndex[slot])
+        {
+            final int offset = entryOffsets[entry];
+            if (nameHashes[entry] == hash &&
+                matches(offset, nameLengths[entry], name))
             {
-                NameValue other = (NameValue) obj;
-                return Objects.equals(name, other.name) && Objects.equals(value, other.value);
+                break;
             }
-            return false;
+            slot = (slot + 1) & mask;
         }
+        return slot;
+    }
 
-        @Override
-        public int hashCode()
+    // @return slot of matching entry if present
+    //         empty slot otherwise
+    private int probeNameValue(DirectBuffer name, DirectBuffer value, int hash)
+    {
+        final int mask = nameValueIndex.length - 1;
+        int slot = Hashing.hash(hash, mask);
+        for (int entry = nameValueIndex[slot]; entry != NO_ENTRY; entry = nameValueIndex[slot])
+        {
+            final int offset = entryOffsets[entry];
+            final int nameLength = nameLengths[entry];
+            if (nameValueHashes[entry] == hash &&
+                matches(offset, nameLength, name) &&
+                matches(offset + nameLength, valueLengths[entry], value))
+            {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // Removes the slot, shifting back later entries of the same probe sequence
+    private static void remove(int[] index, int slot, int[] hashes)
+    {
+        final int mask = index.length - 1;
+        index[slot] = NO_ENTRY;
+
+        for (int next = (slot + 1) & mask; index[next] != NO_ENTRY; next = (next + 1) & mask)
+        {
+            final int entry = index[next];
+            final int home = Hashing.hash(hashes[entry], mask);
+            if ((next - home & mask) >= (next - slot & mask))
+            {
+                index[slot] = entry;
+                index[next] = NO_ENTRY;
+                slot = next;
+            }
+        }
+    }
+
+    private boolean matches(int offset, int length, DirectBuffer buffer)
+    {
+        boolean matches = length == buffer.capacity();
+        for (int i = 0; matches && i < length; i++)
+        {
+            matches = entries.getByte(offset + i) == buffer.getByte(i);
+        }
+        return matches;
+    }
+
+    private static int hash(DirectBuffer buffer, int offset, int length)
+    {
+        int hash = 0;
+        for (int i = 0; i < length; i++)
         {
-            return hash;
+            hash = 31 * hash + buffer.getByte(offset + i);
         }
+        return hash;
     }
 
     /*
@@ -5569,12 +5569,8 @@ public final class HttpClientFactory implements HttpStreamFactory
                 }
                 if (hpackLiteral.literalType() == INCREMENTAL_INDEXING)
                 {
-                    // make a copy for name and value as they go into dynamic table (outlives current frame)
-                    MutableDirectBuffer nameCopy = new UnsafeBuffer(new byte[name.capacity()]);
-                    nameCopy.putBytes(0, name, 0, name.capacity());
-                    MutableDirectBuffer valueCopy = new UnsafeBuffer(new byte[value.capacity()]);
-                    valueCopy.putBytes(0, value, 0, value.capacity());
-                    context.add(nameCopy, valueCopy);
+                    // name and value are copied into dynamic table (outlives current frame)
+                    context.add(name, value);
                 }
                 break;
             default:
@@ -41,20 +41,18 @@ import static java.lang.Character.toUpperCase;
 import static java.lang.Integer.parseInt;
 import static java.nio.charset.StandardCharsets.US_ASCII;
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.util.Arrays.asList;
 
 import java.net.URI;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.SortedSet;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -64,6 +62,7 @@ import java.util.function.LongSupplier;
 import java.util.function.LongUnaryOperator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.agrona.AsciiSequenceView;
 import org.agrona.DirectBuffer;
@@ -85,6 +84,8 @@ import io.aklivity.zilla.runtime.binding.http.config.HttpVersion;
 import io.aklivity.zilla.runtime.binding.http.internal.HttpBinding;
 import io.aklivity.zilla.runtime.binding.http.internal.HttpConfiguration;
 import io.aklivity.zilla.runtime.binding.http.internal.HttpEventContext;
+import io.aklivity.zilla.runtime.binding.http.internal.codec.Http1HeaderLineFW;
+import io.aklivity.zilla.runtime.binding.http.internal.codec.Http1RequestLineFW;
 import io.aklivity.zilla.runtime.binding.http.internal.codec.Http2ContinuationFW;
 import io.aklivity.zilla.runtime.binding.http.internal.codec.Http2DataFW;
 import io.aklivity.zilla.runtime.binding.http.internal.codec.Http2ErrorCode;
@@ -149,6 +150,7 @@ import io.aklivity.zilla.runtime.engine.model.function.ValueConsumer;
 public final class HttpServerFactory implements HttpStreamFactory
 {
     private static final int CLIENT_INITIATED = 1;
+    private static final int UPGRADE_STREAM_ID = 1;
     private static final int SERVER_INITIATED = 0;
 
     private static final int CLEANUP_SIGNAL = 0;
@@ -169,13 +171,10 @@ public final class HttpServerFactory implements HttpStreamFactory
                 .wrap(new UnsafeBuffer(new byte[64]), 0, 64)
                 .build();
 
-    private static final Pattern REQUEST_LINE_PATTERN =
-            Pattern.compile("(?<method>[A-Z]+)\\s+(?<target>[^\\s]+)\\s+(?<version>HTTP/\\d\\.\\d)\r\n");
-    private static final Pattern VERSION_PATTERN = Pattern.compile("HTTP/1\\.\\d");
-    private static final Pattern HEADER_LINE_PATTERN = Pattern.compile("(?<name>[^\\s:]+):\\s*(?<value>[^\r\n]*)\r\n");
     private static final Pattern CONNECTION_CLOSE_PATTERN = Pattern.compile("(^|\\s*,\\s*)close(\\s*,\\s*|$)");
 
     private static final byte[] COLON_SPACE_BYTES = ": ".getBytes(US_ASCII);
+    private static final byte[] HTTP2_PRI_LINE_BYTES = "PRI * HTTP/2.0\r\n".getBytes(US_ASCII);
     private static final byte[] CRLFCRLF_BYTES = "\r\n\r\n".getBytes(US_ASCII);
     private static final byte[] CRLF_BYTES = "\r\n".getBytes(US_ASCII);
     private static final byte[] SEMICOLON_BYTES = ";".getBytes(US_ASCII);
@@ -190,6 +189,8 @@ public final class HttpServerFactory implements HttpStreamFactory
     private static final byte[] REASON_UNRECOGNIZED_STATUS_BYTES = "Unrecognized Status".getBytes(US_ASCII);
 
     private static final DirectBuffer ZERO_CHUNK = new UnsafeBuffer("0\r\n\r\n".getBytes(US_ASCII));
+    private static final DirectBuffer SWITCHING_PROTOCOLS_H2C = new UnsafeBuffer(
+        "HTTP/1.1 101 Switching Protocols\r\nConnection: Upgrade\r\nUpgrade: h2c\r\n\r\n".getBytes(US_ASCII));
 
     private static final DirectBuffer ERROR_400_BAD_REQUEST =
             initResponse(400, "Bad Request");
@@ -232,6 +233,8 @@ public final class HttpServerFactory implements HttpStreamFactory
     private static final String8FW HEADER_AUTHORITY = new String8FW(":authority");
     private static final String8FW HEADER_CONNECTION = new String8FW("connection");
     private static final String8FW HEADER_CONTENT_LENGTH = new String8FW("content-length");
+    private static final String8FW HEADER_HOST = new String8FW("host");
+    private static final String8FW HEADER_HTTP2_SETTINGS = new String8FW("http2-settings");
     private static final String8FW HEADER_METHOD = new String8FW(":method");
     private static final String8FW HEADER_PATH = new String8FW(":path");
     private static final String8FW HEADER_SCHEME = new String8FW(":scheme");
@@ -253,6 +256,7 @@ public final class HttpServerFactory implements HttpStreamFactory
     private static final String16FW STATUS_403 = new String16FW("403");
     private static final String16FW STATUS_404 = new String16FW("404");
     private static final String16FW TRANSFER_ENCODING_CHUNKED = new String16FW("chunked");
+    private static final String16FW UPGRADE_H2C = new String16FW("h2c");
 
     private static final HttpHeaderFW HEADER_ACCESS_CONTROL_ALLOW_ORIGIN_WILDCARD =
             new HttpHeaderFW.Builder()
@@ -300,27 +304,32 @@ public final class HttpServerFactory implements HttpStreamFactory
                          .wrap(new UnsafeBuffer(new byte[8]), 0, 8)
                          .build();
 
-    private static final Map<String16FW, String> SCHEME_PORTS;
+    private static final Map<String16FW, DirectBuffer> SCHEME_PORTS;
 
     private static final Int2ObjectHashMap<byte[]> STATUS_REASONS;
 
-    private static final Set<String> SUPPORTED_METHODS =
-            new HashSet<>(asList("GET",
-                                 "HEAD",
-                                 "POST",
-                                 "PUT",
-                                 "DELETE",
-                                 "CONNECT",
-                                 "OPTIONS",
-                                 "TRACE"));
+    private static final DirectBuffer[] SUPPORTED_METHODS =
+            Stream.of("GET",
+                      "HEAD",
+                      "POST",
+                      "PUT",
+                      "DELETE",
+                      "CONNECT",
+                      "OPTIONS",
+                      "TRACE")
+                  .map(m -> new UnsafeBuffer(m.getBytes(US_ASCII)))
+                  .toArray(DirectBuffer[]::new);
 
-    private static final int MAXIMUM_METHOD_LENGTH = SUPPORTED_METHODS.stream().mapToInt(String::length).max().getAsInt();
+    private static final int MAXIMUM_PORT_LENGTH = ":65535".length();
+
+    private static final int MAXIMUM_METHOD_LENGTH =
+            Stream.of(SUPPORTED_METHODS).mapToInt(DirectBuffer::capacity).max().getAsInt();
 
     static
     {
-        final Map<String16FW, String> schemePorts = new HashMap<>();
-        schemePorts.put(SCHEME_HTTP, "80");
-        schemePorts.put(SCHEME_HTTPS, "443");
+        final Map<String16FW, DirectBuffer> schemePorts = new HashMap<>();
+        schemePorts.put(SCHEME_HTTP, new UnsafeBuffer("80".getBytes(US_ASCII)));
+        schemePorts.put(SCHEME_HTTPS, new UnsafeBuffer("443".getBytes(US_ASCII)));
         SCHEME_PORTS = schemePorts;
     }
 
@@ -449,6 +458,7 @@ public final class HttpServerFactory implements HttpStreamFactory
 
     private final HttpServerDecoder decodeHeaders = this::decodeHeaders;
     private final HttpServerDecoder decodeHeadersOnly = this::decodeHeadersOnly;
+    private final HttpServerDecoder decodeDelegated = this::decodeDelegated;
     private final HttpServerDecoder decodeChunkHeader = this::decodeChunkHeader;
     private final HttpServerDecoder decodeChunkBody = this::decodeChunkBody;
     private final HttpServerDecoder decodeChunkEnd = this::decodeChunkEnd;
@@ -460,7 +470,23 @@ public final class HttpServerFactory implements HttpStreamFactory
 
     private final MutableInteger codecOffset = new MutableInteger();
     private final MutableBoolean hasAuthority = new MutableBoolean();
-    private final MutableReference<String> connectionRef = new MutableReference<>();
+    private final MutableReference<DirectBuffer> connectionRef = new MutableReference<>();
+    private final MutableReference<DirectBuffer> http2SettingsRef = new MutableReference<>();
+    private final MutableBoolean upgradeH2c = new MutableBoolean();
+
+    private final Http1RequestLineFW http1RequestLineRO = new Http1RequestLineFW();
+    private final Http1HeaderLineFW http1HeaderLineRO = new Http1HeaderLineFW();
+    private final UnsafeBuffer http1MethodRO = new UnsafeBuffer(0L, 0);
+    private final UnsafeBuffer http1ConnectionRO = new UnsafeBuffer(0L, 0);
+    private final UnsafeBuffer http1Http2SettingsRO = new UnsafeBuffer(0L, 0);
+    private final UnsafeBuffer http1AuthorityRO = new UnsafeBuffer(0L, 0);
+
+    private DirectBuffer http1HeaderName;
+    private DirectBuffer http1HeaderValue;
+
+    private final Consumer<HttpHeaderFW.Builder> http1HeaderItem = h -> h
+        .name(http1HeaderName, 0, http1HeaderName.capacity())
+        .value(http1HeaderValue, 0, http1HeaderValue.capacity());
 
     private final Http2PrefaceFW http2PrefaceRO = new Http2PrefaceFW();
     private final Http2FrameInfoFW http2FrameInfoRO = new Http2FrameInfoFW();
@@ -488,6 +514,8 @@ public final class HttpServerFactory implements HttpStreamFactory
     private final MutableInteger payloadRemaining = new MutableInteger(0);
 
     private final Http2ServerDecoder decodeHttp2Preface = this::decodeHttp2Preface;
+    private final Http2ServerDecoder decodeHttp2UpgradePreface = this::decodeHttp2UpgradePreface;
+    private final Http2ServerDecoder decodeHttp2UpgradeContent = this::decodeHttp2UpgradeContent;
     private final Http2ServerDecoder decodeHttp2FrameType = this::decodeHttp2FrameType;
     private final Http2ServerDecoder decodeHttp2Settings = this::decodeHttp2Settings;
     private final Http2ServerDecoder decodeHttp2Ping = this::decodeHttp2Ping;
@@ -542,10 +570,8 @@ public final class HttpServerFactory implements HttpStreamFactory
     private final int encodeMax;
     private final int proxyTypeId;
     private final int httpTypeId;
-    private final Matcher requestLine;
-    private final Matcher versionPart;
-    private final Matcher headerLine;
     private final Matcher connectionClose;
+    private final MutableDirectBuffer authorityBuffer;
     private final int maximumHeadersSize;
     private final Long2ObjectHashMap<HttpBindingConfig> bindings;
     private final HttpEventContext event;
@@ -572,11 +598,9 @@ public final class HttpServerFactory implements HttpStreamFactory
         this.extBuffer = new UnsafeBuffer(new byte[writeBuffer.capacity()]);
         this.httpTypeId = context.supplyTypeId(HttpBinding.NAME);
         this.proxyTypeId = context.supplyTypeId("proxy");
-        this.requestLine = REQUEST_LINE_PATTERN.matcher("");
-        this.headerLine = HEADER_LINE_PATTERN.matcher("");
-        this.versionPart = VERSION_PATTERN.matcher("");
         this.connectionClose = CONNECTION_CLOSE_PATTERN.matcher("");
         this.maximumHeadersSize = bufferPool.slotCapacity();
+        this.authorityBuffer = new UnsafeBuffer(new byte[maximumHeadersSize + MAXIMUM_PORT_LENGTH]);
         this.decodeMax = bufferPool.slotCapacity();
         this.supplyValidator = context::supplyValidator;
         this.encodeMax = bufferPool.slotCapacity();
@@ -967,10 +991,11 @@ public final class HttpServerFactory implements HttpStreamFactory
         if (endOfStartAt != -1)
         {
             if (server.upgrade &&
-                endOfStartAt >= offset + 16 &&
-                CharSequence.compare("PRI * HTTP/2.0\r\n", new AsciiSequenceView(buffer, offset, 16)) == 0)
+                endOfStartAt == offset + HTTP2_PRI_LINE_BYTES.length &&
+                limitOfBytes(buffer, offset, endOfStartAt, HTTP2_PRI_LINE_BYTES) == endOfStartAt)
             {
                 server.delegate = new Http2Server(server);
+                server.decoder = decodeDelegated;
                 signaler.signalNow(server.originId, server.routedId, server.replyId, traceId, DELEGATE_SIGNAL, 0);
                 return offset;
             }
@@ -988,8 +1013,8 @@ public final class HttpServerFactory implements HttpStreamFactory
             final int endOfMethodAt = indexOfByte(buffer, offset, endOfMethodLimit, SPACE_BYTE);
             if (endOfMethodAt != -1)
             {
-                final CharSequence method = new AsciiSequenceView(buffer, offset, endOfMethodAt - offset);
-                if (!SUPPORTED_METHODS.contains(method))
+                http1MethodRO.wrap(buffer, offset, endOfMethodAt - offset);
+                if (!isSupportedMethod(http1MethodRO))
                 {
                     error = ERROR_501_METHOD_NOT_IMPLEMENTED;
                 }
@@ -1005,6 +1030,8 @@ public final class HttpServerFactory implements HttpStreamFactory
         {
             server.decoder = decodeHeadersOnly;
             connectionRef.ref = null;
+            http2SettingsRef.ref = null;
+            upgradeH2c.value = false;
 
             final int endOfHeaderLinesAt = endOfHeadersAt - CRLF_BYTES.length;
             int startOfLineAt = endOfStartAt;
@@ -1014,7 +1041,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                     endOfLineAt = limitOfBytes(buffer, startOfLineAt, endOfHeaderLinesAt, CRLF_BYTES))
             {
                 error = decodeHeaderLine(server, buffer, offset, startOfLineAt, endOfLineAt,
-                                         httpBeginEx, hasAuthority, connectionRef);
+                                         httpBeginEx, hasAuthority, connectionRef, http2SettingsRef, upgradeH2c);
             }
 
             if (error == null && !hasAuthority.value)
@@ -1022,12 +1049,22 @@ public final class HttpServerFactory implements HttpStreamFactory
                 error = ERROR_400_BAD_REQUEST;
             }
 
-            if (error == null)
+            if (error == null &&
+                server.upgrade &&
+                upgradeH2c.value &&
+                http2SettingsRef.ref != null &&
+                (server.decoder == decodeHeadersOnly || server.decoder == decodeContent))
+            {
+                final int contentLength = server.decoder == decodeContent ? server.decodableContentLength : 0;
+                error = server.onDecodeHttp2Upgrade(traceId, authorization, httpBeginEx.build(), http2SettingsRef.ref,
+                    contentLength);
+            }
+            else if (error == null)
             {
                 HttpBeginExFW beginEx = httpBeginEx.build();
 
                 final Map<String, String> headers = new LinkedHashMap<>();
-                beginEx.headers().forEach(h -> headers.put(h.name().asString().toLowerCase(), h.value().asString()));
+                beginEx.headers().forEach(h -> headers.put(h.name().asString(), h.value().asString()));
 
                 HttpBindingConfig binding = server.binding;
                 GuardHandler guard = server.guard;
@@ -1139,51 +1176,61 @@ public final class HttpServerFactory implements HttpStreamFactory
         String16FW scheme)
     {
         DirectBuffer error = null;
-        final CharSequence startLine = new AsciiSequenceView(buffer, offset, limit - offset);
-        if (startLine.length() >= maximumHeadersSize)
+
+        if (limit - offset >= maximumHeadersSize)
         {
             error = ERROR_414_REQUEST_URI_TOO_LONG;
         }
-        else if (requestLine.reset(startLine).matches())
+        else if (http1RequestLineRO.tryWrap(buffer, offset, limit) != null)
         {
-            final String method = requestLine.group("method");
-            final String target = requestLine.group("target");
-            final String version = requestLine.group("version");
+            final Http1RequestLineFW requestLine = http1RequestLineRO;
+            final DirectBuffer method = requestLine.method();
+            final DirectBuffer target = requestLine.target();
+            final boolean originForm = requestLine.originForm();
 
-            final URI targetURI = createTargetURI(target);
+            final URI targetURI = !originForm
+                ? createTargetURI(target.getStringWithoutLengthAscii(0, target.capacity()))
+                : null;
 
-            if (targetURI == null)
+            if (!originForm && targetURI == null)
             {
                 error = ERROR_400_BAD_REQUEST;
             }
-            else if (!versionPart.reset(version).matches())
+            else if (requestLine.majorVersion() != 1)
             {
                 error = ERROR_505_VERSION_NOT_SUPPORTED;
             }
-            else if (targetURI.getUserInfo() != null)
+            else if (targetURI != null && targetURI.getUserInfo() != null)
             {
                 error = ERROR_400_BAD_REQUEST;
             }
-            else if (!SUPPORTED_METHODS.contains(method))
+            else if (!isSupportedMethod(method))
             {
                 error = ERROR_501_METHOD_NOT_IMPLEMENTED;
             }
             else
             {
-                final String path = targetURI.getRawPath();
-                final String query = targetURI.getRawQuery();
-                final String authority = targetURI.getAuthority();
+                headersItem(httpBeginEx, HEADER_SCHEME, scheme.value());
+                headersItem(httpBeginEx, HEADER_METHOD, method);
 
-                final String pathWithQuery = query != null ? String.format("%s?%s", path, query) : path;
+                if (originForm)
+                {
+                    headersItem(httpBeginEx, HEADER_PATH, target);
+                }
+                else
+                {
+                    final String path = targetURI.getRawPath();
+                    final String query = targetURI.getRawQuery();
+                    final String authority = targetURI.getAuthority();
 
-                httpBeginEx.headersItem(h -> h.name(HEADER_SCHEME).value(scheme))
-                           .headersItem(h -> h.name(HEADER_METHOD).value(method))
-                           .headersItem(h -> h.name(HEADER_PATH).value(pathWithQuery));
+                    final String pathWithQuery = query != null ? String.format("%s?%s", path, query) : path;
+                    httpBeginEx.headersItem(h -> h.name(HEADER_PATH).value(pathWithQuery));
 
-                if (authority != null)
-                {
-                    httpBeginEx.headersItem(h -> h.name(HEADER_AUTHORITY).value(authority));
-                    hasAuthority.value = true;
+                    if (authority != null)
+                    {
+                        httpBeginEx.headersItem(h -> h.name(HEADER_AUTHORITY).value(authority));
+                        hasAuthority.value = true;
+                    }
                 }
             }
         }
@@ -1203,7 +1250,9 @@ public final class HttpServerFactory implements HttpStreamFactory
         int endOfLineAt,
         HttpBeginExFW.Builder httpBeginEx,
         MutableBoolean hasAuthority,
-        MutableReference<String> connection)
+        MutableReference<DirectBuffer> connection,
+        MutableReference<DirectBuffer> http2Settings,
+        MutableBoolean upgradeH2c)
     {
         DirectBuffer error = null;
 
@@ -1211,74 +1260,85 @@ public final class HttpServerFactory implements HttpStreamFactory
         {
             error = ERROR_431_HEADERS_TOO_LARGE;
         }
-        else if (headerLine.reset(new AsciiSequenceView(buffer, startOfLineAt, endOfLineAt - startOfLineAt)).matches())
+        else if (http1HeaderLineRO.tryWrap(buffer, startOfLineAt, endOfLineAt) != null)
         {
-            final String name = headerLine.group("name").toLowerCase();
-            final String value = headerLine.group("value");
+            final DirectBuffer name = http1HeaderLineRO.name();
+            final DirectBuffer value = http1HeaderLineRO.value();
 
-            switch (name)
+            if (HEADER_CONNECTION.value().equals(name))
             {
-            case "connection":
-                connection.ref = value;
+                http1ConnectionRO.wrap(value);
+                connection.ref = http1ConnectionRO;
 
                 if (server.decoder == decodeUpgraded)
                 {
-                    httpBeginEx.headersItem(h -> h.name(HEADER_CONNECTION).value(connection.ref));
+                    headersItem(httpBeginEx, HEADER_CONNECTION, connection.ref);
                 }
-                break;
-
-            case "content-length":
-                if (server.decoder != decodeHeadersOnly)
+            }
+            else if (HEADER_CONTENT_LENGTH.value().equals(name))
+            {
+                final int contentLength = server.decoder == decodeHeadersOnly ? parseContentLength(value) : -1;
+                if (contentLength == -1)
                 {
                     error = ERROR_400_BAD_REQUEST;
                 }
                 else
                 {
-                    final int contentLength = parseInt(value);
                     if (contentLength > 0)
                     {
                         server.decodableContentLength = contentLength;
                         server.decoder = decodeContent;
                     }
-                    httpBeginEx.headersItem(h -> h.name(HEADER_CONTENT_LENGTH).value(value));
+                    headersItem(httpBeginEx, HEADER_CONTENT_LENGTH, value);
                 }
-                break;
-
-            case "host":
+            }
+            else if (HEADER_HOST.value().equals(name))
+            {
                 if (!hasAuthority.value)
                 {
-                    String authority = (value.indexOf(':') == -1)
-                            ? String.format("%s:%s", value, SCHEME_PORTS.get(server.decodeScheme))
-                            : value;
-                    httpBeginEx.headersItem(h -> h.name(HEADER_AUTHORITY).value(authority));
+                    if (indexOfByte(value, 0, value.capacity(), COLON_BYTE) == -1)
+                    {
+                        final DirectBuffer port = SCHEME_PORTS.get(server.decodeScheme);
+                        final int length = value.capacity();
+                        authorityBuffer.putBytes(0, value, 0, length);
+                        authorityBuffer.putByte(length, COLON_BYTE);
+                        authorityBuffer.putBytes(length + 1, port, 0, port.capacity());
+                        http1AuthorityRO.wrap(authorityBuffer, 0, length + 1 + port.capacity());
+                    }
+                    else
+                    {
+                        http1AuthorityRO.wrap(value);
+                    }
+                    headersItem(httpBeginEx, HEADER_AUTHORITY, http1AuthorityRO);
                     hasAuthority.value = true;
                 }
-                break;
-
-            case "http2-settings":
-                // TODO: h2c
-                break;
-
-            case "transfer-encoding":
+            }
+            else if (HEADER_HTTP2_SETTINGS.value().equals(name))
+            {
+                http1Http2SettingsRO.wrap(value);
+                http2Settings.ref = http1Http2SettingsRO;
+            }
+            else if (HEADER_TRANSFER_ENCODING.value().equals(name))
+            {
                 if (server.decoder != decodeHeadersOnly)
                 {
                     error = ERROR_400_BAD_REQUEST;
                 }
-                else if (!"chunked".equals(value))
+                else if (!TRANSFER_ENCODING_CHUNKED.value().equals(value))
                 {
                     error = ERROR_501_UNSUPPORTED_TRANSFER_ENCODING;
                 }
                 else
                 {
                     server.decoder = decodeChunkHeader;
-                    httpBeginEx.headersItem(h -> h.name(HEADER_TRANSFER_ENCODING).value(TRANSFER_ENCODING_CHUNKED));
+                    headersItem(httpBeginEx, HEADER_TRANSFER_ENCODING, TRANSFER_ENCODING_CHUNKED.value());
                 }
-                break;
-
-            case "upgrade":
-                if ("h2c".equals(value))
+            }
+            else if (HEADER_UPGRADE.value().equals(name))
+            {
+                if (UPGRADE_H2C.value().equals(value))
                 {
-                    // TODO: h2c
+                    upgradeH2c.value = true;
                 }
                 else if (server.decoder != decodeHeadersOnly)
                 {
@@ -1288,18 +1348,17 @@ public final class HttpServerFactory implements HttpStreamFactory
                 {
                     // TODO: wait for 101 first
                     server.decoder = decodeUpgraded;
-                    httpBeginEx.headersItem(h -> h.name(HEADER_UPGRADE).value(value));
+                    headersItem(httpBeginEx, HEADER_UPGRADE, value);
 
                     if (connection.ref != null)
                     {
-                        httpBeginEx.headersItem(h -> h.name(HEADER_CONNECTION).value(connection.ref));
+                        headersItem(httpBeginEx, HEADER_CONNECTION, connection.ref);
                     }
                 }
-                break;
-
-            default:
-                httpBeginEx.headersItem(h -> h.name(name).value(value));
-                break;
+            }
+            else
+            {
+                headersItem(httpBeginEx, name, value);
             }
         }
         else if (buffer.getByte(startOfLineAt) == SPACE_BYTE)
@@ -1314,6 +1373,71 @@ public final class HttpServerFactory implements HttpStreamFactory
         return error;
     }
 
+    private void headersItem(
+        HttpBeginExFW.Builder httpBeginEx,
+        String8FW name,
+        DirectBuffer value)
+    {
+        headersItem(httpBeginEx, name.value(), value);
+    }
+
+    private void headersItem(
+        HttpBeginExFW.Builder httpBeginEx,
+        DirectBuffer name,
+        DirectBuffer value)
+    {
+        http1HeaderName = name;
+        http1HeaderValue = value;
+        httpBeginEx.headersItem(http1HeaderItem);
+    }
+
+    private static boolean isSupportedMethod(
+        DirectBuffer method)
+    {
+        boolean supported = false;
+        for (int i = 0; !supported && i < SUPPORTED_METHODS.length; i++)
+        {
+            supported = SUPPORTED_METHODS[i].equals(method);
+        }
+        return supported;
+    }
+
+    private Http2SettingsFW decodeHttp2Settings(
+        DirectBuffer value)
+    {
+        Http2SettingsFW http2Settings = null;
+
+        try
+        {
+            final String encoded = value.getStringWithoutLengthAscii(0, value.capacity());
+            final DirectBuffer payload = new UnsafeBuffer(Base64.getUrlDecoder().decode(encoded));
+
+            http2Settings = http2SettingsRW.wrap(frameBuffer, 0, frameBuffer.capacity())
+                    .payload(payload, 0, payload.capacity())
+                    .build();
+        }
+        catch (IllegalArgumentException ex)
+        {
+            // invalid HTTP2-Settings
+        }
+
+        return http2Settings;
+    }
+
+    private static int parseContentLength(
+        DirectBuffer value)
+    {
+        final int length = value.capacity();
+        long contentLength = length != 0 ? 0L : -1L;
+        for (int i = 0; i < length && contentLength != -1L; i++)
+        {
+            final byte digit = value.getByte(i);
+            contentLength = digit >= '0' && digit <= '9' ? contentLength * 10 + digit - '0' : -1L;
+            contentLength = contentLength <= Integer.MAX_VALUE ? contentLength : -1L;
+        }
+        return (int) contentLength;
+    }
+
     private int decodeHeadersOnly(
         HttpServer server,
         long traceId,
@@ -1524,6 +1648,20 @@ public final class HttpServerFactory implements HttpStreamFactory
         return server.onDecodeBody(traceId, authorization, budgetId, buffer, offset, limit, EMPTY_OCTETS);
     }
 
+    private int decodeDelegated(
+        HttpServer server,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        // retained for delegate
+        return offset;
+    }
+
     private int decodeIgnore(
         HttpServer server,
         long traceId,
@@ -1934,6 +2072,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                 delegate.decodeSlot = decodeSlot;
                 delegate.decodeSlotOffset = decodeSlotOffset;
                 delegate.decodeSlotReserved = decodeSlotReserved;
+                delegate.onDecodeUpgrade(traceId);
                 delegate.decodeNetworkIfNecessary(traceId);
 
                 this.delegateNetwork = delegate::onNetwork;
@@ -2187,6 +2326,40 @@ public final class HttpServerFactory implements HttpStreamFactory
             assert exchange == null;
         }
 
+        private DirectBuffer onDecodeHttp2Upgrade(
+            long traceId,
+            long authorization,
+            HttpBeginExFW beginEx,
+            DirectBuffer http2Settings,
+            int contentLength)
+        {
+            DirectBuffer error = null;
+
+            final Http2Server http2Server = new Http2Server(this);
+            if (!http2Server.onDecodeUpgradeSettings(http2Settings))
+            {
+                error = ERROR_400_BAD_REQUEST;
+            }
+            else
+            {
+                final Map<String, String> headers = new LinkedHashMap<>();
+                beginEx.headers().forEach(h -> headers.put(h.name().asString(), h.value().asString()));
+
+                doNetworkData(traceId, authorization, 0L, SWITCHING_PROTOCOLS_H2C.capacity() + replyPad,
+                    SWITCHING_PROTOCOLS_H2C, 0, SWITCHING_PROTOCOLS_H2C.capacity());
+
+                http2Server.authorization = authorization;
+                http2Server.upgradeHeaders = headers;
+                http2Server.decodableDataBytes = contentLength;
+
+                this.delegate = http2Server;
+                this.decoder = decodeDelegated;
+                signaler.signalNow(originId, routedId, replyId, traceId, DELEGATE_SIGNAL, 0);
+            }
+
+            return error;
+        }
+
         private void onDecodeBodyError(
             long traceId,
             long authorization,
@@ -3305,6 +3478,63 @@ public final class HttpServerFactory implements HttpStreamFactory
         return progress;
     }
 
+    private int decodeHttp2UpgradePreface(
+        Http2Server server,
+        long traceId,
+        long authorization,
+        long budgetId,
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        if (offset < limit)
+        {
+            // connection preface is optional after upgrade, frame length cannot start with 'P'
+            server.decoder = buffer.getByte(offset) == HTTP2_PRI_LINE_BYTES[0]
+                ? decodeHttp2Preface
+                : decodeHttp2FrameType;
+        }
+
+        return offset;
+    }
+
+    private int decodeHttp2UpgradeContent(
+        Http2Server server,
+        long traceId,
+        long authorization,
+        long budgetId,
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        int progress = offset;
+
+        final int length = Math.min(limit - progress, server.decodableDataBytes);
+
+        if (length > 0)
+        {
+            payloadRO.wrap(buffer, progress, length);
+            final int deferred = server.decodableDataBytes - length;
+
+            final int decodedPayload = server.onDecodeData(
+                traceId,
+                authorization,
+                UPGRADE_STREAM_ID,
+                Http2Flags.END_STREAM,
+                deferred,
+                payloadRO);
+            server.decodableDataBytes -= decodedPayload;
+            progress += decodedPayload;
+        }
+
+        if (server.decodableDataBytes == 0)
+        {
+            server.decoder = decodeHttp2UpgradePreface;
+        }
+
+        return progress;
+    }
+
     private int decodeHttp2FrameType(
         Http2Server server,
         long traceId,
@@ -3910,6 +4140,9 @@ public final class HttpServerFactory implements HttpStreamFactory
         private byte decodedFlags;
         private int decodableDataBytes;
 
+        private Map<String, String> upgradeHeaders;
+        private boolean upgraded;
+
         private Http2Server(
             HttpBindingConfig binding,
             MessageConsumer network,
@@ -4683,7 +4916,42 @@ public final class HttpServerFactory implements HttpStreamFactory
             long authorization,
             Http2PrefaceFW http2Preface)
         {
-            doEncodeSettings(traceId, authorization);
+            if (!upgraded)
+            {
+                doEncodeSettings(traceId, authorization);
+            }
+        }
+
+        private boolean onDecodeUpgradeSettings(
+            DirectBuffer value)
+        {
+            final Http2SettingsFW http2Settings = decodeHttp2Settings(value);
+            if (http2Settings != null)
+            {
+                http2Settings.forEach(this::onDecodeSetting);
+            }
+
+            return http2Settings != null && remoteSettings.error() == Http2ErrorCode.NO_ERROR;
+        }
+
+        private void onDecodeUpgrade(
+            long traceId)
+        {
+            final Map<String, String> headers = upgradeHeaders;
+            if (headers != null)
+            {
+                upgradeHeaders = null;
+                upgraded = true;
+
+                doEncodeSettings(traceId, authorization);
+                doEncodeSettingsAck(traceId, authorization);
+
+                final int contentLength = decodableDataBytes;
+                maxClientStreamId = UPGRADE_STREAM_ID;
+                onDecodeRequest(traceId, authorization, UPGRADE_STREAM_ID, headers, contentLength, contentLength == 0);
+
+                decoder = contentLength != 0 ? decodeHttp2UpgradeContent : decodeHttp2UpgradePreface;
+            }
         }
 
         private void onDecodeSettings(
@@ -4959,107 +5227,117 @@ public final class HttpServerFactory implements HttpStreamFactory
             }
             else
             {
-                final Map<String, String> headers = headersDecoder.headers;
-                event.requestAccepted(traceId, routedId, guard, authorization, headers);
-                if (isCorsPreflightRequest(headers))
+                onDecodeRequest(traceId, authorization, streamId, headersDecoder.headers, headersDecoder.contentLength,
+                    endRequest);
+            }
+        }
+
+        private void onDecodeRequest(
+            long traceId,
+            long authorization,
+            int streamId,
+            Map<String, String> headers,
+            long contentLength,
+            boolean endRequest)
+        {
+            event.requestAccepted(traceId, routedId, guard, authorization, headers);
+            if (isCorsPreflightRequest(headers))
+            {
+                if (!endRequest)
                 {
-                    if (!endRequest)
-                    {
-                        doEncodeHeaders(traceId, authorization, streamId, headers400, true);
-                    }
-                    else
-                    {
-                        onDecodeCorsPreflight(traceId, authorization, streamId, headers);
-                    }
+                    doEncodeHeaders(traceId, authorization, streamId, headers400, true);
                 }
-                else if (!isCorsRequestAllowed(binding, headers))
+                else
                 {
-                    doEncodeHeaders(traceId, authorization, streamId, headers403, true);
+                    onDecodeCorsPreflight(traceId, authorization, streamId, headers);
                 }
-                else
+            }
+            else if (!isCorsRequestAllowed(binding, headers))
+            {
+                doEncodeHeaders(traceId, authorization, streamId, headers403, true);
+            }
+            else
+            {
+                final String authority = headers.get(HEADER_NAME_AUTHORITY);
+                if (authority != null && authority.indexOf(':') == -1)
                 {
-                    final String authority = headers.get(HEADER_NAME_AUTHORITY);
-                    if (authority != null && authority.indexOf(':') == -1)
+                    String scheme = headers.get(HEADER_NAME_SCHEME);
+                    String defaultPort = "https".equals(scheme) ? ":443" : ":80";
+                    headers.put(HEADER_NAME_AUTHORITY, authority + defaultPort);
+                }
+
+                if (CHALLENGE_RESPONSE_METHOD.equals(headers.get(HEADER_NAME_METHOD)) &&
+                    CHALLENGE_RESPONSE_CONTENT_TYPE.equals(headers.get(HEADER_NAME_CONTENT_TYPE)) &&
+                    endRequest)
+                {
+                    final String credentialsMatch = credentials.apply(headers::get);
+                    if (credentialsMatch != null)
                     {
-                        String scheme = headers.get(HEADER_NAME_SCHEME);
-                        String defaultPort = "https".equals(scheme) ? ":443" : ":80";
-                        headers.put(HEADER_NAME_AUTHORITY, authority + defaultPort);
+                        guard.reauthorize(traceId, routedId, initialId, credentialsMatch);
                     }
+                    doEncodeHeaders(traceId, authorization, streamId, headers204, true);
+                }
+                else
+                {
+                    long exchangeAuth = authorization;
+                    String credentialsMatch = null;
 
-                    if (CHALLENGE_RESPONSE_METHOD.equals(headers.get(HEADER_NAME_METHOD)) &&
-                        CHALLENGE_RESPONSE_CONTENT_TYPE.equals(headers.get(HEADER_NAME_CONTENT_TYPE)) &&
-                        endRequest)
+                    if (guard != null)
                     {
-                        final String credentialsMatch = credentials.apply(headers::get);
+                        credentialsMatch = credentials.apply(headers::get);
                         if (credentialsMatch != null)
                         {
-                            guard.reauthorize(traceId, routedId, initialId, credentialsMatch);
+                            exchangeAuth = guard.reauthorize(traceId, routedId, initialId, credentialsMatch);
                         }
-                        doEncodeHeaders(traceId, authorization, streamId, headers204, true);
+                    }
+
+                    final HttpRouteConfig route = binding.resolve(exchangeAuth, headers::get);
+                    if (route == null)
+                    {
+                        Array32FW<HttpHeaderFW> headers40x =
+                            guard != null && exchangeAuth == NOT_AUTHORIZED
+                                ? credentialsMatch != null ? headers403 : headers401
+                                : headers404;
+                        doEncodeHeaders(traceId, authorization, streamId, headers40x, true);
                     }
                     else
                     {
-                        long exchangeAuth = authorization;
-                        String credentialsMatch = null;
+                        final long originId = this.routedId;
+                        final long routedId = route.id;
 
-                        if (guard != null)
-                        {
-                            credentialsMatch = credentials.apply(headers::get);
-                            if (credentialsMatch != null)
-                            {
-                                exchangeAuth = guard.reauthorize(traceId, routedId, initialId, credentialsMatch);
-                            }
-                        }
+                        HttpPolicyConfig policy = binding.access().effectivePolicy(headers);
+                        final String origin = policy == CROSS_ORIGIN ? headers.get(HEADER_NAME_ORIGIN) : null;
 
-                        final HttpRouteConfig route = binding.resolve(exchangeAuth, headers::get);
-                        if (route == null)
+                        Map<String8FW, String16FW> overrides = route.overrides();
+                        if (overrides != null)
                         {
-                            Array32FW<HttpHeaderFW> headers40x =
-                                guard != null && exchangeAuth == NOT_AUTHORIZED
-                                    ? credentialsMatch != null ? headers403 : headers401
-                                    : headers404;
-                            doEncodeHeaders(traceId, authorization, streamId, headers40x, true);
+                            overrides.forEach((k, v) -> headers.put(k.asString(), v.asString()));
                         }
-                        else
-                        {
-                            final long originId = this.routedId;
-                            final long routedId = route.id;
-                            final long contentLength = headersDecoder.contentLength;
 
-                            HttpPolicyConfig policy = binding.access().effectivePolicy(headers);
-                            final String origin = policy == CROSS_ORIGIN ? headers.get(HEADER_NAME_ORIGIN) : null;
+                        final HttpBeginExFW beginEx = beginExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                                .compositeId(route.compositeId())
+                                .typeId(httpTypeId)
+                                .headers(hs -> headers.forEach((n, v) -> hs.item(h -> h.name(n).value(v))))
+                                .build();
 
-                            Map<String8FW, String16FW> overrides = route.overrides();
-                            if (overrides != null)
-                            {
-                                overrides.forEach((k, v) -> headers.put(k.asString(), v.asString()));
-                            }
+                        HttpRequestType requestType = binding.resolveRequestType(beginEx);
 
-                            final HttpBeginExFW beginEx = beginExRW.wrap(extBuffer, 0, extBuffer.capacity())
-                                    .compositeId(route.compositeId())
-                                    .typeId(httpTypeId)
-                                    .headers(hs -> headers.forEach((n, v) -> hs.item(h -> h.name(n).value(v))))
-                                    .build();
-
-                            HttpRequestType requestType = binding.resolveRequestType(beginEx);
+                        final Http2Exchange exchange = new Http2Exchange(originId, routedId, NO_REQUEST_ID, streamId,
+                            exchangeAuth, traceId, policy, origin, contentLength, requestType);
 
-                            final Http2Exchange exchange = new Http2Exchange(originId, routedId, NO_REQUEST_ID, streamId,
-                                exchangeAuth, traceId, policy, origin, contentLength, requestType);
-
-                            boolean headersValid = exchange.validateHeaders(beginEx);
-                            if (headersValid)
-                            {
-                                exchange.doRequestBegin(traceId, beginEx);
-                                if (endRequest)
-                                {
-                                    exchange.doRequestEnd(traceId, EMPTY_OCTETS);
-                                }
-                            }
-                            else
+                        boolean headersValid = exchange.validateHeaders(beginEx);
+                        if (headersValid)
+                        {
+                            exchange.doRequestBegin(traceId, beginEx);
+                            if (endRequest)
                             {
-                                doEncodeHeaders(traceId, authorization, streamId, headers400, true);
+                                exchange.doRequestEnd(traceId, EMPTY_OCTETS);
                             }
                         }
+                        else
+                        {
+                            doEncodeHeaders(traceId, authorization, streamId, headers400, true);
+                        }
                     }
                 }
             }
@@ -6785,12 +7063,8 @@ public final class HttpServerFactory implements HttpStreamFactory
                 }
                 if (hpackLiteral.literalType() == INCREMENTAL_INDEXING)
                 {
-                    // make a copy for name and value as they go into dynamic table (outlives current frame)
-                    MutableDirectBuffer nameCopy = new UnsafeBuffer(new byte[name.capacity()]);
-                    nameCopy.putBytes(0, name, 0, name.capacity());
-                    MutableDirectBuffer valueCopy = new UnsafeBuffer(new byte[value.capacity()]);
-                    valueCopy.putBytes(0, value, 0, value.capacity());
-                    context.add(nameCopy, valueCopy);
+                    // name and value are copied into dynamic table (outlives current frame)
+                    context.add(name, value);
                 }
                 break;
             default:
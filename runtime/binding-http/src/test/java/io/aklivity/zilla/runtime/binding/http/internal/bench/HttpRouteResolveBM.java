@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.bench;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.binding.http.config.HttpConditionConfig;
+import io.aklivity.zilla.runtime.binding.http.internal.config.HttpRouteConfig;
+import io.aklivity.zilla.runtime.binding.http.internal.config.HttpRouteIndex;
+import io.aklivity.zilla.runtime.engine.config.RouteConfig;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 10, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class HttpRouteResolveBM
+{
+    private static final String[] METHODS = { "GET", "POST", "PUT", "DELETE" };
+
+    @Param({ "10", "100", "500" })
+    public int routeCount;
+
+    private List<HttpRouteConfig> routes;
+    private HttpRouteIndex index;
+    private Map<String, String> headers;
+
+    @Setup
+    public void setup()
+    {
+        routes = new ArrayList<>(routeCount);
+        for (int i = 0; i < routeCount; i++)
+        {
+            String path = i % 2 == 0 ? "/api/v1/resources%d" : "/api/v1/resources%d/{id}";
+
+            RouteConfig route = RouteConfig.builder()
+                .when(HttpConditionConfig::builder)
+                    .header(":authority", "localhost:8080")
+                    .header(":method", METHODS[i % METHODS.length])
+                    .header(":path", path.formatted(i / 2))
+                    .build()
+                .build();
+            route.id = i;
+            route.authorized = a -> true;
+
+            routes.add(new HttpRouteConfig(route, null));
+        }
+
+        index = new HttpRouteIndex(routes);
+
+        int last = routeCount - 1;
+        headers = Map.of(
+            ":scheme", "http",
+            ":authority", "localhost:8080",
+            ":method", METHODS[last % METHODS.length],
+            ":path", "/api/v1/resources%d/42".formatted(last / 2));
+    }
+
+    @Benchmark
+    public HttpRouteConfig linear() throws Exception
+    {
+        return routes.stream()
+            .filter(r -> r.authorized(0L) && r.matches(headers::get))
+            .findFirst()
+            .orElse(null);
+    }
+
+    @Benchmark
+    public HttpRouteConfig indexed() throws Exception
+    {
+        return index.resolve(0L, headers::get);
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(HttpRouteResolveBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.codec;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class Http1HeaderLineFWTest
+{
+    private final Http1HeaderLineFW headerLineRO = new Http1HeaderLineFW();
+
+    @Test
+    public void shouldDecodeHeaderLineWithLowercaseName()
+    {
+        DirectBuffer buffer = new UnsafeBuffer("Content-Type: \ttext/plain \r\nHost: localhost\r\n".getBytes(US_ASCII));
+
+        Http1HeaderLineFW headerLine = headerLineRO.tryWrap(buffer, 0, buffer.capacity());
+
+        assertEquals(0, headerLine.offset());
+        assertEquals(28, headerLine.limit());
+        assertEquals("content-type", string(headerLine.name()));
+        assertEquals("text/plain ", string(headerLine.value()));
+    }
+
+    @Test
+    public void shouldDecodeHeaderLineWithEmptyValue()
+    {
+        Http1HeaderLineFW headerLine = wrap("X-Empty:\r\n");
+
+        assertEquals("x-empty", string(headerLine.name()));
+        assertEquals("", string(headerLine.value()));
+    }
+
+    @Test
+    public void shouldNotDecodeMalformedHeaderLine()
+    {
+        assertNull(wrap(": value\r\n"));
+        assertNull(wrap("Bad Name: value\r\n"));
+        assertNull(wrap(" folded: value\r\n"));
+        assertNull(wrap("Name value\r\n"));
+        assertNull(wrap("Name: value\n"));
+        assertNull(wrap("Name: val\rue\r\n"));
+        assertNull(wrap("Name: value"));
+        assertNull(wrap("x".repeat(256) + ": value\r\n"));
+    }
+
+    private Http1HeaderLineFW wrap(
+        String headerLine)
+    {
+        DirectBuffer buffer = new UnsafeBuffer(headerLine.getBytes(US_ASCII));
+        return headerLineRO.tryWrap(buffer, 0, buffer.capacity());
+    }
+
+    private static String string(
+        DirectBuffer buffer)
+    {
+        return buffer.getStringWithoutLengthAscii(0, buffer.capacity());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.codec;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class Http1RequestLineFWTest
+{
+    private final Http1RequestLineFW requestLineRO = new Http1RequestLineFW();
+
+    @Test
+    public void shouldDecodeRequestLine()
+    {
+        DirectBuffer buffer = new UnsafeBuffer("xGET /path?query=1 HTTP/1.1\r\nHost: localhost\r\n".getBytes(US_ASCII));
+
+        Http1RequestLineFW requestLine = requestLineRO.tryWrap(buffer, 1, buffer.capacity());
+
+        assertEquals(1, requestLine.offset());
+        assertEquals(29, requestLine.limit());
+        assertEquals("GET", string(requestLine.method()));
+        assertEquals("/path?query=1", string(requestLine.target()));
+        assertEquals(1, requestLine.majorVersion());
+        assertEquals(1, requestLine.minorVersion());
+        assertTrue(requestLine.originForm());
+    }
+
+    @Test
+    public void shouldDecodeRequestLineWithAbsoluteTarget()
+    {
+        DirectBuffer buffer = new UnsafeBuffer("GET http://localhost:8080/ HTTP/1.0\r\n".getBytes(US_ASCII));
+
+        Http1RequestLineFW requestLine = requestLineRO.tryWrap(buffer, 0, buffer.capacity());
+
+        assertEquals("http://localhost:8080/", string(requestLine.target()));
+        assertEquals(0, requestLine.minorVersion());
+        assertFalse(requestLine.originForm());
+    }
+
+    @Test
+    public void shouldNotUseOriginFormForUnsafeTargets()
+    {
+        assertFalse(wrap("GET //authority/path HTTP/1.1\r\n").originForm());
+        assertFalse(wrap("GET /path#fragment HTTP/1.1\r\n").originForm());
+        assertFalse(wrap("GET /path%2 HTTP/1.1\r\n").originForm());
+        assertFalse(wrap("GET /path{} HTTP/1.1\r\n").originForm());
+        assertTrue(wrap("GET /path%2F HTTP/1.1\r\n").originForm());
+    }
+
+    @Test
+    public void shouldDecodeUnsupportedVersion()
+    {
+        Http1RequestLineFW requestLine = wrap("GET / HTTP/2.0\r\n");
+
+        assertEquals(2, requestLine.majorVersion());
+    }
+
+    @Test
+    public void shouldNotDecodeMalformedRequestLine()
+    {
+        assertNull(wrap("get / HTTP/1.1\r\n"));
+        assertNull(wrap("GET HTTP/1.1\r\n"));
+        assertNull(wrap("GET / HTTP/1.10\r\n"));
+        assertNull(wrap("GET / HTTP/1.1 \r\n"));
+        assertNull(wrap("GET / HTTP/1.1\n"));
+        assertNull(wrap("GET / HTTP/1.1"));
+    }
+
+    private Http1RequestLineFW wrap(
+        String requestLine)
+    {
+        DirectBuffer buffer = new UnsafeBuffer(requestLine.getBytes(US_ASCII));
+        return requestLineRO.tryWrap(buffer, 0, buffer.capacity());
+    }
+
+    private static String string(
+        DirectBuffer buffer)
+    {
+        return buffer.getStringWithoutLengthAscii(0, buffer.capacity());
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.binding.http.config.HttpConditionConfig;
+import io.aklivity.zilla.runtime.binding.http.config.HttpConditionConfigBuilder;
+import io.aklivity.zilla.runtime.engine.config.RouteConfig;
+import io.aklivity.zilla.runtime.engine.config.RouteConfigBuilder;
+
+public class HttpRouteIndexTest
+{
+    @Test
+    public void shouldResolveExactPath()
+    {
+        List<HttpRouteConfig> routes = List.of(
+            route(1L, Map.of(":path", "/items")),
+            route(2L, Map.of(":path", "/items/1")));
+
+        HttpRouteIndex index = new HttpRouteIndex(routes);
+
+        assertSame(routes.get(0), index.resolve(0L, Map.of(":path", "/items")::get));
+        assertSame(routes.get(0), index.resolve(0L, Map.of(":path", "/items?limit=10")::get));
+        assertSame(routes.get(1), index.resolve(0L, Map.of(":path", "/items/1")::get));
+        assertNull(index.resolve(0L, Map.of(":path", "/items/2")::get));
+        assertNull(index.resolve(0L, Map.of(":path", "/item")::get));
+    }
+
+    @Test
+    public void shouldResolveWildcardPath()
+    {
+        List<HttpRouteConfig> routes = List.of(
+            route(1L, Map.of(":path", "/items/{id}/details")),
+            route(2L, Map.of(":path", "/items/*")),
+            route(3L, Map.of(":path", "*")));
+
+        HttpRouteIndex index = new HttpRouteIndex(routes);
+
+        assertSame(routes.get(0), index.resolve(0L, Map.of(":path", "/items/1/details")::get));
+        assertSame(routes.get(1), index.resolve(0L, Map.of(":path", "/items/1")::get));
+        assertSame(routes.get(2), index.resolve(0L, Map.of(":path", "/other")::get));
+    }
+
+    @Test
+    public void shouldResolveMethodAndAuthority()
+    {
+        List<HttpRouteConfig> routes = List.of(
+            route(1L, Map.of(":method", "GET", ":authority", "localhost:8080", ":path", "/items")),
+            route(2L, Map.of(":method", "POST", ":path", "/items")),
+            route(3L, Map.of(":authority", "*.example.com")));
+
+        HttpRouteIndex index = new HttpRouteIndex(routes);
+
+        assertSame(routes.get(0), index.resolve(0L,
+            Map.of(":method", "GET", ":authority", "localhost:8080", ":path", "/items")::get));
+        assertSame(routes.get(1), index.resolve(0L,
+            Map.of(":method", "POST", ":authority", "localhost:8080", ":path", "/items")::get));
+        assertSame(routes.get(2), index.resolve(0L,
+            Map.of(":method", "GET", ":authority", "api.example.com", ":path", "/items")::get));
+        assertNull(index.resolve(0L,
+            Map.of(":method", "PUT", ":authority", "localhost:8080", ":path", "/items")::get));
+    }
+
+    @Test
+    public void shouldResolveFirstMatchInRouteOrder()
+    {
+        List<HttpRouteConfig> routes = List.of(
+            route(1L, Map.of(":path", "/items/*")),
+            route(2L, Map.of(":path", "/items/1")),
+            route(3L));
+
+        HttpRouteIndex index = new HttpRouteIndex(routes);
+
+        assertSame(routes.get(0), index.resolve(0L, Map.of(":path", "/items/1")::get));
+        assertSame(routes.get(2), index.resolve(0L, Map.of(":path", "/other")::get));
+    }
+
+    @Test
+    public void shouldResolveAnyCondition()
+    {
+        List<HttpRouteConfig> routes = List.of(
+            route(1L, Map.of(":path", "/items"), Map.of(":path", "/things/*")));
+
+        HttpRouteIndex index = new HttpRouteIndex(routes);
+
+        assertSame(routes.get(0), index.resolve(0L, Map.of(":path", "/things/1")::get));
+    }
+
+    @Test
+    public void shouldSkipUnauthorizedRoute()
+    {
+        HttpRouteConfig guarded = route(1L, a -> a == 1L, Map.of(":path", "/items"));
+        HttpRouteConfig fallback = route(2L, Map.of(":path", "/items"));
+        List<HttpRouteConfig> routes = List.of(guarded, fallback);
+
+        HttpRouteIndex index = new HttpRouteIndex(routes);
+
+        assertSame(guarded, index.resolve(1L, Map.of(":path", "/items")::get));
+        assertSame(fallback, index.resolve(0L, Map.of(":path", "/items")::get));
+    }
+
+    @Test
+    public void shouldResolveSameAsLinearScan()
+    {
+        List<HttpRouteConfig> routes = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+        {
+            routes.add(route(i, Map.of(":method", i % 2 == 0 ? "GET" : "POST", ":path", "/api/v1/items" + i)));
+            routes.add(route(i, Map.of(":path", "/api/v1/items" + i + "/{id}")));
+        }
+        routes.add(route(200L, Map.of(":path", "/api/v?/*")));
+
+        HttpRouteIndex index = new HttpRouteIndex(routes);
+
+        for (String method : List.of("GET", "POST"))
+        {
+            for (int i = 0; i < 110; i++)
+            {
+                for (String path : List.of("/api/v1/items" + i, "/api/v1/items" + i + "/42", "/api/v2/items" + i))
+                {
+                    Map<String, String> headers = Map.of(":method", method, ":path", path);
+                    HttpRouteConfig expected = routes.stream()
+                        .filter(r -> r.authorized(0L) && r.matches(headers::get))
+                        .findFirst()
+                        .orElse(null);
+
+                    assertEquals(path, expected, index.resolve(0L, headers::get));
+                }
+            }
+        }
+    }
+
+    @SafeVarargs
+    private static HttpRouteConfig route(
+        long id,
+        Map<String, String>... conditions)
+    {
+        return route(id, a -> true, conditions);
+    }
+
+    @SafeVarargs
+    private static HttpRouteConfig route(
+        long id,
+        LongPredicate authorized,
+        Map<String, String>... conditions)
+    {
+        RouteConfigBuilder<RouteConfig> builder = RouteConfig.builder();
+        for (Map<String, String> condition : conditions)
+        {
+            HttpConditionConfigBuilder<HttpConditionConfig> when = HttpConditionConfig.builder();
+            condition.forEach(when::header);
+            builder.when(when.build());
+        }
+
+        RouteConfig route = builder.build();
+        route.id = id;
+        route.authorized = authorized;
+        return new HttpRouteConfig(route, null);
+    }
+}
@@ -15,8 +15,16 @@
  */
 package io.aklivity.zilla.runtime.binding.http.internal.hpack;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
 
 public class HpackContextTest
@@ -169,4 +177,108 @@ public class HpackContextTest
 
     }
 
+    @Test
+    public void encodeDynamicNewestDuplicate()
+    {
+        HpackContext context = new HpackContext(150, true);
+        context.add("name", "value1");
+        context.add("name", "value2");
+        assertEquals(62, context.index("name"));
+        assertEquals(62, context.index("name", "value2"));
+        assertEquals(63, context.index("name", "value1"));
+
+        context.add("other", "value3");
+        context.add("other", "value4");
+        assertEquals(64, context.index("name"));
+        assertEquals(-1, context.index("name", "value1"));
+        assertEquals(64, context.index("name", "value2"));
+    }
+
+    @Test
+    public void updateSize()
+    {
+        HpackContext context = new HpackContext(100, true);
+        context.add("name1", "value1");
+        context.add("name2", "value2");
+        assertEquals(2, context.tableEntries);
+
+        context.updateSize(50);
+        assertEquals(1, context.tableEntries);
+        assertEquals(43, context.tableSize);
+        assertEquals(62, context.index("name2", "value2"));
+
+        context.updateSize(4096);
+        context.add("name3", "value3");
+        assertEquals(2, context.tableEntries);
+        assertEquals(62, context.index("name3", "value3"));
+        assertEquals(63, context.index("name2", "value2"));
+        assertEquals("name2", context.name(63));
+        assertEquals("value2", context.value(63));
+    }
+
+    @Test
+    public void addIndexedNameOfEvictedEntry()
+    {
+        HpackContext context = new HpackContext(64, false);
+        context.add("name1", "value1");
+
+        DirectBuffer name = context.nameBuffer(62);
+        context.add(name, new UnsafeBuffer("value22".getBytes(UTF_8)));
+
+        assertEquals(1, context.tableEntries);
+        assertEquals("name1", context.name(62));
+        assertEquals("value22", context.value(62));
+    }
+
+    @Test
+    public void matchReferenceTable()
+    {
+        final Random random = new Random(4096);
+        final HpackContext context = new HpackContext(512, true);
+        final List<String[]> table = new ArrayList<>();
+        int tableSize = 0;
+
+        for (int i = 0; i < 10_000; i++)
+        {
+            final String name = "name" + random.nextInt(20);
+            final String value = "v".repeat(random.nextInt(100));
+            final int size = name.length() + value.length() + 32;
+
+            context.add(name, value);
+
+            table.add(0, new String[] {name, value});
+            tableSize += size;
+            while (tableSize > 512)
+            {
+                final String[] evicted = table.remove(table.size() - 1);
+                tableSize -= evicted[0].length() + evicted[1].length() + 32;
+            }
+
+            assertEquals(table.size(), context.tableEntries);
+            assertEquals(tableSize, context.tableSize);
+            for (int j = 0; j < table.size(); j++)
+            {
+                final String[] header = table.get(j);
+                assertEquals(header[0], context.name(62 + j));
+                assertEquals(header[1], context.value(62 + j));
+                assertEquals(62 + firstIndexOf(table, header[0], null), context.index(header[0]));
+                assertEquals(62 + firstIndexOf(table, header[0], header[1]), context.index(header[0], header[1]));
+            }
+            assertEquals(-1, context.index("name20"));
+            assertFalse(context.valid(62 + table.size()));
+        }
+    }
+
+    private static int firstIndexOf(
+        List<String[]> table,
+        String name,
+        String value)
+    {
+        int index = 0;
+        while (!table.get(index)[0].equals(name) || value != null && !table.get(index)[1].equals(value))
+        {
+            index++;
+        }
+        return index;
+    }
 }
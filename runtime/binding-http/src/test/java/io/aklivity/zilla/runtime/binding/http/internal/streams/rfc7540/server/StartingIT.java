@@ -19,7 +19,6 @@ import static io.aklivity.zilla.runtime.binding.http.internal.HttpConfiguration.
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.rules.RuleChain.outerRule;
 
-import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.DisableOnDebug;
@@ -89,7 +88,6 @@ public class StartingIT
         k3po.finish();
     }
 
-    @Ignore("TODO")
     @Test
     @Configuration("server.yaml")
     @Specification({
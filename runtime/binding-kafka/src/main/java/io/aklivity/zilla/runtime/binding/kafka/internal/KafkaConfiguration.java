@@ -31,6 +31,7 @@ import java.util.function.Supplier;
 import org.agrona.LangUtil;
 
 import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCleanupPolicy;
+import io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaCompressionType;
 import io.aklivity.zilla.runtime.engine.Configuration;
 
 public class KafkaConfiguration extends Configuration
@@ -48,10 +49,12 @@ public class KafkaConfiguration extends Configuration
     public static final IntPropertyDef KAFKA_CLIENT_FETCH_MAX_WAIT_MILLIS;
     public static final IntPropertyDef KAFKA_CLIENT_FETCH_MAX_BYTES;
     public static final IntPropertyDef KAFKA_CLIENT_FETCH_PARTITION_MAX_BYTES;
+    public static final IntPropertyDef KAFKA_CLIENT_FETCH_DECOMPRESS_MAX_BYTES;
     public static final IntPropertyDef KAFKA_CLIENT_PRODUCE_MAX_REQUEST_MILLIS;
     public static final IntPropertyDef KAFKA_CLIENT_PRODUCE_MAX_RESPONSE_MILLIS;
     public static final IntPropertyDef KAFKA_CLIENT_PRODUCE_MAX_BYTES;
     public static final IntPropertyDef KAFKA_CLIENT_PRODUCE_RECORD_FRAMING_SIZE;
+    public static final PropertyDef<KafkaCompressionType> KAFKA_CLIENT_PRODUCE_COMPRESSION;
     public static final PropertyDef<Path> KAFKA_CACHE_DIRECTORY;
     public static final LongPropertyDef KAFKA_CACHE_PRODUCE_CAPACITY;
     public static final PropertyDef<KafkaCacheCleanupPolicy> KAFKA_CACHE_CLEANUP_POLICY;
@@ -66,6 +69,7 @@ public class KafkaConfiguration extends Configuration
     public static final LongPropertyDef KAFKA_CACHE_SEGMENT_MILLIS;
     public static final IntPropertyDef KAFKA_CACHE_SEGMENT_BYTES;
     public static final IntPropertyDef KAFKA_CACHE_SEGMENT_INDEX_BYTES;
+    public static final BooleanPropertyDef KAFKA_CACHE_DURABLE;
     public static final BooleanPropertyDef KAFKA_CACHE_SERVER_BOOTSTRAP;
     public static final IntPropertyDef KAFKA_CACHE_CLIENT_RECONNECT_DELAY;
     public static final IntPropertyDef KAFKA_CACHE_CLIENT_CLEANUP_DELAY;
@@ -96,10 +100,13 @@ public class KafkaConfiguration extends Configuration
         KAFKA_CLIENT_FETCH_MAX_WAIT_MILLIS = config.property("client.fetch.max.wait.millis", 1 * 60 * 1000);
         KAFKA_CLIENT_FETCH_MAX_BYTES = config.property("client.fetch.max.bytes", 50 * 1024 * 1024);
         KAFKA_CLIENT_FETCH_PARTITION_MAX_BYTES = config.property("client.fetch.partition.max.bytes", 50 * 1024 * 1024);
+        KAFKA_CLIENT_FETCH_DECOMPRESS_MAX_BYTES = config.property("client.fetch.decompress.max.bytes", 2 * 1024 * 1024);
         KAFKA_CLIENT_PRODUCE_MAX_REQUEST_MILLIS = config.property("client.produce.max.request.millis", 0);
         KAFKA_CLIENT_PRODUCE_MAX_RESPONSE_MILLIS = config.property("client.produce.max.response.millis", 120000);
         KAFKA_CLIENT_PRODUCE_MAX_BYTES = config.property("client.produce.max.bytes", Integer.MAX_VALUE);
         KAFKA_CLIENT_PRODUCE_RECORD_FRAMING_SIZE = config.property("client.produce.record.framing.size", 512);
+        KAFKA_CLIENT_PRODUCE_COMPRESSION = config.property(KafkaCompressionType.class, "client.produce.compression",
+                KafkaConfiguration::compressionType, "none");
         KAFKA_CLIENT_SASL_SCRAM_NONCE = config.property(NonceSupplier.class, "client.sasl.scram.nonce",
             KafkaConfiguration::decodeNonceSupplier, KafkaConfiguration::defaultNonceSupplier);
         KAFKA_CLIENT_GROUP_REBALANCE_TIMEOUT = config.property(Duration.class, "client.group.rebalance.timeout",
@@ -130,6 +137,7 @@ public class KafkaConfiguration extends Configuration
         KAFKA_CACHE_SEGMENT_MILLIS = config.property("cache.segment.ms", 604800000L);
         KAFKA_CACHE_SEGMENT_BYTES = config.property("cache.segment.bytes", 0x40000000);
         KAFKA_CACHE_SEGMENT_INDEX_BYTES = config.property("cache.segment.index.bytes", 0xA00000);
+        KAFKA_CACHE_DURABLE = config.property("cache.durable", false);
         KAFKA_CACHE_CLIENT_TRAILERS_SIZE_MAX = config.property("cache.client.trailers.size.max", 256);
         KAFKA_CLIENT_CONNECTION_POOL = config.property("client.connection.pool", true);
         KAFKA_VERBOSE = config.property("verbose", KafkaConfiguration::supplyVerbose);
@@ -182,6 +190,11 @@ public class KafkaConfiguration extends Configuration
         return KAFKA_CLIENT_FETCH_PARTITION_MAX_BYTES.get(this);
     }
 
+    public int clientFetchDecompressMaxBytes()
+    {
+        return KAFKA_CLIENT_FETCH_DECOMPRESS_MAX_BYTES.getAsInt(this);
+    }
+
     public int clientProduceMaxRequestMillis()
     {
         return KAFKA_CLIENT_PRODUCE_MAX_REQUEST_MILLIS.getAsInt(this);
@@ -202,6 +215,11 @@ public class KafkaConfiguration extends Configuration
         return KAFKA_CLIENT_PRODUCE_RECORD_FRAMING_SIZE.getAsInt(this);
     }
 
+    public KafkaCompressionType clientProduceCompression()
+    {
+        return KAFKA_CLIENT_PRODUCE_COMPRESSION.get(this);
+    }
+
     public Path cacheDirectory()
     {
         return KAFKA_CACHE_DIRECTORY.get(this);
@@ -277,6 +295,11 @@ public class KafkaConfiguration extends Configuration
         return KAFKA_CACHE_SEGMENT_INDEX_BYTES.getAsInt(this);
     }
 
+    public boolean cacheDurable()
+    {
+        return KAFKA_CACHE_DURABLE.getAsBoolean(this);
+    }
+
     public boolean cacheServerBootstrap()
     {
         return KAFKA_CACHE_SERVER_BOOTSTRAP.getAsBoolean(this);
@@ -351,6 +374,13 @@ public class KafkaConfiguration extends Configuration
         return KafkaCacheCleanupPolicy.valueOf(cleanupPolicy.toUpperCase());
     }
 
+    private static KafkaCompressionType compressionType(
+        Configuration config,
+        String compressionType)
+    {
+        return KafkaCompressionType.valueOf(compressionType.toUpperCase());
+    }
+
     public Supplier<String> nonceSupplier()
     {
         return KAFKA_CLIENT_SASL_SCRAM_NONCE.get(this)::get;
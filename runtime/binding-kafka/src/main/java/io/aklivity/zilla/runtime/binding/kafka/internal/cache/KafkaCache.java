@@ -20,21 +20,16 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
-import org.agrona.BitUtil;
-
 import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration;
 
 public final class KafkaCache
 {
     private final AtomicLong produceCapacity = new AtomicLong(0L);
 
-    private static final long[] EMPTY_SORT_SPACE = new long[0];
-
     private final KafkaConfiguration config;
     private final String name;
     private final Path location;
     private final Map<String, KafkaCacheTopic> topicsByName;
-    private final ThreadLocal<long[]> sortSpaceRef;
 
     public KafkaCache(
         KafkaConfiguration config,
@@ -44,7 +39,6 @@ public final class KafkaCache
         this.name = name;
         this.location = config.cacheDirectory().resolve(name);
         this.topicsByName = new ConcurrentHashMap<>();
-        this.sortSpaceRef = ThreadLocal.withInitial(() -> EMPTY_SORT_SPACE);
     }
 
     public boolean hasAvailableProduceCapacity()
@@ -72,20 +66,6 @@ public final class KafkaCache
     private KafkaCacheTopic newTopic(
         String topic)
     {
-        return new KafkaCacheTopic(location, config, name, produceCapacity, topic, this::supplySortSpace);
-    }
-
-    private long[] supplySortSpace(
-        int lengthMin)
-    {
-        long[] sortSpace = sortSpaceRef.get();
-
-        if (sortSpace.length < lengthMin)
-        {
-            sortSpace = new long[BitUtil.findNextPositivePowerOfTwo(lengthMin)];
-            sortSpaceRef.set(sortSpace);
-        }
-
-        return sortSpace;
+        return new KafkaCacheTopic(location, config, name, produceCapacity, topic);
     }
 }
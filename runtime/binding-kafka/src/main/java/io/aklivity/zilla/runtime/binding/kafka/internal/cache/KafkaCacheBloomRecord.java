@@ -0,0 +1,114 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
+
+import static org.agrona.BitUtil.findNextPositivePowerOfTwo;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Split block Bloom filter over the 32-bit hashes of a frozen segment hash index.
+ * <p>
+ * Each hash selects one 256-bit block and sets one bit in each of its eight 32-bit words,
+ * so that a lookup touches a single cache line of the mapped filter file.
+ */
+public final class KafkaCacheBloomRecord
+{
+    public static final int SIZEOF_BLOOM_BLOCK = 8 * Integer.BYTES;
+
+    private static final int BITS_PER_HASH = 10;
+    private static final int BLOCKS_MAX = 1 << 25;
+    private static final long BLOCK_MIX = 0x9e3779b97f4a7c15L;
+    private static final int[] SALTS =
+    {
+        0x47b6137b, 0x44974d91, 0x8824ad5b, 0xa2b7289d,
+        0x705495c7, 0x2df1424b, 0x9efc4947, 0x5c6bfb31
+    };
+
+    public static int sizeofBloom(
+        int hashes)
+    {
+        int sizeof = 0;
+
+        if (hashes > 0)
+        {
+            final long bits = (long) hashes * BITS_PER_HASH;
+            final int blocks = (int) Math.min((bits + Byte.SIZE * SIZEOF_BLOOM_BLOCK - 1) / (Byte.SIZE * SIZEOF_BLOOM_BLOCK),
+                BLOCKS_MAX);
+            sizeof = findNextPositivePowerOfTwo(blocks) * SIZEOF_BLOOM_BLOCK;
+        }
+
+        return sizeof;
+    }
+
+    public static boolean validBloom(
+        int capacity)
+    {
+        final int blocks = capacity / SIZEOF_BLOOM_BLOCK;
+        return capacity % SIZEOF_BLOOM_BLOCK == 0 && Integer.bitCount(blocks) <= 1;
+    }
+
+    public static void addBloom(
+        MutableDirectBuffer bloom,
+        int hash)
+    {
+        final long mixed = (hash & 0xFFFF_FFFFL) * BLOCK_MIX;
+        final int blockAt = blockAt(bloom.capacity(), mixed);
+        final int key = (int) mixed;
+
+        for (int i = 0; i < SALTS.length; i++)
+        {
+            final int wordAt = blockAt + i * Integer.BYTES;
+            bloom.putInt(wordAt, bloom.getInt(wordAt) | 1 << ((key * SALTS[i]) >>> 27));
+        }
+    }
+
+    public static boolean mightContainBloom(
+        DirectBuffer bloom,
+        int hash)
+    {
+        boolean contains = bloom.capacity() != 0;
+
+        if (contains)
+        {
+            final long mixed = (hash & 0xFFFF_FFFFL) * BLOCK_MIX;
+            final int blockAt = blockAt(bloom.capacity(), mixed);
+            final int key = (int) mixed;
+
+            for (int i = 0; contains && i < SALTS.length; i++)
+            {
+                final int mask = 1 << ((key * SALTS[i]) >>> 27);
+                contains = (bloom.getInt(blockAt + i * Integer.BYTES) & mask) != 0;
+            }
+        }
+
+        return contains;
+    }
+
+    private static int blockAt(
+        int capacity,
+        long mixed)
+    {
+        final int blocks = capacity / SIZEOF_BLOOM_BLOCK;
+        return ((int) (mixed >>> 32) & (blocks - 1)) * SIZEOF_BLOOM_BLOCK;
+    }
+
+    private KafkaCacheBloomRecord()
+    {
+        // no instances
+    }
+}
@@ -85,6 +85,11 @@ public final class KafkaCacheCursorFactory
         return new KafkaCacheCursor(condition, deltaType);
     }
 
+    public KafkaCacheCursor newCursor()
+    {
+        return new KafkaCacheCursor(new KafkaFilterCondition.None(), KafkaDeltaType.NONE);
+    }
+
     public final class KafkaCacheCursor implements AutoCloseable
     {
         private final KafkaDeltaType deltaType;
@@ -421,6 +426,12 @@ public final class KafkaCacheCursorFactory
         public abstract long test(
             KafkaCacheEntryFW cacheEntry);
 
+        boolean index(
+            KafkaCacheFilterIndex.Filter filter)
+        {
+            return false;
+        }
+
         private static final class None extends KafkaFilterCondition
         {
             private KafkaCacheIndexFile indexFile;
@@ -507,11 +518,11 @@ public final class KafkaCacheCursorFactory
             {
                 int positionNext = NEXT_SEGMENT_VALUE;
 
-                if (segment != null)
-                {
-                    final KafkaCacheIndexFile hashFile = segment.hashFile();
-                    assert hashFile != null;
+                final KafkaCacheIndexFile hashFile = segment != null ? segment.hashFile() : null;
+                assert segment == null || hashFile != null;
 
+                if (hashFile != null && hashFile.mightContain(hash))
+                {
                     this.hashFile = hashFile;
 
                     if (position == POSITION_UNSET)
@@ -559,6 +570,14 @@ public final class KafkaCacheCursorFactory
                 return positionNext;
             }
 
+            @Override
+            final boolean index(
+                KafkaCacheFilterIndex.Filter filter)
+            {
+                filter.hash(KafkaCacheFilterIndex.hash(value, 0, value.capacity()));
+                return true;
+            }
+
             @Override
             public final String toString()
             {
@@ -673,6 +692,9 @@ public final class KafkaCacheCursorFactory
             private final And and;
             private final KafkaValueMatchFW valueMatchRO;
             private final KafkaHeaderFW headersItemRO;
+            private final DirectBuffer levelName;
+            private final byte[] levelKinds;
+            private final int[] levelHashes;
 
             private HeaderSequence(
                 long mask,
@@ -687,20 +709,32 @@ public final class KafkaCacheCursorFactory
                 final OctetsFW name = headers.name();
                 final Array32FW<KafkaValueMatchFW> matches = headers.values();
                 final List<KafkaFilterCondition> conditions = new ArrayList<>();
+                final byte[] levelKinds = new byte[matches.fieldCount()];
+                final int[] levelHashes = new int[matches.fieldCount()];
 
                 DirectBuffer matchItems = matches.items();
                 int matchItemOffset = 0;
                 int matchItemsCapacity = matchItems.capacity();
 
-                while (matchItemOffset < matchItemsCapacity)
+                for (int level = 0; matchItemOffset < matchItemsCapacity; level++)
                 {
                     final KafkaValueMatchFW matchItem = valueMatch.wrap(matchItems, matchItemOffset, matchItemsCapacity);
 
+                    if (matchItem.kind() == KIND_SKIP)
+                    {
+                        levelKinds[level] = matchItem.skip().get() == SKIP_MANY
+                            ? KafkaCacheFilterIndex.LEVEL_SKIP_MANY
+                            : KafkaCacheFilterIndex.LEVEL_SKIP;
+                    }
+
                     if (matchItem.kind() == KIND_VALUE)
                     {
                         final KafkaValueFW match = matchItem.value();
                         final OctetsFW value = match.value();
 
+                        levelKinds[level] = KafkaCacheFilterIndex.LEVEL_VALUE;
+                        levelHashes[level] = KafkaCacheFilterIndex.hash(value.buffer(), value.offset(), value.sizeof());
+
                         final MutableDirectBuffer headerCopyBuf =
                                 new UnsafeBuffer(ByteBuffer.allocate(name.sizeof() + value.sizeof() + 8));
 
@@ -728,6 +762,17 @@ public final class KafkaCacheCursorFactory
                 this.and = new And(mask, conditions);
                 this.valueMatchRO = valueMatch;
                 this.headersItemRO = headersItem;
+                this.levelName = copyBuffer(name.buffer(), name.offset(), name.sizeof());
+                this.levelKinds = levelKinds;
+                this.levelHashes = levelHashes;
+            }
+
+            @Override
+            boolean index(
+                KafkaCacheFilterIndex.Filter filter)
+            {
+                filter.sequence(levelName, levelKinds, levelHashes);
+                return true;
             }
 
             @Override
@@ -977,6 +1022,30 @@ public final class KafkaCacheCursorFactory
                 return accept;
             }
 
+            @Override
+            boolean index(
+                KafkaCacheFilterIndex.Filter filter)
+            {
+                KafkaCacheFilterIndex.Filter selected = null;
+
+                for (int i = 0; i < conditions.size(); i++)
+                {
+                    final KafkaCacheFilterIndex.Filter candidate = new KafkaCacheFilterIndex.Filter();
+                    if (conditions.get(i).index(candidate) &&
+                        (selected == null || !selected.sequenced() && candidate.sequenced()))
+                    {
+                        selected = candidate;
+                    }
+                }
+
+                if (selected != null)
+                {
+                    filter.add(selected);
+                }
+
+                return selected != null;
+            }
+
             @Override
             public String toString()
             {
@@ -1050,6 +1119,20 @@ public final class KafkaCacheCursorFactory
                 return nextPositionMin;
             }
 
+            @Override
+            final boolean index(
+                KafkaCacheFilterIndex.Filter filter)
+            {
+                boolean indexed = true;
+
+                for (int i = 0; indexed && i < conditions.size(); i++)
+                {
+                    indexed = conditions.get(i).index(filter);
+                }
+
+                return indexed;
+            }
+
             @Override
             public String toString()
             {
@@ -15,9 +15,18 @@
  */
 package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
 
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheBloomRecord.addBloom;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheBloomRecord.mightContainBloom;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheBloomRecord.sizeofBloom;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheBloomRecord.validBloom;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheIndexRecord.indexKey;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.CREATE_NEW;
 import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.nio.file.StandardOpenOption.WRITE;
 import static java.util.Objects.requireNonNull;
 
@@ -28,7 +37,6 @@ import java.nio.channels.FileChannel;
 import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.function.IntFunction;
 
 import org.agrona.DirectBuffer;
 import org.agrona.IoUtil;
@@ -47,6 +55,7 @@ public class KafkaCacheFile implements AutoCloseable
     private static final String EXT_HSCAN = ".hscan";
     private static final String EXT_HSCAN_WORK = ".hscan.work";
     private static final String EXT_HINDEX = ".hindex";
+    private static final String EXT_HBLOOM = ".hbloom";
     private static final String EXT_NSCAN = ".nscan";
     private static final String EXT_NSCAN_WORK = ".nscan.work";
     private static final String EXT_NINDEX = ".nindex";
@@ -61,6 +70,7 @@ public class KafkaCacheFile implements AutoCloseable
     private static final String FORMAT_INDEX_FILE = String.format(FORMAT_FILE, EXT_INDEX);
     private static final String FORMAT_HSCAN_FILE = String.format(FORMAT_FILE, EXT_HSCAN);
     private static final String FORMAT_HINDEX_FILE = String.format(FORMAT_FILE, EXT_HINDEX);
+    private static final String FORMAT_HBLOOM_FILE = String.format(FORMAT_FILE, EXT_HBLOOM);
     private static final String FORMAT_NSCAN_FILE = String.format(FORMAT_FILE, EXT_NSCAN);
     private static final String FORMAT_NINDEX_FILE = String.format(FORMAT_FILE, EXT_NINDEX);
     private static final String FORMAT_KSCAN_FILE = String.format(FORMAT_FILE, EXT_KSCAN);
@@ -356,6 +366,24 @@ public class KafkaCacheFile implements AutoCloseable
         }
     }
 
+    public void move(
+        Path directory)
+    {
+        try
+        {
+            Files.move(location, directory.resolve(location.getFileName()), ATOMIC_MOVE, REPLACE_EXISTING);
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+    }
+
+    public void force() throws IOException
+    {
+        force(location);
+    }
+
     public boolean empty()
     {
         return capacity == 0;
@@ -373,6 +401,15 @@ public class KafkaCacheFile implements AutoCloseable
         IoUtil.unmap(mappedByteBuf);
     }
 
+    static void force(
+        Path file) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, READ))
+        {
+            channel.force(true);
+        }
+    }
+
     private static MappedByteBuffer mapCreateAppend(
         Path file,
         int capacity)
@@ -413,6 +450,44 @@ public class KafkaCacheFile implements AutoCloseable
         return mapped;
     }
 
+    private static void createBloom(
+        Path index,
+        Path bloom)
+    {
+        try (FileChannel indexChannel = FileChannel.open(index, READ);
+             FileChannel bloomChannel = FileChannel.open(bloom, CREATE, TRUNCATE_EXISTING, READ, WRITE))
+        {
+            final MappedByteBuffer indexByteBuf = indexChannel.map(MapMode.READ_ONLY, 0, indexChannel.size());
+            final DirectBuffer indexBuf = new UnsafeBuffer(indexByteBuf);
+            final int indexLimit = indexBuf.capacity();
+
+            int hashes = 0;
+            for (int indexAt = 0; indexAt < indexLimit; indexAt += Long.BYTES)
+            {
+                final int hash = indexKey(indexBuf.getLong(indexAt));
+                if (indexAt == 0 || hash != indexKey(indexBuf.getLong(indexAt - Long.BYTES)))
+                {
+                    hashes++;
+                }
+            }
+
+            final MappedByteBuffer bloomByteBuf = bloomChannel.map(MapMode.READ_WRITE, 0, sizeofBloom(hashes));
+            final MutableDirectBuffer bloomBuf = new UnsafeBuffer(bloomByteBuf);
+
+            for (int indexAt = 0; indexAt < indexLimit; indexAt += Long.BYTES)
+            {
+                addBloom(bloomBuf, indexKey(indexBuf.getLong(indexAt)));
+            }
+
+            IoUtil.unmap(bloomByteBuf);
+            IoUtil.unmap(indexByteBuf);
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+    }
+
     private static FileChannel openAppender(
         Path file)
     {
@@ -475,10 +550,9 @@ public class KafkaCacheFile implements AutoCloseable
             Path location,
             long baseOffset,
             int capacity,
-            MutableDirectBuffer appendBuf,
-            IntFunction<long[]> sortSpaceRef)
+            MutableDirectBuffer appendBuf)
         {
-            super(location.resolve(String.format(FORMAT_HSCAN_FILE, baseOffset)), capacity, appendBuf, sortSpaceRef);
+            super(location.resolve(String.format(FORMAT_HSCAN_FILE, baseOffset)), capacity, appendBuf);
         }
 
         @Override
@@ -490,18 +564,88 @@ public class KafkaCacheFile implements AutoCloseable
             final String filename = hscan.getFileName().toString();
             final Path hscanWork = hscan.resolveSibling(filename.replace(EXT_HSCAN, EXT_HSCAN_WORK));
             final Path hindex = hscan.resolveSibling(filename.replace(EXT_HSCAN, EXT_HINDEX));
+            final Path hbloom = hscan.resolveSibling(filename.replace(EXT_HSCAN, EXT_HBLOOM));
 
             sortByKey(hscanWork, hindex);
+            createBloom(hindex, hbloom);
         }
     }
 
     public static final class HashIndex extends KafkaCacheIndexFile.SortedByKey
     {
+        private final Path bloomLocation;
+        private final MappedByteBuffer bloomByteBuf;
+        private final DirectBuffer bloomBuf;
+
         public HashIndex(
             Path location,
             long baseOffset)
         {
             super(location.resolve(String.format(FORMAT_HINDEX_FILE, baseOffset)));
+            this.bloomLocation = location.resolve(String.format(FORMAT_HBLOOM_FILE, baseOffset));
+            this.bloomByteBuf = Files.exists(bloomLocation) ? mapReadWrite(bloomLocation) : null;
+            this.bloomBuf = bloomByteBuf != null && validBloom(bloomByteBuf.capacity()) &&
+                (bloomByteBuf.capacity() != 0 || empty()) ? new UnsafeBuffer(bloomByteBuf) : null;
+        }
+
+        @Override
+        public boolean mightContain(
+            int key)
+        {
+            return bloomBuf == null || mightContainBloom(bloomBuf, key);
+        }
+
+        @Override
+        public void move(
+            Path directory)
+        {
+            super.move(directory);
+
+            try
+            {
+                Files.move(bloomLocation, directory.resolve(bloomLocation.getFileName()), ATOMIC_MOVE, REPLACE_EXISTING);
+            }
+            catch (IOException ex)
+            {
+                LangUtil.rethrowUnchecked(ex);
+            }
+        }
+
+        @Override
+        public void force() throws IOException
+        {
+            super.force();
+
+            if (Files.exists(bloomLocation))
+            {
+                force(bloomLocation);
+            }
+        }
+
+        @Override
+        public void delete()
+        {
+            super.delete();
+
+            try
+            {
+                Files.deleteIfExists(bloomLocation);
+            }
+            catch (IOException ex)
+            {
+                LangUtil.rethrowUnchecked(ex);
+            }
+        }
+
+        @Override
+        public void close()
+        {
+            super.close();
+
+            if (bloomByteBuf != null)
+            {
+                IoUtil.unmap(bloomByteBuf);
+            }
         }
     }
 
@@ -511,10 +655,9 @@ public class KafkaCacheFile implements AutoCloseable
             Path location,
             long baseOffset,
             int capacity,
-            MutableDirectBuffer appendBuf,
-            IntFunction<long[]> sortSpaceRef)
+            MutableDirectBuffer appendBuf)
         {
-            super(location.resolve(String.format(FORMAT_KSCAN_FILE, baseOffset)), capacity, appendBuf, sortSpaceRef);
+            super(location.resolve(String.format(FORMAT_KSCAN_FILE, baseOffset)), capacity, appendBuf);
         }
 
         @Override
@@ -547,10 +690,9 @@ public class KafkaCacheFile implements AutoCloseable
             Path location,
             long baseOffset,
             int capacity,
-            MutableDirectBuffer appendBuf,
-            IntFunction<long[]> sortSpaceRef)
+            MutableDirectBuffer appendBuf)
         {
-            super(location.resolve(String.format(FORMAT_NSCAN_FILE, baseOffset)), capacity, appendBuf, sortSpaceRef);
+            super(location.resolve(String.format(FORMAT_NSCAN_FILE, baseOffset)), capacity, appendBuf);
         }
 
         @Override
@@ -0,0 +1,370 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorFactory.KafkaFilterCondition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.Array32FW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.ArrayFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaHeaderFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaKeyFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.OctetsFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW;
+
+/**
+ * Shared subscription index for cache cursors on the same partition.
+ * <p>
+ * Members are registered by the key and header hashes their filter requires, or by a trie of header values
+ * for header sequence filters, so that each new cache entry is matched once against all members.
+ * Matches are candidates only, members still verify each entry with their own cursor.
+ */
+public final class KafkaCacheFilterIndex<T>
+{
+    static final byte LEVEL_VALUE = 0;
+    static final byte LEVEL_SKIP = 1;
+    static final byte LEVEL_SKIP_MANY = 2;
+
+    private final Int2ObjectHashMap<Set<T>> membersByHash;
+    private final Map<DirectBuffer, Level<T>> levelsByName;
+    private final Set<T> matches;
+    private final DirectBuffer nameRO;
+    private final IntArrayList valueHashes;
+
+    private int size;
+
+    public KafkaCacheFilterIndex()
+    {
+        this.membersByHash = new Int2ObjectHashMap<>();
+        this.levelsByName = new HashMap<>();
+        this.matches = new HashSet<>();
+        this.nameRO = new UnsafeBuffer(0L, 0);
+        this.valueHashes = new IntArrayList();
+    }
+
+    public static Filter filter(
+        KafkaFilterCondition condition)
+    {
+        final Filter filter = new Filter();
+        return condition.index(filter) ? filter : null;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public void add(
+        T member,
+        Filter filter)
+    {
+        for (int i = 0; i < filter.hashes.size(); i++)
+        {
+            membersByHash.computeIfAbsent(filter.hashes.getInt(i), h -> new HashSet<>()).add(member);
+        }
+
+        for (Sequence sequence : filter.sequences)
+        {
+            Level<T> level = levelsByName.computeIfAbsent(sequence.name, n -> new Level<>());
+            for (int i = 0; i < sequence.kinds.length; i++)
+            {
+                level = level.supply(sequence.kinds[i], sequence.hashes[i]);
+            }
+            level.members.add(member);
+        }
+
+        size++;
+    }
+
+    public void remove(
+        T member,
+        Filter filter)
+    {
+        for (int i = 0; i < filter.hashes.size(); i++)
+        {
+            final int hash = filter.hashes.getInt(i);
+            final Set<T> members = membersByHash.get(hash);
+            if (members != null && members.remove(member) && members.isEmpty())
+            {
+                membersByHash.remove(hash);
+            }
+        }
+
+        for (Sequence sequence : filter.sequences)
+        {
+            final Level<T> level = levelsByName.get(sequence.name);
+            if (level != null && level.remove(member, sequence, 0))
+            {
+                levelsByName.remove(sequence.name);
+            }
+        }
+
+        matches.remove(member);
+        size--;
+    }
+
+    public void clear()
+    {
+        membersByHash.clear();
+        levelsByName.clear();
+        matches.clear();
+        size = 0;
+    }
+
+    public void match(
+        KafkaCacheEntryFW entry)
+    {
+        if (!membersByHash.isEmpty())
+        {
+            final KafkaKeyFW key = entry.paddedKey().key();
+            matchHash(hash(key.buffer(), key.offset(), key.sizeof()));
+            matchHashes(entry.headers());
+            matchHashes(entry.trailers());
+        }
+
+        if (!levelsByName.isEmpty())
+        {
+            final Array32FW<KafkaHeaderFW> headers = entry.headers();
+            for (Map.Entry<DirectBuffer, Level<T>> named : levelsByName.entrySet())
+            {
+                final DirectBuffer name = named.getKey();
+
+                valueHashes.clear();
+                headers.forEach(h ->
+                {
+                    final OctetsFW headerName = h.name();
+                    nameRO.wrap(headerName.buffer(), headerName.offset(), headerName.sizeof());
+                    if (nameRO.equals(name))
+                    {
+                        final OctetsFW value = h.value();
+                        valueHashes.addInt(hash(value.buffer(), value.offset(), value.sizeof()));
+                    }
+                });
+
+                named.getValue().match(valueHashes, 0, matches);
+            }
+        }
+    }
+
+    public Set<T> matches()
+    {
+        return matches;
+    }
+
+    private void matchHashes(
+        ArrayFW<KafkaHeaderFW> headers)
+    {
+        headers.forEach(h -> matchHash(hash(h.buffer(), h.offset(), h.sizeof())));
+    }
+
+    private void matchHash(
+        int hash)
+    {
+        final Set<T> members = membersByHash.get(hash);
+        if (members != null)
+        {
+            matches.addAll(members);
+        }
+    }
+
+    static int hash(
+        DirectBuffer buffer,
+        int index,
+        int length)
+    {
+        int hash = length;
+        for (int i = 0; i < length; i++)
+        {
+            hash = 31 * hash + buffer.getByte(index + i);
+        }
+        return hash;
+    }
+
+    public static final class Filter
+    {
+        private final IntArrayList hashes;
+        private final List<Sequence> sequences;
+
+        Filter()
+        {
+            this.hashes = new IntArrayList();
+            this.sequences = new ArrayList<>();
+        }
+
+        void hash(
+            int hash)
+        {
+            hashes.addInt(hash);
+        }
+
+        void sequence(
+            DirectBuffer name,
+            byte[] kinds,
+            int[] hashes)
+        {
+            sequences.add(new Sequence(name, kinds, hashes));
+        }
+
+        void add(
+            Filter filter)
+        {
+            hashes.addAll(filter.hashes);
+            sequences.addAll(filter.sequences);
+        }
+
+        boolean sequenced()
+        {
+            return !sequences.isEmpty();
+        }
+    }
+
+    private record Sequence(
+        DirectBuffer name,
+        byte[] kinds,
+        int[] hashes)
+    {
+    }
+
+    private static final class Level<T>
+    {
+        private final Set<T> members;
+
+        private Int2ObjectHashMap<Level<T>> values;
+        private Level<T> skip;
+        private Level<T> skipMany;
+
+        private Level()
+        {
+            this.members = new HashSet<>();
+        }
+
+        private Level<T> supply(
+            byte kind,
+            int hash)
+        {
+            Level<T> level;
+
+            switch (kind)
+            {
+            case LEVEL_SKIP:
+                if (skip == null)
+                {
+                    skip = new Level<>();
+                }
+                level = skip;
+                break;
+            case LEVEL_SKIP_MANY:
+                if (skipMany == null)
+                {
+                    skipMany = new Level<>();
+                }
+                level = skipMany;
+                break;
+            default:
+                if (values == null)
+                {
+                    values = new Int2ObjectHashMap<>();
+                }
+                level = values.computeIfAbsent(hash, h -> new Level<>());
+                break;
+            }
+
+            return level;
+        }
+
+        private boolean remove(
+            T member,
+            Sequence sequence,
+            int depth)
+        {
+            if (depth == sequence.kinds.length)
+            {
+                members.remove(member);
+            }
+            else
+            {
+                final int hash = sequence.hashes[depth];
+
+                switch (sequence.kinds[depth])
+                {
+                case LEVEL_SKIP:
+                    if (skip != null && skip.remove(member, sequence, depth + 1))
+                    {
+                        skip = null;
+                    }
+                    break;
+                case LEVEL_SKIP_MANY:
+                    if (skipMany != null && skipMany.remove(member, sequence, depth + 1))
+                    {
+                        skipMany = null;
+                    }
+                    break;
+                default:
+                    final Level<T> value = values != null ? values.get(hash) : null;
+                    if (value != null && value.remove(member, sequence, depth + 1))
+                    {
+                        values.remove(hash);
+                    }
+                    break;
+                }
+            }
+
+            return members.isEmpty() && skip == null && skipMany == null && (values == null || values.isEmpty());
+        }
+
+        private void match(
+            IntArrayList hashes,
+            int depth,
+            Set<T> matches)
+        {
+            if (depth == hashes.size())
+            {
+                matches.addAll(members);
+            }
+            else
+            {
+                if (values != null)
+                {
+                    final Level<T> value = values.get(hashes.getInt(depth));
+                    if (value != null)
+                    {
+                        value.match(hashes, depth + 1, matches);
+                    }
+                }
+
+                if (skip != null)
+                {
+                    skip.match(hashes, depth + 1, matches);
+                }
+
+                if (skipMany != null)
+                {
+                    matches.addAll(skipMany.members);
+                }
+            }
+        }
+    }
+}
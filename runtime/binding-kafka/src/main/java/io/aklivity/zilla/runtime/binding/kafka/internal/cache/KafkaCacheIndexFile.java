@@ -25,18 +25,19 @@ import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheI
 import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheIndexRecord.indexValue;
 import static java.lang.Integer.compareUnsigned;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.nio.file.StandardOpenOption.WRITE;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Arrays;
-import java.util.function.IntFunction;
 
+import org.agrona.DirectBuffer;
 import org.agrona.IoUtil;
 import org.agrona.LangUtil;
 import org.agrona.MutableDirectBuffer;
@@ -59,6 +60,12 @@ public abstract class KafkaCacheIndexFile extends KafkaCacheFile
         super(location);
     }
 
+    public boolean mightContain(
+        int key)
+    {
+        return true;
+    }
+
     public abstract long first(int key);
     public abstract long last(int key);
     public abstract long floor(int key);
@@ -413,24 +420,23 @@ public abstract class KafkaCacheIndexFile extends KafkaCacheFile
 
     public static class SortedByValue extends KafkaCacheIndexFile
     {
-        private final IntFunction<long[]> sortSpaceRef;
+        private static final int RADIX_BITS = 11;
+        private static final int RADIX_SIZE = 1 << RADIX_BITS;
+        private static final int RADIX_MASK = RADIX_SIZE - 1;
+        private static final int RADIX_PASSES = (Long.SIZE + RADIX_BITS - 1) / RADIX_BITS;
 
         protected SortedByValue(
             Path location,
             int capacity,
-            MutableDirectBuffer appendBuf,
-            IntFunction<long[]> sortSpaceRef)
+            MutableDirectBuffer appendBuf)
         {
             super(location, capacity, appendBuf);
-            this.sortSpaceRef = sortSpaceRef;
         }
 
         protected SortedByValue(
-            Path location,
-            IntFunction<long[]> sortSpaceRef)
+            Path location)
         {
             super(location);
-            this.sortSpaceRef = sortSpaceRef;
         }
 
         @Override
@@ -623,58 +629,43 @@ public abstract class KafkaCacheIndexFile extends KafkaCacheFile
             Path workingFile,
             Path sortedFile)
         {
-            try
-            {
-                final Path unsortedFile = location();
-                Files.copy(unsortedFile, workingFile, REPLACE_EXISTING);
-
-                try (FileChannel channel = FileChannel.open(workingFile, READ, WRITE))
-                {
-                    final ByteBuffer mapped = channel.map(MapMode.READ_WRITE, 0, channel.size());
-                    final MutableDirectBuffer buffer = new UnsafeBuffer(mapped);
-
-                    sortByKey(buffer);
-
-                    IoUtil.unmap(mapped);
-                }
-                catch (IOException ex)
-                {
-                    LangUtil.rethrowUnchecked(ex);
-                }
-
-                Files.move(workingFile, sortedFile, REPLACE_EXISTING);
-                Files.delete(unsortedFile);
-            }
-            catch (IOException ex)
-            {
-                LangUtil.rethrowUnchecked(ex);
-            }
+            sort(workingFile, sortedFile, false);
         }
 
         protected void sortByKeyUnique(
             Path workingFile,
             Path sortedFile)
+        {
+            sort(workingFile, sortedFile, true);
+        }
+
+        private void sort(
+            Path workingFile,
+            Path sortedFile,
+            boolean unique)
         {
             try
             {
                 final Path unsortedFile = location();
-                Files.copy(unsortedFile, workingFile, REPLACE_EXISTING);
 
-                try (FileChannel channel = FileChannel.open(workingFile, READ, WRITE))
+                try (FileChannel unsorted = FileChannel.open(unsortedFile, READ);
+                     FileChannel working = FileChannel.open(workingFile, CREATE, TRUNCATE_EXISTING, READ, WRITE);
+                     FileChannel spare = FileChannel.open(sortedFile, CREATE, TRUNCATE_EXISTING, READ, WRITE))
                 {
-                    final ByteBuffer mapped = channel.map(MapMode.READ_WRITE, 0, channel.size());
-                    final MutableDirectBuffer buffer = new UnsafeBuffer(mapped);
+                    final long size = unsorted.size();
+                    final MappedByteBuffer unsortedMapped = unsorted.map(MapMode.READ_ONLY, 0, size);
+                    final MappedByteBuffer workingMapped = working.map(MapMode.READ_WRITE, 0, size);
+                    final MappedByteBuffer spareMapped = spare.map(MapMode.READ_WRITE, 0, size);
+                    final MutableDirectBuffer buffer = new UnsafeBuffer(workingMapped);
 
-                    sortByKey(buffer);
-                    final int newCapacity = unique(buffer);
+                    sortByKey(new UnsafeBuffer(unsortedMapped), buffer, new UnsafeBuffer(spareMapped));
+                    final int newCapacity = unique ? unique(buffer) : buffer.capacity();
 
-                    IoUtil.unmap(mapped);
+                    IoUtil.unmap(spareMapped);
+                    IoUtil.unmap(workingMapped);
+                    IoUtil.unmap(unsortedMapped);
 
-                    channel.truncate(newCapacity);
-                }
-                catch (IOException ex)
-                {
-                    LangUtil.rethrowUnchecked(ex);
+                    working.truncate(newCapacity);
                 }
 
                 Files.move(workingFile, sortedFile, REPLACE_EXISTING);
@@ -686,29 +677,77 @@ public abstract class KafkaCacheIndexFile extends KafkaCacheFile
             }
         }
 
-        private void sortByKey(
-            MutableDirectBuffer buffer)
+        private static void sortByKey(
+            DirectBuffer unsorted,
+            MutableDirectBuffer sorted,
+            MutableDirectBuffer spare)
         {
-            final int capacity = buffer.capacity();
-            final int length = capacity >> 3;
+            // least significant digit radix sort as unsigned longs, skipping digits shared by all entries
+            final int capacity = unsorted.capacity();
+            final int[][] counts = new int[RADIX_PASSES][RADIX_SIZE];
+
+            for (int offset = 0; offset < capacity; offset += Long.BYTES)
+            {
+                final long entry = unsorted.getLong(offset);
+                for (int pass = 0; pass < RADIX_PASSES; pass++)
+                {
+                    counts[pass][digit(entry, pass)]++;
+                }
+            }
 
-            final long[] sortSpace = sortSpaceRef.apply(length);
-            assert sortSpace != null && length <= sortSpace.length;
+            final int length = capacity >> 3;
+            int passes = 0;
+            int passMask = 0;
 
-            for (int index = 0, offset = 0; index < length; index++, offset += Long.BYTES)
+            for (int pass = 0; pass < RADIX_PASSES && length != 0; pass++)
             {
-                sortSpace[index] = buffer.getLong(offset) ^ Long.MIN_VALUE;
+                if (counts[pass][digit(unsorted.getLong(0), pass)] != length)
+                {
+                    passMask |= 1 << pass;
+                    passes++;
+                }
             }
 
-            // sort as unsigned longs
-            Arrays.sort(sortSpace, 0, length);
+            if (passes == 0)
+            {
+                sorted.putBytes(0, unsorted, 0, capacity);
+            }
 
-            for (int index = 0, offset = 0; index < length; index++, offset += Long.BYTES)
+            DirectBuffer source = unsorted;
+            for (int pass = 0; pass < RADIX_PASSES; pass++)
             {
-                buffer.putLong(offset, sortSpace[index] ^ Long.MIN_VALUE);
+                if ((passMask & 1 << pass) != 0)
+                {
+                    final MutableDirectBuffer target = (--passes & 1) == 0 ? sorted : spare;
+                    final int[] offsets = counts[pass];
+
+                    for (int digit = 0, offset = 0; digit < RADIX_SIZE; digit++)
+                    {
+                        final int count = offsets[digit];
+                        offsets[digit] = offset;
+                        offset += count << 3;
+                    }
+
+                    for (int offset = 0; offset < capacity; offset += Long.BYTES)
+                    {
+                        final long entry = source.getLong(offset);
+                        final int digit = digit(entry, pass);
+                        target.putLong(offsets[digit], entry);
+                        offsets[digit] += Long.BYTES;
+                    }
+
+                    source = target;
+                }
             }
         }
 
+        private static int digit(
+            long entry,
+            int pass)
+        {
+            return (int) (entry >>> (pass * RADIX_BITS)) & RADIX_MASK;
+        }
+
         private int unique(
             MutableDirectBuffer buffer)
         {
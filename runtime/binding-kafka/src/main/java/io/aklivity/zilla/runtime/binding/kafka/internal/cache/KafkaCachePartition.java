@@ -19,6 +19,8 @@ import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheC
 import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorRecord.RETRY_SEGMENT_VALUE;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorRecord.cursorValue;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheIndexRecord.SIZEOF_INDEX_RECORD;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheIndexRecord.indexKey;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheIndexRecord.indexValue;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType.JSON_PATCH;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW.FIELD_OFFSET_ACKNOWLEDGE;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW.FIELD_OFFSET_ACK_MODE;
@@ -36,16 +38,29 @@ import static io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.Kafka
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW.FIELD_OFFSET_TIMESTAMP;
 import static java.nio.ByteBuffer.allocateDirect;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static java.util.Objects.requireNonNull;
 import static org.agrona.BitUtil.SIZE_OF_INT;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 import java.util.zip.CRC32C;
 
 import jakarta.json.JsonArray;
@@ -97,6 +112,18 @@ public final class KafkaCachePartition
 
     private static final String FORMAT_FETCH_PARTITION_DIRECTORY = "%s-%d";
     private static final String FORMAT_PRODUCE_PARTITION_DIRECTORY = "%s-%d-%d";
+    private static final String CLEAN_DIRECTORY = "clean";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String CHECKPOINT_WORK_FILE = "checkpoint.work";
+    private static final String FORMAT_SEGMENT_FILE = "%019d";
+
+    private static final int CHECKPOINT_VERSION = 1;
+    private static final int SIZEOF_CHECKPOINT_HEADER = Integer.BYTES + Integer.BYTES;
+    private static final int SIZEOF_CHECKPOINT_SEGMENT = Long.BYTES + Long.BYTES + 7 * Integer.BYTES;
+    private static final int SIZEOF_CHECKPOINT_CHECKSUM = Integer.BYTES;
+
+    private static final LongConsumer NO_RECORDER = v -> {};
+    private static final long NO_FREEZE_DURATION = -1L;
 
     private static final int FLAGS_COMPLETE = 0x03;
     private static final int FLAGS_FIN = 0x01;
@@ -145,12 +172,20 @@ public final class KafkaCachePartition
     private final String cache;
     private final String topic;
     private final int id;
+    private final int appendCapacity;
     private final MutableDirectBuffer appendBuf;
-    private final IntFunction<long[]> sortSpaceRef;
     private final Node sentinel;
     private final CRC32C checksum;
+    private final List<KafkaCacheSegment> deletes;
+    private final boolean durable;
 
     private long progress;
+    private long freezeDuration = NO_FREEZE_DURATION;
+    private MutableDirectBuffer cleanBuf;
+    private Cleanup cleanup;
+    private byte[] checkpointBytes;
+    private List<KafkaCacheSegment> checkpointSegments;
+    private Checkpoint checkpointing;
 
     private KafkaCacheEntryFW ancestorEntry;
     private final AtomicLong produceCapacity;
@@ -163,20 +198,30 @@ public final class KafkaCachePartition
         String cache,
         String topic,
         int id,
-        int appendCapacity,
-        IntFunction<long[]> sortSpaceRef)
+        int appendCapacity)
     {
         this.location = createDirectories(location.resolve(String.format(FORMAT_FETCH_PARTITION_DIRECTORY, topic, id)));
         this.config = config;
         this.cache = cache;
         this.topic = topic;
         this.id = id;
+        this.appendCapacity = appendCapacity;
         this.appendBuf = new UnsafeBuffer(allocateDirect(appendCapacity));
-        this.sortSpaceRef = sortSpaceRef;
         this.sentinel = new Node();
         this.checksum = new CRC32C();
+        this.deletes = new ArrayList<>();
+        this.durable = config.durable;
         this.progress = OFFSET_HISTORICAL;
         this.produceCapacity = new AtomicLong(0);
+
+        if (durable)
+        {
+            recover();
+        }
+        else
+        {
+            deleteIfExists(this.location.resolve(CHECKPOINT_FILE));
+        }
     }
 
     public KafkaCachePartition(
@@ -188,7 +233,6 @@ public final class KafkaCachePartition
         String topic,
         int id,
         int appendCapacity,
-        IntFunction<long[]> sortSpaceRef,
         int index)
     {
         this.location = createDirectories(location.resolve(String.format(FORMAT_PRODUCE_PARTITION_DIRECTORY, topic, id, index)));
@@ -197,10 +241,12 @@ public final class KafkaCachePartition
         this.produceCapacity = produceCapacity;
         this.topic = topic;
         this.id = id;
+        this.appendCapacity = appendCapacity;
         this.appendBuf = new UnsafeBuffer(allocateDirect(appendCapacity));
-        this.sortSpaceRef = sortSpaceRef;
         this.sentinel = new Node();
         this.checksum = new CRC32C();
+        this.deletes = new ArrayList<>();
+        this.durable = false;
         this.progress = OFFSET_HISTORICAL;
     }
 
@@ -248,17 +294,20 @@ public final class KafkaCachePartition
 
         final Node head = sentinel.previous;
 
-        KafkaCacheSegment segment = new KafkaCacheSegment(location, config, topic, id, offset, appendBuf, sortSpaceRef);
+        KafkaCacheSegment segment = new KafkaCacheSegment(location, config, topic, id, offset, appendBuf);
         Node node = new Node(segment);
         node.previous = head;
         node.next = sentinel;
         node.previous.next = node;
         node.next.previous = node;
 
-        if (!head.sentinel())
+        if (!head.sentinel() && !head.segment.frozen())
         {
+            final long freezeAt = System.nanoTime();
             final KafkaCacheSegment tail = head.segment.freeze();
+            freezeDuration = System.nanoTime() - freezeAt;
             head.segment(tail);
+            markCheckpoint();
         }
 
         produceCapacity.getAndAdd(segmentBytes());
@@ -295,7 +344,9 @@ public final class KafkaCachePartition
     public void newHeadIfNecessary(
         long offset)
     {
-        if (head().sentinel())
+        final Node head = head();
+
+        if (head.sentinel() || head.segment.frozen())
         {
             append(offset);
         }
@@ -309,7 +360,7 @@ public final class KafkaCachePartition
     {
         Node head = sentinel.previous;
 
-        if (head == sentinel)
+        if (head == sentinel || head.segment.frozen())
         {
             head = append(offset);
         }
@@ -987,6 +1038,93 @@ public final class KafkaCachePartition
         return config.cleanupPolicy;
     }
 
+    public void delete(
+        Node node)
+    {
+        assert !node.sentinel();
+        deletes.add(node.segment);
+        node.unlink();
+        markCheckpoint();
+    }
+
+    public Cleanup cleanup(
+        long now)
+    {
+        if (cleanup != null && cleanup.done)
+        {
+            cleanup.complete(NO_RECORDER, NO_RECORDER);
+            cleanup = null;
+        }
+
+        Cleanup newCleanup = null;
+
+        // segment files are deleted only once the checkpoint no longer refers to them
+        if (cleanup == null && checkpointBytes == null && checkpointing == null)
+        {
+            newCleanup = new Cleanup(now);
+
+            if (newCleanup.isEmpty())
+            {
+                newCleanup = null;
+            }
+            else
+            {
+                cleanup = newCleanup;
+            }
+        }
+
+        return newCleanup;
+    }
+
+    public void cleaned(
+        LongConsumer recordDuration,
+        LongConsumer recordReclaimed)
+    {
+        if (cleanup != null && cleanup.done)
+        {
+            cleanup.complete(recordDuration, recordReclaimed);
+            cleanup = null;
+        }
+    }
+
+    public Checkpoint checkpoint()
+    {
+        Checkpoint newCheckpoint = null;
+
+        if (checkpointing == null && checkpointBytes != null)
+        {
+            newCheckpoint = new Checkpoint(checkpointBytes, checkpointSegments);
+            checkpointing = newCheckpoint;
+            checkpointBytes = null;
+            checkpointSegments = null;
+        }
+
+        return newCheckpoint;
+    }
+
+    public IOException checkpointed()
+    {
+        IOException failure = null;
+
+        if (checkpointing != null && checkpointing.done)
+        {
+            failure = checkpointing.failure;
+            checkpointing = null;
+        }
+
+        return failure;
+    }
+
+    public void frozen(
+        LongConsumer recordDuration)
+    {
+        if (freezeDuration != NO_FREEZE_DURATION)
+        {
+            recordDuration.accept(freezeDuration);
+            freezeDuration = NO_FREEZE_DURATION;
+        }
+    }
+
     public long computeKeyHash(
         KafkaKeyFW key)
     {
@@ -1005,13 +1143,318 @@ public final class KafkaCachePartition
         // TODO: compute null key hash in advance
         final DirectBuffer buffer = keyOrHeader.buffer();
         final ByteBuffer byteBuffer = buffer.byteBuffer();
-        byteBuffer.clear();
         assert byteBuffer != null;
-        checksum.reset();
-        byteBuffer.position(keyOrHeader.offset());
-        byteBuffer.limit(keyOrHeader.limit());
-        checksum.update(byteBuffer);
-        return checksum.getValue();
+        return computeHash(keyOrHeader, byteBuffer, checksum);
+    }
+
+    private MutableDirectBuffer supplyCleanBuf()
+    {
+        if (cleanBuf == null)
+        {
+            cleanBuf = new UnsafeBuffer(allocateDirect(appendCapacity));
+        }
+
+        return cleanBuf;
+    }
+
+    public final class Cleanup implements Runnable
+    {
+        private final List<KafkaCacheSegment> deleted;
+        private final List<Compaction> compactions;
+
+        private volatile boolean done;
+
+        private Cleanup(
+            long now)
+        {
+            this.deleted = new ArrayList<>(deletes);
+            this.compactions = new ArrayList<>();
+
+            deletes.clear();
+
+            for (Node node = sentinel.next; !node.sentinel() && !node.next.sentinel(); node = node.next) // avoid cleaning head
+            {
+                final KafkaCacheSegment segment = node.segment;
+                if (segment.cleanableAt() <= now && segment.acquire() != null)
+                {
+                    compactions.add(new Compaction(node, segment, supplyCleanBuf()));
+                }
+            }
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                deleted.forEach(KafkaCacheSegment::delete);
+                compactions.forEach(Compaction::run);
+            }
+            finally
+            {
+                compactions.forEach(Compaction::release);
+                done = true;
+            }
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format("[%s] %s[%d] -%d ~%d", getClass().getSimpleName(), topic, id,
+                deleted.size(), compactions.size());
+        }
+
+        private boolean isEmpty()
+        {
+            return deleted.isEmpty() && compactions.isEmpty();
+        }
+
+        private void complete(
+            LongConsumer recordDuration,
+            LongConsumer recordReclaimed)
+        {
+            compactions.forEach(c -> c.complete(recordDuration, recordReclaimed));
+        }
+    }
+
+    public final class Checkpoint implements Runnable
+    {
+        private final byte[] bytes;
+        private final List<KafkaCacheSegment> segments;
+
+        private volatile boolean done;
+        private volatile IOException failure;
+
+        private Checkpoint(
+            byte[] bytes,
+            List<KafkaCacheSegment> segments)
+        {
+            this.bytes = bytes;
+            this.segments = segments;
+        }
+
+        @Override
+        public void run()
+        {
+            final Path checkpointWork = location.resolve(CHECKPOINT_WORK_FILE);
+
+            try
+            {
+                // segment contents must be durable before the checkpoint can refer to them
+                for (KafkaCacheSegment segment : segments)
+                {
+                    segment.force();
+                }
+
+                try (FileChannel channel = FileChannel.open(checkpointWork, CREATE, WRITE, TRUNCATE_EXISTING))
+                {
+                    channel.write(ByteBuffer.wrap(bytes));
+                    channel.force(true);
+                }
+
+                Files.move(checkpointWork, location.resolve(CHECKPOINT_FILE), ATOMIC_MOVE, REPLACE_EXISTING);
+                KafkaCacheFile.force(location);
+            }
+            catch (IOException ex)
+            {
+                failure = ex;
+            }
+            finally
+            {
+                done = true;
+            }
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format("[%s] %s[%d] %d", getClass().getSimpleName(), topic, id, bytes.length);
+        }
+    }
+
+    private final class Compaction
+    {
+        private final Node node;
+        private final KafkaCacheSegment segment;
+        private final MutableDirectBuffer cleanBuf;
+        private final int dirtyBytes;
+        private final CRC32C checksum;
+        private final KafkaCacheEntryFW entryRO;
+        private final KafkaCacheEntryFW cleanEntryRO;
+        private final KafkaCacheDeltaFW deltaRO;
+
+        private KafkaCacheSegment cleaned;
+        private boolean released;
+        private long duration;
+        private long reclaimed;
+
+        private Compaction(
+            Node node,
+            KafkaCacheSegment segment,
+            MutableDirectBuffer cleanBuf)
+        {
+            this.node = node;
+            this.segment = segment;
+            this.cleanBuf = cleanBuf;
+            this.dirtyBytes = segment.dirtyBytes();
+            this.checksum = new CRC32C();
+            this.entryRO = new KafkaCacheEntryFW();
+            this.cleanEntryRO = new KafkaCacheEntryFW();
+            this.deltaRO = new KafkaCacheDeltaFW();
+        }
+
+        private void run()
+        {
+            final long startAt = System.nanoTime();
+
+            final Path directory = createDirectories(location.resolve(CLEAN_DIRECTORY));
+            final KafkaCacheSegment appender = new KafkaCacheSegment(directory, config, segment.name(), segment.id(),
+                segment.baseOffset(), cleanBuf);
+            final KafkaCacheFile logFile = segment.logFile();
+            final KafkaCacheFile deltaFile = segment.deltaFile();
+            final ByteBuffer logBytes = logFile.buffer().byteBuffer().duplicate();
+
+            for (int logPosition = 0; logPosition < logFile.capacity(); )
+            {
+                final KafkaCacheEntryFW logEntry = logFile.readBytes(logPosition, entryRO::wrap);
+                if ((logEntry.flags() & CACHE_ENTRY_FLAGS_DIRTY) == 0)
+                {
+                    final long logOffset = logEntry.offset$();
+                    final KafkaKeyFW key = logEntry.paddedKey().key();
+                    final ArrayFW<KafkaHeaderFW> headers = logEntry.headers();
+                    final int deltaPosition = logEntry.deltaPosition();
+                    final long keyHash = computeHash(key, logBytes, checksum);
+
+                    final long offsetDelta = (int)(logOffset - segment.baseOffset());
+                    final long indexEntry = (offsetDelta << 32) | appender.logFile().capacity();
+                    appender.indexFile().appendLong(indexEntry);
+
+                    final long keyHashEntry = keyHash << 32 | appender.logFile().capacity();
+                    appender.hashFile().appendLong(keyHashEntry);
+
+                    headers.forEach(header ->
+                    {
+                        final long headerHash = computeHash(header, logBytes, checksum);
+                        final long headerHashEntry = headerHash << 32 | appender.logFile().capacity();
+                        appender.hashFile().appendLong(headerHashEntry);
+                    });
+
+                    appender.logFile().appendBytes(logEntry);
+                    if (deltaPosition != -1)
+                    {
+                        final int newLogEntryAt = appender.logFile().capacity() - logEntry.sizeof();
+                        appender.logFile().writeInt(newLogEntryAt + FIELD_OFFSET_DELTA_POSITION, deltaFile.capacity());
+
+                        final KafkaCacheDeltaFW deltaEntry = deltaFile.readBytes(deltaPosition, deltaRO::wrap);
+                        appender.deltaFile().appendBytes(deltaEntry);
+                    }
+
+                    // note: keys cleanup must also retain non-zero base offsets when spanning multiple segments
+                    final int deltaBaseOffset = 0;
+                    final long keyEntry = keyHash << 32 | deltaBaseOffset;
+                    appender.keysFile().appendLong(keyEntry);
+
+                    appender.lastOffset(logOffset);
+                }
+
+                logPosition = logEntry.limit();
+            }
+
+            final KafkaCacheSegment frozen = appender.freeze();
+            appender.close();
+            frozen.close();
+
+            this.cleaned = frozen;
+            this.reclaimed = sizeof(segment) - sizeof(frozen);
+            this.duration = System.nanoTime() - startAt;
+        }
+
+        private void release()
+        {
+            if (!released)
+            {
+                released = true;
+                segment.release();
+            }
+        }
+
+        private void complete(
+            LongConsumer recordDuration,
+            LongConsumer recordReclaimed)
+        {
+            if (node.segment != segment || !node.linked())
+            {
+                if (cleaned != null)
+                {
+                    cleaned.delete();
+                }
+            }
+            else if (cleaned == null)
+            {
+                segment.cleanableAt(Long.MAX_VALUE);
+            }
+            else
+            {
+                if (cleaned.logFile().empty())
+                {
+                    cleaned.delete();
+                    delete(node);
+                }
+                else
+                {
+                    cleaned.move(location);
+
+                    final KafkaCacheSegment frozen = new KafkaCacheSegment(location, segment.name(), segment.id(),
+                        segment.baseOffset(), cleaned.lastOffset());
+
+                    if (segment.dirtyBytes() != dirtyBytes)
+                    {
+                        reconcile(frozen);
+                    }
+
+                    node.segment(frozen);
+                }
+
+                markCheckpoint();
+
+                recordDuration.accept(duration);
+                recordReclaimed.accept(reclaimed);
+            }
+        }
+
+        private void reconcile(
+            KafkaCacheSegment frozen)
+        {
+            final KafkaCacheFile logFile = segment.logFile();
+            final KafkaCacheFile cleanFile = frozen.logFile();
+
+            int logPosition = 0;
+            for (int cleanPosition = 0; cleanPosition < cleanFile.capacity(); )
+            {
+                final KafkaCacheEntryFW cleanEntry = cleanFile.readBytes(cleanPosition, cleanEntryRO::wrap);
+
+                KafkaCacheEntryFW logEntry = logFile.readBytes(logPosition, entryRO::wrap);
+                while (logEntry.offset$() != cleanEntry.offset$())
+                {
+                    logPosition = logEntry.limit();
+                    logEntry = logFile.readBytes(logPosition, entryRO::wrap);
+                }
+
+                if (logEntry.flags() != cleanEntry.flags())
+                {
+                    cleanFile.writeLong(cleanEntry.offset() + FIELD_OFFSET_DESCENDANT, logEntry.descendant());
+                    cleanFile.writeInt(cleanEntry.offset() + FIELD_OFFSET_FLAGS, logEntry.flags());
+
+                    if ((logEntry.flags() & CACHE_ENTRY_FLAGS_DIRTY) != 0)
+                    {
+                        frozen.markDirtyBytes(logEntry.sizeof());
+                    }
+                }
+
+                logPosition = logEntry.limit();
+                cleanPosition = cleanEntry.limit();
+            }
+        }
     }
 
     public final class Node
@@ -1072,10 +1515,7 @@ public final class KafkaCachePartition
         {
             assert segment != null;
             segment.delete();
-            segment.close();
-
-            next.previous = previous;
-            previous.next = next;
+            unlink();
         }
 
         public void segment(
@@ -1086,83 +1526,6 @@ public final class KafkaCachePartition
             this.segment = segment;
         }
 
-        public void clean(
-            long now)
-        {
-            assert next != sentinel; // not head segment
-
-            if (segment.cleanableAt() <= now)
-            {
-                // TODO: use temporary files plus move to avoid corrupted log on restart
-                segment.delete();
-
-                final KafkaCacheSegment appender = new KafkaCacheSegment(segment, config, appendBuf, sortSpaceRef);
-                final KafkaCacheFile logFile = segment.logFile();
-                final KafkaCacheFile deltaFile = segment.deltaFile();
-
-                for (int logPosition = 0; logPosition < logFile.capacity(); )
-                {
-                    final KafkaCacheEntryFW logEntry = logFile.readBytes(logPosition, logEntryRO::wrap);
-                    if ((logEntry.flags() & CACHE_ENTRY_FLAGS_DIRTY) == 0)
-                    {
-                        final long logOffset = logEntry.offset$();
-                        final KafkaKeyFW key = logEntry.paddedKey().key();
-                        final ArrayFW<KafkaHeaderFW> headers = logEntry.headers();
-                        final int deltaPosition = logEntry.deltaPosition();
-                        final long keyHash = computeHash(key);
-
-                        final long offsetDelta = (int)(logOffset - segment.baseOffset());
-                        final long indexEntry = (offsetDelta << 32) | appender.logFile().capacity();
-                        appender.indexFile().appendLong(indexEntry);
-
-                        final long keyHashEntry = keyHash << 32 | appender.logFile().capacity();
-                        appender.hashFile().appendLong(keyHashEntry);
-
-                        headers.forEach(header ->
-                        {
-                            final long headerHash = computeHash(header);
-                            final long headerHashEntry = headerHash << 32 | appender.logFile().capacity();
-                            appender.hashFile().appendLong(headerHashEntry);
-                        });
-
-                        appender.logFile().appendBytes(logEntry);
-                        if (deltaPosition != -1)
-                        {
-                            final int newLogEntryAt = appender.logFile().capacity() - logEntry.sizeof();
-                            appender.logFile().writeInt(newLogEntryAt + FIELD_OFFSET_DELTA_POSITION, deltaFile.capacity());
-
-                            final KafkaCacheDeltaFW deltaEntry = deltaFile.readBytes(deltaPosition, deltaEntryRO::wrap);
-                            appender.deltaFile().appendBytes(deltaEntry);
-                        }
-
-                        // note: keys cleanup must also retain non-zero base offsets when spanning multiple segments
-                        final int deltaBaseOffset = 0;
-                        final long keyEntry = keyHash << 32 | deltaBaseOffset;
-                        appender.keysFile().appendLong(keyEntry);
-
-                        appender.lastOffset(logOffset);
-                    }
-
-                    logPosition = logEntry.limit();
-                }
-
-                segment.close();
-
-                final KafkaCacheSegment frozen = appender.freeze();
-                appender.close();
-
-                if (frozen.logFile().empty())
-                {
-                    frozen.delete();
-                    remove();
-                }
-                else
-                {
-                    segment(frozen);
-                }
-            }
-        }
-
         public void findAndAbortProducerId(
             long producerId,
             KafkaCacheEntryFW cacheEntry)
@@ -1250,6 +1613,20 @@ public final class KafkaCachePartition
             segment.markDirtyBytes(entry.sizeof());
         }
 
+        private boolean linked()
+        {
+            return previous.next == this;
+        }
+
+        private void unlink()
+        {
+            assert segment != null;
+            segment.close();
+
+            next.previous = previous;
+            previous.next = next;
+        }
+
         @Override
         public String toString()
         {
@@ -1270,6 +1647,240 @@ public final class KafkaCachePartition
         }
     }
 
+    private static long computeHash(
+        Flyweight keyOrHeader,
+        ByteBuffer byteBuffer,
+        CRC32C checksum)
+    {
+        byteBuffer.clear();
+        checksum.reset();
+        byteBuffer.position(keyOrHeader.offset());
+        byteBuffer.limit(keyOrHeader.limit());
+        checksum.update(byteBuffer);
+        return checksum.getValue();
+    }
+
+    private void recover()
+    {
+        final Path checkpointFile = location.resolve(CHECKPOINT_FILE);
+        final Set<String> recovered = new HashSet<>();
+
+        final DirectBuffer checkpoint = readCheckpoint(checkpointFile);
+        if (checkpoint != null)
+        {
+            final int segments = checkpoint.getInt(Integer.BYTES);
+
+            for (int index = 0, offset = SIZEOF_CHECKPOINT_HEADER; index < segments; index++)
+            {
+                final KafkaCacheSegment segment = recoverSegment(checkpoint, offset);
+                if (segment == null)
+                {
+                    break;
+                }
+
+                final Node node = new Node(segment);
+                node.previous = sentinel.previous;
+                node.next = sentinel;
+                node.previous.next = node;
+                node.next.previous = node;
+
+                recovered.add(String.format(FORMAT_SEGMENT_FILE, segment.baseOffset()));
+
+                offset += SIZEOF_CHECKPOINT_SEGMENT;
+            }
+        }
+
+        try (Stream<Path> files = Files.walk(location))
+        {
+            files.filter(f -> !f.equals(location) && !f.equals(checkpointFile) && !recovered(f, recovered))
+                .sorted(Comparator.reverseOrder())
+                .forEach(KafkaCachePartition::deleteIfExists);
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        markCheckpoint();
+    }
+
+    private boolean recovered(
+        Path file,
+        Set<String> recovered)
+    {
+        final String filename = file.getFileName().toString();
+        final int dotAt = filename.indexOf('.');
+
+        return location.equals(file.getParent()) &&
+            dotAt != -1 &&
+            recovered.contains(filename.substring(0, dotAt));
+    }
+
+    private DirectBuffer readCheckpoint(
+        Path checkpointFile)
+    {
+        DirectBuffer checkpoint = null;
+
+        try
+        {
+            if (Files.exists(checkpointFile))
+            {
+                final byte[] bytes = Files.readAllBytes(checkpointFile);
+                final DirectBuffer buffer = new UnsafeBuffer(bytes);
+                final int limit = bytes.length - SIZEOF_CHECKPOINT_CHECKSUM;
+
+                if (limit >= SIZEOF_CHECKPOINT_HEADER &&
+                    buffer.getInt(0) == CHECKPOINT_VERSION &&
+                    limit == SIZEOF_CHECKPOINT_HEADER + buffer.getInt(Integer.BYTES) * SIZEOF_CHECKPOINT_SEGMENT)
+                {
+                    checksum.reset();
+                    checksum.update(bytes, 0, limit);
+
+                    if (buffer.getInt(limit) == (int) checksum.getValue())
+                    {
+                        checkpoint = buffer;
+                    }
+                }
+            }
+        }
+        catch (IOException ex)
+        {
+            // rebuild partition from empty
+        }
+
+        return checkpoint;
+    }
+
+    private KafkaCacheSegment recoverSegment(
+        DirectBuffer checkpoint,
+        int offset)
+    {
+        final long baseOffset = checkpoint.getLong(offset);
+        final long lastOffset = checkpoint.getLong(offset + Long.BYTES);
+
+        KafkaCacheSegment segment = null;
+
+        try
+        {
+            segment = new KafkaCacheSegment(location, topic, id, baseOffset, lastOffset);
+        }
+        catch (Exception ex)
+        {
+            // missing or unreadable segment file
+        }
+
+        if (segment != null && !recoverable(segment, checkpoint, offset + Long.BYTES + Long.BYTES))
+        {
+            segment.close();
+            segment = null;
+        }
+
+        return segment;
+    }
+
+    private boolean recoverable(
+        KafkaCacheSegment segment,
+        DirectBuffer checkpoint,
+        int offset)
+    {
+        final KafkaCacheFile logFile = segment.logFile();
+        final KafkaCacheIndexFile indexFile = segment.indexFile();
+
+        boolean recoverable =
+            logFile.capacity() == checkpoint.getInt(offset) &&
+            segment.convertedFile().capacity() == checkpoint.getInt(offset + Integer.BYTES) &&
+            segment.deltaFile().capacity() == checkpoint.getInt(offset + 2 * Integer.BYTES) &&
+            indexFile.capacity() == checkpoint.getInt(offset + 3 * Integer.BYTES) &&
+            segment.hashFile().capacity() == checkpoint.getInt(offset + 4 * Integer.BYTES) &&
+            segment.keysFile().capacity() == checkpoint.getInt(offset + 5 * Integer.BYTES) &&
+            segment.nullsFile().capacity() == checkpoint.getInt(offset + 6 * Integer.BYTES);
+
+        if (recoverable && !indexFile.empty())
+        {
+            final long indexEntry = indexFile.buffer().getLong(indexFile.capacity() - SIZEOF_INDEX_RECORD);
+            final int position = indexValue(indexEntry);
+            final KafkaCacheEntryFW entry = position >= 0 && position < logFile.capacity()
+                ? logEntryRO.tryWrap(logFile.buffer(), position, logFile.capacity())
+                : null;
+
+            recoverable = entry != null &&
+                entry.offset$() == segment.baseOffset() + indexKey(indexEntry) &&
+                entry.offset$() <= segment.lastOffset();
+        }
+
+        return recoverable;
+    }
+
+    private void markCheckpoint()
+    {
+        if (durable)
+        {
+            int segments = 0;
+            for (Node node = sentinel.next; node != sentinel && node.segment.frozen(); node = node.next)
+            {
+                segments++;
+            }
+
+            final int limit = SIZEOF_CHECKPOINT_HEADER + segments * SIZEOF_CHECKPOINT_SEGMENT;
+            final byte[] bytes = new byte[limit + SIZEOF_CHECKPOINT_CHECKSUM];
+            final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
+            final List<KafkaCacheSegment> frozen = new ArrayList<>(segments);
+
+            buffer.putInt(0, CHECKPOINT_VERSION);
+            buffer.putInt(Integer.BYTES, segments);
+
+            int offset = SIZEOF_CHECKPOINT_HEADER;
+            for (Node node = sentinel.next; offset < limit; node = node.next)
+            {
+                final KafkaCacheSegment segment = node.segment;
+                frozen.add(segment);
+                buffer.putLong(offset, segment.baseOffset());
+                buffer.putLong(offset + Long.BYTES, segment.lastOffset());
+                offset += Long.BYTES + Long.BYTES;
+                buffer.putInt(offset, segment.logFile().capacity());
+                buffer.putInt(offset + Integer.BYTES, segment.convertedFile().capacity());
+                buffer.putInt(offset + 2 * Integer.BYTES, segment.deltaFile().capacity());
+                buffer.putInt(offset + 3 * Integer.BYTES, segment.indexFile().capacity());
+                buffer.putInt(offset + 4 * Integer.BYTES, segment.hashFile().capacity());
+                buffer.putInt(offset + 5 * Integer.BYTES, segment.keysFile().capacity());
+                buffer.putInt(offset + 6 * Integer.BYTES, segment.nullsFile().capacity());
+                offset += 7 * Integer.BYTES;
+            }
+
+            checksum.reset();
+            checksum.update(bytes, 0, limit);
+            buffer.putInt(limit, (int) checksum.getValue());
+
+            // written off the worker by the next checkpoint task, superseding any earlier pending snapshot
+            checkpointBytes = bytes;
+            checkpointSegments = frozen;
+        }
+    }
+
+    private static void deleteIfExists(
+        Path file)
+    {
+        try
+        {
+            Files.deleteIfExists(file);
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+    }
+
+    private static long sizeof(
+        KafkaCacheSegment segment)
+    {
+        return (long) segment.logFile().capacity() +
+            segment.deltaFile().capacity() +
+            segment.indexFile().capacity() +
+            segment.hashFile().capacity() +
+            segment.keysFile().capacity() +
+            segment.nullsFile().capacity();
+    }
+
     private static Path createDirectories(
         Path directory)
     {
@@ -17,8 +17,8 @@ package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
 
 import static java.lang.System.currentTimeMillis;
 
+import java.io.IOException;
 import java.nio.file.Path;
-import java.util.function.IntFunction;
 
 import org.agrona.MutableDirectBuffer;
 
@@ -41,6 +41,7 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
     private final KafkaCacheIndexFile hashFile;
     private final KafkaCacheIndexFile keysFile;
     private final KafkaCacheIndexFile nullsFile;
+    private final boolean frozen;
 
     private long lastOffset;
 
@@ -51,16 +52,14 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
     public KafkaCacheSegment(
         KafkaCacheSegment segment,
         KafkaCacheTopicConfig config,
-        MutableDirectBuffer appendBuf,
-        IntFunction<long[]> sortSpaceRef)
+        MutableDirectBuffer appendBuf)
     {
         this(segment.location,
                 config,
                 segment.name,
                 segment.id,
                 segment.baseOffset,
-                appendBuf,
-                sortSpaceRef);
+                appendBuf);
     }
 
     public KafkaCacheSegment(
@@ -69,8 +68,7 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         String name,
         int id,
         long baseOffset,
-        MutableDirectBuffer appendBuf,
-        IntFunction<long[]> sortSpaceRef)
+        MutableDirectBuffer appendBuf)
     {
         this.location = location;
         this.name = name;
@@ -82,9 +80,10 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         this.convertedFile = new KafkaCacheFile.Converted(location, baseOffset, config.segmentBytes, appendBuf);
         this.deltaFile = new KafkaCacheFile.Delta(location, baseOffset, config.segmentBytes, appendBuf);
         this.indexFile = new KafkaCacheFile.Index(location, baseOffset, config.segmentIndexBytes, appendBuf);
-        this.hashFile = new KafkaCacheFile.HashScan(location, baseOffset, config.segmentIndexBytes, appendBuf, sortSpaceRef);
-        this.keysFile = new KafkaCacheFile.KeysScan(location, baseOffset, config.segmentIndexBytes, appendBuf, sortSpaceRef);
-        this.nullsFile = new KafkaCacheFile.NullsScan(location, baseOffset, config.segmentIndexBytes, appendBuf, sortSpaceRef);
+        this.hashFile = new KafkaCacheFile.HashScan(location, baseOffset, config.segmentIndexBytes, appendBuf);
+        this.keysFile = new KafkaCacheFile.KeysScan(location, baseOffset, config.segmentIndexBytes, appendBuf);
+        this.nullsFile = new KafkaCacheFile.NullsScan(location, baseOffset, config.segmentIndexBytes, appendBuf);
+        this.frozen = false;
     }
 
     public KafkaCacheSegment(
@@ -107,6 +106,7 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         this.hashFile = new KafkaCacheFile.HashIndex(location, baseOffset);
         this.keysFile = new KafkaCacheFile.KeysIndex(location, baseOffset);
         this.nullsFile = new KafkaCacheFile.NullsIndex(location, baseOffset);
+        this.frozen = true;
     }
 
     public Path location()
@@ -186,6 +186,11 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         return keysFile;
     }
 
+    public boolean frozen()
+    {
+        return frozen;
+    }
+
     public KafkaCacheSegment freeze()
     {
         logFile.freeze();
@@ -216,6 +221,29 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         keysFile.delete();
     }
 
+    public void force() throws IOException
+    {
+        logFile.force();
+        convertedFile.force();
+        deltaFile.force();
+        indexFile.force();
+        hashFile.force();
+        keysFile.force();
+        nullsFile.force();
+    }
+
+    public void move(
+        Path location)
+    {
+        indexFile.move(location);
+        hashFile.move(location);
+        nullsFile.move(location);
+        convertedFile.move(location);
+        deltaFile.move(location);
+        keysFile.move(location);
+        logFile.move(location);
+    }
+
     public long cleanableAt()
     {
         return cleanableAt;
@@ -232,6 +260,11 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         return dirtySince;
     }
 
+    public int dirtyBytes()
+    {
+        return dirtyBytes;
+    }
+
     public void markDirtyBytes(
         int dirtyBytes)
     {
@@ -21,7 +21,6 @@ import java.nio.file.Path;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.IntFunction;
 
 import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration;
 
@@ -36,15 +35,13 @@ public final class KafkaCacheTopic
     private final int appendCapacity;
     private final Map<Integer, KafkaCachePartition> partitionsById;
     private final Map<Long, KafkaCachePartition> partitionsByIndex;
-    private IntFunction<long[]> sortSpaceRef;
 
     public KafkaCacheTopic(
         Path location,
         KafkaConfiguration config,
         String cache,
         AtomicLong produceCapacity,
-        String name,
-        IntFunction<long[]> sortSpaceRef)
+        String name)
     {
         this.location = location;
         this.config = new KafkaCacheTopicConfig(config);
@@ -55,7 +52,6 @@ public final class KafkaCacheTopic
         this.name = name;
         this.partitionsById = new ConcurrentHashMap<>();
         this.partitionsByIndex = new ConcurrentHashMap<>();
-        this.sortSpaceRef = sortSpaceRef;
     }
 
     public String cache()
@@ -96,7 +92,7 @@ public final class KafkaCacheTopic
     private KafkaCachePartition newFetchPartition(
         int id)
     {
-        return new KafkaCachePartition(location, config, cache, name, id, appendCapacity, sortSpaceRef);
+        return new KafkaCachePartition(location, config, cache, name, id, appendCapacity);
     }
 
     private KafkaCachePartition newProducePartition(
@@ -104,7 +100,7 @@ public final class KafkaCacheTopic
         int index)
     {
         return new KafkaCachePartition(location, config, cache, produceCapacity, maxProduceCapacity, name, id, appendCapacity,
-            sortSpaceRef, index);
+            index);
     }
 
 }
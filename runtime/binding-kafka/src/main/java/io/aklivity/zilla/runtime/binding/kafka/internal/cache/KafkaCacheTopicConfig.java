@@ -58,6 +58,8 @@ public final class KafkaCacheTopicConfig
     public volatile long maxCompactionLagMillis;
     public volatile double minCleanableDirtyRatio;
 
+    public final boolean durable;
+
     private static final Map<String16FW, BiConsumer<KafkaCacheTopicConfig, String16FW>> CHANGE_HANDLERS;
 
     static
@@ -91,6 +93,7 @@ public final class KafkaCacheTopicConfig
         this.minCompactionLagMillis = config.cacheMinCompactionLagMillis();
         this.maxCompactionLagMillis = config.cacheMaxCompactionLagMillis();
         this.minCleanableDirtyRatio = config.cacheMinCleanableDirtyRatio();
+        this.durable = config.cacheDurable();
     }
 
     public void onChanged(
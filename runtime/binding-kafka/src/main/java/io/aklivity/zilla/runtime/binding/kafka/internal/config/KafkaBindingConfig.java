@@ -21,20 +21,28 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.LongConsumer;
 import java.util.function.ToLongFunction;
+import java.util.stream.LongStream;
 
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaOptionsConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaSaslConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaServerConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaTopicConfig;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaCacheCompactionDurationMetric;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaCacheCompactionReclaimedMetric;
+import io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaCacheSegmentFreezeDurationMetric;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaOffsetType;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.config.BindingConfig;
 import io.aklivity.zilla.runtime.engine.config.KindConfig;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
 
 public final class KafkaBindingConfig
 {
+    private static final LongConsumer NO_RECORDER = v -> {};
+
     public final long id;
     public final String name;
     public final KafkaOptionsConfig options;
@@ -42,6 +50,9 @@ public final class KafkaBindingConfig
     public final List<KafkaRouteConfig> routes;
     public final ToLongFunction<String> resolveId;
     public final List<KafkaTopicType> topicTypes;
+    public final LongConsumer recordCompactionDuration;
+    public final LongConsumer recordCompactionReclaimed;
+    public final LongConsumer recordSegmentFreezeDuration;
 
     public KafkaBindingConfig(
         BindingConfig binding,
@@ -55,6 +66,12 @@ public final class KafkaBindingConfig
         this.resolveId = binding.resolveId;
         this.topicTypes = options != null && options.topics != null
             ? options.topics.stream().map(t -> new KafkaTopicType(context, t)).collect(toList()) : Collections.emptyList();
+        this.recordCompactionDuration = supplyRecorder(context, binding, Metric.Kind.HISTOGRAM,
+            KafkaCacheCompactionDurationMetric.NAME);
+        this.recordCompactionReclaimed = supplyRecorder(context, binding, Metric.Kind.COUNTER,
+            KafkaCacheCompactionReclaimedMetric.NAME);
+        this.recordSegmentFreezeDuration = supplyRecorder(context, binding, Metric.Kind.HISTOGRAM,
+            KafkaCacheSegmentFreezeDurationMetric.NAME);
     }
 
     public KafkaRouteConfig resolve(
@@ -127,4 +144,17 @@ public final class KafkaBindingConfig
         }
         return matchedType;
     }
+
+    private static LongConsumer supplyRecorder(
+        EngineContext context,
+        BindingConfig binding,
+        Metric.Kind kind,
+        String metricName)
+    {
+        final long metricId = binding.resolveId != null ? binding.resolveId.applyAsLong(metricName) : 0L;
+        final boolean enabled = metricId != 0L && binding.metricIds != null &&
+            LongStream.of(binding.metricIds).anyMatch(id -> id == metricId);
+
+        return enabled ? context.supplyMetricWriter(kind, binding.id, metricId) : NO_RECORDER;
+    }
 }
@@ -17,7 +17,9 @@ package io.aklivity.zilla.runtime.binding.kafka.internal.events;
 
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.event.KafkaEventType.API_VERSION_REJECTED;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.event.KafkaEventType.AUTHORIZATION_FAILED;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.types.event.KafkaEventType.CACHE_CHECKPOINT_FAILED;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.event.KafkaEventType.CLUSTER_AUTHORIZATION_FAILED;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.types.event.KafkaEventType.RECORD_BATCH_UNDECODABLE;
 
 import java.nio.ByteBuffer;
 import java.time.Clock;
@@ -43,6 +45,8 @@ public class KafkaEventContext
     private final int authorizationFailedEventId;
     private final int apiVersionRejectedEventId;
     private final int clusterAuthorizationFailedEventId;
+    private final int recordBatchUndecodableEventId;
+    private final int cacheCheckpointFailedEventId;
     private final MessageConsumer eventWriter;
     private final Clock clock;
 
@@ -53,6 +57,8 @@ public class KafkaEventContext
         this.authorizationFailedEventId = context.supplyEventId("binding.kafka.authorization.failed");
         this.apiVersionRejectedEventId = context.supplyEventId("binding.kafka.api.version.rejected");
         this.clusterAuthorizationFailedEventId = context.supplyEventId("binding.kafka.cluster.authorization.failed");
+        this.recordBatchUndecodableEventId = context.supplyEventId("binding.kafka.record.batch.undecodable");
+        this.cacheCheckpointFailedEventId = context.supplyEventId("binding.kafka.cache.checkpoint.failed");
         this.eventWriter = context.supplyEventWriter();
         this.clock = context.clock();
     }
@@ -129,4 +135,60 @@ public class KafkaEventContext
             .build();
         eventWriter.accept(kafkaTypeId, event.buffer(), event.offset(), event.limit());
     }
+
+    public void recordBatchUndecodable(
+        long traceId,
+        long bindingId,
+        String topic,
+        int partitionId,
+        long offset,
+        String compression)
+    {
+        KafkaEventExFW extension = kafkaEventExRW
+            .wrap(extensionBuffer, 0, extensionBuffer.capacity())
+            .recordBatchUndecodable(e -> e
+                .typeId(RECORD_BATCH_UNDECODABLE.value())
+                .topic(topic)
+                .partitionId(partitionId)
+                .partitionOffset(offset)
+                .compression(compression)
+            )
+            .build();
+        EventFW event = eventRW
+            .wrap(eventBuffer, 0, eventBuffer.capacity())
+            .id(recordBatchUndecodableEventId)
+            .timestamp(clock.millis())
+            .traceId(traceId)
+            .namespacedId(bindingId)
+            .extension(extension.buffer(), extension.offset(), extension.limit())
+            .build();
+        eventWriter.accept(kafkaTypeId, event.buffer(), event.offset(), event.limit());
+    }
+
+    public void cacheCheckpointFailed(
+        long traceId,
+        long bindingId,
+        String topic,
+        int partitionId,
+        String reason)
+    {
+        KafkaEventExFW extension = kafkaEventExRW
+            .wrap(extensionBuffer, 0, extensionBuffer.capacity())
+            .cacheCheckpointFailed(e -> e
+                .typeId(CACHE_CHECKPOINT_FAILED.value())
+                .topic(topic)
+                .partitionId(partitionId)
+                .reason(reason)
+            )
+            .build();
+        EventFW event = eventRW
+            .wrap(eventBuffer, 0, eventBuffer.capacity())
+            .id(cacheCheckpointFailedEventId)
+            .timestamp(clock.millis())
+            .traceId(traceId)
+            .namespacedId(bindingId)
+            .extension(extension.buffer(), extension.offset(), extension.limit())
+            .build();
+        eventWriter.accept(kafkaTypeId, event.buffer(), event.offset(), event.limit());
+    }
 }
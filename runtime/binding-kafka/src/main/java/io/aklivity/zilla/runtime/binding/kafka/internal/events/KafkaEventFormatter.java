@@ -21,8 +21,10 @@ import io.aklivity.zilla.runtime.binding.kafka.internal.types.StringFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.event.EventFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.event.KafkaApiVersionRejectedExFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.event.KafkaAuthorizationFailedExFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.event.KafkaCacheCheckpointFailedExFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.event.KafkaClusterAuthorizationFailedExFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.event.KafkaEventExFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.event.KafkaRecordBatchUndecodableExFW;
 import io.aklivity.zilla.runtime.engine.Configuration;
 import io.aklivity.zilla.runtime.engine.event.EventFormatterSpi;
 
@@ -67,6 +69,20 @@ public final class KafkaEventFormatter implements EventFormatterSpi
             result = String.format("%s (Version: %d)", apiKey.title(), ex.apiVersion());
             break;
         }
+        case RECORD_BATCH_UNDECODABLE:
+        {
+            final KafkaRecordBatchUndecodableExFW ex = extension.recordBatchUndecodable();
+            result = String.format("Unable to decode %s record batch at offset %d (Topic: %s, Partition: %d).",
+                asString(ex.compression()), ex.partitionOffset(), asString(ex.topic()), ex.partitionId());
+            break;
+        }
+        case CACHE_CHECKPOINT_FAILED:
+        {
+            final KafkaCacheCheckpointFailedExFW ex = extension.cacheCheckpointFailed();
+            result = String.format("Unable to write cache checkpoint (Topic: %s, Partition: %d): %s.",
+                asString(ex.topic()), ex.partitionId(), asString(ex.reason()));
+            break;
+        }
         }
         return result;
     }
@@ -27,7 +27,9 @@ import static io.aklivity.zilla.runtime.engine.budget.BudgetCreditor.NO_BUDGET_I
 import static io.aklivity.zilla.runtime.engine.budget.BudgetDebitor.NO_DEBITOR_INDEX;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.LongFunction;
@@ -45,6 +47,7 @@ import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCache;
 import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorFactory;
 import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorFactory.KafkaCacheCursor;
 import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorFactory.KafkaFilterCondition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheFilterIndex;
 import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition;
 import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition.Node;
 import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheTopic;
@@ -130,6 +133,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
 
     private final OctetsFW valueFragmentRO = new OctetsFW();
     private final KafkaCacheEntryFW entryRO = new KafkaCacheEntryFW();
+    private final KafkaCacheEntryFW scanEntryRO = new KafkaCacheEntryFW();
 
     private final int kafkaTypeId;
     private final MutableDirectBuffer writeBuffer;
@@ -509,6 +513,12 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
         private final long authorization;
         private final KafkaCachePartition partition;
         private final List<KafkaCacheClientFetchStream> members;
+        private final Set<KafkaCacheClientFetchStream> pending;
+        private final KafkaCacheFilterIndex<KafkaCacheClientFetchStream> index;
+        private final List<KafkaCacheClientFetchStream> dispatch;
+
+        private KafkaCacheCursor scanCursor;
+        private Node scanHead;
 
         private long leaderId;
         private long initialId;
@@ -545,6 +555,9 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
             this.stableOffset = DEFAULT_STABLE_OFFSET;
             this.latestOffset = DEFAULT_LATEST_OFFSET;
             this.members = new ArrayList<>();
+            this.pending = new LinkedHashSet<>();
+            this.index = new KafkaCacheFilterIndex<>();
+            this.dispatch = new ArrayList<>();
             this.leaderId = leaderId;
             this.receiver = NO_RECEIVER;
         }
@@ -560,10 +573,11 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
                 leaderId = member.leaderId;
 
                 members.forEach(m -> m.cleanupClient(traceId, ERROR_NOT_LEADER_FOR_PARTITION));
-                members.clear();
+                cleanupMembers();
             }
 
             members.add(member);
+            pending.add(member);
 
             assert !members.isEmpty();
 
@@ -591,13 +605,118 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
         {
             members.remove(member);
 
+            if (member.indexed)
+            {
+                index.remove(member, member.filter);
+                member.indexed = false;
+            }
+            else
+            {
+                pending.remove(member);
+            }
+
             if (members.isEmpty())
             {
                 doClientFanoutInitialAbortIfNecessary(traceId);
                 doClientFanoutReplyResetIfNecessary(traceId);
+                cleanupScan();
+            }
+        }
+
+        private void onClientFanoutMemberDrained(
+            KafkaCacheClientFetchStream member,
+            boolean drained)
+        {
+            if (drained)
+            {
+                if (!member.indexed &&
+                    member.filter != null &&
+                    scanCursor != null &&
+                    pending.remove(member))
+                {
+                    index.add(member, member.filter);
+                    member.indexed = true;
+                }
+            }
+            else if (member.indexed)
+            {
+                index.remove(member, member.filter);
+                member.indexed = false;
+                pending.add(member);
             }
         }
 
+        private void doClientFanoutMembersData(
+            long traceId)
+        {
+            if (scanCursor == null || index.size() == 0)
+            {
+                cleanupScan();
+                initScan();
+                members.forEach(s -> s.doClientReplyDataIfNecessary(traceId));
+            }
+            else
+            {
+                KafkaCacheEntryFW entry;
+                while ((entry = scanCursor.next(scanEntryRO)) != null)
+                {
+                    index.match(entry);
+                    scanCursor.advance(entry.offset$() + 1);
+                }
+
+                final Node head = partition.head();
+                if (head != scanHead)
+                {
+                    // release segments held by idle members
+                    scanHead = head;
+                    dispatch.addAll(members);
+                }
+                else
+                {
+                    dispatch.addAll(pending);
+                    dispatch.addAll(index.matches());
+                }
+                index.matches().clear();
+
+                dispatch.forEach(s -> s.doClientReplyDataIfNecessary(traceId));
+                dispatch.clear();
+            }
+        }
+
+        private void initScan()
+        {
+            Node segmentNode = partition.seekNotAfter(partitionOffset);
+            if (segmentNode.sentinel())
+            {
+                segmentNode = segmentNode.next();
+            }
+
+            if (!segmentNode.sentinel())
+            {
+                scanCursor = cursorFactory.newCursor();
+                scanCursor.init(segmentNode, partitionOffset + 1, latestOffset);
+                scanHead = partition.head();
+            }
+        }
+
+        private void cleanupScan()
+        {
+            if (scanCursor != null)
+            {
+                scanCursor.close();
+                scanCursor = null;
+                scanHead = null;
+            }
+        }
+
+        private void cleanupMembers()
+        {
+            members.clear();
+            pending.clear();
+            index.clear();
+            cleanupScan();
+        }
+
         private void doClientFanoutInitialBeginIfNecessary(
             long traceId)
         {
@@ -757,7 +876,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
             this.stableOffset = stableOffset;
             this.latestOffset = latestOffset;
 
-            members.forEach(s -> s.doClientReplyDataIfNecessary(traceId));
+            doClientFanoutMembersData(traceId);
 
             // defer reply window credit until next tick
             assert reserved == SIZE_OF_FLUSH_WITH_EXTENSION;
@@ -771,7 +890,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
 
             members.forEach(s -> s.doClientReplyEndIfNecessary(traceId));
             members.forEach(s -> s.doClientInitialResetIfNecessary(traceId, EMPTY_OCTETS));
-            members.clear();
+            cleanupMembers();
 
             state = KafkaState.closedReply(state);
 
@@ -785,7 +904,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
 
             members.forEach(s -> s.doClientReplyAbortIfNecessary(traceId));
             members.forEach(s -> s.doClientInitialResetIfNecessary(traceId, EMPTY_OCTETS));
-            members.clear();
+            cleanupMembers();
 
             state = KafkaState.closedReply(state);
 
@@ -800,7 +919,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
 
             members.forEach(s -> s.doClientInitialResetIfNecessary(traceId, extension));
             members.forEach(s -> s.doClientReplyAbortIfNecessary(traceId));
-            members.clear();
+            cleanupMembers();
 
             state = KafkaState.closedInitial(state);
 
@@ -896,6 +1015,8 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
 
         private KafkaCacheCursor cursor;
         private KafkaCacheCursor nextCursor;
+        private KafkaCacheFilterIndex.Filter filter;
+        private boolean indexed;
         private int state;
         private int flushFramesSent;
 
@@ -944,6 +1065,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
             this.authorization = authorization;
             this.initialOffset = initialOffset;
             this.cursor = cursorFactory.newCursor(condition, deltaType);
+            this.filter = KafkaCacheFilterIndex.filter(condition);
             this.maximumOffset = maximumOffset;
             this.deltaType = deltaType;
             this.isolation = isolation;
@@ -1024,6 +1146,9 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
             final KafkaEvaluation evaluation = kafkaFetchFlush.evaluation().get();
             final KafkaFilterCondition condition = cursorFactory.asCondition(filters, evaluation);
 
+            group.onClientFanoutMemberDrained(this, false);
+            filter = KafkaCacheFilterIndex.filter(condition);
+
             nextCursor = cursorFactory.newCursor(condition, deltaType);
             nextCursor.init(cursor);
             if (messageOffset == 0)
@@ -1162,6 +1287,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
                         state, replyBud, replyId, replyDebIndex, replyDeb);
 
             final long initialIsolatedOffset = initialGroupIsolatedOffset.getAsLong();
+            boolean drained = false;
 
             while (KafkaState.replyOpened(state) &&
                 !KafkaState.replyClosing(state) &&
@@ -1184,6 +1310,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
                     {
                         cursor.advance(group.partitionOffset + 1);
                     }
+                    drained = nextEntry == null;
                     break;
                 }
 
@@ -1241,6 +1368,13 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
             {
                 doClientReplyEndIfNecessary(traceId);
             }
+
+            group.onClientFanoutMemberDrained(this, drained &&
+                maximumOffset != HISTORICAL &&
+                nextCursor == null &&
+                flushFramesSent != 0 &&
+                KafkaState.replyOpened(state) &&
+                !KafkaState.replyClosing(state));
         }
 
         private void doClientReplyData(
@@ -124,6 +124,7 @@ public final class KafkaCacheClientProduceFactory implements BindingHandler
     private static final int SIGNAL_GROUP_CLEANUP = 2;
 
     private static final int SIGNAL_RECONNECT = 3;
+    private static final int SIGNAL_SEGMENT_CLEANED = 4;
 
     private final BeginFW beginRO = new BeginFW();
     private final DataFW dataRO = new DataFW();
@@ -945,23 +946,46 @@ public final class KafkaCacheClientProduceFactory implements BindingHandler
             case SIGNAL_GROUP_CLEANUP:
                 onClientFanInitialSignalCleanup(signal);
                 break;
+            case SIGNAL_SEGMENT_CLEANED:
+                onClientFanInitialSignalSegmentCleaned(signal);
+                break;
             }
         }
 
         private void onClientFanInitialSignalSegmentCompact(
             SignalFW signal)
         {
-            final long now = currentTimeMillis();
+            final long traceId = signal.traceId();
+
+            this.compactAt = Long.MAX_VALUE;
+            this.compactId = NO_CANCEL_ID;
+
+            doClientFanInitialCleanupIfNecessary(traceId);
+        }
+
+        private void onClientFanInitialSignalSegmentCleaned(
+            SignalFW signal)
+        {
+            final long traceId = signal.traceId();
+            final KafkaBindingConfig binding = supplyBinding.apply(originId);
 
-            KafkaCachePartition.Node segmentNode = partition.sentinel().next();
-            while (!segmentNode.next().sentinel()) // avoid cleaning head
+            if (binding != null)
             {
-                segmentNode.clean(now);
-                segmentNode = segmentNode.next();
+                partition.cleaned(binding.recordCompactionDuration, binding.recordCompactionReclaimed);
             }
 
-            this.compactAt = Long.MAX_VALUE;
-            this.compactId = NO_CANCEL_ID;
+            doClientFanInitialCleanupIfNecessary(traceId);
+        }
+
+        private void doClientFanInitialCleanupIfNecessary(
+            long traceId)
+        {
+            final KafkaCachePartition.Cleanup cleanup = partition.cleanup(currentTimeMillis());
+
+            if (cleanup != null)
+            {
+                signaler.signalTask(cleanup, originId, routedId, initialId, traceId, SIGNAL_SEGMENT_CLEANED, 0);
+            }
         }
 
         private void onClientFanInitialSignalCleanup(
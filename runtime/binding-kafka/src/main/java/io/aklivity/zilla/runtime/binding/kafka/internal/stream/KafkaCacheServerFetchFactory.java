@@ -27,6 +27,7 @@ import static io.aklivity.zilla.runtime.engine.concurrent.Signaler.NO_CANCEL_ID;
 import static java.lang.System.currentTimeMillis;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
@@ -55,6 +56,7 @@ import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaBindingConfi
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaRouteConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaTopicTransformsType;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaTopicType;
+import io.aklivity.zilla.runtime.binding.kafka.internal.events.KafkaEventContext;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.Array32FW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.ArrayFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.Flyweight;
@@ -118,6 +120,8 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
     private static final int SIGNAL_SEGMENT_RETAIN = 2;
     private static final int SIGNAL_SEGMENT_DELETE = 3;
     private static final int SIGNAL_SEGMENT_COMPACT = 4;
+    private static final int SIGNAL_SEGMENT_CLEANED = 5;
+    private static final int SIGNAL_SEGMENT_CHECKPOINTED = 6;
 
     private final BeginFW beginRO = new BeginFW();
     private final DataFW dataRO = new DataFW();
@@ -164,6 +168,7 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
     private final EngineContext context;
     private final boolean verbose;
     private final long retentionMillisMaxLive;
+    private final KafkaEventContext event;
 
     public KafkaCacheServerFetchFactory(
         KafkaConfiguration config,
@@ -190,6 +195,7 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
         this.reconnectDelay = config.cacheServerReconnect();
         this.verbose = config.verbose();
         this.retentionMillisMaxLive = config.cacheRetentionMillisMax();
+        this.event = new KafkaEventContext(context);
     }
 
     @Override
@@ -740,6 +746,7 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
             this.latestOffset = latestOffset;
 
             partition.newHeadIfNecessary(partitionOffset);
+            doServerFanoutInitialCheckpointIfNecessary(traceId);
 
             members.forEach(s -> s.doServerReplyBeginIfNecessary(traceId));
 
@@ -862,6 +869,9 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
 
                 if (nextHead != head)
                 {
+                    doServerFanoutSegmentFrozen();
+                    doServerFanoutInitialCheckpointIfNecessary(traceId);
+
                     if (retainId != NO_CANCEL_ID)
                     {
                         signaler.cancel(retainId);
@@ -1176,13 +1186,33 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
             case SIGNAL_SEGMENT_COMPACT:
                 onServerFanoutInitialSignalSegmentCompact(signal);
                 break;
+            case SIGNAL_SEGMENT_CLEANED:
+                onServerFanoutInitialSignalSegmentCleaned(signal);
+                break;
+            case SIGNAL_SEGMENT_CHECKPOINTED:
+                onServerFanoutInitialSignalSegmentCheckpointed(signal);
+                break;
             }
         }
 
         private void onServerFanoutInitialSignalSegmentRetain(
             SignalFW signal)
         {
+            final long traceId = signal.traceId();
+
             partition.append(partitionOffset + 1);
+            doServerFanoutSegmentFrozen();
+            doServerFanoutInitialCheckpointIfNecessary(traceId);
+        }
+
+        private void doServerFanoutSegmentFrozen()
+        {
+            final KafkaBindingConfig binding = supplyBinding.apply(originId);
+
+            if (binding != null)
+            {
+                partition.frozen(binding.recordSegmentFreezeDuration);
+            }
         }
 
         private void onServerFanoutInitialSignalSegmentDelete(
@@ -1195,12 +1225,15 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
             while (!segmentNode.sentinel() && segmentNode != partition.head() &&
                 partition.deleteAt(segmentNode.segment(), retentionMillisMax) <= now)
             {
-                segmentNode.remove();
+                partition.delete(segmentNode);
                 segmentNode = segmentNode.next();
             }
 
             assert segmentNode != null;
 
+            doServerFanoutInitialCheckpointIfNecessary(traceId);
+            doServerFanoutInitialCleanupIfNecessary(traceId);
+
             if (segmentNode != partition.sentinel())
             {
                 final long deleteAt = partition.deleteAt(segmentNode.segment(), retentionMillisMax);
@@ -1215,17 +1248,64 @@ public final class KafkaCacheServerFetchFactory implements BindingHandler
         private void onServerFanoutInitialSignalSegmentCompact(
             SignalFW signal)
         {
-            final long now = currentTimeMillis();
+            final long traceId = signal.traceId();
 
-            Node segmentNode = partition.sentinel().next();
-            while (!segmentNode.next().sentinel()) // avoid cleaning head
+            this.compactAt = Long.MAX_VALUE;
+            this.compactId = NO_CANCEL_ID;
+
+            doServerFanoutInitialCleanupIfNecessary(traceId);
+        }
+
+        private void onServerFanoutInitialSignalSegmentCleaned(
+            SignalFW signal)
+        {
+            final long traceId = signal.traceId();
+            final KafkaBindingConfig binding = supplyBinding.apply(originId);
+
+            if (binding != null)
             {
-                segmentNode.clean(now);
-                segmentNode = segmentNode.next();
+                partition.cleaned(binding.recordCompactionDuration, binding.recordCompactionReclaimed);
             }
 
-            this.compactAt = Long.MAX_VALUE;
-            this.compactId = NO_CANCEL_ID;
+            doServerFanoutInitialCheckpointIfNecessary(traceId);
+            doServerFanoutInitialCleanupIfNecessary(traceId);
+        }
+
+        private void onServerFanoutInitialSignalSegmentCheckpointed(
+            SignalFW signal)
+        {
+            final long traceId = signal.traceId();
+            final IOException failure = partition.checkpointed();
+
+            if (failure != null)
+            {
+                event.cacheCheckpointFailed(traceId, originId, partition.topic(), partition.id(), failure.getMessage());
+            }
+
+            doServerFanoutInitialCheckpointIfNecessary(traceId);
+            doServerFanoutInitialCleanupIfNecessary(traceId);
+        }
+
+        private void doServerFanoutInitialCheckpointIfNecessary(
+            long traceId)
+        {
+            final KafkaCachePartition.Checkpoint checkpoint = partition.checkpoint();
+
+            if (checkpoint != null)
+            {
+                signaler.signalTask(checkpoint, originId, routedId, initialId, traceId, SIGNAL_SEGMENT_CHECKPOINTED, 0);
+            }
+        }
+
+        private void doServerFanoutInitialCleanupIfNecessary(
+            long traceId)
+        {
+            final KafkaCachePartition.Cleanup cleanup = partition.cleanup(currentTimeMillis());
+
+            if (cleanup != null)
+            {
+                signaler.signalTask(cleanup, originId, routedId, initialId, traceId, SIGNAL_SEGMENT_CLEANED, 0);
+            }
         }
 
         private void doServerFanoutReplyResetIfNecessary(
@@ -21,6 +21,8 @@ import static io.aklivity.zilla.runtime.engine.budget.BudgetDebitor.NO_DEBITOR_I
 import static io.aklivity.zilla.runtime.engine.buffer.BufferPool.NO_SLOT;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.function.Consumer;
 import java.util.function.LongFunction;
 
@@ -37,6 +39,7 @@ import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaBinding;
 import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaBindingConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaRouteConfig;
+import io.aklivity.zilla.runtime.binding.kafka.internal.events.KafkaEventContext;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.Flyweight;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaHeaderFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaIsolation;
@@ -97,6 +100,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
 
     private static final int ERROR_NONE = 0;
     private static final int ERROR_OFFSET_OUT_OF_RANGE = 1;
+    private static final int ERROR_CORRUPT_MESSAGE = 2;
     private static final int ERROR_NOT_LEADER_FOR_PARTITION = 6;
 
     private static final int FLAG_CONT = 0x00;
@@ -109,7 +113,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
 
     private static final int SIGNAL_NEXT_REQUEST = 1;
 
-    private static final DirectBuffer EMPTY_BUFFER = new UnsafeBuffer();
+    private static final MutableDirectBuffer EMPTY_BUFFER = new UnsafeBuffer();
     private static final OctetsFW EMPTY_OCTETS = new OctetsFW().wrap(EMPTY_BUFFER, 0, 0);
     private static final Consumer<OctetsFW.Builder> EMPTY_EXTENSION = ex -> {};
 
@@ -187,6 +191,8 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
     private final KafkaFetchClientDecoder decodeFetchTransaction = this::decodeFetchTransaction;
     private final KafkaFetchClientDecoder decodeFetchRecordSet = this::decodeFetchRecordSet;
     private final KafkaFetchClientDecoder decodeFetchRecordBatch = this::decodeFetchRecordBatch;
+    private final KafkaFetchClientDecoder decodeFetchRecordBatchCompressed = this::decodeFetchRecordBatchCompressed;
+    private final KafkaFetchClientDecoder decodeFetchRecordBatchInflate = this::decodeFetchRecordBatchInflate;
     private final KafkaFetchClientDecoder decodeFetchRecordLength = this::decodeFetchRecordLength;
     private final KafkaFetchClientDecoder decodeFetchRecord = this::decodeFetchRecord;
     private final KafkaFetchClientDecoder decodeFetchRecordInit = this::decodeFetchRecordInit;
@@ -212,6 +218,10 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
     private final LongFunction<BudgetDebitor> supplyDebitor;
     private final LongFunction<KafkaClientRoute> supplyClientRoute;
     private final int decodeMaxBytes;
+    private final KafkaCompressionCodec compressionCodec;
+    private final MutableDirectBuffer decompressBuffer;
+    private final Deque<KafkaDecompressor> decompressors;
+    private final KafkaEventContext event;
 
     public KafkaClientFetchFactory(
         KafkaConfiguration config,
@@ -236,6 +246,10 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
         this.supplyDebitor = supplyDebitor;
         this.supplyClientRoute = supplyClientRoute;
         this.decodeMaxBytes = decodePool.slotCapacity();
+        this.compressionCodec = new KafkaCompressionCodec();
+        this.decompressBuffer = new UnsafeBuffer(new byte[config.clientFetchDecompressMaxBytes()]);
+        this.decompressors = new ArrayDeque<>();
+        this.event = new KafkaEventContext(context);
     }
 
     @Override
@@ -1100,19 +1114,556 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 client.decodableRecordBatchBytes -= recordBatchProgress;
                 assert client.decodableRecordBatchBytes >= 0;
 
-                if (isCompressedBatch(attributes) || isControlBatch(attributes) && !isTransactionalBatch(attributes))
+                if (isControlBatch(attributes) && !isTransactionalBatch(attributes))
                 {
                     client.decoder = decodeIgnoreRecordBatch;
                     break decode;
                 }
 
+                if (isCompressedBatch(attributes))
+                {
+                    final KafkaCompressionType type = KafkaCompressionType.valueOf(attributes);
+
+                    if (client.decodableRecordBatchBytes > client.decodableRecordSetBytes)
+                    {
+                        client.decoder = decodeIgnoreRecordSet;
+                    }
+                    else if (compressionCodec.supports(type))
+                    {
+                        client.decodeDecompressor = supplyDecompressor(type);
+                        client.decoder = decodeFetchRecordBatchInflate;
+                    }
+                    else
+                    {
+                        onDecodeRecordBatchUndecodable(client, traceId);
+                    }
+                    break decode;
+                }
+
                 client.decoder = decodeFetchRecordLength;
             }
         }
 
+        if (client.decoder == decodeIgnoreAll)
+        {
+            client.cleanupNetwork(traceId);
+        }
+
+        return progress;
+    }
+
+    private int decodeFetchRecordBatchInflate(
+        KafkaFetchStream.KafkaFetchClient client,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        DirectBuffer buffer,
+        int offset,
+        int progress,
+        int limit)
+    {
+        final KafkaDecompressor decompressor = client.decodeDecompressor;
+        final int maxLimit = progress + Math.min(limit - progress, client.decodableRecordBatchBytes);
+        final boolean last = maxLimit - progress == client.decodableRecordBatchBytes;
+        final int initialProgress = progress;
+
+        decode:
+        {
+            int consumed;
+            int recordsProgress;
+            do
+            {
+                final int recordsInitial = decompressor.limit();
+
+                consumed = decompressor.inflate(buffer, progress, maxLimit - progress, last);
+
+                if (consumed == KafkaDecompressor.UNSUPPORTED &&
+                    client.decodableRecordBatchBytes <= decodeMaxBytes)
+                {
+                    client.cleanupDecompressorIfNecessary();
+                    client.decodeInflatedProgress = 0;
+                    client.decoder = decodeFetchRecordBatchCompressed;
+                    break decode;
+                }
+
+                if (consumed < 0)
+                {
+                    onDecodeRecordBatchUndecodable(client, traceId);
+                    break decode;
+                }
+
+                progress += consumed;
+
+                client.decodableResponseBytes -= consumed;
+                assert client.decodableResponseBytes >= 0;
+
+                client.decodableRecordSetBytes -= consumed;
+                assert client.decodableRecordSetBytes >= 0;
+
+                client.decodableRecordBatchBytes -= consumed;
+                assert client.decodableRecordBatchBytes >= 0;
+
+                final int recordsLimit = decompressor.limit();
+                recordsProgress = decodeInflatedRecords(client, traceId, authorization,
+                        decompressor.buffer(), 0, recordsLimit, decompressor.finished());
+
+                if (client.decoder != decodeFetchRecordBatchInflate)
+                {
+                    break decode;
+                }
+
+                decompressor.compact(recordsProgress);
+
+                consumed += recordsLimit - recordsInitial;
+            }
+            while (consumed != 0 || recordsProgress != 0);
+
+            if (decompressor.finished() && decompressor.limit() == 0 && client.decodableRecordBatchBytes == 0)
+            {
+                if (client.decodableRecordBytes != 0)
+                {
+                    onDecodeRecordBatchUndecodable(client, traceId);
+                    break decode;
+                }
+
+                if (KafkaConfiguration.DEBUG)
+                {
+                    System.out.format("[client] [0x%016x] %s[%d] FETCH Record Set Bytes %d\n",
+                        client.replyId, client.topic, client.partitionId, client.decodableRecordSetBytes);
+                }
+
+                client.cleanupDecompressorIfNecessary();
+                client.decodableRecords = 0;
+                client.decoder = decodeFetchRecordLength;
+            }
+            else if (progress == initialProgress && decompressor.limit() == 0 && maxLimit - progress >= decodeMaxBytes)
+            {
+                // compressed block exceeds decode buffer
+                onDecodeRecordBatchUndecodable(client, traceId);
+            }
+        }
+
+        if (client.decoder == decodeIgnoreAll)
+        {
+            client.cleanupNetwork(traceId);
+        }
+
+        return progress;
+    }
+
+    private int decodeFetchRecordBatchCompressed(
+        KafkaFetchStream.KafkaFetchClient client,
+        long traceId,
+        long authorization,
+        long budgetId,
+        int reserved,
+        DirectBuffer buffer,
+        int offset,
+        int progress,
+        int limit)
+    {
+        final int length = limit - progress;
+
+        decode:
+        if (length >= client.decodableRecordBatchBytes)
+        {
+            final int compressedLength = client.decodableRecordBatchBytes;
+            final KafkaCompressionType type = KafkaCompressionType.valueOf(client.decodeRecordBatchAttributes);
+            final int recordsLimit = compressionCodec.decompress(type, buffer, progress, compressedLength,
+                    decompressBuffer, 0, decompressBuffer.capacity());
+
+            if (recordsLimit == KafkaCompressionCodec.FAILED)
+            {
+                onDecodeRecordBatchUndecodable(client, traceId);
+                break decode;
+            }
+
+            // inflated again on resume after waiting for reply window
+            final int recordsProgress = decodeInflatedRecords(client, traceId, authorization,
+                    decompressBuffer, client.decodeInflatedProgress, recordsLimit, true);
+
+            if (client.decoder != decodeFetchRecordBatchCompressed)
+            {
+                break decode;
+            }
+
+            if (recordsProgress < recordsLimit)
+            {
+                client.decodeInflatedProgress = recordsProgress;
+                break decode;
+            }
+
+            progress += compressedLength;
+
+            client.decodableResponseBytes -= compressedLength;
+            assert client.decodableResponseBytes >= 0;
+
+            client.decodableRecordSetBytes -= compressedLength;
+            assert client.decodableRecordSetBytes >= 0;
+
+            if (KafkaConfiguration.DEBUG)
+            {
+                System.out.format("[client] [0x%016x] %s[%d] FETCH Record Set Bytes %d\n",
+                    client.replyId, client.topic, client.partitionId, client.decodableRecordSetBytes);
+            }
+
+            client.decodableRecordBatchBytes -= compressedLength;
+            assert client.decodableRecordBatchBytes == 0;
+
+            client.decodableRecords = 0;
+            client.decodeInflatedProgress = 0;
+
+            client.decoder = decodeFetchRecordLength;
+        }
+
+        if (client.decoder == decodeIgnoreAll)
+        {
+            client.cleanupNetwork(traceId);
+        }
+
         return progress;
     }
 
+    private int decodeInflatedRecords(
+        KafkaFetchStream.KafkaFetchClient client,
+        long traceId,
+        long authorization,
+        DirectBuffer records,
+        int progress,
+        int limit,
+        boolean last)
+    {
+        final KafkaFetchClientDecoder decoder = client.decoder;
+        final long producerId = client.decodeRecordBatchProducerId;
+        final boolean aborted = client.decodeRecordBatchAborted;
+        final int replyPad = client.stream.replyPad;
+
+        decode:
+        while (progress < limit && client.decoder == decoder)
+        {
+            final int length = limit - progress;
+            final boolean complete = last || length == records.capacity();
+
+            if (client.decodableRecordBytes != 0)
+            {
+                final int remaining = decodeInflatedRecordRemaining(client, traceId, records, progress, limit, complete);
+                if (remaining == progress)
+                {
+                    break decode;
+                }
+                progress = remaining;
+                continue;
+            }
+
+            final Varint32FW recordLength = recordLengthRO.tryWrap(records, progress, limit);
+            final RecordHeaderFW recordHeader = recordHeaderRO.tryWrap(records, progress, limit);
+
+            if (recordLength == null || recordHeader == null)
+            {
+                if (complete)
+                {
+                    onDecodeRecordBatchUndecodable(client, traceId);
+                }
+                break decode;
+            }
+
+            final int sizeofRecord = recordLength.value();
+            final int valueLength = recordHeader.valueLength();
+            final int valueOffset = recordHeader.limit();
+            final int valueSize = Math.max(valueLength, 0);
+
+            if (sizeofRecord < 0 ||
+                sizeofRecord > Integer.MAX_VALUE - recordLength.limit() ||
+                valueSize > recordLength.limit() + sizeofRecord - valueOffset)
+            {
+                onDecodeRecordBatchUndecodable(client, traceId);
+                break decode;
+            }
+
+            final int recordLimit = recordLength.limit() + sizeofRecord;
+            final int trailerOffset = valueOffset + valueSize;
+            final boolean available = recordLimit <= limit;
+            final long offsetAbs = client.decodeRecordBatchOffset + recordHeader.offsetDelta();
+
+            if (!available && last)
+            {
+                onDecodeRecordBatchUndecodable(client, traceId);
+                break decode;
+            }
+
+            if (offsetAbs < client.nextOffset)
+            {
+                final int recordProgress = Math.min(recordLimit, limit);
+                client.decodeRecordOffset = offsetAbs;
+                client.decodableRecordBytes = recordLimit - recordProgress;
+                progress = recordProgress;
+                continue;
+            }
+
+            if (isControlBatch(client.decodeRecordBatchAttributes))
+            {
+                if (!available)
+                {
+                    if (complete)
+                    {
+                        onDecodeRecordBatchUndecodable(client, traceId);
+                    }
+                    break decode;
+                }
+
+                final ControlRecordKeyFW controlKey = recordHeader.key().get(controlRecordKeyRO::tryWrap);
+                if (controlKey != null && controlKey.version() == 0)
+                {
+                    switch (ControlRecordKeyType.valueOf(controlKey.type()))
+                    {
+                    case ABORT:
+                        client.onDecodeFetchTransactionAbort(traceId, authorization, offsetAbs, producerId);
+                        break;
+                    case COMMIT:
+                        client.onDecodeFetchTransactionCommit(traceId, authorization, offsetAbs, producerId);
+                        break;
+                    }
+                }
+                progress = recordLimit;
+                continue;
+            }
+
+            final long timestampAbs = client.decodeRecordBatchTimestamp + recordHeader.timestampDelta();
+            final OctetsFW key = recordHeader.key();
+            final int valueReserved = valueSize + replyPad;
+
+            if (available && valueReserved <= client.stream.replyMax)
+            {
+                final RecordTrailerFW recordTrailer = recordTrailerRO.tryWrap(records, trailerOffset, recordLimit);
+
+                if (recordTrailer == null)
+                {
+                    onDecodeRecordBatchUndecodable(client, traceId);
+                    break decode;
+                }
+
+                if (valueReserved > client.stream.replyBudget())
+                {
+                    break decode;
+                }
+
+                if (valueReserved != 0 && client.stream.replyDebIndex != NO_DEBITOR_INDEX)
+                {
+                    final int valueClaimed = client.stream.replyDeb.claim(traceId, client.stream.replyDebIndex,
+                            client.stream.replyId, valueReserved, valueReserved, 0);
+
+                    if (valueClaimed == 0)
+                    {
+                        break decode;
+                    }
+                }
+
+                final int headerCount = recordTrailer.headerCount();
+                final int headersOffset = recordTrailer.limit();
+                final DirectBuffer headers = wrapHeaders(records, headersOffset, recordLimit - headersOffset);
+                final OctetsFW value =
+                        valueLength != -1 ? valueRO.wrap(records, valueOffset, valueOffset + valueLength) : null;
+
+                client.decodeRecordOffset = offsetAbs;
+                client.onDecodeFetchRecord(traceId, aborted, valueReserved, offsetAbs, timestampAbs, producerId,
+                        key, value, headerCount, headers);
+
+                progress = recordLimit;
+                continue;
+            }
+
+            if (!available && !complete)
+            {
+                break decode;
+            }
+
+            final int valueAvailable = Math.min(limit, trailerOffset) - valueOffset;
+
+            if (valueAvailable <= 0)
+            {
+                // record key exceeds decode buffer
+                onDecodeRecordBatchUndecodable(client, traceId);
+                break decode;
+            }
+
+            final int maximum = Math.min(valueAvailable + replyPad, client.stream.replyBudget());
+            final int minimum = Math.min(maximum, replyPad + 1024);
+
+            if (maximum <= replyPad)
+            {
+                break decode;
+            }
+
+            int valueClaimed = maximum;
+            if (client.stream.replyDebIndex != NO_DEBITOR_INDEX)
+            {
+                valueClaimed = client.stream.replyDeb.claim(traceId, client.stream.replyDebIndex,
+                        client.stream.replyId, minimum, maximum, 0);
+
+                if (valueClaimed == 0)
+                {
+                    break decode;
+                }
+            }
+
+            final int valueFragment = valueClaimed - replyPad;
+            final int deferred = valueSize - valueFragment;
+            final int headersSizeMax = recordLimit - trailerOffset + 3;
+            final OctetsFW value = valueRO.wrap(records, valueOffset, valueOffset + valueFragment);
+
+            client.decodeRecordOffset = offsetAbs;
+            client.onDecodeFetchRecordValueInit(traceId, aborted, valueClaimed, deferred, offsetAbs,
+                    timestampAbs, headersSizeMax, producerId, key, value);
+
+            progress = valueOffset + valueFragment;
+            client.decodableRecordBytes = recordLimit - progress;
+            client.decodableRecordValueBytes = deferred;
+        }
+
+        return progress;
+    }
+
+    private int decodeInflatedRecordRemaining(
+        KafkaFetchStream.KafkaFetchClient client,
+        long traceId,
+        DirectBuffer records,
+        int progress,
+        int limit,
+        boolean complete)
+    {
+        final int length = limit - progress;
+        final int replyPad = client.stream.replyPad;
+
+        if (client.decodeRecordOffset < client.nextOffset)
+        {
+            final int skipped = Math.min(length, client.decodableRecordBytes);
+            client.decodableRecordBytes -= skipped;
+            return progress + skipped;
+        }
+
+        final int valueRemaining = client.decodableRecordValueBytes;
+        final int valueReserved = valueRemaining + replyPad;
+
+        if (length >= client.decodableRecordBytes && valueReserved <= client.stream.replyBudget())
+        {
+            final int trailerOffset = progress + valueRemaining;
+            final int recordLimit = progress + client.decodableRecordBytes;
+            final RecordTrailerFW recordTrailer = recordTrailerRO.tryWrap(records, trailerOffset, recordLimit);
+
+            if (recordTrailer == null)
+            {
+                onDecodeRecordBatchUndecodable(client, traceId);
+                return progress;
+            }
+
+            if (client.stream.replyDebIndex != NO_DEBITOR_INDEX)
+            {
+                final int valueClaimed = client.stream.replyDeb.claim(traceId, client.stream.replyDebIndex,
+                        client.stream.replyId, valueReserved, valueReserved, 0);
+
+                if (valueClaimed == 0)
+                {
+                    return progress;
+                }
+            }
+
+            final int headerCount = recordTrailer.headerCount();
+            final int headersOffset = recordTrailer.limit();
+            final DirectBuffer headers = wrapHeaders(records, headersOffset, recordLimit - headersOffset);
+            final OctetsFW value = valueRO.wrap(records, progress, trailerOffset);
+
+            client.onDecodeFetchRecordValueFin(traceId, valueReserved, client.decodeRecordOffset, value,
+                    headerCount, headers);
+
+            client.decodableRecordBytes = 0;
+            client.decodableRecordValueBytes = 0;
+            progress = recordLimit;
+        }
+        else if (valueRemaining != 0)
+        {
+            final int maximum = Math.min(Math.min(length, valueRemaining) + replyPad, client.stream.replyBudget());
+            final int minimum = Math.min(maximum, replyPad + 1024);
+
+            if (maximum <= replyPad)
+            {
+                return progress;
+            }
+
+            int valueClaimed = maximum;
+            if (client.stream.replyDebIndex != NO_DEBITOR_INDEX)
+            {
+                valueClaimed = client.stream.replyDeb.claim(traceId, client.stream.replyDebIndex,
+                        client.stream.replyId, minimum, maximum, 0);
+
+                if (valueClaimed == 0)
+                {
+                    return progress;
+                }
+            }
+
+            final int valueFragment = valueClaimed - replyPad;
+            final OctetsFW value = valueRO.wrap(records, progress, progress + valueFragment);
+
+            client.onDecodeFetchRecordValueCont(traceId, valueClaimed, value);
+
+            progress += valueFragment;
+            client.decodableRecordBytes -= valueFragment;
+            client.decodableRecordValueBytes -= valueFragment;
+        }
+        else
+        {
+            if (complete && length < client.decodableRecordBytes)
+            {
+                // record headers exceed decode buffer
+                onDecodeRecordBatchUndecodable(client, traceId);
+            }
+        }
+
+        return progress;
+    }
+
+    private KafkaDecompressor supplyDecompressor(
+        KafkaCompressionType type)
+    {
+        KafkaDecompressor decompressor = decompressors.poll();
+        if (decompressor == null)
+        {
+            decompressor = new KafkaDecompressor(decodeMaxBytes, decompressBuffer.capacity());
+        }
+        decompressor.reset(type);
+        return decompressor;
+    }
+
+    private void onDecodeRecordBatchUndecodable(
+        KafkaFetchStream.KafkaFetchClient client,
+        long traceId)
+    {
+        final KafkaCompressionType type = KafkaCompressionType.valueOf(client.decodeRecordBatchAttributes);
+        final String compression = type != null ? type.name().toLowerCase() : "unknown";
+
+        event.recordBatchUndecodable(traceId, client.originId, client.topic, client.partitionId,
+            client.decodeRecordBatchOffset, compression);
+
+        client.cleanupDecompressorIfNecessary();
+        client.decodeInflatedProgress = 0;
+
+        if (client.decodableRecordBytes != 0 && client.decodeRecordOffset >= client.nextOffset)
+        {
+            // record partially delivered
+            client.stream.cleanupApplication(traceId, ERROR_CORRUPT_MESSAGE);
+            client.decoder = decodeIgnoreAll;
+        }
+        else
+        {
+            client.decodableRecordBytes = 0;
+            client.decodableRecordValueBytes = 0;
+            client.decodableRecords = 0;
+            client.nextOffset = Math.max(client.nextOffset, client.decodeRecordBatchLastOffset + 1);
+            client.decoder = decodeIgnoreRecordBatch;
+        }
+    }
+
     private int decodeFetchRecordLength(
         KafkaFetchStream.KafkaFetchClient client,
         long traceId,
@@ -2210,6 +2761,8 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
             private long decodeRecordOffset;
             private int decodableRecordBytes;
             private int decodableRecordValueBytes;
+            private int decodeInflatedProgress;
+            private KafkaDecompressor decodeDecompressor;
 
             private int nextResponseId;
 
@@ -2360,7 +2913,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 {
                     cleanupNetwork(traceId);
                 }
-                else if (decodeSlot == NO_SLOT)
+                else if (decodeSlot == NO_SLOT && decodeDecompressor == null)
                 {
                     doApplicationEnd(traceId);
                 }
@@ -2555,6 +3108,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 }
 
                 cleanupDecodeSlotIfNecessary();
+                cleanupDecompressorIfNecessary();
             }
 
             private void doNetworkWindow(
@@ -2835,6 +3389,12 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
 
                     decodeNetwork(traceId, authorization, budgetId, reserved, buffer, offset, limit);
                 }
+                else if (decodeDecompressor != null)
+                {
+                    final long budgetId = 0L; // TODO
+
+                    decodeNetwork(traceId, authorization, budgetId, 0, EMPTY_BUFFER, 0, 0);
+                }
             }
 
             private void decodeNetwork(
@@ -3219,6 +3779,15 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 }
             }
 
+            private void cleanupDecompressorIfNecessary()
+            {
+                if (decodeDecompressor != null)
+                {
+                    decompressors.add(decodeDecompressor);
+                    decodeDecompressor = null;
+                }
+            }
+
             private void cleanupEncodeSlotIfNecessary()
             {
                 if (encodeSlot != NO_SLOT)
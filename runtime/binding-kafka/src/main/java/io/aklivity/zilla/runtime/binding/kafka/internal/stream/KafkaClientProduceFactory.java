@@ -191,6 +191,9 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
     private final int decodeMaxBytes;
     private final int encodeMaxBytes;
     private final CRC32C crc32c;
+    private final KafkaCompressionCodec compressionCodec;
+    private final KafkaCompressionType compressionType;
+    private final MutableDirectBuffer compressBuffer;
     private final KafkaEventContext event;
 
     public KafkaClientProduceFactory(
@@ -217,6 +220,13 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
         this.encodeMaxBytes = Math.min(config.clientProduceMaxBytes(),
                 encodePool.slotCapacity() - PRODUCE_REQUEST_RECORDS_OFFSET_MAX);
         this.crc32c = new CRC32C();
+        this.compressionCodec = new KafkaCompressionCodec();
+        this.compressionType = compressionCodec.supports(config.clientProduceCompression())
+                ? config.clientProduceCompression()
+                : KafkaCompressionType.NONE;
+        this.compressBuffer = compressionType != KafkaCompressionType.NONE
+                ? new UnsafeBuffer(new byte[encodePool.slotCapacity()])
+                : null;
         this.event = new KafkaEventContext(context);
     }
 
@@ -1903,6 +1913,11 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                 assert encodeSlot != NO_SLOT;
                 final MutableDirectBuffer encodeSlotBuffer = encodePool.buffer(encodeSlot);
 
+                if (compressionType != KafkaCompressionType.NONE)
+                {
+                    encodeCompression();
+                }
+
                 final RecordBatchFW recordBatch = recordBatchRO.wrap(encodeSlotBuffer, encodeSlotOffset, encodeSlotLimit);
                 final int recordBatchLength = RecordBatchFW.FIELD_OFFSET_LEADER_EPOCH + recordBatch.length();
 
@@ -1977,6 +1992,41 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                 headersSize = encodeProgress;
             }
 
+            private void encodeCompression()
+            {
+                final MutableDirectBuffer encodeSlotBuffer = encodePool.buffer(encodeSlot);
+                final RecordBatchFW recordBatch = recordBatchRO.wrap(encodeSlotBuffer, encodeSlotOffset, encodeSlotLimit);
+
+                final int attributes = recordBatch.attributes();
+                final int recordBatchLength = RecordBatchFW.FIELD_OFFSET_LEADER_EPOCH + recordBatch.length();
+                final int recordBatchLimit = recordBatch.offset() + recordBatchLength;
+
+                // compress complete batches only, deferred values are still streaming into the encode slot
+                if (recordBatchLimit == encodeSlotLimit &&
+                    encodeableRecordBytesDeferred == 0 &&
+                    KafkaCompressionType.valueOf(attributes) == KafkaCompressionType.NONE)
+                {
+                    final int recordsOffset = recordBatch.limit();
+                    final int recordsLength = recordBatchLimit - recordsOffset;
+                    final int compressedLength = compressionCodec.compress(compressionType,
+                            encodeSlotBuffer, recordsOffset, recordsLength, compressBuffer, 0, compressBuffer.capacity());
+
+                    if (compressedLength != KafkaCompressionCodec.FAILED && compressedLength < recordsLength)
+                    {
+                        final int compressedSavings = recordsLength - compressedLength;
+
+                        encodeSlotBuffer.putBytes(recordsOffset, compressBuffer, 0, compressedLength);
+                        encodeSlotBuffer.putInt(recordBatch.offset() + RecordBatchFW.FIELD_OFFSET_LENGTH,
+                            recordBatch.length() - compressedSavings, BIG_ENDIAN);
+                        encodeSlotBuffer.putShort(recordBatch.offset() + RecordBatchFW.FIELD_OFFSET_ATTRIBUTES,
+                            (short) (attributes | compressionType.value()), BIG_ENDIAN);
+
+                        encodeSlotLimit -= compressedSavings;
+                        encodeableRecordBatchSlotOffset = encodeSlotLimit;
+                    }
+                }
+            }
+
             private void encodeCrc()
             {
                 final MutableDirectBuffer encodeSlotBuffer = encodePool.buffer(encodeSlot);
@@ -0,0 +1,1170 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Record batch compression codecs for the Kafka wire format.
+ * <p>
+ * Supports {@code gzip}, {@code snappy} (xerial framing, as written by the Java client, or raw block)
+ * and {@code lz4} (LZ4 frame format) in both directions, reusing all internal state across calls.
+ * <b>Each instance of this class is assumed to be used by one and only one thread.</b>
+ */
+public final class KafkaCompressionCodec
+{
+    public static final int FAILED = -1;
+
+    private static final int GZIP_HEADER_SIZE = 10;
+    static final int GZIP_TRAILER_SIZE = 8;
+    private static final int GZIP_ID1 = 0x1f;
+    private static final int GZIP_ID2 = 0x8b;
+    private static final int GZIP_CM_DEFLATE = 8;
+    private static final int GZIP_OS_UNKNOWN = 0xff;
+    private static final int GZIP_FLAG_HCRC = 0x02;
+    private static final int GZIP_FLAG_EXTRA = 0x04;
+    private static final int GZIP_FLAG_NAME = 0x08;
+    private static final int GZIP_FLAG_COMMENT = 0x10;
+
+    private static final byte[] SNAPPY_XERIAL_MAGIC = { (byte) 0x82, 'S', 'N', 'A', 'P', 'P', 'Y', 0 };
+    static final int SNAPPY_XERIAL_HEADER_SIZE = SNAPPY_XERIAL_MAGIC.length + Integer.BYTES + Integer.BYTES;
+    private static final int SNAPPY_XERIAL_VERSION = 1;
+    private static final int SNAPPY_BLOCK_SIZE = 32 * 1024;
+    private static final int SNAPPY_MIN_MATCH_INPUT = 16;
+    private static final int SNAPPY_TAG_LITERAL = 0x00;
+    private static final int SNAPPY_TAG_COPY_1 = 0x01;
+    private static final int SNAPPY_TAG_COPY_2 = 0x02;
+
+    static final int LZ4_FRAME_MAGIC = 0x184d2204;
+    private static final int LZ4_FRAME_FLG = 0x60;
+    private static final int LZ4_FRAME_BD = 0x40;
+    private static final int LZ4_FRAME_HC = (xxhash32(LZ4_FRAME_FLG, LZ4_FRAME_BD) >>> 8) & 0xff;
+    private static final int LZ4_FRAME_HEADER_SIZE = 7;
+    static final int LZ4_FLG_VERSION_MASK = 0xc0;
+    static final int LZ4_FLG_VERSION = 0x40;
+    static final int LZ4_FLG_BLOCK_INDEPENDENCE = 0x20;
+    static final int LZ4_FLG_BLOCK_CHECKSUM = 0x10;
+    static final int LZ4_FLG_CONTENT_SIZE = 0x08;
+    static final int LZ4_FLG_DICT_ID = 0x01;
+    static final int LZ4_BLOCK_UNCOMPRESSED = 0x80000000;
+    private static final int LZ4_BLOCK_SIZE = 64 * 1024;
+    private static final int LZ4_MIN_MATCH = 4;
+    private static final int LZ4_MF_LIMIT = 12;
+    private static final int LZ4_LAST_LITERALS = 5;
+
+    private static final int HASH_LOG = 14;
+
+    private static final int XXH32_PRIME1 = 0x9e3779b1;
+    private static final int XXH32_PRIME2 = 0x85ebca77;
+    private static final int XXH32_PRIME3 = 0xc2b2ae3d;
+    private static final int XXH32_PRIME5 = 0x165667b1;
+
+    private final Inflater inflater;
+    private final Deflater deflater;
+    private final CRC32 crc32;
+    private final int[] hashTable;
+
+    private byte[] zipInput;
+    private byte[] zipOutput;
+
+    public KafkaCompressionCodec()
+    {
+        this.inflater = new Inflater(true);
+        this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        this.crc32 = new CRC32();
+        this.hashTable = new int[1 << HASH_LOG];
+        this.zipInput = new byte[0];
+        this.zipOutput = new byte[0];
+    }
+
+    public boolean supports(
+        KafkaCompressionType type)
+    {
+        return type != null && type != KafkaCompressionType.ZSTD;
+    }
+
+    /**
+     * Decompresses {@code src} into {@code dst} starting at {@code dstOffset}.
+     *
+     * @return the number of decompressed bytes, or {@link #FAILED} if the input is malformed,
+     *         the compression type is not supported or the output would exceed {@code dstLimit}
+     */
+    public int decompress(
+        KafkaCompressionType type,
+        DirectBuffer src,
+        int offset,
+        int length,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        int decompressed = FAILED;
+
+        if (type != null)
+        {
+            switch (type)
+            {
+            case NONE:
+                if (dstOffset + length <= dstLimit)
+                {
+                    dst.putBytes(dstOffset, src, offset, length);
+                    decompressed = length;
+                }
+                break;
+            case GZIP:
+                decompressed = decompressGzip(src, offset, length, dst, dstOffset, dstLimit);
+                break;
+            case SNAPPY:
+                decompressed = decompressSnappy(src, offset, length, dst, dstOffset, dstLimit);
+                break;
+            case LZ4:
+                decompressed = decompressLz4(src, offset, length, dst, dstOffset, dstLimit);
+                break;
+            default:
+                break;
+            }
+        }
+
+        return decompressed;
+    }
+
+    /**
+     * Compresses {@code src} into {@code dst} starting at {@code dstOffset}.
+     *
+     * @return the number of compressed bytes, or {@link #FAILED} if the compression type is not supported
+     *         or the output would exceed {@code dstLimit}
+     */
+    public int compress(
+        KafkaCompressionType type,
+        DirectBuffer src,
+        int offset,
+        int length,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        int compressed = FAILED;
+
+        if (type != null)
+        {
+            switch (type)
+            {
+            case NONE:
+                if (dstOffset + length <= dstLimit)
+                {
+                    dst.putBytes(dstOffset, src, offset, length);
+                    compressed = length;
+                }
+                break;
+            case GZIP:
+                compressed = compressGzip(src, offset, length, dst, dstOffset, dstLimit);
+                break;
+            case SNAPPY:
+                compressed = compressSnappy(src, offset, length, dst, dstOffset, dstLimit);
+                break;
+            case LZ4:
+                compressed = compressLz4(src, offset, length, dst, dstOffset, dstLimit);
+                break;
+            default:
+                break;
+            }
+        }
+
+        return compressed;
+    }
+
+    private int decompressGzip(
+        DirectBuffer src,
+        int offset,
+        int length,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        final int limit = offset + length;
+
+        int decompressed = FAILED;
+
+        decode:
+        if (length >= GZIP_HEADER_SIZE + GZIP_TRAILER_SIZE)
+        {
+            final int trailerOffset = limit - GZIP_TRAILER_SIZE;
+            final int progress = decodeGzipHeader(src, offset, trailerOffset);
+
+            if (progress == FAILED)
+            {
+                break decode;
+            }
+
+            final int deflatedLength = trailerOffset - progress;
+            final byte[] input = zipInput(deflatedLength);
+            src.getBytes(progress, input, 0, deflatedLength);
+
+            final byte[] dstArray = dst.byteArray();
+            final boolean direct = dstArray == null;
+            final int outputCapacity = dstLimit - dstOffset;
+            final byte[] output = direct ? zipOutput(outputCapacity) : dstArray;
+            final int outputOffset = direct ? 0 : (int) dst.wrapAdjustment() + dstOffset;
+
+            try
+            {
+                inflater.reset();
+                inflater.setInput(input, 0, deflatedLength);
+
+                final int inflated = inflater.inflate(output, outputOffset, outputCapacity);
+
+                if (inflater.finished() &&
+                    inflated == src.getInt(trailerOffset + Integer.BYTES, LITTLE_ENDIAN))
+                {
+                    if (direct)
+                    {
+                        dst.putBytes(dstOffset, output, 0, inflated);
+                    }
+                    decompressed = inflated;
+                }
+            }
+            catch (DataFormatException ex)
+            {
+                decompressed = FAILED;
+            }
+        }
+
+        return decompressed;
+    }
+
+    static int decodeGzipHeader(
+        DirectBuffer src,
+        int offset,
+        int limit)
+    {
+        int progress = FAILED;
+
+        if (offset + GZIP_HEADER_SIZE <= limit &&
+            (src.getByte(offset) & 0xff) == GZIP_ID1 &&
+            (src.getByte(offset + 1) & 0xff) == GZIP_ID2 &&
+            src.getByte(offset + 2) == GZIP_CM_DEFLATE)
+        {
+            final int flags = src.getByte(offset + 3) & 0xff;
+
+            progress = offset + GZIP_HEADER_SIZE;
+
+            if ((flags & GZIP_FLAG_EXTRA) != 0)
+            {
+                progress = progress + Short.BYTES <= limit
+                    ? progress + Short.BYTES + (src.getShort(progress, LITTLE_ENDIAN) & 0xffff)
+                    : FAILED;
+            }
+
+            if ((flags & GZIP_FLAG_NAME) != 0 && progress != FAILED && progress <= limit)
+            {
+                progress = skipZeroTerminated(src, progress, limit);
+            }
+
+            if ((flags & GZIP_FLAG_COMMENT) != 0 && progress != FAILED && progress <= limit)
+            {
+                progress = skipZeroTerminated(src, progress, limit);
+            }
+
+            if ((flags & GZIP_FLAG_HCRC) != 0 && progress != FAILED)
+            {
+                progress += Short.BYTES;
+            }
+
+            if (progress > limit)
+            {
+                progress = FAILED;
+            }
+        }
+
+        return progress;
+    }
+
+    private int compressGzip(
+        DirectBuffer src,
+        int offset,
+        int length,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        int compressed = FAILED;
+
+        final int deflateOffset = dstOffset + GZIP_HEADER_SIZE;
+        final int deflateCapacity = dstLimit - deflateOffset - GZIP_TRAILER_SIZE;
+
+        if (deflateCapacity > 0)
+        {
+            final byte[] input = zipInput(length);
+            src.getBytes(offset, input, 0, length);
+
+            final byte[] output = zipOutput(deflateCapacity);
+
+            deflater.reset();
+            deflater.setInput(input, 0, length);
+            deflater.finish();
+
+            final int deflated = deflater.deflate(output, 0, deflateCapacity);
+
+            if (deflater.finished())
+            {
+                crc32.reset();
+                crc32.update(input, 0, length);
+
+                dst.putByte(dstOffset, (byte) GZIP_ID1);
+                dst.putByte(dstOffset + 1, (byte) GZIP_ID2);
+                dst.putByte(dstOffset + 2, (byte) GZIP_CM_DEFLATE);
+                dst.putByte(dstOffset + 3, (byte) 0);
+                dst.putInt(dstOffset + 4, 0);
+                dst.putByte(dstOffset + 8, (byte) 0);
+                dst.putByte(dstOffset + 9, (byte) GZIP_OS_UNKNOWN);
+                dst.putBytes(deflateOffset, output, 0, deflated);
+
+                final int trailerOffset = deflateOffset + deflated;
+                dst.putInt(trailerOffset, (int) crc32.getValue(), LITTLE_ENDIAN);
+                dst.putInt(trailerOffset + Integer.BYTES, length, LITTLE_ENDIAN);
+
+                compressed = GZIP_HEADER_SIZE + deflated + GZIP_TRAILER_SIZE;
+            }
+        }
+
+        return compressed;
+    }
+
+    private int decompressSnappy(
+        DirectBuffer src,
+        int offset,
+        int length,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        int decompressed = FAILED;
+
+        if (isSnappyXerial(src, offset, length))
+        {
+            final int limit = offset + length;
+
+            int progress = offset + SNAPPY_XERIAL_HEADER_SIZE;
+            int dstProgress = dstOffset;
+
+            while (progress + Integer.BYTES <= limit)
+            {
+                final int chunkLength = src.getInt(progress, BIG_ENDIAN);
+                progress += Integer.BYTES;
+
+                if (chunkLength < 0 || progress + chunkLength > limit)
+                {
+                    dstProgress = FAILED;
+                    break;
+                }
+
+                final int chunkDecompressed = decompressSnappyBlock(src, progress, chunkLength, dst, dstProgress, dstLimit);
+                if (chunkDecompressed == FAILED)
+                {
+                    dstProgress = FAILED;
+                    break;
+                }
+
+                progress += chunkLength;
+                dstProgress += chunkDecompressed;
+            }
+
+            if (dstProgress != FAILED && progress == limit)
+            {
+                decompressed = dstProgress - dstOffset;
+            }
+        }
+        else
+        {
+            decompressed = decompressSnappyBlock(src, offset, length, dst, dstOffset, dstLimit);
+        }
+
+        return decompressed;
+    }
+
+    static int decompressSnappyBlock(
+        DirectBuffer src,
+        int offset,
+        int length,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        final int limit = offset + length;
+
+        int progress = offset;
+        int expected = 0;
+        int shift = 0;
+        int octet;
+        do
+        {
+            if (progress >= limit || shift > 28)
+            {
+                return FAILED;
+            }
+            octet = src.getByte(progress++) & 0xff;
+            expected |= (octet & 0x7f) << shift;
+            shift += 7;
+        } while ((octet & 0x80) != 0);
+
+        if (expected < 0 || dstOffset + expected > dstLimit)
+        {
+            return FAILED;
+        }
+
+        final int dstExpectedLimit = dstOffset + expected;
+        int dstProgress = dstOffset;
+
+        while (progress < limit)
+        {
+            final int tag = src.getByte(progress++) & 0xff;
+
+            int copyLength;
+            int copyOffset;
+
+            switch (tag & 0x03)
+            {
+            case SNAPPY_TAG_LITERAL:
+                int literalLength = tag >>> 2;
+                if (literalLength >= 60)
+                {
+                    final int lengthBytes = literalLength - 59;
+                    if (progress + lengthBytes > limit)
+                    {
+                        return FAILED;
+                    }
+                    literalLength = getIntLE(src, progress, lengthBytes);
+                    progress += lengthBytes;
+                }
+                literalLength += 1;
+
+                if (literalLength <= 0 ||
+                    progress + literalLength > limit ||
+                    dstProgress + literalLength > dstExpectedLimit)
+                {
+                    return FAILED;
+                }
+
+                dst.putBytes(dstProgress, src, progress, literalLength);
+                progress += literalLength;
+                dstProgress += literalLength;
+                continue;
+            case SNAPPY_TAG_COPY_1:
+                if (progress >= limit)
+                {
+                    return FAILED;
+                }
+                copyLength = ((tag >>> 2) & 0x07) + 4;
+                copyOffset = ((tag >>> 5) << 8) | (src.getByte(progress++) & 0xff);
+                break;
+            case SNAPPY_TAG_COPY_2:
+                if (progress + Short.BYTES > limit)
+                {
+                    return FAILED;
+                }
+                copyLength = (tag >>> 2) + 1;
+                copyOffset = src.getShort(progress, LITTLE_ENDIAN) & 0xffff;
+                progress += Short.BYTES;
+                break;
+            default:
+                if (progress + Integer.BYTES > limit)
+                {
+                    return FAILED;
+                }
+                copyLength = (tag >>> 2) + 1;
+                copyOffset = src.getInt(progress, LITTLE_ENDIAN);
+                progress += Integer.BYTES;
+                break;
+            }
+
+            if (copyOffset <= 0 ||
+                copyOffset > dstProgress - dstOffset ||
+                dstProgress + copyLength > dstExpectedLimit)
+            {
+                return FAILED;
+            }
+
+            copyMatch(dst, dstProgress, copyOffset, copyLength);
+            dstProgress += copyLength;
+        }
+
+        return dstProgress == dstExpectedLimit ? expected : FAILED;
+    }
+
+    private int compressSnappy(
+        DirectBuffer src,
+        int offset,
+        int length,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        final int blocks = (length + SNAPPY_BLOCK_SIZE - 1) / SNAPPY_BLOCK_SIZE;
+        final long maxCompressed = SNAPPY_XERIAL_HEADER_SIZE +
+            (long) blocks * (Integer.BYTES + Integer.BYTES + 32) + length + length / 6;
+
+        int compressed = FAILED;
+
+        if (dstOffset + maxCompressed <= dstLimit)
+        {
+            int dstProgress = dstOffset;
+
+            dst.putBytes(dstProgress, SNAPPY_XERIAL_MAGIC);
+            dstProgress += SNAPPY_XERIAL_MAGIC.length;
+            dst.putInt(dstProgress, SNAPPY_XERIAL_VERSION, BIG_ENDIAN);
+            dstProgress += Integer.BYTES;
+            dst.putInt(dstProgress, SNAPPY_XERIAL_VERSION, BIG_ENDIAN);
+            dstProgress += Integer.BYTES;
+
+            final int limit = offset + length;
+            int progress = offset;
+            while (progress < limit)
+            {
+                final int blockLength = Math.min(SNAPPY_BLOCK_SIZE, limit - progress);
+                final int chunkOffset = dstProgress + Integer.BYTES;
+                final int chunkLength = compressSnappyBlock(src, progress, blockLength, dst, chunkOffset);
+
+                dst.putInt(dstProgress, chunkLength, BIG_ENDIAN);
+                dstProgress = chunkOffset + chunkLength;
+                progress += blockLength;
+            }
+
+            compressed = dstProgress - dstOffset;
+        }
+
+        return compressed;
+    }
+
+    private int compressSnappyBlock(
+        DirectBuffer src,
+        int offset,
+        int length,
+        MutableDirectBuffer dst,
+        int dstOffset)
+    {
+        final int limit = offset + length;
+
+        int dstProgress = putVarint(dst, dstOffset, length);
+        int anchor = offset;
+
+        if (length >= SNAPPY_MIN_MATCH_INPUT)
+        {
+            final int[] hashTable = this.hashTable;
+            Arrays.fill(hashTable, -1);
+
+            final int matchLimit = limit - Integer.BYTES;
+            int progress = offset;
+            while (progress <= matchLimit)
+            {
+                final int value = src.getInt(progress);
+                final int hash = hash(value);
+                final int candidate = hashTable[hash];
+                hashTable[hash] = progress - offset;
+
+                if (candidate >= 0 && src.getInt(offset + candidate) == value)
+                {
+                    final int candidateOffset = offset + candidate;
+
+                    int matchLength = Integer.BYTES;
+                    while (progress + matchLength < limit &&
+                        src.getByte(candidateOffset + matchLength) == src.getByte(progress + matchLength))
+                    {
+                        matchLength++;
+                    }
+
+                    if (progress > anchor)
+                    {
+                        dstProgress = putSnappyLiteral(src, anchor, progress - anchor, dst, dstProgress);
+                    }
+
+                    dstProgress = putSnappyCopy(progress - candidateOffset, matchLength, dst, dstProgress);
+
+                    progress += matchLength;
+                    anchor = progress;
+                }
+                else
+                {
+                    progress++;
+                }
+            }
+        }
+
+        if (anchor < limit)
+        {
+            dstProgress = putSnappyLiteral(src, anchor, limit - anchor, dst, dstProgress);
+        }
+
+        return dstProgress - dstOffset;
+    }
+
+    private int decompressLz4(
+        DirectBuffer src,
+        int offset,
+        int length,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        if (length < LZ4_FRAME_HEADER_SIZE ||
+            src.getInt(offset, LITTLE_ENDIAN) != LZ4_FRAME_MAGIC)
+        {
+            return FAILED;
+        }
+
+        final int flags = src.getByte(offset + Integer.BYTES) & 0xff;
+        if ((flags & LZ4_FLG_VERSION_MASK) != LZ4_FLG_VERSION)
+        {
+            return FAILED;
+        }
+
+        final int limit = offset + length;
+
+        int progress = offset + Integer.BYTES + 2;
+        if ((flags & LZ4_FLG_CONTENT_SIZE) != 0)
+        {
+            progress += Long.BYTES;
+        }
+        if ((flags & LZ4_FLG_DICT_ID) != 0)
+        {
+            progress += Integer.BYTES;
+        }
+        progress++;
+
+        int dstProgress = dstOffset;
+
+        for (;;)
+        {
+            if (progress + Integer.BYTES > limit)
+            {
+                return FAILED;
+            }
+
+            final int blockSize = src.getInt(progress, LITTLE_ENDIAN);
+            progress += Integer.BYTES;
+
+            if (blockSize == 0)
+            {
+                break;
+            }
+
+            final int blockLength = blockSize & ~LZ4_BLOCK_UNCOMPRESSED;
+            if (progress + blockLength > limit)
+            {
+                return FAILED;
+            }
+
+            int blockDecompressed;
+            if ((blockSize & LZ4_BLOCK_UNCOMPRESSED) != 0)
+            {
+                if (dstProgress + blockLength > dstLimit)
+                {
+                    return FAILED;
+                }
+                dst.putBytes(dstProgress, src, progress, blockLength);
+                blockDecompressed = blockLength;
+            }
+            else
+            {
+                blockDecompressed = decompressLz4Block(src, progress, blockLength, dst, dstOffset, dstProgress, dstLimit);
+                if (blockDecompressed == FAILED)
+                {
+                    return FAILED;
+                }
+            }
+
+            progress += blockLength;
+            dstProgress += blockDecompressed;
+
+            if ((flags & LZ4_FLG_BLOCK_CHECKSUM) != 0)
+            {
+                progress += Integer.BYTES;
+            }
+        }
+
+        return dstProgress - dstOffset;
+    }
+
+    static int decompressLz4Block(
+        DirectBuffer src,
+        int offset,
+        int length,
+        MutableDirectBuffer dst,
+        int dstFrameOffset,
+        int dstOffset,
+        int dstLimit)
+    {
+        final int limit = offset + length;
+
+        int progress = offset;
+        int dstProgress = dstOffset;
+
+        while (progress < limit)
+        {
+            final int token = src.getByte(progress++) & 0xff;
+
+            int literalLength = token >>> 4;
+            if (literalLength == 0x0f)
+            {
+                int octet;
+                do
+                {
+                    if (progress >= limit)
+                    {
+                        return FAILED;
+                    }
+                    octet = src.getByte(progress++) & 0xff;
+                    literalLength += octet;
+                } while (octet == 0xff);
+            }
+
+            if (progress + literalLength > limit ||
+                dstProgress + literalLength > dstLimit)
+            {
+                return FAILED;
+            }
+
+            dst.putBytes(dstProgress, src, progress, literalLength);
+            progress += literalLength;
+            dstProgress += literalLength;
+
+            if (progress == limit)
+            {
+                break;
+            }
+
+            if (progress + Short.BYTES > limit)
+            {
+                return FAILED;
+            }
+
+            final int matchOffset = src.getShort(progress, LITTLE_ENDIAN) & 0xffff;
+            progress += Short.BYTES;
+
+            int matchLength = token & 0x0f;
+            if (matchLength == 0x0f)
+            {
+                int octet;
+                do
+                {
+                    if (progress >= limit)
+                    {
+                        return FAILED;
+                    }
+                    octet = src.getByte(progress++) & 0xff;
+                    matchLength += octet;
+                } while (octet == 0xff);
+            }
+            matchLength += LZ4_MIN_MATCH;
+
+            if (matchOffset == 0 ||
+                matchOffset > dstProgress - dstFrameOffset ||
+                dstProgress + matchLength > dstLimit)
+            {
+                return FAILED;
+            }
+
+            copyMatch(dst, dstProgress, matchOffset, matchLength);
+            dstProgress += matchLength;
+        }
+
+        return dstProgress - dstOffset;
+    }
+
+    private int compressLz4(
+        DirectBuffer src,
+        int offset,
+        int length,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        final int blocks = (length + LZ4_BLOCK_SIZE - 1) / LZ4_BLOCK_SIZE;
+        final long maxCompressed = LZ4_FRAME_HEADER_SIZE + (long) blocks * Integer.BYTES + length + Integer.BYTES;
+
+        int compressed = FAILED;
+
+        if (dstOffset + maxCompressed <= dstLimit)
+        {
+            int dstProgress = dstOffset;
+
+            dst.putInt(dstProgress, LZ4_FRAME_MAGIC, LITTLE_ENDIAN);
+            dstProgress += Integer.BYTES;
+            dst.putByte(dstProgress++, (byte) LZ4_FRAME_FLG);
+            dst.putByte(dstProgress++, (byte) LZ4_FRAME_BD);
+            dst.putByte(dstProgress++, (byte) LZ4_FRAME_HC);
+
+            final int limit = offset + length;
+            int progress = offset;
+            while (progress < limit)
+            {
+                final int blockLength = Math.min(LZ4_BLOCK_SIZE, limit - progress);
+                final int blockOffset = dstProgress + Integer.BYTES;
+                final int blockCompressed = compressLz4Block(src, progress, blockLength, dst, blockOffset,
+                    blockOffset + blockLength);
+
+                if (blockCompressed == FAILED)
+                {
+                    dst.putBytes(blockOffset, src, progress, blockLength);
+                    dst.putInt(dstProgress, blockLength | LZ4_BLOCK_UNCOMPRESSED, LITTLE_ENDIAN);
+                    dstProgress = blockOffset + blockLength;
+                }
+                else
+                {
+                    dst.putInt(dstProgress, blockCompressed, LITTLE_ENDIAN);
+                    dstProgress = blockOffset + blockCompressed;
+                }
+
+                progress += blockLength;
+            }
+
+            dst.putInt(dstProgress, 0, LITTLE_ENDIAN);
+            dstProgress += Integer.BYTES;
+
+            compressed = dstProgress - dstOffset;
+        }
+
+        return compressed;
+    }
+
+    private int compressLz4Block(
+        DirectBuffer src,
+        int offset,
+        int length,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        final int limit = offset + length;
+
+        int dstProgress = dstOffset;
+        int anchor = offset;
+
+        if (length > LZ4_MF_LIMIT)
+        {
+            final int[] hashTable = this.hashTable;
+            Arrays.fill(hashTable, -1);
+
+            final int matchFindLimit = limit - LZ4_MF_LIMIT;
+            final int matchLimit = limit - LZ4_LAST_LITERALS;
+
+            int progress = offset;
+            while (progress < matchFindLimit)
+            {
+                final int value = src.getInt(progress);
+                final int hash = hash(value);
+                final int candidate = hashTable[hash];
+                hashTable[hash] = progress - offset;
+
+                if (candidate >= 0 && src.getInt(offset + candidate) == value)
+                {
+                    final int candidateOffset = offset + candidate;
+
+                    int matchLength = LZ4_MIN_MATCH;
+                    while (progress + matchLength < matchLimit &&
+                        src.getByte(candidateOffset + matchLength) == src.getByte(progress + matchLength))
+                    {
+                        matchLength++;
+                    }
+
+                    dstProgress = putLz4Sequence(src, anchor, progress - anchor, progress - candidateOffset, matchLength,
+                        dst, dstProgress, dstLimit);
+
+                    if (dstProgress == FAILED)
+                    {
+                        return FAILED;
+                    }
+
+                    progress += matchLength;
+                    anchor = progress;
+                }
+                else
+                {
+                    progress++;
+                }
+            }
+        }
+
+        dstProgress = putLz4Sequence(src, anchor, limit - anchor, 0, 0, dst, dstProgress, dstLimit);
+
+        return dstProgress != FAILED ? dstProgress - dstOffset : FAILED;
+    }
+
+    private byte[] zipInput(
+        int capacity)
+    {
+        if (zipInput.length < capacity)
+        {
+            zipInput = new byte[capacity];
+        }
+        return zipInput;
+    }
+
+    private byte[] zipOutput(
+        int capacity)
+    {
+        if (zipOutput.length < capacity)
+        {
+            zipOutput = new byte[capacity];
+        }
+        return zipOutput;
+    }
+
+    static boolean isSnappyXerial(
+        DirectBuffer src,
+        int offset,
+        int length)
+    {
+        boolean xerial = length >= SNAPPY_XERIAL_HEADER_SIZE;
+
+        for (int index = 0; xerial && index < SNAPPY_XERIAL_MAGIC.length; index++)
+        {
+            xerial = src.getByte(offset + index) == SNAPPY_XERIAL_MAGIC[index];
+        }
+
+        return xerial;
+    }
+
+    private static int putSnappyLiteral(
+        DirectBuffer src,
+        int offset,
+        int length,
+        MutableDirectBuffer dst,
+        int dstOffset)
+    {
+        final int encodedLength = length - 1;
+
+        int dstProgress = dstOffset;
+        if (encodedLength < 60)
+        {
+            dst.putByte(dstProgress++, (byte) (encodedLength << 2 | SNAPPY_TAG_LITERAL));
+        }
+        else
+        {
+            final int lengthBytes = encodedLength < 0x100 ? 1 : encodedLength < 0x10000 ? 2 : encodedLength < 0x1000000 ? 3 : 4;
+            dst.putByte(dstProgress++, (byte) ((59 + lengthBytes) << 2 | SNAPPY_TAG_LITERAL));
+            for (int index = 0; index < lengthBytes; index++)
+            {
+                dst.putByte(dstProgress++, (byte) (encodedLength >>> (index << 3)));
+            }
+        }
+
+        dst.putBytes(dstProgress, src, offset, length);
+
+        return dstProgress + length;
+    }
+
+    private static int putSnappyCopy(
+        int copyOffset,
+        int copyLength,
+        MutableDirectBuffer dst,
+        int dstOffset)
+    {
+        int dstProgress = dstOffset;
+        int remaining = copyLength;
+
+        while (remaining >= 68)
+        {
+            dstProgress = putSnappyCopy2(copyOffset, 64, dst, dstProgress);
+            remaining -= 64;
+        }
+
+        if (remaining > 64)
+        {
+            dstProgress = putSnappyCopy2(copyOffset, 60, dst, dstProgress);
+            remaining -= 60;
+        }
+
+        return putSnappyCopy2(copyOffset, remaining, dst, dstProgress);
+    }
+
+    private static int putSnappyCopy2(
+        int copyOffset,
+        int copyLength,
+        MutableDirectBuffer dst,
+        int dstOffset)
+    {
+        dst.putByte(dstOffset, (byte) ((copyLength - 1) << 2 | SNAPPY_TAG_COPY_2));
+        dst.putShort(dstOffset + 1, (short) copyOffset, LITTLE_ENDIAN);
+        return dstOffset + 1 + Short.BYTES;
+    }
+
+    private static int putLz4Sequence(
+        DirectBuffer src,
+        int literalOffset,
+        int literalLength,
+        int matchOffset,
+        int matchLength,
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int dstLimit)
+    {
+        final boolean lastLiterals = matchLength == 0;
+        final int encodedMatchLength = lastLiterals ? 0 : matchLength - LZ4_MIN_MATCH;
+        final int maxSequenceLength = 1 + literalLength / 0xff + 1 + literalLength +
+            (lastLiterals ? 0 : Short.BYTES + encodedMatchLength / 0xff + 1);
+
+        if (dstOffset + maxSequenceLength > dstLimit)
+        {
+            return FAILED;
+        }
+
+        int dstProgress = dstOffset;
+
+        final int token = Math.min(literalLength, 0x0f) << 4 | Math.min(encodedMatchLength, 0x0f);
+        dst.putByte(dstProgress++, (byte) token);
+
+        if (literalLength >= 0x0f)
+        {
+            dstProgress = putLz4Length(literalLength - 0x0f, dst, dstProgress);
+        }
+
+        dst.putBytes(dstProgress, src, literalOffset, literalLength);
+        dstProgress += literalLength;
+
+        if (!lastLiterals)
+        {
+            dst.putShort(dstProgress, (short) matchOffset, LITTLE_ENDIAN);
+            dstProgress += Short.BYTES;
+
+            if (encodedMatchLength >= 0x0f)
+            {
+                dstProgress = putLz4Length(encodedMatchLength - 0x0f, dst, dstProgress);
+            }
+        }
+
+        return dstProgress;
+    }
+
+    private static int putLz4Length(
+        int length,
+        MutableDirectBuffer dst,
+        int dstOffset)
+    {
+        int dstProgress = dstOffset;
+        int remaining = length;
+
+        while (remaining >= 0xff)
+        {
+            dst.putByte(dstProgress++, (byte) 0xff);
+            remaining -= 0xff;
+        }
+        dst.putByte(dstProgress++, (byte) remaining);
+
+        return dstProgress;
+    }
+
+    private static int putVarint(
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int value)
+    {
+        int dstProgress = dstOffset;
+        int remaining = value;
+
+        while ((remaining & ~0x7f) != 0)
+        {
+            dst.putByte(dstProgress++, (byte) ((remaining & 0x7f) | 0x80));
+            remaining >>>= 7;
+        }
+        dst.putByte(dstProgress++, (byte) remaining);
+
+        return dstProgress;
+    }
+
+    private static void copyMatch(
+        MutableDirectBuffer dst,
+        int dstOffset,
+        int matchOffset,
+        int matchLength)
+    {
+        final int matchStart = dstOffset - matchOffset;
+
+        if (matchOffset >= matchLength)
+        {
+            dst.putBytes(dstOffset, dst, matchStart, matchLength);
+        }
+        else
+        {
+            for (int index = 0; index < matchLength; index++)
+            {
+                dst.putByte(dstOffset + index, dst.getByte(matchStart + index));
+            }
+        }
+    }
+
+    private static int skipZeroTerminated(
+        DirectBuffer src,
+        int offset,
+        int limit)
+    {
+        int progress = offset;
+        while (progress < limit && src.getByte(progress) != 0)
+        {
+            progress++;
+        }
+        return progress < limit ? progress + 1 : FAILED;
+    }
+
+    private static int getIntLE(
+        DirectBuffer src,
+        int offset,
+        int length)
+    {
+        int value = 0;
+        for (int index = 0; index < length; index++)
+        {
+            value |= (src.getByte(offset + index) & 0xff) << (index << 3);
+        }
+        return value;
+    }
+
+    private static int hash(
+        int value)
+    {
+        return (value * 0x1e35a7bd) >>> (Integer.SIZE - HASH_LOG);
+    }
+
+    private static int xxhash32(
+        int... octets)
+    {
+        // short input variant (less than 16 bytes), seed 0
+        int hash = XXH32_PRIME5 + octets.length;
+
+        for (int octet : octets)
+        {
+            hash += (octet & 0xff) * XXH32_PRIME5;
+            hash = Integer.rotateLeft(hash, 11) * XXH32_PRIME1;
+        }
+
+        hash ^= hash >>> 15;
+        hash *= XXH32_PRIME2;
+        hash ^= hash >>> 13;
+        hash *= XXH32_PRIME3;
+        hash ^= hash >>> 16;
+
+        return hash;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
+
+public enum KafkaCompressionType
+{
+    NONE(0),
+    GZIP(1),
+    SNAPPY(2),
+    LZ4(3),
+    ZSTD(4);
+
+    private static final int ATTRIBUTES_COMPRESSION_MASK = 0x07;
+
+    private final int value;
+
+    KafkaCompressionType(
+        int value)
+    {
+        this.value = value;
+    }
+
+    public int value()
+    {
+        return value;
+    }
+
+    public static KafkaCompressionType valueOf(
+        int attributes)
+    {
+        KafkaCompressionType type = null;
+
+        switch (attributes & ATTRIBUTES_COMPRESSION_MASK)
+        {
+        case 0:
+            type = NONE;
+            break;
+        case 1:
+            type = GZIP;
+            break;
+        case 2:
+            type = SNAPPY;
+            break;
+        case 3:
+            type = LZ4;
+            break;
+        case 4:
+            type = ZSTD;
+            break;
+        }
+
+        return type;
+    }
+}
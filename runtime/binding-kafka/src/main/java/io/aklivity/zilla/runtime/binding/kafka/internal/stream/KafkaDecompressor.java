@@ -0,0 +1,528 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
+
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaCompressionCodec.GZIP_TRAILER_SIZE;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaCompressionCodec.LZ4_BLOCK_UNCOMPRESSED;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaCompressionCodec.LZ4_FLG_BLOCK_CHECKSUM;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaCompressionCodec.LZ4_FLG_BLOCK_INDEPENDENCE;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaCompressionCodec.LZ4_FLG_CONTENT_SIZE;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaCompressionCodec.LZ4_FLG_DICT_ID;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaCompressionCodec.LZ4_FLG_VERSION;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaCompressionCodec.LZ4_FLG_VERSION_MASK;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaCompressionCodec.LZ4_FRAME_MAGIC;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaCompressionCodec.SNAPPY_XERIAL_HEADER_SIZE;
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Incremental record batch decompression for the Kafka wire format.
+ * <p>
+ * Inflates {@code gzip}, {@code snappy} (xerial framing) and {@code lz4} (independent blocks) as compressed
+ * bytes arrive, into a bounded buffer that is compacted as records are decoded, so batches larger than the
+ * decode buffer never need to be presented or inflated in full.
+ * <b>Each instance of this class is assumed to be used by one and only one thread.</b>
+ */
+public final class KafkaDecompressor
+{
+    public static final int FAILED = KafkaCompressionCodec.FAILED;
+    public static final int UNSUPPORTED = -2;
+
+    private static final int STATE_HEADER = 0;
+    private static final int STATE_BODY = 1;
+    private static final int STATE_TRAILER = 2;
+    private static final int STATE_DONE = 3;
+
+    private static final int LZ4_FRAME_HEADER_MIN = Integer.BYTES + 3;
+
+    private final byte[] bytes;
+    private final MutableDirectBuffer buffer;
+    private final MutableDirectBuffer chunk;
+    private final int chunkMax;
+    private final Inflater inflater;
+
+    private KafkaCompressionType type;
+    private int state;
+    private int limit;
+    private int chunkProgress;
+    private int chunkLimit;
+    private int frameFlags;
+    private int blockMax;
+    private int blockRemaining;
+    private int blockSkip;
+    private int inflated;
+    private byte[] input;
+
+    public KafkaDecompressor(
+        int capacity,
+        int chunkMax)
+    {
+        this.bytes = new byte[capacity];
+        this.buffer = new UnsafeBuffer(bytes);
+        this.chunk = new UnsafeBuffer(new byte[0]);
+        this.chunkMax = chunkMax;
+        this.inflater = new Inflater(true);
+        this.input = new byte[0];
+    }
+
+    public void reset(
+        KafkaCompressionType type)
+    {
+        this.type = type;
+        this.state = STATE_HEADER;
+        this.limit = 0;
+        this.chunkProgress = 0;
+        this.chunkLimit = 0;
+        this.frameFlags = 0;
+        this.blockMax = 0;
+        this.blockRemaining = 0;
+        this.blockSkip = 0;
+        this.inflated = 0;
+    }
+
+    public DirectBuffer buffer()
+    {
+        return buffer;
+    }
+
+    public int limit()
+    {
+        return limit;
+    }
+
+    public boolean finished()
+    {
+        return state == STATE_DONE && chunkProgress == chunkLimit;
+    }
+
+    public void compact(
+        int progress)
+    {
+        if (progress != 0)
+        {
+            buffer.putBytes(0, buffer, progress, limit - progress);
+            limit -= progress;
+        }
+    }
+
+    /**
+     * Inflates from {@code src} into {@link #buffer()} until either no more input can be consumed or the buffer is full.
+     *
+     * @param last  {@code true} if {@code src} extends to the end of the compressed batch
+     * @return the number of bytes consumed from {@code src}, {@link #FAILED} if the input is malformed,
+     *         or {@link #UNSUPPORTED} if the framing cannot be inflated incrementally, before any input is consumed
+     */
+    public int inflate(
+        DirectBuffer src,
+        int offset,
+        int length,
+        boolean last)
+    {
+        final int srcLimit = offset + length;
+
+        int progress = offset;
+
+        for (;;)
+        {
+            drainChunk();
+
+            if (chunkProgress != chunkLimit)
+            {
+                break;
+            }
+
+            final int previous = limit;
+
+            int consumed;
+            switch (type)
+            {
+            case GZIP:
+                consumed = inflateGzip(src, progress, srcLimit, last);
+                break;
+            case SNAPPY:
+                consumed = inflateSnappy(src, progress, srcLimit, last);
+                break;
+            case LZ4:
+                consumed = inflateLz4(src, progress, srcLimit, last);
+                break;
+            default:
+                consumed = UNSUPPORTED;
+                break;
+            }
+
+            if (consumed < 0)
+            {
+                return consumed;
+            }
+
+            progress += consumed;
+
+            if (consumed == 0 && limit == previous)
+            {
+                break;
+            }
+        }
+
+        return progress - offset;
+    }
+
+    private int inflateGzip(
+        DirectBuffer src,
+        int offset,
+        int limit,
+        boolean last)
+    {
+        final int length = limit - offset;
+
+        int consumed = 0;
+
+        if (state == STATE_HEADER)
+        {
+            final int progress = KafkaCompressionCodec.decodeGzipHeader(src, offset, limit);
+            if (progress != FAILED)
+            {
+                inflater.reset();
+                state = STATE_BODY;
+                consumed = progress - offset;
+            }
+            else if (last)
+            {
+                consumed = FAILED;
+            }
+        }
+        else if (state == STATE_BODY)
+        {
+            final int available = bytes.length - this.limit;
+            if (available != 0)
+            {
+                try
+                {
+                    setInput(src, offset, length);
+
+                    final int produced = inflater.inflate(bytes, this.limit, available);
+                    this.limit += produced;
+                    inflated += produced;
+                    consumed = length - inflater.getRemaining();
+
+                    if (inflater.finished())
+                    {
+                        state = STATE_TRAILER;
+                    }
+                    else if (inflater.needsDictionary() ||
+                        last && inflater.needsInput() && produced < available)
+                    {
+                        consumed = FAILED;
+                    }
+                }
+                catch (DataFormatException ex)
+                {
+                    consumed = FAILED;
+                }
+            }
+        }
+        else if (state == STATE_TRAILER)
+        {
+            if (length >= GZIP_TRAILER_SIZE)
+            {
+                state = STATE_DONE;
+                consumed = src.getInt(offset + Integer.BYTES, LITTLE_ENDIAN) == inflated ? GZIP_TRAILER_SIZE : FAILED;
+            }
+            else if (last)
+            {
+                consumed = FAILED;
+            }
+        }
+        else
+        {
+            consumed = length;
+        }
+
+        return consumed;
+    }
+
+    private int inflateSnappy(
+        DirectBuffer src,
+        int offset,
+        int limit,
+        boolean last)
+    {
+        final int length = limit - offset;
+
+        int consumed = 0;
+
+        if (state == STATE_HEADER)
+        {
+            if (length >= SNAPPY_XERIAL_HEADER_SIZE)
+            {
+                state = STATE_BODY;
+                consumed = KafkaCompressionCodec.isSnappyXerial(src, offset, length)
+                    ? SNAPPY_XERIAL_HEADER_SIZE
+                    : UNSUPPORTED;
+            }
+            else if (last)
+            {
+                consumed = FAILED;
+            }
+        }
+        else if (state == STATE_BODY)
+        {
+            final int chunkOffset = offset + Integer.BYTES;
+            final int chunkLength = length >= Integer.BYTES ? src.getInt(offset, BIG_ENDIAN) : 0;
+
+            if (length == 0 && last)
+            {
+                state = STATE_DONE;
+            }
+            else if (chunkLength < 0)
+            {
+                consumed = FAILED;
+            }
+            else if (length >= Integer.BYTES && chunkLength <= length - Integer.BYTES)
+            {
+                final int expected = snappyLength(src, chunkOffset, chunkOffset + chunkLength);
+
+                if (expected == FAILED || expected > chunkMax)
+                {
+                    consumed = FAILED;
+                }
+                else if (expected <= bytes.length - this.limit)
+                {
+                    final int produced = KafkaCompressionCodec.decompressSnappyBlock(src, chunkOffset, chunkLength,
+                        buffer, this.limit, bytes.length);
+                    this.limit += Math.max(produced, 0);
+                    consumed = produced != FAILED ? Integer.BYTES + chunkLength : FAILED;
+                }
+                else
+                {
+                    final int produced = KafkaCompressionCodec.decompressSnappyBlock(src, chunkOffset, chunkLength,
+                        chunk(expected), 0, expected);
+                    chunkProgress = 0;
+                    chunkLimit = Math.max(produced, 0);
+                    consumed = produced != FAILED ? Integer.BYTES + chunkLength : FAILED;
+                }
+            }
+            else if (last)
+            {
+                consumed = FAILED;
+            }
+        }
+        else
+        {
+            consumed = length;
+        }
+
+        return consumed;
+    }
+
+    private int inflateLz4(
+        DirectBuffer src,
+        int offset,
+        int limit,
+        boolean last)
+    {
+        final int length = limit - offset;
+
+        int consumed = 0;
+
+        if (state == STATE_HEADER)
+        {
+            final int flags = length >= LZ4_FRAME_HEADER_MIN ? src.getByte(offset + Integer.BYTES) & 0xff : 0;
+            final int sizeofHeader = LZ4_FRAME_HEADER_MIN +
+                ((flags & LZ4_FLG_CONTENT_SIZE) != 0 ? Long.BYTES : 0) +
+                ((flags & LZ4_FLG_DICT_ID) != 0 ? Integer.BYTES : 0);
+
+            if (length >= LZ4_FRAME_HEADER_MIN &&
+                (src.getInt(offset, LITTLE_ENDIAN) != LZ4_FRAME_MAGIC ||
+                (flags & LZ4_FLG_VERSION_MASK) != LZ4_FLG_VERSION))
+            {
+                consumed = FAILED;
+            }
+            else if (length >= sizeofHeader)
+            {
+                final int descriptor = src.getByte(offset + Integer.BYTES + 1) & 0xff;
+                frameFlags = flags;
+                blockMax = 1 << (((descriptor >> 4) & 0x07) * 2 + 8);
+                state = STATE_BODY;
+                consumed = (flags & LZ4_FLG_BLOCK_INDEPENDENCE) != 0 ? sizeofHeader : UNSUPPORTED;
+            }
+            else if (last)
+            {
+                consumed = FAILED;
+            }
+        }
+        else if (state == STATE_BODY)
+        {
+            final int sizeofChecksum = (frameFlags & LZ4_FLG_BLOCK_CHECKSUM) != 0 ? Integer.BYTES : 0;
+            final int blockSize = length >= Integer.BYTES ? src.getInt(offset, LITTLE_ENDIAN) : 0;
+            final int blockOffset = offset + Integer.BYTES;
+            final int blockLength = blockSize & ~LZ4_BLOCK_UNCOMPRESSED;
+
+            boolean starved = false;
+
+            if (blockRemaining != 0)
+            {
+                consumed = Math.min(Math.min(blockRemaining, length), bytes.length - this.limit);
+                buffer.putBytes(this.limit, src, offset, consumed);
+                this.limit += consumed;
+                blockRemaining -= consumed;
+                starved = length == 0;
+            }
+            else if (blockSkip != 0)
+            {
+                consumed = Math.min(blockSkip, length);
+                blockSkip -= consumed;
+                starved = length == 0;
+            }
+            else if (length < Integer.BYTES)
+            {
+                starved = true;
+            }
+            else if (blockSize == 0)
+            {
+                state = STATE_DONE;
+                consumed = Integer.BYTES;
+            }
+            else if ((blockSize & LZ4_BLOCK_UNCOMPRESSED) != 0)
+            {
+                blockRemaining = blockLength;
+                blockSkip = sizeofChecksum;
+                consumed = Integer.BYTES;
+            }
+            else if (blockLength > length - Integer.BYTES - sizeofChecksum)
+            {
+                starved = true;
+            }
+            else
+            {
+                final boolean direct = blockMax <= bytes.length - this.limit;
+                final int produced = direct
+                    ? KafkaCompressionCodec.decompressLz4Block(src, blockOffset, blockLength,
+                        buffer, this.limit, this.limit, bytes.length)
+                    : KafkaCompressionCodec.decompressLz4Block(src, blockOffset, blockLength,
+                        chunk(Math.min(blockMax, chunkMax)), 0, 0, Math.min(blockMax, chunkMax));
+
+                if (produced == FAILED)
+                {
+                    consumed = FAILED;
+                }
+                else
+                {
+                    if (direct)
+                    {
+                        this.limit += produced;
+                    }
+                    else
+                    {
+                        chunkProgress = 0;
+                        chunkLimit = produced;
+                    }
+                    consumed = Integer.BYTES + blockLength + sizeofChecksum;
+                }
+            }
+
+            if (starved && last)
+            {
+                consumed = FAILED;
+            }
+        }
+        else
+        {
+            consumed = length;
+        }
+
+        return consumed;
+    }
+
+    private void drainChunk()
+    {
+        if (chunkProgress < chunkLimit)
+        {
+            final int length = Math.min(chunkLimit - chunkProgress, bytes.length - limit);
+            buffer.putBytes(limit, chunk, chunkProgress, length);
+            limit += length;
+            chunkProgress += length;
+        }
+    }
+
+    private MutableDirectBuffer chunk(
+        int capacity)
+    {
+        if (chunk.capacity() < capacity)
+        {
+            chunk.wrap(new byte[capacity]);
+        }
+        return chunk;
+    }
+
+    private void setInput(
+        DirectBuffer src,
+        int offset,
+        int length)
+    {
+        final byte[] array = src.byteArray();
+        final ByteBuffer byteBuffer = src.byteBuffer();
+        final int position = (int) src.wrapAdjustment() + offset;
+
+        if (array != null)
+        {
+            inflater.setInput(array, position, length);
+        }
+        else if (byteBuffer != null)
+        {
+            inflater.setInput(byteBuffer.duplicate().limit(position + length).position(position));
+        }
+        else
+        {
+            if (input.length < length)
+            {
+                input = new byte[length];
+            }
+            src.getBytes(offset, input, 0, length);
+            inflater.setInput(input, 0, length);
+        }
+    }
+
+    private static int snappyLength(
+        DirectBuffer src,
+        int offset,
+        int limit)
+    {
+        int expected = 0;
+        int shift = 0;
+        int progress = offset;
+        int octet;
+        do
+        {
+            if (progress >= limit || shift > 28)
+            {
+                return FAILED;
+            }
+            octet = src.getByte(progress++) & 0xff;
+            expected |= (octet & 0x7f) << shift;
+            shift += 7;
+        } while ((octet & 0x80) != 0);
+
+        return expected;
+    }
+}
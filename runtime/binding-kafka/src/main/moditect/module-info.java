@@ -37,4 +37,7 @@ module io.aklivity.zilla.runtime.binding.kafka
 
     provides io.aklivity.zilla.runtime.engine.event.EventFormatterFactorySpi
         with io.aklivity.zilla.runtime.binding.kafka.internal.events.KafkaEventFormatterFactory;
+
+    provides io.aklivity.zilla.runtime.engine.metrics.MetricGroupFactorySpi
+        with io.aklivity.zilla.runtime.binding.kafka.internal.metrics.KafkaMetricGroupFactorySpi;
 }
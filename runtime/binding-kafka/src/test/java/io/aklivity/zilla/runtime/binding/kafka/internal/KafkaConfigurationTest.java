@@ -19,7 +19,9 @@ import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguratio
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CACHE_RETENTION_MILLIS_MAX;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CACHE_SERVER_RECONNECT_DELAY;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_CONNECTION_POOL_CLEANUP_MILLIS;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_FETCH_DECOMPRESS_MAX_BYTES;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_INSTANCE_ID;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_PRODUCE_COMPRESSION;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_PRODUCE_MAX_BYTES;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_PRODUCE_MAX_REQUEST_MILLIS;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_SASL_SCRAM_NONCE;
@@ -38,6 +40,9 @@ public class KafkaConfigurationTest
     public static final String KAFKA_CACHE_CLIENT_CLEANUP_DELAY_NAME = "zilla.binding.kafka.cache.client.cleanup.delay";
     public static final String KAFKA_CLIENT_SASL_SCRAM_NONCE_NAME = "zilla.binding.kafka.client.sasl.scram.nonce";
     public static final String KAFKA_CLIENT_INSTANCE_ID_NAME = "zilla.binding.kafka.client.instance.id";
+    public static final String KAFKA_CLIENT_FETCH_DECOMPRESS_MAX_BYTES_NAME =
+        "zilla.binding.kafka.client.fetch.decompress.max.bytes";
+    public static final String KAFKA_CLIENT_PRODUCE_COMPRESSION_NAME = "zilla.binding.kafka.client.produce.compression";
 
     public static final String KAFKA_CACHE_RETENTION_MILLIS_MAX_NAME =
         "zilla.binding.kafka.cache.retention.ms.max";
@@ -53,5 +58,7 @@ public class KafkaConfigurationTest
         assertEquals(KAFKA_CLIENT_SASL_SCRAM_NONCE.name(), KAFKA_CLIENT_SASL_SCRAM_NONCE_NAME);
         assertEquals(KAFKA_CLIENT_INSTANCE_ID.name(), KAFKA_CLIENT_INSTANCE_ID_NAME);
         assertEquals(KAFKA_CACHE_RETENTION_MILLIS_MAX.name(), KAFKA_CACHE_RETENTION_MILLIS_MAX_NAME);
+        assertEquals(KAFKA_CLIENT_FETCH_DECOMPRESS_MAX_BYTES.name(), KAFKA_CLIENT_FETCH_DECOMPRESS_MAX_BYTES_NAME);
+        assertEquals(KAFKA_CLIENT_PRODUCE_COMPRESSION.name(), KAFKA_CLIENT_PRODUCE_COMPRESSION_NAME);
     }
 }
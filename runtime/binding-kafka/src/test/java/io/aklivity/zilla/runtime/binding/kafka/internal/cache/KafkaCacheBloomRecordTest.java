@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
+
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheBloomRecord.SIZEOF_BLOOM_BLOCK;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheBloomRecord.addBloom;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheBloomRecord.mightContainBloom;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheBloomRecord.sizeofBloom;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheBloomRecord.validBloom;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class KafkaCacheBloomRecordTest
+{
+    @Test
+    public void shouldSizeBloom()
+    {
+        assertEquals(0, sizeofBloom(0));
+        assertEquals(SIZEOF_BLOOM_BLOCK, sizeofBloom(1));
+        assertEquals(64 * SIZEOF_BLOOM_BLOCK, sizeofBloom(1000));
+        assertTrue(validBloom(sizeofBloom(12345)));
+        assertFalse(validBloom(3 * SIZEOF_BLOOM_BLOCK));
+    }
+
+    @Test
+    public void shouldNotContainWhenEmpty()
+    {
+        assertFalse(mightContainBloom(new UnsafeBuffer(new byte[0]), 42));
+    }
+
+    @Test
+    public void shouldContainAddedHashes()
+    {
+        final Random random = new Random(10_000);
+        final int[] hashes = random.ints(10_000).toArray();
+        final MutableDirectBuffer bloom = new UnsafeBuffer(new byte[sizeofBloom(hashes.length)]);
+
+        for (int hash : hashes)
+        {
+            addBloom(bloom, hash);
+        }
+
+        for (int hash : hashes)
+        {
+            assertTrue(mightContainBloom(bloom, hash));
+        }
+
+        int positives = 0;
+        for (int i = 0; i < 100_000; i++)
+        {
+            positives += mightContainBloom(bloom, random.nextInt()) ? 1 : 0;
+        }
+
+        assertTrue(positives < 3_000);
+    }
+}
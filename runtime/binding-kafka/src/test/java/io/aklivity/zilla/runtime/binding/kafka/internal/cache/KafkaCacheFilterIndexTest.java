@@ -0,0 +1,227 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorFactory.KafkaFilterCondition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.Array32FW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaConditionFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaEvaluation;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaFilterFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaSkip;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW;
+
+public class KafkaCacheFilterIndexTest
+{
+    private static final String FILTER_NAME = "zilla:filter";
+
+    private final KafkaCacheCursorFactory cursorFactory = new KafkaCacheCursorFactory(8192);
+    private final KafkaCacheFilterIndex<String> index = new KafkaCacheFilterIndex<>();
+
+    @Test
+    public void shouldMatchKeyFilter()
+    {
+        index.add("one", filter(c -> c.key(k -> k.length(3).value(v -> v.set("one".getBytes(UTF_8))))));
+        index.add("two", filter(c -> c.key(k -> k.length(3).value(v -> v.set("two".getBytes(UTF_8))))));
+
+        index.match(entry("one"));
+
+        assertEquals(Set.of("one"), index.matches());
+    }
+
+    @Test
+    public void shouldMatchHeaderFilterOnTrailers()
+    {
+        index.add("header", filter(c -> c.header(h -> h.nameLen(6).name(n -> n.set("header".getBytes(UTF_8)))
+                                                     .valueLen(5).value(v -> v.set("value".getBytes(UTF_8))))));
+
+        index.match(entry("key"));
+        assertTrue(index.matches().isEmpty());
+
+        index.match(entry("key", "header", "value"));
+        assertEquals(Set.of("header"), index.matches());
+    }
+
+    @Test
+    public void shouldMatchHeaderSequenceWithWildcards()
+    {
+        index.add("sensor/one/temp", filter(sequence("sensor", "one", "temp")));
+        index.add("sensor/+/temp", filter(sequence("sensor", "+", "temp")));
+        index.add("sensor/#", filter(sequence("sensor", "#")));
+        index.add("+/one", filter(sequence("+", "one")));
+        index.add("other", filter(sequence("other")));
+
+        index.match(entry("key", FILTER_NAME, "sensor", FILTER_NAME, "one", FILTER_NAME, "temp"));
+        assertEquals(Set.of("sensor/one/temp", "sensor/+/temp", "sensor/#"), index.matches());
+
+        index.matches().clear();
+        index.match(entry("key", FILTER_NAME, "sensor", FILTER_NAME, "one"));
+        assertEquals(Set.of("sensor/#", "+/one"), index.matches());
+
+        index.matches().clear();
+        index.match(entry("key", FILTER_NAME, "sensor"));
+        assertTrue(index.matches().isEmpty());
+    }
+
+    @Test
+    public void shouldRemoveMember()
+    {
+        KafkaCacheFilterIndex.Filter filter = filter(sequence("sensor", "+", "temp"));
+        index.add("sensor/+/temp", filter);
+        index.remove("sensor/+/temp", filter);
+
+        index.match(entry("key", FILTER_NAME, "sensor", FILTER_NAME, "one", FILTER_NAME, "temp"));
+
+        assertEquals(0, index.size());
+        assertTrue(index.matches().isEmpty());
+    }
+
+    @Test
+    public void shouldNotIndexNotFilter()
+    {
+        KafkaFilterCondition condition = condition(c -> c.not(n -> n.condition(nc -> nc.key(k -> k.length(3)
+            .value(v -> v.set("one".getBytes(UTF_8)))))));
+
+        assertNull(KafkaCacheFilterIndex.filter(condition));
+    }
+
+    @Test
+    public void shouldIndexNotFilterWithinAnd()
+    {
+        MutableDirectBuffer buffer = new UnsafeBuffer(ByteBuffer.allocate(1024));
+        Array32FW<KafkaFilterFW> filters = new Array32FW.Builder<>(new KafkaFilterFW.Builder(), new KafkaFilterFW())
+            .wrap(buffer, 0, buffer.capacity())
+            .item(f -> f
+                .conditionsItem(c -> c.not(n -> n.condition(nc -> nc.key(k -> k.length(3)
+                    .value(v -> v.set("two".getBytes(UTF_8)))))))
+                .conditionsItem(sequence("sensor", "+")))
+            .build();
+
+        KafkaFilterCondition condition = cursorFactory.asCondition(filters, KafkaEvaluation.LAZY);
+        KafkaCacheFilterIndex.Filter filter = KafkaCacheFilterIndex.filter(condition);
+
+        assertNotNull(filter);
+
+        index.add("sensor/+", filter);
+        index.match(entry("one", FILTER_NAME, "sensor", FILTER_NAME, "one"));
+
+        assertEquals(Set.of("sensor/+"), index.matches());
+    }
+
+    private KafkaCacheFilterIndex.Filter filter(
+        Consumer<KafkaConditionFW.Builder> condition)
+    {
+        KafkaCacheFilterIndex.Filter filter = KafkaCacheFilterIndex.filter(condition(condition));
+        assertNotNull(filter);
+        return filter;
+    }
+
+    private KafkaFilterCondition condition(
+        Consumer<KafkaConditionFW.Builder> condition)
+    {
+        MutableDirectBuffer buffer = new UnsafeBuffer(ByteBuffer.allocate(1024));
+        Array32FW<KafkaFilterFW> filters = new Array32FW.Builder<>(new KafkaFilterFW.Builder(), new KafkaFilterFW())
+            .wrap(buffer, 0, buffer.capacity())
+            .item(f -> f.conditionsItem(condition))
+            .build();
+
+        return cursorFactory.asCondition(filters, KafkaEvaluation.LAZY);
+    }
+
+    private static Consumer<KafkaConditionFW.Builder> sequence(
+        String... levels)
+    {
+        return c -> c.headers(h ->
+        {
+            h.nameLen(FILTER_NAME.length()).name(n -> n.set(FILTER_NAME.getBytes(UTF_8)));
+            for (String level : levels)
+            {
+                switch (level)
+                {
+                case "+":
+                    h.valuesItem(v -> v.skip(s -> s.set(KafkaSkip.SKIP)));
+                    break;
+                case "#":
+                    h.valuesItem(v -> v.skip(s -> s.set(KafkaSkip.SKIP_MANY)));
+                    break;
+                default:
+                    h.valuesItem(v -> v.value(vv -> vv.length(level.length()).value(o -> o.set(level.getBytes(UTF_8)))));
+                    break;
+                }
+            }
+        });
+    }
+
+    private static KafkaCacheEntryFW entry(
+        String key,
+        String... headers)
+    {
+        MutableDirectBuffer buffer = new UnsafeBuffer(ByteBuffer.allocate(1024));
+        KafkaCacheEntryFW.Builder builder = new KafkaCacheEntryFW.Builder()
+            .wrap(buffer, 0, buffer.capacity())
+            .offset$(0L)
+            .timestamp(0L)
+            .ownerId(0L)
+            .ancestor(-1L)
+            .descendant(-1L)
+            .paddedKey(k -> k.key(kk -> kk.length(key.length()).value(v -> v.set(key.getBytes(UTF_8))))
+                             .padding(p -> p.set(new byte[0])))
+            .value(v -> v.set(new byte[0]));
+
+        boolean trailers = headers.length == 2;
+        if (!trailers)
+        {
+            for (int i = 0; i < headers.length; i += 2)
+            {
+                final String name = headers[i];
+                final String value = headers[i + 1];
+                builder.headersItem(h -> h.nameLen(name.length()).name(n -> n.set(name.getBytes(UTF_8)))
+                                          .valueLen(value.length()).value(v -> v.set(value.getBytes(UTF_8))));
+            }
+        }
+        else
+        {
+            builder.headers(h -> {});
+        }
+
+        if (trailers)
+        {
+            builder.trailersItem(h -> h.nameLen(headers[0].length()).name(n -> n.set(headers[0].getBytes(UTF_8)))
+                                       .valueLen(headers[1].length()).value(v -> v.set(headers[1].getBytes(UTF_8))));
+        }
+        else
+        {
+            builder.trailers(t -> {});
+        }
+
+        return builder
+            .padding(p -> p.set(new byte[0]))
+            .build();
+    }
+}
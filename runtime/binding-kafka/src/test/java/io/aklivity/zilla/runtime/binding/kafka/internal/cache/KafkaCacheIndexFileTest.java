@@ -28,6 +28,7 @@ import static java.nio.ByteOrder.nativeOrder;
 import static java.nio.file.StandardOpenOption.APPEND;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.READ;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 
@@ -35,6 +36,7 @@ import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -197,7 +199,7 @@ public class KafkaCacheIndexFileTest
             }
 
             key = random.nextInt(entries >> 1);
-            indexFile = new KafkaCacheIndexFile.SortedByValue(tempFile.toPath(), long[]::new);
+            indexFile = new KafkaCacheIndexFile.SortedByValue(tempFile.toPath());
         }
 
         @Test
@@ -351,7 +353,7 @@ public class KafkaCacheIndexFileTest
                 }
             }
 
-            indexFile = new KafkaCacheIndexFile.SortedByValue(tempFile.toPath(), long[]::new);
+            indexFile = new KafkaCacheIndexFile.SortedByValue(tempFile.toPath());
         }
 
         @Test
@@ -384,4 +386,60 @@ public class KafkaCacheIndexFileTest
             }
         }
     }
+
+    public static class SortedByValueUnsignedTest
+    {
+        @Rule
+        public TemporaryFolder tempFolder = new TemporaryFolder();
+
+        @Test
+        public void shouldSortByKeyAsUnsigned() throws Exception
+        {
+            File tempFile = tempFolder.newFile();
+            Random random = new Random(4096);
+
+            long[] expected = new long[4096];
+            ByteBuffer indexEntryHolder = allocate(SIZEOF_INDEX_RECORD).order(nativeOrder());
+            try (FileChannel channel = FileChannel.open(tempFile.toPath(), CREATE, APPEND))
+            {
+                for (int index = 0; index < expected.length; index++)
+                {
+                    long indexEntry = indexEntry(random.nextInt(), random.nextInt(1 << 20));
+                    expected[index] = indexEntry;
+                    indexEntryHolder.clear();
+                    indexEntryHolder.putLong(indexEntry);
+                    indexEntryHolder.flip();
+                    channel.write(indexEntryHolder);
+                }
+            }
+
+            Path workingFile = new File(tempFolder.getRoot(), "working").toPath();
+            Path sortedFile = new File(tempFolder.getRoot(), "sorted").toPath();
+
+            KafkaCacheIndexFile.SortedByValue indexFile = new KafkaCacheIndexFile.SortedByValue(tempFile.toPath());
+            indexFile.sortByKey(workingFile, sortedFile);
+
+            long[] actual = new long[expected.length];
+            try (FileChannel channel = FileChannel.open(sortedFile, READ))
+            {
+                assertEquals(SIZEOF_INDEX_RECORD * expected.length, channel.size());
+
+                for (int index = 0; index < actual.length; index++)
+                {
+                    indexEntryHolder.clear();
+                    channel.read(indexEntryHolder);
+                    indexEntryHolder.flip();
+                    actual[index] = indexEntryHolder.getLong();
+                }
+            }
+
+            long[] sorted = Arrays.stream(expected)
+                .map(e -> e ^ Long.MIN_VALUE)
+                .sorted()
+                .map(e -> e ^ Long.MIN_VALUE)
+                .toArray();
+
+            assertArrayEquals(sorted, actual);
+        }
+    }
 }
@@ -15,19 +15,27 @@
  */
 package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
 
+import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CACHE_DURABLE;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition.CACHE_ENTRY_FLAGS_DIRTY;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_BUFFER_SLOT_CAPACITY;
 import static java.lang.System.currentTimeMillis;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Properties;
 
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.MutableInteger;
+import org.agrona.collections.MutableLong;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Rule;
 import org.junit.Test;
@@ -39,8 +47,10 @@ import io.aklivity.zilla.runtime.binding.kafka.internal.types.Array32FW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaHeaderFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaKeyFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaOffsetType;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.OctetsFW;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW;
+import io.aklivity.zilla.runtime.engine.Configuration;
 import io.aklivity.zilla.runtime.engine.model.ConverterHandler;
 
 public class KafkaCachePartitionTest
@@ -53,7 +63,7 @@ public class KafkaCachePartitionTest
     {
         Path location = tempFolder.newFolder().toPath();
         KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
-        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536);
 
         partition.append(10);
         partition.append(20);
@@ -67,7 +77,7 @@ public class KafkaCachePartitionTest
     {
         Path location = tempFolder.newFolder().toPath();
         KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
-        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536);
 
         partition.append(10);
         partition.append(20);
@@ -81,7 +91,7 @@ public class KafkaCachePartitionTest
     {
         Path location = tempFolder.newFolder().toPath();
         KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
-        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536);
 
         partition.append(10);
         partition.append(20);
@@ -95,7 +105,7 @@ public class KafkaCachePartitionTest
     {
         Path location = tempFolder.newFolder().toPath();
         KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
-        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536);
 
         partition.append(10);
         partition.append(20);
@@ -109,7 +119,7 @@ public class KafkaCachePartitionTest
     {
         Path location = tempFolder.newFolder().toPath();
         KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
-        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536);
 
         partition.append(10);
         partition.append(20);
@@ -123,7 +133,7 @@ public class KafkaCachePartitionTest
     {
         Path location = tempFolder.newFolder().toPath();
         KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
-        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536);
 
         partition.append(10);
         partition.append(20);
@@ -137,7 +147,7 @@ public class KafkaCachePartitionTest
     {
         Path location = tempFolder.newFolder().toPath();
         KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
-        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536);
 
         Node node10 = partition.append(10);
         KafkaCacheSegment node10s = node10.segment();
@@ -158,7 +168,7 @@ public class KafkaCachePartitionTest
     {
         Path location = tempFolder.newFolder().toPath();
         KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
-        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536);
 
         partition.append(10);
         partition.append(20);
@@ -175,12 +185,210 @@ public class KafkaCachePartitionTest
         assertSame(node30, node10.next());
     }
 
+    @Test
+    public void shouldDeleteSegmentInCleanup() throws Exception
+    {
+        Path location = tempFolder.newFolder().toPath();
+        KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
+        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536);
+
+        partition.append(10);
+        partition.append(20);
+        partition.append(30);
+
+        Node sentinel = partition.sentinel();
+        Node node10 = sentinel.next();
+        Node node20 = node10.next();
+        Node node30 = node20.next();
+        Path log20 = node20.segment().logFile().location();
+
+        partition.delete(node20);
+
+        assertSame(node10, node30.previous());
+        assertSame(node30, node10.next());
+        assertTrue(Files.exists(log20));
+
+        KafkaCachePartition.Cleanup cleanup = partition.cleanup(currentTimeMillis());
+        assertNotNull(cleanup);
+        assertNull(partition.cleanup(currentTimeMillis()));
+
+        cleanup.run();
+        partition.cleaned(v -> {}, v -> {});
+
+        assertFalse(Files.exists(log20));
+        assertNull(partition.cleanup(currentTimeMillis()));
+    }
+
+    @Test
+    public void shouldDeferCleanupUntilCheckpointed() throws Exception
+    {
+        Path location = tempFolder.newFolder().toPath();
+        Properties properties = new Properties();
+        properties.setProperty(KAFKA_CACHE_DURABLE.name(), "true");
+        KafkaConfiguration config = new KafkaConfiguration(new Configuration(properties));
+        KafkaCacheTopicConfig topic = new KafkaCacheTopicConfig(config);
+
+        KafkaCachePartition partition = new KafkaCachePartition(location, topic, "cache", "test", 0, 65536);
+        partition.append(10L);
+        partition.append(20L);
+
+        partition.delete(partition.sentinel().next());
+
+        assertNull(partition.cleanup(currentTimeMillis()));
+
+        KafkaCachePartition.Checkpoint checkpoint = partition.checkpoint();
+        assertNotNull(checkpoint);
+        assertNull(partition.checkpoint());
+        assertNull(partition.checkpointed());
+        assertNull(partition.cleanup(currentTimeMillis()));
+
+        checkpoint.run();
+
+        assertNull(partition.checkpointed());
+        assertNotNull(partition.cleanup(currentTimeMillis()));
+    }
+
+    @Test
+    public void shouldReportCheckpointFailure() throws Exception
+    {
+        Path location = tempFolder.newFolder().toPath();
+        Properties properties = new Properties();
+        properties.setProperty(KAFKA_CACHE_DURABLE.name(), "true");
+        KafkaConfiguration config = new KafkaConfiguration(new Configuration(properties));
+        KafkaCacheTopicConfig topic = new KafkaCacheTopicConfig(config);
+
+        KafkaCachePartition partition = new KafkaCachePartition(location, topic, "cache", "test", 0, 65536);
+        KafkaCachePartition.Checkpoint checkpoint = partition.checkpoint();
+        assertNotNull(checkpoint);
+
+        Files.createDirectory(location.resolve("test-0").resolve("checkpoint.work"));
+        checkpoint.run();
+
+        assertNotNull(partition.checkpointed());
+        assertNull(partition.checkpointed());
+        assertNull(partition.checkpoint());
+    }
+
+    @Test
+    public void shouldForceSegmentsBeforeCheckpoint() throws Exception
+    {
+        Path location = tempFolder.newFolder().toPath();
+        Properties properties = new Properties();
+        properties.setProperty(KAFKA_CACHE_DURABLE.name(), "true");
+        KafkaConfiguration config = new KafkaConfiguration(new Configuration(properties));
+        KafkaCacheTopicConfig topic = new KafkaCacheTopicConfig(config);
+
+        KafkaCachePartition partition = new KafkaCachePartition(location, topic, "cache", "test", 0, 65536);
+        partition.append(10L);
+        partition.append(20L);
+
+        KafkaCachePartition.Checkpoint checkpoint = partition.checkpoint();
+        assertNotNull(checkpoint);
+
+        Path checkpointFile = location.resolve("test-0").resolve("checkpoint");
+        Files.deleteIfExists(checkpointFile);
+        Files.delete(location.resolve("test-0").resolve(String.format("%019d.index", 10L)));
+        checkpoint.run();
+
+        assertNotNull(partition.checkpointed());
+        assertFalse(Files.exists(checkpointFile));
+    }
+
+    @Test
+    public void shouldRecoverDurablePartition() throws Exception
+    {
+        Path location = tempFolder.newFolder().toPath();
+        Properties properties = new Properties();
+        properties.setProperty(KAFKA_CACHE_DURABLE.name(), "true");
+        KafkaConfiguration config = new KafkaConfiguration(new Configuration(properties));
+        KafkaCacheTopicConfig topic = new KafkaCacheTopicConfig(config);
+
+        MutableDirectBuffer writeBuffer = new UnsafeBuffer(ByteBuffer.allocate(1024));
+        MutableInteger entryMark = new MutableInteger(0);
+        MutableInteger valueMark = new MutableInteger(0);
+
+        KafkaKeyFW key = new KafkaKeyFW.Builder().wrap(writeBuffer, 0, writeBuffer.capacity())
+            .length(4)
+            .value(k -> k.set("test".getBytes(UTF_8)))
+            .build();
+
+        Array32FW<KafkaHeaderFW> headers = new Array32FW.Builder<>(new KafkaHeaderFW.Builder(), new KafkaHeaderFW())
+            .wrap(writeBuffer, key.limit(), writeBuffer.capacity())
+            .build();
+
+        OctetsFW value = new OctetsFW.Builder()
+            .wrap(writeBuffer, headers.limit(), writeBuffer.capacity())
+            .set("value".getBytes(UTF_8))
+            .build();
+
+        KafkaCachePartition partition = new KafkaCachePartition(location, topic, "cache", "test", 0, 65536);
+        partition.append(10L);
+        partition.writeEntry(null, 1L, 1L, 10L, entryMark, valueMark, 0L, -1L,
+            key, headers, value, 0x00, KafkaDeltaType.NONE, ConverterHandler.NONE,
+            ConverterHandler.NONE, false, null);
+        partition.writeEntry(null, 1L, 1L, 11L, entryMark, valueMark, 0L, -1L,
+            key, headers, value, 0x00, KafkaDeltaType.NONE, ConverterHandler.NONE,
+            ConverterHandler.NONE, false, null);
+
+        partition.append(12L);
+        partition.writeEntry(null, 1L, 1L, 12L, entryMark, valueMark, 0L, -1L,
+            key, headers, value, 0x00, KafkaDeltaType.NONE, ConverterHandler.NONE,
+            ConverterHandler.NONE, false, null);
+        Path log12 = partition.head().segment().logFile().location();
+
+        partition.checkpoint().run();
+        assertNull(partition.checkpointed());
+
+        KafkaCachePartition recovered = new KafkaCachePartition(location, topic, "cache", "test", 0, 65536);
+        Node head = recovered.head();
+
+        assertSame(recovered.sentinel(), head.previous());
+        assertTrue(head.segment().frozen());
+        assertEquals(10L, head.segment().baseOffset());
+        assertEquals(12L, recovered.nextOffset(KafkaOffsetType.LIVE));
+        assertFalse(Files.exists(log12));
+
+        recovered.newHeadIfNecessary(12L);
+
+        assertEquals(12L, recovered.head().segment().baseOffset());
+        assertFalse(recovered.head().segment().frozen());
+    }
+
+    @Test
+    public void shouldNotRecoverTruncatedSegment() throws Exception
+    {
+        Path location = tempFolder.newFolder().toPath();
+        Properties properties = new Properties();
+        properties.setProperty(KAFKA_CACHE_DURABLE.name(), "true");
+        KafkaConfiguration config = new KafkaConfiguration(new Configuration(properties));
+        KafkaCacheTopicConfig topic = new KafkaCacheTopicConfig(config);
+
+        KafkaCachePartition partition = new KafkaCachePartition(location, topic, "cache", "test", 0, 65536);
+        partition.append(10L);
+        partition.append(20L);
+        partition.append(30L);
+
+        Node node20 = partition.sentinel().next().next();
+        Path index20 = node20.segment().indexFile().location();
+        Files.write(index20, new byte[Long.BYTES]);
+
+        partition.checkpoint().run();
+        assertNull(partition.checkpointed());
+
+        KafkaCachePartition recovered = new KafkaCachePartition(location, topic, "cache", "test", 0, 65536);
+        Node head = recovered.head();
+
+        assertSame(recovered.sentinel(), head.previous());
+        assertEquals(10L, head.segment().baseOffset());
+        assertFalse(Files.exists(index20));
+    }
+
     @Test
     public void shouldDescribeObject() throws Exception
     {
         Path location = tempFolder.newFolder().toPath();
         KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
-        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+        KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536);
 
         assertEquals("cache", partition.cache());
         assertEquals("test", partition.topic());
@@ -224,7 +432,7 @@ public class KafkaCachePartitionTest
 
             KafkaCacheEntryFW ancestorRO = new KafkaCacheEntryFW();
 
-            KafkaCachePartition partition = new KafkaCachePartition(location, topic, "cache", "test", 0, 65536, long[]::new);
+            KafkaCachePartition partition = new KafkaCachePartition(location, topic, "cache", "test", 0, 65536);
             Node head10 = partition.append(10L);
             KafkaCacheSegment head10s = head10.segment();
 
@@ -246,7 +454,12 @@ public class KafkaCachePartitionTest
 
             long now = currentTimeMillis();
             tail10s.cleanableAt(now);
-            tail10.clean(now);
+
+            KafkaCachePartition.Cleanup cleanup = partition.cleanup(now);
+            assertNotNull(cleanup);
+
+            cleanup.run();
+            partition.cleaned(v -> {}, v -> {});
 
             KafkaCacheSegment clean10s = tail10.segment();
 
@@ -257,6 +470,156 @@ public class KafkaCachePartitionTest
             assertEquals("[KafkaCacheSegment] test[0] @ 15 +1", head15s.toString());
         }
 
+        @Test
+        public void shouldCleanupSegment() throws Exception
+        {
+            Path location = tempFolder.newFolder().toPath();
+            KafkaConfiguration config = new KafkaConfiguration();
+            KafkaCacheTopicConfig topic = new KafkaCacheTopicConfig(config);
+
+            MutableDirectBuffer writeBuffer = new UnsafeBuffer(ByteBuffer.allocate(1024));
+            MutableInteger entryMark = new MutableInteger(0);
+            MutableInteger valueMark = new MutableInteger(0);
+
+            KafkaKeyFW key = new KafkaKeyFW.Builder().wrap(writeBuffer, 0, writeBuffer.capacity())
+                .length(4)
+                .value(k -> k.set("test".getBytes(UTF_8)))
+                .build();
+
+            Array32FW<KafkaHeaderFW> headers = new Array32FW.Builder<>(new KafkaHeaderFW.Builder(), new KafkaHeaderFW())
+                    .wrap(writeBuffer, key.limit(), writeBuffer.capacity())
+                    .build();
+
+            OctetsFW value = new OctetsFW.Builder()
+                    .wrap(writeBuffer, headers.limit(), writeBuffer.capacity())
+                    .set("value".getBytes(UTF_8))
+                    .build();
+
+            KafkaCacheEntryFW ancestorRO = new KafkaCacheEntryFW();
+            KafkaCacheEntryFW dirtyRO = new KafkaCacheEntryFW();
+
+            KafkaCachePartition partition = new KafkaCachePartition(location, topic, "cache", "test", 0, 65536);
+            Node head10 = partition.append(10L);
+
+            partition.writeEntry(null, 1L, 1L, 11L, entryMark, valueMark, 0L, -1L,
+                key, headers, value, 0x00, KafkaDeltaType.NONE, ConverterHandler.NONE,
+                ConverterHandler.NONE, false, null);
+
+            long keyHash = partition.computeKeyHash(key);
+            head10.findAndMarkAncestor(key, keyHash, 12L, ancestorRO);
+
+            partition.writeEntry(null, 1L, 1L, 12L, entryMark, valueMark, 0L, -1L,
+                key, headers, value, 0x00, KafkaDeltaType.NONE, ConverterHandler.NONE,
+                ConverterHandler.NONE, false, null);
+
+            partition.writeEntry(null, 1L, 1L, 13L, entryMark, valueMark, 0L, -1L,
+                key, headers, value, 0x00, KafkaDeltaType.NONE, ConverterHandler.NONE,
+                ConverterHandler.NONE, false, null);
+
+            Node head15 = partition.append(15L);
+            Node tail10 = head15.previous();
+            KafkaCacheSegment tail10s = tail10.segment();
+            int tail10Bytes = tail10s.logFile().capacity();
+
+            long now = currentTimeMillis();
+            tail10s.cleanableAt(now);
+
+            KafkaCachePartition.Cleanup cleanup = partition.cleanup(now);
+            assertNotNull(cleanup);
+
+            cleanup.run();
+
+            assertSame(tail10s, tail10.segment());
+            tail10.findAndMarkDirty(dirtyRO, 12L);
+
+            MutableLong duration = new MutableLong();
+            MutableLong reclaimed = new MutableLong();
+            partition.cleaned(duration::set, reclaimed::set);
+
+            KafkaCacheSegment clean10s = tail10.segment();
+            KafkaCacheFile clean10Log = clean10s.logFile();
+            KafkaCacheEntryFW entry12 = clean10Log.readBytes(0, ancestorRO::wrap);
+            KafkaCacheEntryFW entry13 = clean10Log.readBytes(entry12.limit(), dirtyRO::wrap);
+
+            assertNotSame(tail10s, clean10s);
+            assertEquals(location.resolve("test-0"), clean10Log.location().getParent());
+            assertEquals(13L, clean10s.lastOffset());
+            assertEquals(12L, entry12.offset$());
+            assertEquals(13L, entry13.offset$());
+            assertEquals(tail10Bytes * 2 / 3, clean10Log.capacity());
+            assertEquals(CACHE_ENTRY_FLAGS_DIRTY, entry12.flags() & CACHE_ENTRY_FLAGS_DIRTY);
+            assertEquals(entry12.sizeof(), clean10s.dirtyBytes());
+            assertTrue(duration.get() > 0L);
+            assertTrue(reclaimed.get() > 0L);
+        }
+
+        @Test
+        public void shouldDeferDeleteOfEmptyCleanSegment() throws Exception
+        {
+            Path location = tempFolder.newFolder().toPath();
+            KafkaConfiguration config = new KafkaConfiguration();
+            KafkaCacheTopicConfig topic = new KafkaCacheTopicConfig(config);
+
+            MutableDirectBuffer writeBuffer = new UnsafeBuffer(ByteBuffer.allocate(1024));
+            MutableInteger entryMark = new MutableInteger(0);
+            MutableInteger valueMark = new MutableInteger(0);
+
+            KafkaKeyFW key = new KafkaKeyFW.Builder().wrap(writeBuffer, 0, writeBuffer.capacity())
+                .length(4)
+                .value(k -> k.set("test".getBytes(UTF_8)))
+                .build();
+
+            Array32FW<KafkaHeaderFW> headers = new Array32FW.Builder<>(new KafkaHeaderFW.Builder(), new KafkaHeaderFW())
+                    .wrap(writeBuffer, key.limit(), writeBuffer.capacity())
+                    .build();
+
+            OctetsFW value = new OctetsFW.Builder()
+                    .wrap(writeBuffer, headers.limit(), writeBuffer.capacity())
+                    .set("value".getBytes(UTF_8))
+                    .build();
+
+            KafkaCacheEntryFW ancestorRO = new KafkaCacheEntryFW();
+
+            KafkaCachePartition partition = new KafkaCachePartition(location, topic, "cache", "test", 0, 65536);
+            Node head10 = partition.append(10L);
+
+            partition.writeEntry(null, 1L, 1L, 11L, entryMark, valueMark, 0L, -1L,
+                key, headers, value, 0x00, KafkaDeltaType.NONE, ConverterHandler.NONE,
+                ConverterHandler.NONE, false, null);
+
+            long keyHash = partition.computeKeyHash(key);
+            head10.findAndMarkAncestor(key, keyHash, 16L, ancestorRO);
+
+            Node head15 = partition.append(15L);
+
+            partition.writeEntry(null, 1L, 1L, 16L, entryMark, valueMark, 0L, -1L,
+                key, headers, value, 0x00, KafkaDeltaType.NONE, ConverterHandler.NONE,
+                ConverterHandler.NONE, false, null);
+
+            Node tail10 = head15.previous();
+            Path log10 = tail10.segment().logFile().location();
+
+            long now = currentTimeMillis();
+            tail10.segment().cleanableAt(now);
+
+            KafkaCachePartition.Cleanup cleanup = partition.cleanup(now);
+            assertNotNull(cleanup);
+
+            cleanup.run();
+            partition.cleaned(v -> {}, v -> {});
+
+            assertTrue(head15.previous().sentinel());
+            assertTrue(Files.exists(log10));
+
+            cleanup = partition.cleanup(now);
+            assertNotNull(cleanup);
+
+            cleanup.run();
+            partition.cleaned(v -> {}, v -> {});
+
+            assertFalse(Files.exists(log10));
+        }
+
         @Test
         public void shouldSeekAncestor() throws Exception
         {
@@ -283,7 +646,7 @@ public class KafkaCachePartitionTest
 
             KafkaCacheEntryFW ancestorRO = new KafkaCacheEntryFW();
 
-            KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+            KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536);
             Node head10 = partition.append(10L);
 
             partition.writeEntry(null, 1L, 1L, 11L, entryMark, valueMark, 0L, -1L,
@@ -311,7 +674,7 @@ public class KafkaCachePartitionTest
             Path location = tempFolder.newFolder().toPath();
             KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
 
-            KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+            KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536);
             Node node10 = partition.append(10L);
 
             assertEquals("[Node] 10", node10.toString());
@@ -323,7 +686,7 @@ public class KafkaCachePartitionTest
             Path location = tempFolder.newFolder().toPath();
             KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
 
-            KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+            KafkaCachePartition partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536);
             Node sentinel = partition.sentinel();
 
             assertEquals("[Node] sentinel", sentinel.toString());
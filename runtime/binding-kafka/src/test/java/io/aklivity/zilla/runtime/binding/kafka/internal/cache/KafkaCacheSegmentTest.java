@@ -15,8 +15,11 @@
  */
 package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
 
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheIndexRecord.indexEntry;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
@@ -41,7 +44,7 @@ public class KafkaCacheSegmentTest
         Path location = tempFolder.getRoot().toPath();
         MutableDirectBuffer appendBuf = new UnsafeBuffer(ByteBuffer.allocate(0));
 
-        try (KafkaCacheSegment head = new KafkaCacheSegment(location, config, "test", 0, 1L, appendBuf, long[]::new);
+        try (KafkaCacheSegment head = new KafkaCacheSegment(location, config, "test", 0, 1L, appendBuf);
                 KafkaCacheSegment tail = head.freeze())
         {
             assertEquals(head.location(), tail.location());
@@ -61,6 +64,32 @@ public class KafkaCacheSegmentTest
         }
     }
 
+    @Test
+    public void shouldFreezeHashBloom() throws Exception
+    {
+        KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
+        Path location = tempFolder.getRoot().toPath();
+        MutableDirectBuffer appendBuf = new UnsafeBuffer(ByteBuffer.allocate(Long.BYTES));
+
+        try (KafkaCacheSegment head = new KafkaCacheSegment(location, config, "test", 0, 1L, appendBuf))
+        {
+            head.hashFile().appendLong(indexEntry(0x30, 0));
+            head.hashFile().appendLong(indexEntry(0x10, 8));
+            head.hashFile().appendLong(indexEntry(0x20, 16));
+            head.hashFile().appendLong(indexEntry(0x10, 24));
+
+            assertTrue(head.hashFile().mightContain(0x40));
+
+            try (KafkaCacheSegment tail = head.freeze())
+            {
+                assertTrue(tail.hashFile().mightContain(0x10));
+                assertTrue(tail.hashFile().mightContain(0x20));
+                assertTrue(tail.hashFile().mightContain(0x30));
+                assertFalse(tail.hashFile().mightContain(0x40));
+            }
+        }
+    }
+
     @Test
     public void shouldDescribeObject() throws Exception
     {
@@ -68,7 +97,7 @@ public class KafkaCacheSegmentTest
         Path location = tempFolder.getRoot().toPath();
         MutableDirectBuffer appendBuf = new UnsafeBuffer(ByteBuffer.allocate(0));
 
-        try (KafkaCacheSegment segment = new KafkaCacheSegment(location, config, "test", 0, 1L, appendBuf, long[]::new))
+        try (KafkaCacheSegment segment = new KafkaCacheSegment(location, config, "test", 0, 1L, appendBuf))
         {
             assertEquals("test", segment.name());
             assertEquals(0, segment.id());
@@ -31,7 +31,7 @@ public class KafkaCacheTopicTest
     {
         KafkaConfiguration config = new KafkaConfiguration();
         Path location = config.cacheDirectory().resolve("cache");
-        KafkaCacheTopic topic = new KafkaCacheTopic(location, config, "cache", new AtomicLong(0L), "test", long[]::new);
+        KafkaCacheTopic topic = new KafkaCacheTopic(location, config, "cache", new AtomicLong(0L), "test");
 
         KafkaCachePartition partitionA = topic.supplyFetchPartition(0);
         KafkaCachePartition partitionB = topic.supplyFetchPartition(0);
@@ -45,7 +45,7 @@ public class KafkaCacheTopicTest
         KafkaConfiguration config = new KafkaConfiguration();
         Path location = config.cacheDirectory().resolve("cache");
 
-        KafkaCacheTopic topic = new KafkaCacheTopic(location, config, "cache", new AtomicLong(0L), "test", long[]::new);
+        KafkaCacheTopic topic = new KafkaCacheTopic(location, config, "cache", new AtomicLong(0L), "test");
 
         assertEquals("cache", topic.cache());
         assertEquals("test", topic.name());
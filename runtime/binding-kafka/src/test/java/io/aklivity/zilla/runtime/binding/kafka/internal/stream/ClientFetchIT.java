@@ -207,6 +207,46 @@ public class ClientFetchIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("client.when.topic.yaml")
+    @Specification({
+        "${app}/message.value/client",
+        "${net}/message.value.gzip/server"})
+    public void shouldReceiveMessageValueGzip() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("client.when.topic.yaml")
+    @Specification({
+        "${app}/message.value/client",
+        "${net}/message.value.snappy/server"})
+    public void shouldReceiveMessageValueSnappy() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("client.when.topic.yaml")
+    @Specification({
+        "${app}/message.value/client",
+        "${net}/message.value.lz4/server"})
+    public void shouldReceiveMessageValueLz4() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("client.event.record.batch.undecodable.yaml")
+    @Specification({
+        "${app}/message.value.undecodable/client",
+        "${net}/message.value.zstd/server"})
+    public void shouldSkipMessageValueZstd() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("client.when.topic.yaml")
     @Specification({
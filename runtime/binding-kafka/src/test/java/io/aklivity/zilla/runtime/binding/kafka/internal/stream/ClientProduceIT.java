@@ -20,7 +20,6 @@ import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_DRAIN_
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.rules.RuleChain.outerRule;
 
-import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.DisableOnDebug;
@@ -263,34 +262,34 @@ public class ClientProduceIT
         k3po.finish();
     }
 
-    @Ignore("TODO")
     @Test
     @Configuration("client.when.topic.yaml")
     @Specification({
         "${app}/message.value.gzip/client",
         "${net}/message.value.gzip/server"})
+    @Configure(name = KafkaConfigurationTest.KAFKA_CLIENT_PRODUCE_COMPRESSION_NAME, value = "gzip")
     public void shouldSendMessageValueGzip() throws Exception
     {
         k3po.finish();
     }
 
-    @Ignore("TODO")
     @Test
     @Configuration("client.when.topic.yaml")
     @Specification({
         "${app}/message.value.snappy/client",
         "${net}/message.value.snappy/server"})
+    @Configure(name = KafkaConfigurationTest.KAFKA_CLIENT_PRODUCE_COMPRESSION_NAME, value = "snappy")
     public void shouldSendMessageValueSnappy() throws Exception
     {
         k3po.finish();
     }
 
-    @Ignore("TODO")
     @Test
     @Configuration("client.when.topic.yaml")
     @Specification({
         "${app}/message.value.lz4/client",
         "${net}/message.value.lz4/server"})
+    @Configure(name = KafkaConfigurationTest.KAFKA_CLIENT_PRODUCE_COMPRESSION_NAME, value = "lz4")
     public void shouldSendMessageValueLz4() throws Exception
     {
         k3po.finish();
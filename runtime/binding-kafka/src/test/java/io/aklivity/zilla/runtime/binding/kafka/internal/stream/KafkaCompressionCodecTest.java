@@ -0,0 +1,205 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
+
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaCompressionCodec.FAILED;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class KafkaCompressionCodecTest
+{
+    private final KafkaCompressionCodec codec = new KafkaCompressionCodec();
+
+    @Test
+    public void shouldRoundTripGzip()
+    {
+        assertRoundTrip(KafkaCompressionType.GZIP, repetitive(100_000));
+        assertRoundTrip(KafkaCompressionType.GZIP, random(10_000));
+    }
+
+    @Test
+    public void shouldRoundTripSnappy()
+    {
+        assertRoundTrip(KafkaCompressionType.SNAPPY, repetitive(100_000));
+        assertRoundTrip(KafkaCompressionType.SNAPPY, random(10_000));
+        assertRoundTrip(KafkaCompressionType.SNAPPY, "short".getBytes(UTF_8));
+    }
+
+    @Test
+    public void shouldRoundTripLz4()
+    {
+        assertRoundTrip(KafkaCompressionType.LZ4, repetitive(200_000));
+        assertRoundTrip(KafkaCompressionType.LZ4, random(100_000));
+        assertRoundTrip(KafkaCompressionType.LZ4, "short".getBytes(UTF_8));
+    }
+
+    @Test
+    public void shouldDecompressGzipStream() throws Exception
+    {
+        final byte[] expected = repetitive(50_000);
+
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed))
+        {
+            out.write(expected);
+        }
+
+        final byte[] input = compressed.toByteArray();
+        final MutableDirectBuffer dst = new UnsafeBuffer(new byte[expected.length]);
+        final int length = codec.decompress(KafkaCompressionType.GZIP, new UnsafeBuffer(input), 0, input.length,
+            dst, 0, dst.capacity());
+
+        assertEquals(expected.length, length);
+        assertArrayEquals(expected, bytes(dst, length));
+    }
+
+    @Test
+    public void shouldCompressGzipStream() throws Exception
+    {
+        final byte[] expected = repetitive(50_000);
+
+        final MutableDirectBuffer dst = new UnsafeBuffer(new byte[expected.length]);
+        final int length = codec.compress(KafkaCompressionType.GZIP, new UnsafeBuffer(expected), 0, expected.length,
+            dst, 0, dst.capacity());
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes(dst, length))))
+        {
+            assertArrayEquals(expected, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void shouldDecompressSnappyBlock()
+    {
+        // uncompressed length 11, literal "abcd", copy length 7 offset 4
+        final byte[] input = { 0x0b, 0x0c, 'a', 'b', 'c', 'd', 0x0d, 0x04 };
+
+        final MutableDirectBuffer dst = new UnsafeBuffer(new byte[64]);
+        final int length = codec.decompress(KafkaCompressionType.SNAPPY, new UnsafeBuffer(input), 0, input.length,
+            dst, 0, dst.capacity());
+
+        assertEquals("abcdabcdabc", new String(bytes(dst, length), UTF_8));
+    }
+
+    @Test
+    public void shouldEncodeLz4FrameHeaderChecksum()
+    {
+        final byte[] input = "lz4".getBytes(UTF_8);
+
+        final MutableDirectBuffer dst = new UnsafeBuffer(new byte[64]);
+        codec.compress(KafkaCompressionType.LZ4, new UnsafeBuffer(input), 0, input.length, dst, 0, dst.capacity());
+
+        assertEquals(0x184d2204, dst.getInt(0, LITTLE_ENDIAN));
+        assertEquals(0x82, dst.getByte(6) & 0xff);
+    }
+
+    @Test
+    public void shouldNotDecompressWhenOverflow()
+    {
+        final byte[] expected = repetitive(10_000);
+
+        final MutableDirectBuffer compressed = new UnsafeBuffer(new byte[expected.length * 2]);
+        final int compressedLength = codec.compress(KafkaCompressionType.LZ4, new UnsafeBuffer(expected), 0,
+            expected.length, compressed, 0, compressed.capacity());
+
+        final MutableDirectBuffer dst = new UnsafeBuffer(new byte[expected.length - 1]);
+        final int length = codec.decompress(KafkaCompressionType.LZ4, compressed, 0, compressedLength,
+            dst, 0, dst.capacity());
+
+        assertEquals(FAILED, length);
+    }
+
+    @Test
+    public void shouldNotDecompressMalformed()
+    {
+        final byte[] input = random(1_000);
+
+        final MutableDirectBuffer dst = new UnsafeBuffer(new byte[10_000]);
+
+        assertEquals(FAILED, codec.decompress(KafkaCompressionType.GZIP, new UnsafeBuffer(input), 0, input.length,
+            dst, 0, dst.capacity()));
+        assertEquals(FAILED, codec.decompress(KafkaCompressionType.LZ4, new UnsafeBuffer(input), 0, input.length,
+            dst, 0, dst.capacity()));
+    }
+
+    @Test
+    public void shouldNotSupportZstd()
+    {
+        assertTrue(codec.supports(KafkaCompressionType.LZ4));
+        assertFalse(codec.supports(KafkaCompressionType.ZSTD));
+    }
+
+    private void assertRoundTrip(
+        KafkaCompressionType type,
+        byte[] expected)
+    {
+        final MutableDirectBuffer compressed = new UnsafeBuffer(new byte[expected.length * 2 + 64]);
+        final int compressedLength = codec.compress(type, new UnsafeBuffer(expected), 0, expected.length,
+            compressed, 0, compressed.capacity());
+
+        assertTrue(compressedLength > 0);
+
+        final MutableDirectBuffer decompressed = new UnsafeBuffer(new byte[expected.length]);
+        final int decompressedLength = codec.decompress(type, compressed, 0, compressedLength,
+            decompressed, 0, decompressed.capacity());
+
+        assertEquals(expected.length, decompressedLength);
+        assertArrayEquals(expected, bytes(decompressed, decompressedLength));
+    }
+
+    private static byte[] bytes(
+        MutableDirectBuffer buffer,
+        int length)
+    {
+        final byte[] bytes = new byte[length];
+        buffer.getBytes(0, bytes);
+        return bytes;
+    }
+
+    private static byte[] repetitive(
+        int length)
+    {
+        final byte[] bytes = new byte[length];
+        final byte[] pattern = "{\"id\":12345,\"name\":\"zilla\",\"status\":\"active\"}".getBytes(UTF_8);
+        for (int index = 0; index < length; index++)
+        {
+            bytes[index] = pattern[index % pattern.length];
+        }
+        return bytes;
+    }
+
+    private static byte[] random(
+        int length)
+    {
+        final byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
+
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaDecompressor.FAILED;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaDecompressor.UNSUPPORTED;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class KafkaDecompressorTest
+{
+    private final KafkaCompressionCodec codec = new KafkaCompressionCodec();
+    private final KafkaDecompressor decompressor = new KafkaDecompressor(16 * 1024, 1024 * 1024);
+
+    @Test
+    public void shouldInflateGzipIncrementally()
+    {
+        assertInflate(KafkaCompressionType.GZIP, repetitive(300_000), 1_000);
+        assertInflate(KafkaCompressionType.GZIP, random(100_000), 7_919);
+    }
+
+    @Test
+    public void shouldInflateGzipStreamIncrementally() throws Exception
+    {
+        final byte[] expected = repetitive(200_000);
+
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed))
+        {
+            out.write(expected);
+        }
+
+        assertArrayEquals(expected, inflate(KafkaCompressionType.GZIP, compressed.toByteArray(), 512));
+    }
+
+    @Test
+    public void shouldInflateSnappyIncrementally()
+    {
+        assertInflate(KafkaCompressionType.SNAPPY, repetitive(300_000), 1_000);
+        assertInflate(KafkaCompressionType.SNAPPY, random(100_000), 16_384);
+    }
+
+    @Test
+    public void shouldInflateLz4Incrementally()
+    {
+        assertInflate(KafkaCompressionType.LZ4, repetitive(300_000), 1_000);
+        assertInflate(KafkaCompressionType.LZ4, random(200_000), 16_384);
+    }
+
+    @Test
+    public void shouldNotInflateSnappyBlock()
+    {
+        final byte[] input = new byte[32];
+        input[0] = 0x0b;
+
+        decompressor.reset(KafkaCompressionType.SNAPPY);
+
+        assertEquals(UNSUPPORTED, decompressor.inflate(new UnsafeBuffer(input), 0, input.length, true));
+    }
+
+    @Test
+    public void shouldNotInflateTruncated()
+    {
+        final byte[] expected = repetitive(100_000);
+
+        for (KafkaCompressionType type : new KafkaCompressionType[] {
+            KafkaCompressionType.GZIP, KafkaCompressionType.SNAPPY, KafkaCompressionType.LZ4 })
+        {
+            final byte[] compressed = compress(type, expected);
+            final DirectBuffer src = new UnsafeBuffer(Arrays.copyOf(compressed, compressed.length / 2));
+
+            decompressor.reset(type);
+
+            int progress = 0;
+            int consumed;
+            do
+            {
+                consumed = decompressor.inflate(src, progress, src.capacity() - progress, true);
+                progress += Math.max(consumed, 0);
+                decompressor.compact(decompressor.limit());
+            }
+            while (consumed > 0);
+
+            assertEquals(type.name(), FAILED, consumed);
+        }
+    }
+
+    private void assertInflate(
+        KafkaCompressionType type,
+        byte[] expected,
+        int fragment)
+    {
+        assertArrayEquals(expected, inflate(type, compress(type, expected), fragment));
+    }
+
+    private byte[] compress(
+        KafkaCompressionType type,
+        byte[] input)
+    {
+        final MutableDirectBuffer compressed = new UnsafeBuffer(new byte[input.length * 2 + 64]);
+        final int length = codec.compress(type, new UnsafeBuffer(input), 0, input.length, compressed, 0, compressed.capacity());
+        assertTrue(length > 0);
+        return Arrays.copyOf(compressed.byteArray(), length);
+    }
+
+    private byte[] inflate(
+        KafkaCompressionType type,
+        byte[] compressed,
+        int fragment)
+    {
+        final DirectBuffer src = new UnsafeBuffer(compressed);
+        final ByteArrayOutputStream inflated = new ByteArrayOutputStream();
+
+        decompressor.reset(type);
+
+        int progress = 0;
+        int available = 0;
+        while (!decompressor.finished() || progress < compressed.length)
+        {
+            available = Math.min(available + fragment, compressed.length);
+
+            final int consumed = decompressor.inflate(src, progress, available - progress, available == compressed.length);
+            assertTrue(consumed >= 0);
+            progress += consumed;
+
+            final byte[] bytes = new byte[decompressor.limit()];
+            decompressor.buffer().getBytes(0, bytes);
+            inflated.write(bytes, 0, bytes.length);
+            decompressor.compact(bytes.length);
+        }
+
+        return inflated.toByteArray();
+    }
+
+    private static byte[] repetitive(
+        int length)
+    {
+        final byte[] bytes = new byte[length];
+        final byte[] pattern = "{\"id\":12345,\"name\":\"zilla\",\"status\":\"active\"}".getBytes(UTF_8);
+        for (int index = 0; index < length; index++)
+        {
+            bytes[index] = pattern[index % pattern.length];
+        }
+        return bytes;
+    }
+
+    private static byte[] random(
+        int length)
+    {
+        final byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -2619,6 +2619,14 @@ public final class MqttServerFactory implements MqttStreamFactory
 
                 if (decodeSlot != NO_SLOT)
                 {
+                    final int newDecodeSlot = bufferPool.resize(decodeSlot, decodeSlotOffset + limit - offset);
+                    if (newDecodeSlot == NO_SLOT)
+                    {
+                        cleanupNetwork(traceId, authorization);
+                        return;
+                    }
+                    decodeSlot = newDecodeSlot;
+
                     final MutableDirectBuffer slotBuffer = bufferPool.buffer(decodeSlot);
                     slotBuffer.putBytes(decodeSlotOffset, buffer, offset, limit - offset);
                     decodeSlotOffset += limit - offset;
@@ -4835,7 +4843,7 @@ public final class MqttServerFactory implements MqttStreamFactory
             {
                 if (decodeSlot == NO_SLOT)
                 {
-                    decodeSlot = bufferPool.acquire(initialId);
+                    decodeSlot = bufferPool.acquire(initialId, limit - progress);
                 }
 
                 if (decodeSlot == NO_SLOT)
@@ -4848,6 +4856,7 @@ public final class MqttServerFactory implements MqttStreamFactory
                     slotBuffer.putBytes(0, buffer, progress, limit - progress);
                     decodeSlotOffset = limit - progress;
                     decodeSlotReserved = (limit - progress) * reserved / (limit - offset);
+                    decodeSlot = bufferPool.resize(decodeSlot, decodeSlotOffset);
                 }
             }
             else
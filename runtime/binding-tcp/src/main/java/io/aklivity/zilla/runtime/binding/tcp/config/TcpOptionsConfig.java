@@ -26,6 +26,7 @@ public final class TcpOptionsConfig extends OptionsConfig
     public final int backlog;
     public final boolean nodelay;
     public final boolean keepalive;
+    public final String path;
 
     public static TcpOptionsConfigBuilder<TcpOptionsConfig> builder()
     {
@@ -43,12 +44,14 @@ public final class TcpOptionsConfig extends OptionsConfig
         int[] ports,
         int backlog,
         boolean nodelay,
-        boolean keepalive)
+        boolean keepalive,
+        String path)
     {
         this.host = host;
         this.ports = ports;
         this.backlog = backlog;
         this.nodelay = nodelay;
         this.keepalive = keepalive;
+        this.path = path;
     }
 }
@@ -33,6 +33,7 @@ public final class TcpOptionsConfigBuilder<T> extends ConfigBuilder<T, TcpOption
     private int backlog = BACKLOG_DEFAULT;
     private boolean nodelay = NODELAY_DEFAULT;
     private boolean keepalive = KEEPALIVE_DEFAULT;
+    private String path;
 
     TcpOptionsConfigBuilder(
         Function<OptionsConfig, T> mapper)
@@ -82,9 +83,16 @@ public final class TcpOptionsConfigBuilder<T> extends ConfigBuilder<T, TcpOption
         return this;
     }
 
+    public TcpOptionsConfigBuilder<T> path(
+        String path)
+    {
+        this.path = path;
+        return this;
+    }
+
     @Override
     public T build()
     {
-        return mapper.apply(new TcpOptionsConfig(host, ports, backlog, nodelay, keepalive));
+        return mapper.apply(new TcpOptionsConfig(host, ports, backlog, nodelay, keepalive, path));
     }
 }
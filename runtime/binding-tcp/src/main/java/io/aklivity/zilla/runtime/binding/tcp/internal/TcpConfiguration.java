@@ -21,6 +21,8 @@ public class TcpConfiguration extends Configuration
 {
     public static final IntPropertyDef TCP_WINDOW_THRESHOLD;
     public static final IntPropertyDef TCP_MAX_CONNECTIONS;
+    public static final BooleanPropertyDef TCP_WRITE_COALESCE;
+    public static final IntPropertyDef TCP_WRITE_COALESCE_THRESHOLD;
 
     private static final ConfigurationDef TCP_CONFIG;
 
@@ -29,6 +31,8 @@ public class TcpConfiguration extends Configuration
         ConfigurationDef config = new ConfigurationDef("zilla.binding.tcp");
         TCP_WINDOW_THRESHOLD = config.property("window.threshold", 0);
         TCP_MAX_CONNECTIONS = config.property("max.connections", Integer.MAX_VALUE);
+        TCP_WRITE_COALESCE = config.property("write.coalesce", false);
+        TCP_WRITE_COALESCE_THRESHOLD = config.property("write.coalesce.threshold", 16384);
         TCP_CONFIG = config;
     }
 
@@ -49,4 +53,14 @@ public class TcpConfiguration extends Configuration
     {
         return TCP_MAX_CONNECTIONS.getAsInt(this);
     }
+
+    public boolean writeCoalesce()
+    {
+        return TCP_WRITE_COALESCE.getAsBoolean(this);
+    }
+
+    public int writeCoalesceThreshold()
+    {
+        return TCP_WRITE_COALESCE_THRESHOLD.getAsInt(this);
+    }
 }
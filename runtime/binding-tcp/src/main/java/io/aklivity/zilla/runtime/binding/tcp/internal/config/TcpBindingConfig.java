@@ -19,28 +19,39 @@ import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
 import java.net.InetSocketAddress;
+import java.net.UnixDomainSocketAddress;
 import java.util.List;
+import java.util.function.LongConsumer;
 
 import io.aklivity.zilla.runtime.binding.tcp.config.TcpOptionsConfig;
+import io.aklivity.zilla.runtime.binding.tcp.internal.metrics.TcpWriteBytesMetric;
+import io.aklivity.zilla.runtime.binding.tcp.internal.metrics.TcpWriteSyscallsMetric;
+import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.config.BindingConfig;
 import io.aklivity.zilla.runtime.engine.config.KindConfig;
 import io.aklivity.zilla.runtime.engine.config.RouteConfig;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
 import io.aklivity.zilla.runtime.engine.poller.PollerKey;
 
 public final class TcpBindingConfig
 {
     public static final List<TcpRouteConfig> DEFAULT_CLIENT_ROUTES = initDefaultClientRoutes();
 
+    private static final LongConsumer NO_RECORDER = v -> {};
+
     public final long id;
     public final String name;
     public final KindConfig kind;
     public final TcpOptionsConfig options;
     public final List<TcpRouteConfig> routes;
+    public final LongConsumer recordWriteSyscalls;
+    public final LongConsumer recordWriteBytes;
 
     private PollerKey[] attached;
 
     public TcpBindingConfig(
-        BindingConfig binding)
+        BindingConfig binding,
+        EngineContext context)
     {
         this.id = binding.id;
         this.name = binding.name;
@@ -49,6 +60,8 @@ public final class TcpBindingConfig
         this.routes = binding.kind == KindConfig.CLIENT && binding.routes.isEmpty()
                 ? DEFAULT_CLIENT_ROUTES
                 : binding.routes.stream().map(TcpRouteConfig::new).collect(toList());
+        this.recordWriteSyscalls = supplyWriteRecorder(context, binding, new TcpWriteSyscallsMetric());
+        this.recordWriteBytes = supplyWriteRecorder(context, binding, new TcpWriteBytesMetric());
     }
 
     public PollerKey[] attach(
@@ -68,6 +81,15 @@ public final class TcpBindingConfig
             .orElse(null);
     }
 
+    public TcpRouteConfig resolve(
+        UnixDomainSocketAddress address)
+    {
+        return routes.stream()
+            .filter(r -> r.matches(address))
+            .findFirst()
+            .orElse(null);
+    }
+
     private static List<TcpRouteConfig> initDefaultClientRoutes()
     {
         final RouteConfig route = RouteConfig.builder().build();
@@ -75,4 +97,27 @@ public final class TcpBindingConfig
 
         return singletonList(new TcpRouteConfig(route));
     }
+
+    private static LongConsumer supplyWriteRecorder(
+        EngineContext context,
+        BindingConfig binding,
+        Metric metric)
+    {
+        LongConsumer recorder = NO_RECORDER;
+
+        if (binding.metricIds != null)
+        {
+            final long metricId = binding.resolveId.applyAsLong(metric.name());
+            for (long id : binding.metricIds)
+            {
+                if (id == metricId)
+                {
+                    recorder = context.supplyMetricWriter(metric.kind(), binding.id, metricId);
+                    break;
+                }
+            }
+        }
+
+        return recorder;
+    }
 }
@@ -17,6 +17,7 @@ package io.aklivity.zilla.runtime.binding.tcp.internal.config;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.UnixDomainSocketAddress;
 import java.util.Arrays;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -48,6 +49,14 @@ public final class TcpConditionMatcher
                 matchesPort(remote.getPort());
     }
 
+    public boolean matches(
+        UnixDomainSocketAddress local)
+    {
+        return cidr == null &&
+                ports == null &&
+                matchesAuthority(local.getPath().toString());
+    }
+
     private boolean matchesCidr(
         InetAddress remote)
     {
@@ -57,7 +66,13 @@ public final class TcpConditionMatcher
     private boolean matchesAuthority(
         InetAddress remote)
     {
-        return authority == null || authority.reset(remote.getHostName()).matches();
+        return matchesAuthority(remote.getHostName());
+    }
+
+    private boolean matchesAuthority(
+        String name)
+    {
+        return authority == null || authority.reset(name).matches();
     }
 
     private boolean matchesPort(
@@ -45,6 +45,7 @@ public final class TcpOptionsConfigAdapter implements OptionsConfigAdapterSpi, J
     private static final String HOST_NAME = "host";
     private static final String PORT_NAME = "port";
     private static final String BACKLOG_NAME = "backlog";
+    private static final String PATH_NAME = "path";
 
     @Override
     public Kind kind()
@@ -66,7 +67,15 @@ public final class TcpOptionsConfigAdapter implements OptionsConfigAdapterSpi, J
 
         JsonObjectBuilder object = Json.createObjectBuilder();
 
-        object.add(HOST_NAME, tcpOptions.host);
+        if (tcpOptions.host != null)
+        {
+            object.add(HOST_NAME, tcpOptions.host);
+        }
+
+        if (tcpOptions.path != null)
+        {
+            object.add(PATH_NAME, tcpOptions.path);
+        }
 
         if (tcpOptions.ports != null)
         {
@@ -103,25 +112,36 @@ public final class TcpOptionsConfigAdapter implements OptionsConfigAdapterSpi, J
     {
         final TcpOptionsConfigBuilder<TcpOptionsConfig> tcpOptions = TcpOptionsConfig.builder();
 
-        tcpOptions.host(object.getString(HOST_NAME));
+        if (object.containsKey(HOST_NAME))
+        {
+            tcpOptions.host(object.getString(HOST_NAME));
+        }
 
-        JsonValue portsValue = object.get(PORT_NAME);
-        IntHashSet portsSet = new IntHashSet();
-        switch (portsValue.getValueType())
+        if (object.containsKey(PATH_NAME))
         {
-        case ARRAY:
-            JsonArray portsArray = portsValue.asJsonArray();
-            portsArray.forEach(value -> adaptPortsValueFromJson(value, portsSet));
-            break;
-        default:
-            adaptPortsValueFromJson(portsValue, portsSet);
-            break;
+            tcpOptions.path(object.getString(PATH_NAME));
         }
 
-        int[] ports = new int[portsSet.size()];
-        MutableInteger index = new MutableInteger();
-        portsSet.forEach(i -> ports[index.value++] = i);
-        tcpOptions.ports(ports);
+        if (object.containsKey(PORT_NAME))
+        {
+            JsonValue portsValue = object.get(PORT_NAME);
+            IntHashSet portsSet = new IntHashSet();
+            switch (portsValue.getValueType())
+            {
+            case ARRAY:
+                JsonArray portsArray = portsValue.asJsonArray();
+                portsArray.forEach(value -> adaptPortsValueFromJson(value, portsSet));
+                break;
+            default:
+                adaptPortsValueFromJson(portsValue, portsSet);
+                break;
+            }
+
+            int[] ports = new int[portsSet.size()];
+            MutableInteger index = new MutableInteger();
+            portsSet.forEach(i -> ports[index.value++] = i);
+            tcpOptions.ports(ports);
+        }
 
         if (object.containsKey(BACKLOG_NAME))
         {
@@ -18,6 +18,7 @@ package io.aklivity.zilla.runtime.binding.tcp.internal.config;
 import static java.util.stream.Collectors.toList;
 
 import java.net.InetSocketAddress;
+import java.net.UnixDomainSocketAddress;
 import java.util.List;
 import java.util.function.LongPredicate;
 import java.util.function.Predicate;
@@ -55,6 +56,12 @@ public final class TcpRouteConfig
         return when.isEmpty() || when.stream().anyMatch(m -> m.matches(address));
     }
 
+    public boolean matches(
+        UnixDomainSocketAddress address)
+    {
+        return when.isEmpty() || when.stream().anyMatch(m -> m.matches(address));
+    }
+
     public boolean matchesExplicit(
         InetSocketAddress address)
     {
@@ -15,14 +15,20 @@
  */
 package io.aklivity.zilla.runtime.binding.tcp.internal.config;
 
+import static java.net.StandardProtocolFamily.UNIX;
 import static java.net.StandardSocketOptions.SO_REUSEADDR;
 import static java.net.StandardSocketOptions.SO_REUSEPORT;
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
 import static org.agrona.CloseHelper.quietClose;
 
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.UnixDomainSocketAddress;
 import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -33,11 +39,15 @@ import io.aklivity.zilla.runtime.binding.tcp.config.TcpOptionsConfig;
 
 public final class TcpServerBindingConfig
 {
+    private static final int S_IFMT = 0170000;
+    private static final int S_IFSOCK = 0140000;
+
     public final long id;
 
     private final Lock lock = new ReentrantLock();
     private final AtomicInteger binds;
     private volatile ServerSocketChannel[] channels;
+    private volatile Path path;
 
     public TcpServerBindingConfig(
         long bindingId)
@@ -57,22 +67,36 @@ public final class TcpServerBindingConfig
             {
                 assert channels == null;
 
-                int size = options.ports != null ? options.ports.length : 0;
-                channels = new ServerSocketChannel[size];
+                if (options.path != null)
+                {
+                    path = Path.of(options.path);
+                    deleteIfStale(path);
+
+                    ServerSocketChannel channel = ServerSocketChannel.open(UNIX);
+                    channel.bind(UnixDomainSocketAddress.of(path), options.backlog);
+                    channel.configureBlocking(false);
 
-                for (int i = 0; i < size; i++)
+                    channels = new ServerSocketChannel[] { channel };
+                }
+                else
                 {
-                    ServerSocketChannel channel = ServerSocketChannel.open();
+                    int size = options.ports != null ? options.ports.length : 0;
+                    channels = new ServerSocketChannel[size];
 
-                    InetAddress address = InetAddress.getByName(options.host);
-                    InetSocketAddress local = new InetSocketAddress(address, options.ports[i]);
+                    for (int i = 0; i < size; i++)
+                    {
+                        ServerSocketChannel channel = ServerSocketChannel.open();
 
-                    channel.setOption(SO_REUSEADDR, true);
-                    channel.setOption(SO_REUSEPORT, true);
-                    channel.bind(local, options.backlog);
-                    channel.configureBlocking(false);
+                        InetAddress address = InetAddress.getByName(options.host);
+                        InetSocketAddress local = new InetSocketAddress(address, options.ports[i]);
+
+                        channel.setOption(SO_REUSEADDR, true);
+                        channel.setOption(SO_REUSEPORT, true);
+                        channel.bind(local, options.backlog);
+                        channel.configureBlocking(false);
 
-                    channels[i] = channel;
+                        channels[i] = channel;
+                    }
                 }
             }
         }
@@ -102,6 +126,12 @@ public final class TcpServerBindingConfig
                     quietClose(channel);
                 }
                 channels = null;
+
+                if (path != null)
+                {
+                    quietClose(() -> Files.deleteIfExists(path));
+                    path = null;
+                }
             }
         }
         finally
@@ -109,4 +139,39 @@ public final class TcpServerBindingConfig
             lock.unlock();
         }
     }
+
+    private static void deleteIfStale(
+        Path path) throws IOException
+    {
+        if (Files.exists(path, NOFOLLOW_LINKS) &&
+            isSocket(path) &&
+            !isListening(path))
+        {
+            Files.delete(path);
+        }
+    }
+
+    private static boolean isSocket(
+        Path path) throws IOException
+    {
+        final int mode = (Integer) Files.getAttribute(path, "unix:mode", NOFOLLOW_LINKS);
+        return (mode & S_IFMT) == S_IFSOCK;
+    }
+
+    private static boolean isListening(
+        Path path)
+    {
+        boolean listening;
+
+        try (SocketChannel channel = SocketChannel.open(UNIX))
+        {
+            listening = channel.connect(UnixDomainSocketAddress.of(path));
+        }
+        catch (IOException ex)
+        {
+            listening = false;
+        }
+
+        return listening;
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.tcp.internal.metrics;
+
+import static io.aklivity.zilla.runtime.engine.metrics.MetricContext.Direction.SENT;
+
+import java.util.function.LongConsumer;
+
+import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.MetricContext;
+
+public final class TcpMetricContext implements MetricContext
+{
+    private final Metric.Kind kind;
+
+    public TcpMetricContext(
+        Metric.Kind kind)
+    {
+        this.kind = kind;
+    }
+
+    @Override
+    public String group()
+    {
+        return TcpMetricGroup.NAME;
+    }
+
+    @Override
+    public Metric.Kind kind()
+    {
+        return kind;
+    }
+
+    @Override
+    public Direction direction()
+    {
+        return SENT;
+    }
+
+    @Override
+    public MessageConsumer supply(
+        LongConsumer recorder)
+    {
+        // stream frames do not reveal socket writes, see TcpBindingConfig for the recorders
+        return MessageConsumer.NOOP;
+    }
+}
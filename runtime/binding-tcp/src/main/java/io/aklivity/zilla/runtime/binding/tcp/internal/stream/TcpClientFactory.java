@@ -18,6 +18,7 @@ package io.aklivity.zilla.runtime.binding.tcp.internal.stream;
 import static io.aklivity.zilla.runtime.binding.tcp.internal.TcpBinding.WRITE_SPIN_COUNT;
 import static io.aklivity.zilla.runtime.binding.tcp.internal.util.IpUtil.proxyAddress;
 import static io.aklivity.zilla.runtime.engine.buffer.BufferPool.NO_SLOT;
+import static java.net.StandardProtocolFamily.UNIX;
 import static java.net.StandardSocketOptions.SO_KEEPALIVE;
 import static java.net.StandardSocketOptions.TCP_NODELAY;
 import static java.nio.ByteOrder.nativeOrder;
@@ -28,6 +29,8 @@ import static org.agrona.LangUtil.rethrowUnchecked;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.channels.SelectableChannel;
@@ -94,12 +97,16 @@ public class TcpClientFactory implements TcpStreamFactory
     private final Function<SelectableChannel, PollerKey>  supplyPollerKey;
     private final int proxyTypeId;
     private final int windowThreshold;
+    private final boolean writeCoalesce;
+    private final int writeCoalesceThreshold;
     private final int initialMax;
+    private final EngineContext context;
 
     public TcpClientFactory(
         TcpConfiguration config,
         EngineContext context)
     {
+        this.context = context;
         this.router = new TcpClientRouter(context);
         this.writeBuffer = context.writeBuffer();
         this.writeByteBuffer = ByteBuffer.allocateDirect(writeBuffer.capacity()).order(nativeOrder());
@@ -115,6 +122,8 @@ public class TcpClientFactory implements TcpStreamFactory
 
         this.initialMax = bufferPool.slotCapacity();
         this.windowThreshold = (bufferPool.slotCapacity() * config.windowThreshold()) / 100;
+        this.writeCoalesce = config.writeCoalesce();
+        this.writeCoalesceThreshold = Math.min(config.writeCoalesceThreshold(), bufferPool.slotCapacity());
     }
 
     @Override
@@ -147,7 +156,7 @@ public class TcpClientFactory implements TcpStreamFactory
                 ? begin.extension().get(beginExRO::tryWrap)
                 : null;
 
-        InetSocketAddress route = null;
+        SocketAddress route = null;
 
         TcpBindingConfig binding = router.lookup(routedId);
         if (binding != null)
@@ -160,9 +169,9 @@ public class TcpClientFactory implements TcpStreamFactory
         if (route != null)
         {
             final long initialId = begin.streamId();
-            final SocketChannel channel = newSocketChannel();
+            final SocketChannel channel = newSocketChannel(route);
 
-            final TcpClient client = new TcpClient(application, originId, routedId, initialId, channel);
+            final TcpClient client = new TcpClient(application, binding, originId, routedId, initialId, channel);
             client.doNetConnect(route, binding.options);
             newStream = client::onAppMessage;
         }
@@ -174,7 +183,7 @@ public class TcpClientFactory implements TcpStreamFactory
     public void attach(
         BindingConfig binding)
     {
-        TcpBindingConfig tcpBinding = new TcpBindingConfig(binding);
+        TcpBindingConfig tcpBinding = new TcpBindingConfig(binding, context);
         router.attach(tcpBinding);
     }
 
@@ -185,13 +194,25 @@ public class TcpClientFactory implements TcpStreamFactory
         router.detach(bindingId);
     }
 
-    private SocketChannel newSocketChannel()
+    private SocketChannel newSocketChannel(
+        SocketAddress address)
     {
         try
         {
-            final SocketChannel channel = SocketChannel.open();
-            channel.configureBlocking(false);
-            channel.setOption(TCP_NODELAY, true);
+            final SocketChannel channel;
+
+            if (address instanceof UnixDomainSocketAddress)
+            {
+                channel = SocketChannel.open(UNIX);
+                channel.configureBlocking(false);
+            }
+            else
+            {
+                channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                channel.setOption(TCP_NODELAY, true);
+            }
+
             return channel;
         }
         catch (IOException ex)
@@ -212,6 +233,7 @@ public class TcpClientFactory implements TcpStreamFactory
     private final class TcpClient
     {
         private final MessageConsumer app;
+        private final TcpBindingConfig binding;
         private final long originId;
         private final long routedId;
         private final long initialId;
@@ -233,15 +255,19 @@ public class TcpClientFactory implements TcpStreamFactory
         private int writeSlot = NO_SLOT;
         private int writeSlotOffset;
         private int bytesFlushed;
+        private boolean inputShutdown;
+        private boolean outputShutdown;
 
         private TcpClient(
             MessageConsumer app,
+            TcpBindingConfig binding,
             long originId,
             long routedId,
             long initialId,
             SocketChannel net)
         {
             this.app = app;
+            this.binding = binding;
             this.originId = originId;
             this.routedId = routedId;
             this.initialId = initialId;
@@ -250,13 +276,17 @@ public class TcpClientFactory implements TcpStreamFactory
         }
 
         private void doNetConnect(
-            InetSocketAddress remoteAddress,
+            SocketAddress remoteAddress,
             TcpOptionsConfig options)
         {
             try
             {
                 state = TcpState.openingInitial(state);
-                net.setOption(SO_KEEPALIVE, options != null && options.keepalive);
+
+                if (remoteAddress instanceof InetSocketAddress)
+                {
+                    net.setOption(SO_KEEPALIVE, options != null && options.keepalive);
+                }
 
                 networkKey = supplyPollerKey.apply(net);
 
@@ -347,10 +377,11 @@ public class TcpClientFactory implements TcpStreamFactory
                 {
                     key.clear(OP_READ);
                     CloseHelper.close(net::shutdownInput);
+                    inputShutdown = true;
 
                     doAppEnd(supplyTraceId.getAsLong());
 
-                    if (net.socket().isOutputShutdown())
+                    if (outputShutdown)
                     {
                         closeNet(net);
                     }
@@ -397,12 +428,20 @@ public class TcpClientFactory implements TcpStreamFactory
             long traceId)
         {
             int bytesWritten = 0;
+            int writeSyscalls = 0;
 
             try
             {
                 for (int i = WRITE_SPIN_COUNT; bytesWritten == 0 && i > 0; i--)
                 {
                     bytesWritten = net.write(byteBuffer);
+                    writeSyscalls++;
+                }
+
+                binding.recordWriteSyscalls.accept(writeSyscalls);
+                if (bytesWritten > 0)
+                {
+                    binding.recordWriteBytes.accept(bytesWritten);
                 }
 
                 bytesFlushed += bytesWritten;
@@ -471,8 +510,9 @@ public class TcpClientFactory implements TcpStreamFactory
                 {
                     networkKey.clear(OP_WRITE);
                     net.shutdownOutput();
+                    outputShutdown = true;
 
-                    if (net.socket().isInputShutdown())
+                    if (inputShutdown)
                     {
                         closeNet(net);
                     }
@@ -578,6 +618,11 @@ public class TcpClientFactory implements TcpStreamFactory
                 assert reserved == length;
                 assert length > 0;
 
+                if (writeCoalesce && writeSlot == NO_SLOT)
+                {
+                    writeSlot = bufferPool.acquire(initialId);
+                }
+
                 ByteBuffer byteBuffer;
 
                 if (writeSlot != NO_SLOT)
@@ -602,7 +647,14 @@ public class TcpClientFactory implements TcpStreamFactory
                     byteBuffer = writeByteBuffer;
                 }
 
-                doNetWrite(buffer, offset, length, byteBuffer, traceId);
+                if (writeCoalesce && writeSlot != NO_SLOT && writeSlotOffset < writeCoalesceThreshold)
+                {
+                    networkKey.register(OP_WRITE);
+                }
+                else
+                {
+                    doNetWrite(buffer, offset, length, byteBuffer, traceId);
+                }
             }
         }
 
@@ -661,6 +713,7 @@ public class TcpClientFactory implements TcpStreamFactory
 
             state = TcpState.closeReply(state);
             CloseHelper.quietClose(net::shutdownInput);
+            inputShutdown = true;
 
             cleanup(traceId);
         }
@@ -705,8 +758,8 @@ public class TcpClientFactory implements TcpStreamFactory
         private void doAppBegin(
             long traceId) throws IOException
         {
-            final InetSocketAddress localAddress = (InetSocketAddress) net.getLocalAddress();
-            final InetSocketAddress remoteAddress = (InetSocketAddress) net.getRemoteAddress();
+            final SocketAddress localAddress = net.getLocalAddress();
+            final SocketAddress remoteAddress = net.getRemoteAddress();
 
             doBegin(app, originId, routedId, replyId, replySeq, replyAck, replyMax, traceId, localAddress, remoteAddress);
             state = TcpState.openingReply(state);
@@ -785,8 +838,8 @@ public class TcpClientFactory implements TcpStreamFactory
         long acknowledge,
         int maximum,
         long traceId,
-        InetSocketAddress localAddress,
-        InetSocketAddress remoteAddress)
+        SocketAddress localAddress,
+        SocketAddress remoteAddress)
     {
         BeginFW begin = beginRW.wrap(writeBuffer, 0, writeBuffer.capacity())
                 .originId(originId)
@@ -931,8 +984,8 @@ public class TcpClientFactory implements TcpStreamFactory
     }
 
     private Flyweight.Builder.Visitor proxyBeginEx(
-        InetSocketAddress localAddress,
-        InetSocketAddress remoteAddress)
+        SocketAddress localAddress,
+        SocketAddress remoteAddress)
     {
         return (buffer, offset, limit) ->
             beginExRW.wrap(buffer, offset, limit)
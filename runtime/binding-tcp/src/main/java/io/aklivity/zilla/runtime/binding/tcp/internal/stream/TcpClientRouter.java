@@ -19,6 +19,8 @@ import static io.aklivity.zilla.runtime.binding.tcp.internal.types.ProxyInfoType
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
 import java.net.UnknownHostException;
 import java.util.Arrays;
 import java.util.List;
@@ -72,7 +74,7 @@ public final class TcpClientRouter
         return bindings.get(bindingId);
     }
 
-    public InetSocketAddress resolve(
+    public SocketAddress resolve(
         TcpBindingConfig binding,
         long traceId,
         long authorization,
@@ -81,11 +83,17 @@ public final class TcpClientRouter
         final TcpOptionsConfig options = binding.options;
         final int port = options != null && options.ports != null && options.ports.length > 0 ? options.ports[0] : 0;
 
-        InetSocketAddress resolved = null;
+        SocketAddress resolved = null;
 
         try
         {
-            if (beginEx == null)
+            if (options != null && options.path != null)
+            {
+                resolved = binding.routes.stream().anyMatch(r -> r.authorized(authorization))
+                    ? UnixDomainSocketAddress.of(options.path)
+                    : null;
+            }
+            else if (beginEx == null)
             {
                 InetAddress[] addresses = options != null ? resolveHost(options.host) : null;
                 resolved = addresses != null ? new InetSocketAddress(addresses[0], port) : null;
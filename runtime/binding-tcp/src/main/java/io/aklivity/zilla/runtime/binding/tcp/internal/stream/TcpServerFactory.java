@@ -26,7 +26,9 @@ import static java.nio.channels.SelectionKey.OP_WRITE;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.channels.SelectableChannel;
@@ -98,14 +100,18 @@ public class TcpServerFactory implements TcpStreamFactory
     private final ByteBuffer writeByteBuffer;
     private final int replyMax;
     private final int windowThreshold;
+    private final boolean writeCoalesce;
+    private final int writeCoalesceThreshold;
     private final int proxyTypeId;
     private final BindingHandler streamFactory;
+    private final EngineContext context;
 
     public TcpServerFactory(
         TcpConfiguration config,
         EngineContext context,
         LongFunction<TcpServerBindingConfig> servers)
     {
+        this.context = context;
         this.router = new TcpServerRouter(config, context, this::handleAccept, servers);
         this.writeBuffer = context.writeBuffer();
         this.writeByteBuffer = ByteBuffer.allocateDirect(writeBuffer.capacity()).order(nativeOrder());
@@ -122,6 +128,8 @@ public class TcpServerFactory implements TcpStreamFactory
         this.readBuffer = new UnsafeBuffer(readByteBuffer);
         this.replyMax = bufferPool.slotCapacity();
         this.windowThreshold = (bufferPool.slotCapacity() * config.windowThreshold()) / 100;
+        this.writeCoalesce = config.writeCoalesce();
+        this.writeCoalesceThreshold = Math.min(config.writeCoalesceThreshold(), bufferPool.slotCapacity());
     }
 
     @Override
@@ -151,7 +159,7 @@ public class TcpServerFactory implements TcpStreamFactory
     public void attach(
         BindingConfig binding)
     {
-        TcpBindingConfig tcpBinding = new TcpBindingConfig(binding);
+        TcpBindingConfig tcpBinding = new TcpBindingConfig(binding, context);
         router.attach(tcpBinding);
     }
 
@@ -175,10 +183,14 @@ public class TcpServerFactory implements TcpStreamFactory
             for (SocketChannel channel = router.accept(server); channel != null; channel = router.accept(server))
             {
                 channel.configureBlocking(false);
-                channel.setOption(TCP_NODELAY, options.nodelay);
-                channel.setOption(SO_KEEPALIVE, options.keepalive);
 
-                InetSocketAddress local = (InetSocketAddress) channel.getLocalAddress();
+                SocketAddress local = channel.getLocalAddress();
+
+                if (local instanceof InetSocketAddress)
+                {
+                    channel.setOption(TCP_NODELAY, options.nodelay);
+                    channel.setOption(SO_KEEPALIVE, options.keepalive);
+                }
 
                 onAccepted(binding, channel, local);
             }
@@ -194,13 +206,15 @@ public class TcpServerFactory implements TcpStreamFactory
     private void onAccepted(
         TcpBindingConfig binding,
         SocketChannel network,
-        InetSocketAddress local)
+        SocketAddress local)
     {
-        final TcpRouteConfig route = binding.resolve(local);
+        final TcpRouteConfig route = local instanceof InetSocketAddress
+            ? binding.resolve((InetSocketAddress) local)
+            : binding.resolve((UnixDomainSocketAddress) local);
 
         if (route != null)
         {
-            final TcpServer server = new TcpServer(binding.id, route.id, network);
+            final TcpServer server = new TcpServer(binding, route.id, network);
             server.onNetAccepted();
         }
         else
@@ -217,6 +231,7 @@ public class TcpServerFactory implements TcpStreamFactory
 
     private final class TcpServer
     {
+        private final TcpBindingConfig binding;
         private final long originId;
         private final long routedId;
         private final long initialId;
@@ -239,13 +254,16 @@ public class TcpServerFactory implements TcpStreamFactory
         private int writeSlot = NO_SLOT;
         private int writeSlotOffset;
         private int bytesFlushed;
+        private boolean inputShutdown;
+        private boolean outputShutdown;
 
         private TcpServer(
-            long originId,
+            TcpBindingConfig binding,
             long routedId,
             SocketChannel net)
         {
-            this.originId = originId;
+            this.binding = binding;
+            this.originId = binding.id;
             this.routedId = routedId;
             this.initialId = supplyInitialId.applyAsLong(routedId);
             this.replyId = supplyReplyId.applyAsLong(initialId);
@@ -289,10 +307,11 @@ public class TcpServerFactory implements TcpStreamFactory
                 {
                     key.clear(OP_READ);
                     CloseHelper.close(net::shutdownInput);
+                    inputShutdown = true;
 
                     doAppEnd(supplyTraceId.getAsLong());
 
-                    if (net.socket().isOutputShutdown())
+                    if (outputShutdown)
                     {
                         closeNet(net);
                     }
@@ -339,12 +358,20 @@ public class TcpServerFactory implements TcpStreamFactory
             long traceId)
         {
             int bytesWritten = 0;
+            int writeSyscalls = 0;
 
             try
             {
                 for (int i = WRITE_SPIN_COUNT; bytesWritten == 0 && i > 0; i--)
                 {
                     bytesWritten = net.write(byteBuffer);
+                    writeSyscalls++;
+                }
+
+                binding.recordWriteSyscalls.accept(writeSyscalls);
+                if (bytesWritten > 0)
+                {
+                    binding.recordWriteBytes.accept(bytesWritten);
                 }
 
                 bytesFlushed += bytesWritten;
@@ -404,9 +431,10 @@ public class TcpServerFactory implements TcpStreamFactory
             {
                 key.clear(OP_WRITE);
                 net.shutdownOutput();
+                outputShutdown = true;
                 state = TcpState.closeReply(state);
 
-                if (net.socket().isInputShutdown())
+                if (inputShutdown)
                 {
                     closeNet(net);
                 }
@@ -505,6 +533,11 @@ public class TcpServerFactory implements TcpStreamFactory
                 assert reserved == length;
                 assert length > 0;
 
+                if (writeCoalesce && writeSlot == NO_SLOT)
+                {
+                    writeSlot = bufferPool.acquire(replyId);
+                }
+
                 ByteBuffer byteBuffer;
 
                 if (writeSlot != NO_SLOT)
@@ -529,7 +562,14 @@ public class TcpServerFactory implements TcpStreamFactory
                     byteBuffer = writeByteBuffer;
                 }
 
-                doNetWrite(buffer, offset, length, byteBuffer, traceId);
+                if (writeCoalesce && writeSlot != NO_SLOT && writeSlotOffset < writeCoalesceThreshold)
+                {
+                    key.register(OP_WRITE);
+                }
+                else
+                {
+                    doNetWrite(buffer, offset, length, byteBuffer, traceId);
+                }
             }
         }
 
@@ -590,6 +630,7 @@ public class TcpServerFactory implements TcpStreamFactory
 
             state = TcpState.closeInitial(state);
             CloseHelper.quietClose(net::shutdownInput);
+            inputShutdown = true;
 
             final boolean abortiveRelease = !TcpState.replyOpened(state);
 
@@ -638,8 +679,8 @@ public class TcpServerFactory implements TcpStreamFactory
         private void doAppBegin() throws IOException
         {
             final long traceId = supplyTraceId.getAsLong();
-            final InetSocketAddress localAddress = (InetSocketAddress) net.getLocalAddress();
-            final InetSocketAddress remoteAddress = (InetSocketAddress) net.getRemoteAddress();
+            final SocketAddress localAddress = net.getLocalAddress();
+            final SocketAddress remoteAddress = net.getRemoteAddress();
 
             app = newStream(this::onAppMessage, originId, routedId, initialId, initialSeq, initialAck, initialMax,
                     traceId, localAddress, remoteAddress);
@@ -702,7 +743,7 @@ public class TcpServerFactory implements TcpStreamFactory
             long traceId,
             boolean abortiveRelease)
         {
-            if (abortiveRelease)
+            if (abortiveRelease && net.supportedOptions().contains(StandardSocketOptions.SO_LINGER))
             {
                 try
                 {
@@ -749,8 +790,8 @@ public class TcpServerFactory implements TcpStreamFactory
         long acknowledge,
         int maximum,
         long traceId,
-        InetSocketAddress localAddress,
-        InetSocketAddress remoteAddress)
+        SocketAddress localAddress,
+        SocketAddress remoteAddress)
     {
         BeginFW begin = beginRW.wrap(writeBuffer, 0, writeBuffer.capacity())
                 .originId(originId)
@@ -902,8 +943,8 @@ public class TcpServerFactory implements TcpStreamFactory
     }
 
     private Flyweight.Builder.Visitor proxyBeginEx(
-        InetSocketAddress source,
-        InetSocketAddress destination)
+        SocketAddress source,
+        SocketAddress destination)
     {
         return (buffer, offset, limit) ->
             beginExRW.wrap(buffer, offset, limit)
@@ -16,12 +16,14 @@
 package io.aklivity.zilla.runtime.binding.tcp.internal.util;
 
 import static io.aklivity.zilla.runtime.binding.tcp.internal.types.ProxyAddressProtocol.STREAM;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.net.Inet4Address;
 import java.net.Inet6Address;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
 import java.util.Arrays;
 import java.util.regex.Pattern;
 
@@ -32,6 +34,8 @@ public final class IpUtil
     public static final Pattern ACCEPT_HOST_AND_PORT_PATTERN = Pattern.compile("tcp#([^:]+):(\\d+)");
     public static final Pattern CONNECT_HOST_AND_PORT_PATTERN = Pattern.compile("([^:]+):(\\d+)");
 
+    private static final int UNIX_ADDRESS_LENGTH = 108;
+
     private IpUtil()
     {
         // no instances
@@ -61,6 +65,29 @@ public final class IpUtil
         return same ? 0 : 1;
     }
 
+    public static void proxyAddress(
+        ProxyAddressFW.Builder builder,
+        SocketAddress source,
+        SocketAddress destination)
+    {
+        if (source instanceof UnixDomainSocketAddress &&
+            destination instanceof UnixDomainSocketAddress)
+        {
+            builder.unix(unix -> unix.protocol(p -> p.set(STREAM))
+                                     .source(s -> s.set(unixAddress((UnixDomainSocketAddress) source)))
+                                     .destination(d -> d.set(unixAddress((UnixDomainSocketAddress) destination))));
+        }
+        else if (source instanceof InetSocketAddress &&
+            destination instanceof InetSocketAddress)
+        {
+            proxyAddress(builder, (InetSocketAddress) source, (InetSocketAddress) destination);
+        }
+        else
+        {
+            throw new IllegalArgumentException("Unexpected address types: " + Arrays.asList(source, destination));
+        }
+    }
+
     public static void proxyAddress(
         ProxyAddressFW.Builder builder,
         InetSocketAddress source,
@@ -92,4 +119,13 @@ public final class IpUtil
             throw new IllegalArgumentException("Unexpected address types: " + Arrays.asList(source, destination));
         }
     }
+
+    private static byte[] unixAddress(
+        UnixDomainSocketAddress address)
+    {
+        final byte[] path = address.getPath().toString().getBytes(UTF_8);
+        final byte[] bytes = new byte[UNIX_ADDRESS_LENGTH];
+        System.arraycopy(path, 0, bytes, 0, Math.min(path.length, bytes.length));
+        return bytes;
+    }
 }
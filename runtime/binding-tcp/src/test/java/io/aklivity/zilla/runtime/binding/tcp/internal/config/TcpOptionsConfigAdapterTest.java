@@ -147,4 +147,34 @@ public class TcpOptionsConfigAdapterTest
         assertThat(text, not(nullValue()));
         assertThat(text, equalTo("{\"host\":\"localhost\",\"port\":12345,\"backlog\":1000}"));
     }
+
+    @Test
+    public void shouldReadOptionsWithPath()
+    {
+        String text =
+                "{" +
+                    "\"path\": \"/var/run/zilla.sock\"" +
+                "}";
+
+        TcpOptionsConfig options = jsonb.fromJson(text, TcpOptionsConfig.class);
+
+        assertThat(options, not(nullValue()));
+        assertThat(options.path, equalTo("/var/run/zilla.sock"));
+        assertThat(options.host, nullValue());
+        assertThat(options.ports, nullValue());
+    }
+
+    @Test
+    public void shouldWriteOptionsWithPath()
+    {
+        TcpOptionsConfig options = TcpOptionsConfig.builder()
+            .inject(identity())
+            .path("/var/run/zilla.sock")
+            .build();
+
+        String text = jsonb.toJson(options);
+
+        assertThat(text, not(nullValue()));
+        assertThat(text, equalTo("{\"path\":\"/var/run/zilla.sock\"}"));
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.tcp.internal.config;
+
+import static java.net.StandardProtocolFamily.UNIX;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.aklivity.zilla.runtime.binding.tcp.config.TcpOptionsConfig;
+
+public class TcpServerBindingConfigTest
+{
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldBindPath() throws Exception
+    {
+        Path path = folder.getRoot().toPath().resolve("server.sock");
+
+        TcpOptionsConfig options = TcpOptionsConfig.builder()
+            .path(path.toString())
+            .build();
+        TcpServerBindingConfig binding = new TcpServerBindingConfig(1L);
+
+        ServerSocketChannel[] channels = binding.bind(options);
+
+        assertThat(channels, arrayWithSize(1));
+        assertEquals(UnixDomainSocketAddress.of(path), channels[0].getLocalAddress());
+        assertSame(channels, binding.bind(options));
+
+        binding.unbind();
+
+        assertTrue(Files.exists(path));
+        try (SocketChannel client = SocketChannel.open(UNIX))
+        {
+            assertTrue(client.connect(UnixDomainSocketAddress.of(path)));
+        }
+
+        binding.unbind();
+
+        assertFalse(channels[0].isOpen());
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    public void shouldBindOverStaleSocket() throws Exception
+    {
+        Path path = folder.getRoot().toPath().resolve("stale.sock");
+        try (ServerSocketChannel stale = ServerSocketChannel.open(UNIX))
+        {
+            stale.bind(UnixDomainSocketAddress.of(path));
+        }
+        assertTrue(Files.exists(path));
+
+        TcpOptionsConfig options = TcpOptionsConfig.builder()
+            .path(path.toString())
+            .build();
+        TcpServerBindingConfig binding = new TcpServerBindingConfig(1L);
+
+        ServerSocketChannel[] channels = binding.bind(options);
+
+        assertThat(channels, arrayWithSize(1));
+        try (SocketChannel client = SocketChannel.open(UNIX))
+        {
+            assertTrue(client.connect(UnixDomainSocketAddress.of(path)));
+        }
+
+        binding.unbind();
+
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    public void shouldNotDeleteListeningSocket() throws Exception
+    {
+        Path path = folder.getRoot().toPath().resolve("live.sock");
+        try (ServerSocketChannel live = ServerSocketChannel.open(UNIX))
+        {
+            live.bind(UnixDomainSocketAddress.of(path));
+
+            TcpOptionsConfig options = TcpOptionsConfig.builder()
+                .path(path.toString())
+                .build();
+            TcpServerBindingConfig binding = new TcpServerBindingConfig(1L);
+
+            try
+            {
+                binding.bind(options);
+                fail("bind should fail while socket is listening");
+            }
+            catch (Exception ex)
+            {
+                assertTrue(ex instanceof IOException);
+            }
+
+            try (SocketChannel client = SocketChannel.open(UNIX))
+            {
+                assertTrue(client.connect(UnixDomainSocketAddress.of(path)));
+            }
+        }
+    }
+
+    @Test
+    public void shouldNotDeleteRegularFile() throws Exception
+    {
+        Path path = folder.newFile("regular.sock").toPath();
+
+        TcpOptionsConfig options = TcpOptionsConfig.builder()
+            .path(path.toString())
+            .build();
+        TcpServerBindingConfig binding = new TcpServerBindingConfig(1L);
+
+        try
+        {
+            binding.bind(options);
+            fail("bind should fail over a regular file");
+        }
+        catch (Exception ex)
+        {
+            assertTrue(ex instanceof IOException);
+        }
+
+        assertTrue(Files.isRegularFile(path));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.tcp.internal.stream;
+
+import static io.aklivity.zilla.runtime.binding.tcp.internal.TcpConfiguration.TCP_MAX_CONNECTIONS;
+import static io.aklivity.zilla.runtime.engine.config.KindConfig.SERVER;
+import static java.net.StandardProtocolFamily.UNIX;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.aklivity.zilla.runtime.binding.tcp.config.TcpOptionsConfig;
+import io.aklivity.zilla.runtime.binding.tcp.internal.TcpConfiguration;
+import io.aklivity.zilla.runtime.binding.tcp.internal.config.TcpBindingConfig;
+import io.aklivity.zilla.runtime.binding.tcp.internal.config.TcpServerBindingConfig;
+import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.config.BindingConfig;
+import io.aklivity.zilla.runtime.engine.poller.PollerKey;
+
+public class TcpServerRouterTest
+{
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldLimitConnectionsOnPath() throws Exception
+    {
+        Path path = folder.getRoot().toPath().resolve("server.sock");
+
+        Properties properties = new Properties();
+        properties.setProperty(TCP_MAX_CONNECTIONS.name(), "1");
+        TcpConfiguration config = new TcpConfiguration(new Configuration(properties));
+
+        List<SelectableChannel> registered = new ArrayList<>();
+        EngineContext context = mock(EngineContext.class);
+        when(context.supplyPollerKey(any(SelectableChannel.class))).thenAnswer(i ->
+        {
+            registered.add(i.getArgument(0));
+            return mock(PollerKey.class);
+        });
+
+        BindingConfig binding = BindingConfig.builder()
+            .namespace("test")
+            .name("tcp0")
+            .type("tcp")
+            .kind(SERVER)
+            .options(TcpOptionsConfig::builder)
+                .path(path.toString())
+                .build()
+            .build();
+        binding.id = 1L;
+
+        TcpServerBindingConfig server = new TcpServerBindingConfig(binding.id);
+        TcpServerRouter router = new TcpServerRouter(config, context, k -> 0, id -> server);
+        router.attach(new TcpBindingConfig(binding, context));
+        ServerSocketChannel listener = (ServerSocketChannel) registered.get(0);
+
+        try (SocketChannel client = SocketChannel.open(UNIX))
+        {
+            assertTrue(client.connect(UnixDomainSocketAddress.of(path)));
+
+            SocketChannel accepted = router.accept(listener);
+            assertNotNull(accepted);
+            assertNull(router.accept(listener));
+            assertFalse(Files.exists(path));
+
+            try (SocketChannel rejected = SocketChannel.open(UNIX))
+            {
+                rejected.connect(UnixDomainSocketAddress.of(path));
+                fail("connect should fail while connections are limited");
+            }
+            catch (IOException ex)
+            {
+                // expected
+            }
+
+            router.close(accepted);
+        }
+
+        assertTrue(Files.exists(path));
+        assertEquals(2, registered.size());
+        try (SocketChannel client = SocketChannel.open(UNIX))
+        {
+            assertTrue(client.connect(UnixDomainSocketAddress.of(path)));
+        }
+
+        router.detach(binding.id);
+        assertFalse(Files.exists(path));
+    }
+}
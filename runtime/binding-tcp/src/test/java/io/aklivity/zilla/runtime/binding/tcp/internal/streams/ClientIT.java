@@ -15,6 +15,7 @@
  */
 package io.aklivity.zilla.runtime.binding.tcp.internal.streams;
 
+import static java.net.StandardProtocolFamily.UNIX;
 import static java.net.StandardSocketOptions.SO_REUSEADDR;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -23,6 +24,7 @@ import static org.junit.rules.RuleChain.outerRule;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.UnixDomainSocketAddress;
 import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ServerSocketChannel;
@@ -69,6 +71,18 @@ public class ClientIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("client.host.yaml")
+    @Specification({
+        "${app}/client.and.server.sent.data.multiple.frames/client",
+        "${net}/client.and.server.sent.data.multiple.frames/server"
+    })
+    @Configure(name = "zilla.binding.tcp.write.coalesce", value = "true")
+    public void shouldSendAndReceiveDataWithWriteCoalesce() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("client.host.yaml")
     @Specification({
@@ -124,6 +138,33 @@ public class ClientIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("client.path.yaml")
+    @Specification({
+        "${app}/client.sent.data/client"
+        // No support for unix domain sockets in k3po
+    })
+    public void shouldSendClientDataOverPath() throws Exception
+    {
+        try (ServerSocketChannel server = ServerSocketChannel.open(UNIX))
+        {
+            server.bind(UnixDomainSocketAddress.of("target/zilla-itests/net0.sock"));
+
+            k3po.start();
+
+            try (SocketChannel channel = server.accept())
+            {
+                ByteBuffer buf = ByteBuffer.allocate(256);
+                channel.read(buf);
+                buf.flip();
+
+                assertEquals("client data", UTF_8.decode(buf).toString());
+
+                k3po.finish();
+            }
+        }
+    }
+
     @Test
     @Configuration("client.host.yaml")
     @Specification({
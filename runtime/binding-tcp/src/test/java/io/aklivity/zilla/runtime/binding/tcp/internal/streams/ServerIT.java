@@ -17,8 +17,13 @@ package io.aklivity.zilla.runtime.binding.tcp.internal.streams;
 
 import static io.aklivity.zilla.runtime.binding.tcp.internal.TcpConfiguration.TCP_MAX_CONNECTIONS;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_DRAIN_ON_CLOSE;
+import static java.net.StandardProtocolFamily.UNIX;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import static org.junit.rules.RuleChain.outerRule;
@@ -26,8 +31,11 @@ import static org.junit.rules.RuleChain.outerRule;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.UnixDomainSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
 
 import org.junit.Ignore;
 import org.junit.Rule;
@@ -39,8 +47,10 @@ import org.junit.rules.Timeout;
 import io.aklivity.k3po.runtime.junit.annotation.ScriptProperty;
 import io.aklivity.k3po.runtime.junit.annotation.Specification;
 import io.aklivity.k3po.runtime.junit.rules.K3poRule;
+import io.aklivity.zilla.runtime.engine.namespace.NamespacedId;
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class ServerIT
 {
@@ -73,6 +83,42 @@ public class ServerIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${app}/client.and.server.sent.data.multiple.frames/server",
+        "${net}/client.and.server.sent.data.multiple.frames/client"
+    })
+    @Configure(name = "zilla.binding.tcp.write.coalesce", value = "true")
+    public void shouldSendAndReceiveDataWithWriteCoalesce() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.metrics.yaml")
+    @Specification({
+        "${app}/server.sent.data.multiple.frames/server",
+        "${net}/server.sent.data.multiple.frames/client"
+    })
+    @Configure(name = "zilla.binding.tcp.write.coalesce", value = "true")
+    public void shouldRecordWriteMetricsPerFlushWithWriteCoalesce() throws Exception
+    {
+        k3po.finish();
+
+        final int namespaceId = engine.supplyLabelId("test");
+        final long bindingId = NamespacedId.id(namespaceId, engine.supplyLabelId("net0"));
+        final long syscallsId = NamespacedId.id(namespaceId, engine.supplyLabelId("tcp.write.syscalls"));
+        final long bytesId = NamespacedId.id(namespaceId, engine.supplyLabelId("tcp.write.bytes"));
+
+        long syscalls = engine.counter(bindingId, syscallsId).getAsLong();
+        long flushes = Stream.of(engine.histogram(bindingId, bytesId)).mapToLong(LongSupplier::getAsLong).sum();
+
+        // both frames are written in at most two flushes, each recorded once and never as zero bytes
+        assertThat(flushes, allOf(greaterThanOrEqualTo(1L), lessThanOrEqualTo(2L)));
+        assertEquals(syscalls, flushes);
+    }
+
     @Test
     @Configuration("server.yaml")
     @Specification({
@@ -160,6 +206,30 @@ public class ServerIT
         }
     }
 
+    @Test
+    @Configuration("server.path.yaml")
+    @Specification({
+        "${app}/server.sent.data/server"
+        // No support for unix domain sockets in k3po
+    })
+    public void shouldReceiveServerSentDataOverPath() throws Exception
+    {
+        k3po.start();
+
+        try (SocketChannel channel = SocketChannel.open(UNIX))
+        {
+            channel.connect(UnixDomainSocketAddress.of("target/zilla-itests/net0.sock"));
+
+            ByteBuffer buf = ByteBuffer.allocate(256);
+            channel.read(buf);
+            buf.flip();
+
+            assertEquals("server data", UTF_8.decode(buf).toString());
+
+            k3po.finish();
+        }
+    }
+
     @Test
     @Configuration("server.yaml")
     @Specification({
@@ -15,17 +15,36 @@
  */
 package io.aklivity.zilla.runtime.binding.tcp.internal.util;
 
+import static io.aklivity.zilla.runtime.binding.tcp.internal.types.ProxyAddressFamily.UNIX;
+import static io.aklivity.zilla.runtime.binding.tcp.internal.types.ProxyAddressProtocol.STREAM;
 import static java.net.InetAddress.getLocalHost;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
 
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.aklivity.zilla.runtime.binding.tcp.internal.types.OctetsFW;
+import io.aklivity.zilla.runtime.binding.tcp.internal.types.ProxyAddressFW;
+import io.aklivity.zilla.runtime.binding.tcp.internal.types.ProxyAddressUnixFW;
 
 public final class IpUtilTest
 {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
 
     @Test
     public void shouldMatchAddressesSameAddressAndPort() throws Exception
@@ -75,4 +94,51 @@ public final class IpUtilTest
         assertFalse(0 == IpUtil.compareAddresses(address1, address2));
     }
 
+    @Test
+    public void shouldEncodeUnixProxyAddress() throws Exception
+    {
+        Path path = folder.getRoot().toPath().resolve("server.sock");
+
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+             SocketChannel client = SocketChannel.open(StandardProtocolFamily.UNIX))
+        {
+            server.bind(UnixDomainSocketAddress.of(path));
+            client.connect(UnixDomainSocketAddress.of(path));
+
+            try (SocketChannel accepted = server.accept())
+            {
+                ProxyAddressFW.Builder builder = new ProxyAddressFW.Builder()
+                    .wrap(new UnsafeBuffer(new byte[256]), 0, 256);
+
+                IpUtil.proxyAddress(builder, accepted.getRemoteAddress(), accepted.getLocalAddress());
+                ProxyAddressFW address = builder.build();
+
+                assertEquals(UNIX, address.kind());
+
+                ProxyAddressUnixFW unix = address.unix();
+                assertEquals(STREAM, unix.protocol().get());
+                assertArrayEquals(new byte[108], octets(unix.source()));
+                assertArrayEquals(Arrays.copyOf(path.toString().getBytes(UTF_8), 108), octets(unix.destination()));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectMixedProxyAddress() throws Exception
+    {
+        ProxyAddressFW.Builder builder = new ProxyAddressFW.Builder()
+            .wrap(new UnsafeBuffer(new byte[256]), 0, 256);
+
+        IpUtil.proxyAddress(builder,
+            UnixDomainSocketAddress.of(folder.getRoot().toPath().resolve("client.sock")),
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), 12345));
+    }
+
+    private static byte[] octets(
+        OctetsFW octets)
+    {
+        byte[] bytes = new byte[octets.sizeof()];
+        octets.buffer().getBytes(octets.offset(), bytes);
+        return bytes;
+    }
 }
@@ -22,6 +22,7 @@ import static io.aklivity.zilla.runtime.engine.config.KindConfig.SERVER;
 import java.util.EnumMap;
 import java.util.Map;
 
+import io.aklivity.zilla.runtime.binding.tls.internal.config.TlsContextRegistry;
 import io.aklivity.zilla.runtime.binding.tls.internal.stream.TlsClientFactory;
 import io.aklivity.zilla.runtime.binding.tls.internal.stream.TlsProxyFactory;
 import io.aklivity.zilla.runtime.binding.tls.internal.stream.TlsServerFactory;
@@ -38,12 +39,13 @@ final class TlsBindingContext implements BindingContext
 
     TlsBindingContext(
         TlsConfiguration config,
-        EngineContext context)
+        EngineContext context,
+        TlsContextRegistry contexts)
     {
         Map<KindConfig, TlsStreamFactory> factories = new EnumMap<>(KindConfig.class);
-        factories.put(SERVER, new TlsServerFactory(config, context));
+        factories.put(SERVER, new TlsServerFactory(config, context, contexts));
         factories.put(PROXY, new TlsProxyFactory(config, context));
-        factories.put(CLIENT, new TlsClientFactory(config, context));
+        factories.put(CLIENT, new TlsClientFactory(config, context, contexts));
         this.factories = factories;
     }
 
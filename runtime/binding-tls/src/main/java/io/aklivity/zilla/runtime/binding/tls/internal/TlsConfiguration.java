@@ -29,6 +29,8 @@ public class TlsConfiguration extends Configuration
     public static final BooleanPropertyDef TLS_PROACTIVE_CLIENT_REPLY_BEGIN;
     public static final BooleanPropertyDef TLS_CLIENT_HTTPS_IDENTIFICATION;
     public static final BooleanPropertyDef TLS_CLIENT_SERVER_NAME_INDICATION;
+    public static final BooleanPropertyDef TLS_SESSION_CONTEXT_SHARED;
+    public static final IntPropertyDef TLS_SESSION_TIMEOUT;
     public static final BooleanPropertyDef TLS_VERBOSE;
     public static final BooleanPropertyDef TLS_DEBUG;
 
@@ -44,6 +46,8 @@ public class TlsConfiguration extends Configuration
         TLS_PROACTIVE_CLIENT_REPLY_BEGIN = config.property("proactive.client.reply.begin", false);
         TLS_CLIENT_HTTPS_IDENTIFICATION = config.property("client.https.identification", true);
         TLS_CLIENT_SERVER_NAME_INDICATION = config.property("client.server.name.indication", true);
+        TLS_SESSION_CONTEXT_SHARED = config.property("session.context.shared", false);
+        TLS_SESSION_TIMEOUT = config.property("session.timeout", 86400);
         TLS_VERBOSE = config.property("verbose", TlsConfiguration::verboseDefault);
         TLS_DEBUG = config.property("debug", TlsConfiguration::debugDefault);
         TLS_CONFIG = config;
@@ -90,6 +94,16 @@ public class TlsConfiguration extends Configuration
         return TLS_CLIENT_SERVER_NAME_INDICATION.getAsBoolean(this);
     }
 
+    public boolean sessionContextShared()
+    {
+        return TLS_SESSION_CONTEXT_SHARED.getAsBoolean(this);
+    }
+
+    public int sessionTimeout()
+    {
+        return TLS_SESSION_TIMEOUT.getAsInt(this);
+    }
+
     public boolean verbose()
     {
         return TLS_VERBOSE.getAsBoolean(this);
@@ -70,6 +70,8 @@ public final class TlsBindingConfig
     public final KindConfig kind;
     public final List<TlsRouteConfig> routes;
 
+    private final BindingConfig binding;
+
     private SSLContext context;
 
     private boolean clientHttpsIdentification;
@@ -84,55 +86,25 @@ public final class TlsBindingConfig
         this.kind = binding.kind;
         this.options = binding.options != null ? TlsOptionsConfig.class.cast(binding.options) : OPTIONS_DEFAULT;
         this.routes = binding.routes.stream().map(TlsRouteConfig::new).collect(toList());
+        this.binding = binding;
     }
 
     public void init(
         TlsConfiguration config,
         TlsEventContext events,
         VaultHandler vault,
-        SecureRandom random)
+        SecureRandom random,
+        TlsContextRegistry contexts)
     {
-        KeyManagerFactory keys = newKeys(config, vault, options.keys, options.signers);
-        TrustManagerFactory trust = newTrust(config, vault, options.trust, options.trustcacerts && kind == KindConfig.CLIENT);
-
-        try
-        {
-            KeyManager[] keyManagers = null;
-            if (keys != null)
-            {
-                keyManagers = keys.getKeyManagers();
-
-                if (keyManagers != null && kind == KindConfig.CLIENT)
-                {
-                    for (int i = 0; i < keyManagers.length; i++)
-                    {
-                        if (keyManagers[i] instanceof X509ExtendedKeyManager)
-                        {
-                            X509ExtendedKeyManager keyManager = (X509ExtendedKeyManager) keyManagers[i];
-                            keyManagers[i] = new TlsClientX509ExtendedKeyManager(config, keyManager);
-                        }
-                    }
-                }
-            }
-
-            TrustManager[] trustManagers = null;
-            if (trust != null)
-            {
-                trustManagers = trust.getTrustManagers();
-            }
-
-            String version = options.version != null ? options.version : "TLS";
-            SSLContext context = SSLContext.getInstance(version);
-            context.init(keyManagers, trustManagers, random);
+        this.context = contexts.supply(binding, () -> newContext(config, vault, random));
+        this.clientHttpsIdentification = config.clientHttpsIdentification();
+        this.clientServerNameIndication = config.clientServerNameIndication();
+    }
 
-            this.context = context;
-            this.clientHttpsIdentification = config.clientHttpsIdentification();
-            this.clientServerNameIndication = config.clientServerNameIndication();
-        }
-        catch (Exception ex)
-        {
-            LangUtil.rethrowUnchecked(ex);
-        }
+    public void release(
+        TlsContextRegistry contexts)
+    {
+        contexts.release(binding);
     }
 
     public TlsRouteConfig resolve(
@@ -403,6 +375,55 @@ public final class TlsBindingConfig
         return selected;
     }
 
+    private SSLContext newContext(
+        TlsConfiguration config,
+        VaultHandler vault,
+        SecureRandom random)
+    {
+        KeyManagerFactory keys = newKeys(config, vault, options.keys, options.signers);
+        TrustManagerFactory trust = newTrust(config, vault, options.trust, options.trustcacerts && kind == KindConfig.CLIENT);
+
+        SSLContext context = null;
+
+        try
+        {
+            KeyManager[] keyManagers = null;
+            if (keys != null)
+            {
+                keyManagers = keys.getKeyManagers();
+
+                if (keyManagers != null && kind == KindConfig.CLIENT)
+                {
+                    for (int i = 0; i < keyManagers.length; i++)
+                    {
+                        if (keyManagers[i] instanceof X509ExtendedKeyManager)
+                        {
+                            X509ExtendedKeyManager keyManager = (X509ExtendedKeyManager) keyManagers[i];
+                            keyManagers[i] = new TlsClientX509ExtendedKeyManager(config, keyManager);
+                        }
+                    }
+                }
+            }
+
+            TrustManager[] trustManagers = null;
+            if (trust != null)
+            {
+                trustManagers = trust.getTrustManagers();
+            }
+
+            String version = options.version != null ? options.version : "TLS";
+            context = SSLContext.getInstance(version);
+            context.init(keyManagers, trustManagers, random);
+            context.getServerSessionContext().setSessionTimeout(config.sessionTimeout());
+        }
+        catch (Exception ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return context;
+    }
+
     private KeyManagerFactory newKeys(
         TlsConfiguration config,
         VaultHandler vault,
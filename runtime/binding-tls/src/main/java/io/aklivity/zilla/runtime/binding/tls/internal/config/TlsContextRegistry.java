@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.tls.internal.config;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.net.ssl.SSLContext;
+
+import io.aklivity.zilla.runtime.engine.config.BindingConfig;
+
+/**
+ * Shares one {@link SSLContext} per attached binding across engine workers when enabled,
+ * so that session tickets issued on one worker can be resumed on any other worker.
+ */
+public final class TlsContextRegistry
+{
+    private final boolean shared;
+    private final Map<BindingConfig, Entry> entries;
+
+    public TlsContextRegistry(
+        boolean shared)
+    {
+        this.shared = shared;
+        this.entries = new IdentityHashMap<>();
+    }
+
+    public SSLContext supply(
+        BindingConfig binding,
+        Supplier<SSLContext> factory)
+    {
+        return shared ? supplyShared(binding, factory) : factory.get();
+    }
+
+    public void release(
+        BindingConfig binding)
+    {
+        if (shared)
+        {
+            releaseShared(binding);
+        }
+    }
+
+    private synchronized SSLContext supplyShared(
+        BindingConfig binding,
+        Supplier<SSLContext> factory)
+    {
+        Entry entry = entries.get(binding);
+        if (entry == null)
+        {
+            entry = new Entry(factory.get());
+            entries.put(binding, entry);
+        }
+        entry.refs++;
+
+        return entry.context;
+    }
+
+    private synchronized void releaseShared(
+        BindingConfig binding)
+    {
+        Entry entry = entries.get(binding);
+        if (entry != null && --entry.refs == 0)
+        {
+            entries.remove(binding);
+        }
+    }
+
+    private static final class Entry
+    {
+        private final SSLContext context;
+        private int refs;
+
+        private Entry(
+            SSLContext context)
+        {
+            this.context = context;
+        }
+    }
+}
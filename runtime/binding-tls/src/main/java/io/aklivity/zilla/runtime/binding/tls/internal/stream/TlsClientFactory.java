@@ -50,6 +50,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 import io.aklivity.zilla.runtime.binding.tls.internal.TlsConfiguration;
 import io.aklivity.zilla.runtime.binding.tls.internal.TlsEventContext;
 import io.aklivity.zilla.runtime.binding.tls.internal.config.TlsBindingConfig;
+import io.aklivity.zilla.runtime.binding.tls.internal.config.TlsContextRegistry;
 import io.aklivity.zilla.runtime.binding.tls.internal.config.TlsRouteConfig;
 import io.aklivity.zilla.runtime.binding.tls.internal.types.OctetsFW;
 import io.aklivity.zilla.runtime.binding.tls.internal.types.codec.TlsRecordInfoFW;
@@ -150,10 +151,12 @@ public final class TlsClientFactory implements TlsStreamFactory
     private final DirectBuffer outAppBuffer;
 
     private final SecureRandom random;
+    private final TlsContextRegistry contexts;
 
     public TlsClientFactory(
         TlsConfiguration config,
-        EngineContext context)
+        EngineContext context,
+        TlsContextRegistry contexts)
     {
         this.proxyTypeId = context.supplyTypeId("proxy");
         this.signaler = context.signaler();
@@ -163,6 +166,7 @@ public final class TlsClientFactory implements TlsStreamFactory
         this.encodePool = context.bufferPool();
 
         this.config = config;
+        this.contexts = contexts;
         this.proactiveReplyBegin = config.proactiveClientReplyBegin();
         this.supplyVault = context::supplyVault;
         this.supplyInitialId = context::supplyInitialId;
@@ -207,7 +211,7 @@ public final class TlsClientFactory implements TlsStreamFactory
 
         VaultHandler vault = supplyVault.apply(tlsBinding.vaultId);
 
-        tlsBinding.init(config, event, vault, random);
+        tlsBinding.init(config, event, vault, random, contexts);
 
         bindings.put(binding.id, tlsBinding);
     }
@@ -216,7 +220,11 @@ public final class TlsClientFactory implements TlsStreamFactory
     public void detach(
         long bindingId)
     {
-        bindings.remove(bindingId);
+        TlsBindingConfig tlsBinding = bindings.remove(bindingId);
+        if (tlsBinding != null)
+        {
+            tlsBinding.release(contexts);
+        }
     }
 
     @Override
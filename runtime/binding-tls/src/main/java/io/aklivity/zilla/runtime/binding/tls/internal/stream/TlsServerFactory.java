@@ -57,6 +57,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 import io.aklivity.zilla.runtime.binding.tls.internal.TlsConfiguration;
 import io.aklivity.zilla.runtime.binding.tls.internal.TlsEventContext;
 import io.aklivity.zilla.runtime.binding.tls.internal.config.TlsBindingConfig;
+import io.aklivity.zilla.runtime.binding.tls.internal.config.TlsContextRegistry;
 import io.aklivity.zilla.runtime.binding.tls.internal.config.TlsRouteConfig;
 import io.aklivity.zilla.runtime.binding.tls.internal.types.OctetsFW;
 import io.aklivity.zilla.runtime.binding.tls.internal.types.codec.TlsRecordInfoFW;
@@ -165,12 +166,15 @@ public final class TlsServerFactory implements TlsStreamFactory
     private final DirectBuffer outAppBuffer;
 
     private final SecureRandom random;
+    private final TlsContextRegistry contexts;
 
     public TlsServerFactory(
         TlsConfiguration config,
-        EngineContext context)
+        EngineContext context,
+        TlsContextRegistry contexts)
     {
         this.config = config;
+        this.contexts = contexts;
         this.awaitSyncCloseMillis = config.awaitSyncCloseMillis();
 
         this.proxyTypeId = context.supplyTypeId("proxy");
@@ -223,7 +227,7 @@ public final class TlsServerFactory implements TlsStreamFactory
 
         VaultHandler vault = supplyVault.apply(tlsBinding.vaultId);
 
-        tlsBinding.init(config, event, vault, random);
+        tlsBinding.init(config, event, vault, random, contexts);
 
         bindings.put(binding.id, tlsBinding);
     }
@@ -232,7 +236,11 @@ public final class TlsServerFactory implements TlsStreamFactory
     public void detach(
         long bindingId)
     {
-        bindings.remove(bindingId);
+        TlsBindingConfig tlsBinding = bindings.remove(bindingId);
+        if (tlsBinding != null)
+        {
+            tlsBinding.release(contexts);
+        }
     }
 
     @Override
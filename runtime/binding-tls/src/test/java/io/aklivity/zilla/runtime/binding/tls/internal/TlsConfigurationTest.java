@@ -17,6 +17,7 @@ package io.aklivity.zilla.runtime.binding.tls.internal;
 
 import static io.aklivity.zilla.runtime.binding.tls.internal.TlsConfiguration.TLS_HANDSHAKE_TIMEOUT;
 import static io.aklivity.zilla.runtime.binding.tls.internal.TlsConfiguration.TLS_HANDSHAKE_WINDOW_BYTES;
+import static io.aklivity.zilla.runtime.binding.tls.internal.TlsConfiguration.TLS_SESSION_CONTEXT_SHARED;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_TASK_PARALLELISM;
 import static org.junit.Assert.assertEquals;
 
@@ -26,6 +27,7 @@ public class TlsConfigurationTest
 {
     public static final String TLS_HANDSHAKE_WINDOW_BYTES_NAME = "zilla.binding.tls.handshake.window.bytes";
     public static final String TLS_HANDSHAKE_TIMEOUT_NAME = "zilla.binding.tls.handshake.timeout";
+    public static final String TLS_SESSION_CONTEXT_SHARED_NAME = "zilla.binding.tls.session.context.shared";
     public static final String ENGINE_TASK_PARALLELISM_NAME = "zilla.engine.task.parallelism";
 
     @Test
@@ -33,6 +35,7 @@ public class TlsConfigurationTest
     {
         assertEquals(TLS_HANDSHAKE_WINDOW_BYTES.name(), TLS_HANDSHAKE_WINDOW_BYTES_NAME);
         assertEquals(TLS_HANDSHAKE_TIMEOUT.name(), TLS_HANDSHAKE_TIMEOUT_NAME);
+        assertEquals(TLS_SESSION_CONTEXT_SHARED.name(), TLS_SESSION_CONTEXT_SHARED_NAME);
         assertEquals(ENGINE_TASK_PARALLELISM.name(), ENGINE_TASK_PARALLELISM_NAME);
     }
 }
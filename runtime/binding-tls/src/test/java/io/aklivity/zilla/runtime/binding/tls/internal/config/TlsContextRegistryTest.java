@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.tls.internal.config;
+
+import static io.aklivity.zilla.runtime.engine.config.KindConfig.SERVER;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.security.NoSuchAlgorithmException;
+
+import javax.net.ssl.SSLContext;
+
+import org.agrona.LangUtil;
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.engine.config.BindingConfig;
+
+public class TlsContextRegistryTest
+{
+    @Test
+    public void shouldShareContextAcrossWorkers()
+    {
+        TlsContextRegistry contexts = new TlsContextRegistry(true);
+        BindingConfig binding = newBinding();
+
+        SSLContext context0 = contexts.supply(binding, TlsContextRegistryTest::newContext);
+        SSLContext context1 = contexts.supply(binding, TlsContextRegistryTest::newContext);
+
+        assertThat(context1, sameInstance(context0));
+    }
+
+    @Test
+    public void shouldNotShareContextAfterRelease()
+    {
+        TlsContextRegistry contexts = new TlsContextRegistry(true);
+        BindingConfig binding = newBinding();
+
+        SSLContext context0 = contexts.supply(binding, TlsContextRegistryTest::newContext);
+        SSLContext context1 = contexts.supply(binding, TlsContextRegistryTest::newContext);
+        contexts.release(binding);
+        contexts.release(binding);
+        SSLContext context2 = contexts.supply(binding, TlsContextRegistryTest::newContext);
+
+        assertThat(context1, sameInstance(context0));
+        assertThat(context2, not(sameInstance(context0)));
+    }
+
+    @Test
+    public void shouldNotShareContextAcrossBindingConfigs()
+    {
+        TlsContextRegistry contexts = new TlsContextRegistry(true);
+
+        SSLContext context0 = contexts.supply(newBinding(), TlsContextRegistryTest::newContext);
+        SSLContext context1 = contexts.supply(newBinding(), TlsContextRegistryTest::newContext);
+
+        assertThat(context1, not(sameInstance(context0)));
+    }
+
+    @Test
+    public void shouldNotShareContextWhenDisabled()
+    {
+        TlsContextRegistry contexts = new TlsContextRegistry(false);
+        BindingConfig binding = newBinding();
+
+        SSLContext context0 = contexts.supply(binding, TlsContextRegistryTest::newContext);
+        SSLContext context1 = contexts.supply(binding, TlsContextRegistryTest::newContext);
+
+        assertThat(context1, not(sameInstance(context0)));
+    }
+
+    private static BindingConfig newBinding()
+    {
+        return BindingConfig.builder()
+            .namespace("test")
+            .name("tls0")
+            .type("tls")
+            .kind(SERVER)
+            .build();
+    }
+
+    private static SSLContext newContext()
+    {
+        SSLContext context = null;
+
+        try
+        {
+            context = SSLContext.getInstance("TLS");
+        }
+        catch (NoSuchAlgorithmException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return context;
+    }
+}
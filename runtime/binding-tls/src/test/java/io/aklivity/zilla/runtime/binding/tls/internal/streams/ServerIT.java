@@ -63,6 +63,17 @@ public class ServerIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${net}/connection.established/client",
+        "${app}/connection.established/server" })
+    @Configure(name = TlsConfigurationTest.TLS_SESSION_CONTEXT_SHARED_NAME, value = "true")
+    public void shouldEstablishConnectionWithSharedSessionContext() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("server.alpn.yaml")
     @Specification({
@@ -14,18 +14,22 @@
  */
 package io.aklivity.zilla.runtime.catalog.apicurio.internal;
 
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
 
-public class ApicurioCache
-{
-    public final ConcurrentMap<Integer, CompletableFuture<CachedArtifact>> artifacts;
-    public final ConcurrentMap<Integer, CompletableFuture<CachedArtifactId>> artifactIds;
+import io.aklivity.zilla.runtime.engine.catalog.CatalogCache;
 
+public class ApicurioCache extends CatalogCache<CachedArtifact, CachedArtifactId>
+{
     public ApicurioCache()
     {
-        this.artifacts = new ConcurrentHashMap<>();
-        this.artifactIds = new ConcurrentHashMap<>();
+        this(null, Runnable::run);
+    }
+
+    public ApicurioCache(
+        Path directory,
+        Executor executor)
+    {
+        super(directory, executor, CachedArtifact::new, CachedArtifactId::resolved);
     }
 }
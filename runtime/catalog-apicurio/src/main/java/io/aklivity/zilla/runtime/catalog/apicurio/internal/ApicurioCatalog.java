@@ -15,9 +15,14 @@
 package io.aklivity.zilla.runtime.catalog.apicurio.internal;
 
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.aklivity.zilla.runtime.engine.Configuration;
 import io.aklivity.zilla.runtime.engine.EngineContext;
@@ -29,12 +34,20 @@ public class ApicurioCatalog implements Catalog
     public static final String TYPE = "apicurio-registry";
     public static final Set<String> TYPE_ALIASES = Set.of("apicurio");
 
-    private final ConcurrentMap<Long, ApicurioCache> cache;
+    private final ApicurioConfiguration config;
+    private final ConcurrentMap<Path, ApicurioCache> cache;
+    private final ThreadFactory factory;
+    private final AtomicInteger nextFetchId;
+    private final ExecutorService executor;
 
     public ApicurioCatalog(
         Configuration config)
     {
+        this.config = new ApicurioConfiguration(config);
         this.cache = new ConcurrentHashMap<>();
+        this.factory = Executors.defaultThreadFactory();
+        this.nextFetchId = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(this::newFetchThread);
     }
 
     @Override
@@ -53,7 +66,7 @@ public class ApicurioCatalog implements Catalog
     public CatalogContext supply(
         EngineContext context)
     {
-        return new ApicurioCatalogContext(context, cache);
+        return new ApicurioCatalogContext(config, context, cache, executor);
     }
 
     @Override
@@ -61,4 +74,18 @@ public class ApicurioCatalog implements Catalog
     {
         return getClass().getResource("schema/apicurio.schema.patch.json");
     }
+
+    private Thread newFetchThread(
+        Runnable r)
+    {
+        Thread t = factory.newThread(r);
+
+        if (t != null)
+        {
+            t.setName(String.format("catalog/%s#%d", TYPE, nextFetchId.getAndIncrement()));
+            t.setDaemon(true);
+        }
+
+        return t;
+    }
 }
@@ -14,7 +14,12 @@
  */
 package io.aklivity.zilla.runtime.catalog.apicurio.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.file.Path;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 
 import io.aklivity.zilla.runtime.catalog.apicurio.config.ApicurioOptionsConfig;
 import io.aklivity.zilla.runtime.engine.EngineContext;
@@ -24,23 +29,49 @@ import io.aklivity.zilla.runtime.engine.config.CatalogConfig;
 
 public class ApicurioCatalogContext implements CatalogContext
 {
+    private final ApicurioConfiguration config;
     private final EngineContext context;
-    private final ConcurrentMap<Long, ApicurioCache> cachesById;
+    private final ConcurrentMap<Path, ApicurioCache> cachesByKey;
+    private final Executor executor;
 
     public ApicurioCatalogContext(
+        ApicurioConfiguration config,
         EngineContext context,
-        ConcurrentMap<Long, ApicurioCache> cachesById)
+        ConcurrentMap<Path, ApicurioCache> cachesByKey,
+        Executor executor)
     {
+        this.config = config;
         this.context = context;
-        this.cachesById = cachesById;
+        this.cachesByKey = cachesByKey;
+        this.executor = executor;
     }
 
     @Override
     public CatalogHandler attach(
         CatalogConfig catalog)
     {
-        ApicurioCache cache = cachesById.computeIfAbsent(catalog.id, id -> new ApicurioCache());
-        return new ApicurioCatalogHandler(ApicurioOptionsConfig.class.cast(catalog.options), context,
-            catalog.id, cache);
+        ApicurioOptionsConfig options = ApicurioOptionsConfig.class.cast(catalog.options);
+        String registry = UUID.nameUUIDFromBytes(String.join(" ", options.url, options.groupId, options.useId)
+            .getBytes(UTF_8)).toString();
+        Path key = Path.of(ApicurioCatalog.TYPE, catalog.namespace, catalog.name, registry);
+        ApicurioCache cache = cachesByKey.computeIfAbsent(key, this::newCache);
+        ApicurioCatalogHandler handler = new ApicurioCatalogHandler(context, catalog, cache);
+
+        if (config.cachePrefetch() && cache.prefetch())
+        {
+            handler.prefetch();
+        }
+
+        return handler;
+    }
+
+    private ApicurioCache newCache(
+        Path key)
+    {
+        Path directory = config.cachePersistent()
+            ? config.cacheDirectory().resolve(key)
+            : null;
+
+        return new ApicurioCache(directory, executor);
     }
 }
@@ -17,6 +17,7 @@ package io.aklivity.zilla.runtime.catalog.apicurio.internal;
 import static io.aklivity.zilla.runtime.catalog.apicurio.config.ApicurioOptionsConfigBuilder.CONTENT_ID;
 import static io.aklivity.zilla.runtime.catalog.apicurio.config.ApicurioOptionsConfigBuilder.LEGACY_ID_ENCODING;
 import static io.aklivity.zilla.runtime.catalog.apicurio.internal.CachedArtifactId.IN_PROGRESS;
+import static io.aklivity.zilla.runtime.catalog.apicurio.internal.CachedArtifactId.RESET_RETRY_DELAY_MS_DEFAULT;
 import static org.agrona.BitUtil.SIZE_OF_BYTE;
 import static org.agrona.BitUtil.SIZE_OF_INT;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
@@ -27,9 +28,13 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.ByteOrder;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
 import java.util.zip.CRC32C;
 
 import jakarta.json.Json;
@@ -40,13 +45,20 @@ import jakarta.json.stream.JsonParsingException;
 import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectCache;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import io.aklivity.zilla.runtime.catalog.apicurio.config.ApicurioOptionsConfig;
+import io.aklivity.zilla.runtime.catalog.apicurio.internal.metrics.ApicurioCacheHitsMetric;
+import io.aklivity.zilla.runtime.catalog.apicurio.internal.metrics.ApicurioCacheMissesMetric;
+import io.aklivity.zilla.runtime.catalog.apicurio.internal.metrics.ApicurioFetchDurationMetric;
 import io.aklivity.zilla.runtime.catalog.apicurio.internal.types.ApicurioDefaultIdFW;
 import io.aklivity.zilla.runtime.catalog.apicurio.internal.types.ApicurioLegacyIdFW;
 import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.catalog.CatalogCache.SubjectVersion;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
+import io.aklivity.zilla.runtime.engine.config.CatalogConfig;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
 import io.aklivity.zilla.runtime.engine.model.function.ValueConsumer;
 
 public class ApicurioCatalogHandler implements CatalogHandler
@@ -58,8 +70,9 @@ public class ApicurioCatalogHandler implements CatalogHandler
     private static final String VERSION_LATEST = "latest";
     private static final int MAX_PADDING_LENGTH = SIZE_OF_BYTE + SIZE_OF_LONG;
     private static final byte MAGIC_BYTE = 0x0;
-    private static final long RESET_RETRY_DELAY_MS_DEFAULT = 0L;
     private static final long RETRY_INITIAL_DELAY_MS_DEFAULT = 1000L;
+    private static final LongConsumer NO_RECORDER = v -> {};
+    private static final Runnable NO_EVENTS = () -> {};
 
     private final ApicurioLegacyIdFW.Builder legacyIdRW = new ApicurioLegacyIdFW.Builder()
         .wrap(new UnsafeBuffer(new byte[5]), 0, 5);
@@ -84,20 +97,41 @@ public class ApicurioCatalogHandler implements CatalogHandler
     private final String artifactPath;
     private final ConcurrentMap<Integer, CompletableFuture<CachedArtifact>> cachedArtifacts;
     private final ConcurrentMap<Integer, CompletableFuture<CachedArtifactId>> cachedArtifactIds;
+    private final ApicurioCache cache;
+    private final Executor executor;
+    private final Int2ObjectHashMap<ArtifactFetch<CachedArtifact>> artifactFetches;
+    private final Int2ObjectHashMap<ArtifactFetch<CachedArtifactId>> artifactIdFetches;
+    private final LongConsumer recordCacheHits;
+    private final LongConsumer recordCacheMisses;
+    private final LongConsumer recordFetchDuration;
 
     public ApicurioCatalogHandler(
         ApicurioOptionsConfig config,
         EngineContext context,
         long catalogId)
     {
-        this(config, context, catalogId, new ApicurioCache());
+        this(config, context, catalogId, new ApicurioCache(), NO_RECORDER, NO_RECORDER, NO_RECORDER);
     }
 
     public ApicurioCatalogHandler(
+        EngineContext context,
+        CatalogConfig catalog,
+        ApicurioCache cache)
+    {
+        this(ApicurioOptionsConfig.class.cast(catalog.options), context, catalog.id, cache,
+            supplyRecorder(context, catalog, Metric.Kind.COUNTER, ApicurioCacheHitsMetric.NAME),
+            supplyRecorder(context, catalog, Metric.Kind.COUNTER, ApicurioCacheMissesMetric.NAME),
+            supplyRecorder(context, catalog, Metric.Kind.HISTOGRAM, ApicurioFetchDurationMetric.NAME));
+    }
+
+    private ApicurioCatalogHandler(
         ApicurioOptionsConfig config,
         EngineContext context,
         long catalogId,
-        ApicurioCache cache)
+        ApicurioCache cache,
+        LongConsumer recordCacheHits,
+        LongConsumer recordCacheMisses,
+        LongConsumer recordFetchDuration)
     {
         this.baseUrl = config.url;
         this.client = HttpClient.newHttpClient();
@@ -114,8 +148,15 @@ public class ApicurioCatalogHandler implements CatalogHandler
         this.artifactPath = useId.equals(CONTENT_ID) ?  ARTIFACT_BY_CONTENT_ID_PATH : ARTIFACT_BY_GLOBAL_ID_PATH;
         this.event = new ApicurioEventContext(context);
         this.catalogId = catalogId;
-        this.cachedArtifacts = cache.artifacts;
-        this.cachedArtifactIds = cache.artifactIds;
+        this.cachedArtifacts = cache.schemas;
+        this.cachedArtifactIds = cache.schemaIds;
+        this.cache = cache;
+        this.executor = cache.executor();
+        this.artifactFetches = new Int2ObjectHashMap<>();
+        this.artifactIdFetches = new Int2ObjectHashMap<>();
+        this.recordCacheHits = recordCacheHits;
+        this.recordCacheMisses = recordCacheMisses;
+        this.recordFetchDuration = recordFetchDuration;
     }
 
     @Override
@@ -128,180 +169,388 @@ public class ApicurioCatalogHandler implements CatalogHandler
             if (artifacts.containsKey(artifactId))
             {
                 artifact = artifacts.get(artifactId);
+                recordCacheHits.accept(1L);
             }
             else
             {
-                AtomicInteger retryAttempts = new AtomicInteger();
-                CompletableFuture<CachedArtifact> newFuture = new CompletableFuture<>();
-                CompletableFuture<CachedArtifact> existing = cachedArtifacts.get(artifactId);
-                if (existing != null && existing.isDone())
-                {
-                    try
-                    {
-                        CachedArtifact cachedArtifact = existing.get();
-                        if (cachedArtifact != null)
-                        {
-                            retryAttempts = cachedArtifact.retryAttempts;
-                        }
-                    }
-                    catch (Throwable ex)
-                    {
-                        existing.completeExceptionally(ex);
-                    }
-                }
-                CompletableFuture<CachedArtifact> future = cachedArtifacts.merge(artifactId, newFuture, (v1, v2) ->
-                    v1.getNow(CachedArtifact.IN_PROGRESS).artifact == null ? v2 : v1);
-                if (future == newFuture)
-                {
-                    try
-                    {
-                        artifact = sendHttpRequest(artifactPath.formatted(artifactId));
-                        if (artifact == null)
-                        {
-                            if (retryAttempts.getAndIncrement() == 0)
-                            {
-                                event.onUnretrievableArtifactId(catalogId, artifactId);
-                            }
-                            newFuture.complete(new CachedArtifact(null, retryAttempts));
-                        }
-                        else
-                        {
-                            if (retryAttempts.getAndSet(0) > 0)
-                            {
-                                event.onRetrievableArtifactId(catalogId, artifactId);
-                            }
-                            newFuture.complete(new CachedArtifact(artifact, retryAttempts));
-                        }
-                    }
-                    catch (Throwable ex)
-                    {
-                        newFuture.completeExceptionally(ex);
-                    }
-                }
-                assert future != null;
+                CompletableFuture<CachedArtifact> future = supplyArtifact(artifactId, Runnable::run);
                 try
                 {
-                    artifact = future.get().artifact;
-                    if (artifact != null)
-                    {
-                        artifacts.put(artifactId, artifact);
-                    }
+                    future.get();
                 }
                 catch (Throwable ex)
                 {
                     future.completeExceptionally(ex);
                 }
+                artifact = resolveArtifact(artifactId, future);
             }
         }
         return artifact;
     }
 
+    @Override
+    public CompletableFuture<String> resolveAsync(
+        int artifactId)
+    {
+        CompletableFuture<String> resolved;
+        if (artifactId == NO_SCHEMA_ID || artifacts.containsKey(artifactId))
+        {
+            resolved = CompletableFuture.completedFuture(resolve(artifactId));
+        }
+        else
+        {
+            ArtifactFetch<CachedArtifact> fetch = artifactFetches.get(artifactId);
+            CompletableFuture<CachedArtifact> future = fetch != null ? fetch.future : supplyArtifact(artifactId, executor);
+            resolved = future.isDone()
+                ? CompletableFuture.completedFuture(resolveArtifact(artifactId, future))
+                : future.thenApply(c -> c.artifact);
+        }
+        return resolved;
+    }
+
     @Override
     public int resolve(
         String artifact,
         String version)
     {
-        int artifactId = NO_SCHEMA_ID;
+        int artifactId;
 
         int artifactKey = generateCRC32C(artifact, version);
         if (artifactIds.containsKey(artifactKey) && !artifactIds.get(artifactKey).expired(maxAgeMillis))
         {
             artifactId = artifactIds.get(artifactKey).id;
+            recordCacheHits.accept(1L);
         }
         else
         {
-            CachedArtifactId cachedArtifactId = null;
-            AtomicInteger retryAttempts = new AtomicInteger();
-            long retryAfter = RESET_RETRY_DELAY_MS_DEFAULT;
-            CompletableFuture<CachedArtifactId> newFuture = new CompletableFuture<>();
-            CompletableFuture<CachedArtifactId> existing = cachedArtifactIds.get(artifactKey);
-            if (existing != null && existing.isDone())
+            CompletableFuture<CachedArtifactId> future = supplyArtifactId(artifactKey, artifact, version, Runnable::run);
+            try
             {
-                try
+                future.get();
+            }
+            catch (Throwable ex)
+            {
+                future.completeExceptionally(ex);
+            }
+            artifactId = resolveArtifactId(artifactKey, future);
+        }
+        return artifactId;
+    }
+
+    @Override
+    public CompletableFuture<Integer> resolveAsync(
+        String artifact,
+        String version)
+    {
+        CompletableFuture<Integer> resolved;
+
+        int artifactKey = generateCRC32C(artifact, version);
+        if (artifactIds.containsKey(artifactKey) && !artifactIds.get(artifactKey).expired(maxAgeMillis))
+        {
+            resolved = CompletableFuture.completedFuture(resolve(artifact, version));
+        }
+        else
+        {
+            ArtifactFetch<CachedArtifactId> fetch = artifactIdFetches.get(artifactKey);
+            CompletableFuture<CachedArtifactId> future = fetch != null
+                ? fetch.future
+                : supplyArtifactId(artifactKey, artifact, version, executor);
+            resolved = future.isDone()
+                ? CompletableFuture.completedFuture(resolveArtifactId(artifactKey, future))
+                : future.thenApply(c -> c.id);
+        }
+        return resolved;
+    }
+
+    public CompletableFuture<Void> prefetch()
+    {
+        return CompletableFuture.runAsync(() ->
+        {
+            for (Map.Entry<Integer, SubjectVersion> entry : cache.subjects.entrySet())
+            {
+                prefetch(entry.getKey(), entry.getValue());
+            }
+        }, executor);
+    }
+
+    private CompletableFuture<CachedArtifact> supplyArtifact(
+        int artifactId,
+        Executor executor)
+    {
+        AtomicInteger retryAttempts = new AtomicInteger();
+        CompletableFuture<CachedArtifact> newFuture = new CompletableFuture<>();
+        CompletableFuture<CachedArtifact> existing = cachedArtifacts.get(artifactId);
+        if (existing != null && existing.isDone())
+        {
+            try
+            {
+                CachedArtifact cachedArtifact = existing.get();
+                if (cachedArtifact != null)
                 {
-                    cachedArtifactId = existing.get();
-                    if (cachedArtifactId != null)
-                    {
-                        retryAttempts = cachedArtifactId.retryAttempts;
-                    }
+                    retryAttempts = cachedArtifact.retryAttempts;
                 }
-                catch (Throwable ex)
+            }
+            catch (Throwable ex)
+            {
+                existing.completeExceptionally(ex);
+            }
+        }
+        CompletableFuture<CachedArtifact> future = cachedArtifacts.merge(artifactId, newFuture, (v1, v2) ->
+            v1.getNow(CachedArtifact.IN_PROGRESS).artifact == null ? v2 : v1);
+        if (future == newFuture)
+        {
+            ArtifactFetch<CachedArtifact> fetch = new ArtifactFetch<>(newFuture);
+            artifactFetches.put(artifactId, fetch);
+            recordCacheMisses.accept(1L);
+
+            AtomicInteger attempts = retryAttempts;
+            executor.execute(() -> fetchArtifact(artifactId, attempts, fetch));
+        }
+        assert future != null;
+        return future;
+    }
+
+    private void fetchArtifact(
+        int artifactId,
+        AtomicInteger retryAttempts,
+        ArtifactFetch<CachedArtifact> fetch)
+    {
+        CompletableFuture<CachedArtifact> future = fetch.future;
+        try
+        {
+            String artifact = sendHttpRequest(artifactPath.formatted(artifactId));
+            if (artifact == null)
+            {
+                if (retryAttempts.getAndIncrement() == 0)
                 {
-                    existing.completeExceptionally(ex);
+                    fetch.events = () -> event.onUnretrievableArtifactId(catalogId, artifactId);
                 }
+                future.complete(new CachedArtifact(null, retryAttempts));
             }
-            CompletableFuture<CachedArtifactId> future = cachedArtifactIds.merge(artifactKey, newFuture, (v1, v2) ->
-                v1.getNow(IN_PROGRESS).retry() &&
-                    (v1.getNow(IN_PROGRESS).id == NO_SCHEMA_ID || v1.getNow(IN_PROGRESS).expired(maxAgeMillis)) ? v2 : v1);
-            if (future == newFuture)
+            else
             {
-                try
+                if (retryAttempts.getAndSet(0) > 0)
+                {
+                    fetch.events = () -> event.onRetrievableArtifactId(catalogId, artifactId);
+                }
+                cache.persistSchema(artifactId, artifact);
+                future.complete(new CachedArtifact(artifact, retryAttempts));
+            }
+        }
+        catch (Throwable ex)
+        {
+            future.completeExceptionally(ex);
+        }
+    }
+
+    private String resolveArtifact(
+        int artifactId,
+        CompletableFuture<CachedArtifact> future)
+    {
+        String artifact = null;
+
+        ArtifactFetch<CachedArtifact> fetch = artifactFetches.get(artifactId);
+        if (fetch != null && fetch.future == future)
+        {
+            artifactFetches.remove(artifactId);
+            recordFetchDuration.accept(System.nanoTime() - fetch.startedAt);
+            fetch.events.run();
+        }
+        else
+        {
+            recordCacheHits.accept(1L);
+        }
+
+        try
+        {
+            artifact = future.get().artifact;
+            if (artifact != null)
+            {
+                artifacts.put(artifactId, artifact);
+            }
+        }
+        catch (Throwable ex)
+        {
+            future.completeExceptionally(ex);
+        }
+        return artifact;
+    }
+
+    private CompletableFuture<CachedArtifactId> supplyArtifactId(
+        int artifactKey,
+        String artifact,
+        String version,
+        Executor executor)
+    {
+        CachedArtifactId cachedArtifactId = null;
+        AtomicInteger retryAttempts = new AtomicInteger();
+        CompletableFuture<CachedArtifactId> newFuture = new CompletableFuture<>();
+        CompletableFuture<CachedArtifactId> existing = cachedArtifactIds.get(artifactKey);
+        if (existing != null && existing.isDone())
+        {
+            try
+            {
+                cachedArtifactId = existing.get();
+                if (cachedArtifactId != null)
                 {
-                    String path = VERSION_LATEST.equals(version) ? ARTIFACT_META_PATH.formatted(groupId, artifact) :
-                        ARTIFACT_VERSION_PATH.formatted(groupId, artifact, version);
+                    retryAttempts = cachedArtifactId.retryAttempts;
+                }
+            }
+            catch (Throwable ex)
+            {
+                existing.completeExceptionally(ex);
+            }
+        }
+        CompletableFuture<CachedArtifactId> future = cachedArtifactIds.merge(artifactKey, newFuture, (v1, v2) ->
+            v1.getNow(IN_PROGRESS).retry() &&
+                (v1.getNow(IN_PROGRESS).id == NO_SCHEMA_ID || v1.getNow(IN_PROGRESS).expired(maxAgeMillis)) ? v2 : v1);
+        if (future == newFuture)
+        {
+            ArtifactFetch<CachedArtifactId> fetch = new ArtifactFetch<>(newFuture);
+            artifactIdFetches.put(artifactKey, fetch);
+            recordCacheMisses.accept(1L);
 
-                    String response = sendHttpRequest(path);
-                    if (response == null)
+            CachedArtifactId stale = cachedArtifactId;
+            AtomicInteger attempts = retryAttempts;
+            executor.execute(() -> fetchArtifactId(artifactKey, artifact, version, stale, attempts, fetch));
+        }
+        assert future != null;
+        return future;
+    }
+
+    private void fetchArtifactId(
+        int artifactKey,
+        String artifact,
+        String version,
+        CachedArtifactId cachedArtifactId,
+        AtomicInteger retryAttempts,
+        ArtifactFetch<CachedArtifactId> fetch)
+    {
+        CompletableFuture<CachedArtifactId> future = fetch.future;
+        long retryAfter = RESET_RETRY_DELAY_MS_DEFAULT;
+        try
+        {
+            String response = sendHttpRequest(artifactVersionPath(artifact, version));
+            if (response == null)
+            {
+                if (retryAttempts.getAndIncrement() == 0)
+                {
+                    retryAfter = RETRY_INITIAL_DELAY_MS_DEFAULT;
+                    int staleId = cachedArtifactId != null ? cachedArtifactId.id : NO_SCHEMA_ID;
+                    fetch.events = () ->
                     {
-                        if (retryAttempts.getAndIncrement() == 0)
+                        event.onUnretrievableArtifactSubjectVersion(catalogId, artifact, version);
+                        if (staleId != NO_SCHEMA_ID)
                         {
-                            retryAfter = RETRY_INITIAL_DELAY_MS_DEFAULT;
-                            event.onUnretrievableArtifactSubjectVersion(catalogId, artifact, version);
-                            if (cachedArtifactId != null && cachedArtifactId.id != NO_SCHEMA_ID)
-                            {
-                                event.onUnretrievableArtifactSubjectVersionStaleArtifact(catalogId,
-                                    artifact, version, cachedArtifactId.id);
-                            }
+                            event.onUnretrievableArtifactSubjectVersionStaleArtifact(catalogId, artifact, version, staleId);
                         }
+                    };
+                }
 
-                        if (cachedArtifactId != null)
-                        {
-                            if (cachedArtifactId.retryAfter != RESET_RETRY_DELAY_MS_DEFAULT)
-                            {
-                                retryAfter = Math.min(cachedArtifactId.retryAfter << 1, maxAgeMillis);
-                            }
-                            newFuture.complete(new CachedArtifactId(cachedArtifactId.timestamp, cachedArtifactId.id,
-                                retryAttempts, retryAfter));
-                        }
-                        else
-                        {
-                            newFuture.complete(new CachedArtifactId(System.currentTimeMillis(), NO_SCHEMA_ID,
-                                retryAttempts, retryAfter));
-                        }
-                    }
-                    else if (response != null)
+                if (cachedArtifactId != null)
+                {
+                    if (cachedArtifactId.retryAfter != RESET_RETRY_DELAY_MS_DEFAULT)
                     {
-                        if (retryAttempts.getAndSet(0) > 0)
-                        {
-                            event.onRetrievableArtifactSubjectVersion(catalogId, artifact, version);
-                        }
-                        newFuture.complete(new CachedArtifactId(System.currentTimeMillis(), resolveId(response),
-                            retryAttempts, retryAfter));
+                        retryAfter = Math.min(cachedArtifactId.retryAfter << 1, maxAgeMillis);
                     }
+                    future.complete(new CachedArtifactId(cachedArtifactId.timestamp, cachedArtifactId.id,
+                        retryAttempts, retryAfter));
                 }
-                catch (Throwable ex)
+                else
                 {
-                    newFuture.completeExceptionally(ex);
+                    future.complete(new CachedArtifactId(System.currentTimeMillis(), NO_SCHEMA_ID,
+                        retryAttempts, retryAfter));
                 }
             }
-            assert future != null;
-            try
+            else
             {
-                cachedArtifactId = future.get();
-                artifactId = cachedArtifactId.id;
-                if (artifactId != NO_SCHEMA_ID)
+                if (retryAttempts.getAndSet(0) > 0)
                 {
-                    artifactIds.put(artifactKey, cachedArtifactId);
+                    fetch.events = () -> event.onRetrievableArtifactSubjectVersion(catalogId, artifact, version);
                 }
+                int resolved = resolveId(response);
+                if (resolved != NO_SCHEMA_ID)
+                {
+                    cache.persistSchemaId(artifactKey, artifact, version, resolved);
+                }
+                future.complete(new CachedArtifactId(System.currentTimeMillis(), resolved,
+                    retryAttempts, retryAfter));
             }
-            catch (Throwable ex)
+        }
+        catch (Throwable ex)
+        {
+            future.completeExceptionally(ex);
+        }
+    }
+
+    private int resolveArtifactId(
+        int artifactKey,
+        CompletableFuture<CachedArtifactId> future)
+    {
+        int artifactId = NO_SCHEMA_ID;
+
+        ArtifactFetch<CachedArtifactId> fetch = artifactIdFetches.get(artifactKey);
+        if (fetch != null && fetch.future == future)
+        {
+            artifactIdFetches.remove(artifactKey);
+            recordFetchDuration.accept(System.nanoTime() - fetch.startedAt);
+            fetch.events.run();
+        }
+        else
+        {
+            recordCacheHits.accept(1L);
+        }
+
+        try
+        {
+            CachedArtifactId cachedArtifactId = future.get();
+            artifactId = cachedArtifactId.id;
+            if (artifactId != NO_SCHEMA_ID)
             {
-                future.completeExceptionally(ex);
+                artifactIds.put(artifactKey, cachedArtifactId);
             }
         }
+        catch (Throwable ex)
+        {
+            future.completeExceptionally(ex);
+        }
         return artifactId;
     }
 
+    private void prefetch(
+        int artifactKey,
+        SubjectVersion artifactVersion)
+    {
+        String response = sendHttpRequest(artifactVersionPath(artifactVersion.subject(), artifactVersion.version()));
+
+        int artifactId = response != null ? resolveId(response) : NO_SCHEMA_ID;
+        if (artifactId != NO_SCHEMA_ID)
+        {
+            cachedArtifactIds.put(artifactKey, CompletableFuture.completedFuture(CachedArtifactId.resolved(artifactId)));
+            cache.persistSchemaId(artifactKey, artifactVersion.subject(), artifactVersion.version(), artifactId);
+
+            if (!cachedArtifacts.containsKey(artifactId))
+            {
+                String artifact = sendHttpRequest(artifactPath.formatted(artifactId));
+
+                if (artifact != null)
+                {
+                    cachedArtifacts.putIfAbsent(artifactId, CompletableFuture.completedFuture(new CachedArtifact(artifact)));
+                    cache.persistSchema(artifactId, artifact);
+                }
+            }
+        }
+    }
+
+    private String artifactVersionPath(
+        String artifact,
+        String version)
+    {
+        return VERSION_LATEST.equals(version)
+            ? ARTIFACT_META_PATH.formatted(groupId, artifact)
+            : ARTIFACT_VERSION_PATH.formatted(groupId, artifact, version);
+    }
+
     private String sendHttpRequest(
         String path)
     {
@@ -451,6 +700,19 @@ public class ApicurioCatalogHandler implements CatalogHandler
         return data.getInt(index, ByteOrder.BIG_ENDIAN);
     }
 
+    private static LongConsumer supplyRecorder(
+        EngineContext context,
+        CatalogConfig catalog,
+        Metric.Kind kind,
+        String metricName)
+    {
+        final long metricId = catalog.resolveId != null ? catalog.resolveId.applyAsLong(metricName) : 0L;
+        final boolean enabled = metricId != 0L && catalog.metricIds != null &&
+            LongStream.of(catalog.metricIds).anyMatch(id -> id == metricId);
+
+        return enabled ? context.supplyMetricWriter(kind, catalog.id, metricId) : NO_RECORDER;
+    }
+
     @FunctionalInterface
     private interface IdEncoder
     {
@@ -462,4 +724,19 @@ public class ApicurioCatalogHandler implements CatalogHandler
     {
         int decode(DirectBuffer data, int index);
     }
+
+    private static final class ArtifactFetch<T>
+    {
+        private final CompletableFuture<T> future;
+        private final long startedAt;
+        private volatile Runnable events;
+
+        private ArtifactFetch(
+            CompletableFuture<T> future)
+        {
+            this.future = future;
+            this.startedAt = System.nanoTime();
+            this.events = NO_EVENTS;
+        }
+    }
 }
@@ -18,6 +18,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 public class CachedArtifactId
 {
+    public static final long RESET_RETRY_DELAY_MS_DEFAULT = 0L;
     public static final int ID_PLACEHOLDER = -1;
     public static final CachedArtifactId IN_PROGRESS = new CachedArtifactId(Long.MAX_VALUE, ID_PLACEHOLDER,
         new AtomicInteger(), Long.MAX_VALUE);
@@ -39,6 +40,12 @@ public class CachedArtifactId
         this.retryAfter = retryAfter;
     }
 
+    public static CachedArtifactId resolved(
+        int id)
+    {
+        return new CachedArtifactId(System.currentTimeMillis(), id, new AtomicInteger(), RESET_RETRY_DELAY_MS_DEFAULT);
+    }
+
     public boolean expired(
         long maxAgeMillis)
     {
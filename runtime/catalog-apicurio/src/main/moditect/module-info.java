@@ -27,4 +27,7 @@ module io.aklivity.zilla.runtime.catalog.apicurio
 
     provides io.aklivity.zilla.runtime.engine.event.EventFormatterFactorySpi
         with io.aklivity.zilla.runtime.catalog.apicurio.internal.ApicurioEventFormatterFactory;
+
+    provides io.aklivity.zilla.runtime.engine.metrics.MetricGroupFactorySpi
+        with io.aklivity.zilla.runtime.catalog.apicurio.internal.metrics.ApicurioMetricGroupFactorySpi;
 }
@@ -14,22 +14,47 @@
  */
 package io.aklivity.zilla.runtime.catalog.apicurio.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.agrona.BitUtil.SIZE_OF_BYTE;
 import static org.agrona.BitUtil.SIZE_OF_INT;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
-
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import io.aklivity.zilla.runtime.catalog.apicurio.config.ApicurioOptionsConfig;
+import io.aklivity.zilla.runtime.catalog.apicurio.internal.metrics.ApicurioCacheHitsMetric;
+import io.aklivity.zilla.runtime.catalog.apicurio.internal.metrics.ApicurioCacheMissesMetric;
+import io.aklivity.zilla.runtime.catalog.apicurio.internal.metrics.ApicurioFetchDurationMetric;
 import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
+import io.aklivity.zilla.runtime.engine.config.CatalogConfig;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
 import io.aklivity.zilla.runtime.engine.model.function.ValueConsumer;
 
 public class ApicurioCatalogHandlerTest
@@ -37,6 +62,9 @@ public class ApicurioCatalogHandlerTest
     private static final int SIZE_OF_DEFAULT_PREFIX = SIZE_OF_BYTE + SIZE_OF_LONG;
     private static final int SIZE_OF_LEGACY_PREFIX = SIZE_OF_BYTE + SIZE_OF_INT;
 
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
     private EngineContext context = mock(EngineContext.class);
 
     @Test
@@ -226,4 +254,109 @@ public class ApicurioCatalogHandlerTest
 
         assertEquals(9, actual);
     }
+
+    @Test
+    public void shouldResolveArtifactIdAsync() throws Exception
+    {
+        MessageConsumer eventWriter = mock(MessageConsumer.class);
+        when(context.supplyEventWriter()).thenReturn(eventWriter);
+        when(context.clock()).thenReturn(Clock.systemUTC());
+
+        LongArrayList hits = new LongArrayList();
+        LongArrayList misses = new LongArrayList();
+        LongArrayList fetches = new LongArrayList();
+        Queue<Runnable> tasks = new ArrayDeque<>();
+
+        CatalogConfig catalog = newCatalog(unusedUrl(), hits, misses, fetches);
+        ApicurioCatalogHandler handler = new ApicurioCatalogHandler(context, catalog, new ApicurioCache(null, tasks::add));
+
+        CompletableFuture<Integer> resolving = handler.resolveAsync("items-value", "latest");
+
+        assertFalse(resolving.isDone());
+        assertEquals(1, tasks.size());
+        assertEquals(1, misses.size());
+
+        Thread fetcher = new Thread(tasks.poll());
+        fetcher.start();
+        fetcher.join();
+
+        assertTrue(resolving.isDone());
+        verify(eventWriter, never()).accept(anyInt(), any(DirectBuffer.class), anyInt(), anyInt());
+
+        CompletableFuture<Integer> resolved = handler.resolveAsync("items-value", "latest");
+
+        assertTrue(resolved.isDone());
+        assertEquals(CatalogHandler.NO_SCHEMA_ID, resolved.get().intValue());
+        assertEquals(0, tasks.size());
+        assertEquals(1, fetches.size());
+        assertEquals(0, hits.size());
+        verify(eventWriter, times(1)).accept(anyInt(), any(DirectBuffer.class), anyInt(), anyInt());
+    }
+
+    @Test
+    public void shouldResolvePersistedArtifactAsync() throws Exception
+    {
+        Path directory = folder.getRoot().toPath();
+        Files.createDirectories(directory.resolve("schemas"));
+        Files.writeString(directory.resolve("schemas").resolve("9"), "{\"type\": \"string\"}", UTF_8);
+
+        LongArrayList hits = new LongArrayList();
+        LongArrayList misses = new LongArrayList();
+        LongArrayList fetches = new LongArrayList();
+        Queue<Runnable> tasks = new ArrayDeque<>();
+
+        CatalogConfig catalog = newCatalog(unusedUrl(), hits, misses, fetches);
+        ApicurioCatalogHandler handler = new ApicurioCatalogHandler(context, catalog, new ApicurioCache(directory, tasks::add));
+
+        CompletableFuture<String> resolved = handler.resolveAsync(9);
+
+        assertTrue(resolved.isDone());
+        assertEquals("{\"type\": \"string\"}", resolved.get());
+        assertEquals(0, tasks.size());
+        assertEquals(1, hits.size());
+        assertEquals(0, misses.size());
+    }
+
+    private CatalogConfig newCatalog(
+        String url,
+        LongArrayList hits,
+        LongArrayList misses,
+        LongArrayList fetches)
+    {
+        CatalogConfig catalog = CatalogConfig.builder()
+            .namespace("test")
+            .name("test0")
+            .type(ApicurioCatalog.TYPE)
+            .options(ApicurioOptionsConfig::builder)
+                .url(url)
+                .groupId("groupId")
+                .maxAge(Duration.ofSeconds(1))
+                .build()
+            .build();
+
+        catalog.id = 1L;
+        catalog.resolveId = name -> name.hashCode();
+        catalog.metricIds = new long[] {
+            ApicurioCacheHitsMetric.NAME.hashCode(),
+            ApicurioCacheMissesMetric.NAME.hashCode(),
+            ApicurioFetchDurationMetric.NAME.hashCode()
+        };
+
+        when(context.supplyMetricWriter(Metric.Kind.COUNTER, 1L, ApicurioCacheHitsMetric.NAME.hashCode()))
+            .thenReturn(hits::addLong);
+        when(context.supplyMetricWriter(Metric.Kind.COUNTER, 1L, ApicurioCacheMissesMetric.NAME.hashCode()))
+            .thenReturn(misses::addLong);
+        when(context.supplyMetricWriter(Metric.Kind.HISTOGRAM, 1L, ApicurioFetchDurationMetric.NAME.hashCode()))
+            .thenReturn(fetches::addLong);
+
+        return catalog;
+    }
+
+    private static String unusedUrl() throws Exception
+    {
+        try (ServerSocket server = new ServerSocket(0))
+        {
+            return String.format("http://localhost:%d", server.getLocalPort());
+        }
+    }
 }
@@ -15,9 +15,14 @@
 package io.aklivity.zilla.runtime.catalog.schema.registry.internal;
 
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.SchemaRegistryCache;
@@ -32,7 +37,10 @@ public final class SchemaRegistryCatalog implements Catalog
     private final String type;
     private final Set<String> aliases;
     private final Supplier<URL> schema;
-    private final ConcurrentMap<Long, SchemaRegistryCache> cache;
+    private final ConcurrentMap<Path, SchemaRegistryCache> cache;
+    private final ThreadFactory factory;
+    private final AtomicInteger nextFetchId;
+    private final ExecutorService executor;
 
     public SchemaRegistryCatalog(
         String type,
@@ -45,6 +53,9 @@ public final class SchemaRegistryCatalog implements Catalog
         this.aliases = aliases;
         this.schema = schema;
         this.cache = new ConcurrentHashMap<>();
+        this.factory = Executors.defaultThreadFactory();
+        this.nextFetchId = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(this::newFetchThread);
     }
 
     @Override
@@ -63,7 +74,7 @@ public final class SchemaRegistryCatalog implements Catalog
     public CatalogContext supply(
         EngineContext context)
     {
-        return new SchemaRegistryCatalogContext(type, config, context, cache);
+        return new SchemaRegistryCatalogContext(type, config, context, cache, executor);
     }
 
     @Override
@@ -71,4 +82,18 @@ public final class SchemaRegistryCatalog implements Catalog
     {
         return schema.get();
     }
+
+    private Thread newFetchThread(
+        Runnable r)
+    {
+        Thread t = factory.newThread(r);
+
+        if (t != null)
+        {
+            t.setName(String.format("catalog/%s#%d", type, nextFetchId.getAndIncrement()));
+            t.setDaemon(true);
+        }
+
+        return t;
+    }
 }
@@ -14,8 +14,14 @@
  */
 package io.aklivity.zilla.runtime.catalog.schema.registry.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.file.Path;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 
+import io.aklivity.zilla.runtime.catalog.schema.registry.config.AbstractSchemaRegistryOptionsConfig;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.config.SchemaRegistryCatalogConfig;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.SchemaRegistryCache;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.SchemaRegistryCatalogHandler;
@@ -28,28 +34,53 @@ import io.aklivity.zilla.runtime.engine.config.CatalogConfig;
 public class SchemaRegistryCatalogContext implements CatalogContext
 {
     private final Configuration config;
+    private final SchemaRegistryConfiguration schemaRegistryConfig;
     private final String type;
     private final EngineContext context;
-    private final ConcurrentMap<Long, SchemaRegistryCache> cachesById;
+    private final ConcurrentMap<Path, SchemaRegistryCache> cachesByKey;
+    private final Executor executor;
 
     public SchemaRegistryCatalogContext(
         String type,
         Configuration config,
         EngineContext context,
-        ConcurrentMap<Long, SchemaRegistryCache> cachesById)
+        ConcurrentMap<Path, SchemaRegistryCache> cachesByKey,
+        Executor executor)
     {
         this.config = config;
+        this.schemaRegistryConfig = new SchemaRegistryConfiguration(config);
         this.type = type;
         this.context = context;
-        this.cachesById = cachesById;
+        this.cachesByKey = cachesByKey;
+        this.executor = executor;
     }
 
     @Override
     public CatalogHandler attach(
         CatalogConfig catalog)
     {
-        SchemaRegistryCache cache = cachesById.computeIfAbsent(catalog.id, id -> new SchemaRegistryCache());
+        AbstractSchemaRegistryOptionsConfig options = AbstractSchemaRegistryOptionsConfig.class.cast(catalog.options);
+        String registry = UUID.nameUUIDFromBytes(options.url.getBytes(UTF_8)).toString();
+        Path key = Path.of(type, catalog.namespace, catalog.name, registry);
+        SchemaRegistryCache cache = cachesByKey.computeIfAbsent(key, this::newCache);
         SchemaRegistryCatalogConfig attached = new SchemaRegistryCatalogConfig(type, context, catalog, cache);
-        return new SchemaRegistryCatalogHandler(config, attached, context);
+        SchemaRegistryCatalogHandler handler = new SchemaRegistryCatalogHandler(config, attached, context);
+
+        if (schemaRegistryConfig.cachePrefetch() && cache.prefetch())
+        {
+            handler.prefetch();
+        }
+
+        return handler;
+    }
+
+    private SchemaRegistryCache newCache(
+        Path key)
+    {
+        Path directory = schemaRegistryConfig.cachePersistent()
+            ? schemaRegistryConfig.cacheDirectory().resolve(key)
+            : null;
+
+        return new SchemaRegistryCache(directory, executor);
     }
 }
@@ -14,20 +14,32 @@
  */
 package io.aklivity.zilla.runtime.catalog.schema.registry.internal.config;
 
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
 import io.aklivity.zilla.runtime.catalog.schema.registry.config.AbstractSchemaRegistryOptionsConfig;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.SchemaRegistryCatalogFactorySpi;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.events.SchemaRegistryEventContext;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.SchemaRegistryCache;
+import io.aklivity.zilla.runtime.catalog.schema.registry.internal.metrics.SchemaRegistryCacheHitsMetric;
+import io.aklivity.zilla.runtime.catalog.schema.registry.internal.metrics.SchemaRegistryCacheMissesMetric;
+import io.aklivity.zilla.runtime.catalog.schema.registry.internal.metrics.SchemaRegistryFetchDurationMetric;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.config.CatalogConfig;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
 
 public final class SchemaRegistryCatalogConfig
 {
+    private static final LongConsumer NO_RECORDER = v -> {};
+
     public final long id;
     public final long vaultId;
     public final SchemaRegistryEventContext events;
     public final AbstractSchemaRegistryOptionsConfig options;
     public final SchemaRegistryCache cache;
+    public final LongConsumer recordCacheHits;
+    public final LongConsumer recordCacheMisses;
+    public final LongConsumer recordFetchDuration;
 
     public SchemaRegistryCatalogConfig(
         EngineContext context,
@@ -47,5 +59,24 @@ public final class SchemaRegistryCatalogConfig
         this.options = AbstractSchemaRegistryOptionsConfig.class.cast(catalog.options);
         this.events = new SchemaRegistryEventContext(context, type);
         this.cache = cache;
+        this.recordCacheHits = supplyRecorder(context, catalog, Metric.Kind.COUNTER,
+            SchemaRegistryCacheHitsMetric.NAME);
+        this.recordCacheMisses = supplyRecorder(context, catalog, Metric.Kind.COUNTER,
+            SchemaRegistryCacheMissesMetric.NAME);
+        this.recordFetchDuration = supplyRecorder(context, catalog, Metric.Kind.HISTOGRAM,
+            SchemaRegistryFetchDurationMetric.NAME);
+    }
+
+    private static LongConsumer supplyRecorder(
+        EngineContext context,
+        CatalogConfig catalog,
+        Metric.Kind kind,
+        String metricName)
+    {
+        final long metricId = catalog.resolveId != null ? catalog.resolveId.applyAsLong(metricName) : 0L;
+        final boolean enabled = metricId != 0L && catalog.metricIds != null &&
+            LongStream.of(catalog.metricIds).anyMatch(id -> id == metricId);
+
+        return enabled ? context.supplyMetricWriter(kind, catalog.id, metricId) : NO_RECORDER;
     }
 }
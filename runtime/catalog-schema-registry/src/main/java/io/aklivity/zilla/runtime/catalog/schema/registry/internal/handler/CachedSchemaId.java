@@ -18,6 +18,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 public class CachedSchemaId
 {
+    public static final long RESET_RETRY_DELAY_MS_DEFAULT = 0L;
     public static final int PLACEHOLDER_SCHEMA_ID = -1;
     public static final CachedSchemaId IN_PROGRESS = new CachedSchemaId(Long.MAX_VALUE, PLACEHOLDER_SCHEMA_ID,
         new AtomicInteger(), Long.MAX_VALUE);
@@ -39,6 +40,12 @@ public class CachedSchemaId
         this.retryAfter = retryAfter;
     }
 
+    public static CachedSchemaId resolved(
+        int id)
+    {
+        return new CachedSchemaId(System.currentTimeMillis(), id, new AtomicInteger(), RESET_RETRY_DELAY_MS_DEFAULT);
+    }
+
     public boolean expired(
         long maxAgeMillis)
     {
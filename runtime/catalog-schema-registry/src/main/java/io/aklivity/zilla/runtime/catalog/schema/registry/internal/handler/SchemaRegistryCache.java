@@ -14,18 +14,22 @@
  */
 package io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler;
 
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
 
-public class SchemaRegistryCache
-{
-    public final ConcurrentMap<Integer, CompletableFuture<CachedSchema>> schemas;
-    public final ConcurrentMap<Integer, CompletableFuture<CachedSchemaId>> schemaIds;
+import io.aklivity.zilla.runtime.engine.catalog.CatalogCache;
 
+public class SchemaRegistryCache extends CatalogCache<CachedSchema, CachedSchemaId>
+{
     public SchemaRegistryCache()
     {
-        this.schemas = new ConcurrentHashMap<>();
-        this.schemaIds = new ConcurrentHashMap<>();
+        this(null, Runnable::run);
+    }
+
+    public SchemaRegistryCache(
+        Path directory,
+        Executor executor)
+    {
+        super(directory, executor, CachedSchema::new, CachedSchemaId::resolved);
     }
 }
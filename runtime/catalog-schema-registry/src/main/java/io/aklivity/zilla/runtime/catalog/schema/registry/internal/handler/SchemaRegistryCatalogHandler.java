@@ -15,6 +15,7 @@
 package io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler;
 
 import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.CachedSchemaId.IN_PROGRESS;
+import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.CachedSchemaId.RESET_RETRY_DELAY_MS_DEFAULT;
 import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.serializer.UnregisterSchemaRequest.NO_VERSIONS;
 
 import java.net.URI;
@@ -25,9 +26,12 @@ import java.nio.ByteOrder;
 import java.security.KeyStore;
 import java.security.SecureRandom;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
 import java.util.zip.CRC32C;
 
@@ -41,6 +45,7 @@ import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.LangUtil;
 import org.agrona.collections.Int2ObjectCache;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import io.aklivity.zilla.runtime.catalog.schema.registry.config.AbstractSchemaRegistryOptionsConfig;
@@ -51,6 +56,7 @@ import io.aklivity.zilla.runtime.catalog.schema.registry.internal.serializer.Unr
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.types.SchemaRegistryPrefixFW;
 import io.aklivity.zilla.runtime.engine.Configuration;
 import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.catalog.CatalogCache.SubjectVersion;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
 import io.aklivity.zilla.runtime.engine.model.function.ValueConsumer;
 import io.aklivity.zilla.runtime.engine.security.Trusted;
@@ -66,8 +72,8 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
 
     private static final int MAX_PADDING_LENGTH = 5;
     private static final byte MAGIC_BYTE = 0x0;
-    private static final long RESET_RETRY_DELAY_MS_DEFAULT = 0L;
     private static final long RETRY_INITIAL_DELAY_MS_DEFAULT = 1000L;
+    private static final Runnable NO_EVENTS = () -> {};
 
     private final SchemaRegistryPrefixFW.Builder prefixRW = new SchemaRegistryPrefixFW.Builder()
         .wrap(new UnsafeBuffer(new byte[5]), 0, 5);
@@ -84,7 +90,14 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
     private final long catalogId;
     private final ConcurrentMap<Integer, CompletableFuture<CachedSchema>> cachedSchemas;
     private final ConcurrentMap<Integer, CompletableFuture<CachedSchemaId>> cachedSchemaIds;
+    private final SchemaRegistryCache cache;
     private final String authorization;
+    private final Executor executor;
+    private final Int2ObjectHashMap<SchemaFetch<CachedSchema>> schemaFetches;
+    private final Int2ObjectHashMap<SchemaFetch<CachedSchemaId>> schemaIdFetches;
+    private final LongConsumer recordCacheHits;
+    private final LongConsumer recordCacheMisses;
+    private final LongConsumer recordFetchDuration;
 
     public SchemaRegistryCatalogHandler(
         Configuration config,
@@ -143,7 +156,14 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
         this.catalogId = catalog.id;
         this.cachedSchemas = catalog.cache.schemas;
         this.cachedSchemaIds = catalog.cache.schemaIds;
+        this.cache = catalog.cache;
         this.authorization = options.authorization;
+        this.executor = catalog.cache.executor();
+        this.schemaFetches = new Int2ObjectHashMap<>();
+        this.schemaIdFetches = new Int2ObjectHashMap<>();
+        this.recordCacheHits = catalog.recordCacheHits;
+        this.recordCacheMisses = catalog.recordCacheMisses;
+        this.recordFetchDuration = catalog.recordFetchDuration;
     }
 
     @Override
@@ -187,177 +207,110 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
             if (schemas.containsKey(schemaId))
             {
                 schema = schemas.get(schemaId);
+                recordCacheHits.accept(1L);
             }
             else
             {
-                AtomicInteger retryAttempts = new AtomicInteger();
-                CompletableFuture<CachedSchema> newFuture = new CompletableFuture<>();
-                CompletableFuture<CachedSchema> existing = cachedSchemas.get(schemaId);
-                if (existing != null && existing.isDone())
-                {
-                    try
-                    {
-                        CachedSchema cachedSchema = existing.get();
-                        if (cachedSchema != null)
-                        {
-                            retryAttempts = cachedSchema.retryAttempts;
-                        }
-                    }
-                    catch (Throwable ex)
-                    {
-                        existing.completeExceptionally(ex);
-                    }
-                }
-                CompletableFuture<CachedSchema> future = cachedSchemas.merge(schemaId, newFuture, (v1, v2) ->
-                    v1.getNow(CachedSchema.IN_PROGRESS).schema == null ? v2 : v1);
-                if (future == newFuture)
-                {
-                    try
-                    {
-                        String response = sendHttpRequest(SCHEMA_PATH.formatted(schemaId));
-                        if (response == null)
-                        {
-                            if (retryAttempts.getAndIncrement() == 0)
-                            {
-                                event.onUnretrievableSchemaId(catalogId, schemaId);
-                            }
-                            newFuture.complete(new CachedSchema(null, retryAttempts));
-                        }
-                        else
-                        {
-                            if (retryAttempts.getAndSet(0) > 0)
-                            {
-                                event.onRetrievableSchemaId(catalogId, schemaId);
-                            }
-                            newFuture.complete(new CachedSchema(registerRequest.resolveSchemaResponse(response), retryAttempts));
-                        }
-                    }
-                    catch (Throwable ex)
-                    {
-                        newFuture.completeExceptionally(ex);
-                    }
-                }
-                assert future != null;
+                CompletableFuture<CachedSchema> future = supplySchema(schemaId, Runnable::run);
                 try
                 {
-                    schema = future.get().schema;
-                    if (schema != null)
-                    {
-                        schemas.put(schemaId, schema);
-                    }
+                    future.get();
                 }
                 catch (Throwable ex)
                 {
                     future.completeExceptionally(ex);
                 }
+                schema = resolveSchema(schemaId, future);
             }
         }
         return schema;
     }
 
+    @Override
+    public CompletableFuture<String> resolveAsync(
+        int schemaId)
+    {
+        CompletableFuture<String> resolved;
+        if (schemaId == NO_SCHEMA_ID || schemas.containsKey(schemaId))
+        {
+            resolved = CompletableFuture.completedFuture(resolve(schemaId));
+        }
+        else
+        {
+            SchemaFetch<CachedSchema> fetch = schemaFetches.get(schemaId);
+            CompletableFuture<CachedSchema> future = fetch != null ? fetch.future : supplySchema(schemaId, executor);
+            resolved = future.isDone()
+                ? CompletableFuture.completedFuture(resolveSchema(schemaId, future))
+                : future.thenApply(c -> c.schema);
+        }
+        return resolved;
+    }
+
     @Override
     public int resolve(
         String subject,
         String version)
     {
-        int schemaId = NO_SCHEMA_ID;
+        int schemaId;
 
         int schemaKey = generateCRC32C(subject, version);
         if (schemaIds.containsKey(schemaKey) && !schemaIds.get(schemaKey).expired(maxAgeMillis))
         {
             schemaId = schemaIds.get(schemaKey).id;
+            recordCacheHits.accept(1L);
         }
         else
         {
-            CachedSchemaId cachedSchemaId = null;
-            AtomicInteger retryAttempts = new AtomicInteger();
-            long retryAfter = RESET_RETRY_DELAY_MS_DEFAULT;
-            CompletableFuture<CachedSchemaId> newFuture = new CompletableFuture<>();
-            CompletableFuture<CachedSchemaId> existing = cachedSchemaIds.get(schemaKey);
-            if (existing != null && existing.isDone())
-            {
-                try
-                {
-                    cachedSchemaId = existing.get();
-                    if (cachedSchemaId != null)
-                    {
-                        retryAttempts = cachedSchemaId.retryAttempts;
-                    }
-                }
-                catch (Throwable ex)
-                {
-                    existing.completeExceptionally(ex);
-                }
-            }
-            CompletableFuture<CachedSchemaId> future = cachedSchemaIds.merge(schemaKey, newFuture, (v1, v2) ->
-                v1.getNow(IN_PROGRESS).retry() &&
-                    (v1.getNow(IN_PROGRESS).id == NO_SCHEMA_ID || v1.getNow(IN_PROGRESS).expired(maxAgeMillis)) ? v2 : v1);
-            if (future == newFuture)
-            {
-                try
-                {
-                    String response = sendHttpRequest(SUBJECT_VERSION_PATH.formatted(subject, version));
-                    if (response == null)
-                    {
-                        if (retryAttempts.getAndIncrement() == 0)
-                        {
-                            retryAfter = RETRY_INITIAL_DELAY_MS_DEFAULT;
-                            event.onUnretrievableSchemaSubjectVersion(catalogId, subject, version);
-                            if (cachedSchemaId != null && cachedSchemaId.id != NO_SCHEMA_ID)
-                            {
-                                event.onUnretrievableSchemaSubjectVersionStaleSchema(catalogId, subject, version,
-                                    cachedSchemaId.id);
-                            }
-                        }
-
-                        if (cachedSchemaId != null)
-                        {
-                            if (cachedSchemaId.retryAfter != RESET_RETRY_DELAY_MS_DEFAULT)
-                            {
-                                retryAfter = Math.min(cachedSchemaId.retryAfter << 1, maxAgeMillis);
-                            }
-                            newFuture.complete(new CachedSchemaId(cachedSchemaId.timestamp, cachedSchemaId.id,
-                                retryAttempts, retryAfter));
-                        }
-                        else
-                        {
-                            newFuture.complete(new CachedSchemaId(System.currentTimeMillis(), NO_SCHEMA_ID,
-                                retryAttempts, retryAfter));
-                        }
-                    }
-                    else if (response != null)
-                    {
-                        if (retryAttempts.getAndSet(0) > 0)
-                        {
-                            event.onRetrievableSchemaSubjectVersion(catalogId, subject, version);
-                        }
-                        newFuture.complete(new CachedSchemaId(System.currentTimeMillis(),
-                            registerRequest.resolveResponse(response), retryAttempts, retryAfter));
-                    }
-                }
-                catch (Throwable ex)
-                {
-                    newFuture.completeExceptionally(ex);
-                }
-            }
-            assert future != null;
+            CompletableFuture<CachedSchemaId> future = supplySchemaId(schemaKey, subject, version, Runnable::run);
             try
             {
-                cachedSchemaId = future.get();
-                schemaId = cachedSchemaId.id;
-                if (schemaId != NO_SCHEMA_ID)
-                {
-                    schemaIds.put(schemaKey, cachedSchemaId);
-                }
+                future.get();
             }
             catch (Throwable ex)
             {
                 future.completeExceptionally(ex);
             }
+            schemaId = resolveSchemaId(schemaKey, future);
         }
         return schemaId;
     }
 
+    @Override
+    public CompletableFuture<Integer> resolveAsync(
+        String subject,
+        String version)
+    {
+        CompletableFuture<Integer> resolved;
+
+        int schemaKey = generateCRC32C(subject, version);
+        if (schemaIds.containsKey(schemaKey) && !schemaIds.get(schemaKey).expired(maxAgeMillis))
+        {
+            resolved = CompletableFuture.completedFuture(resolve(subject, version));
+        }
+        else
+        {
+            SchemaFetch<CachedSchemaId> fetch = schemaIdFetches.get(schemaKey);
+            CompletableFuture<CachedSchemaId> future = fetch != null
+                ? fetch.future
+                : supplySchemaId(schemaKey, subject, version, executor);
+            resolved = future.isDone()
+                ? CompletableFuture.completedFuture(resolveSchemaId(schemaKey, future))
+                : future.thenApply(c -> c.id);
+        }
+        return resolved;
+    }
+
+    public CompletableFuture<Void> prefetch()
+    {
+        return CompletableFuture.runAsync(() ->
+        {
+            for (Map.Entry<Integer, SubjectVersion> entry : cache.subjects.entrySet())
+            {
+                prefetch(entry.getKey(), entry.getValue());
+            }
+        }, executor);
+    }
+
     @Override
     public int resolve(
         DirectBuffer data,
@@ -423,6 +376,280 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
         return MAX_PADDING_LENGTH;
     }
 
+    private CompletableFuture<CachedSchema> supplySchema(
+        int schemaId,
+        Executor executor)
+    {
+        AtomicInteger retryAttempts = new AtomicInteger();
+        CompletableFuture<CachedSchema> newFuture = new CompletableFuture<>();
+        CompletableFuture<CachedSchema> existing = cachedSchemas.get(schemaId);
+        if (existing != null && existing.isDone())
+        {
+            try
+            {
+                CachedSchema cachedSchema = existing.get();
+                if (cachedSchema != null)
+                {
+                    retryAttempts = cachedSchema.retryAttempts;
+                }
+            }
+            catch (Throwable ex)
+            {
+                existing.completeExceptionally(ex);
+            }
+        }
+        CompletableFuture<CachedSchema> future = cachedSchemas.merge(schemaId, newFuture, (v1, v2) ->
+            v1.getNow(CachedSchema.IN_PROGRESS).schema == null ? v2 : v1);
+        if (future == newFuture)
+        {
+            SchemaFetch<CachedSchema> fetch = new SchemaFetch<>(newFuture);
+            schemaFetches.put(schemaId, fetch);
+            recordCacheMisses.accept(1L);
+
+            AtomicInteger attempts = retryAttempts;
+            executor.execute(() -> fetchSchema(schemaId, attempts, fetch));
+        }
+        assert future != null;
+        return future;
+    }
+
+    private void fetchSchema(
+        int schemaId,
+        AtomicInteger retryAttempts,
+        SchemaFetch<CachedSchema> fetch)
+    {
+        CompletableFuture<CachedSchema> future = fetch.future;
+        try
+        {
+            String response = sendHttpRequest(SCHEMA_PATH.formatted(schemaId));
+            if (response == null)
+            {
+                if (retryAttempts.getAndIncrement() == 0)
+                {
+                    fetch.events = () -> event.onUnretrievableSchemaId(catalogId, schemaId);
+                }
+                future.complete(new CachedSchema(null, retryAttempts));
+            }
+            else
+            {
+                if (retryAttempts.getAndSet(0) > 0)
+                {
+                    fetch.events = () -> event.onRetrievableSchemaId(catalogId, schemaId);
+                }
+                String resolved = registerRequest.resolveSchemaResponse(response);
+                if (resolved != null)
+                {
+                    cache.persistSchema(schemaId, resolved);
+                }
+                future.complete(new CachedSchema(resolved, retryAttempts));
+            }
+        }
+        catch (Throwable ex)
+        {
+            future.completeExceptionally(ex);
+        }
+    }
+
+    private String resolveSchema(
+        int schemaId,
+        CompletableFuture<CachedSchema> future)
+    {
+        String schema = null;
+
+        SchemaFetch<CachedSchema> fetch = schemaFetches.get(schemaId);
+        if (fetch != null && fetch.future == future)
+        {
+            schemaFetches.remove(schemaId);
+            recordFetchDuration.accept(System.nanoTime() - fetch.startedAt);
+            fetch.events.run();
+        }
+        else
+        {
+            recordCacheHits.accept(1L);
+        }
+
+        try
+        {
+            schema = future.get().schema;
+            if (schema != null)
+            {
+                schemas.put(schemaId, schema);
+            }
+        }
+        catch (Throwable ex)
+        {
+            future.completeExceptionally(ex);
+        }
+        return schema;
+    }
+
+    private CompletableFuture<CachedSchemaId> supplySchemaId(
+        int schemaKey,
+        String subject,
+        String version,
+        Executor executor)
+    {
+        CachedSchemaId cachedSchemaId = null;
+        AtomicInteger retryAttempts = new AtomicInteger();
+        CompletableFuture<CachedSchemaId> newFuture = new CompletableFuture<>();
+        CompletableFuture<CachedSchemaId> existing = cachedSchemaIds.get(schemaKey);
+        if (existing != null && existing.isDone())
+        {
+            try
+            {
+                cachedSchemaId = existing.get();
+                if (cachedSchemaId != null)
+                {
+                    retryAttempts = cachedSchemaId.retryAttempts;
+                }
+            }
+            catch (Throwable ex)
+            {
+                existing.completeExceptionally(ex);
+            }
+        }
+        CompletableFuture<CachedSchemaId> future = cachedSchemaIds.merge(schemaKey, newFuture, (v1, v2) ->
+            v1.getNow(IN_PROGRESS).retry() &&
+                (v1.getNow(IN_PROGRESS).id == NO_SCHEMA_ID || v1.getNow(IN_PROGRESS).expired(maxAgeMillis)) ? v2 : v1);
+        if (future == newFuture)
+        {
+            SchemaFetch<CachedSchemaId> fetch = new SchemaFetch<>(newFuture);
+            schemaIdFetches.put(schemaKey, fetch);
+            recordCacheMisses.accept(1L);
+
+            CachedSchemaId stale = cachedSchemaId;
+            AtomicInteger attempts = retryAttempts;
+            executor.execute(() -> fetchSchemaId(schemaKey, subject, version, stale, attempts, fetch));
+        }
+        assert future != null;
+        return future;
+    }
+
+    private void fetchSchemaId(
+        int schemaKey,
+        String subject,
+        String version,
+        CachedSchemaId cachedSchemaId,
+        AtomicInteger retryAttempts,
+        SchemaFetch<CachedSchemaId> fetch)
+    {
+        CompletableFuture<CachedSchemaId> future = fetch.future;
+        long retryAfter = RESET_RETRY_DELAY_MS_DEFAULT;
+        try
+        {
+            String response = sendHttpRequest(SUBJECT_VERSION_PATH.formatted(subject, version));
+            if (response == null)
+            {
+                if (retryAttempts.getAndIncrement() == 0)
+                {
+                    retryAfter = RETRY_INITIAL_DELAY_MS_DEFAULT;
+                    int staleId = cachedSchemaId != null ? cachedSchemaId.id : NO_SCHEMA_ID;
+                    fetch.events = () ->
+                    {
+                        event.onUnretrievableSchemaSubjectVersion(catalogId, subject, version);
+                        if (staleId != NO_SCHEMA_ID)
+                        {
+                            event.onUnretrievableSchemaSubjectVersionStaleSchema(catalogId, subject, version, staleId);
+                        }
+                    };
+                }
+
+                if (cachedSchemaId != null)
+                {
+                    if (cachedSchemaId.retryAfter != RESET_RETRY_DELAY_MS_DEFAULT)
+                    {
+                        retryAfter = Math.min(cachedSchemaId.retryAfter << 1, maxAgeMillis);
+                    }
+                    future.complete(new CachedSchemaId(cachedSchemaId.timestamp, cachedSchemaId.id,
+                        retryAttempts, retryAfter));
+                }
+                else
+                {
+                    future.complete(new CachedSchemaId(System.currentTimeMillis(), NO_SCHEMA_ID,
+                        retryAttempts, retryAfter));
+                }
+            }
+            else
+            {
+                if (retryAttempts.getAndSet(0) > 0)
+                {
+                    fetch.events = () -> event.onRetrievableSchemaSubjectVersion(catalogId, subject, version);
+                }
+                int resolved = registerRequest.resolveResponse(response);
+                if (resolved != NO_SCHEMA_ID)
+                {
+                    cache.persistSchemaId(schemaKey, subject, version, resolved);
+                }
+                future.complete(new CachedSchemaId(System.currentTimeMillis(), resolved,
+                    retryAttempts, retryAfter));
+            }
+        }
+        catch (Throwable ex)
+        {
+            future.completeExceptionally(ex);
+        }
+    }
+
+    private int resolveSchemaId(
+        int schemaKey,
+        CompletableFuture<CachedSchemaId> future)
+    {
+        int schemaId = NO_SCHEMA_ID;
+
+        SchemaFetch<CachedSchemaId> fetch = schemaIdFetches.get(schemaKey);
+        if (fetch != null && fetch.future == future)
+        {
+            schemaIdFetches.remove(schemaKey);
+            recordFetchDuration.accept(System.nanoTime() - fetch.startedAt);
+            fetch.events.run();
+        }
+        else
+        {
+            recordCacheHits.accept(1L);
+        }
+
+        try
+        {
+            CachedSchemaId cachedSchemaId = future.get();
+            schemaId = cachedSchemaId.id;
+            if (schemaId != NO_SCHEMA_ID)
+            {
+                schemaIds.put(schemaKey, cachedSchemaId);
+            }
+        }
+        catch (Throwable ex)
+        {
+            future.completeExceptionally(ex);
+        }
+        return schemaId;
+    }
+
+    private void prefetch(
+        int schemaKey,
+        SubjectVersion subjectVersion)
+    {
+        String response = sendHttpRequest(SUBJECT_VERSION_PATH.formatted(subjectVersion.subject(), subjectVersion.version()));
+
+        int schemaId = response != null ? registerRequest.resolveResponse(response) : NO_SCHEMA_ID;
+        if (schemaId != NO_SCHEMA_ID)
+        {
+            cachedSchemaIds.put(schemaKey, CompletableFuture.completedFuture(CachedSchemaId.resolved(schemaId)));
+            cache.persistSchemaId(schemaKey, subjectVersion.subject(), subjectVersion.version(), schemaId);
+
+            if (!cachedSchemas.containsKey(schemaId))
+            {
+                response = sendHttpRequest(SCHEMA_PATH.formatted(schemaId));
+
+                String schema = response != null ? registerRequest.resolveSchemaResponse(response) : null;
+                if (schema != null)
+                {
+                    cachedSchemas.putIfAbsent(schemaId, CompletableFuture.completedFuture(new CachedSchema(schema)));
+                    cache.persistSchema(schemaId, schema);
+                }
+            }
+        }
+    }
+
     private String sendHttpRequest(
         String path)
     {
@@ -586,4 +813,19 @@ public class SchemaRegistryCatalogHandler implements CatalogHandler
 
         return keys;
     }
+
+    private static final class SchemaFetch<T>
+    {
+        private final CompletableFuture<T> future;
+        private final long startedAt;
+        private volatile Runnable events;
+
+        private SchemaFetch(
+            CompletableFuture<T> future)
+        {
+            this.future = future;
+            this.startedAt = System.nanoTime();
+            this.events = NO_EVENTS;
+        }
+    }
 }
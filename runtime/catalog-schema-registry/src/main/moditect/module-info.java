@@ -28,4 +28,7 @@ module io.aklivity.zilla.runtime.catalog.schema.registry
 
     provides io.aklivity.zilla.runtime.engine.event.EventFormatterFactorySpi
         with io.aklivity.zilla.runtime.catalog.schema.registry.internal.events.SchemaRegistryEventFormatterFactory;
+
+    provides io.aklivity.zilla.runtime.engine.metrics.MetricGroupFactorySpi
+        with io.aklivity.zilla.runtime.catalog.schema.registry.internal.metrics.SchemaRegistryMetricGroupFactorySpi;
 }
@@ -14,18 +14,43 @@
  */
 package io.aklivity.zilla.runtime.catalog.schema.registry.internal;
 
+import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.SchemaRegistryConfigurationTest.SCHEMA_REGISTRY_CACHE_DIRECTORY_NAME;
+import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.SchemaRegistryConfigurationTest.SCHEMA_REGISTRY_CACHE_PERSISTENT_NAME;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.UUID;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import io.aklivity.zilla.runtime.catalog.schema.registry.config.SchemaRegistryOptionsConfig;
 import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
 import io.aklivity.zilla.runtime.engine.catalog.Catalog;
+import io.aklivity.zilla.runtime.engine.catalog.CatalogContext;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogFactory;
+import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
+import io.aklivity.zilla.runtime.engine.config.CatalogConfig;
 
 public class SchemaRegistryCatalogFactoryTest
 {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void shouldLoadAndCreate()
     {
@@ -36,4 +61,62 @@ public class SchemaRegistryCatalogFactoryTest
         assertThat(catalog, instanceOf(SchemaRegistryCatalog.class));
         assertEquals(SchemaRegistryCatalogFactorySpi.TYPE, catalog.name());
     }
+
+    @Test
+    public void shouldKeyPersistentCacheOnRegistryUrl() throws Exception
+    {
+        String url = unusedUrl();
+        String movedUrl = unusedUrl();
+        Path directory = folder.getRoot().toPath();
+        Path schemas = directory
+            .resolve(SchemaRegistryCatalogFactorySpi.TYPE)
+            .resolve("test")
+            .resolve("test0")
+            .resolve(UUID.nameUUIDFromBytes(url.getBytes(UTF_8)).toString())
+            .resolve("schemas");
+        Files.createDirectories(schemas);
+        Files.writeString(schemas.resolve("9"), "{\"type\": \"string\"}", UTF_8);
+
+        Properties properties = new Properties();
+        properties.setProperty(SCHEMA_REGISTRY_CACHE_DIRECTORY_NAME, directory.toString());
+        properties.setProperty(SCHEMA_REGISTRY_CACHE_PERSISTENT_NAME, "true");
+        Configuration config = new Configuration(properties);
+
+        EngineContext engine = mock(EngineContext.class);
+        when(engine.supplyEventWriter()).thenReturn(MessageConsumer.NOOP);
+        when(engine.clock()).thenReturn(Clock.systemUTC());
+
+        CatalogFactory factory = CatalogFactory.instantiate();
+        Catalog catalog = factory.create(SchemaRegistryCatalogFactorySpi.TYPE, config);
+        CatalogContext context = catalog.supply(engine);
+
+        CatalogHandler handler = context.attach(newCatalog(url));
+        assertEquals("{\"type\": \"string\"}", handler.resolveAsync(9).get());
+
+        CatalogHandler moved = context.attach(newCatalog(movedUrl));
+        assertNull(moved.resolveAsync(9).get());
+    }
+
+    private static CatalogConfig newCatalog(
+        String url)
+    {
+        return CatalogConfig.builder()
+            .namespace("test")
+            .name("test0")
+            .type(SchemaRegistryCatalogFactorySpi.TYPE)
+            .options(SchemaRegistryOptionsConfig::builder)
+                .url(url)
+                .context("default")
+                .maxAge(Duration.ofSeconds(1))
+                .build()
+            .build();
+    }
+
+    private static String unusedUrl() throws Exception
+    {
+        try (ServerSocket server = new ServerSocket(0))
+        {
+            return String.format("http://localhost:%d", server.getLocalPort());
+        }
+    }
 }
@@ -14,28 +14,57 @@
  */
 package io.aklivity.zilla.runtime.catalog.schema.registry.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 
 import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import io.aklivity.zilla.runtime.catalog.schema.registry.config.SchemaRegistryOptionsConfig;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.config.SchemaRegistryCatalogConfig;
+import io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.SchemaRegistryCache;
 import io.aklivity.zilla.runtime.catalog.schema.registry.internal.handler.SchemaRegistryCatalogHandler;
+import io.aklivity.zilla.runtime.catalog.schema.registry.internal.metrics.SchemaRegistryCacheHitsMetric;
+import io.aklivity.zilla.runtime.catalog.schema.registry.internal.metrics.SchemaRegistryCacheMissesMetric;
+import io.aklivity.zilla.runtime.catalog.schema.registry.internal.metrics.SchemaRegistryFetchDurationMetric;
 import io.aklivity.zilla.runtime.engine.EngineConfiguration;
 import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
 import io.aklivity.zilla.runtime.engine.config.CatalogConfig;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
 import io.aklivity.zilla.runtime.engine.model.function.ValueConsumer;
 
 public class SchemaRegistryCatalogHandlerTest
 {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
     private SchemaRegistryCatalogConfig catalogConfig;
     private EngineContext context = mock(EngineContext.class);
     private EngineConfiguration config = new EngineConfiguration(new Properties());
@@ -110,4 +139,120 @@ public class SchemaRegistryCatalogHandlerTest
 
         assertEquals(9, schemaId);
     }
+
+    @Test
+    public void shouldResolveSchemaIdAsync() throws Exception
+    {
+        MessageConsumer eventWriter = mock(MessageConsumer.class);
+        when(context.supplyEventWriter()).thenReturn(eventWriter);
+        when(context.clock()).thenReturn(Clock.systemUTC());
+
+        LongArrayList hits = new LongArrayList();
+        LongArrayList misses = new LongArrayList();
+        LongArrayList fetches = new LongArrayList();
+        Queue<Runnable> tasks = new ArrayDeque<>();
+
+        CatalogConfig catalog = newCatalog(unusedUrl());
+        SchemaRegistryCatalogConfig catalogConfig = newCatalogConfig(catalog, new SchemaRegistryCache(null, tasks::add),
+            hits, misses, fetches);
+        SchemaRegistryCatalogHandler handler = new SchemaRegistryCatalogHandler(config, catalogConfig, context);
+
+        CompletableFuture<Integer> resolving = handler.resolveAsync("items-value", "latest");
+
+        assertFalse(resolving.isDone());
+        assertEquals(1, tasks.size());
+        assertEquals(1, misses.size());
+
+        Thread fetcher = new Thread(tasks.poll());
+        fetcher.start();
+        fetcher.join();
+
+        assertTrue(resolving.isDone());
+        verify(eventWriter, never()).accept(anyInt(), any(DirectBuffer.class), anyInt(), anyInt());
+
+        CompletableFuture<Integer> resolved = handler.resolveAsync("items-value", "latest");
+
+        assertTrue(resolved.isDone());
+        assertEquals(CatalogHandler.NO_SCHEMA_ID, resolved.get().intValue());
+        assertEquals(0, tasks.size());
+        assertEquals(1, fetches.size());
+        assertEquals(0, hits.size());
+        verify(eventWriter, times(1)).accept(anyInt(), any(DirectBuffer.class), anyInt(), anyInt());
+    }
+
+    @Test
+    public void shouldResolvePersistedSchemaAsync() throws Exception
+    {
+        Path directory = folder.getRoot().toPath();
+        Files.createDirectories(directory.resolve("schemas"));
+        Files.writeString(directory.resolve("schemas").resolve("9"), "{\"type\": \"string\"}", UTF_8);
+
+        LongArrayList hits = new LongArrayList();
+        LongArrayList misses = new LongArrayList();
+        LongArrayList fetches = new LongArrayList();
+        Queue<Runnable> tasks = new ArrayDeque<>();
+
+        CatalogConfig catalog = newCatalog(unusedUrl());
+        SchemaRegistryCatalogConfig catalogConfig = newCatalogConfig(catalog, new SchemaRegistryCache(directory, tasks::add),
+            hits, misses, fetches);
+        SchemaRegistryCatalogHandler handler = new SchemaRegistryCatalogHandler(config, catalogConfig, context);
+
+        CompletableFuture<String> resolved = handler.resolveAsync(9);
+
+        assertTrue(resolved.isDone());
+        assertEquals("{\"type\": \"string\"}", resolved.get());
+        assertEquals(0, tasks.size());
+        assertEquals(1, hits.size());
+        assertEquals(0, misses.size());
+
+        assertNull(handler.resolveAsync(CatalogHandler.NO_SCHEMA_ID).get());
+    }
+
+    private SchemaRegistryCatalogConfig newCatalogConfig(
+        CatalogConfig catalog,
+        SchemaRegistryCache cache,
+        LongArrayList hits,
+        LongArrayList misses,
+        LongArrayList fetches)
+    {
+        catalog.id = 1L;
+        catalog.resolveId = name -> name.hashCode();
+        catalog.metricIds = new long[] {
+            SchemaRegistryCacheHitsMetric.NAME.hashCode(),
+            SchemaRegistryCacheMissesMetric.NAME.hashCode(),
+            SchemaRegistryFetchDurationMetric.NAME.hashCode()
+        };
+
+        when(context.supplyMetricWriter(Metric.Kind.COUNTER, 1L, SchemaRegistryCacheHitsMetric.NAME.hashCode()))
+            .thenReturn(hits::addLong);
+        when(context.supplyMetricWriter(Metric.Kind.COUNTER, 1L, SchemaRegistryCacheMissesMetric.NAME.hashCode()))
+            .thenReturn(misses::addLong);
+        when(context.supplyMetricWriter(Metric.Kind.HISTOGRAM, 1L, SchemaRegistryFetchDurationMetric.NAME.hashCode()))
+            .thenReturn(fetches::addLong);
+
+        return new SchemaRegistryCatalogConfig(SchemaRegistryCatalogFactorySpi.TYPE, context, catalog, cache);
+    }
+
+    private static CatalogConfig newCatalog(
+        String url)
+    {
+        return CatalogConfig.builder()
+            .namespace("test")
+            .name("test0")
+            .type(SchemaRegistryCatalogFactorySpi.TYPE)
+            .options(SchemaRegistryOptionsConfig::builder)
+                .url(url)
+                .context("default")
+                .maxAge(Duration.ofSeconds(1))
+                .build()
+            .build();
+    }
+
+    private static String unusedUrl() throws Exception
+    {
+        try (ServerSocket server = new ServerSocket(0))
+        {
+            return String.format("http://localhost:%d", server.getLocalPort());
+        }
+    }
 }
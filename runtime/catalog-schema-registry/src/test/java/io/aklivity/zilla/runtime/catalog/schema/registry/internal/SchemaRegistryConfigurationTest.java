@@ -0,0 +1,56 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.catalog.schema.registry.internal;
+
+import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.SchemaRegistryConfiguration.SCHEMA_REGISTRY_CACHE_DIRECTORY;
+import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.SchemaRegistryConfiguration.SCHEMA_REGISTRY_CACHE_PERSISTENT;
+import static io.aklivity.zilla.runtime.catalog.schema.registry.internal.SchemaRegistryConfiguration.SCHEMA_REGISTRY_CACHE_PREFETCH;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Properties;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.engine.Configuration;
+
+public class SchemaRegistryConfigurationTest
+{
+    public static final String SCHEMA_REGISTRY_CACHE_DIRECTORY_NAME = "zilla.catalog.schema.registry.cache.directory";
+    public static final String SCHEMA_REGISTRY_CACHE_PERSISTENT_NAME = "zilla.catalog.schema.registry.cache.persistent";
+    public static final String SCHEMA_REGISTRY_CACHE_PREFETCH_NAME = "zilla.catalog.schema.registry.cache.prefetch";
+
+    @Test
+    public void shouldVerifyConstants() throws Exception
+    {
+        assertEquals(SCHEMA_REGISTRY_CACHE_DIRECTORY.name(), SCHEMA_REGISTRY_CACHE_DIRECTORY_NAME);
+        assertEquals(SCHEMA_REGISTRY_CACHE_PERSISTENT.name(), SCHEMA_REGISTRY_CACHE_PERSISTENT_NAME);
+        assertEquals(SCHEMA_REGISTRY_CACHE_PREFETCH.name(), SCHEMA_REGISTRY_CACHE_PREFETCH_NAME);
+    }
+
+    @Test
+    public void shouldPrefetchOnlyWhenPersistent() throws Exception
+    {
+        Properties properties = new Properties();
+        assertFalse(new SchemaRegistryConfiguration(new Configuration(properties)).cachePrefetch());
+
+        properties.setProperty(SCHEMA_REGISTRY_CACHE_PERSISTENT_NAME, "true");
+        assertTrue(new SchemaRegistryConfiguration(new Configuration(properties)).cachePrefetch());
+
+        properties.setProperty(SCHEMA_REGISTRY_CACHE_PREFETCH_NAME, "false");
+        assertFalse(new SchemaRegistryConfiguration(new Configuration(properties)).cachePrefetch());
+    }
+}
@@ -16,6 +16,8 @@
 package io.aklivity.zilla.runtime.engine;
 
 import static io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout.BUCKETS;
+import static io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout.MAX_PRECISION;
+import static io.aklivity.zilla.runtime.engine.internal.stream.StreamId.EXTERNAL_INDEX;
 import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.stream.Collectors.toList;
 import static org.agrona.LangUtil.rethrowUnchecked;
@@ -119,6 +121,19 @@ public final class Engine implements Collector, AutoCloseable
             .build();
         int workerCount = info.workerCount();
 
+        if (workerCount > EXTERNAL_INDEX)
+        {
+            throw new IllegalArgumentException(String.format("workers %d exceeds maximum %d", workerCount, EXTERNAL_INDEX));
+        }
+
+        int histogramPrecision = config.histogramPrecision();
+
+        if (histogramPrecision < 0 || histogramPrecision > MAX_PRECISION)
+        {
+            throw new IllegalArgumentException(String.format("histogram precision %d outside range [0, %d]",
+                histogramPrecision, MAX_PRECISION));
+        }
+
         LabelManager labels = new LabelManager(config.directory());
         Int2ObjectHashMap<ToIntFunction<KindConfig>> maxWorkersByBindingType = new Int2ObjectHashMap<>();
 
@@ -158,7 +173,8 @@ public final class Engine implements Collector, AutoCloseable
             EngineWorker worker =
                 new EngineWorker(config, tasks, labels, errorHandler, tuning::affinity, bindings, exporters,
                     guards, vaults, catalogs, models, metricGroups, this, this::supplyEventReader,
-                    eventFormatterFactory, workerIndex, readonly, this::process);
+                    eventFormatterFactory, workerIndex, readonly, this::process, this::wakeupWorker,
+                    this::queueDepth);
             workers.add(worker);
         }
         this.workers = workers;
@@ -226,6 +242,21 @@ public final class Engine implements Collector, AutoCloseable
         manager.process(config);
     }
 
+    private void wakeupWorker(
+        int index)
+    {
+        if (index < workers.size())
+        {
+            workers.get(index).wakeup();
+        }
+    }
+
+    private long queueDepth(
+        int index)
+    {
+        return index < workers.size() ? workers.get(index).queueDepth() : 0L;
+    }
+
     public void start() throws Exception
     {
         for (EngineWorker worker : workers)
@@ -394,8 +425,9 @@ public final class Engine implements Collector, AutoCloseable
         long bindingId,
         long metricId)
     {
-        LongSupplier[] result = new LongSupplier[BUCKETS];
-        for (int i = 0; i < BUCKETS; i++)
+        final int buckets = BUCKETS << histogramPrecision();
+        LongSupplier[] result = new LongSupplier[buckets];
+        for (int i = 0; i < buckets; i++)
         {
             final int index = i;
             result[index] = () -> aggregateHistogramBucketValue(bindingId, metricId, index);
@@ -417,6 +449,54 @@ public final class Engine implements Collector, AutoCloseable
         return result;
     }
 
+    @Override
+    public int histogramPrecision()
+    {
+        return config.histogramPrecision();
+    }
+
+    @Override
+    public LongSupplier histogramCount(
+        long bindingId,
+        long metricId)
+    {
+        return () -> aggregateHistogramCountValue(bindingId, metricId);
+    }
+
+    private long aggregateHistogramCountValue(
+        long bindingId,
+        long metricId)
+    {
+        long result = 0L;
+        for (EngineWorker worker : workers)
+        {
+            LongSupplier reader = worker.supplyHistogramCount(bindingId, metricId);
+            result += reader.getAsLong();
+        }
+        return result;
+    }
+
+    @Override
+    public LongSupplier histogramSum(
+        long bindingId,
+        long metricId)
+    {
+        return () -> aggregateHistogramSumValue(bindingId, metricId);
+    }
+
+    private long aggregateHistogramSumValue(
+        long bindingId,
+        long metricId)
+    {
+        long result = 0L;
+        for (EngineWorker worker : workers)
+        {
+            LongSupplier reader = worker.supplyHistogramSum(bindingId, metricId);
+            result += reader.getAsLong();
+        }
+        return result;
+    }
+
     // required for testing
     public LongConsumer histogramWriter(
         long bindingId,
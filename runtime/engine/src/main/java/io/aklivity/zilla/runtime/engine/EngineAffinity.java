@@ -15,16 +15,18 @@
  */
 package io.aklivity.zilla.runtime.engine;
 
+import java.util.BitSet;
+
 final class EngineAffinity
 {
     final String namespace;
     final String binding;
-    final long mask;
+    final BitSet mask;
 
     EngineAffinity(
         String namespace,
         String binding,
-        long mask)
+        BitSet mask)
     {
         this.namespace = namespace;
         this.binding = binding;
@@ -17,6 +17,7 @@ package io.aklivity.zilla.runtime.engine;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -63,6 +64,14 @@ public class EngineBuilder
         String namespace,
         String binding,
         long mask)
+    {
+        return affinity(namespace, binding, BitSet.valueOf(new long[] { mask }));
+    }
+
+    public EngineBuilder affinity(
+        String namespace,
+        String binding,
+        BitSet mask)
     {
         affinities.add(new EngineAffinity(namespace, binding, mask));
         return this;
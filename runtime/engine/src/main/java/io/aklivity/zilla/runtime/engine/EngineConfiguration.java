@@ -57,9 +57,13 @@ public class EngineConfiguration extends Configuration
     public static final IntPropertyDef ENGINE_WORKER_CAPACITY;
     public static final IntPropertyDef ENGINE_BUFFER_POOL_CAPACITY;
     public static final IntPropertyDef ENGINE_BUFFER_SLOT_CAPACITY;
+    public static final IntPropertyDef ENGINE_BUFFER_SLOT_MIN_CAPACITY;
     public static final IntPropertyDef ENGINE_STREAMS_BUFFER_CAPACITY;
+    public static final BooleanPropertyDef ENGINE_STREAMS_CHANNELS;
+    public static final BooleanPropertyDef ENGINE_AFFINITY_BALANCED;
     public static final IntPropertyDef ENGINE_EVENTS_BUFFER_CAPACITY;
     public static final IntPropertyDef ENGINE_COUNTERS_BUFFER_CAPACITY;
+    public static final IntPropertyDef ENGINE_HISTOGRAM_PRECISION;
     public static final IntPropertyDef ENGINE_BUDGETS_BUFFER_CAPACITY;
     public static final BooleanPropertyDef ENGINE_TIMESTAMPS;
     public static final IntPropertyDef ENGINE_MAXIMUM_MESSAGES_PER_READ;
@@ -69,6 +73,7 @@ public class EngineConfiguration extends Configuration
     public static final LongPropertyDef ENGINE_BACKOFF_MAX_YIELDS;
     public static final LongPropertyDef ENGINE_BACKOFF_MIN_PARK_NANOS;
     public static final LongPropertyDef ENGINE_BACKOFF_MAX_PARK_NANOS;
+    public static final BooleanPropertyDef ENGINE_BACKOFF_SELECT;
     public static final BooleanPropertyDef ENGINE_DRAIN_ON_CLOSE;
     public static final BooleanPropertyDef ENGINE_SYNTHETIC_ABORT;
     public static final LongPropertyDef ENGINE_ROUTED_DELAY_MILLIS;
@@ -104,13 +109,18 @@ public class EngineConfiguration extends Configuration
         ENGINE_WORKER_CAPACITY = config.property("worker.capacity", 64);
         ENGINE_BUFFER_POOL_CAPACITY = config.property("buffer.pool.capacity", EngineConfiguration::defaultBufferPoolCapacity);
         ENGINE_BUFFER_SLOT_CAPACITY = config.property("buffer.slot.capacity", 64 * 1024);
+        ENGINE_BUFFER_SLOT_MIN_CAPACITY = config.property("buffer.slot.min.capacity",
+                EngineConfiguration::defaultBufferSlotMinCapacity);
         ENGINE_STREAMS_BUFFER_CAPACITY = config.property("streams.buffer.capacity",
                 EngineConfiguration::defaultStreamsBufferCapacity);
+        ENGINE_STREAMS_CHANNELS = config.property("streams.channels", false);
+        ENGINE_AFFINITY_BALANCED = config.property("affinity.balanced", false);
         ENGINE_EVENTS_BUFFER_CAPACITY = config.property("events.buffer.capacity",
                 EngineConfiguration::defaultEventsBufferCapacity);
         ENGINE_BUDGETS_BUFFER_CAPACITY = config.property("budgets.buffer.capacity",
                 EngineConfiguration::defaultBudgetsBufferCapacity);
         ENGINE_COUNTERS_BUFFER_CAPACITY = config.property("counters.buffer.capacity", 1024 * 1024);
+        ENGINE_HISTOGRAM_PRECISION = config.property("histogram.precision", 0);
         ENGINE_TIMESTAMPS = config.property("timestamps", true);
         ENGINE_MAXIMUM_MESSAGES_PER_READ = config.property("maximum.messages.per.read", Integer.MAX_VALUE);
         ENGINE_MAXIMUM_EXPIRATIONS_PER_POLL = config.property("maximum.expirations.per.poll", Integer.MAX_VALUE);
@@ -119,6 +129,7 @@ public class EngineConfiguration extends Configuration
         ENGINE_BACKOFF_MAX_YIELDS = config.property("backoff.idle.strategy.max.yields", 64L);
         ENGINE_BACKOFF_MIN_PARK_NANOS = config.property("backoff.min.park.nanos", NANOSECONDS.toNanos(64L));
         ENGINE_BACKOFF_MAX_PARK_NANOS = config.property("backoff.max.park.nanos", MILLISECONDS.toNanos(100L));
+        ENGINE_BACKOFF_SELECT = config.property("backoff.select", false);
         ENGINE_DRAIN_ON_CLOSE = config.property("drain.on.close", false);
         ENGINE_SYNTHETIC_ABORT = config.property("synthetic.abort", false);
         ENGINE_ROUTED_DELAY_MILLIS = config.property("routed.delay.millis", 0L);
@@ -209,6 +220,11 @@ public class EngineConfiguration extends Configuration
         return ENGINE_BUFFER_SLOT_CAPACITY.getAsInt(this);
     }
 
+    public int bufferSlotMinCapacity()
+    {
+        return ENGINE_BUFFER_SLOT_MIN_CAPACITY.getAsInt(this);
+    }
+
     public int budgetsBufferCapacity()
     {
         return ENGINE_BUDGETS_BUFFER_CAPACITY.getAsInt(this);
@@ -219,6 +235,16 @@ public class EngineConfiguration extends Configuration
         return ENGINE_STREAMS_BUFFER_CAPACITY.getAsInt(this);
     }
 
+    public boolean streamsChannels()
+    {
+        return ENGINE_STREAMS_CHANNELS.getAsBoolean(this);
+    }
+
+    public boolean affinityBalanced()
+    {
+        return ENGINE_AFFINITY_BALANCED.getAsBoolean(this);
+    }
+
     public int eventsBufferCapacity()
     {
         return ENGINE_EVENTS_BUFFER_CAPACITY.getAsInt(this);
@@ -229,6 +255,11 @@ public class EngineConfiguration extends Configuration
         return ENGINE_COUNTERS_BUFFER_CAPACITY.getAsInt(this);
     }
 
+    public int histogramPrecision()
+    {
+        return ENGINE_HISTOGRAM_PRECISION.getAsInt(this);
+    }
+
     public int maximumMessagesPerRead()
     {
         return ENGINE_MAXIMUM_MESSAGES_PER_READ.getAsInt(this);
@@ -269,6 +300,11 @@ public class EngineConfiguration extends Configuration
         return ENGINE_BACKOFF_MAX_PARK_NANOS.getAsLong(this);
     }
 
+    public boolean backoffSelect()
+    {
+        return ENGINE_BACKOFF_SELECT.getAsBoolean(this);
+    }
+
     public boolean drainOnClose()
     {
         return ENGINE_DRAIN_ON_CLOSE.getAsBoolean(this);
@@ -350,6 +386,12 @@ public class EngineConfiguration extends Configuration
         return ENGINE_BUFFER_SLOT_CAPACITY.get(config) * ENGINE_WORKER_CAPACITY.getAsInt(config);
     }
 
+    private static int defaultBufferSlotMinCapacity(
+        Configuration config)
+    {
+        return Math.min(ENGINE_BUFFER_SLOT_CAPACITY.get(config), 1024);
+    }
+
     private static int defaultStreamsBufferCapacity(
         Configuration config)
     {
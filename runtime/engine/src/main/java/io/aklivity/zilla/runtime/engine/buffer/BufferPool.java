@@ -30,6 +30,20 @@ public interface BufferPool
      */
     int slotCapacity();
 
+    /**
+     * Returns the capacity of the given slot, which may be less than {@link #slotCapacity()}
+     * when acquired or resized for a smaller capacity
+     *
+     * @param slot  reference to a previously acquired slot
+     *
+     * @return the capacity of the slot
+     */
+    default int slotCapacity(
+        int slot)
+    {
+        return slotCapacity();
+    }
+
     /**
      * Reserves a slot for use by the given stream
      *
@@ -39,6 +53,38 @@ public interface BufferPool
      */
     int acquire(long streamId);
 
+    /**
+     * Reserves a slot for use by the given stream, with at least the requested capacity
+     *
+     * @param streamId  the stream identifier
+     * @param minCapacity  the minimum capacity of the slot
+     *
+     * @return  reference to the acquired slot, or {@code NO_SLOT} if no slot of sufficient capacity is available
+     */
+    default int acquire(
+        long streamId,
+        int minCapacity)
+    {
+        return minCapacity <= slotCapacity() ? acquire(streamId) : NO_SLOT;
+    }
+
+    /**
+     * Grows or shrinks a slot to at least the requested capacity, preserving slot content up to the
+     * smaller of the current and requested capacity
+     *
+     * @param slot  reference to a previously acquired slot
+     * @param minCapacity  the minimum capacity of the slot
+     *
+     * @return  reference to the resized slot, which may differ from the given slot, or {@code NO_SLOT}
+     *          if the requested capacity is not available, in which case the given slot is unchanged
+     */
+    default int resize(
+        int slot,
+        int minCapacity)
+    {
+        return minCapacity <= slotCapacity() ? slot : NO_SLOT;
+    }
+
     /**
      * Returns a buffer which can be used to write data into the given slot
      *
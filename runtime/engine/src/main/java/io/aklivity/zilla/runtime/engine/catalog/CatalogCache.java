@@ -0,0 +1,211 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.catalog;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+public class CatalogCache<S, I>
+{
+    private static final String SCHEMAS_DIRECTORY = "schemas";
+    private static final String SUBJECTS_DIRECTORY = "subjects";
+    private static final String TEMP_PREFIX = ".";
+    private static final DirectoryStream.Filter<Path> CACHED_FILES = p -> !p.getFileName().toString().startsWith(TEMP_PREFIX);
+
+    public final ConcurrentMap<Integer, CompletableFuture<S>> schemas;
+    public final ConcurrentMap<Integer, CompletableFuture<I>> schemaIds;
+    public final ConcurrentMap<Integer, SubjectVersion> subjects;
+
+    private final Path directory;
+    private final Executor executor;
+    private final Function<String, S> supplySchema;
+    private final IntFunction<I> supplySchemaId;
+    private final AtomicBoolean prefetched;
+
+    public CatalogCache(
+        Path directory,
+        Executor executor,
+        Function<String, S> supplySchema,
+        IntFunction<I> supplySchemaId)
+    {
+        this.schemas = new ConcurrentHashMap<>();
+        this.schemaIds = new ConcurrentHashMap<>();
+        this.subjects = new ConcurrentHashMap<>();
+        this.directory = directory;
+        this.executor = executor;
+        this.supplySchema = supplySchema;
+        this.supplySchemaId = supplySchemaId;
+        this.prefetched = new AtomicBoolean();
+
+        if (directory != null)
+        {
+            load();
+        }
+    }
+
+    public Executor executor()
+    {
+        return executor;
+    }
+
+    public boolean prefetch()
+    {
+        return !subjects.isEmpty() && prefetched.compareAndSet(false, true);
+    }
+
+    public CompletableFuture<Void> persistSchema(
+        int schemaId,
+        String schema)
+    {
+        return directory != null
+            ? CompletableFuture.runAsync(() ->
+                write(directory.resolve(SCHEMAS_DIRECTORY).resolve(Integer.toString(schemaId)), schema), executor)
+            : CompletableFuture.completedFuture(null);
+    }
+
+    public CompletableFuture<Void> persistSchemaId(
+        int schemaKey,
+        String subject,
+        String version,
+        int schemaId)
+    {
+        subjects.putIfAbsent(schemaKey, new SubjectVersion(subject, version));
+
+        return directory != null
+            ? CompletableFuture.runAsync(() ->
+                write(directory.resolve(SUBJECTS_DIRECTORY).resolve(Integer.toHexString(schemaKey)),
+                    String.join("\n", subject, version, Integer.toString(schemaId))), executor)
+            : CompletableFuture.completedFuture(null);
+    }
+
+    private void load()
+    {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory.resolve(SCHEMAS_DIRECTORY), CACHED_FILES))
+        {
+            for (Path file : files)
+            {
+                loadSchema(file);
+            }
+        }
+        catch (IOException ex)
+        {
+            // ignore, resolved from registry instead
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory.resolve(SUBJECTS_DIRECTORY), CACHED_FILES))
+        {
+            for (Path file : files)
+            {
+                loadSchemaId(file);
+            }
+        }
+        catch (IOException ex)
+        {
+            // ignore, resolved from registry instead
+        }
+    }
+
+    private void loadSchema(
+        Path file)
+    {
+        try
+        {
+            int schemaId = Integer.parseInt(file.getFileName().toString());
+            String schema = Files.readString(file, UTF_8);
+            schemas.put(schemaId, CompletableFuture.completedFuture(supplySchema.apply(schema)));
+        }
+        catch (IOException | NumberFormatException ex)
+        {
+            // ignore, resolved from registry instead
+        }
+    }
+
+    private void loadSchemaId(
+        Path file)
+    {
+        try
+        {
+            int schemaKey = Integer.parseUnsignedInt(file.getFileName().toString(), 16);
+            List<String> lines = Files.readAllLines(file, UTF_8);
+            if (lines.size() == 3)
+            {
+                int schemaId = Integer.parseInt(lines.get(2));
+                subjects.put(schemaKey, new SubjectVersion(lines.get(0), lines.get(1)));
+
+                // treated as fresh on load, refreshed in the background by prefetch
+                schemaIds.put(schemaKey, CompletableFuture.completedFuture(supplySchemaId.apply(schemaId)));
+            }
+        }
+        catch (IOException | NumberFormatException ex)
+        {
+            // ignore, resolved from registry instead
+        }
+    }
+
+    private static void write(
+        Path file,
+        String content)
+    {
+        Path temp = null;
+        try
+        {
+            Files.createDirectories(file.getParent());
+            temp = Files.createTempFile(file.getParent(), TEMP_PREFIX, null);
+            Files.writeString(temp, content, UTF_8);
+            Files.move(temp, file, ATOMIC_MOVE, REPLACE_EXISTING);
+        }
+        catch (IOException ex)
+        {
+            delete(temp);
+        }
+    }
+
+    private static void delete(
+        Path temp)
+    {
+        try
+        {
+            if (temp != null)
+            {
+                Files.deleteIfExists(temp);
+            }
+        }
+        catch (IOException ex)
+        {
+            // ignore, cache is best effort
+        }
+    }
+
+    public record SubjectVersion(
+        String subject,
+        String version)
+    {
+    }
+}
@@ -15,6 +15,8 @@
  */
 package io.aklivity.zilla.runtime.engine.catalog;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.agrona.DirectBuffer;
 
 import io.aklivity.zilla.runtime.engine.model.function.ValueConsumer;
@@ -82,6 +84,19 @@ public interface CatalogHandler
         String subject,
         String version);
 
+    default CompletableFuture<String> resolveAsync(
+        int schemaId)
+    {
+        return CompletableFuture.completedFuture(resolve(schemaId));
+    }
+
+    default CompletableFuture<Integer> resolveAsync(
+        String subject,
+        String version)
+    {
+        return CompletableFuture.completedFuture(resolve(subject, version));
+    }
+
     default int resolve(
         DirectBuffer data,
         int index,
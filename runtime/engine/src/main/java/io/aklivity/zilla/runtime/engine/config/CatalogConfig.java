@@ -19,11 +19,14 @@ import static java.util.Objects.requireNonNull;
 import static java.util.function.Function.identity;
 
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 public class CatalogConfig
 {
     public transient long id;
     public transient long vaultId;
+    public transient ToLongFunction<String> resolveId;
+    public transient long[] metricIds;
 
     public final String namespace;
     public final String name;
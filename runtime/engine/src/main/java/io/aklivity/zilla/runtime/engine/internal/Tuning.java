@@ -15,6 +15,7 @@
  */
 package io.aklivity.zilla.runtime.engine.internal;
 
+import static io.aklivity.zilla.runtime.engine.internal.stream.StreamId.EXTERNAL_INDEX;
 import static java.nio.ByteOrder.nativeOrder;
 import static java.nio.file.StandardOpenOption.APPEND;
 import static java.nio.file.StandardOpenOption.CREATE_NEW;
@@ -29,15 +30,22 @@ import java.nio.channels.FileChannel.MapMode;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.BitSet;
 
 import org.agrona.IoUtil;
 import org.agrona.LangUtil;
 import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.LongHashSet;
 
 public final class Tuning implements AutoCloseable
 {
-    private final int available;
+    private static final BitSet EXTERNAL_MASK = externalMask();
+
+    private final int count;
+    private final BitSet available;
+    private final int words;
     private final Long2LongHashMap affinities;
+    private final LongHashSet externals;
     private final Path tuning;
 
     private MappedByteBuffer mappedByteBuf;
@@ -46,8 +54,12 @@ public final class Tuning implements AutoCloseable
         Path directory,
         int count)
     {
-        this.available = (1 << count) - 1;
+        this.count = count;
+        this.available = new BitSet(count);
+        this.available.set(0, count);
+        this.words = Math.max((count + Long.SIZE - 1) / Long.SIZE, 1);
         this.affinities = new Long2LongHashMap(-1L);
+        this.externals = new LongHashSet();
         this.tuning = directory.resolve("tuning");
     }
 
@@ -59,7 +71,7 @@ public final class Tuning implements AutoCloseable
             Files.createDirectories(tuning.getParent());
             Files.createFile(tuning);
 
-            mappedByteBuf = mapCreateReadWrite(tuning, 10 * 1024);
+            mappedByteBuf = mapCreateReadWrite(tuning, 10 * 1024 * words);
         }
         catch (IOException ex)
         {
@@ -69,10 +81,49 @@ public final class Tuning implements AutoCloseable
 
     public void affinity(
         long bindingId,
-        long mask)
+        BitSet mask)
     {
-        assert (mask & ~available) == 0 || mask == 1L << (Long.SIZE - 1);
+        assert mask.length() <= count || mask.equals(EXTERNAL_MASK);
 
+        if (mask.equals(EXTERNAL_MASK))
+        {
+            externals.add(bindingId);
+        }
+        else
+        {
+            externals.remove(bindingId);
+            writeAffinity(bindingId, mask);
+        }
+    }
+
+    public BitSet affinity(
+        long bindingId)
+    {
+        long offset = affinities.get(bindingId);
+
+        BitSet mask = (BitSet) available.clone();
+
+        if (externals.contains(bindingId))
+        {
+            mask = (BitSet) EXTERNAL_MASK.clone();
+        }
+        else if (offset != affinities.missingValue())
+        {
+            final long[] maskWords = new long[words];
+            for (int word = 0; word < words; word++)
+            {
+                maskWords[word] = mappedByteBuf.getLong((int) offset + word * Long.BYTES);
+            }
+            mask = BitSet.valueOf(maskWords);
+        }
+
+        return mask;
+    }
+
+    private void writeAffinity(
+        long bindingId,
+        BitSet mask)
+    {
         long offset = affinities.get(bindingId);
 
         if (offset == affinities.missingValue())
@@ -82,10 +133,10 @@ public final class Tuning implements AutoCloseable
                 offset = channel.position() + Long.BYTES;
 
                 ByteBuffer byteBuf = ByteBuffer
-                        .wrap(new byte[Long.BYTES + Long.BYTES])
+                        .wrap(new byte[Long.BYTES + Long.BYTES * words])
                         .order(nativeOrder());
                 byteBuf.putLong(bindingId);
-                byteBuf.putLong(0L);
+                byteBuf.position(byteBuf.limit());
                 byteBuf.flip();
 
                 while (byteBuf.hasRemaining())
@@ -105,15 +156,12 @@ public final class Tuning implements AutoCloseable
         offset = affinities.get(bindingId);
         assert offset != affinities.missingValue();
 
-        mappedByteBuf.putLong((int) offset, mask);
-    }
-
-    public long affinity(
-        long bindingId)
-    {
-        long offset = affinities.get(bindingId);
-
-        return offset != affinities.missingValue() ? mappedByteBuf.getLong((int) offset) : available;
+        final long[] maskWords = mask.toLongArray();
+        for (int word = 0; word < words; word++)
+        {
+            final long maskWord = word < maskWords.length ? maskWords[word] : 0L;
+            mappedByteBuf.putLong((int) offset + word * Long.BYTES, maskWord);
+        }
     }
 
     @Override
@@ -125,6 +173,12 @@ public final class Tuning implements AutoCloseable
         }
     }
 
+    private static BitSet externalMask()
+    {
+        final BitSet mask = new BitSet(EXTERNAL_INDEX + 1);
+        mask.set(EXTERNAL_INDEX);
+        return mask;
+    }
 
     private static MappedByteBuffer mapCreateReadWrite(
         Path file,
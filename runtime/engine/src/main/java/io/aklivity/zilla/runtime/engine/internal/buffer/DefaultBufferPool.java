@@ -15,7 +15,9 @@
  */
 package io.aklivity.zilla.runtime.engine.internal.buffer;
 
+import static java.lang.Integer.numberOfLeadingZeros;
 import static java.lang.Integer.numberOfTrailingZeros;
+import static org.agrona.BitUtil.align;
 import static org.agrona.BitUtil.isPowerOfTwo;
 
 import java.nio.ByteBuffer;
@@ -31,70 +33,131 @@ import org.agrona.concurrent.UnsafeBuffer;
 import io.aklivity.zilla.runtime.engine.buffer.BufferPool;
 
 /**
- * A chunk of shared memory for temporary storage of data. This is logically segmented into a set of
- * slots of equal size. Methods are provided for acquiring a slot, getting a poolBuffer that can be used
- * to store data in it, and releasing the slot once it is no longer needed.
+ * A chunk of shared memory for temporary storage of data. This is logically segmented into slots of
+ * power of two size classes, from the minimum slot capacity up to the slot capacity, using buddy allocation
+ * so that smaller slots are split from, and merged back into, larger slots on demand.
+ * Methods are provided for acquiring a slot, getting a poolBuffer that can be used to store data in it,
+ * resizing the slot, and releasing the slot once it is no longer needed.
+ * <p>
+ * The pool buffer is followed by a trailer with the owning stream id and size class of each minimum capacity
+ * unit, the number of acquired slots per size class, then the minimum slot capacity, slot capacity and slot count.
  * <b>Each instance of this class is assumed to be used by one and only one thread.</b>
  */
 public class DefaultBufferPool implements BufferPool
 {
+    private static final int METADATA_LENGTH = 3 * Integer.BYTES;
+
     private final MutableDirectBuffer slotBuffer = new UnsafeBuffer(new byte[0]);
 
     private final int slotCapacity;
+    private final int minSlotCapacity;
     private final int slotCount;
     private final AtomicBuffer poolBuffer;
     private final ByteBuffer slotByteBuffer;
 
-    private final int bitsPerSlot;
-    private final int hashMask;
-    private final BitSet used;
-    private final MutableInteger availableSlots;
+    private final int bitsPerUnit;
+    private final int maxClass;
+    private final BitSet[] available;
+    private final int[] availableCounts;
+    private final MutableInteger acquiredSlots;
     private final int usedIndex;
-
+    private final int classIndex;
+    private final int acquiredIndex;
 
     public DefaultBufferPool(
         int poolCapacity,
         int slotCapacity)
     {
-        this(slotCapacity, poolCapacity / slotCapacity,
-                ByteBuffer.allocate((slotCapacity + Long.BYTES) * poolCapacity / slotCapacity + Integer.BYTES));
+        this(poolCapacity, slotCapacity, slotCapacity);
+    }
+
+    public DefaultBufferPool(
+        int poolCapacity,
+        int slotCapacity,
+        int minSlotCapacity)
+    {
+        this(slotCapacity, minSlotCapacity, slotCount(poolCapacity, slotCapacity),
+                ByteBuffer.allocate(capacity(slotCapacity, minSlotCapacity, slotCount(poolCapacity, slotCapacity))));
+    }
+
+    public DefaultBufferPool(
+        int slotCapacity,
+        int slotCount,
+        ByteBuffer poolByteBuffer)
+    {
+        this(slotCapacity, slotCapacity, slotCount, poolByteBuffer);
     }
 
     public DefaultBufferPool(
         int slotCapacity,
+        int minSlotCapacity,
         int slotCount,
         ByteBuffer poolByteBuffer)
     {
-        if (!isZeroOrPowerOfTwo(slotCapacity))
+        if (!isPowerOfTwo(slotCapacity))
         {
             throw new IllegalArgumentException("slotCapacity is not a power of 2");
         }
+        if (!isPowerOfTwo(minSlotCapacity) || minSlotCapacity > slotCapacity)
+        {
+            throw new IllegalArgumentException("minSlotCapacity is not a power of 2 up to slotCapacity");
+        }
         if (!isZeroOrPowerOfTwo(slotCount))
         {
             throw new IllegalArgumentException("slotCount is not a power of 2");
         }
-        final int capacity = slotCapacity * slotCount;
-        final int trailerLength = Long.BYTES * slotCount + Integer.BYTES;
-        final int totalCapacity = capacity + trailerLength;
+        final int totalCapacity = capacity(slotCapacity, minSlotCapacity, slotCount);
         if (poolByteBuffer.capacity() != totalCapacity)
         {
             throw new IllegalArgumentException(String.format("poolBuffer capacity not equal to %x", totalCapacity));
         }
+        final int maxClass = numberOfTrailingZeros(slotCapacity) - numberOfTrailingZeros(minSlotCapacity);
+        final int unitCount = slotCount << maxClass;
+
         this.slotCapacity = slotCapacity;
+        this.minSlotCapacity = minSlotCapacity;
         this.slotCount = slotCount;
-        this.bitsPerSlot = numberOfTrailingZeros(slotCapacity);
-        this.hashMask = slotCount - 1;
+        this.bitsPerUnit = numberOfTrailingZeros(minSlotCapacity);
+        this.maxClass = maxClass;
         this.poolBuffer = new UnsafeBuffer(poolByteBuffer);
         this.slotByteBuffer = poolByteBuffer.duplicate();
 
-        this.used = new BitSet(slotCount);
-        this.availableSlots = new MutableInteger(slotCount);
-        this.usedIndex = capacity;
+        this.available = new BitSet[maxClass + 1];
+        for (int slotClass = 0; slotClass <= maxClass; slotClass++)
+        {
+            available[slotClass] = new BitSet(unitCount >> slotClass);
+        }
+        available[maxClass].set(0, slotCount);
+        this.availableCounts = new int[maxClass + 1];
+        availableCounts[maxClass] = slotCount;
+        this.acquiredSlots = new MutableInteger();
+
+        this.usedIndex = slotCapacity * slotCount;
+        this.classIndex = usedIndex + unitCount * Long.BYTES;
+        this.acquiredIndex = classIndex + align(unitCount, Integer.BYTES);
     }
 
+    public static int capacity(
+        int slotCapacity,
+        int minSlotCapacity,
+        int slotCount)
+    {
+        final int classCount = numberOfTrailingZeros(slotCapacity) - numberOfTrailingZeros(minSlotCapacity) + 1;
+        final int unitCount = slotCount << classCount - 1;
+        return slotCapacity * slotCount + unitCount * Long.BYTES + align(unitCount, Integer.BYTES) +
+            classCount * Integer.BYTES + METADATA_LENGTH;
+    }
+
+    @Override
     public int acquiredSlots()
     {
-        return used.cardinality();
+        return acquiredSlots.value;
+    }
+
+    public int acquiredSlots(
+        int slotCapacity)
+    {
+        return poolBuffer.getIntVolatile(acquiredIndex + (slotClass(slotCapacity) << 2));
     }
 
     public int slotCount()
@@ -102,38 +165,85 @@ public class DefaultBufferPool implements BufferPool
         return slotCount;
     }
 
+    public int minSlotCapacity()
+    {
+        return minSlotCapacity;
+    }
+
     @Override
     public int slotCapacity()
     {
         return slotCapacity;
     }
 
+    @Override
+    public int slotCapacity(
+        int slot)
+    {
+        assert used(slot);
+        return minSlotCapacity << slotClassAt(slot);
+    }
+
     @Override
     public int acquire(
         long streamId)
     {
-        if (availableSlots.value == 0)
-        {
-            return NO_SLOT;
-        }
-        int slot = Hashing.hash(streamId, hashMask);
-        while (used.get(slot))
+        return acquireClass(streamId, maxClass);
+    }
+
+    @Override
+    public int acquire(
+        long streamId,
+        int minCapacity)
+    {
+        return minCapacity <= slotCapacity ? acquireClass(streamId, slotClass(minCapacity)) : NO_SLOT;
+    }
+
+    @Override
+    public int resize(
+        int slot,
+        int minCapacity)
+    {
+        assert used(slot);
+
+        int newSlot = NO_SLOT;
+
+        if (minCapacity <= slotCapacity)
         {
-            slot = ++slot & hashMask;
+            final int slotClass = slotClassAt(slot);
+            final int newSlotClass = slotClass(minCapacity);
+
+            if (newSlotClass < slotClass)
+            {
+                shrink(slot, slotClass, newSlotClass);
+                newSlot = slot;
+            }
+            else if (newSlotClass == slotClass || grow(slot, slotClass, newSlotClass))
+            {
+                newSlot = slot;
+            }
+            else
+            {
+                final long streamId = poolBuffer.getLong(usedIndex + (slot << 3));
+                newSlot = acquireClass(streamId, newSlotClass);
+
+                if (newSlot != NO_SLOT)
+                {
+                    poolBuffer.putBytes(newSlot << bitsPerUnit, poolBuffer, slot << bitsPerUnit, minSlotCapacity << slotClass);
+                    release(slot);
+                }
+            }
         }
-        used.set(slot);
-        availableSlots.value--;
-        poolBuffer.putLongOrdered(usedIndex + (slot << 3), streamId);
 
-        return slot;
+        return newSlot;
     }
 
     @Override
     public MutableDirectBuffer buffer(
         int slot)
     {
-        assert used.get(slot);
-        slotBuffer.wrap(poolBuffer, slot << bitsPerSlot, slotCapacity);
+        assert used(slot);
+        slotBuffer.wrap(poolBuffer, slot << bitsPerUnit, minSlotCapacity << slotClassAt(slot));
         return slotBuffer;
     }
 
@@ -141,11 +251,11 @@ public class DefaultBufferPool implements BufferPool
     public ByteBuffer byteBuffer(
         int slot)
     {
-        assert used.get(slot);
-        final int slotOffset = slot << bitsPerSlot;
+        assert used(slot);
+        final int slotOffset = slot << bitsPerUnit;
         slotByteBuffer.clear();
         slotByteBuffer.position(slotOffset);
-        slotByteBuffer.limit(slotOffset + slotCapacity);
+        slotByteBuffer.limit(slotOffset + (minSlotCapacity << slotClassAt(slot)));
         return slotByteBuffer;
     }
 
@@ -154,9 +264,9 @@ public class DefaultBufferPool implements BufferPool
         int slot,
         int offset)
     {
-        assert used.get(slot);
-        final long slotAddressOffset = poolBuffer.addressOffset() + (slot << bitsPerSlot);
-        slotBuffer.wrap(slotAddressOffset + offset, slotCapacity);
+        assert used(slot);
+        final long slotAddressOffset = poolBuffer.addressOffset() + (slot << bitsPerUnit);
+        slotBuffer.wrap(slotAddressOffset + offset, minSlotCapacity << slotClassAt(slot));
         return slotBuffer;
     }
 
@@ -168,10 +278,23 @@ public class DefaultBufferPool implements BufferPool
     public void release(
         int slot)
     {
-        assert used.get(slot);
-        used.clear(slot);
-        availableSlots.value++;
+        assert used(slot);
+        int slotClass = slotClassAt(slot);
+        poolBuffer.putByte(classIndex + slot, (byte) 0);
         poolBuffer.putLongOrdered(usedIndex + (slot << 3), 0L);
+        acquiredSlots.value--;
+        onAcquired(slotClass, -1);
+
+        int block = slot >> slotClass;
+        while (slotClass < maxClass && available[slotClass].get(block ^ 1))
+        {
+            available[slotClass].clear(block ^ 1);
+            availableCounts[slotClass]--;
+            block >>= 1;
+            slotClass++;
+        }
+        available[slotClass].set(block);
+        availableCounts[slotClass]++;
     }
 
     @Override
@@ -188,17 +311,143 @@ public class DefaultBufferPool implements BufferPool
     private DefaultBufferPool(
         DefaultBufferPool that)
     {
-        this.availableSlots = that.availableSlots;
-        this.bitsPerSlot = that.bitsPerSlot;
-        this.hashMask = that.hashMask;
+        this.acquiredSlots = that.acquiredSlots;
+        this.available = that.available;
+        this.availableCounts = that.availableCounts;
+        this.bitsPerUnit = that.bitsPerUnit;
+        this.maxClass = that.maxClass;
         this.poolBuffer = that.poolBuffer;
         this.slotCapacity = that.slotCapacity;
+        this.minSlotCapacity = that.minSlotCapacity;
         this.slotCount = that.slotCount;
-        this.used = that.used;
         this.usedIndex = that.usedIndex;
+        this.classIndex = that.classIndex;
+        this.acquiredIndex = that.acquiredIndex;
         this.slotByteBuffer = that.slotByteBuffer.duplicate();
     }
 
+    private int acquireClass(
+        long streamId,
+        int slotClass)
+    {
+        int splitClass = slotClass;
+        while (splitClass <= maxClass && availableCounts[splitClass] == 0)
+        {
+            splitClass++;
+        }
+
+        if (splitClass > maxClass)
+        {
+            return NO_SLOT;
+        }
+
+        final BitSet blocks = available[splitClass];
+        int block = blocks.nextSetBit(Hashing.hash(streamId, (slotCount << maxClass - splitClass) - 1));
+        if (block == -1)
+        {
+            block = blocks.nextSetBit(0);
+        }
+        blocks.clear(block);
+        availableCounts[splitClass]--;
+
+        while (splitClass > slotClass)
+        {
+            splitClass--;
+            block <<= 1;
+            available[splitClass].set(block | 1);
+            availableCounts[splitClass]++;
+        }
+
+        final int slot = block << slotClass;
+        poolBuffer.putByte(classIndex + slot, (byte) (slotClass + 1));
+        poolBuffer.putLongOrdered(usedIndex + (slot << 3), streamId);
+        acquiredSlots.value++;
+        onAcquired(slotClass, 1);
+
+        return slot;
+    }
+
+    private void shrink(
+        int slot,
+        int slotClass,
+        int newSlotClass)
+    {
+        for (int splitClass = slotClass - 1; splitClass >= newSlotClass; splitClass--)
+        {
+            available[splitClass].set((slot >> splitClass) | 1);
+            availableCounts[splitClass]++;
+        }
+
+        poolBuffer.putByte(classIndex + slot, (byte) (newSlotClass + 1));
+        onAcquired(slotClass, -1);
+        onAcquired(newSlotClass, 1);
+    }
+
+    private boolean grow(
+        int slot,
+        int slotClass,
+        int newSlotClass)
+    {
+        boolean growable = (slot & (1 << newSlotClass) - 1) == 0;
+
+        for (int mergeClass = slotClass; growable && mergeClass < newSlotClass; mergeClass++)
+        {
+            growable = available[mergeClass].get((slot >> mergeClass) | 1);
+        }
+
+        if (growable)
+        {
+            for (int mergeClass = slotClass; mergeClass < newSlotClass; mergeClass++)
+            {
+                available[mergeClass].clear((slot >> mergeClass) | 1);
+                availableCounts[mergeClass]--;
+            }
+
+            poolBuffer.putByte(classIndex + slot, (byte) (newSlotClass + 1));
+            onAcquired(slotClass, -1);
+            onAcquired(newSlotClass, 1);
+        }
+
+        return growable;
+    }
+
+    private void onAcquired(
+        int slotClass,
+        int delta)
+    {
+        final int index = acquiredIndex + (slotClass << 2);
+        poolBuffer.putIntOrdered(index, poolBuffer.getInt(index) + delta);
+    }
+
+    private boolean used(
+        int slot)
+    {
+        return slot >= 0 && poolBuffer.getByte(classIndex + slot) != 0;
+    }
+
+    private int slotClassAt(
+        int slot)
+    {
+        return poolBuffer.getByte(classIndex + slot) - 1;
+    }
+
+    private int slotClass(
+        int capacity)
+    {
+        return capacity <= minSlotCapacity ? 0 : Integer.SIZE - numberOfLeadingZeros(capacity - 1) - bitsPerUnit;
+    }
+
+    private static int slotCount(
+        int poolCapacity,
+        int slotCapacity)
+    {
+        if (slotCapacity > poolCapacity)
+        {
+            throw new IllegalArgumentException("slotCapacity is greater than poolCapacity");
+        }
+        return poolCapacity / slotCapacity;
+    }
+
     private static boolean isZeroOrPowerOfTwo(int value)
     {
         return value == 0 || isPowerOfTwo(value);
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.concurent;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import org.agrona.collections.Long2LongHashMap;
+
+/**
+ * Pooled timer records keyed by timer id, so that scheduling and cancelling a timer does not allocate.
+ * <p>
+ * Each record holds either the fields of a stream signal, a handler with its signal id, or a task.
+ */
+public final class SignalTimers
+{
+    private static final long NO_SLOT = -1L;
+
+    private static final byte KIND_SIGNAL = 0;
+    private static final byte KIND_HANDLER = 1;
+    private static final byte KIND_TASK = 2;
+
+    private final Long2LongHashMap slotsByTimerId;
+    private final SignalHandler signaler;
+
+    private byte[] kinds;
+    private long[] originIds;
+    private long[] routedIds;
+    private long[] streamIds;
+    private long[] traceIds;
+    private int[] signalIds;
+    private int[] contextIds;
+    private Object[] handlers;
+    private int[] nextFree;
+    private int freeHead;
+    private int limit;
+
+    public SignalTimers(
+        int initialCapacity,
+        SignalHandler signaler)
+    {
+        this.slotsByTimerId = new Long2LongHashMap(initialCapacity << 1, 0.65f, NO_SLOT);
+        this.signaler = signaler;
+        this.kinds = new byte[initialCapacity];
+        this.originIds = new long[initialCapacity];
+        this.routedIds = new long[initialCapacity];
+        this.streamIds = new long[initialCapacity];
+        this.traceIds = new long[initialCapacity];
+        this.signalIds = new int[initialCapacity];
+        this.contextIds = new int[initialCapacity];
+        this.handlers = new Object[initialCapacity];
+        this.nextFree = new int[initialCapacity];
+        this.freeHead = -1;
+    }
+
+    public int size()
+    {
+        return slotsByTimerId.size();
+    }
+
+    public void signal(
+        long timerId,
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId,
+        int contextId)
+    {
+        final int slot = acquire(timerId);
+        kinds[slot] = KIND_SIGNAL;
+        originIds[slot] = originId;
+        routedIds[slot] = routedId;
+        streamIds[slot] = streamId;
+        traceIds[slot] = traceId;
+        signalIds[slot] = signalId;
+        contextIds[slot] = contextId;
+    }
+
+    public void handler(
+        long timerId,
+        int signalId,
+        IntConsumer handler)
+    {
+        final int slot = acquire(timerId);
+        kinds[slot] = KIND_HANDLER;
+        signalIds[slot] = signalId;
+        handlers[slot] = handler;
+    }
+
+    public void task(
+        long timerId,
+        Runnable task)
+    {
+        final int slot = acquire(timerId);
+        kinds[slot] = KIND_TASK;
+        handlers[slot] = task;
+    }
+
+    public boolean remove(
+        long timerId)
+    {
+        final long slot = slotsByTimerId.remove(timerId);
+        final boolean removed = slot != NO_SLOT;
+
+        if (removed)
+        {
+            release((int) slot);
+        }
+
+        return removed;
+    }
+
+    public boolean expire(
+        long timerId)
+    {
+        final long slot0 = slotsByTimerId.remove(timerId);
+        final boolean expired = slot0 != NO_SLOT;
+
+        if (expired)
+        {
+            final int slot = (int) slot0;
+            final byte kind = kinds[slot];
+            final Object handler = handlers[slot];
+            final int signalId = signalIds[slot];
+
+            switch (kind)
+            {
+            case KIND_HANDLER:
+                release(slot);
+                ((IntConsumer) handler).accept(signalId);
+                break;
+            case KIND_TASK:
+                release(slot);
+                ((Runnable) handler).run();
+                break;
+            default:
+                final long originId = originIds[slot];
+                final long routedId = routedIds[slot];
+                final long streamId = streamIds[slot];
+                final long traceId = traceIds[slot];
+                final int contextId = contextIds[slot];
+                release(slot);
+                signaler.onSignal(originId, routedId, streamId, traceId, signalId, contextId);
+                break;
+            }
+        }
+
+        return expired;
+    }
+
+    private int acquire(
+        long timerId)
+    {
+        int slot;
+
+        if (freeHead != -1)
+        {
+            slot = freeHead;
+            freeHead = nextFree[slot];
+        }
+        else
+        {
+            if (limit == kinds.length)
+            {
+                grow(Math.max(limit << 1, 1));
+            }
+            slot = limit++;
+        }
+
+        final long oldSlot = slotsByTimerId.put(timerId, slot);
+        assert oldSlot == NO_SLOT;
+
+        return slot;
+    }
+
+    private void release(
+        int slot)
+    {
+        handlers[slot] = null;
+        nextFree[slot] = freeHead;
+        freeHead = slot;
+    }
+
+    private void grow(
+        int capacity)
+    {
+        kinds = Arrays.copyOf(kinds, capacity);
+        originIds = Arrays.copyOf(originIds, capacity);
+        routedIds = Arrays.copyOf(routedIds, capacity);
+        streamIds = Arrays.copyOf(streamIds, capacity);
+        traceIds = Arrays.copyOf(traceIds, capacity);
+        signalIds = Arrays.copyOf(signalIds, capacity);
+        contextIds = Arrays.copyOf(contextIds, capacity);
+        handlers = Arrays.copyOf(handlers, capacity);
+        nextFree = Arrays.copyOf(nextFree, capacity);
+    }
+
+    @FunctionalInterface
+    public interface SignalHandler
+    {
+        void onSignal(
+            long originId,
+            long routedId,
+            long streamId,
+            long traceId,
+            int signalId,
+            int contextId);
+    }
+}
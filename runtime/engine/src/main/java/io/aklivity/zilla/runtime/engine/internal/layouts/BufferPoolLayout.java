@@ -30,6 +30,11 @@ import io.aklivity.zilla.runtime.engine.internal.buffer.DefaultBufferPool;
 
 public final class BufferPoolLayout implements AutoCloseable
 {
+    private static final int MIN_SLOT_CAPACITY_OFFSET = 0;
+    private static final int SLOT_CAPACITY_OFFSET = MIN_SLOT_CAPACITY_OFFSET + Integer.BYTES;
+    private static final int SLOT_COUNT_OFFSET = SLOT_CAPACITY_OFFSET + Integer.BYTES;
+    private static final int METADATA_LENGTH = SLOT_COUNT_OFFSET + Integer.BYTES;
+
     private final DefaultBufferPool bufferPool;
 
     private BufferPoolLayout(
@@ -53,6 +58,7 @@ public final class BufferPoolLayout implements AutoCloseable
     {
         private int slotCount;
         private int slotCapacity;
+        private int minSlotCapacity;
         private Path path;
         private boolean readonly;
 
@@ -70,6 +76,13 @@ public final class BufferPoolLayout implements AutoCloseable
             return this;
         }
 
+        public Builder minSlotCapacity(
+            int minSlotCapacity)
+        {
+            this.minSlotCapacity = minSlotCapacity;
+            return this;
+        }
+
         public Builder path(
             Path path)
         {
@@ -90,30 +103,33 @@ public final class BufferPoolLayout implements AutoCloseable
 
             if (!readonly)
             {
-                final int slotCountIndex = (slotCapacity + Long.BYTES) * slotCount;
-                final int totalLength = slotCountIndex + Integer.BYTES;
+                final int totalLength = DefaultBufferPool.capacity(slotCapacity, minSlotCapacity, slotCount);
                 CloseHelper.close(createEmptyFile(layoutFile, totalLength));
 
-                MappedByteBuffer metadata = mapExistingFile(layoutFile, "slotCount", totalLength - Integer.BYTES, Integer.BYTES);
-                metadata.putInt(0, slotCount);
+                MappedByteBuffer metadata = mapExistingFile(layoutFile, "metadata",
+                    totalLength - METADATA_LENGTH, METADATA_LENGTH);
+                metadata.putInt(MIN_SLOT_CAPACITY_OFFSET, minSlotCapacity);
+                metadata.putInt(SLOT_CAPACITY_OFFSET, slotCapacity);
+                metadata.putInt(SLOT_COUNT_OFFSET, slotCount);
                 unmap(metadata);
             }
 
             final MappedByteBuffer mapped = mapExistingFile(layoutFile, "bufferPool");
 
+            int minSlotCapacity = this.minSlotCapacity;
             int slotCapacity = this.slotCapacity;
             int slotCount = this.slotCount;
 
             if (readonly)
             {
-                final int totalLength = (int) layoutFile.length();
-                final int slotCountIndex = totalLength - Integer.BYTES;
+                final int metadataIndex = (int) layoutFile.length() - METADATA_LENGTH;
 
-                slotCount = mapped.getInt(slotCountIndex);
-                slotCapacity = slotCountIndex / slotCount - Long.BYTES;
+                minSlotCapacity = mapped.getInt(metadataIndex + MIN_SLOT_CAPACITY_OFFSET);
+                slotCapacity = mapped.getInt(metadataIndex + SLOT_CAPACITY_OFFSET);
+                slotCount = mapped.getInt(metadataIndex + SLOT_COUNT_OFFSET);
             }
 
-            return new BufferPoolLayout(new DefaultBufferPool(slotCapacity, slotCount, mapped));
+            return new BufferPoolLayout(new DefaultBufferPool(slotCapacity, minSlotCapacity, slotCount, mapped));
         }
     }
 }
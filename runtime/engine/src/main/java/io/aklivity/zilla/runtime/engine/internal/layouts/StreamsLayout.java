@@ -28,6 +28,7 @@ import java.util.concurrent.TimeUnit;
 import org.agrona.CloseHelper;
 import org.agrona.concurrent.AtomicBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.ringbuffer.OneToOneRingBuffer;
 import org.agrona.concurrent.ringbuffer.RingBuffer;
 import org.agrona.concurrent.ringbuffer.RingBufferDescriptor;
 
@@ -73,6 +74,7 @@ public final class StreamsLayout implements AutoCloseable
         private long streamsCapacity;
         private Path path;
         private boolean readonly;
+        private boolean singleProducer;
 
         public Builder streamsCapacity(
             long streamsCapacity)
@@ -95,6 +97,13 @@ public final class StreamsLayout implements AutoCloseable
             return this;
         }
 
+        public Builder singleProducer(
+            boolean singleProducer)
+        {
+            this.singleProducer = singleProducer;
+            return this;
+        }
+
         public StreamsLayout build()
         {
             final File layoutFile = path.toFile();
@@ -114,7 +123,11 @@ public final class StreamsLayout implements AutoCloseable
 
             final AtomicBuffer atomicStreams = new UnsafeBuffer(mappedStreams);
 
-            return new StreamsLayout(new ManyToOneRingBuffer(atomicStreams));
+            final RingBuffer streamsBuffer = singleProducer
+                ? new OneToOneRingBuffer(atomicStreams)
+                : new ManyToOneRingBuffer(atomicStreams);
+
+            return new StreamsLayout(streamsBuffer);
         }
     }
 }
@@ -21,7 +21,6 @@ import static org.agrona.IoUtil.createEmptyFile;
 import static org.agrona.IoUtil.mapExistingFile;
 
 import java.io.File;
-import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
@@ -37,18 +36,35 @@ import org.agrona.concurrent.UnsafeBuffer;
 public final class HistogramsLayout extends MetricsLayout
 {
     public static final int BUCKETS = 63;
+    public static final int MAX_PRECISION = 8;
     public static final long[] BUCKET_LIMITS = generateBucketLimits();
 
-    // We use the buffer to store structs {long bindingId, long metricId, long[] values}
-    private static final int VALUES_OFFSET = 2 * FIELD_SIZE;
-    private static final int ARRAY_SIZE = BUCKETS * FIELD_SIZE;
-    private static final int RECORD_SIZE = 2 * FIELD_SIZE + ARRAY_SIZE;
+    // We use the buffer to store structs {long bindingId, long metricId, long precision, long count, long sum, long[] values}
+    // with BUCKETS << precision log-linear values, each power of two split into 1 << precision linear sub-buckets
+    private static final int PRECISION_OFFSET = 2 * FIELD_SIZE;
+    private static final int COUNT_OFFSET = 3 * FIELD_SIZE;
+    private static final int SUM_OFFSET = 4 * FIELD_SIZE;
+    private static final int VALUES_OFFSET = 5 * FIELD_SIZE;
+    private static final int PRECISION_UNKNOWN = -1;
     private static final LongSupplier ZERO_LONG_SUPPLIER = () -> 0L;
 
+    private int precision;
+
     private HistogramsLayout(
-        AtomicBuffer buffer)
+        AtomicBuffer buffer,
+        int precision)
     {
         super(buffer);
+        this.precision = precision;
+    }
+
+    public int precision()
+    {
+        if (precision == PRECISION_UNKNOWN && buffer.getLong(BINDING_ID_OFFSET) != 0L)
+        {
+            precision = (int) buffer.getLong(PRECISION_OFFSET);
+        }
+        return precision != PRECISION_UNKNOWN ? precision : 0;
     }
 
     @Override
@@ -56,8 +72,15 @@ public final class HistogramsLayout extends MetricsLayout
         long bindingId,
         long metricId)
     {
-        int index = findOrSetPosition(bindingId, metricId);
-        return value -> buffer.getAndAddLong(index + VALUES_OFFSET + findBucket(value) * FIELD_SIZE, 1);
+        final int index = findOrSetPosition(bindingId, metricId);
+        final int precision = precision();
+        return value ->
+        {
+            final int bucketAt = index + VALUES_OFFSET + findBucket(value, precision) * FIELD_SIZE;
+            buffer.putLongOrdered(bucketAt, buffer.getLong(bucketAt) + 1L);
+            buffer.putLongOrdered(index + SUM_OFFSET, buffer.getLong(index + SUM_OFFSET) + value);
+            buffer.putLongOrdered(index + COUNT_OFFSET, buffer.getLong(index + COUNT_OFFSET) + 1L);
+        };
     }
 
     @Override
@@ -75,16 +98,17 @@ public final class HistogramsLayout extends MetricsLayout
     {
         LongSupplier[] readers;
         int index = findPosition(bindingId, metricId);
+        int buckets = BUCKETS << precision();
         if (index == -1) // not found
         {
-            readers = IntStream.range(0, BUCKETS)
+            readers = IntStream.range(0, buckets)
                     .mapToObj(bucket -> ZERO_LONG_SUPPLIER)
                     .collect(Collectors.toList())
                     .toArray(LongSupplier[]::new);
         }
         else
         {
-            readers = IntStream.range(0, BUCKETS)
+            readers = IntStream.range(0, buckets)
                     .mapToObj(bucket -> newLongSupplier(index + VALUES_OFFSET + bucket * FIELD_SIZE))
                     .collect(Collectors.toList())
                     .toArray(LongSupplier[]::new);
@@ -92,17 +116,53 @@ public final class HistogramsLayout extends MetricsLayout
         return readers;
     }
 
-    private int findBucket(
-        long value)
+    public LongSupplier supplyCountReader(
+        long bindingId,
+        long metricId)
+    {
+        int index = findPosition(bindingId, metricId);
+        return index == -1 ? ZERO_LONG_SUPPLIER : newLongSupplier(index + COUNT_OFFSET);
+    }
+
+    public LongSupplier supplySumReader(
+        long bindingId,
+        long metricId)
+    {
+        int index = findPosition(bindingId, metricId);
+        return index == -1 ? ZERO_LONG_SUPPLIER : newLongSupplier(index + SUM_OFFSET);
+    }
+
+    public static int findBucket(
+        long value,
+        int precision)
     {
         assert value >= 0;
-        return Math.max(63 - Long.numberOfLeadingZeros(value), 0);
+        final int exponent = Math.max(63 - Long.numberOfLeadingZeros(value), 0);
+        final int shift = exponent - precision;
+        final long mantissa = shift >= 0 ? value >> shift : value << -shift;
+        return (exponent << precision) | (int) (mantissa & ((1 << precision) - 1));
+    }
+
+    // exclusive upper limits of each log-linear bucket
+    public static long[] bucketLimits(
+        int precision)
+    {
+        final int buckets = BUCKETS << precision;
+        final long[] limits = new long[buckets];
+        for (int i = 0; i < buckets; i++)
+        {
+            final int exponent = i >> precision;
+            final long mantissa = (1L << precision) + (i & ((1 << precision) - 1));
+            final int shift = exponent - precision;
+            limits[i] = shift >= 0 ? (mantissa + 1) << shift : (mantissa >> -shift) + 1;
+        }
+        return limits;
     }
 
     private LongSupplier newLongSupplier(
         int index)
     {
-        return () -> buffer.getLong(index);
+        return () -> buffer.getLongVolatile(index);
     }
 
     @Override
@@ -113,25 +173,19 @@ public final class HistogramsLayout extends MetricsLayout
     {
         buffer.putLong(index + BINDING_ID_OFFSET, bindingId);
         buffer.putLong(index + METRIC_ID_OFFSET, metricId);
-        ByteBuffer initialValues = ByteBuffer.allocate(ARRAY_SIZE); // all zeroes
-        buffer.putBytes(index + VALUES_OFFSET, initialValues.array());
+        buffer.putLong(index + PRECISION_OFFSET, precision());
+        buffer.setMemory(index + COUNT_OFFSET, recordSize() - COUNT_OFFSET, (byte) 0);
     }
 
     @Override
     protected int recordSize()
     {
-        return RECORD_SIZE;
+        return VALUES_OFFSET + (BUCKETS << precision()) * FIELD_SIZE;
     }
 
-    // exclusive upper limits of each bucket
     private static long[] generateBucketLimits()
     {
-        long[] limits = new long[BUCKETS];
-        for (int i = 0; i < BUCKETS; i++)
-        {
-            limits[i] = 1L << (i + 1);
-        }
-        return limits;
+        return bucketLimits(0);
     }
 
     public static final class Builder
@@ -139,6 +193,7 @@ public final class HistogramsLayout extends MetricsLayout
         public static final String HISTOGRAMS_LABEL = "histograms";
 
         private long capacity;
+        private int precision;
         private Path path;
         private boolean readonly;
 
@@ -149,6 +204,13 @@ public final class HistogramsLayout extends MetricsLayout
             return this;
         }
 
+        public Builder precision(
+            int precision)
+        {
+            this.precision = precision;
+            return this;
+        }
+
         public Builder path(
             Path path)
         {
@@ -173,7 +235,7 @@ public final class HistogramsLayout extends MetricsLayout
             FileChannel.MapMode mode = readonly ? READ_ONLY : READ_WRITE;
             MappedByteBuffer mappedBuffer = mapExistingFile(layoutFile, mode, HISTOGRAMS_LABEL);
             final AtomicBuffer atomicBuffer = new UnsafeBuffer(mappedBuffer);
-            return new HistogramsLayout(atomicBuffer);
+            return new HistogramsLayout(atomicBuffer, readonly ? PRECISION_UNKNOWN : precision);
         }
     }
 }
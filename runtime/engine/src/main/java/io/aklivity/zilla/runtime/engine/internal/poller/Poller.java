@@ -51,6 +51,30 @@ public final class Poller extends TransportPoller
         return workDone;
     }
 
+    public int select(
+        long timeoutMillis)
+    {
+        int workDone = 0;
+
+        try
+        {
+            workDone += timeoutMillis > 0L
+                ? selector.select(selectHandler, timeoutMillis)
+                : selector.selectNow(selectHandler);
+        }
+        catch (Throwable ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return workDone;
+    }
+
+    public void wakeup()
+    {
+        selector.wakeup();
+    }
+
     public void onClose()
     {
         for (SelectionKey key : selector.keys())
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.poller;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.lang.invoke.VarHandle;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+import org.agrona.concurrent.IdleStrategy;
+
+/**
+ * Spins, then yields, then blocks in {@link Poller#select(long)} until the next timer deadline,
+ * bounded by the maximum select duration, so that readable sockets end the idle period early.
+ * <p>
+ * Writers from other threads call {@link #wakeup()} after publishing work, which only wakes the
+ * selector when this worker is blocked in select.
+ */
+public final class SelectIdleStrategy implements IdleStrategy
+{
+    private static final int NOT_IDLE = 0;
+    private static final int SPINNING = 1;
+    private static final int YIELDING = 2;
+    private static final int SELECTING = 3;
+
+    private final Poller poller;
+    private final long maxSpins;
+    private final long maxYields;
+    private final long maxSelectMillis;
+    private final LongSupplier deadline;
+    private final BooleanSupplier pending;
+
+    private volatile boolean selecting;
+
+    private int state;
+    private long spins;
+    private long yields;
+
+    public SelectIdleStrategy(
+        Poller poller,
+        long maxSpins,
+        long maxYields,
+        long maxSelectNanos,
+        LongSupplier deadline,
+        BooleanSupplier pending)
+    {
+        this.poller = poller;
+        this.maxSpins = maxSpins;
+        this.maxYields = maxYields;
+        this.maxSelectMillis = Math.max(NANOSECONDS.toMillis(maxSelectNanos), 1L);
+        this.deadline = deadline;
+        this.pending = pending;
+        this.state = NOT_IDLE;
+    }
+
+    @Override
+    public void idle(
+        int workCount)
+    {
+        if (workCount > 0)
+        {
+            reset();
+        }
+        else
+        {
+            idle();
+        }
+    }
+
+    @Override
+    public void idle()
+    {
+        switch (state)
+        {
+        case NOT_IDLE:
+            state = SPINNING;
+            spins++;
+            break;
+        case SPINNING:
+            Thread.onSpinWait();
+            if (++spins > maxSpins)
+            {
+                state = YIELDING;
+                yields = 0L;
+            }
+            break;
+        case YIELDING:
+            if (++yields > maxYields)
+            {
+                state = SELECTING;
+            }
+            else
+            {
+                Thread.yield();
+            }
+            break;
+        default:
+            if (select() > 0)
+            {
+                reset();
+            }
+            break;
+        }
+    }
+
+    @Override
+    public void reset()
+    {
+        spins = 0L;
+        yields = 0L;
+        state = NOT_IDLE;
+    }
+
+    @Override
+    public String alias()
+    {
+        return "select";
+    }
+
+    public void wakeup()
+    {
+        // order the caller's prior publish before reading selecting
+        VarHandle.fullFence();
+
+        if (selecting)
+        {
+            poller.wakeup();
+        }
+    }
+
+    private int select()
+    {
+        int workDone = 0;
+
+        selecting = true;
+        try
+        {
+            final long timeoutMillis = pending.getAsBoolean() ? 0L : timeoutMillis();
+            workDone = poller.select(timeoutMillis);
+        }
+        finally
+        {
+            selecting = false;
+        }
+
+        return workDone;
+    }
+
+    private long timeoutMillis()
+    {
+        final long deadlineMillis = deadline.getAsLong();
+        return deadlineMillis != Long.MAX_VALUE
+            ? Math.min(Math.max(deadlineMillis - currentTimeMillis(), 0L), maxSelectMillis)
+            : maxSelectMillis;
+    }
+}
@@ -23,9 +23,11 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -89,6 +91,7 @@ public class EngineManager
     private final Resolver expressions;
     private final Path configPath;
     private final EngineConfigWatchTask watchTask;
+    private final NamespaceAdapter namespaces;
 
     private String currentText;
     private EngineConfig current;
@@ -123,6 +126,7 @@ public class EngineManager
         this.expressions = Resolver.instantiate(config);
         this.configPath = Path.of(config.configURI());
         this.watchTask = new WatchTaskImpl(config, events, configPath);
+        this.namespaces = new NamespaceAdapter(new NamespaceConfigAdapterContext(configPath));
     }
 
     public void start() throws Exception
@@ -173,14 +177,12 @@ public class EngineManager
                 final String oldConfigText = currentText;
                 final EngineConfig oldConfig = current;
 
-                unregister(oldConfig);
-
                 try
                 {
                     currentText = newConfigText;
                     current = newConfig;
 
-                    register(newConfig);
+                    reconfigure(oldConfig, newConfig);
                 }
                 catch (Exception ex)
                 {
@@ -189,7 +191,7 @@ public class EngineManager
                     currentText = oldConfigText;
                     current = oldConfig;
 
-                    register(oldConfig);
+                    reconfigure(newConfig, oldConfig);
 
                     rethrowUnchecked(ex);
                 }
@@ -268,6 +270,10 @@ public class EngineManager
             {
                 catalog.vaultId = resolver.resolve(catalog.vault);
             }
+            catalog.resolveId = resolver::resolve;
+            catalog.metricIds = namespace.telemetry.metrics.stream()
+                .mapToLong(m -> resolver.resolve(m.name))
+                .toArray();
         }
 
         for (MetricConfig metric : namespace.telemetry.metrics)
@@ -381,18 +387,75 @@ public class EngineManager
             }
             binding.metricIds = metricIds.stream().mapToLong(Long::longValue).toArray();
 
-            long affinity = tuning.affinity(binding.id);
+            BitSet affinity = tuning.affinity(binding.id);
 
-            final long maxbits = maxWorkers.apply(binding.type.intern().hashCode()).applyAsInt(binding.kind);
-            for (int bitindex = 0; Long.bitCount(affinity) > maxbits; bitindex++)
+            final int maxbits = maxWorkers.apply(binding.type.intern().hashCode()).applyAsInt(binding.kind);
+            while (affinity.cardinality() > maxbits)
             {
-                affinity &= ~(1 << bitindex);
+                affinity.clear(affinity.nextSetBit(0));
             }
 
             tuning.affinity(binding.id, affinity);
         }
     }
 
+    private void reconfigure(
+        EngineConfig oldConfig,
+        EngineConfig newConfig)
+    {
+        if (oldConfig == null)
+        {
+            register(newConfig);
+        }
+        else
+        {
+            extensions.forEach(e -> e.onUnregistered(context));
+
+            final Map<String, NamespaceChanges> changesByName = NamespaceChanges.diff(namespaces, oldConfig, newConfig);
+
+            for (NamespaceConfig oldNamespace : oldConfig.namespaces)
+            {
+                if (newConfig.namespaces.stream().noneMatch(n -> n.name.equals(oldNamespace.name)))
+                {
+                    unwatch(oldNamespace);
+                    unregister(oldNamespace);
+                }
+            }
+
+            for (NamespaceConfig newNamespace : newConfig.namespaces)
+            {
+                final NamespaceConfig oldNamespace = oldConfig.namespaces.stream()
+                    .filter(n -> n.name.equals(newNamespace.name))
+                    .findFirst()
+                    .orElse(null);
+
+                if (oldNamespace == null)
+                {
+                    register(newNamespace);
+                }
+                else
+                {
+                    unwatch(oldNamespace);
+
+                    final NamespaceChanges changes = changesByName.get(newNamespace.name);
+                    if (changes == null)
+                    {
+                        unregister(oldNamespace);
+                        register(newNamespace);
+                    }
+                    else
+                    {
+                        reconfigure(changes);
+                    }
+                }
+
+                watch(newNamespace);
+            }
+
+            extensions.forEach(e -> e.onRegistered(context));
+        }
+    }
+
     private void register(
         EngineConfig config)
     {
@@ -446,6 +509,20 @@ public class EngineManager
             .ifPresent(CompletableFuture::join);
     }
 
+    private void reconfigure(
+        NamespaceChanges changes)
+    {
+        if (!changes.isEmpty())
+        {
+            logger.accept(changes.toString());
+
+            workers.stream()
+                .map(w -> w.reconfigure(changes))
+                .reduce(CompletableFuture::allOf)
+                .ifPresent(CompletableFuture::join);
+        }
+    }
+
     private void unregister(
         NamespaceConfig namespace)
     {
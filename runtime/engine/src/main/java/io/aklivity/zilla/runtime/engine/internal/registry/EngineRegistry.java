@@ -113,6 +113,12 @@ public class EngineRegistry
         return new NamespaceTask(namespace, this::detachNamespace);
     }
 
+    public NamespaceTask reconfigure(
+        NamespaceChanges changes)
+    {
+        return new NamespaceTask(changes.namespace, n -> reconfigureNamespace(changes));
+    }
+
     public BindingRegistry resolveBinding(
         long bindingId)
     {
@@ -201,6 +207,14 @@ public class EngineRegistry
         registry.attach();
     }
 
+    private void reconfigureNamespace(
+        NamespaceChanges changes)
+    {
+        int namespaceId = supplyLabelId.applyAsInt(changes.namespace.name);
+        NamespaceRegistry registry = namespacesById.get(namespaceId);
+        registry.reconfigure(changes);
+    }
+
     protected void detachNamespace(
         NamespaceConfig namespace)
     {
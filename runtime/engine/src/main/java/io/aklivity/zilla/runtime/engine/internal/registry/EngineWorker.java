@@ -20,6 +20,7 @@ import static io.aklivity.zilla.runtime.engine.concurrent.Signaler.NO_CANCEL_ID;
 import static io.aklivity.zilla.runtime.engine.internal.registry.MetricHandlerKind.ORIGIN;
 import static io.aklivity.zilla.runtime.engine.internal.registry.MetricHandlerKind.ROUTED;
 import static io.aklivity.zilla.runtime.engine.internal.stream.BudgetId.ownerIndex;
+import static io.aklivity.zilla.runtime.engine.internal.stream.StreamId.EXTERNAL_INDEX;
 import static io.aklivity.zilla.runtime.engine.internal.stream.StreamId.clientIndex;
 import static io.aklivity.zilla.runtime.engine.internal.stream.StreamId.instanceId;
 import static io.aklivity.zilla.runtime.engine.internal.stream.StreamId.isInitial;
@@ -46,6 +47,7 @@ import java.nio.channels.SelectableChannel;
 import java.nio.file.Path;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Deque;
@@ -61,10 +63,10 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
 import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
 import java.util.function.LongSupplier;
-import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
 
 import org.agrona.DeadlineTimerWheel;
@@ -116,6 +118,7 @@ import io.aklivity.zilla.runtime.engine.guard.GuardHandler;
 import io.aklivity.zilla.runtime.engine.internal.LabelManager;
 import io.aklivity.zilla.runtime.engine.internal.budget.DefaultBudgetCreditor;
 import io.aklivity.zilla.runtime.engine.internal.budget.DefaultBudgetDebitor;
+import io.aklivity.zilla.runtime.engine.internal.concurent.SignalTimers;
 import io.aklivity.zilla.runtime.engine.internal.exporter.ExporterAgent;
 import io.aklivity.zilla.runtime.engine.internal.layouts.BindingsLayout;
 import io.aklivity.zilla.runtime.engine.internal.layouts.BudgetsLayout;
@@ -125,6 +128,7 @@ import io.aklivity.zilla.runtime.engine.internal.layouts.StreamsLayout;
 import io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout;
 import io.aklivity.zilla.runtime.engine.internal.layouts.metrics.ScalarsLayout;
 import io.aklivity.zilla.runtime.engine.internal.poller.Poller;
+import io.aklivity.zilla.runtime.engine.internal.poller.SelectIdleStrategy;
 import io.aklivity.zilla.runtime.engine.internal.stream.StreamId;
 import io.aklivity.zilla.runtime.engine.internal.stream.Target;
 import io.aklivity.zilla.runtime.engine.internal.types.stream.AbortFW;
@@ -182,6 +186,8 @@ public class EngineWorker implements EngineContext, Agent
     private final StreamsLayout streamsLayout;
     private final BufferPoolLayout bufferPoolLayout;
     private final RingBuffer streamsBuffer;
+    private final StreamsLayout[] channelsLayouts;
+    private final RingBuffer[] channelsBuffers;
     private final MutableDirectBuffer writeBuffer;
     private final Long2ObjectHashMap<LongHashSet> streamSets;
     private final Int2ObjectHashMap<MessageConsumer>[] streams;
@@ -199,6 +205,9 @@ public class EngineWorker implements EngineContext, Agent
     private final LongFunction<Affinity> resolveAffinity;
 
     private final Poller poller;
+    private final SelectIdleStrategy selectIdleStrategy;
+    private final IntConsumer wakeupWorker;
+    private final IntToLongFunction supplyQueueDepth;
 
     private final DefaultBudgetCreditor creditor;
     private final Int2ObjectHashMap<DefaultBudgetDebitor> debitorsByIndex;
@@ -206,7 +215,7 @@ public class EngineWorker implements EngineContext, Agent
     private final Long2ObjectHashMap<Affinity> affinityByBindingId;
 
     private final DeadlineTimerWheel timerWheel;
-    private final Long2ObjectHashMap<Runnable> tasksByTimerId;
+    private final SignalTimers timers;
     private final Long2ObjectHashMap<Future<?>> futuresById;
     private final EngineSignaler signaler;
     private final Long2ObjectHashMap<MessageConsumer> correlations;
@@ -215,7 +224,8 @@ public class EngineWorker implements EngineContext, Agent
 
     private final EngineRegistry registry;
     private final Deque<Runnable> taskQueue;
-    private final LongUnaryOperator affinityMask;
+    private final LongFunction<BitSet> affinityMask;
+    private final boolean affinityBalanced;
     private final Path configPath;
     private final AgentRunner runner;
     private final IdleStrategy idleStrategy;
@@ -236,6 +246,7 @@ public class EngineWorker implements EngineContext, Agent
     private long authorizedId;
 
     private long lastReadStreamId;
+    private int channelIndex;
 
     private volatile Thread thread;
 
@@ -244,7 +255,7 @@ public class EngineWorker implements EngineContext, Agent
         ExecutorService executor,
         LabelManager labels,
         ErrorHandler errorHandler,
-        LongUnaryOperator affinityMask,
+        LongFunction<BitSet> affinityMask,
         Collection<Binding> bindings,
         Collection<Exporter> exporters,
         Collection<Guard> guards,
@@ -257,13 +268,16 @@ public class EngineWorker implements EngineContext, Agent
         EventFormatterFactory eventFormatterFactory,
         int index,
         boolean readonly,
-        Consumer<NamespaceConfig> process)
+        Consumer<NamespaceConfig> process,
+        IntConsumer wakeupWorker,
+        IntToLongFunction supplyQueueDepth)
     {
         this.localIndex = index;
         this.config = config;
         this.configPath = Path.of(config.configURI());
         this.labels = labels;
         this.affinityMask = affinityMask;
+        this.affinityBalanced = config.affinityBalanced();
 
         final IdleStrategy idleStrategy = new BackoffIdleStrategy(
                 config.maxSpins(),
@@ -287,7 +301,8 @@ public class EngineWorker implements EngineContext, Agent
 
         this.histogramsLayout = new HistogramsLayout.Builder()
                 .path(config.directory().resolve(String.format("metrics/histograms%d", index)))
-                .capacity(config.countersBufferCapacity())
+                .capacity((long) config.countersBufferCapacity() << config.histogramPrecision())
+                .precision(config.histogramPrecision())
                 .readonly(readonly)
                 .build();
 
@@ -302,9 +317,25 @@ public class EngineWorker implements EngineContext, Agent
                 .readonly(readonly)
                 .build();
 
+        final int channelCount = config.streamsChannels() ? config.workers() - 1 : 0;
+        final StreamsLayout[] channelsLayouts = new StreamsLayout[channelCount];
+        for (int sourceIndex = 0, channel = 0; channel < channelCount; sourceIndex++)
+        {
+            if (sourceIndex != index)
+            {
+                channelsLayouts[channel++] = new StreamsLayout.Builder()
+                        .path(config.directory().resolve(String.format("data%d-%d", index, sourceIndex)))
+                        .streamsCapacity(config.streamsBufferCapacity())
+                        .singleProducer(true)
+                        .readonly(readonly)
+                        .build();
+            }
+        }
+
         final BufferPoolLayout bufferPoolLayout = new BufferPoolLayout.Builder()
                 .path(config.directory().resolve(String.format("buffers%d", index)))
                 .slotCapacity(config.bufferSlotCapacity())
+                .minSlotCapacity(config.bufferSlotMinCapacity())
                 .slotCount(config.bufferPoolCapacity() / config.bufferSlotCapacity())
                 .readonly(readonly)
                 .build();
@@ -318,14 +349,14 @@ public class EngineWorker implements EngineContext, Agent
 
         this.agentName = String.format("engine/data#%d", index);
         this.streamsLayout = streamsLayout;
+        this.channelsLayouts = channelsLayouts;
         this.bufferPoolLayout = bufferPoolLayout;
-        this.runner = new AgentRunner(idleStrategy, errorHandler, null, this);
-
         this.resolveHost = config.hostResolver();
         this.timestamps = config.timestamps();
         this.readLimit = config.maximumMessagesPerRead();
         this.expireLimit = config.maximumExpirationsPerPoll();
         this.streamsBuffer = streamsLayout.streamsBuffer();
+        this.channelsBuffers = Arrays.stream(channelsLayouts).map(StreamsLayout::streamsBuffer).toArray(RingBuffer[]::new);
         this.writeBuffer = new UnsafeBuffer(new byte[config.bufferSlotCapacity() + 1024]);
         this.streamSets = new Long2ObjectHashMap<>();
         this.streams = initDispatcher();
@@ -340,12 +371,28 @@ public class EngineWorker implements EngineContext, Agent
         this.writersByIndex = new Int2ObjectHashMap<>();
 
         this.timerWheel = new DeadlineTimerWheel(MILLISECONDS, currentTimeMillis(), 512, 1024);
-        this.tasksByTimerId = new Long2ObjectHashMap<>();
         this.futuresById = new Long2ObjectHashMap<>();
         this.signaler = new EngineSignaler(executor, Math.max(config.bufferSlotCapacity(), 512));
+        this.timers = new SignalTimers(1024, signaler::signalNow);
 
         this.poller = new Poller();
 
+        final SelectIdleStrategy selectIdleStrategy = config.backoffSelect()
+            ? new SelectIdleStrategy(
+                poller,
+                config.maxSpins(),
+                config.maxYields(),
+                config.maxParkNanos(),
+                this::nextDeadline,
+                this::pending)
+            : null;
+
+        this.selectIdleStrategy = selectIdleStrategy;
+        this.wakeupWorker = wakeupWorker;
+        this.supplyQueueDepth = supplyQueueDepth;
+        this.runner = new AgentRunner(selectIdleStrategy != null ? selectIdleStrategy : idleStrategy,
+            errorHandler, null, this);
+
         final BufferPool bufferPool = bufferPoolLayout.bufferPool();
 
         final long initial = ((long) index) << SHIFT_SIZE;
@@ -660,6 +707,25 @@ public class EngineWorker implements EngineContext, Agent
         return histogramsLayout.supplyReaders(bindingId, metricId);
     }
 
+    public LongSupplier supplyHistogramCount(
+        long bindingId,
+        long metricId)
+    {
+        return histogramsLayout.supplyCountReader(bindingId, metricId);
+    }
+
+    public LongSupplier supplyHistogramSum(
+        long bindingId,
+        long metricId)
+    {
+        return histogramsLayout.supplySumReader(bindingId, metricId);
+    }
+
+    public int histogramPrecision()
+    {
+        return histogramsLayout.precision();
+    }
+
     public long[][] counterIds()
     {
         return countersLayout.getIds();
@@ -814,6 +880,24 @@ public class EngineWorker implements EngineContext, Agent
         thread = startOnThread(runner, Thread::new);
     }
 
+    public long queueDepth()
+    {
+        long depth = streamsBuffer.producerPosition() - streamsBuffer.consumerPosition();
+        for (RingBuffer channelsBuffer : channelsBuffers)
+        {
+            depth += channelsBuffer.producerPosition() - channelsBuffer.consumerPosition();
+        }
+        return depth;
+    }
+
+    public void wakeup()
+    {
+        if (selectIdleStrategy != null)
+        {
+            selectIdleStrategy.wakeup();
+        }
+    }
+
     public void doClose()
     {
         try
@@ -850,6 +934,11 @@ public class EngineWorker implements EngineContext, Agent
             }
 
             workDone += streamsBuffer.read(readHandler, readLimit);
+
+            if (channelsBuffers.length != 0)
+            {
+                workDone += readChannels();
+            }
         }
         catch (Throwable ex)
         {
@@ -896,6 +985,10 @@ public class EngineWorker implements EngineContext, Agent
         targetsByIndex.forEach((k, v) -> quietClose(v));
 
         quietClose(streamsLayout);
+        for (StreamsLayout channelsLayout : channelsLayouts)
+        {
+            quietClose(channelsLayout);
+        }
         quietClose(bufferPoolLayout);
 
         debitorsByIndex.forEach((k, v) -> quietClose(v));
@@ -912,7 +1005,7 @@ public class EngineWorker implements EngineContext, Agent
     public void drain()
     {
         final long closeAt = System.nanoTime();
-        while (streamsBuffer.consumerPosition() < streamsBuffer.producerPosition())
+        while (streamsBuffer.consumerPosition() < streamsBuffer.producerPosition() || !drained(channelsBuffers))
         {
             ThreadHints.onSpinWait();
 
@@ -964,6 +1057,24 @@ public class EngineWorker implements EngineContext, Agent
         return detachTask.future();
     }
 
+    public CompletableFuture<Void> reconfigure(
+        NamespaceChanges changes)
+    {
+        assert thread != Thread.currentThread();
+
+        NamespaceTask reconfigureTask = registry.reconfigure(changes);
+        taskQueue.offer(reconfigureTask);
+        signaler.signalNow(0L, 0L, 0L, supplyTraceId(), SIGNAL_TASK_QUEUED, 0);
+
+        if (localIndex == 0)
+        {
+            reconfigureTask.future().join();
+            writeBindingTypes(registry);
+        }
+
+        return reconfigureTask.future();
+    }
+
     public AgentRunner runner()
     {
         return runner;
@@ -1149,34 +1260,28 @@ public class EngineWorker implements EngineContext, Agent
     private void doSystemFlush(
         long traceId,
         long budgetId,
-        long watchers)
+        int watcherIndex)
     {
-        for (int watcherIndex = 0; watcherIndex < Long.SIZE; watcherIndex++)
+        if (EngineConfiguration.DEBUG_BUDGETS)
         {
-            if ((watchers & (1L << watcherIndex)) != 0L)
-            {
-                if (EngineConfiguration.DEBUG_BUDGETS)
-                {
-                    System.out.format("[%d] [0x%016x] [0x%016x] flush %d\n",
-                            System.nanoTime(), traceId, budgetId, watcherIndex);
-                }
+            System.out.format("[%d] [0x%016x] [0x%016x] flush %d\n",
+                    System.nanoTime(), traceId, budgetId, watcherIndex);
+        }
 
-                final MessageConsumer writer = supplyWriter(watcherIndex);
-                final FlushFW flush = flushRW.wrap(writeBuffer, 0, writeBuffer.capacity())
-                        .originId(0L)
-                        .routedId(0L)
-                        .streamId(0L)
-                        .sequence(0L)
-                        .acknowledge(0L)
-                        .maximum(0)
-                        .traceId(traceId)
-                        .budgetId(budgetId)
-                        .reserved(0)
-                        .build();
+        final MessageConsumer writer = supplyWriter(watcherIndex);
+        final FlushFW flush = flushRW.wrap(writeBuffer, 0, writeBuffer.capacity())
+                .originId(0L)
+                .routedId(0L)
+                .streamId(0L)
+                .sequence(0L)
+                .acknowledge(0L)
+                .maximum(0)
+                .traceId(traceId)
+                .budgetId(budgetId)
+                .reserved(0)
+                .build();
 
-                writer.accept(flush.typeId(), flush.buffer(), flush.offset(), flush.sizeof());
-            }
-        }
+        writer.accept(flush.typeId(), flush.buffer(), flush.offset(), flush.sizeof());
     }
 
     private void doSystemWindow(
@@ -1211,11 +1316,7 @@ public class EngineWorker implements EngineContext, Agent
         long now,
         long timerId)
     {
-        final Runnable task = tasksByTimerId.remove(timerId);
-        if (task != null)
-        {
-            task.run();
-        }
+        timers.expire(timerId);
         return true;
     }
 
@@ -1855,7 +1956,47 @@ public class EngineWorker implements EngineContext, Agent
     private Target newTarget(
         int index)
     {
-        return new Target(config, index, writeBuffer, correlations, streams, streamSets, throttles);
+        final Runnable wakeup = config.backoffSelect() && index < config.workers()
+            ? () -> wakeupWorker.accept(index)
+            : () -> {};
+
+        return new Target(config, index, localIndex, writeBuffer, correlations, streams, streamSets, throttles, wakeup);
+    }
+
+    private int readChannels()
+    {
+        final RingBuffer[] channels = channelsBuffers;
+        final int channelCount = channels.length;
+
+        int workDone = 0;
+        for (int i = 0; i < channelCount; i++)
+        {
+            workDone += channels[(channelIndex + i) % channelCount].read(readHandler, readLimit);
+        }
+        channelIndex = (channelIndex + 1) % channelCount;
+
+        return workDone;
+    }
+
+    private long nextDeadline()
+    {
+        return timerWheel.timerCount() != 0L ? timerWheel.currentTickTime() : Long.MAX_VALUE;
+    }
+
+    private boolean pending()
+    {
+        return streamsBuffer.consumerPosition() < streamsBuffer.producerPosition() || !drained(channelsBuffers);
+    }
+
+    private static boolean drained(
+        RingBuffer[] buffers)
+    {
+        boolean drained = true;
+        for (RingBuffer buffer : buffers)
+        {
+            drained &= buffer.consumerPosition() >= buffer.producerPosition();
+        }
+        return drained;
     }
 
     private DefaultBudgetDebitor newBudgetDebitor(
@@ -1873,24 +2014,75 @@ public class EngineWorker implements EngineContext, Agent
         long bindingId)
     {
         final Affinity affinity = supplyAffinity(bindingId);
-        final BitSet mask = affinity.mask;
+        assert affinity.mask.cardinality() != 0;
+        return affinityBalanced && affinity.count > 1
+            ? resolveBalancedIndex(affinity)
+            : resolveNextIndex(affinity);
+    }
+
+    private int resolveNextIndex(
+        Affinity affinity)
+    {
         final int remoteIndex = affinity.nextIndex;
 
-        // currently round-robin with prefer-local only
-        assert mask.cardinality() != 0;
+        // round-robin with prefer-local
         if (remoteIndex != localIndex)
         {
-            int nextIndex = affinity.mask.nextSetBit(remoteIndex + 1);
-            if (nextIndex == -1)
+            affinity.nextIndex = nextSetBit(affinity.mask, remoteIndex);
+        }
+
+        return remoteIndex;
+    }
+
+    private int resolveBalancedIndex(
+        Affinity affinity)
+    {
+        final BitSet mask = affinity.mask;
+        final int startIndex = affinity.nextIndex;
+
+        int remoteIndex = mask.get(localIndex) ? localIndex : startIndex;
+        long minDepth = queueDepth(remoteIndex);
+
+        // least queue depth, prefer-local, then round-robin on ties
+        for (int index = startIndex, count = 0; count < affinity.count && minDepth != 0L; count++)
+        {
+            if (index != remoteIndex)
             {
-                nextIndex = affinity.mask.nextSetBit(0);
+                final long depth = queueDepth(index);
+                if (depth < minDepth)
+                {
+                    minDepth = depth;
+                    remoteIndex = index;
+                }
             }
-            affinity.nextIndex = nextIndex;
+            index = nextSetBit(mask, index);
         }
 
+        affinity.nextIndex = nextSetBit(mask, startIndex);
+
         return remoteIndex;
     }
 
+    private long queueDepth(
+        int index)
+    {
+        return index == localIndex
+            ? queueDepth()
+            : supplyQueueDepth.applyAsLong(index);
+    }
+
+    private static int nextSetBit(
+        BitSet mask,
+        int index)
+    {
+        int nextIndex = mask.nextSetBit(index + 1);
+        if (nextIndex == -1)
+        {
+            nextIndex = mask.nextSetBit(0);
+        }
+        return nextIndex;
+    }
+
     private Affinity supplyAffinity(
         long bindingId)
     {
@@ -1900,20 +2092,21 @@ public class EngineWorker implements EngineContext, Agent
     public Affinity resolveAffinity(
         long bindingId)
     {
-        long mask = affinityMask.applyAsLong(bindingId);
+        BitSet mask = affinityMask.apply(bindingId);
 
-        if (Long.bitCount(mask) == 0)
+        if (mask.isEmpty())
         {
             int namespaceId = NamespacedId.namespaceId(bindingId);
             int localId = NamespacedId.localId(bindingId);
             String namespace = labels.lookupLabel(namespaceId);
             String binding = labels.lookupLabel(localId);
-            throw new IllegalStateException(String.format("affinity mask must specify at least one bit: %s.%s %d",
+            throw new IllegalStateException(String.format("affinity mask must specify at least one bit: %s.%s %s",
                     namespace, binding, mask));
         }
 
         Affinity affinity = new Affinity();
-        affinity.mask = BitSet.valueOf(new long[] { mask });
+        affinity.mask = mask;
+        affinity.count = mask.cardinality();
         affinity.nextIndex = affinity.mask.get(localIndex) ? localIndex : affinity.mask.nextSetBit(0);
 
         return affinity;
@@ -1929,7 +2122,7 @@ public class EngineWorker implements EngineContext, Agent
     private Int2ObjectHashMap<MessageConsumer>[] initDispatcher()
     {
         @SuppressWarnings("unchecked")
-        Int2ObjectHashMap<MessageConsumer>[] dispatcher = new Int2ObjectHashMap[64];
+        Int2ObjectHashMap<MessageConsumer>[] dispatcher = new Int2ObjectHashMap[EXTERNAL_INDEX + 1];
         for (int i = 0; i < dispatcher.length; i++)
         {
             dispatcher[i] = new Int2ObjectHashMap<>();
@@ -1958,8 +2151,7 @@ public class EngineWorker implements EngineContext, Agent
             Runnable task)
         {
             final long timerId = timerWheel.scheduleTimer(timeMillis);
-            final Runnable oldTask = tasksByTimerId.put(timerId, task);
-            assert oldTask == null;
+            timers.task(timerId, task);
             assert timerId >= 0L;
         }
 
@@ -1970,9 +2162,7 @@ public class EngineWorker implements EngineContext, Agent
             IntConsumer handler)
         {
             final long timerId = timerWheel.scheduleTimer(timeMillis);
-            final Runnable task = () -> handler.accept(signalId);
-            final Runnable oldTask = tasksByTimerId.put(timerId, task);
-            assert oldTask == null;
+            timers.handler(timerId, signalId, handler);
             assert timerId >= 0L;
             return timerId;
         }
@@ -1988,10 +2178,7 @@ public class EngineWorker implements EngineContext, Agent
             int contextId)
         {
             final long timerId = timerWheel.scheduleTimer(timeMillis);
-            final Runnable task = () -> signal(originId, routedId, streamId, 0L, 0L,
-                traceId, NO_CANCEL_ID, signalId, contextId);
-            final Runnable oldTask = tasksByTimerId.put(timerId, task);
-            assert oldTask == null;
+            timers.signal(timerId, originId, routedId, streamId, traceId, signalId, contextId);
             assert timerId >= 0L;
             return timerId;
         }
@@ -2069,7 +2256,7 @@ public class EngineWorker implements EngineContext, Agent
             {
                 final long timerId = cancelId;
                 cancelled = timerWheel.cancelTimer(timerId);
-                tasksByTimerId.remove(timerId);
+                timers.remove(timerId);
             }
             else if (cancelId != NO_CANCEL_ID)
             {
@@ -2132,6 +2319,8 @@ public class EngineWorker implements EngineContext, Agent
                 .build();
 
             streamsBuffer.write(signal.typeId(), signal.buffer(), signal.offset(), signal.sizeof());
+
+            wakeup();
         }
 
         private void signal(
@@ -2167,12 +2356,15 @@ public class EngineWorker implements EngineContext, Agent
                                             .build();
 
             streamsBuffer.write(signal.typeId(), signal.buffer(), signal.offset(), signal.sizeof());
+
+            wakeup();
         }
     }
 
     private static final class Affinity
     {
         BitSet mask;
+        int count;
         int nextIndex;
     }
 }
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.registry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+import org.agrona.collections.LongHashSet;
+
+import io.aklivity.zilla.runtime.engine.config.BindingConfig;
+import io.aklivity.zilla.runtime.engine.config.CatalogConfig;
+import io.aklivity.zilla.runtime.engine.config.CatalogedConfig;
+import io.aklivity.zilla.runtime.engine.config.EngineConfig;
+import io.aklivity.zilla.runtime.engine.config.GuardConfig;
+import io.aklivity.zilla.runtime.engine.config.GuardedConfig;
+import io.aklivity.zilla.runtime.engine.config.ModelConfig;
+import io.aklivity.zilla.runtime.engine.config.NamespaceConfig;
+import io.aklivity.zilla.runtime.engine.config.RouteConfig;
+import io.aklivity.zilla.runtime.engine.config.VaultConfig;
+import io.aklivity.zilla.runtime.engine.internal.config.NamespaceAdapter;
+
+public final class NamespaceChanges
+{
+    private static final String BINDINGS_NAME = "bindings";
+    private static final String GUARDS_NAME = "guards";
+    private static final String VAULTS_NAME = "vaults";
+    private static final String CATALOGS_NAME = "catalogs";
+    private static final String TELEMETRY_NAME = "telemetry";
+
+    final NamespaceConfig namespace;
+    final List<BindingConfig> detachBindings;
+    final List<BindingConfig> attachBindings;
+    final List<GuardConfig> detachGuards;
+    final List<GuardConfig> attachGuards;
+    final List<VaultConfig> detachVaults;
+    final List<VaultConfig> attachVaults;
+    final List<CatalogConfig> detachCatalogs;
+    final List<CatalogConfig> attachCatalogs;
+
+    private final NamespaceConfig oldNamespace;
+    private final JsonObject oldJson;
+    private final JsonObject newJson;
+
+    private NamespaceChanges(
+        NamespaceConfig oldNamespace,
+        NamespaceConfig namespace,
+        JsonObject oldJson,
+        JsonObject newJson)
+    {
+        this.oldNamespace = oldNamespace;
+        this.namespace = namespace;
+        this.oldJson = oldJson;
+        this.newJson = newJson;
+        this.detachBindings = new ArrayList<>();
+        this.attachBindings = new ArrayList<>();
+        this.detachGuards = new ArrayList<>();
+        this.attachGuards = new ArrayList<>();
+        this.detachVaults = new ArrayList<>();
+        this.attachVaults = new ArrayList<>();
+        this.detachCatalogs = new ArrayList<>();
+        this.attachCatalogs = new ArrayList<>();
+    }
+
+    public NamespaceConfig namespace()
+    {
+        return namespace;
+    }
+
+    public boolean isEmpty()
+    {
+        return detachBindings.isEmpty() && attachBindings.isEmpty() &&
+            detachGuards.isEmpty() && attachGuards.isEmpty() &&
+            detachVaults.isEmpty() && attachVaults.isEmpty() &&
+            detachCatalogs.isEmpty() && attachCatalogs.isEmpty();
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("%s: bindings -%d +%d, guards -%d +%d, vaults -%d +%d, catalogs -%d +%d",
+            namespace.name, detachBindings.size(), attachBindings.size(), detachGuards.size(), attachGuards.size(),
+            detachVaults.size(), attachVaults.size(), detachCatalogs.size(), attachCatalogs.size());
+    }
+
+    /**
+     * Compares namespaces present in both configurations by name and content.
+     *
+     * @return changes by namespace name, with a {@code null} value when the namespace must be replaced as a whole
+     */
+    public static Map<String, NamespaceChanges> diff(
+        NamespaceAdapter adapter,
+        EngineConfig oldConfig,
+        EngineConfig newConfig)
+    {
+        Map<String, NamespaceConfig> oldNamespaces = new HashMap<>();
+        oldConfig.namespaces.forEach(n -> oldNamespaces.put(n.name, n));
+
+        Map<String, NamespaceChanges> changesByName = new LinkedHashMap<>();
+        LongHashSet changedIds = new LongHashSet();
+
+        for (NamespaceConfig newNamespace : newConfig.namespaces)
+        {
+            NamespaceConfig oldNamespace = oldNamespaces.remove(newNamespace.name);
+            if (oldNamespace != null)
+            {
+                JsonObject oldJson = adapt(adapter, oldNamespace);
+                JsonObject newJson = adapt(adapter, newNamespace);
+
+                if (oldJson == null || newJson == null ||
+                    !Objects.equals(oldJson.get(TELEMETRY_NAME), newJson.get(TELEMETRY_NAME)))
+                {
+                    changesByName.put(newNamespace.name, null);
+                    addIds(oldNamespace, changedIds);
+                }
+                else
+                {
+                    NamespaceChanges changes = new NamespaceChanges(oldNamespace, newNamespace, oldJson, newJson);
+                    changes.diffVaults(changedIds);
+                    changes.diffGuards(changedIds);
+                    changesByName.put(newNamespace.name, changes);
+                }
+            }
+        }
+
+        oldNamespaces.values().forEach(n -> addIds(n, changedIds));
+
+        changesByName.values().stream()
+            .filter(Objects::nonNull)
+            .forEach(c -> c.diffCatalogs(changedIds));
+
+        changesByName.values().stream()
+            .filter(Objects::nonNull)
+            .forEach(c -> c.diffBindings(changedIds));
+
+        return changesByName;
+    }
+
+    private void diffVaults(
+        LongHashSet changedIds)
+    {
+        diff(oldNamespace.vaults, namespace.vaults, v -> v.name, v -> v.id,
+            oldJson.getJsonObject(VAULTS_NAME), newJson.getJsonObject(VAULTS_NAME),
+            v -> false, detachVaults, attachVaults, changedIds);
+    }
+
+    private void diffGuards(
+        LongHashSet changedIds)
+    {
+        diff(oldNamespace.guards, namespace.guards, g -> g.name, g -> g.id,
+            oldJson.getJsonObject(GUARDS_NAME), newJson.getJsonObject(GUARDS_NAME),
+            g -> false, detachGuards, attachGuards, changedIds);
+    }
+
+    private void diffCatalogs(
+        LongHashSet changedIds)
+    {
+        diff(oldNamespace.catalogs, namespace.catalogs, c -> c.name, c -> c.id,
+            oldJson.getJsonObject(CATALOGS_NAME), newJson.getJsonObject(CATALOGS_NAME),
+            c -> c.vaultId != 0L && changedIds.contains(c.vaultId), detachCatalogs, attachCatalogs, changedIds);
+    }
+
+    private void diffBindings(
+        LongHashSet changedIds)
+    {
+        diff(oldNamespace.bindings, namespace.bindings, b -> b.name, b -> b.id,
+            oldJson.getJsonObject(BINDINGS_NAME), newJson.getJsonObject(BINDINGS_NAME),
+            b -> dependsOn(b, changedIds), detachBindings, attachBindings, changedIds);
+    }
+
+    private static <T> void diff(
+        List<T> oldItems,
+        List<T> newItems,
+        Function<T, String> nameOf,
+        ToLongFunction<T> idOf,
+        JsonObject oldJson,
+        JsonObject newJson,
+        Predicate<T> dependsOnChanged,
+        List<T> detached,
+        List<T> attached,
+        LongHashSet changedIds)
+    {
+        Map<String, T> newItemsByName = new HashMap<>();
+        newItems.forEach(i -> newItemsByName.put(nameOf.apply(i), i));
+
+        for (T oldItem : oldItems)
+        {
+            String name = nameOf.apply(oldItem);
+            T newItem = newItemsByName.remove(name);
+
+            if (newItem == null ||
+                !Objects.equals(lookup(oldJson, name), lookup(newJson, name)) ||
+                dependsOnChanged.test(newItem))
+            {
+                detached.add(oldItem);
+                changedIds.add(idOf.applyAsLong(oldItem));
+
+                if (newItem != null)
+                {
+                    attached.add(newItem);
+                }
+            }
+        }
+
+        attached.addAll(newItemsByName.values());
+    }
+
+    private static boolean dependsOn(
+        BindingConfig binding,
+        LongHashSet changedIds)
+    {
+        boolean depends = binding.vaultId != 0L && changedIds.contains(binding.vaultId);
+
+        if (!depends && binding.catalogs != null)
+        {
+            depends = binding.catalogs.stream().anyMatch(c -> changedIds.contains(c.id));
+        }
+
+        if (!depends && binding.options != null && binding.options.models != null)
+        {
+            for (ModelConfig model : binding.options.models)
+            {
+                if (model.cataloged != null)
+                {
+                    for (CatalogedConfig cataloged : model.cataloged)
+                    {
+                        depends |= changedIds.contains(cataloged.id);
+                    }
+                }
+            }
+        }
+
+        if (!depends)
+        {
+            for (RouteConfig route : binding.routes)
+            {
+                if (route.guarded != null)
+                {
+                    for (GuardedConfig guarded : route.guarded)
+                    {
+                        depends |= changedIds.contains(guarded.id);
+                    }
+                }
+            }
+        }
+
+        return depends;
+    }
+
+    private static void addIds(
+        NamespaceConfig namespace,
+        LongHashSet ids)
+    {
+        namespace.vaults.forEach(v -> ids.add(v.id));
+        namespace.guards.forEach(g -> ids.add(g.id));
+        namespace.catalogs.forEach(c -> ids.add(c.id));
+    }
+
+    private static JsonValue lookup(
+        JsonObject json,
+        String name)
+    {
+        return json != null ? json.get(name) : null;
+    }
+
+    private static JsonObject adapt(
+        NamespaceAdapter adapter,
+        NamespaceConfig namespace)
+    {
+        JsonObject json = null;
+
+        try
+        {
+            json = adapter.adaptToJson(namespace);
+        }
+        catch (Exception ex)
+        {
+            // replace namespace as a whole
+        }
+
+        return json;
+    }
+}
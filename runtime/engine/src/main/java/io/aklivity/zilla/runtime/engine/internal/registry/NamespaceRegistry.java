@@ -54,7 +54,7 @@ import io.aklivity.zilla.runtime.engine.vault.VaultContext;
 
 public class NamespaceRegistry
 {
-    private final NamespaceConfig namespace;
+    private NamespaceConfig namespace;
     private final Function<String, BindingContext> bindingsByType;
     private final Function<String, GuardContext> guardsByType;
     private final Function<String, VaultContext> vaultsByType;
@@ -143,6 +143,22 @@ public class NamespaceRegistry
         namespace.telemetry.exporters.forEach(this::detachExporter);
     }
 
+    public void reconfigure(
+        NamespaceChanges changes)
+    {
+        changes.detachBindings.forEach(this::detachBinding);
+        changes.detachCatalogs.forEach(this::detachCatalog);
+        changes.detachGuards.forEach(this::detachGuard);
+        changes.detachVaults.forEach(this::detachVault);
+
+        namespace = changes.namespace;
+
+        changes.attachVaults.forEach(this::attachVault);
+        changes.attachGuards.forEach(this::attachGuard);
+        changes.attachCatalogs.forEach(this::attachCatalog);
+        changes.attachBindings.forEach(this::attachBinding);
+    }
+
     public Collection<BindingRegistry> bindings()
     {
         return bindingsById.values();
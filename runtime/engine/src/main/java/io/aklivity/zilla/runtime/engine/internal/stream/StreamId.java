@@ -17,6 +17,8 @@ package io.aklivity.zilla.runtime.engine.internal.stream;
 
 public final class StreamId
 {
+    public static final int EXTERNAL_INDEX = 0x7f;
+
     public static int streamIndex(
         long streamId)
     {
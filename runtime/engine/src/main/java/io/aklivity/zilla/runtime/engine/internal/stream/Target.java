@@ -51,7 +51,7 @@ public final class Target implements AutoCloseable
 
     private final int localIndex;
     private final String targetName;
-    private final AutoCloseable streamsLayout;
+    private final StreamsLayout streamsLayout;
     private final MutableDirectBuffer writeBuffer;
     private final boolean timestamps;
     private final Long2ObjectHashMap<MessageConsumer> correlations;
@@ -59,6 +59,7 @@ public final class Target implements AutoCloseable
     private final Long2ObjectHashMap<LongHashSet> streamSets;
     private final Int2ObjectHashMap<MessageConsumer>[] throttles;
     private final MessageConsumer writeHandler;
+    private final Runnable wakeup;
 
     private MessagePredicate streamsBuffer;
 
@@ -66,21 +67,27 @@ public final class Target implements AutoCloseable
     public Target(
         EngineConfiguration config,
         int index,
+        int sourceIndex,
         MutableDirectBuffer writeBuffer,
         Long2ObjectHashMap<MessageConsumer> correlations,
         Int2ObjectHashMap<MessageConsumer>[] streams,
         Long2ObjectHashMap<LongHashSet> streamSets,
-        Int2ObjectHashMap<MessageConsumer>[] throttles)
+        Int2ObjectHashMap<MessageConsumer>[] throttles,
+        Runnable wakeup)
     {
         this.timestamps = config.timestamps();
         this.localIndex = index;
 
-        final String targetName = String.format("data%d", index);
+        final boolean channel = config.streamsChannels() && index != sourceIndex && index < config.workers();
+        final String targetName = channel
+            ? String.format("data%d-%d", index, sourceIndex)
+            : String.format("data%d", index);
         this.targetName = targetName;
 
         final StreamsLayout streamsLayout = new StreamsLayout.Builder()
                 .path(config.directory().resolve(targetName))
                 .streamsCapacity(config.streamsBufferCapacity())
+                .singleProducer(channel)
                 .readonly(true)
                 .build();
         this.streamsLayout = streamsLayout;
@@ -91,6 +98,7 @@ public final class Target implements AutoCloseable
         this.streams = streams;
         this.streamSets = streamSets;
         this.throttles = throttles;
+        this.wakeup = wakeup;
 
         this.writeHandler = this::handleWrite;
     }
@@ -158,6 +166,8 @@ public final class Target implements AutoCloseable
         {
             throw new IllegalStateException("Unable to write to streams buffer");
         }
+
+        wakeup.run();
     }
 
     private boolean handleWriteSystem(
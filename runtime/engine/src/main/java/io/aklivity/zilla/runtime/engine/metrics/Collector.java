@@ -31,6 +31,25 @@ public interface Collector
         long bindingId,
         long metricId);
 
+    default int histogramPrecision()
+    {
+        return 0;
+    }
+
+    default LongSupplier histogramCount(
+        long bindingId,
+        long metricId)
+    {
+        return null;
+    }
+
+    default LongSupplier histogramSum(
+        long bindingId,
+        long metricId)
+    {
+        return null;
+    }
+
     long[][] counterIds();
 
     long[][] gaugeIds();
@@ -16,39 +16,64 @@
 package io.aklivity.zilla.runtime.engine.metrics.reader;
 
 import static io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout.BUCKETS;
-import static io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout.BUCKET_LIMITS;
+import static io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout.findBucket;
 import static io.aklivity.zilla.runtime.engine.namespace.NamespacedId.namespaceId;
 
 import java.util.Objects;
 import java.util.function.LongFunction;
 import java.util.function.LongSupplier;
 
-import org.agrona.collections.Int2IntHashMap;
+import io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout;
 
 public class HistogramRecord implements MetricRecord
 {
-    private static final Int2IntHashMap MS_BUCKET_MAP = generateMillisecondsBucketMap();
+    private static final long NANOS_PER_MILLISECOND = 1_000_000L;
 
     private final long bindingId;
     private final long metricId;
     private final int namespaceId;
+    private final int precision;
+    private final int buckets;
+    private final long[] bucketLimits;
     private final LongSupplier[] readers;
+    private final LongSupplier countReader;
+    private final LongSupplier sumReader;
     private final LongFunction<String> labelResolver;
 
-    private long[] bucketValues = new long[BUCKETS];
+    private long[] bucketValues;
     private long[] millisecondBucketValues = null;
+    private long count;
+    private long sum;
 
     public HistogramRecord(
         long bindingId,
         long metricId,
         LongSupplier[] readers,
         LongFunction<String> labelResolver)
+    {
+        this(bindingId, metricId, 0, readers, null, null, labelResolver);
+    }
+
+    public HistogramRecord(
+        long bindingId,
+        long metricId,
+        int precision,
+        LongSupplier[] readers,
+        LongSupplier countReader,
+        LongSupplier sumReader,
+        LongFunction<String> labelResolver)
     {
         this.bindingId = bindingId;
         this.metricId = metricId;
         this.namespaceId = namespaceId(bindingId);
+        this.precision = precision;
+        this.buckets = BUCKETS << precision;
+        this.bucketLimits = HistogramsLayout.bucketLimits(precision);
         this.readers = readers;
+        this.countReader = countReader;
+        this.sumReader = sumReader;
         this.labelResolver = labelResolver;
+        this.bucketValues = new long[buckets];
     }
 
     @Override
@@ -76,22 +101,32 @@ public class HistogramRecord implements MetricRecord
         return labelResolver.apply(metricId);
     }
 
+    public int precision()
+    {
+        return precision;
+    }
+
     public int buckets()
     {
-        return BUCKETS;
+        return buckets;
     }
 
     public long[] bucketLimits()
     {
-        return BUCKET_LIMITS;
+        return bucketLimits;
     }
 
     public void update()
     {
-        for (int i = 0; i < BUCKETS; i++)
+        for (int i = 0; i < buckets; i++)
         {
             bucketValues[i] = readers[i].getAsLong();
         }
+        if (countReader != null && sumReader != null)
+        {
+            count = countReader.getAsLong();
+            sum = sumReader.getAsLong();
+        }
         millisecondBucketValues = null;
     }
 
@@ -104,10 +139,10 @@ public class HistogramRecord implements MetricRecord
     {
         if (millisecondBucketValues == null)
         {
-            millisecondBucketValues = new long[BUCKETS];
-            for (int i = 0; i < BUCKETS; i++)
+            millisecondBucketValues = new long[buckets];
+            for (int i = 0; i < buckets; i++)
             {
-                int msIndex = MS_BUCKET_MAP.get(i);
+                int msIndex = findBucket((bucketLimits[i] - 1) / NANOS_PER_MILLISECOND, precision);
                 millisecondBucketValues[msIndex] += bucketValues[i];
             }
         }
@@ -116,7 +151,7 @@ public class HistogramRecord implements MetricRecord
 
     public long[] stats()
     {
-        return stats(bucketValues);
+        return stats(bucketValues, 1L);
     }
 
     public long[] millisecondStats()
@@ -125,17 +160,18 @@ public class HistogramRecord implements MetricRecord
         {
             millisecondBucketValues();
         }
-        return stats(millisecondBucketValues);
+        return stats(millisecondBucketValues, NANOS_PER_MILLISECOND);
     }
 
     private long[] stats(
-        long[] bucketValues)
+        long[] bucketValues,
+        long divisor)
     {
         long count = 0L;
         long sum = 0L;
         int minIndex = -1;
         int maxIndex = -1;
-        for (int i = 0; i < BUCKETS; i++)
+        for (int i = 0; i < buckets; i++)
         {
             long bucketCount = bucketValues[i];
             count += bucketCount;
@@ -150,6 +186,13 @@ public class HistogramRecord implements MetricRecord
             }
         }
 
+        if (countReader != null && sumReader != null)
+        {
+            // exact count and sum recorded alongside the buckets
+            count = this.count;
+            sum = this.sum / divisor;
+        }
+
         long minimum = minIndex == -1 ? 0L : getValue(minIndex);
         long maximum = maxIndex == -1 ? 0L : getValue(maxIndex);
         long average = count == 0L ? 0L : sum / count;
@@ -159,7 +202,7 @@ public class HistogramRecord implements MetricRecord
     private long getValue(
         int index)
     {
-        return BUCKET_LIMITS[index] - 1;
+        return bucketLimits[index] - 1;
     }
 
     @Override
@@ -183,74 +226,4 @@ public class HistogramRecord implements MetricRecord
     {
         return Objects.hash(namespaceId, bindingId, metricId);
     }
-
-    private static Int2IntHashMap generateMillisecondsBucketMap()
-    {
-        Int2IntHashMap map = new Int2IntHashMap(-1);
-        // source bucket index -> dividing source bucket limit by 1 million -> destination bucket index
-        map.put(0, 0); // 2 -> 2
-        map.put(1, 0); // 4 -> 2
-        map.put(2, 0); // 8 -> 2
-        map.put(3, 0); // 16 -> 2
-        map.put(4, 0); // 32 -> 2
-        map.put(5, 0); // 64 -> 2
-        map.put(6, 0); // 128 -> 2
-        map.put(7, 0); // 256 -> 2
-        map.put(8, 0); // 512 -> 2
-        map.put(9, 0); // 1024 -> 2
-        map.put(10, 0); // 2048 -> 2
-        map.put(11, 0); // 4096 -> 2
-        map.put(12, 0); // 8192 -> 2
-        map.put(13, 0); // 16384 -> 2
-        map.put(14, 0); // 32768 -> 2
-        map.put(15, 0); // 65536 -> 2
-        map.put(16, 0); // 131072 -> 2
-        map.put(17, 0); // 262144 -> 2
-        map.put(18, 0); // 524288 -> 2
-        map.put(19, 0); // 1048576 -> 2
-        map.put(20, 1); // 2097152 -> 4
-        map.put(21, 2); // 4194304 -> 4
-        map.put(22, 3); // 8388608 -> 8
-        map.put(23, 4); // 16777216 -> 16
-        map.put(24, 5); // 33554432 -> 33
-        map.put(25, 6); // 67108864 -> 67
-        map.put(26, 7); // 134217728 -> 134
-        map.put(27, 8); // 268435456 -> 268
-        map.put(28, 9); // 536870912 -> 536
-        map.put(29, 10); // 1073741824 -> 1073
-        map.put(30, 11); // 2147483648 -> 2147
-        map.put(31, 12); // 4294967296 -> 4294
-        map.put(32, 13); // 8589934592 -> 8589
-        map.put(33, 14); // 17179869184 -> 17179
-        map.put(34, 15); // 34359738368 -> 34359
-        map.put(35, 16); // 68719476736 -> 68719
-        map.put(36, 17); // 137438953472 -> 137438
-        map.put(37, 18); // 274877906944 -> 274877
-        map.put(38, 19); // 549755813888 -> 549755
-        map.put(39, 20); // 1099511627776 -> 1099511
-        map.put(40, 21); // 2199023255552 -> 2199023
-        map.put(41, 22); // 4398046511104 -> 4398046
-        map.put(42, 23); // 8796093022208 -> 8796093
-        map.put(43, 24); // 17592186044416 -> 17592186
-        map.put(44, 25); // 35184372088832 -> 35184372
-        map.put(45, 26); // 70368744177664 -> 70368744
-        map.put(46, 27); // 140737488355328 -> 140737488
-        map.put(47, 28); // 281474976710656 -> 281474976
-        map.put(48, 29); // 562949953421312 -> 562949953
-        map.put(49, 30); // 1125899906842624 -> 1125899906
-        map.put(50, 31); // 2251799813685248 -> 2251799813
-        map.put(51, 32); // 4503599627370496 -> 4503599627
-        map.put(52, 33); // 9007199254740992 -> 9007199254
-        map.put(53, 34); // 18014398509481984 -> 18014398509
-        map.put(54, 35); // 36028797018963968 -> 36028797018
-        map.put(55, 36); // 72057594037927936 -> 72057594037
-        map.put(56, 37); // 144115188075855872 -> 144115188075
-        map.put(57, 38); // 288230376151711744 -> 288230376151
-        map.put(58, 39); // 576460752303423488 -> 576460752303
-        map.put(59, 40); // 1152921504606846976 -> 1152921504606
-        map.put(60, 41); // 2305843009213693952 -> 2305843009213
-        map.put(61, 42); // 4611686018427387904 -> 4611686018427
-        map.put(62, 43);
-        return map;
-    }
 }
@@ -76,7 +76,10 @@ public class MetricsReader
             long bindingId = histogramIds[0];
             long metricId = histogramIds[1];
             LongSupplier[] histogramReaders = collector.histogram(bindingId, metricId);
-            MetricRecord record = new HistogramRecord(bindingId, metricId, histogramReaders, labelResolver);
+            LongSupplier countReader = collector.histogramCount(bindingId, metricId);
+            LongSupplier sumReader = collector.histogramSum(bindingId, metricId);
+            MetricRecord record = new HistogramRecord(bindingId, metricId, collector.histogramPrecision(),
+                histogramReaders, countReader, sumReader, labelResolver);
             records.add(record);
         }
     }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.catalog;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CatalogCacheTest
+{
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReloadPersistedSchemas() throws Exception
+    {
+        Path directory = folder.getRoot().toPath();
+
+        CatalogCache<String, Integer> cache = newCache(directory);
+        cache.persistSchema(9, "{\"type\":\"string\"}").get(10, SECONDS);
+        cache.persistSchemaId(0x12345678, "items-value", "latest", 9).get(10, SECONDS);
+
+        CatalogCache<String, Integer> reloaded = newCache(directory);
+
+        assertEquals("{\"type\":\"string\"}", reloaded.schemas.get(9).get());
+        assertEquals(9, reloaded.schemaIds.get(0x12345678).get().intValue());
+        assertEquals("items-value", reloaded.subjects.get(0x12345678).subject());
+        assertEquals("latest", reloaded.subjects.get(0x12345678).version());
+        assertTrue(reloaded.prefetch());
+        assertFalse(reloaded.prefetch());
+    }
+
+    @Test
+    public void shouldIgnoreMissingDirectory() throws Exception
+    {
+        CatalogCache<String, Integer> cache = newCache(folder.getRoot().toPath().resolve("missing"));
+
+        assertTrue(cache.schemas.isEmpty());
+        assertTrue(cache.schemaIds.isEmpty());
+        assertFalse(cache.prefetch());
+    }
+
+    @Test
+    public void shouldDeleteTempFileWhenPersistFails() throws Exception
+    {
+        Path directory = folder.getRoot().toPath();
+        Path schemas = directory.resolve("schemas");
+        Files.createDirectories(schemas.resolve("9").resolve("occupied"));
+
+        CatalogCache<String, Integer> cache = newCache(directory);
+        cache.persistSchema(9, "{\"type\":\"string\"}").get(10, SECONDS);
+
+        try (Stream<Path> files = Files.list(schemas))
+        {
+            assertEquals(1L, files.count());
+        }
+    }
+
+    private static CatalogCache<String, Integer> newCache(
+        Path directory)
+    {
+        return new CatalogCache<>(directory, ForkJoinPool.commonPool(), s -> s, i -> i);
+    }
+}
@@ -17,6 +17,7 @@ package io.aklivity.zilla.runtime.engine.internal;
 
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_CONFIG_URL;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_DIRECTORY;
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_HISTOGRAM_PRECISION;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_WORKERS;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
@@ -72,6 +73,21 @@ public class EngineTest
         }
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectHistogramPrecisionOutOfRange() throws Exception
+    {
+        properties.put(ENGINE_HISTOGRAM_PRECISION.name(), "26");
+        EngineConfiguration config = new EngineConfiguration(properties);
+        List<Throwable> errors = new LinkedList<>();
+        try (Engine engine = Engine.builder()
+                .config(config)
+                .errorHandler(errors::add)
+                .build())
+        {
+            engine.start();
+        }
+    }
+
     @Test
     public void shouldConfigure()
     {
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.BitSet;
+
+import org.junit.Test;
+
+public class TuningTest
+{
+    private static final Path DIRECTORY = Paths.get("target/zilla-itests/tuning");
+
+    @Test
+    public void shouldDefaultToAvailableWorkers() throws Exception
+    {
+        try (Tuning tuning = new Tuning(DIRECTORY, 96))
+        {
+            tuning.reset();
+
+            BitSet expected = new BitSet();
+            expected.set(0, 96);
+
+            assertThat(tuning.affinity(1L), equalTo(expected));
+        }
+    }
+
+    @Test
+    public void shouldStoreWideAffinity() throws Exception
+    {
+        try (Tuning tuning = new Tuning(DIRECTORY, 128))
+        {
+            tuning.reset();
+
+            BitSet mask = new BitSet();
+            mask.set(3);
+            mask.set(64);
+            mask.set(127);
+
+            tuning.affinity(1L, mask);
+            tuning.affinity(2L, BitSet.valueOf(new long[] { 0x0fL }));
+
+            assertThat(tuning.affinity(1L), equalTo(mask));
+            assertThat(tuning.affinity(2L), equalTo(BitSet.valueOf(new long[] { 0x0fL })));
+            assertThat(Files.size(DIRECTORY.resolve("tuning")), equalTo(2L * (Long.BYTES + 2 * Long.BYTES)));
+        }
+    }
+
+    @Test
+    public void shouldStoreNarrowAffinity() throws Exception
+    {
+        try (Tuning tuning = new Tuning(DIRECTORY, 4))
+        {
+            tuning.reset();
+
+            tuning.affinity(1L, BitSet.valueOf(new long[] { 0x05L }));
+
+            assertThat(tuning.affinity(1L), equalTo(BitSet.valueOf(new long[] { 0x05L })));
+            assertThat(Files.size(DIRECTORY.resolve("tuning")), equalTo((long) Long.BYTES + Long.BYTES));
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package io.aklivity.zilla.runtime.engine.internal.budget;
 
 import static io.aklivity.zilla.runtime.engine.budget.BudgetCreditor.NO_CREDITOR_INDEX;
+import static io.aklivity.zilla.runtime.engine.internal.stream.StreamId.EXTERNAL_INDEX;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.mockito.Mockito.verify;
@@ -145,7 +146,7 @@ public class DefaultBudgetCreditorTest
             assertEquals(1024L, creditor.available(creditorIndex));
         }
 
-        verify(flusher).flush(traceId, budgetId, 0x01L);
+        verify(flusher).flush(traceId, budgetId, 0);
         verifyNoMoreInteractions(flusher);
     }
 
@@ -171,7 +172,39 @@ public class DefaultBudgetCreditorTest
             assertEquals(1024L, creditor.available(creditorIndex));
         }
 
-        verify(flusher).flush(traceId, budgetId, 0x01L);
+        verify(flusher).flush(traceId, budgetId, 0);
+        verifyNoMoreInteractions(flusher);
+    }
+
+    @Test
+    public void shouldCreditWithExternalWatcher() throws Exception
+    {
+        final BudgetFlusher flusher = Mockito.mock(BudgetFlusher.class);
+        final BudgetsLayout layout = new BudgetsLayout.Builder()
+            .owner(true)
+            .path(Paths.get("target/zilla-itests/budgets0"))
+            .capacity(1024)
+            .build();
+
+        final long budgetId = 1L;
+        final long watcherId = 2L;
+        final long traceId = 3L;
+
+        try (DefaultBudgetCreditor creditor = new DefaultBudgetCreditor(0, layout, flusher))
+        {
+            final DefaultBudgetDebitor debitor = new DefaultBudgetDebitor(EXTERNAL_INDEX, 0, layout);
+
+            final long creditorIndex = creditor.acquire(budgetId);
+            final long debitorIndex = debitor.acquire(budgetId, watcherId, id -> {});
+            final int claimed = debitor.claim(debitorIndex, watcherId, 256, 1024);
+
+            assertEquals(0, claimed);
+            assertEquals(1L << (EXTERNAL_INDEX % Long.SIZE), debitor.watchers(debitorIndex));
+
+            creditor.credit(traceId, creditorIndex, 1024L);
+        }
+
+        verify(flusher).flush(traceId, budgetId, EXTERNAL_INDEX);
         verifyNoMoreInteractions(flusher);
     }
 }
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.IntArrayList;
 import org.junit.Test;
 
 public class DefaultBufferPoolTest
@@ -122,5 +123,108 @@ public class DefaultBufferPoolTest
         assertNotEquals(DefaultBufferPool.NO_SLOT, slot);
     }
 
+    @Test
+    public void acquireShouldAllocateSlotOfRequestedSizeClass() throws Exception
+    {
+        DefaultBufferPool slab = new DefaultBufferPool(4096, 1024, 64);
+
+        int slot = slab.acquire(123, 200);
+
+        assertEquals(256, slab.slotCapacity(slot));
+        assertEquals(256, slab.buffer(slot).capacity());
+        assertEquals(1, slab.acquiredSlots(256));
+        assertEquals(0, slab.acquiredSlots(1024));
+    }
+
+    @Test
+    public void acquireShouldSplitAndMergeSlots() throws Exception
+    {
+        DefaultBufferPool slab = new DefaultBufferPool(2048, 1024, 64);
+        IntArrayList slots = new IntArrayList();
+
+        int slot;
+        while ((slot = slab.acquire(111 + slots.size(), 64)) != DefaultBufferPool.NO_SLOT)
+        {
+            slots.addInt(slot);
+        }
+
+        assertEquals(32, slots.size());
+        assertEquals(DefaultBufferPool.NO_SLOT, slab.acquire(200));
+
+        slots.forEachInt(slab::release);
+
+        assertEquals(0, slab.acquiredSlots());
+        assertNotEquals(DefaultBufferPool.NO_SLOT, slab.acquire(201));
+        assertNotEquals(DefaultBufferPool.NO_SLOT, slab.acquire(202));
+        assertEquals(DefaultBufferPool.NO_SLOT, slab.acquire(203));
+    }
+
+    @Test
+    public void acquireShouldReportOutOfMemoryForSizeGreaterThanSlotCapacity() throws Exception
+    {
+        DefaultBufferPool slab = new DefaultBufferPool(4096, 1024, 64);
+
+        assertEquals(DefaultBufferPool.NO_SLOT, slab.acquire(123, 2048));
+    }
+
+    @Test
+    public void resizeShouldShrinkSlotInPlace() throws Exception
+    {
+        DefaultBufferPool slab = new DefaultBufferPool(1024, 1024, 64);
+        int slot = slab.acquire(123);
+        slab.buffer(slot).putInt(0, 456);
+
+        int resized = slab.resize(slot, 100);
+
+        assertEquals(slot, resized);
+        assertEquals(128, slab.slotCapacity(resized));
+        assertEquals(456, slab.buffer(resized).getInt(0));
+        assertNotEquals(DefaultBufferPool.NO_SLOT, slab.acquire(124, 512));
+    }
+
+    @Test
+    public void resizeShouldGrowSlotInPlace() throws Exception
+    {
+        DefaultBufferPool slab = new DefaultBufferPool(1024, 1024, 64);
+        int slot = slab.acquire(123, 64);
+        slab.buffer(slot).putInt(0, 456);
+
+        int resized = slab.resize(slot, 1000);
+
+        assertEquals(slot, resized);
+        assertEquals(1024, slab.slotCapacity(resized));
+        assertEquals(456, slab.buffer(resized).getInt(0));
+        assertEquals(1, slab.acquiredSlots());
+        assertEquals(1, slab.acquiredSlots(1024));
+        assertEquals(0, slab.acquiredSlots(64));
+    }
+
+    @Test
+    public void resizeShouldGrowSlotByMove() throws Exception
+    {
+        DefaultBufferPool slab = new DefaultBufferPool(2048, 1024, 64);
+        int slot = slab.acquire(123, 64);
+        int neighbour = slab.acquire(124, 64);
+        slab.buffer(slot).putInt(0, 456);
+
+        int resized = slab.resize(slot, 512);
+
+        assertNotEquals(slot, resized);
+        assertNotEquals(neighbour, resized);
+        assertEquals(512, slab.slotCapacity(resized));
+        assertEquals(456, slab.buffer(resized).getInt(0));
+        assertEquals(2, slab.acquiredSlots());
+    }
+
+    @Test
+    public void resizeShouldReportOutOfMemory() throws Exception
+    {
+        DefaultBufferPool slab = new DefaultBufferPool(1024, 1024, 64);
+        int slot = slab.acquire(123, 64);
+        slab.acquire(124, 64);
+
+        assertEquals(DefaultBufferPool.NO_SLOT, slab.resize(slot, 1024));
+        assertEquals(64, slab.slotCapacity(slot));
+    }
 }
 
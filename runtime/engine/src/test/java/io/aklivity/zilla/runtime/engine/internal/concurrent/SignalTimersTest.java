@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.concurrent;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.engine.internal.concurent.SignalTimers;
+
+public class SignalTimersTest
+{
+    private final List<String> signals = new ArrayList<>();
+    private final SignalTimers timers = new SignalTimers(2, this::onSignal);
+
+    @Test
+    public void shouldExpireSignal()
+    {
+        timers.signal(7L, 1L, 2L, 3L, 4L, 5, 6);
+
+        assertThat(timers.expire(7L), is(true));
+        assertThat(timers.expire(7L), is(false));
+        assertThat(signals, contains("1:2:3:4:5:6"));
+        assertThat(timers.size(), equalTo(0));
+    }
+
+    @Test
+    public void shouldExpireHandlerAndTask()
+    {
+        timers.handler(1L, 42, s -> signals.add("handler:" + s));
+        timers.task(2L, () -> signals.add("task"));
+
+        timers.expire(2L);
+        timers.expire(1L);
+
+        assertThat(signals, contains("task", "handler:42"));
+    }
+
+    @Test
+    public void shouldNotExpireRemoved()
+    {
+        timers.signal(1L, 1L, 1L, 1L, 1L, 1, 1);
+
+        assertThat(timers.remove(1L), is(true));
+        assertThat(timers.remove(1L), is(false));
+        assertThat(timers.expire(1L), is(false));
+        assertThat(signals.isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldReuseReleasedSlots()
+    {
+        for (long timerId = 0L; timerId < 8L; timerId++)
+        {
+            timers.signal(timerId, timerId, 0L, 0L, 0L, 0, 0);
+        }
+
+        for (long timerId = 0L; timerId < 8L; timerId += 2L)
+        {
+            timers.remove(timerId);
+        }
+
+        for (long timerId = 8L; timerId < 12L; timerId++)
+        {
+            timers.signal(timerId, timerId, 0L, 0L, 0L, 0, 0);
+        }
+
+        for (long timerId = 0L; timerId < 12L; timerId++)
+        {
+            timers.expire(timerId);
+        }
+
+        assertThat(signals, contains("1:0:0:0:0:0", "3:0:0:0:0:0", "5:0:0:0:0:0", "7:0:0:0:0:0",
+            "8:0:0:0:0:0", "9:0:0:0:0:0", "10:0:0:0:0:0", "11:0:0:0:0:0"));
+        assertThat(timers.size(), equalTo(0));
+    }
+
+    @Test
+    public void shouldScheduleFromExpiringTimer()
+    {
+        timers.handler(1L, 1, s -> timers.signal(2L, 2L, 2L, 2L, 2L, 2, 2));
+
+        timers.expire(1L);
+        timers.expire(2L);
+
+        assertThat(signals, contains("2:2:2:2:2:2"));
+    }
+
+    private void onSignal(
+        long originId,
+        long routedId,
+        long streamId,
+        long traceId,
+        int signalId,
+        int contextId)
+    {
+        signals.add(String.format("%d:%d:%d:%d:%d:%d", originId, routedId, streamId, traceId, signalId, contextId));
+    }
+}
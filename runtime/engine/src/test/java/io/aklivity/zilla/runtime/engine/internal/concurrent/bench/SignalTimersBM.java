@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.concurrent.bench;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.agrona.DeadlineTimerWheel;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.engine.internal.concurent.SignalTimers;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 10, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class SignalTimersBM
+{
+    private static final int OUTSTANDING = 64 * 1024;
+
+    private DeadlineTimerWheel timerWheel;
+    private Long2ObjectHashMap<Runnable> tasksByTimerId;
+    private SignalTimers timers;
+    private long[] timerIds;
+    private int timerIndex;
+    private long streamId;
+
+    @Setup(Level.Iteration)
+    public void init()
+    {
+        this.timerWheel = new DeadlineTimerWheel(MILLISECONDS, 0L, 512, 1024);
+        this.tasksByTimerId = new Long2ObjectHashMap<>();
+        this.timers = new SignalTimers(1024, (o, r, s, t, i, c) -> {});
+        this.timerIds = new long[OUTSTANDING];
+        this.timerIndex = 0;
+
+        for (int i = 0; i < OUTSTANDING; i++)
+        {
+            final long timerId = timerWheel.scheduleTimer(i);
+            tasksByTimerId.put(timerId, () -> {});
+            timers.signal(timerId, 0L, 0L, i, 0L, 0, 0);
+            timerIds[i] = timerId;
+        }
+    }
+
+    @Benchmark
+    public void lambdas(
+        Blackhole blackhole)
+    {
+        final long cancelId = timerIds[timerIndex];
+        timerWheel.cancelTimer(cancelId);
+        tasksByTimerId.remove(cancelId);
+
+        final long originId = 1L;
+        final long routedId = 2L;
+        final long streamId = ++this.streamId;
+        final long timerId = timerWheel.scheduleTimer(streamId & 0xffffL);
+        tasksByTimerId.put(timerId, () -> blackhole.consume(originId + routedId + streamId));
+        timerIds[timerIndex] = timerId;
+        timerIndex = (timerIndex + 1) % OUTSTANDING;
+    }
+
+    @Benchmark
+    public void records()
+    {
+        final long cancelId = timerIds[timerIndex];
+        timerWheel.cancelTimer(cancelId);
+        timers.remove(cancelId);
+
+        final long streamId = ++this.streamId;
+        final long timerId = timerWheel.scheduleTimer(streamId & 0xffffL);
+        timers.signal(timerId, 1L, 2L, streamId, 0L, 0, 0);
+        timerIds[timerIndex] = timerId;
+        timerIndex = (timerIndex + 1) % OUTSTANDING;
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(SignalTimersBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
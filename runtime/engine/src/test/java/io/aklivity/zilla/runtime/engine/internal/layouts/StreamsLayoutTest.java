@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.layouts;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.ringbuffer.OneToOneRingBuffer;
+import org.junit.Test;
+
+public class StreamsLayoutTest
+{
+    private static final Path PATH = Paths.get("target/zilla-itests/data0-1");
+    private static final int CAPACITY = 1024;
+
+    private int msgTypeId;
+    private int value;
+
+    @Test
+    public void shouldWriteAndReadChannel()
+    {
+        // GIVEN
+        StreamsLayout reader = new StreamsLayout.Builder()
+            .path(PATH)
+            .streamsCapacity(CAPACITY)
+            .singleProducer(true)
+            .build();
+        StreamsLayout writer = new StreamsLayout.Builder()
+            .path(PATH)
+            .streamsCapacity(CAPACITY)
+            .singleProducer(true)
+            .readonly(true)
+            .build();
+        UnsafeBuffer buffer = new UnsafeBuffer(new byte[Integer.BYTES]);
+        buffer.putInt(0, 0x12345678);
+        writer.streamsBuffer().write(42, buffer, 0, buffer.capacity());
+
+        // WHEN
+        int count = reader.streamsBuffer().read(this::readFrame, 1);
+
+        // THEN
+        assertThat(reader.streamsBuffer(), instanceOf(OneToOneRingBuffer.class));
+        assertThat(count, equalTo(1));
+        assertThat(msgTypeId, equalTo(42));
+        assertThat(value, equalTo(0x12345678));
+
+        writer.close();
+        reader.close();
+    }
+
+    private void readFrame(
+        int msgTypeId,
+        DirectBuffer buffer,
+        int index,
+        int length)
+    {
+        this.msgTypeId = msgTypeId;
+        this.value = buffer.getInt(index);
+    }
+}
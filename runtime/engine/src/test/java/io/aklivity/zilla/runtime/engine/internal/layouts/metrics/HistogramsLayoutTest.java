@@ -174,6 +174,106 @@ public class HistogramsLayoutTest
         Files.delete(path);
     }
 
+    @Test
+    public void shouldRecordCountAndSum() throws Exception
+    {
+        String fileName = "target/zilla-itests/histograms4";
+        Path path = Paths.get(fileName);
+        HistogramsLayout histogramsLayout = new HistogramsLayout.Builder()
+                .path(path)
+                .capacity(8192)
+                .readonly(false)
+                .build();
+
+        LongConsumer writer = histogramsLayout.supplyWriter(11L, 42L);
+        LongSupplier count = histogramsLayout.supplyCountReader(11L, 42L);
+        LongSupplier sum = histogramsLayout.supplySumReader(11L, 42L);
+
+        writer.accept(1L);
+        writer.accept(17L);
+        writer.accept(18L);
+
+        assertThat(count.getAsLong(), equalTo(3L));
+        assertThat(sum.getAsLong(), equalTo(36L));
+        assertThat(histogramsLayout.supplyCountReader(22L, 77L).getAsLong(), equalTo(0L));
+        assertThat(histogramsLayout.supplySumReader(22L, 77L).getAsLong(), equalTo(0L));
+
+        histogramsLayout.close();
+        assertTrue(Files.exists(path));
+        Files.delete(path);
+    }
+
+    @Test
+    public void shouldWorkWithSubBucketPrecision() throws Exception
+    {
+        String fileName = "target/zilla-itests/histograms5";
+        Path path = Paths.get(fileName);
+        HistogramsLayout histogramsLayout = new HistogramsLayout.Builder()
+                .path(path)
+                .capacity(8192 << 3)
+                .precision(3)
+                .readonly(false)
+                .build();
+
+        LongConsumer writer = histogramsLayout.supplyWriter(11L, 42L);
+        LongSupplier[] readers = histogramsLayout.supplyReaders(11L, 42L);
+        long[] limits = HistogramsLayout.bucketLimits(3);
+
+        assertThat(readers.length, equalTo(504));
+        assertThat(limits.length, equalTo(504));
+
+        // bucket 32 (16L - 17L), bucket 33 (18L - 19L)
+        writer.accept(16L);
+        writer.accept(17L);
+        writer.accept(18L);
+        assertThat(readers[32].getAsLong(), equalTo(2L));
+        assertThat(readers[33].getAsLong(), equalTo(1L));
+        assertThat(limits[32], equalTo(18L));
+        assertThat(limits[33], equalTo(20L));
+
+        // bucket 8 (2L), bucket 12 (3L)
+        writer.accept(2L);
+        writer.accept(3L);
+        assertThat(readers[8].getAsLong(), equalTo(1L));
+        assertThat(readers[12].getAsLong(), equalTo(1L));
+
+        // bucket 164 (1_572_864L - 1_703_935L)
+        writer.accept(1_600_000L);
+        assertThat(HistogramsLayout.findBucket(1_600_000L, 3), equalTo(164));
+        assertThat(readers[164].getAsLong(), equalTo(1L));
+        assertThat(limits[163], equalTo(1_572_864L));
+        assertThat(limits[164], equalTo(1_703_936L));
+
+        writer.accept(Long.MAX_VALUE);
+        assertThat(readers[503].getAsLong(), equalTo(1L));
+
+        HistogramsLayout readonlyLayout = new HistogramsLayout.Builder()
+                .path(path)
+                .readonly(true)
+                .build();
+        assertThat(readonlyLayout.precision(), equalTo(3));
+        assertThat(readonlyLayout.supplyReaders(11L, 42L)[164].getAsLong(), equalTo(1L));
+        assertThat(readonlyLayout.supplyCountReader(11L, 42L).getAsLong(), equalTo(7L));
+
+        readonlyLayout.close();
+        histogramsLayout.close();
+        assertTrue(Files.exists(path));
+        Files.delete(path);
+    }
+
+    @Test
+    public void shouldMatchPowerOfTwoBucketsWithoutPrecision()
+    {
+        long[] limits = HistogramsLayout.bucketLimits(0);
+
+        assertThat(limits.length, equalTo(HistogramsLayout.BUCKETS));
+        for (int i = 0; i < HistogramsLayout.BUCKETS; i++)
+        {
+            assertThat(limits[i], equalTo(1L << (i + 1)));
+            assertThat(HistogramsLayout.findBucket(limits[i] - 1, 0), equalTo(i));
+        }
+    }
+
     @Test
     public void shouldThrowExceptionIfBufferIsTooSmall() throws Exception
     {
@@ -181,7 +281,7 @@ public class HistogramsLayoutTest
         Path path = Paths.get(fileName);
         HistogramsLayout histogramsLayout = new HistogramsLayout.Builder()
                 .path(path)
-                .capacity(1559) // we'd need 1560 bytes here for the0 3 records
+                .capacity(1559) // we'd need 1632 bytes here for the 3 records
                 .readonly(false)
                 .build();
 
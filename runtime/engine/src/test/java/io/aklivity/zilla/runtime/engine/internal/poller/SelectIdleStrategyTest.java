@@ -0,0 +1,134 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.poller;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class SelectIdleStrategyTest
+{
+    private final Poller poller = new Poller();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    @After
+    public void close()
+    {
+        executor.shutdownNow();
+        poller.onClose();
+    }
+
+    @Test
+    public void shouldSelectUntilMaxSelect()
+    {
+        final SelectIdleStrategy idle = new SelectIdleStrategy(poller, 0L, 0L, MILLISECONDS.toNanos(200L),
+            () -> Long.MAX_VALUE, () -> false);
+
+        final long elapsed = idleUntilSelect(idle);
+
+        assertThat(elapsed, greaterThanOrEqualTo(MILLISECONDS.toNanos(150L)));
+    }
+
+    @Test
+    public void shouldSelectUntilDeadline()
+    {
+        final long deadline = System.currentTimeMillis() + 50L;
+        final SelectIdleStrategy idle = new SelectIdleStrategy(poller, 0L, 0L, SECONDS.toNanos(10L),
+            () -> deadline, () -> false);
+
+        final long elapsed = idleUntilSelect(idle);
+
+        assertThat(elapsed, lessThan(SECONDS.toNanos(5L)));
+    }
+
+    @Test
+    public void shouldNotSelectWhenPending()
+    {
+        final SelectIdleStrategy idle = new SelectIdleStrategy(poller, 0L, 0L, SECONDS.toNanos(10L),
+            () -> Long.MAX_VALUE, () -> true);
+
+        final long elapsed = idleUntilSelect(idle);
+
+        assertThat(elapsed, lessThan(SECONDS.toNanos(5L)));
+    }
+
+    @Test
+    public void shouldWakeupSelect()
+    {
+        final SelectIdleStrategy idle = new SelectIdleStrategy(poller, 0L, 0L, SECONDS.toNanos(10L),
+            () -> Long.MAX_VALUE, () -> false);
+
+        executor.scheduleAtFixedRate(idle::wakeup, 50L, 50L, MILLISECONDS);
+
+        final long elapsed = idleUntilSelect(idle);
+
+        assertThat(elapsed, lessThan(SECONDS.toNanos(5L)));
+    }
+
+    @Test
+    public void shouldNotMissWakeupWhenPublishedConcurrently() throws Exception
+    {
+        final AtomicBoolean published = new AtomicBoolean();
+        final SelectIdleStrategy idle = new SelectIdleStrategy(poller, 0L, 0L, SECONDS.toNanos(30L),
+            () -> Long.MAX_VALUE, published::get);
+
+        for (int attempt = 0; attempt < 1000; attempt++)
+        {
+            published.set(false);
+
+            final Future<?> parked = executor.submit(() -> idleUntilPublished(idle, published));
+
+            Thread.sleep(0L, attempt % 100 * 1000);
+            published.set(true);
+            idle.wakeup();
+
+            parked.get(5L, SECONDS);
+        }
+    }
+
+    private static void idleUntilPublished(
+        SelectIdleStrategy idle,
+        AtomicBoolean published)
+    {
+        idle.reset();
+        while (!published.get())
+        {
+            idle.idle(0);
+        }
+    }
+
+    private static long idleUntilSelect(
+        SelectIdleStrategy idle)
+    {
+        idle.idle(0);
+        idle.idle(0);
+        idle.idle(0);
+
+        final long startAt = System.nanoTime();
+        idle.idle(0);
+        return System.nanoTime() - startAt;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.registry;
+
+import static io.aklivity.zilla.runtime.engine.config.KindConfig.SERVER;
+import static java.util.function.Function.identity;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.quality.Strictness;
+
+import io.aklivity.zilla.runtime.engine.config.BindingConfig;
+import io.aklivity.zilla.runtime.engine.config.ConfigAdapterContext;
+import io.aklivity.zilla.runtime.engine.config.EngineConfig;
+import io.aklivity.zilla.runtime.engine.config.GuardConfig;
+import io.aklivity.zilla.runtime.engine.config.GuardedConfig;
+import io.aklivity.zilla.runtime.engine.config.NamespaceConfig;
+import io.aklivity.zilla.runtime.engine.config.RouteConfig;
+import io.aklivity.zilla.runtime.engine.internal.config.NamespaceAdapter;
+import io.aklivity.zilla.runtime.engine.namespace.NamespacedId;
+import io.aklivity.zilla.runtime.engine.test.internal.guard.config.TestGuardOptionsConfig;
+
+public class NamespaceChangesTest
+{
+    @Rule
+    public MockitoRule rule = MockitoJUnit.rule().strictness(Strictness.STRICT_STUBS);
+
+    @Mock
+    private ConfigAdapterContext context;
+
+    private NamespaceAdapter adapter;
+
+    @Before
+    public void initAdapter()
+    {
+        adapter = new NamespaceAdapter(context);
+    }
+
+    @Test
+    public void shouldReattachChangedBindingOnly()
+    {
+        EngineConfig oldConfig = config(namespace("app0", "app1", "token", null));
+        EngineConfig newConfig = config(namespace("app0", "app2", "token", null));
+
+        Map<String, NamespaceChanges> changes = NamespaceChanges.diff(adapter, oldConfig, newConfig);
+        NamespaceChanges change = changes.get("test");
+
+        assertThat(change.detachBindings, contains(oldConfig.namespaces.get(0).bindings.get(1)));
+        assertThat(change.attachBindings, contains(newConfig.namespaces.get(0).bindings.get(1)));
+        assertThat(change.detachGuards, empty());
+        assertThat(change.attachGuards, empty());
+    }
+
+    @Test
+    public void shouldReattachBindingsGuardedByChangedGuard()
+    {
+        EngineConfig oldConfig = config(namespace("app0", "app1", "token", null));
+        EngineConfig newConfig = config(namespace("app0", "app1", "other", null));
+
+        Map<String, NamespaceChanges> changes = NamespaceChanges.diff(adapter, oldConfig, newConfig);
+        NamespaceChanges change = changes.get("test");
+
+        assertThat(change.detachGuards, contains(oldConfig.namespaces.get(0).guards.get(0)));
+        assertThat(change.attachGuards, contains(newConfig.namespaces.get(0).guards.get(0)));
+        assertThat(change.detachBindings, contains(oldConfig.namespaces.get(0).bindings.get(0)));
+        assertThat(change.attachBindings, contains(newConfig.namespaces.get(0).bindings.get(0)));
+    }
+
+    @Test
+    public void shouldNotChangeIdenticalNamespace()
+    {
+        EngineConfig oldConfig = config(namespace("app0", "app1", "token", null));
+        EngineConfig newConfig = config(namespace("app0", "app1", "token", null));
+
+        Map<String, NamespaceChanges> changes = NamespaceChanges.diff(adapter, oldConfig, newConfig);
+
+        assertTrue(changes.get("test").isEmpty());
+    }
+
+    @Test
+    public void shouldReplaceNamespaceWhenTelemetryChanged()
+    {
+        EngineConfig oldConfig = config(namespace("app0", "app1", "token", null));
+        EngineConfig newConfig = config(namespace("app0", "app1", "token", "value"));
+
+        Map<String, NamespaceChanges> changes = NamespaceChanges.diff(adapter, oldConfig, newConfig);
+
+        assertThat(changes, hasKey("test"));
+        assertThat(changes.get("test"), nullValue());
+    }
+
+    private static EngineConfig config(
+        NamespaceConfig namespace)
+    {
+        return EngineConfig.builder()
+            .namespace(namespace)
+            .build();
+    }
+
+    private static NamespaceConfig namespace(
+        String exit0,
+        String exit1,
+        String credentials,
+        String attribute)
+    {
+        NamespaceConfig namespace = NamespaceConfig.builder()
+            .inject(identity())
+            .name("test")
+            .telemetry()
+                .attribute()
+                    .name("test.attribute")
+                    .value(attribute != null ? attribute : "default")
+                    .build()
+                .build()
+            .guard()
+                .name("test0")
+                .type("test")
+                .options(TestGuardOptionsConfig::builder)
+                    .credentials(credentials)
+                    .lifetime(Duration.ofSeconds(10))
+                    .build()
+                .build()
+            .binding()
+                .name("net0")
+                .type("test")
+                .kind(SERVER)
+                .route()
+                    .exit(exit0)
+                    .guarded()
+                        .name("test0")
+                        .build()
+                    .build()
+                .build()
+            .binding()
+                .name("net1")
+                .type("test")
+                .kind(SERVER)
+                .route()
+                    .exit(exit1)
+                    .build()
+                .build()
+            .build();
+
+        namespace.id = 1;
+
+        int localId = 1;
+        for (GuardConfig guard : namespace.guards)
+        {
+            guard.id = NamespacedId.id(namespace.id, localId++);
+        }
+
+        for (BindingConfig binding : namespace.bindings)
+        {
+            binding.id = NamespacedId.id(namespace.id, localId++);
+
+            for (RouteConfig route : binding.routes)
+            {
+                for (GuardedConfig guarded : route.guarded)
+                {
+                    guarded.id = namespace.guards.get(0).id;
+                }
+            }
+        }
+
+        return namespace;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.stream;
+
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_DIRECTORY;
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_STREAMS_BUFFER_CAPACITY;
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_STREAMS_CHANNELS;
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_WORKERS;
+import static io.aklivity.zilla.runtime.engine.internal.stream.StreamId.EXTERNAL_INDEX;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+import java.util.Properties;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.MutableLong;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.ringbuffer.OneToOneRingBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.aklivity.zilla.runtime.engine.EngineConfiguration;
+import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
+import io.aklivity.zilla.runtime.engine.internal.layouts.StreamsLayout;
+import io.aklivity.zilla.runtime.engine.internal.types.stream.BeginFW;
+import io.aklivity.zilla.runtime.engine.internal.types.stream.FrameFW;
+
+public class TargetTest
+{
+    private static final int WORKERS = 3;
+    private static final int CAPACITY = 64 * 1024;
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final BeginFW.Builder beginRW = new BeginFW.Builder();
+    private final FrameFW frameRO = new FrameFW();
+    private final MutableDirectBuffer writeBuffer = new UnsafeBuffer(new byte[1024]);
+
+    private EngineConfiguration config;
+
+    @Before
+    public void initConfig() throws Exception
+    {
+        Properties properties = new Properties();
+        properties.setProperty(ENGINE_DIRECTORY.name(), tempFolder.newFolder().getPath());
+        properties.setProperty(ENGINE_WORKERS.name(), Integer.toString(WORKERS));
+        properties.setProperty(ENGINE_STREAMS_BUFFER_CAPACITY.name(), Integer.toString(CAPACITY));
+        properties.setProperty(ENGINE_STREAMS_CHANNELS.name(), "true");
+        config = new EngineConfiguration(properties);
+    }
+
+    @Test
+    public void shouldDeliverFramesAcrossWorkersOverChannels() throws Exception
+    {
+        try (StreamsLayout shared = newLayout("data1", false);
+             StreamsLayout channel0 = newLayout("data1-0", true);
+             StreamsLayout channel2 = newLayout("data1-2", true);
+             Target target0 = newTarget(1, 0);
+             Target target2 = newTarget(1, 2))
+        {
+            final long streamId0 = StreamId.streamId(0, 1, 1);
+            final long streamId2 = StreamId.streamId(2, 1, 3);
+
+            doBegin(target0, streamId0);
+            doBegin(target2, streamId2);
+            doBegin(target0, streamId0 + 2);
+
+            assertThat(channel0.streamsBuffer(), instanceOf(OneToOneRingBuffer.class));
+            assertThat(channel2.streamsBuffer(), instanceOf(OneToOneRingBuffer.class));
+
+            final MutableLong streamId = new MutableLong();
+            final MessageConsumer reader = (t, b, i, l) -> streamId.set(readStreamId(t, b, i, l));
+
+            assertThat(shared.streamsBuffer().read(reader::accept), equalTo(0));
+            assertThat(channel2.streamsBuffer().read(reader::accept), equalTo(1));
+            assertThat(streamId.get(), equalTo(streamId2));
+            assertThat(channel0.streamsBuffer().read(reader::accept, 1), equalTo(1));
+            assertThat(streamId.get(), equalTo(streamId0));
+            assertThat(channel0.streamsBuffer().read(reader::accept, 1), equalTo(1));
+            assertThat(streamId.get(), equalTo(streamId0 + 2));
+        }
+    }
+
+    @Test
+    public void shouldWriteExternalTargetToSharedStreams() throws Exception
+    {
+        final String external = String.format("data%d", EXTERNAL_INDEX);
+
+        try (StreamsLayout shared = newLayout(external, false);
+             Target target = newTarget(EXTERNAL_INDEX, 0))
+        {
+            final long streamId = StreamId.streamId(0, EXTERNAL_INDEX, 1);
+
+            doBegin(target, streamId);
+
+            final MutableLong readId = new MutableLong();
+            assertThat(shared.streamsBuffer().read((t, b, i, l) -> readId.set(readStreamId(t, b, i, l))), equalTo(1));
+            assertThat(readId.get(), equalTo(streamId));
+        }
+    }
+
+    private StreamsLayout newLayout(
+        String name,
+        boolean singleProducer)
+    {
+        return new StreamsLayout.Builder()
+            .path(config.directory().resolve(name))
+            .streamsCapacity(config.streamsBufferCapacity())
+            .singleProducer(singleProducer)
+            .readonly(false)
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Target newTarget(
+        int index,
+        int sourceIndex)
+    {
+        final Int2ObjectHashMap<MessageConsumer>[] streams = new Int2ObjectHashMap[WORKERS];
+        final Int2ObjectHashMap<MessageConsumer>[] throttles = new Int2ObjectHashMap[WORKERS];
+        for (int i = 0; i < WORKERS; i++)
+        {
+            streams[i] = new Int2ObjectHashMap<>();
+            throttles[i] = new Int2ObjectHashMap<>();
+        }
+
+        return new Target(config, index, sourceIndex, writeBuffer, new Long2ObjectHashMap<>(),
+            streams, new Long2ObjectHashMap<>(), throttles, () -> {});
+    }
+
+    private void doBegin(
+        Target target,
+        long streamId)
+    {
+        final BeginFW begin = beginRW.wrap(writeBuffer, 0, writeBuffer.capacity())
+            .originId(1L)
+            .routedId(2L)
+            .streamId(streamId)
+            .sequence(0L)
+            .acknowledge(0L)
+            .maximum(0)
+            .traceId(0L)
+            .authorization(0L)
+            .affinity(0L)
+            .build();
+
+        target.writeHandler().accept(begin.typeId(), begin.buffer(), begin.offset(), begin.sizeof());
+    }
+
+    private long readStreamId(
+        int msgTypeId,
+        DirectBuffer buffer,
+        int index,
+        int length)
+    {
+        assertThat(msgTypeId, equalTo(BeginFW.TYPE_ID));
+        return frameRO.wrap(buffer, index, index + length).streamId();
+    }
+}
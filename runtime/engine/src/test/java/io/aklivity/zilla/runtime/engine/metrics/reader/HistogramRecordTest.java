@@ -20,6 +20,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongSupplier;
 
@@ -114,6 +115,37 @@ public class HistogramRecordTest
         assertThat(stats[4], equalTo(302_365_750_092L)); // avg
     }
 
+    @Test
+    public void shouldResolveExactStatsWithPrecision()
+    {
+        // GIVEN
+        LongSupplier[] readers = new LongSupplier[63 << 3];
+        Arrays.fill(readers, (LongSupplier) () -> 0L);
+        readers[32] = () -> 2L; // 16..17
+        readers[33] = () -> 1L; // 18..19
+        readers[164] = () -> 1L; // 1_572_864..1_703_935
+        HistogramRecord histogram = new HistogramRecord(0L, 0L, 3, readers, () -> 4L, () -> 1_600_051L, null);
+
+        // WHEN
+        histogram.update();
+        int buckets = histogram.buckets();
+        long[] stats = histogram.stats();
+        long[] msValue = histogram.millisecondBucketValues();
+        long[] msStats = histogram.millisecondStats();
+
+        // THEN
+        assertThat(buckets, equalTo(504));
+        assertThat(histogram.bucketLimits()[33], equalTo(20L));
+        assertThat(stats[0], equalTo(17L)); // min
+        assertThat(stats[1], equalTo(1_703_935L)); // max
+        assertThat(stats[2], equalTo(1_600_051L)); // sum
+        assertThat(stats[3], equalTo(4L)); // cnt
+        assertThat(stats[4], equalTo(400_012L)); // avg
+        assertThat(msValue[0], equalTo(4L));
+        assertThat(msStats[2], equalTo(1L)); // sum
+        assertThat(msStats[3], equalTo(4L)); // cnt
+    }
+
     @Test
     public void shouldReturnZeroStatsWhenEmpty()
     {
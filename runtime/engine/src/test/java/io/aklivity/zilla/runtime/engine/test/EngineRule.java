@@ -22,6 +22,7 @@ import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_DRAIN_
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_ROUTED_DELAY_MILLIS;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_SYNTHETIC_ABORT;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_WORKERS;
+import static io.aklivity.zilla.runtime.engine.internal.stream.StreamId.EXTERNAL_INDEX;
 import static java.nio.file.FileVisitOption.FOLLOW_LINKS;
 import static java.nio.file.Files.exists;
 import static java.util.Collections.synchronizedList;
@@ -38,6 +39,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -71,8 +73,8 @@ public final class EngineRule implements TestRule
     public static final String ENGINE_CACERTS_STORE_NAME = "zilla.engine.cacerts.store";
     public static final String ENGINE_CACERTS_STORE_PASS_NAME = "zilla.engine.cacerts.store.pass";
 
-    private static final long EXTERNAL_AFFINITY_MASK = 1L << (Long.SIZE - 1);
-    private static final Pattern DATA_FILENAME_PATTERN = Pattern.compile("data\\d+");
+    private static final BitSet EXTERNAL_AFFINITY_MASK = externalAffinityMask();
+    private static final Pattern DATA_FILENAME_PATTERN = Pattern.compile("data\\d+(?:-\\d+)?");
 
     private final Properties properties;
     private final EngineBuilder builder;
@@ -417,4 +419,11 @@ public final class EngineRule implements TestRule
                "labels".equals(filename) ||
                DATA_FILENAME_PATTERN.matcher(filename).matches();
     }
+
+    private static BitSet externalAffinityMask()
+    {
+        final BitSet mask = new BitSet(EXTERNAL_INDEX + 1);
+        mask.set(EXTERNAL_INDEX);
+        return mask;
+    }
 }
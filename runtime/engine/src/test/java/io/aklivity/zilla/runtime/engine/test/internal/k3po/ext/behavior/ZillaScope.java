@@ -325,16 +325,10 @@ public final class ZillaScope implements AutoCloseable
     private void doSystemFlush(
         long traceId,
         long budgetId,
-        long watchers)
+        int watcherIndex)
     {
-        for (int watcherIndex = 0; watcherIndex < Long.SIZE; watcherIndex++)
-        {
-            if ((watchers & (1L << watcherIndex)) != 0L)
-            {
-                final ZillaTarget target = supplyTarget(watcherIndex);
-                target.doSystemFlush(traceId, budgetId);
-            }
-        }
+        final ZillaTarget target = supplyTarget(watcherIndex);
+        target.doSystemFlush(traceId, budgetId);
     }
 
     private ZillaTarget supplyTarget(
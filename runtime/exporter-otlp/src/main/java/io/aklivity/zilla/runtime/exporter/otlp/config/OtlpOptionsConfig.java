@@ -26,17 +26,43 @@ public class OtlpOptionsConfig extends OptionsConfig
         LOGS,
     }
 
+    public enum OtlpTemporalityConfig
+    {
+        CUMULATIVE,
+        DELTA,
+    }
+
+    public enum OtlpCompressionConfig
+    {
+        NONE,
+        GZIP,
+    }
+
     public long interval;
     public Set<OtlpSignalsConfig> signals;
     public OtlpEndpointConfig endpoint;
+    public OtlpTemporalityConfig temporality;
+    public OtlpCompressionConfig compression;
 
     public OtlpOptionsConfig(
         long interval,
         Set<OtlpSignalsConfig> signals,
         OtlpEndpointConfig endpoint)
+    {
+        this(interval, signals, endpoint, null, null);
+    }
+
+    public OtlpOptionsConfig(
+        long interval,
+        Set<OtlpSignalsConfig> signals,
+        OtlpEndpointConfig endpoint,
+        OtlpTemporalityConfig temporality,
+        OtlpCompressionConfig compression)
     {
         this.interval = interval;
         this.signals = signals;
         this.endpoint = endpoint;
+        this.temporality = temporality;
+        this.compression = compression;
     }
 }
@@ -23,6 +23,7 @@ public class OltpConfiguration extends Configuration
     public static final PropertyDef<Duration> OTLP_EXPORTER_RETRY_INTERVAL;
     public static final PropertyDef<Duration> OTLP_EXPORTER_TIMEOUT_INTERVAL;
     public static final PropertyDef<Duration> OTLP_EXPORTER_WARNING_INTERVAL;
+    public static final IntPropertyDef OTLP_EXPORTER_LOGS_BATCH_SIZE;
 
     private static final ConfigurationDef OTLP_EXPORTER_CONFIG;
 
@@ -35,6 +36,7 @@ public class OltpConfiguration extends Configuration
             (c, v) -> Duration.parse(v), "PT30S");
         OTLP_EXPORTER_WARNING_INTERVAL = config.property(Duration.class, "warning.interval",
             (c, v) -> Duration.parse(v), "PT5M");
+        OTLP_EXPORTER_LOGS_BATCH_SIZE = config.property("logs.batch.size", 100);
         OTLP_EXPORTER_CONFIG = config;
     }
 
@@ -58,4 +60,9 @@ public class OltpConfiguration extends Configuration
     {
         return OTLP_EXPORTER_WARNING_INTERVAL.get(this);
     }
+
+    public int logsBatchSize()
+    {
+        return OTLP_EXPORTER_LOGS_BATCH_SIZE.getAsInt(this);
+    }
 }
@@ -14,8 +14,11 @@
  */
 package io.aklivity.zilla.runtime.exporter.otlp.internal;
 
+import static io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig.OtlpCompressionConfig.GZIP;
 import static io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig.OtlpSignalsConfig.LOGS;
 import static io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig.OtlpSignalsConfig.METRICS;
+import static io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig.OtlpTemporalityConfig.DELTA;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.net.HttpURLConnection;
 import java.net.URI;
@@ -29,6 +32,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.LongFunction;
 
+import org.agrona.CloseHelper;
+
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.config.AttributeConfig;
 import io.aklivity.zilla.runtime.engine.config.KindConfig;
@@ -38,12 +43,17 @@ import io.aklivity.zilla.runtime.engine.metrics.reader.MetricsReader;
 import io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig;
 import io.aklivity.zilla.runtime.exporter.otlp.internal.config.OtlpExporterConfig;
 import io.aklivity.zilla.runtime.exporter.otlp.internal.serializer.EventReader;
+import io.aklivity.zilla.runtime.exporter.otlp.internal.serializer.OtlpLogsEncoder;
 import io.aklivity.zilla.runtime.exporter.otlp.internal.serializer.OtlpLogsSerializer;
+import io.aklivity.zilla.runtime.exporter.otlp.internal.serializer.OtlpMetricsEncoder;
 import io.aklivity.zilla.runtime.exporter.otlp.internal.serializer.OtlpMetricsSerializer;
 
 public class OltpExporterHandler implements ExporterHandler
 {
     private static final String HTTP = "http";
+    private static final String HTTP_PROTOBUF = "http/protobuf";
+    private static final String CONTENT_TYPE_JSON = "application/json";
+    private static final String CONTENT_TYPE_PROTOBUF = "application/x-protobuf";
 
     private final long retryInterval;
     private final Duration timeoutInterval;
@@ -59,9 +69,18 @@ public class OltpExporterHandler implements ExporterHandler
     private final List<AttributeConfig> attributes;
     private final HttpClient httpClient;
     private final Consumer<HttpResponse<String>> responseHandler;
+    private final Consumer<HttpResponse<String>> backlogResponseHandler;
+    private final boolean delta;
+    private final boolean gzip;
+    private final int logsBatchSize;
 
     private OtlpMetricsSerializer metricsSerializer;
     private OtlpLogsSerializer logsSerializer;
+    private OtlpMetricsEncoder metricsEncoder;
+    private OtlpLogsEncoder logsEncoder;
+    private OtlpGzipEncoder metricsGzip;
+    private OtlpGzipEncoder logsGzip;
+    private boolean logsBacklog;
     private long nextAttempt;
     private long lastSuccess;
     private boolean warningLogged;
@@ -88,19 +107,37 @@ public class OltpExporterHandler implements ExporterHandler
         this.collector = collector;
         this.resolveKind = resolveKind;
         this.attributes = attributes;
+        this.delta = exporter.resolveTemporality() == DELTA;
+        this.gzip = exporter.resolveCompression() == GZIP;
+        this.logsBatchSize = config.logsBatchSize();
         this.httpClient = HttpClient.newBuilder().build();
         this.responseHandler = this::handleResponse;
+        this.backlogResponseHandler = this::handleBacklogResponse;
     }
 
     @Override
     public void start()
     {
-        assert HTTP.equals(protocol);
+        assert HTTP.equals(protocol) || HTTP_PROTOBUF.equals(protocol);
 
         MetricsReader metrics = new MetricsReader(collector, context::supplyLocalName);
-        metricsSerializer = new OtlpMetricsSerializer(metrics.records(), attributes, context::resolveMetric, resolveKind);
         EventReader eventReader = new EventReader(context);
-        logsSerializer = new OtlpLogsSerializer(attributes, eventReader);
+        if (HTTP_PROTOBUF.equals(protocol))
+        {
+            metricsEncoder = new OtlpMetricsEncoder(metrics.records(), attributes, context::resolveMetric, resolveKind, delta);
+            logsEncoder = new OtlpLogsEncoder(attributes, eventReader, logsBatchSize);
+        }
+        else
+        {
+            metricsSerializer = new OtlpMetricsSerializer(metrics.records(), attributes, context::resolveMetric, resolveKind,
+                delta);
+            logsSerializer = new OtlpLogsSerializer(attributes, eventReader, logsBatchSize);
+        }
+        if (gzip)
+        {
+            metricsGzip = new OtlpGzipEncoder();
+            logsGzip = new OtlpGzipEncoder();
+        }
         lastSuccess = System.currentTimeMillis();
         nextAttempt = lastSuccess + interval;
     }
@@ -123,6 +160,12 @@ public class OltpExporterHandler implements ExporterHandler
             }
             workDone = 1;
         }
+        else if (logsBacklog && logsResponse.isDone())
+        {
+            // events remained after a full batch, so continue with the next batch ahead of the interval
+            exportLogs(backlogResponseHandler);
+            workDone = 1;
+        }
         return workDone;
     }
 
@@ -131,14 +174,34 @@ public class OltpExporterHandler implements ExporterHandler
     {
         if (signals.contains(METRICS) && (metricsResponse == null || metricsResponse.isDone()))
         {
-            String metricsJson = metricsSerializer.serializeAll();
-            HttpRequest metricsRequest = HttpRequest.newBuilder()
+            if (metricsResponse != null)
+            {
+                // delta baselines advance only once the previous export was accepted
+                final boolean exported = succeeded(metricsResponse);
+                if (metricsEncoder != null)
+                {
+                    metricsEncoder.complete(exported);
+                }
+                else
+                {
+                    metricsSerializer.complete(exported);
+                }
+            }
+
+            HttpRequest.Builder metricsRequest = HttpRequest.newBuilder()
                 .uri(metricsEndpoint)
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(metricsJson))
-                .timeout(timeoutInterval)
-                .build();
-            metricsResponse = httpClient.sendAsync(metricsRequest, HttpResponse.BodyHandlers.ofString());
+                .timeout(timeoutInterval);
+            if (metricsEncoder != null)
+            {
+                int length = metricsEncoder.encodeAll();
+                body(metricsRequest, CONTENT_TYPE_PROTOBUF, metricsEncoder.buffer().byteArray(), length, metricsGzip);
+            }
+            else
+            {
+                String metricsJson = metricsSerializer.serializeAll();
+                body(metricsRequest, metricsJson, metricsGzip);
+            }
+            metricsResponse = httpClient.sendAsync(metricsRequest.build(), HttpResponse.BodyHandlers.ofString());
             metricsResponse.thenAccept(responseHandler);
             nextAttempt = now + retryInterval;
         }
@@ -149,19 +212,73 @@ public class OltpExporterHandler implements ExporterHandler
     {
         if (signals.contains(LOGS) && (logsResponse == null || logsResponse.isDone()))
         {
-            String logsJson = logsSerializer.serializeAll();
-            HttpRequest logsRequest = HttpRequest.newBuilder()
-                .uri(logsEndpoint)
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(logsJson))
-                .timeout(timeoutInterval)
-                .build();
-            logsResponse = httpClient.sendAsync(logsRequest, HttpResponse.BodyHandlers.ofString());
-            logsResponse.thenAccept(responseHandler);
+            exportLogs(responseHandler);
             nextAttempt = now + retryInterval;
         }
     }
 
+    private void exportLogs(
+        Consumer<HttpResponse<String>> handler)
+    {
+        HttpRequest.Builder logsRequest = HttpRequest.newBuilder()
+            .uri(logsEndpoint)
+            .timeout(timeoutInterval);
+        int events;
+        if (logsEncoder != null)
+        {
+            int length = logsEncoder.encodeAll();
+            events = logsEncoder.events();
+            body(logsRequest, CONTENT_TYPE_PROTOBUF, logsEncoder.buffer().byteArray(), length, logsGzip);
+        }
+        else
+        {
+            String logsJson = logsSerializer.serializeAll();
+            events = logsSerializer.events();
+            body(logsRequest, logsJson, logsGzip);
+        }
+        logsBacklog = events == logsBatchSize;
+        logsResponse = httpClient.sendAsync(logsRequest.build(), HttpResponse.BodyHandlers.ofString());
+        logsResponse.thenAccept(handler);
+    }
+
+    private void body(
+        HttpRequest.Builder request,
+        String json,
+        OtlpGzipEncoder gzip)
+    {
+        if (gzip != null)
+        {
+            byte[] bytes = json.getBytes(UTF_8);
+            body(request, CONTENT_TYPE_JSON, bytes, bytes.length, gzip);
+        }
+        else
+        {
+            request.header("Content-Type", CONTENT_TYPE_JSON)
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        }
+    }
+
+    private void body(
+        HttpRequest.Builder request,
+        String contentType,
+        byte[] bytes,
+        int length,
+        OtlpGzipEncoder gzip)
+    {
+        // buffers are reused only once the previous request of the same signal is done
+        request.header("Content-Type", contentType);
+        if (gzip != null)
+        {
+            int encoded = gzip.encode(bytes, length);
+            request.header("Content-Encoding", "gzip")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(gzip.array(), 0, encoded));
+        }
+        else
+        {
+            request.POST(HttpRequest.BodyPublishers.ofByteArray(bytes, 0, length));
+        }
+    }
+
     private void handleResponse(
         HttpResponse<String> response)
     {
@@ -173,8 +290,26 @@ public class OltpExporterHandler implements ExporterHandler
         }
     }
 
+    private static boolean succeeded(
+        CompletableFuture<HttpResponse<String>> response)
+    {
+        return !response.isCompletedExceptionally() &&
+            response.join().statusCode() == HttpURLConnection.HTTP_OK;
+    }
+
+    private void handleBacklogResponse(
+        HttpResponse<String> response)
+    {
+        if (response.statusCode() == HttpURLConnection.HTTP_OK)
+        {
+            lastSuccess = System.currentTimeMillis();
+            warningLogged = false;
+        }
+    }
+
     @Override
     public void stop()
     {
+        CloseHelper.quietCloseAll(metricsGzip, logsGzip);
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.otlp.internal;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+
+public final class OtlpGzipEncoder implements AutoCloseable
+{
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+    private static final int GZIP_TRAILER_SIZE = 2 * Integer.BYTES;
+    private static final int DEFLATE_CHUNK_SIZE = 8192;
+
+    private final Deflater deflater;
+    private final CRC32 checksum;
+    private final MutableDirectBuffer buffer;
+
+    public OtlpGzipEncoder()
+    {
+        this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        this.checksum = new CRC32();
+        this.buffer = new ExpandableArrayBuffer();
+    }
+
+    public byte[] array()
+    {
+        return buffer.byteArray();
+    }
+
+    public int encode(
+        byte[] input,
+        int length)
+    {
+        deflater.reset();
+        deflater.setInput(input, 0, length);
+        deflater.finish();
+        checksum.reset();
+        checksum.update(input, 0, length);
+
+        buffer.putBytes(0, GZIP_HEADER);
+        int limit = GZIP_HEADER.length;
+        while (!deflater.finished())
+        {
+            buffer.checkLimit(limit + DEFLATE_CHUNK_SIZE);
+            limit += deflater.deflate(buffer.byteArray(), limit, buffer.capacity() - limit);
+        }
+
+        buffer.checkLimit(limit + GZIP_TRAILER_SIZE);
+        buffer.putInt(limit, (int) checksum.getValue(), LITTLE_ENDIAN);
+        buffer.putInt(limit + Integer.BYTES, length, LITTLE_ENDIAN);
+        return limit + GZIP_TRAILER_SIZE;
+    }
+
+    @Override
+    public void close()
+    {
+        deflater.end();
+    }
+}
@@ -14,8 +14,10 @@
  */
 package io.aklivity.zilla.runtime.exporter.otlp.internal.config;
 
+import static io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig.OtlpCompressionConfig.NONE;
 import static io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig.OtlpSignalsConfig.LOGS;
 import static io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig.OtlpSignalsConfig.METRICS;
+import static io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig.OtlpTemporalityConfig.CUMULATIVE;
 
 import java.net.URI;
 import java.time.Duration;
@@ -101,6 +103,20 @@ public class OtlpExporterConfig
         return options.endpoint.protocol;
     }
 
+    public OtlpOptionsConfig.OtlpTemporalityConfig resolveTemporality()
+    {
+        assert options != null;
+
+        return options.temporality != null ? options.temporality : CUMULATIVE;
+    }
+
+    public OtlpOptionsConfig.OtlpCompressionConfig resolveCompression()
+    {
+        assert options != null;
+
+        return options.compression != null ? options.compression : NONE;
+    }
+
     public long resolveInterval()
     {
         assert options != null;
@@ -27,6 +27,8 @@ import io.aklivity.zilla.runtime.engine.config.OptionsConfig;
 import io.aklivity.zilla.runtime.engine.config.OptionsConfigAdapterSpi;
 import io.aklivity.zilla.runtime.exporter.otlp.config.OtlpEndpointConfig;
 import io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig;
+import io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig.OtlpCompressionConfig;
+import io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig.OtlpTemporalityConfig;
 import io.aklivity.zilla.runtime.exporter.otlp.internal.OtlpExporter;
 
 public class OtlpOptionsConfigAdapter implements OptionsConfigAdapterSpi, JsonbAdapter<OptionsConfig, JsonObject>
@@ -34,6 +36,8 @@ public class OtlpOptionsConfigAdapter implements OptionsConfigAdapterSpi, JsonbA
     private static final String INTERVAL_NAME = "interval";
     private static final String SIGNALS_NAME = "signals";
     private static final String ENDPOINT_NAME = "endpoint";
+    private static final String TEMPORALITY_NAME = "temporality";
+    private static final String COMPRESSION_NAME = "compression";
 
     private final OtlpSignalsAdapter signals;
     private final OtlpEndpointAdapter endpoint;
@@ -74,6 +78,14 @@ public class OtlpOptionsConfigAdapter implements OptionsConfigAdapterSpi, JsonbA
         {
             object.add(ENDPOINT_NAME, endpoint.adaptToJson(otlpOptionsConfig.endpoint));
         }
+        if (otlpOptionsConfig.temporality != null)
+        {
+            object.add(TEMPORALITY_NAME, otlpOptionsConfig.temporality.name().toLowerCase());
+        }
+        if (otlpOptionsConfig.compression != null)
+        {
+            object.add(COMPRESSION_NAME, otlpOptionsConfig.compression.name().toLowerCase());
+        }
         return object.build();
     }
 
@@ -89,6 +101,12 @@ public class OtlpOptionsConfigAdapter implements OptionsConfigAdapterSpi, JsonbA
         OtlpEndpointConfig endpointConfig = object.containsKey(ENDPOINT_NAME)
             ? endpoint.adaptFromJson(object.getJsonObject(ENDPOINT_NAME))
             : null;
-        return new OtlpOptionsConfig(interval, signalsConfig, endpointConfig);
+        OtlpTemporalityConfig temporality = object.containsKey(TEMPORALITY_NAME)
+            ? OtlpTemporalityConfig.valueOf(object.getString(TEMPORALITY_NAME).toUpperCase())
+            : null;
+        OtlpCompressionConfig compression = object.containsKey(COMPRESSION_NAME)
+            ? OtlpCompressionConfig.valueOf(object.getString(COMPRESSION_NAME).toUpperCase())
+            : null;
+        return new OtlpOptionsConfig(interval, signalsConfig, endpointConfig, temporality, compression);
     }
 }
@@ -26,44 +26,67 @@ import jakarta.json.JsonReader;
 import org.agrona.DirectBuffer;
 
 import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageReader;
 import io.aklivity.zilla.runtime.engine.event.EventFormatter;
 import io.aklivity.zilla.runtime.exporter.otlp.internal.types.event.EventFW;
 
 public class EventReader
 {
-    private static final int MESSAGE_COUNT_LIMIT = 100;
     private static final String TIME_UNIX_NANO = "timeUnixNano";
     private static final String OBSERVED_TIME_UNIX_NANO = "observedTimeUnixNano";
     private static final String BODY = "body";
     private static final String ATTRIBUTES = "attributes";
-    private static final String BODY_FORMAT = "{\"stringValue\": \"%s %s\"}";
+    private static final String BODY_FORMAT = "{\"stringValue\": \"%s\"}";
     private static final String STRING_ATTRIBUTE_FORMAT = "{\"key\":\"%s\", \"value\":{\"stringValue\": \"%s\"}}";
 
     private final EngineContext context;
     private final MessageReader readEvent;
     private final EventFormatter formatter;
     private final EventFW eventRO = new EventFW();
+    private final MessageConsumer handleEvent;
+    private final EventConsumer handleEventJson;
 
+    private EventConsumer consumer;
     private JsonArrayBuilder eventsJson;
     private JsonObjectBuilder eventJson;
     private JsonArrayBuilder eventAttributesJson;
 
+    @FunctionalInterface
+    public interface EventConsumer
+    {
+        void accept(
+            long timestamp,
+            String name,
+            String body);
+    }
+
     public EventReader(
         EngineContext context)
     {
         this.context = context;
         this.readEvent = context.supplyEventReader();
         this.formatter = context.supplyEventFormatter();
+        this.handleEvent = this::handleEvent;
+        this.handleEventJson = this::handleEventJson;
     }
 
-    public JsonArray readEvents()
+    public JsonArray readEvents(
+        int limit)
     {
         eventsJson = Json.createArrayBuilder();
-        readEvent.read(this::handleEvent, MESSAGE_COUNT_LIMIT);
+        read(handleEventJson, limit);
         return eventsJson.build();
     }
 
+    public int read(
+        EventConsumer consumer,
+        int limit)
+    {
+        this.consumer = consumer;
+        return readEvent.read(handleEvent, limit);
+    }
+
     private void handleEvent(
         int msgTypeId,
         DirectBuffer buffer,
@@ -71,25 +94,32 @@ public class EventReader
         int length)
     {
         final EventFW event = eventRO.wrap(buffer, index, index + length);
-        eventJson = Json.createObjectBuilder();
-        long nanos = TimeUnit.MILLISECONDS.toNanos(event.timestamp());
-        eventJson.add(TIME_UNIX_NANO, nanos);
-        eventJson.add(OBSERVED_TIME_UNIX_NANO, nanos);
         String qname = context.supplyQName(event.namespacedId());
         String eventName = context.supplyEventName(event.id());
         String extension = formatter.format(msgTypeId, buffer, index, length);
+        consumer.accept(event.timestamp(), eventName, String.format("%s %s", qname, extension));
+    }
+
+    private void handleEventJson(
+        long timestamp,
+        String name,
+        String body)
+    {
+        eventJson = Json.createObjectBuilder();
+        long nanos = TimeUnit.MILLISECONDS.toNanos(timestamp);
+        eventJson.add(TIME_UNIX_NANO, nanos);
+        eventJson.add(OBSERVED_TIME_UNIX_NANO, nanos);
         eventAttributesJson = Json.createArrayBuilder();
-        addStringAttribute("event.name", eventName);
-        addBody(qname, extension);
+        addStringAttribute("event.name", name);
+        addBody(body);
         eventJson.add(ATTRIBUTES, eventAttributesJson);
         eventsJson.add(eventJson);
     }
 
     private void addBody(
-        String qname,
-        String extension)
+        String body)
     {
-        String json = String.format(BODY_FORMAT, qname, extension);
+        String json = String.format(BODY_FORMAT, body);
         JsonReader reader = Json.createReader(new StringReader(json));
         eventJson.add(BODY, reader.readObject());
     }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.otlp.internal.serializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.agrona.DirectBuffer;
+
+import io.aklivity.zilla.runtime.engine.config.AttributeConfig;
+
+public class OtlpLogsEncoder
+{
+    private static final String SCOPE_NAME = "OtlpLogsSerializer";
+    private static final String SCOPE_VERSION = "1.0.0";
+
+    // opentelemetry/proto/collector/logs/v1/logs_service.proto
+    private static final int EXPORT_RESOURCE_LOGS = 1;
+    private static final int RESOURCE_LOGS_RESOURCE = 1;
+    private static final int RESOURCE_LOGS_SCOPE_LOGS = 2;
+    private static final int RESOURCE_ATTRIBUTES = 1;
+    private static final int SCOPE_LOGS_SCOPE = 1;
+    private static final int SCOPE_LOGS_LOG_RECORDS = 2;
+    private static final int SCOPE_NAME_FIELD = 1;
+    private static final int SCOPE_VERSION_FIELD = 2;
+    private static final int KEY_VALUE_KEY = 1;
+    private static final int KEY_VALUE_VALUE = 2;
+    private static final int ANY_VALUE_STRING = 1;
+    private static final int LOG_TIME_UNIX_NANO = 1;
+    private static final int LOG_BODY = 5;
+    private static final int LOG_ATTRIBUTES = 6;
+    private static final int LOG_OBSERVED_TIME_UNIX_NANO = 11;
+
+    private final List<AttributeConfig> attributes;
+    private final EventReader eventReader;
+    private final EventReader.EventConsumer encodeEvent;
+    private final OtlpProtobufWriter writer;
+    private final int batchSize;
+
+    private int events;
+
+    public OtlpLogsEncoder(
+        List<AttributeConfig> attributes,
+        EventReader eventReader,
+        int batchSize)
+    {
+        this.attributes = attributes;
+        this.eventReader = eventReader;
+        this.encodeEvent = this::encodeEvent;
+        this.writer = new OtlpProtobufWriter();
+        this.batchSize = batchSize;
+    }
+
+    public DirectBuffer buffer()
+    {
+        return writer.buffer();
+    }
+
+    public int events()
+    {
+        return events;
+    }
+
+    public int encodeAll()
+    {
+        writer.reset()
+            .startMessage(EXPORT_RESOURCE_LOGS)
+            .startMessage(RESOURCE_LOGS_RESOURCE);
+        attributes.forEach(a -> attribute(RESOURCE_ATTRIBUTES, a.name, a.value));
+        writer.endMessage()
+            .startMessage(RESOURCE_LOGS_SCOPE_LOGS)
+            .startMessage(SCOPE_LOGS_SCOPE)
+            .string(SCOPE_NAME_FIELD, SCOPE_NAME)
+            .string(SCOPE_VERSION_FIELD, SCOPE_VERSION)
+            .endMessage();
+
+        events = eventReader.read(encodeEvent, batchSize);
+
+        writer.endMessage()
+            .endMessage();
+
+        return writer.limit();
+    }
+
+    private void encodeEvent(
+        long timestamp,
+        String name,
+        String body)
+    {
+        final long nanos = TimeUnit.MILLISECONDS.toNanos(timestamp);
+        writer.startMessage(SCOPE_LOGS_LOG_RECORDS)
+            .fixed64(LOG_TIME_UNIX_NANO, nanos)
+            .startMessage(LOG_BODY)
+            .string(ANY_VALUE_STRING, body)
+            .endMessage();
+        attribute(LOG_ATTRIBUTES, "event.name", name);
+        writer.fixed64(LOG_OBSERVED_TIME_UNIX_NANO, nanos)
+            .endMessage();
+    }
+
+    private void attribute(
+        int field,
+        String key,
+        String value)
+    {
+        writer.startMessage(field)
+            .string(KEY_VALUE_KEY, key)
+            .startMessage(KEY_VALUE_VALUE)
+            .string(ANY_VALUE_STRING, value)
+            .endMessage()
+            .endMessage();
+    }
+}
@@ -30,23 +30,34 @@ public class OtlpLogsSerializer
 
     private final List<AttributeConfig> attributes;
     private final EventReader eventReader;
+    private final int batchSize;
+
+    private int events;
 
     public OtlpLogsSerializer(
         List<AttributeConfig> attributes,
-        EventReader eventReader)
+        EventReader eventReader,
+        int batchSize)
     {
         this.attributes = attributes;
         this.eventReader = eventReader;
+        this.batchSize = batchSize;
     }
 
     public String serializeAll()
     {
         JsonArrayBuilder attributesArray = Json.createArrayBuilder();
         attributes.forEach(attr -> attributesArray.add(attributeToJson(attr)));
-        JsonArray logsArray = eventReader.readEvents();
+        JsonArray logsArray = eventReader.readEvents(batchSize);
+        events = logsArray.size();
         return createJson(attributesArray, logsArray);
     }
 
+    public int events()
+    {
+        return events;
+    }
+
     private JsonObject attributeToJson(
         AttributeConfig attributeConfig)
     {
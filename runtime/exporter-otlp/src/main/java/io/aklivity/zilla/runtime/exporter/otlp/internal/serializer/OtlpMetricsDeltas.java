@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.otlp.internal.serializer;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.agrona.collections.Object2ObjectHashMap;
+
+import io.aklivity.zilla.runtime.engine.metrics.reader.MetricRecord;
+
+public final class OtlpMetricsDeltas
+{
+    private final Map<MetricRecord, long[]> exportedByRecord;
+    private final Map<MetricRecord, long[]> pendingByRecord;
+
+    public OtlpMetricsDeltas()
+    {
+        this.exportedByRecord = new Object2ObjectHashMap<>();
+        this.pendingByRecord = new Object2ObjectHashMap<>();
+    }
+
+    // computes changes since the last exported values of the record, returning false when nothing changed
+    public boolean delta(
+        MetricRecord record,
+        long[] values,
+        int length,
+        long[] deltas)
+    {
+        long[] exported = exportedByRecord.get(record);
+        if (exported == null || exported.length < length)
+        {
+            exported = exported == null ? new long[length] : Arrays.copyOf(exported, length);
+            exportedByRecord.put(record, exported);
+            pendingByRecord.put(record, new long[length]);
+        }
+        long[] pending = pendingByRecord.get(record);
+
+        boolean changed = false;
+        for (int i = 0; i < length; i++)
+        {
+            final long delta = values[i] - exported[i];
+            deltas[i] = delta;
+            pending[i] = values[i];
+            changed |= delta != 0L;
+        }
+        return changed;
+    }
+
+    // pending values become the baseline only once the export carrying them succeeded
+    public void commit()
+    {
+        pendingByRecord.forEach((record, pending) ->
+            System.arraycopy(pending, 0, exportedByRecord.get(record), 0, pending.length));
+    }
+
+    public void rollback()
+    {
+        exportedByRecord.forEach((record, exported) ->
+            System.arraycopy(exported, 0, pendingByRecord.get(record), 0, exported.length));
+    }
+}
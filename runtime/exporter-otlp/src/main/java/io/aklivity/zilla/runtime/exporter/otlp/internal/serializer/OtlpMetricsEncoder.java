@@ -0,0 +1,332 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.otlp.internal.serializer;
+
+import static io.aklivity.zilla.runtime.exporter.otlp.internal.serializer.OtlpMetricsDescriptor.MILLISECONDS;
+import static io.aklivity.zilla.runtime.exporter.otlp.internal.serializer.OtlpMetricsDescriptor.resolveServiceNameAttribute;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import org.agrona.DirectBuffer;
+
+import io.aklivity.zilla.runtime.engine.config.AttributeConfig;
+import io.aklivity.zilla.runtime.engine.config.KindConfig;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.reader.HistogramRecord;
+import io.aklivity.zilla.runtime.engine.metrics.reader.MetricRecord;
+import io.aklivity.zilla.runtime.engine.metrics.reader.ScalarRecord;
+
+public class OtlpMetricsEncoder
+{
+    private static final String SCOPE_NAME = "OtlpMetricsSerializer";
+    private static final String SCOPE_VERSION = "1.0.0";
+    private static final double NANOS_PER_MILLISECOND = 1_000_000.0;
+    private static final int DELTA = 1;
+    private static final int CUMULATIVE = 2;
+
+    // opentelemetry/proto/collector/metrics/v1/metrics_service.proto
+    private static final int EXPORT_RESOURCE_METRICS = 1;
+    private static final int RESOURCE_METRICS_RESOURCE = 1;
+    private static final int RESOURCE_METRICS_SCOPE_METRICS = 2;
+    private static final int RESOURCE_ATTRIBUTES = 1;
+    private static final int SCOPE_METRICS_SCOPE = 1;
+    private static final int SCOPE_METRICS_METRICS = 2;
+    private static final int SCOPE_NAME_FIELD = 1;
+    private static final int SCOPE_VERSION_FIELD = 2;
+    private static final int KEY_VALUE_KEY = 1;
+    private static final int KEY_VALUE_VALUE = 2;
+    private static final int ANY_VALUE_STRING = 1;
+    private static final int METRIC_NAME = 1;
+    private static final int METRIC_DESCRIPTION = 2;
+    private static final int METRIC_UNIT = 3;
+    private static final int METRIC_GAUGE = 5;
+    private static final int METRIC_SUM = 7;
+    private static final int METRIC_HISTOGRAM = 9;
+    private static final int DATA_POINTS = 1;
+    private static final int AGGREGATION_TEMPORALITY = 2;
+    private static final int SUM_IS_MONOTONIC = 3;
+    private static final int POINT_START_TIME_UNIX_NANO = 2;
+    private static final int POINT_TIME_UNIX_NANO = 3;
+    private static final int NUMBER_AS_DOUBLE = 4;
+    private static final int NUMBER_AS_INT = 6;
+    private static final int NUMBER_ATTRIBUTES = 7;
+    private static final int HISTOGRAM_COUNT = 4;
+    private static final int HISTOGRAM_SUM = 5;
+    private static final int HISTOGRAM_BUCKET_COUNTS = 6;
+    private static final int HISTOGRAM_EXPLICIT_BOUNDS = 7;
+    private static final int HISTOGRAM_ATTRIBUTES = 9;
+    private static final int HISTOGRAM_MIN = 11;
+    private static final int HISTOGRAM_MAX = 12;
+
+    private final List<MetricRecord> records;
+    private final List<AttributeConfig> attributes;
+    private final OtlpMetricsDescriptor descriptor;
+    private final AttributeConfig serviceNameAttribute;
+    private final OtlpMetricsDeltas deltas;
+    private final OtlpProtobufWriter writer;
+    private final long[] scalarValues;
+    private final long[] scalarDeltas;
+
+    private long[] histogramValues;
+    private long[] histogramDeltas;
+    private long startTime;
+    private long pendingStartTime;
+
+    public OtlpMetricsEncoder(
+        List<MetricRecord> records,
+        List<AttributeConfig> attributes,
+        Function<String, Metric> resolveMetric,
+        LongFunction<KindConfig> resolveKind,
+        boolean delta)
+    {
+        this.records = records;
+        this.attributes = attributes;
+        this.descriptor = new OtlpMetricsDescriptor(resolveMetric, resolveKind);
+        this.serviceNameAttribute = resolveServiceNameAttribute(attributes);
+        this.deltas = delta ? new OtlpMetricsDeltas() : null;
+        this.writer = new OtlpProtobufWriter();
+        this.scalarValues = new long[1];
+        this.scalarDeltas = new long[1];
+        this.histogramValues = new long[0];
+        this.histogramDeltas = new long[0];
+        this.startTime = now();
+    }
+
+    public DirectBuffer buffer()
+    {
+        return writer.buffer();
+    }
+
+    public int encodeAll()
+    {
+        final long time = now();
+
+        writer.reset()
+            .startMessage(EXPORT_RESOURCE_METRICS)
+            .startMessage(RESOURCE_METRICS_RESOURCE);
+        attributes.forEach(a -> attribute(RESOURCE_ATTRIBUTES, a.name, a.value));
+        writer.endMessage()
+            .startMessage(RESOURCE_METRICS_SCOPE_METRICS)
+            .startMessage(SCOPE_METRICS_SCOPE)
+            .string(SCOPE_NAME_FIELD, SCOPE_NAME)
+            .string(SCOPE_VERSION_FIELD, SCOPE_VERSION)
+            .endMessage();
+
+        for (int i = 0; i < records.size(); i++)
+        {
+            MetricRecord record = records.get(i);
+            if (record instanceof ScalarRecord scalar)
+            {
+                encodeScalar(scalar, time);
+            }
+            else if (record instanceof HistogramRecord histogram)
+            {
+                encodeHistogram(histogram, time);
+            }
+        }
+
+        writer.endMessage()
+            .endMessage();
+
+        pendingStartTime = time;
+
+        return writer.limit();
+    }
+
+    public void complete(
+        boolean exported)
+    {
+        if (deltas != null)
+        {
+            if (exported)
+            {
+                deltas.commit();
+                startTime = pendingStartTime;
+            }
+            else
+            {
+                deltas.rollback();
+            }
+        }
+    }
+
+    private void encodeScalar(
+        ScalarRecord record,
+        long time)
+    {
+        final String kind = descriptor.kind(record.metric());
+        final String unit = descriptor.unit(record.metric());
+        final boolean sum = "sum".equals(kind);
+
+        long value = record.valueReader().getAsLong();
+        if (deltas != null)
+        {
+            scalarValues[0] = value;
+            if (!deltas.delta(record, scalarValues, 1, scalarDeltas))
+            {
+                return;
+            }
+            value = sum ? scalarDeltas[0] : value;
+        }
+
+        startMetric(record, unit)
+            .startMessage(sum ? METRIC_SUM : METRIC_GAUGE)
+            .startMessage(DATA_POINTS);
+        if (sum)
+        {
+            writer.fixed64(POINT_START_TIME_UNIX_NANO, startTime);
+        }
+        writer.fixed64(POINT_TIME_UNIX_NANO, time);
+        if (MILLISECONDS.equals(unit))
+        {
+            writer.doubleValue(NUMBER_AS_DOUBLE, value / NANOS_PER_MILLISECOND);
+        }
+        else
+        {
+            writer.fixed64(NUMBER_AS_INT, value);
+        }
+        attributes(NUMBER_ATTRIBUTES, record);
+        writer.endMessage();
+        if (sum)
+        {
+            writer.varint(AGGREGATION_TEMPORALITY, deltas != null ? DELTA : CUMULATIVE)
+                .bool(SUM_IS_MONOTONIC, true);
+        }
+        writer.endMessage()
+            .endMessage();
+    }
+
+    private void encodeHistogram(
+        HistogramRecord record,
+        long time)
+    {
+        record.update();
+        final String unit = descriptor.unit(record.metric());
+        final boolean milliseconds = MILLISECONDS.equals(unit);
+        final long[] bucketLimits = record.bucketLimits();
+        final long[] stats = milliseconds ? record.millisecondStats() : record.stats();
+        final int buckets = record.buckets();
+
+        long[] bucketValues = milliseconds ? record.millisecondBucketValues() : record.bucketValues();
+        long count = stats[3];
+        long sum = stats[2];
+        if (deltas != null)
+        {
+            if (histogramValues.length < buckets + 2)
+            {
+                histogramValues = new long[buckets + 2];
+                histogramDeltas = new long[buckets + 2];
+            }
+            System.arraycopy(bucketValues, 0, histogramValues, 0, buckets);
+            histogramValues[buckets] = count;
+            histogramValues[buckets + 1] = sum;
+            if (!deltas.delta(record, histogramValues, buckets + 2, histogramDeltas) || histogramDeltas[buckets] == 0L)
+            {
+                return;
+            }
+            bucketValues = histogramDeltas;
+            count = histogramDeltas[buckets];
+            sum = histogramDeltas[buckets + 1];
+        }
+
+        startMetric(record, unit)
+            .startMessage(METRIC_HISTOGRAM)
+            .startMessage(DATA_POINTS)
+            .fixed64(POINT_START_TIME_UNIX_NANO, startTime)
+            .fixed64(POINT_TIME_UNIX_NANO, time)
+            .fixed64(HISTOGRAM_COUNT, count)
+            .doubleValue(HISTOGRAM_SUM, sum);
+
+        // log-linear sub-buckets of small values share the same limit, so they are merged to keep bounds increasing
+        final int lastBucket = buckets - 1;
+        writer.startMessage(HISTOGRAM_BUCKET_COUNTS);
+        long bucketCount = 0L;
+        for (int i = 0; i < lastBucket; i++)
+        {
+            bucketCount += bucketValues[i];
+            if (bucketLimits[i + 1] != bucketLimits[i])
+            {
+                writer.fixed64(bucketCount);
+                bucketCount = 0L;
+            }
+        }
+        writer.fixed64(bucketCount + bucketValues[lastBucket])
+            .endMessage();
+
+        writer.startMessage(HISTOGRAM_EXPLICIT_BOUNDS);
+        for (int i = 0; i < lastBucket; i++)
+        {
+            if (bucketLimits[i + 1] != bucketLimits[i])
+            {
+                writer.doubleValue(bucketLimits[i]);
+            }
+        }
+        writer.endMessage();
+
+        attributes(HISTOGRAM_ATTRIBUTES, record);
+        if (deltas == null)
+        {
+            writer.doubleValue(HISTOGRAM_MIN, stats[0])
+                .doubleValue(HISTOGRAM_MAX, stats[1]);
+        }
+        writer.endMessage()
+            .varint(AGGREGATION_TEMPORALITY, deltas != null ? DELTA : CUMULATIVE)
+            .endMessage()
+            .endMessage();
+    }
+
+    private OtlpProtobufWriter startMetric(
+        MetricRecord record,
+        String unit)
+    {
+        return writer.startMessage(SCOPE_METRICS_METRICS)
+            .string(METRIC_NAME, descriptor.nameByBinding(record.metric(), record.bindingId()))
+            .string(METRIC_DESCRIPTION, descriptor.description(record.metric()))
+            .string(METRIC_UNIT, unit);
+    }
+
+    private void attributes(
+        int field,
+        MetricRecord record)
+    {
+        attribute(field, "namespace", record.namespace());
+        attribute(field, "binding", record.binding());
+        if (serviceNameAttribute != null)
+        {
+            attribute(field, serviceNameAttribute.name, serviceNameAttribute.value);
+        }
+    }
+
+    private void attribute(
+        int field,
+        String key,
+        String value)
+    {
+        writer.startMessage(field)
+            .string(KEY_VALUE_KEY, key)
+            .startMessage(KEY_VALUE_VALUE)
+            .string(ANY_VALUE_STRING, value)
+            .endMessage()
+            .endMessage();
+    }
+
+    private static long now()
+    {
+        return TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    }
+}
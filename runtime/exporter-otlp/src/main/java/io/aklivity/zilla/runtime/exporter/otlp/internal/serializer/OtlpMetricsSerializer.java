@@ -14,12 +14,11 @@
  */
 package io.aklivity.zilla.runtime.exporter.otlp.internal.serializer;
 
-import static io.aklivity.zilla.runtime.engine.metrics.Metric.Kind.COUNTER;
+import static io.aklivity.zilla.runtime.exporter.otlp.internal.serializer.OtlpMetricsDescriptor.MILLISECONDS;
+import static io.aklivity.zilla.runtime.exporter.otlp.internal.serializer.OtlpMetricsDescriptor.resolveServiceNameAttribute;
 
-import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.LongFunction;
@@ -30,8 +29,6 @@ import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
 
-import org.agrona.collections.Object2ObjectHashMap;
-
 import io.aklivity.zilla.runtime.engine.config.AttributeConfig;
 import io.aklivity.zilla.runtime.engine.config.KindConfig;
 import io.aklivity.zilla.runtime.engine.metrics.Metric;
@@ -43,45 +40,46 @@ public class OtlpMetricsSerializer
 {
     private static final String SCOPE_NAME = "OtlpMetricsSerializer";
     private static final String SCOPE_VERSION = "1.0.0";
-    private static final String SERVICE_NAME = "service.name";
+    // DELTA is an AggregationTemporality for a metric aggregator which reports changes since last report time.
+    private static final int DELTA = 1;
     // CUMULATIVE is an AggregationTemporality for a metric aggregator which reports changes since a fixed start time.
     private static final int CUMULATIVE = 2;
-    private static final Map<String, String> SERVER_METRIC_NAMES = Map.of(
-        "http.request.size", "http.server.request.size",
-        "http.response.size", "http.server.response.size",
-        "http.duration", "http.server.duration",
-        "http.active.requests", "http.server.active_requests"
-    );
-    private static final Map<String, String> CLIENT_METRIC_NAMES = Map.of(
-        "http.request.size", "http.client.request.size",
-        "http.response.size", "http.client.response.size",
-        "http.duration", "http.client.duration"
-    );
-    private static final Map<KindConfig, Map<String, String>> KIND_METRIC_NAMES = Map.of(
-        KindConfig.SERVER, SERVER_METRIC_NAMES,
-        KindConfig.CLIENT, CLIENT_METRIC_NAMES
-    );
-    private static final String MILLISECONDS = "milliseconds";
 
     private final List<MetricRecord> records;
     private final List<AttributeConfig> attributes;
-    private final LongFunction<KindConfig> resolveKind;
-    private final Function<String, Metric> resolveMetric;
     private final OtlpMetricsDescriptor descriptor;
     private final AttributeConfig serviceNameAttribute;
+    private final OtlpMetricsDeltas deltas;
+    private final long[] scalarValues;
+    private final long[] scalarDeltas;
+
+    private long startTime;
+    private long pendingStartTime;
 
     public OtlpMetricsSerializer(
         List<MetricRecord> records,
         List<AttributeConfig> attributes,
         Function<String, Metric> resolveMetric,
         LongFunction<KindConfig> resolveKind)
+    {
+        this(records, attributes, resolveMetric, resolveKind, false);
+    }
+
+    public OtlpMetricsSerializer(
+        List<MetricRecord> records,
+        List<AttributeConfig> attributes,
+        Function<String, Metric> resolveMetric,
+        LongFunction<KindConfig> resolveKind,
+        boolean delta)
     {
         this.records = records;
         this.attributes = attributes;
-        this.resolveMetric = resolveMetric;
-        this.resolveKind = resolveKind;
-        this.descriptor = new OtlpMetricsDescriptor();
-        this.serviceNameAttribute = resolveServiceNameAttribute();
+        this.descriptor = new OtlpMetricsDescriptor(resolveMetric, resolveKind);
+        this.serviceNameAttribute = resolveServiceNameAttribute(attributes);
+        this.deltas = delta ? new OtlpMetricsDeltas() : null;
+        this.scalarValues = new long[1];
+        this.scalarDeltas = new long[1];
+        this.startTime = now();
     }
 
     public String serializeAll()
@@ -89,26 +87,34 @@ public class OtlpMetricsSerializer
         JsonArrayBuilder attributesArray = Json.createArrayBuilder();
         attributes.forEach(attr -> attributesArray.add(attributeToJson(attr)));
         JsonArrayBuilder metricsArray = Json.createArrayBuilder();
-        records.forEach(metric -> metricsArray.add(serialize(metric)));
-        return createJson(attributesArray, metricsArray);
+        for (MetricRecord metric : records)
+        {
+            JsonObject metricJson = serialize(metric);
+            if (metricJson != null)
+            {
+                metricsArray.add(metricJson);
+            }
+        }
+        String json = createJson(attributesArray, metricsArray);
+        pendingStartTime = now();
+        return json;
     }
 
-    private AttributeConfig resolveServiceNameAttribute()
+    public void complete(
+        boolean exported)
     {
-        String serviceName = null;
-        for (AttributeConfig attribute : attributes)
+        if (deltas != null)
         {
-            if (SERVICE_NAME.equals(attribute.name))
+            if (exported)
+            {
+                deltas.commit();
+                startTime = pendingStartTime;
+            }
+            else
             {
-                serviceName = attribute.value;
-                break;
+                deltas.rollback();
             }
         }
-        return serviceName == null ? null :
-            AttributeConfig.builder()
-                .name(SERVICE_NAME)
-                .value(serviceName)
-                .build();
     }
 
     private JsonObject serialize(
@@ -129,17 +135,33 @@ public class OtlpMetricsSerializer
     private JsonObject serializeScalar(
         ScalarRecord record)
     {
+        String kind = descriptor.kind(record.metric());
+        long value = record.valueReader().getAsLong();
+        if (deltas != null)
+        {
+            scalarValues[0] = value;
+            if (!deltas.delta(record, scalarValues, 1, scalarDeltas))
+            {
+                return null;
+            }
+            value = "sum".equals(kind) ? scalarDeltas[0] : value;
+        }
         JsonObjectBuilder dataPointBuilder = Json.createObjectBuilder();
         String unit = descriptor.unit(record.metric());
         if (MILLISECONDS.equals(unit))
         {
             dataPointBuilder
-                .add("asDouble", record.millisecondsValueReader().getAsDouble());
+                .add("asDouble", (double) value / 1_000_000L);
         }
         else
         {
             dataPointBuilder
-                .add("asInt", record.valueReader().getAsLong());
+                .add("asInt", value);
+        }
+        if (deltas != null && "sum".equals(kind))
+        {
+            dataPointBuilder
+                .add("startTimeUnixNano", startTime);
         }
         dataPointBuilder
             .add("timeUnixNano", now())
@@ -148,13 +170,12 @@ public class OtlpMetricsSerializer
         JsonArray dataPoints = Json.createArrayBuilder()
             .add(dataPoint)
             .build();
-        String kind = descriptor.kind(record.metric());
         JsonObjectBuilder scalarData = Json.createObjectBuilder()
             .add("dataPoints", dataPoints);
         if ("sum".equals(kind))
         {
             scalarData
-                .add("aggregationTemporality", CUMULATIVE)
+                .add("aggregationTemporality", deltas != null ? DELTA : CUMULATIVE)
                 .add("isMonotonic", true);
         }
         return Json.createObjectBuilder()
@@ -215,22 +236,65 @@ public class OtlpMetricsSerializer
         HistogramRecord record)
     {
         record.update();
-        // Histogram buckets are inclusive of their upper boundary, except the last bucket where the boundary is at infinity.
-        JsonArrayBuilder explicitBounds = Json.createArrayBuilder();
-        Arrays.stream(record.bucketLimits()).limit(record.buckets() - 1).forEach(explicitBounds::add);
-        // The number of elements in bucket_counts must be by one greater than the number of elements in explicit_bounds.
-        JsonArrayBuilder bucketCounts = Json.createArrayBuilder();
         String unit = descriptor.unit(record.metric());
         long[] bucketValues = MILLISECONDS.equals(unit) ? record.millisecondBucketValues() : record.bucketValues();
-        Arrays.stream(bucketValues).forEach(bucketCounts::add);
         long[] stats = MILLISECONDS.equals(unit) ? record.millisecondStats() : record.stats();
-        JsonObject dataPoint = Json.createObjectBuilder()
+        int buckets = record.buckets();
+        long count = stats[3];
+        long sum = stats[2];
+        if (deltas != null)
+        {
+            long[] values = new long[buckets + 2];
+            long[] changes = new long[buckets + 2];
+            System.arraycopy(bucketValues, 0, values, 0, buckets);
+            values[buckets] = count;
+            values[buckets + 1] = sum;
+            if (!deltas.delta(record, values, values.length, changes) || changes[buckets] == 0L)
+            {
+                return null;
+            }
+            bucketValues = changes;
+            count = changes[buckets];
+            sum = changes[buckets + 1];
+        }
+        // Histogram buckets are inclusive of their upper boundary, except the last bucket where the boundary is at infinity.
+        // Log-linear sub-buckets of small values share the same limit, so they are merged to keep bounds increasing.
+        // The number of elements in bucket_counts must be by one greater than the number of elements in explicit_bounds.
+        JsonArrayBuilder explicitBounds = Json.createArrayBuilder();
+        JsonArrayBuilder bucketCounts = Json.createArrayBuilder();
+        long[] bucketLimits = record.bucketLimits();
+        int lastBucket = buckets - 1;
+        long bucketCount = 0L;
+        for (int i = 0; i < lastBucket; i++)
+        {
+            bucketCount += bucketValues[i];
+            if (bucketLimits[i + 1] != bucketLimits[i])
+            {
+                explicitBounds.add(bucketLimits[i]);
+                bucketCounts.add(bucketCount);
+                bucketCount = 0L;
+            }
+        }
+        bucketCounts.add(bucketCount + bucketValues[lastBucket]);
+        JsonObjectBuilder dataPointBuilder = Json.createObjectBuilder();
+        if (deltas != null)
+        {
+            dataPointBuilder
+                .add("startTimeUnixNano", startTime);
+        }
+        dataPointBuilder
             .add("timeUnixNano", now())
-            .add("attributes", attributes(record))
-            .add("min", stats[0])
-            .add("max", stats[1])
-            .add("sum", stats[2])
-            .add("count", stats[3])
+            .add("attributes", attributes(record));
+        if (deltas == null)
+        {
+            // minimum and maximum are only known since the fixed start time
+            dataPointBuilder
+                .add("min", stats[0])
+                .add("max", stats[1]);
+        }
+        JsonObject dataPoint = dataPointBuilder
+            .add("sum", sum)
+            .add("count", count)
             .add("explicitBounds", explicitBounds)
             .add("bucketCounts", bucketCounts)
             .build();
@@ -238,7 +302,7 @@ public class OtlpMetricsSerializer
             .add(dataPoint)
             .build();
         JsonObjectBuilder histogramData = Json.createObjectBuilder()
-            .add("aggregationTemporality", CUMULATIVE)
+            .add("aggregationTemporality", deltas != null ? DELTA : CUMULATIVE)
             .add("dataPoints", dataPoints);
         return Json.createObjectBuilder()
             .add("name", descriptor.nameByBinding(record.metric(), record.bindingId()))
@@ -278,75 +342,4 @@ public class OtlpMetricsSerializer
             .build();
         return jsonObject.toString();
     }
-
-    final class OtlpMetricsDescriptor
-    {
-        private final Map<String, String> kinds;
-        private final Map<String, String> descriptions;
-        private final Map<String, String> units;
-
-        private OtlpMetricsDescriptor()
-        {
-            this.kinds = new Object2ObjectHashMap<>();
-            this.descriptions = new Object2ObjectHashMap<>();
-            this.units = new Object2ObjectHashMap<>();
-        }
-
-        public String kind(
-            String internalName)
-        {
-            String result = kinds.get(internalName);
-            if (result == null)
-            {
-                Metric.Kind kind = resolveMetric.apply(internalName).kind();
-                result = kind == COUNTER ? "sum" : kind.toString().toLowerCase();
-                kinds.put(internalName, result);
-            }
-            return result;
-        }
-
-        public String nameByBinding(
-            String internalMetricName,
-            long bindingId)
-        {
-            String result = null;
-            KindConfig kind = resolveKind.apply(bindingId);
-            Map<String, String> externalNames = KIND_METRIC_NAMES.get(kind);
-            if (externalNames != null)
-            {
-                result = externalNames.get(internalMetricName);
-            }
-            return result != null ? result : internalMetricName;
-        }
-
-        public String description(
-            String internalName)
-        {
-            String result = descriptions.get(internalName);
-            if (result == null)
-            {
-                result = resolveMetric.apply(internalName).description();
-                descriptions.put(internalName, result);
-            }
-            return result;
-        }
-
-        public String unit(
-            String internalName)
-        {
-            String result = units.get(internalName);
-            if (result == null)
-            {
-                Metric.Unit unit = resolveMetric.apply(internalName).unit();
-                result = switch (unit)
-                {
-                case COUNT -> "";
-                case NANOSECONDS -> MILLISECONDS; // we are converting nanoseconds values to milliseconds
-                default -> unit.toString().toLowerCase();
-                };
-                units.put(internalName, result);
-            }
-            return result;
-        }
-    }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.otlp.internal.serializer;
+
+import java.nio.ByteOrder;
+
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+
+public final class OtlpProtobufWriter
+{
+    private static final int WIRE_TYPE_VARINT = 0;
+    private static final int WIRE_TYPE_FIXED64 = 1;
+    private static final int WIRE_TYPE_LENGTH = 2;
+    private static final int LENGTH_RESERVED = 5;
+    private static final int DEPTH_MAX = 16;
+
+    private final MutableDirectBuffer buffer;
+    private final int[] starts;
+
+    private int depth;
+    private int limit;
+
+    public OtlpProtobufWriter()
+    {
+        this.buffer = new ExpandableArrayBuffer();
+        this.starts = new int[DEPTH_MAX];
+    }
+
+    public OtlpProtobufWriter reset()
+    {
+        depth = 0;
+        limit = 0;
+        return this;
+    }
+
+    public MutableDirectBuffer buffer()
+    {
+        return buffer;
+    }
+
+    public int limit()
+    {
+        return limit;
+    }
+
+    public OtlpProtobufWriter startMessage(
+        int field)
+    {
+        tag(field, WIRE_TYPE_LENGTH);
+        starts[depth++] = limit;
+        limit += LENGTH_RESERVED;
+        buffer.checkLimit(limit);
+        return this;
+    }
+
+    public OtlpProtobufWriter endMessage()
+    {
+        assert depth > 0;
+
+        final int start = starts[--depth];
+        final int length = limit - start - LENGTH_RESERVED;
+        final int lengthSize = varintSize(length);
+
+        // length is only known now, so shift the content down to follow the minimal length prefix
+        buffer.putBytes(start + lengthSize, buffer, start + LENGTH_RESERVED, length);
+        limit = start;
+        putVarint(length);
+        limit += length;
+        return this;
+    }
+
+    public OtlpProtobufWriter varint(
+        int field,
+        long value)
+    {
+        tag(field, WIRE_TYPE_VARINT);
+        putVarint(value);
+        return this;
+    }
+
+    public OtlpProtobufWriter bool(
+        int field,
+        boolean value)
+    {
+        return varint(field, value ? 1L : 0L);
+    }
+
+    public OtlpProtobufWriter fixed64(
+        int field,
+        long value)
+    {
+        tag(field, WIRE_TYPE_FIXED64);
+        return fixed64(value);
+    }
+
+    public OtlpProtobufWriter fixed64(
+        long value)
+    {
+        buffer.putLong(limit, value, ByteOrder.LITTLE_ENDIAN);
+        limit += Long.BYTES;
+        return this;
+    }
+
+    public OtlpProtobufWriter doubleValue(
+        int field,
+        double value)
+    {
+        return fixed64(field, Double.doubleToRawLongBits(value));
+    }
+
+    public OtlpProtobufWriter doubleValue(
+        double value)
+    {
+        return fixed64(Double.doubleToRawLongBits(value));
+    }
+
+    public OtlpProtobufWriter string(
+        int field,
+        String value)
+    {
+        startMessage(field);
+        limit += buffer.putStringWithoutLengthUtf8(limit, value);
+        return endMessage();
+    }
+
+    private void tag(
+        int field,
+        int wireType)
+    {
+        putVarint((long) field << 3 | wireType);
+    }
+
+    private void putVarint(
+        long value)
+    {
+        long bits = value;
+        while ((bits & ~0x7fL) != 0L)
+        {
+            buffer.putByte(limit++, (byte) ((bits & 0x7f) | 0x80));
+            bits >>>= 7;
+        }
+        buffer.putByte(limit++, (byte) bits);
+    }
+
+    private static int varintSize(
+        int value)
+    {
+        return value < 1 << 7 ? 1 : value < 1 << 14 ? 2 : value < 1 << 21 ? 3 : value < 1 << 28 ? 4 : 5;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.otlp.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+public class OtlpGzipEncoderTest
+{
+    @Test
+    public void shouldEncodeGzip() throws Exception
+    {
+        byte[] input = "{\"resourceMetrics\":[]}".repeat(100).getBytes(UTF_8);
+
+        try (OtlpGzipEncoder encoder = new OtlpGzipEncoder())
+        {
+            for (int i = 0; i < 2; i++)
+            {
+                int length = encoder.encode(input, input.length);
+
+                assertThat(length, lessThan(input.length));
+                assertThat(decode(encoder.array(), length), equalTo(input));
+            }
+        }
+    }
+
+    @Test
+    public void shouldEncodeGzipPrefix() throws Exception
+    {
+        byte[] input = "otlp".repeat(10).getBytes(UTF_8);
+
+        try (OtlpGzipEncoder encoder = new OtlpGzipEncoder())
+        {
+            int length = encoder.encode(input, 8);
+
+            assertThat(decode(encoder.array(), length), equalTo(Arrays.copyOf(input, 8)));
+        }
+    }
+
+    private static byte[] decode(
+        byte[] array,
+        int length) throws Exception
+    {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(array, 0, length)))
+        {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -33,6 +33,8 @@ import org.junit.Test;
 
 import io.aklivity.zilla.runtime.exporter.otlp.config.OtlpEndpointConfig;
 import io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig;
+import io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig.OtlpCompressionConfig;
+import io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig.OtlpTemporalityConfig;
 import io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOverridesConfig;
 
 public class OltpOptionsConfigAdapterTest
@@ -113,4 +115,65 @@ public class OltpOptionsConfigAdapterTest
         assertThat(json, not(nullValue()));
         assertThat(json, equalTo(expected));
     }
+
+    @Test
+    public void shouldReadOptionsWithTemporalityAndCompression()
+    {
+        // GIVEN
+        String text =
+            "{\n" +
+                "\"interval\": 30,\n" +
+                "\"signals\":\n" +
+                    "[\n" +
+                        "\"metrics\"\n" +
+                    "],\n" +
+                "\"endpoint\":\n" +
+                    "{\n" +
+                        "\"protocol\": \"http/protobuf\",\n" +
+                        "\"location\": \"http://localhost:4318\"\n" +
+                    "},\n" +
+                "\"temporality\": \"delta\",\n" +
+                "\"compression\": \"gzip\"\n" +
+            "}";
+
+        // WHEN
+        OtlpOptionsConfig options = jsonb.fromJson(text, OtlpOptionsConfig.class);
+
+        // THEN
+        assertThat(options, not(nullValue()));
+        assertThat(options.endpoint.protocol, equalTo("http/protobuf"));
+        assertThat(options.temporality, equalTo(OtlpTemporalityConfig.DELTA));
+        assertThat(options.compression, equalTo(OtlpCompressionConfig.GZIP));
+    }
+
+    @Test
+    public void shouldWriteOptionsWithTemporalityAndCompression()
+    {
+        // GIVEN
+        String expected =
+            "{" +
+                "\"interval\":30," +
+                "\"signals\":" +
+                    "[" +
+                        "\"metrics\"" +
+                    "]," +
+                "\"endpoint\":" +
+                    "{" +
+                        "\"protocol\":\"http/protobuf\"," +
+                        "\"location\":\"http://localhost:4318\"" +
+                    "}," +
+                "\"temporality\":\"delta\"," +
+                "\"compression\":\"gzip\"" +
+            "}";
+        OtlpEndpointConfig endpoint = new OtlpEndpointConfig("http/protobuf", URI.create("http://localhost:4318"), null);
+        OtlpOptionsConfig config = new OtlpOptionsConfig(30, Set.of(METRICS), endpoint,
+            OtlpTemporalityConfig.DELTA, OtlpCompressionConfig.GZIP);
+
+        // WHEN
+        String json = jsonb.toJson(config);
+
+        // THEN
+        assertThat(json, not(nullValue()));
+        assertThat(json, equalTo(expected));
+    }
 }
@@ -26,6 +26,8 @@ import org.junit.Test;
 import io.aklivity.zilla.runtime.engine.config.ExporterConfig;
 import io.aklivity.zilla.runtime.exporter.otlp.config.OtlpEndpointConfig;
 import io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig;
+import io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig.OtlpCompressionConfig;
+import io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOptionsConfig.OtlpTemporalityConfig;
 import io.aklivity.zilla.runtime.exporter.otlp.config.OtlpOverridesConfig;
 
 public class OtlpExporterConfigTest
@@ -102,4 +104,27 @@ public class OtlpExporterConfigTest
         assertThat(metrics, equalTo(URI.create("http://example.com/v42/metrix")));
         assertThat(logs, equalTo(URI.create("http://example.com/v42/logz")));
     }
+
+    @Test
+    public void shouldResolveDefaultTemporalityAndCompression()
+    {
+        // GIVEN
+        OtlpEndpointConfig endpoint = new OtlpEndpointConfig("http", URI.create("http://example.com"), null);
+        OtlpOptionsConfig options = new OtlpOptionsConfig(30L, Set.of(METRICS), endpoint);
+        ExporterConfig exporter = ExporterConfig.builder()
+                .namespace("test")
+                .name("oltp0")
+                .type("oltp")
+                .options(options)
+                .build();
+        OtlpExporterConfig oltpExporter = new OtlpExporterConfig(exporter);
+
+        // WHEN
+        OtlpTemporalityConfig temporality = oltpExporter.resolveTemporality();
+        OtlpCompressionConfig compression = oltpExporter.resolveCompression();
+
+        // THEN
+        assertThat(temporality, equalTo(OtlpTemporalityConfig.CUMULATIVE));
+        assertThat(compression, equalTo(OtlpCompressionConfig.NONE));
+    }
 }
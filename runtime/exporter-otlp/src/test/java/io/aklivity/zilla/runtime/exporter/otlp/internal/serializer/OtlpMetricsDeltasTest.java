@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.otlp.internal.serializer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.engine.metrics.reader.MetricRecord;
+
+public class OtlpMetricsDeltasTest
+{
+    @Test
+    public void shouldComputeDeltasSincePreviousValues()
+    {
+        // GIVEN
+        OtlpMetricsDeltas deltas = new OtlpMetricsDeltas();
+        MetricRecord record = mock(MetricRecord.class);
+        long[] changes = new long[2];
+
+        // WHEN
+        boolean first = deltas.delta(record, new long[] { 5L, 10L }, 2, changes);
+
+        // THEN
+        assertThat(first, equalTo(true));
+        assertThat(changes, equalTo(new long[] { 5L, 10L }));
+
+        // WHEN
+        deltas.commit();
+        boolean second = deltas.delta(record, new long[] { 7L, 10L }, 2, changes);
+
+        // THEN
+        assertThat(second, equalTo(true));
+        assertThat(changes, equalTo(new long[] { 2L, 0L }));
+    }
+
+    @Test
+    public void shouldNotReportUnchangedValues()
+    {
+        // GIVEN
+        OtlpMetricsDeltas deltas = new OtlpMetricsDeltas();
+        MetricRecord record = mock(MetricRecord.class);
+        MetricRecord other = mock(MetricRecord.class);
+        long[] changes = new long[1];
+        deltas.delta(record, new long[] { 42L }, 1, changes);
+        deltas.commit();
+
+        // WHEN
+        boolean unchanged = deltas.delta(record, new long[] { 42L }, 1, changes);
+        boolean changed = deltas.delta(other, new long[] { 42L }, 1, changes);
+
+        // THEN
+        assertThat(unchanged, equalTo(false));
+        assertThat(changed, equalTo(true));
+    }
+
+    @Test
+    public void shouldKeepBaselineUntilCommitted()
+    {
+        // GIVEN
+        OtlpMetricsDeltas deltas = new OtlpMetricsDeltas();
+        MetricRecord record = mock(MetricRecord.class);
+        long[] changes = new long[1];
+        deltas.delta(record, new long[] { 5L }, 1, changes);
+        deltas.commit();
+        deltas.delta(record, new long[] { 8L }, 1, changes);
+        deltas.rollback();
+
+        // WHEN
+        boolean retried = deltas.delta(record, new long[] { 9L }, 1, changes);
+
+        // THEN
+        assertThat(retried, equalTo(true));
+        assertThat(changes, equalTo(new long[] { 4L }));
+
+        // WHEN
+        boolean pending = deltas.delta(record, new long[] { 9L }, 1, changes);
+
+        // THEN
+        assertThat(pending, equalTo(true));
+        assertThat(changes, equalTo(new long[] { 4L }));
+    }
+}
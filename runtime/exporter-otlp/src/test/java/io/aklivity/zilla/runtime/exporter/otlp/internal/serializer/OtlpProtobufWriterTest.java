@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.exporter.otlp.internal.serializer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import org.junit.Test;
+
+public class OtlpProtobufWriterTest
+{
+    @Test
+    public void shouldWriteVarint()
+    {
+        OtlpProtobufWriter writer = new OtlpProtobufWriter()
+            .varint(1, 150L);
+
+        assertThat(bytes(writer), equalTo(new byte[] { 0x08, (byte) 0x96, 0x01 }));
+    }
+
+    @Test
+    public void shouldWriteString()
+    {
+        OtlpProtobufWriter writer = new OtlpProtobufWriter()
+            .string(2, "testing");
+
+        assertThat(bytes(writer), equalTo(new byte[] { 0x12, 0x07, 't', 'e', 's', 't', 'i', 'n', 'g' }));
+    }
+
+    @Test
+    public void shouldWriteEmbeddedMessage()
+    {
+        OtlpProtobufWriter writer = new OtlpProtobufWriter()
+            .startMessage(3)
+            .varint(1, 150L)
+            .endMessage();
+
+        assertThat(bytes(writer), equalTo(new byte[] { 0x1a, 0x03, 0x08, (byte) 0x96, 0x01 }));
+    }
+
+    @Test
+    public void shouldWriteNestedMessagesWithMultiByteLength()
+    {
+        OtlpProtobufWriter writer = new OtlpProtobufWriter()
+            .startMessage(1)
+            .startMessage(2);
+        for (int i = 0; i < 25; i++)
+        {
+            writer.fixed64(i);
+        }
+        writer.endMessage()
+            .endMessage();
+
+        byte[] bytes = bytes(writer);
+        assertThat(bytes.length, equalTo(206));
+        assertThat(bytes[0], equalTo((byte) 0x0a));
+        assertThat(bytes[1], equalTo((byte) 0xcb));
+        assertThat(bytes[2], equalTo((byte) 0x01));
+        assertThat(bytes[3], equalTo((byte) 0x12));
+        assertThat(bytes[4], equalTo((byte) 0xc8));
+        assertThat(bytes[5], equalTo((byte) 0x01));
+        assertThat(bytes[6 + 8 * 24], equalTo((byte) 24));
+    }
+
+    @Test
+    public void shouldResetWriter()
+    {
+        OtlpProtobufWriter writer = new OtlpProtobufWriter()
+            .string(1, "stale");
+
+        writer.reset()
+            .bool(1, true);
+
+        assertThat(bytes(writer), equalTo(new byte[] { 0x08, 0x01 }));
+    }
+
+    private static byte[] bytes(
+        OtlpProtobufWriter writer)
+    {
+        byte[] bytes = new byte[writer.limit()];
+        writer.buffer().getBytes(0, bytes);
+        return bytes;
+    }
+}
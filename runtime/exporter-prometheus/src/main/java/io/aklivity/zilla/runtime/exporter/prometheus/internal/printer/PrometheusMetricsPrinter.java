@@ -104,11 +104,20 @@ public class PrometheusMetricsPrinter
         long sum = milliseconds ?  record.millisecondStats()[2] : record.stats()[2];
         long count = milliseconds ?  record.millisecondStats()[3] : record.stats()[3];
         sb.append(String.format("# HELP %s %s\n# TYPE %s %s\n", extName, description, extName, kind));
+        long[] bucketLimits = record.bucketLimits();
+        long[] bucketValues = milliseconds ? record.millisecondBucketValues() : record.bucketValues();
+        int buckets = record.buckets();
+        int lastBucket = buckets - 1;
         long cumulativeValue = 0;
-        for (int i = 0; i < record.buckets(); i++)
+        for (int i = 0; i <= lastBucket; i++)
         {
-            String limit = i == record.buckets() - 1 ? "+Inf" : String.valueOf(record.bucketLimits()[i]);
-            cumulativeValue += milliseconds ? record.millisecondBucketValues()[i] : record.bucketValues()[i];
+            cumulativeValue += bucketValues[i];
+            // log-linear sub-buckets of small values share the same limit, report each limit once
+            if (i < lastBucket && bucketLimits[i + 1] == bucketLimits[i])
+            {
+                continue;
+            }
+            String limit = i == lastBucket ? "+Inf" : String.valueOf(bucketLimits[i]);
             sb.append(String.format("%s_bucket{le=\"%s\",namespace=\"%s\",binding=\"%s\"} %d\n",
                 extName, limit, record.namespace(), record.binding(), cumulativeValue));
         }
@@ -172,6 +172,131 @@ public class PrometheusMetricsPrinterTest
         assertThat(os.toString("UTF8"), equalTo(expectedOutput));
     }
 
+    @Test
+    public void shouldMergeSubBucketsWithSameLimit() throws Exception
+    {
+        // GIVEN
+        String expectedOutput =
+            "# HELP histogram1 description for histogram1\n" +
+                "# TYPE histogram1 histogram\n" +
+                "histogram1_bucket{le=\"2\",namespace=\"ns1\",binding=\"binding1\"} 2\n" +
+                "histogram1_bucket{le=\"3\",namespace=\"ns1\",binding=\"binding1\"} 2\n" +
+                "histogram1_bucket{le=\"4\",namespace=\"ns1\",binding=\"binding1\"} 4\n" +
+                "histogram1_bucket{le=\"5\",namespace=\"ns1\",binding=\"binding1\"} 4\n" +
+                "histogram1_bucket{le=\"+Inf\",namespace=\"ns1\",binding=\"binding1\"} 4\n" +
+                "histogram1_sum{namespace=\"ns1\",binding=\"binding1\"} 7\n" +
+                "histogram1_count{namespace=\"ns1\",binding=\"binding1\"} 4\n\n\n";
+
+        HistogramRecord histogramRecord = mock(HistogramRecord.class);
+        when(histogramRecord.namespace()).thenReturn("ns1");
+        when(histogramRecord.binding()).thenReturn("binding1");
+        when(histogramRecord.metric()).thenReturn("histogram1");
+        when(histogramRecord.precision()).thenReturn(1);
+        when(histogramRecord.buckets()).thenReturn(6);
+        when(histogramRecord.bucketLimits()).thenReturn(new long[]{2, 2, 3, 4, 5, 6});
+        when(histogramRecord.bucketValues()).thenReturn(new long[]{1, 1, 0, 2, 0, 0});
+        when(histogramRecord.stats()).thenReturn(new long[]{0L, 3L, 7L, 4L, 1L}); // min, max, sum, cnt, avg
+
+        PrometheusMetricDescriptor descriptor = mock(PrometheusMetricDescriptor.class);
+        when(descriptor.name("histogram1")).thenReturn("histogram1");
+        when(descriptor.kind("histogram1")).thenReturn("histogram");
+        when(descriptor.description("histogram1")).thenReturn("description for histogram1");
+
+        PrometheusMetricsPrinter printer = new PrometheusMetricsPrinter(List.of(histogramRecord), descriptor::kind,
+            descriptor::name, descriptor::description, descriptor::milliseconds);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(os);
+
+        // WHEN
+        printer.print(out);
+
+        // THEN
+        assertThat(os.toString("UTF8"), equalTo(expectedOutput));
+    }
+
+    @Test
+    public void shouldPrintSameBucketsForEmptySeries() throws Exception
+    {
+        // GIVEN
+        String expectedOutput =
+            "# HELP histogram1 description for histogram1\n" +
+                "# TYPE histogram1 histogram\n" +
+                "histogram1_bucket{le=\"2\",namespace=\"ns1\",binding=\"binding2\"} 0\n" +
+                "histogram1_bucket{le=\"3\",namespace=\"ns1\",binding=\"binding2\"} 0\n" +
+                "histogram1_bucket{le=\"4\",namespace=\"ns1\",binding=\"binding2\"} 0\n" +
+                "histogram1_bucket{le=\"5\",namespace=\"ns1\",binding=\"binding2\"} 0\n" +
+                "histogram1_bucket{le=\"+Inf\",namespace=\"ns1\",binding=\"binding2\"} 0\n" +
+                "histogram1_sum{namespace=\"ns1\",binding=\"binding2\"} 0\n" +
+                "histogram1_count{namespace=\"ns1\",binding=\"binding2\"} 0\n\n\n";
+
+        HistogramRecord histogramRecord = mock(HistogramRecord.class);
+        when(histogramRecord.namespace()).thenReturn("ns1");
+        when(histogramRecord.binding()).thenReturn("binding2");
+        when(histogramRecord.metric()).thenReturn("histogram1");
+        when(histogramRecord.precision()).thenReturn(1);
+        when(histogramRecord.buckets()).thenReturn(6);
+        when(histogramRecord.bucketLimits()).thenReturn(new long[]{2, 2, 3, 4, 5, 6});
+        when(histogramRecord.bucketValues()).thenReturn(new long[]{0, 0, 0, 0, 0, 0});
+        when(histogramRecord.stats()).thenReturn(new long[]{0L, 0L, 0L, 0L, 0L}); // min, max, sum, cnt, avg
+
+        PrometheusMetricDescriptor descriptor = mock(PrometheusMetricDescriptor.class);
+        when(descriptor.name("histogram1")).thenReturn("histogram1");
+        when(descriptor.kind("histogram1")).thenReturn("histogram");
+        when(descriptor.description("histogram1")).thenReturn("description for histogram1");
+
+        PrometheusMetricsPrinter printer = new PrometheusMetricsPrinter(List.of(histogramRecord), descriptor::kind,
+            descriptor::name, descriptor::description, descriptor::milliseconds);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(os);
+
+        // WHEN
+        printer.print(out);
+
+        // THEN
+        assertThat(os.toString("UTF8"), equalTo(expectedOutput));
+    }
+
+    @Test
+    public void shouldPrintTrailingEmptyBucketsWithoutPrecision() throws Exception
+    {
+        // GIVEN
+        String expectedOutput =
+            "# HELP histogram1 description for histogram1\n" +
+                "# TYPE histogram1 histogram\n" +
+                "histogram1_bucket{le=\"1\",namespace=\"ns1\",binding=\"binding1\"} 3\n" +
+                "histogram1_bucket{le=\"10\",namespace=\"ns1\",binding=\"binding1\"} 5\n" +
+                "histogram1_bucket{le=\"100\",namespace=\"ns1\",binding=\"binding1\"} 5\n" +
+                "histogram1_bucket{le=\"+Inf\",namespace=\"ns1\",binding=\"binding1\"} 5\n" +
+                "histogram1_sum{namespace=\"ns1\",binding=\"binding1\"} 12\n" +
+                "histogram1_count{namespace=\"ns1\",binding=\"binding1\"} 5\n\n\n";
+
+        HistogramRecord histogramRecord = mock(HistogramRecord.class);
+        when(histogramRecord.namespace()).thenReturn("ns1");
+        when(histogramRecord.binding()).thenReturn("binding1");
+        when(histogramRecord.metric()).thenReturn("histogram1");
+        when(histogramRecord.precision()).thenReturn(0);
+        when(histogramRecord.buckets()).thenReturn(4);
+        when(histogramRecord.bucketLimits()).thenReturn(new long[]{1, 10, 100, 1000});
+        when(histogramRecord.bucketValues()).thenReturn(new long[]{3, 2, 0, 0});
+        when(histogramRecord.stats()).thenReturn(new long[]{1L, 9L, 12L, 5L, 2L}); // min, max, sum, cnt, avg
+
+        PrometheusMetricDescriptor descriptor = mock(PrometheusMetricDescriptor.class);
+        when(descriptor.name("histogram1")).thenReturn("histogram1");
+        when(descriptor.kind("histogram1")).thenReturn("histogram");
+        when(descriptor.description("histogram1")).thenReturn("description for histogram1");
+
+        PrometheusMetricsPrinter printer = new PrometheusMetricsPrinter(List.of(histogramRecord), descriptor::kind,
+            descriptor::name, descriptor::description, descriptor::milliseconds);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(os);
+
+        // WHEN
+        printer.print(out);
+
+        // THEN
+        assertThat(os.toString("UTF8"), equalTo(expectedOutput));
+    }
+
     @Test
     public void shouldPrintEmpty() throws Exception
     {
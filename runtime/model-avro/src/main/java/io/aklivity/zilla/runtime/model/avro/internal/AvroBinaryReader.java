@@ -0,0 +1,809 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.avro.internal;
+
+import static io.aklivity.zilla.runtime.model.avro.internal.AvroCompiledType.ARRAY;
+import static io.aklivity.zilla.runtime.model.avro.internal.AvroCompiledType.BOOLEAN;
+import static io.aklivity.zilla.runtime.model.avro.internal.AvroCompiledType.BYTES;
+import static io.aklivity.zilla.runtime.model.avro.internal.AvroCompiledType.DOUBLE;
+import static io.aklivity.zilla.runtime.model.avro.internal.AvroCompiledType.ENUM;
+import static io.aklivity.zilla.runtime.model.avro.internal.AvroCompiledType.FIXED;
+import static io.aklivity.zilla.runtime.model.avro.internal.AvroCompiledType.FLOAT;
+import static io.aklivity.zilla.runtime.model.avro.internal.AvroCompiledType.INT;
+import static io.aklivity.zilla.runtime.model.avro.internal.AvroCompiledType.LONG;
+import static io.aklivity.zilla.runtime.model.avro.internal.AvroCompiledType.MAP;
+import static io.aklivity.zilla.runtime.model.avro.internal.AvroCompiledType.NULL;
+import static io.aklivity.zilla.runtime.model.avro.internal.AvroCompiledType.RECORD;
+import static io.aklivity.zilla.runtime.model.avro.internal.AvroCompiledType.STRING;
+import static io.aklivity.zilla.runtime.model.avro.internal.AvroCompiledType.UNION;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.util.Map;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+public final class AvroBinaryReader
+{
+    public static final int INVALID = -1;
+    public static final int UNSUPPORTED = -2;
+
+    private static final int MAX_INT_BYTES = 5;
+    private static final int MAX_LONG_BYTES = 10;
+    private static final long MAX_LENGTH = Integer.MAX_VALUE - 8;
+
+    private static final byte[] JSON_NULL = { 'n', 'u', 'l', 'l' };
+    private static final byte[] JSON_TRUE = { 't', 'r', 'u', 'e' };
+    private static final byte[] JSON_FALSE = { 'f', 'a', 'l', 's', 'e' };
+    private static final byte[] HEX_DIGITS = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F' };
+
+    private static final String MALFORMED_DATA = "Malformed data";
+    private static final String INVALID_INT = "Invalid int encoding";
+    private static final String INVALID_LONG = "Invalid long encoding";
+    private static final String INVALID_LENGTH = "Malformed data. Length is out of range";
+    private static final String INVALID_ENUM = "Enum index out of range";
+    private static final String INVALID_UNION = "Union index out of range";
+
+    private final Map<String, AvroField> extracted;
+
+    private MutableDirectBuffer json;
+    private int jsonProgress;
+    private long value;
+    private String failure;
+
+    public AvroBinaryReader(
+        Map<String, AvroField> extracted)
+    {
+        this.extracted = extracted;
+    }
+
+    public String failure()
+    {
+        return failure;
+    }
+
+    public int validate(
+        AvroCompiledType type,
+        DirectBuffer buffer,
+        int index,
+        int length)
+    {
+        this.json = null;
+        this.failure = null;
+
+        return read(type, buffer, index, index + length, null);
+    }
+
+    public int convert(
+        AvroCompiledType type,
+        DirectBuffer buffer,
+        int index,
+        int length,
+        MutableDirectBuffer json)
+    {
+        this.json = json;
+        this.jsonProgress = 0;
+        this.failure = null;
+
+        final int progress = read(type, buffer, index, index + length, null);
+        this.json = null;
+
+        return progress >= 0 ? jsonProgress : progress;
+    }
+
+    private int read(
+        AvroCompiledType type,
+        DirectBuffer buffer,
+        int offset,
+        int limit,
+        AvroField field)
+    {
+        int progress;
+
+        switch (type.kind)
+        {
+        case NULL:
+            progress = offset;
+            putJson(JSON_NULL);
+            break;
+        case BOOLEAN:
+            progress = readBoolean(buffer, offset, limit, field);
+            break;
+        case INT:
+        case ENUM:
+            progress = readInt(type, buffer, offset, limit, field);
+            break;
+        case LONG:
+            progress = readLong(buffer, offset, limit, field);
+            break;
+        case FLOAT:
+            progress = readFloat(buffer, offset, limit, field);
+            break;
+        case DOUBLE:
+            progress = readDouble(buffer, offset, limit, field);
+            break;
+        case BYTES:
+        case STRING:
+            progress = readBytes(type, buffer, offset, limit, field);
+            break;
+        case FIXED:
+            progress = readFixed(type, buffer, offset, limit, field);
+            break;
+        case RECORD:
+            progress = readRecord(type, buffer, offset, limit);
+            break;
+        case ARRAY:
+        case MAP:
+            progress = readItems(type, buffer, offset, limit);
+            break;
+        case UNION:
+            progress = readUnion(type, buffer, offset, limit, field);
+            break;
+        default:
+            progress = fail(MALFORMED_DATA);
+            break;
+        }
+
+        return progress;
+    }
+
+    private int readBoolean(
+        DirectBuffer buffer,
+        int offset,
+        int limit,
+        AvroField field)
+    {
+        int progress = fail(MALFORMED_DATA);
+
+        if (offset < limit)
+        {
+            progress = offset + 1;
+            putJson(buffer.getByte(offset) == 1 ? JSON_TRUE : JSON_FALSE);
+
+            if (field != null)
+            {
+                field.value.wrap(buffer, offset, progress);
+            }
+        }
+
+        return progress;
+    }
+
+    private int readInt(
+        AvroCompiledType type,
+        DirectBuffer buffer,
+        int offset,
+        int limit,
+        AvroField field)
+    {
+        int progress = readVarint(buffer, offset, limit, MAX_INT_BYTES);
+
+        if (progress >= 0)
+        {
+            final int intValue = (int) value;
+
+            if (type.kind == ENUM)
+            {
+                if (intValue < 0 || intValue >= type.labels.length)
+                {
+                    progress = fail(INVALID_ENUM);
+                }
+                else
+                {
+                    putJson(type.labels[intValue]);
+                }
+            }
+            else if (json != null)
+            {
+                jsonProgress += json.putIntAscii(jsonProgress, intValue);
+            }
+
+            if (field != null && progress >= 0)
+            {
+                MutableDirectBuffer text = field.buffer;
+                int length = text.putIntAscii(0, intValue);
+                field.value.wrap(text, 0, length);
+            }
+        }
+        else
+        {
+            failure = INVALID_INT;
+        }
+
+        return progress;
+    }
+
+    private int readLong(
+        DirectBuffer buffer,
+        int offset,
+        int limit,
+        AvroField field)
+    {
+        int progress = readVarint(buffer, offset, limit, MAX_LONG_BYTES);
+
+        if (progress >= 0)
+        {
+            final long longValue = value;
+
+            if (json != null)
+            {
+                jsonProgress += json.putLongAscii(jsonProgress, longValue);
+            }
+
+            if (field != null)
+            {
+                MutableDirectBuffer text = field.buffer;
+                int length = text.putLongAscii(0, longValue);
+                field.value.wrap(text, 0, length);
+            }
+        }
+        else
+        {
+            failure = INVALID_LONG;
+        }
+
+        return progress;
+    }
+
+    private int readFloat(
+        DirectBuffer buffer,
+        int offset,
+        int limit,
+        AvroField field)
+    {
+        int progress = fail(MALFORMED_DATA);
+
+        if (limit - offset >= Float.BYTES)
+        {
+            progress = offset + Float.BYTES;
+
+            if (json != null || field != null)
+            {
+                final float floatValue = Float.intBitsToFloat(buffer.getInt(offset, LITTLE_ENDIAN));
+                final String text = String.valueOf(floatValue);
+
+                putJsonNumber(text, Float.isFinite(floatValue));
+
+                if (field != null)
+                {
+                    int length = field.buffer.putStringWithoutLengthAscii(0, text);
+                    field.value.wrap(field.buffer, 0, length);
+                }
+            }
+        }
+
+        return progress;
+    }
+
+    private int readDouble(
+        DirectBuffer buffer,
+        int offset,
+        int limit,
+        AvroField field)
+    {
+        int progress = fail(MALFORMED_DATA);
+
+        if (limit - offset >= Double.BYTES)
+        {
+            progress = offset + Double.BYTES;
+
+            if (json != null || field != null)
+            {
+                final double doubleValue = Double.longBitsToDouble(buffer.getLong(offset, LITTLE_ENDIAN));
+                final String text = String.valueOf(doubleValue);
+
+                putJsonNumber(text, Double.isFinite(doubleValue));
+
+                if (field != null)
+                {
+                    int length = field.buffer.putStringWithoutLengthAscii(0, text);
+                    field.value.wrap(field.buffer, 0, length);
+                }
+            }
+        }
+
+        return progress;
+    }
+
+    private int readBytes(
+        AvroCompiledType type,
+        DirectBuffer buffer,
+        int offset,
+        int limit,
+        AvroField field)
+    {
+        int progress = readVarint(buffer, offset, limit, MAX_LONG_BYTES);
+
+        if (progress >= 0)
+        {
+            final long length = value;
+
+            if (length < 0 || length > MAX_LENGTH || length > limit - progress)
+            {
+                progress = fail(INVALID_LENGTH);
+            }
+            else
+            {
+                final int valueOffset = progress;
+                progress += (int) length;
+
+                if (json != null)
+                {
+                    if (type.kind == STRING)
+                    {
+                        progress = putJsonUtf8(buffer, valueOffset, progress) ? progress : UNSUPPORTED;
+                    }
+                    else
+                    {
+                        putJsonLatin1(buffer, valueOffset, progress);
+                    }
+                }
+
+                if (field != null)
+                {
+                    field.value.wrap(buffer, valueOffset, valueOffset + (int) length);
+                }
+            }
+        }
+        else
+        {
+            failure = INVALID_LONG;
+        }
+
+        return progress;
+    }
+
+    private int readFixed(
+        AvroCompiledType type,
+        DirectBuffer buffer,
+        int offset,
+        int limit,
+        AvroField field)
+    {
+        int progress = fail(MALFORMED_DATA);
+
+        if (limit - offset >= type.size)
+        {
+            progress = offset + type.size;
+
+            if (json != null)
+            {
+                putJsonLatin1(buffer, offset, progress);
+            }
+
+            if (field != null)
+            {
+                field.value.wrap(buffer, offset, progress);
+            }
+        }
+
+        return progress;
+    }
+
+    private int readRecord(
+        AvroCompiledType type,
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        int progress = offset;
+
+        putJson((byte) '{');
+
+        for (int index = 0; index < type.types.length && progress >= 0; index++)
+        {
+            AvroField field = extracted.isEmpty() ? null : extracted.get(type.names[index]);
+
+            putJson(type.labels[index]);
+            progress = read(type.types[index], buffer, progress, limit, field);
+        }
+
+        putJson((byte) '}');
+
+        return progress;
+    }
+
+    private int readItems(
+        AvroCompiledType type,
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        final boolean map = type.kind == MAP;
+        final AvroCompiledType element = type.element;
+
+        putJson(map ? (byte) '{' : (byte) '[');
+
+        int progress = offset;
+        boolean first = true;
+
+        items:
+        while (progress >= 0)
+        {
+            progress = readVarint(buffer, progress, limit, MAX_LONG_BYTES);
+            if (progress < 0)
+            {
+                failure = INVALID_LONG;
+                break;
+            }
+
+            long count = value;
+            if (count == 0L)
+            {
+                break;
+            }
+
+            if (count < 0L)
+            {
+                count = -count;
+                progress = readVarint(buffer, progress, limit, MAX_LONG_BYTES);
+                if (progress < 0)
+                {
+                    failure = INVALID_LONG;
+                    break;
+                }
+            }
+
+            final long minSize = element.minSize + (map ? 1 : 0);
+            if (count < 0L || count > MAX_LENGTH || minSize != 0 && count > (limit - progress) / minSize)
+            {
+                progress = fail(INVALID_LENGTH);
+                break;
+            }
+
+            for (long item = 0; item < count; item++)
+            {
+                if (!first)
+                {
+                    putJson((byte) ',');
+                }
+                first = false;
+
+                if (map)
+                {
+                    progress = readKey(buffer, progress, limit);
+                    if (progress < 0)
+                    {
+                        break items;
+                    }
+                }
+
+                progress = read(element, buffer, progress, limit, null);
+                if (progress < 0)
+                {
+                    break items;
+                }
+            }
+        }
+
+        putJson(map ? (byte) '}' : (byte) ']');
+
+        return progress;
+    }
+
+    private int readKey(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        int progress = readVarint(buffer, offset, limit, MAX_LONG_BYTES);
+
+        if (progress >= 0)
+        {
+            final long length = value;
+
+            if (length < 0 || length > limit - progress)
+            {
+                progress = fail(INVALID_LENGTH);
+            }
+            else
+            {
+                final int keyOffset = progress;
+                progress += (int) length;
+
+                if (json != null)
+                {
+                    progress = putJsonUtf8(buffer, keyOffset, progress) ? progress : UNSUPPORTED;
+                    putJson((byte) ':');
+                }
+            }
+        }
+        else
+        {
+            failure = INVALID_LONG;
+        }
+
+        return progress;
+    }
+
+    private int readUnion(
+        AvroCompiledType type,
+        DirectBuffer buffer,
+        int offset,
+        int limit,
+        AvroField field)
+    {
+        int progress = readVarint(buffer, offset, limit, MAX_INT_BYTES);
+
+        if (progress < 0)
+        {
+            failure = INVALID_INT;
+        }
+        else if (value < 0 || value >= type.types.length)
+        {
+            progress = fail(INVALID_UNION);
+        }
+        else
+        {
+            final int index = (int) value;
+            final AvroCompiledType branch = type.types[index];
+
+            if (type.nullIndex != -1 || branch.kind == NULL)
+            {
+                progress = read(branch, buffer, progress, limit, type.nullIndex != -1 ? field : null);
+            }
+            else
+            {
+                putJson(type.labels[index]);
+                progress = read(branch, buffer, progress, limit, null);
+                putJson((byte) '}');
+            }
+        }
+
+        return progress;
+    }
+
+    private int readVarint(
+        DirectBuffer buffer,
+        int offset,
+        int limit,
+        int maxBytes)
+    {
+        int progress = offset;
+        long encoded = 0L;
+        int shift = 0;
+
+        for (;;)
+        {
+            if (progress >= limit || progress - offset >= maxBytes)
+            {
+                progress = INVALID;
+                break;
+            }
+
+            final byte b = buffer.getByte(progress++);
+            encoded |= (long) (b & 0x7f) << shift;
+            shift += 7;
+
+            if ((b & 0x80) == 0)
+            {
+                value = (encoded >>> 1) ^ -(encoded & 1);
+                break;
+            }
+        }
+
+        return progress;
+    }
+
+    private int fail(
+        String failure)
+    {
+        this.failure = failure;
+        return INVALID;
+    }
+
+    private void putJson(
+        byte b)
+    {
+        if (json != null)
+        {
+            json.putByte(jsonProgress++, b);
+        }
+    }
+
+    private void putJson(
+        byte[] bytes)
+    {
+        if (json != null)
+        {
+            json.putBytes(jsonProgress, bytes);
+            jsonProgress += bytes.length;
+        }
+    }
+
+    private void putJsonNumber(
+        String text,
+        boolean finite)
+    {
+        if (json != null)
+        {
+            if (!finite)
+            {
+                putJson((byte) '"');
+            }
+            jsonProgress += json.putStringWithoutLengthAscii(jsonProgress, text);
+            if (!finite)
+            {
+                putJson((byte) '"');
+            }
+        }
+    }
+
+    private boolean putJsonUtf8(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        boolean valid = true;
+
+        putJson((byte) '"');
+
+        for (int progress = offset; progress < limit && valid; )
+        {
+            final int b = buffer.getByte(progress) & 0xff;
+
+            if (b < 0x80)
+            {
+                putJsonChar(b);
+                progress++;
+            }
+            else
+            {
+                final int length = utf8Length(buffer, progress, limit, b);
+                valid = length > 0;
+                for (int index = 0; index < length; index++)
+                {
+                    json.putByte(jsonProgress++, buffer.getByte(progress++));
+                }
+            }
+        }
+
+        putJson((byte) '"');
+
+        return valid;
+    }
+
+    private void putJsonLatin1(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        putJson((byte) '"');
+
+        for (int progress = offset; progress < limit; progress++)
+        {
+            final int b = buffer.getByte(progress) & 0xff;
+
+            if (b < 0x80)
+            {
+                putJsonChar(b);
+            }
+            else
+            {
+                json.putByte(jsonProgress++, (byte) (0xc0 | (b >> 6)));
+                json.putByte(jsonProgress++, (byte) (0x80 | (b & 0x3f)));
+            }
+        }
+
+        putJson((byte) '"');
+    }
+
+    private void putJsonChar(
+        int c)
+    {
+        switch (c)
+        {
+        case '"':
+        case '\\':
+            json.putByte(jsonProgress++, (byte) '\\');
+            json.putByte(jsonProgress++, (byte) c);
+            break;
+        case '\b':
+            putJsonEscape('b');
+            break;
+        case '\t':
+            putJsonEscape('t');
+            break;
+        case '\n':
+            putJsonEscape('n');
+            break;
+        case '\f':
+            putJsonEscape('f');
+            break;
+        case '\r':
+            putJsonEscape('r');
+            break;
+        default:
+            if (c < 0x20)
+            {
+                putJsonEscape('u');
+                json.putByte(jsonProgress++, (byte) '0');
+                json.putByte(jsonProgress++, (byte) '0');
+                json.putByte(jsonProgress++, HEX_DIGITS[c >> 4]);
+                json.putByte(jsonProgress++, HEX_DIGITS[c & 0x0f]);
+            }
+            else
+            {
+                json.putByte(jsonProgress++, (byte) c);
+            }
+            break;
+        }
+    }
+
+    private void putJsonEscape(
+        char c)
+    {
+        json.putByte(jsonProgress++, (byte) '\\');
+        json.putByte(jsonProgress++, (byte) c);
+    }
+
+    private static int utf8Length(
+        DirectBuffer buffer,
+        int offset,
+        int limit,
+        int lead)
+    {
+        int length;
+        int min;
+
+        if (lead >= 0xc2 && lead <= 0xdf)
+        {
+            length = 2;
+            min = 0x80;
+        }
+        else if (lead >= 0xe0 && lead <= 0xef)
+        {
+            length = 3;
+            min = 0x800;
+        }
+        else if (lead >= 0xf0 && lead <= 0xf4)
+        {
+            length = 4;
+            min = 0x10000;
+        }
+        else
+        {
+            length = 0;
+            min = 0;
+        }
+
+        if (length != 0 && limit - offset >= length)
+        {
+            int codePoint = lead & (0xff >> (length + 1));
+            for (int index = 1; index < length; index++)
+            {
+                final int b = buffer.getByte(offset + index) & 0xff;
+                if ((b & 0xc0) != 0x80)
+                {
+                    codePoint = -1;
+                    break;
+                }
+                codePoint = (codePoint << 6) | (b & 0x3f);
+            }
+
+            if (codePoint < min || codePoint > Character.MAX_CODE_POINT ||
+                codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)
+            {
+                length = 0;
+            }
+        }
+        else
+        {
+            length = 0;
+        }
+
+        return length;
+    }
+}
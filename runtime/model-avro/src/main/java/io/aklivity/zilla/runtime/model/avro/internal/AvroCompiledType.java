@@ -0,0 +1,193 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.avro.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.avro.Schema;
+
+public final class AvroCompiledType
+{
+    static final int NULL = 0;
+    static final int BOOLEAN = 1;
+    static final int INT = 2;
+    static final int LONG = 3;
+    static final int FLOAT = 4;
+    static final int DOUBLE = 5;
+    static final int BYTES = 6;
+    static final int STRING = 7;
+    static final int RECORD = 8;
+    static final int ENUM = 9;
+    static final int ARRAY = 10;
+    static final int MAP = 11;
+    static final int UNION = 12;
+    static final int FIXED = 13;
+
+    final int kind;
+
+    String[] names;
+    byte[][] labels;
+    AvroCompiledType[] types;
+    AvroCompiledType element;
+    int nullIndex = -1;
+    int size;
+    int minSize;
+
+    private AvroCompiledType(
+        int kind)
+    {
+        this.kind = kind;
+    }
+
+    public static AvroCompiledType compile(
+        Schema schema)
+    {
+        return compile(schema, new IdentityHashMap<>());
+    }
+
+    private static AvroCompiledType compile(
+        Schema schema,
+        Map<Schema, AvroCompiledType> compiled)
+    {
+        AvroCompiledType type = compiled.get(schema);
+
+        if (type == null)
+        {
+            switch (schema.getType())
+            {
+            case RECORD:
+                type = new AvroCompiledType(RECORD);
+                compiled.put(schema, type);
+                compileRecord(type, schema, compiled);
+                break;
+            case ENUM:
+                type = new AvroCompiledType(ENUM);
+                type.labels = schema.getEnumSymbols().stream()
+                    .map(s -> ("\"" + s + "\"").getBytes(UTF_8))
+                    .toArray(byte[][]::new);
+                type.minSize = 1;
+                break;
+            case ARRAY:
+                type = new AvroCompiledType(ARRAY);
+                compiled.put(schema, type);
+                type.element = compile(schema.getElementType(), compiled);
+                type.minSize = 1;
+                break;
+            case MAP:
+                type = new AvroCompiledType(MAP);
+                compiled.put(schema, type);
+                type.element = compile(schema.getValueType(), compiled);
+                type.minSize = 1;
+                break;
+            case UNION:
+                type = new AvroCompiledType(UNION);
+                compiled.put(schema, type);
+                compileUnion(type, schema, compiled);
+                break;
+            case FIXED:
+                type = new AvroCompiledType(FIXED);
+                type.size = schema.getFixedSize();
+                type.minSize = type.size;
+                break;
+            case STRING:
+                type = new AvroCompiledType(STRING);
+                type.minSize = 1;
+                break;
+            case BYTES:
+                type = new AvroCompiledType(BYTES);
+                type.minSize = 1;
+                break;
+            case INT:
+                type = new AvroCompiledType(INT);
+                type.minSize = 1;
+                break;
+            case LONG:
+                type = new AvroCompiledType(LONG);
+                type.minSize = 1;
+                break;
+            case FLOAT:
+                type = new AvroCompiledType(FLOAT);
+                type.minSize = Float.BYTES;
+                break;
+            case DOUBLE:
+                type = new AvroCompiledType(DOUBLE);
+                type.minSize = Double.BYTES;
+                break;
+            case BOOLEAN:
+                type = new AvroCompiledType(BOOLEAN);
+                type.minSize = 1;
+                break;
+            default:
+                type = new AvroCompiledType(NULL);
+                break;
+            }
+        }
+
+        return type;
+    }
+
+    private static void compileRecord(
+        AvroCompiledType type,
+        Schema schema,
+        Map<Schema, AvroCompiledType> compiled)
+    {
+        List<Schema.Field> fields = schema.getFields();
+
+        type.names = new String[fields.size()];
+        type.labels = new byte[fields.size()][];
+        type.types = new AvroCompiledType[fields.size()];
+
+        for (int index = 0; index < fields.size(); index++)
+        {
+            Schema.Field field = fields.get(index);
+            String separator = index != 0 ? "," : "";
+
+            type.names[index] = field.name();
+            type.labels[index] = (separator + "\"" + field.name() + "\":").getBytes(UTF_8);
+            type.types[index] = compile(field.schema(), compiled);
+            type.minSize += type.types[index].minSize;
+        }
+    }
+
+    private static void compileUnion(
+        AvroCompiledType type,
+        Schema schema,
+        Map<Schema, AvroCompiledType> compiled)
+    {
+        List<Schema> branches = schema.getTypes();
+
+        type.labels = new byte[branches.size()][];
+        type.types = new AvroCompiledType[branches.size()];
+
+        for (int index = 0; index < branches.size(); index++)
+        {
+            Schema branch = branches.get(index);
+
+            type.labels[index] = ("{\"" + branch.getFullName() + "\":").getBytes(UTF_8);
+            type.types[index] = compile(branch, compiled);
+
+            if (branch.getType() == Schema.Type.NULL && branches.size() == 2)
+            {
+                type.nullIndex = index;
+            }
+        }
+
+        type.minSize = 1;
+    }
+}
@@ -16,7 +16,6 @@ package io.aklivity.zilla.runtime.model.avro.internal;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.HashMap;
@@ -81,6 +80,7 @@ public abstract class AvroModelHandler
     protected final Map<String, AvroField> extracted;
 
     private final Int2ObjectCache<Schema> schemas;
+    private final Int2ObjectCache<AvroCompiledType> types;
     private final Int2ObjectCache<GenericDatumReader<GenericRecord>> readers;
     private final Int2ObjectCache<GenericDatumWriter<GenericRecord>> writers;
     private final Int2ObjectCache<GenericRecord> records;
@@ -91,6 +91,7 @@ public abstract class AvroModelHandler
     private final AvroFloatFW floatRO;
     private final AvroDoubleFW doubleRO;
     private final AvroUnionFW unionRO;
+    private final AvroBinaryReader reader;
 
     protected int progress;
 
@@ -110,6 +111,7 @@ public abstract class AvroModelHandler
                 ? catalog.subject
                 : config.subject;
         this.schemas = new Int2ObjectCache<>(1, 1024, i -> {});
+        this.types = new Int2ObjectCache<>(1, 1024, i -> {});
         this.readers = new Int2ObjectCache<>(1, 1024, i -> {});
         this.writers = new Int2ObjectCache<>(1, 1024, i -> {});
         this.records = new Int2ObjectCache<>(1, 1024, i -> {});
@@ -124,7 +126,7 @@ public abstract class AvroModelHandler
         this.floatRO = new AvroFloatFW();
         this.doubleRO = new AvroDoubleFW();
         this.unionRO = new AvroUnionFW();
-
+        this.reader = new AvroBinaryReader(extracted);
     }
 
     protected final boolean validate(
@@ -147,24 +149,19 @@ public abstract class AvroModelHandler
                     status = true;
                     break;
                 case RECORD:
-                    GenericRecord record = supplyRecord(schemaId);
-                    in.wrap(buffer, index, length);
-                    GenericDatumReader<GenericRecord> reader = supplyReader(schemaId);
-                    if (reader != null)
+                    AvroCompiledType type = supplyType(schemaId);
+                    status = reader.validate(type, buffer, index, length) != AvroBinaryReader.INVALID;
+                    if (!status)
                     {
-                        decoderFactory.binaryDecoder(in, decoder);
-                        reader.read(record, decoder);
-                        status = true;
+                        event.validationFailure(traceId, bindingId, reader.failure());
                     }
-                    progress = index;
-                    extractFields(buffer, index + length, schema);
                     break;
                 default:
                     break;
                 }
             }
         }
-        catch (IOException | AvroRuntimeException ex)
+        catch (AvroRuntimeException ex)
         {
             event.validationFailure(traceId, bindingId, ex.getMessage());
         }
@@ -188,6 +185,36 @@ public abstract class AvroModelHandler
         return schemas.computeIfAbsent(schemaId, this::resolveSchema);
     }
 
+    protected final AvroCompiledType supplyType(
+        int schemaId)
+    {
+        return types.computeIfAbsent(schemaId, this::createType);
+    }
+
+    protected final int convertJson(
+        long traceId,
+        long bindingId,
+        int schemaId,
+        DirectBuffer buffer,
+        int index,
+        int length,
+        MutableDirectBuffer json)
+    {
+        AvroCompiledType type = supplyType(schemaId);
+        int jsonLength = AvroBinaryReader.UNSUPPORTED;
+
+        if (type != null && type.kind == AvroCompiledType.RECORD)
+        {
+            jsonLength = reader.convert(type, buffer, index, length, json);
+            if (jsonLength == AvroBinaryReader.INVALID)
+            {
+                event.validationFailure(traceId, bindingId, reader.failure());
+            }
+        }
+
+        return jsonLength;
+    }
+
     protected final int supplyPadding(
         int schemaId)
     {
@@ -212,6 +239,13 @@ public abstract class AvroModelHandler
         return records.computeIfAbsent(schemaId, this::createRecord);
     }
 
+    private AvroCompiledType createType(
+        int schemaId)
+    {
+        Schema schema = supplySchema(schemaId);
+        return schema != null ? AvroCompiledType.compile(schema) : null;
+    }
+
     private GenericDatumReader<GenericRecord> createReader(
         int schemaId)
     {
@@ -157,8 +157,13 @@ public class AvroReadConverterHandler extends AvroModelHandler implements Conver
 
         if (VIEW_JSON.equals(view))
         {
-            deserializeRecord(traceId, bindingId, schemaId, data, index, length);
-            int recordLength = expandable.position();
+            int recordLength = convertJson(traceId, bindingId, schemaId, data, index, length, expandable.buffer());
+            if (recordLength == AvroBinaryReader.UNSUPPORTED)
+            {
+                deserializeRecord(traceId, bindingId, schemaId, data, index, length);
+                recordLength = expandable.position();
+            }
+
             if (recordLength > 0)
             {
                 next.accept(expandable.buffer(), 0, recordLength);
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.avro.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.CanonicalJsonEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.junit.Test;
+
+public class AvroBinaryReaderTest
+{
+    static final String SCHEMA = "{\"type\":\"record\",\"name\":\"Order\",\"namespace\":\"com.example\"," +
+        "\"fields\":[" +
+        "{\"name\":\"id\",\"type\":\"string\"}," +
+        "{\"name\":\"flag\",\"type\":\"boolean\"}," +
+        "{\"name\":\"count\",\"type\":\"int\"}," +
+        "{\"name\":\"total\",\"type\":\"long\"}," +
+        "{\"name\":\"ratio\",\"type\":\"float\"}," +
+        "{\"name\":\"amount\",\"type\":\"double\"}," +
+        "{\"name\":\"payload\",\"type\":\"bytes\"}," +
+        "{\"name\":\"hash\",\"type\":{\"type\":\"fixed\",\"name\":\"Hash\",\"size\":4}}," +
+        "{\"name\":\"status\",\"type\":{\"type\":\"enum\",\"name\":\"Status\",\"symbols\":[\"NEW\",\"DONE\"]}}," +
+        "{\"name\":\"note\",\"type\":[\"null\",\"string\"]}," +
+        "{\"name\":\"choice\",\"type\":[\"null\",\"long\",\"string\"]}," +
+        "{\"name\":\"attributes\",\"type\":{\"type\":\"map\",\"values\":\"int\"}}," +
+        "{\"name\":\"lines\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"record\",\"name\":\"Line\"," +
+            "\"fields\":[{\"name\":\"sku\",\"type\":\"string\"},{\"name\":\"quantity\",\"type\":\"int\"}," +
+            "{\"name\":\"discount\",\"type\":[\"null\",\"double\"]}]}}}" +
+        "]}";
+
+    private final Schema schema = new Schema.Parser().parse(SCHEMA);
+    private final Map<String, AvroField> extracted = new HashMap<>();
+    private final AvroBinaryReader reader = new AvroBinaryReader(extracted);
+    private final AvroCompiledType type = AvroCompiledType.compile(schema);
+
+    @Test
+    public void shouldValidateRecord() throws IOException
+    {
+        DirectBuffer data = encode(order(schema, 3, "quote \" slash \\ tab \t é 😀"));
+
+        assertEquals(data.capacity(), reader.validate(type, data, 0, data.capacity()));
+    }
+
+    @Test
+    public void shouldRejectTruncatedRecord() throws IOException
+    {
+        DirectBuffer data = encode(order(schema, 3, "note"));
+
+        for (int length = 0; length < data.capacity(); length++)
+        {
+            assertEquals(AvroBinaryReader.INVALID, reader.validate(type, data, 0, length));
+        }
+    }
+
+    @Test
+    public void shouldRejectInvalidUnionIndex()
+    {
+        Schema union = new Schema.Parser().parse("{\"type\":\"record\",\"name\":\"U\"," +
+            "\"fields\":[{\"name\":\"u\",\"type\":[\"null\",\"int\"]}]}");
+        DirectBuffer data = new UnsafeBuffer(new byte[] { 0x04, 0x02 });
+
+        assertEquals(AvroBinaryReader.INVALID, reader.validate(AvroCompiledType.compile(union), data, 0, 2));
+    }
+
+    @Test
+    public void shouldConvertRecordAsCanonicalJson() throws IOException
+    {
+        for (int lines = 0; lines < 4; lines++)
+        {
+            GenericRecord record = order(schema, lines, lines % 2 == 0 ? null : "control \u0001 \n chars");
+            DirectBuffer data = encode(record);
+
+            MutableDirectBuffer json = new ExpandableDirectByteBuffer();
+            int length = reader.convert(type, data, 0, data.capacity(), json);
+
+            assertEquals(canonicalJson(record), json.getStringWithoutLengthUtf8(0, length));
+        }
+    }
+
+    @Test
+    public void shouldNotConvertInvalidUtf8()
+    {
+        Schema text = new Schema.Parser().parse("{\"type\":\"record\",\"name\":\"T\"," +
+            "\"fields\":[{\"name\":\"t\",\"type\":\"string\"}]}");
+        DirectBuffer data = new UnsafeBuffer(new byte[] { 0x02, (byte) 0xff });
+
+        assertEquals(2, reader.validate(AvroCompiledType.compile(text), data, 0, 2));
+        assertEquals(AvroBinaryReader.UNSUPPORTED,
+            reader.convert(AvroCompiledType.compile(text), data, 0, 2, new ExpandableDirectByteBuffer()));
+    }
+
+    @Test
+    public void shouldExtractFields() throws IOException
+    {
+        AvroField id = new AvroField();
+        AvroField count = new AvroField();
+        AvroField note = new AvroField();
+        AvroField quantity = new AvroField();
+        extracted.put("id", id);
+        extracted.put("count", count);
+        extracted.put("note", note);
+        extracted.put("quantity", quantity);
+
+        DirectBuffer data = encode(order(schema, 2, "urgent"));
+
+        assertEquals(data.capacity(), reader.validate(type, data, 0, data.capacity()));
+        assertEquals("order-2", id.value.buffer().getStringWithoutLengthUtf8(id.value.offset(), id.value.sizeof()));
+        assertEquals("2", count.value.buffer().getStringWithoutLengthUtf8(count.value.offset(), count.value.sizeof()));
+        assertEquals("urgent", note.value.buffer().getStringWithoutLengthUtf8(note.value.offset(), note.value.sizeof()));
+        assertEquals("1", quantity.value.buffer().getStringWithoutLengthUtf8(quantity.value.offset(),
+            quantity.value.sizeof()));
+    }
+
+    static GenericRecord order(
+        Schema schema,
+        int lines,
+        String note)
+    {
+        Schema lineSchema = schema.getField("lines").schema().getElementType();
+
+        GenericRecord record = new GenericData.Record(schema);
+        record.put("id", "order-" + lines);
+        record.put("flag", lines % 2 == 0);
+        record.put("count", lines);
+        record.put("total", -1234567890123L * (lines + 1));
+        record.put("ratio", 0.1f * lines);
+        record.put("amount", lines == 3 ? Double.NaN : 1.5e300 / (lines + 1));
+        record.put("payload", ByteBuffer.wrap(new byte[] { 0x00, 0x7f, (byte) 0x80, (byte) 0xff }));
+        record.put("hash", new GenericData.Fixed(schema.getField("hash").schema(), new byte[] { 'a', '"', 0x1f, 'z' }));
+        record.put("status", new GenericData.EnumSymbol(schema.getField("status").schema(), lines % 2 == 0 ? "NEW" : "DONE"));
+        record.put("note", note);
+        record.put("choice", lines % 3 == 0 ? null : lines % 3 == 1 ? (Object) (long) lines : "choice");
+
+        Map<String, Integer> attributes = new HashMap<>();
+        for (int index = 0; index < lines; index++)
+        {
+            attributes.put("key" + index, index);
+        }
+        record.put("attributes", attributes);
+
+        GenericData.Array<GenericRecord> items = new GenericData.Array<>(lines, schema.getField("lines").schema());
+        for (int index = 0; index < lines; index++)
+        {
+            GenericRecord line = new GenericData.Record(lineSchema);
+            line.put("sku", "sku-" + index);
+            line.put("quantity", index);
+            line.put("discount", index % 2 == 0 ? null : 0.25 * index);
+            items.add(line);
+        }
+        record.put("lines", items);
+
+        return record;
+    }
+
+    static DirectBuffer encode(
+        GenericRecord record) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        new GenericDatumWriter<GenericRecord>(record.getSchema()).write(record, encoder);
+        encoder.flush();
+        return new UnsafeBuffer(out.toByteArray());
+    }
+
+    private static String canonicalJson(
+        GenericRecord record) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CanonicalJsonEncoder encoder = new CanonicalJsonEncoder(record.getSchema(), out);
+        new GenericDatumWriter<GenericRecord>(record.getSchema()).write(record, encoder);
+        encoder.flush();
+        return out.toString();
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.avro.internal.bench;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.io.DirectBufferInputStream;
+import org.agrona.io.ExpandableDirectBufferOutputStream;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.CanonicalJsonEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.model.avro.internal.AvroBinaryReader;
+import io.aklivity.zilla.runtime.model.avro.internal.AvroCompiledType;
+import io.aklivity.zilla.runtime.model.avro.internal.AvroField;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 10, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class AvroModelBM
+{
+    private static final String NESTED_SCHEMA = "{\"type\":\"record\",\"name\":\"Event\",\"fields\":[" +
+        "{\"name\":\"id\",\"type\":\"string\"}," +
+        "{\"name\":\"timestamp\",\"type\":\"long\"}," +
+        "{\"name\":\"device\",\"type\":{\"type\":\"record\",\"name\":\"Device\",\"fields\":[" +
+            "{\"name\":\"name\",\"type\":\"string\"}," +
+            "{\"name\":\"location\",\"type\":{\"type\":\"record\",\"name\":\"Location\",\"fields\":[" +
+                "{\"name\":\"latitude\",\"type\":\"double\"}," +
+                "{\"name\":\"longitude\",\"type\":\"double\"}]}}]}}]}";
+
+    private static final String UNION_SCHEMA = "{\"type\":\"record\",\"name\":\"Event\",\"fields\":[" +
+        "{\"name\":\"id\",\"type\":\"string\"}," +
+        "{\"name\":\"status\",\"type\":[\"null\",\"string\"]}," +
+        "{\"name\":\"code\",\"type\":[\"null\",\"int\"]}," +
+        "{\"name\":\"value\",\"type\":[\"null\",\"long\",\"string\"]}]}";
+
+    private static final String ARRAY_SCHEMA = "{\"type\":\"record\",\"name\":\"Event\",\"fields\":[" +
+        "{\"name\":\"id\",\"type\":\"string\"}," +
+        "{\"name\":\"readings\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"record\",\"name\":\"Reading\"," +
+            "\"fields\":[{\"name\":\"sensor\",\"type\":\"string\"},{\"name\":\"value\",\"type\":\"int\"}]}}}]}";
+
+    @Param({ "nested", "union", "array" })
+    public String shape;
+
+    private DirectBuffer data;
+    private DirectBufferInputStream in;
+    private BinaryDecoder decoder;
+    private GenericDatumReader<GenericRecord> genericReader;
+    private GenericDatumWriter<GenericRecord> genericWriter;
+    private GenericRecord record;
+    private ExpandableDirectBufferOutputStream out;
+
+    private AvroCompiledType type;
+    private AvroBinaryReader reader;
+    private MutableDirectBuffer json;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        Schema schema = new Schema.Parser().parse(switch (shape)
+        {
+        case "union" -> UNION_SCHEMA;
+        case "array" -> ARRAY_SCHEMA;
+        default -> NESTED_SCHEMA;
+        });
+
+        record = new GenericData.Record(schema);
+        record.put("id", "f81d4fae-7dec-11d0-a765-00a0c91e6bf6");
+
+        switch (shape)
+        {
+        case "union":
+            record.put("status", "active");
+            record.put("code", null);
+            record.put("value", 1234567890L);
+            break;
+        case "array":
+            Schema readingSchema = schema.getField("readings").schema().getElementType();
+            GenericData.Array<GenericRecord> readings = new GenericData.Array<>(32, schema.getField("readings").schema());
+            for (int index = 0; index < 32; index++)
+            {
+                GenericRecord reading = new GenericData.Record(readingSchema);
+                reading.put("sensor", "sensor-" + index);
+                reading.put("value", index * 31);
+                readings.add(reading);
+            }
+            record.put("readings", readings);
+            break;
+        default:
+            Schema deviceSchema = schema.getField("device").schema();
+            Schema locationSchema = deviceSchema.getField("location").schema();
+            GenericRecord location = new GenericData.Record(locationSchema);
+            location.put("latitude", 37.7749);
+            location.put("longitude", -122.4194);
+            GenericRecord device = new GenericData.Record(deviceSchema);
+            device.put("name", "thermostat");
+            device.put("location", location);
+            record.put("timestamp", 1700000000000L);
+            record.put("device", device);
+            break;
+        }
+
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(encoded, null);
+        genericWriter = new GenericDatumWriter<>(schema);
+        genericWriter.write(record, encoder);
+        encoder.flush();
+
+        data = new UnsafeBuffer(encoded.toByteArray());
+        in = new DirectBufferInputStream();
+        decoder = DecoderFactory.get().binaryDecoder(in, null);
+        genericReader = new GenericDatumReader<>(schema);
+        out = new ExpandableDirectBufferOutputStream(new ExpandableDirectByteBuffer());
+
+        Map<String, AvroField> extracted = new HashMap<>();
+        extracted.put("id", new AvroField());
+        type = AvroCompiledType.compile(schema);
+        reader = new AvroBinaryReader(extracted);
+        json = new ExpandableDirectByteBuffer();
+    }
+
+    @Benchmark
+    public GenericRecord genericValidate() throws IOException
+    {
+        in.wrap(data, 0, data.capacity());
+        return genericReader.read(record, DecoderFactory.get().binaryDecoder(in, decoder));
+    }
+
+    @Benchmark
+    public int compiledValidate()
+    {
+        return reader.validate(type, data, 0, data.capacity());
+    }
+
+    @Benchmark
+    public int genericJson() throws IOException
+    {
+        in.wrap(data, 0, data.capacity());
+        out.wrap(out.buffer());
+        GenericRecord decoded = genericReader.read(record, DecoderFactory.get().binaryDecoder(in, decoder));
+        CanonicalJsonEncoder encoder = new CanonicalJsonEncoder(decoded.getSchema(), out);
+        genericWriter.write(decoded, encoder);
+        encoder.flush();
+        return out.position();
+    }
+
+    @Benchmark
+    public int compiledJson()
+    {
+        return reader.convert(type, data, 0, data.capacity(), json);
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(AvroModelBM.class.getSimpleName())
+            .forks(0)
+            .build();
+
+        new Runner(opt).run();
+    }
+}
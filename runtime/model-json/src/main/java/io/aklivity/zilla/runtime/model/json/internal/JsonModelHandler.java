@@ -14,10 +14,14 @@
  */
 package io.aklivity.zilla.runtime.model.json.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.io.StringReader;
 import java.util.HashMap;
 import java.util.Map;
 
+import jakarta.json.JsonException;
+import jakarta.json.JsonReader;
 import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParserFactory;
@@ -52,12 +56,15 @@ public abstract class JsonModelHandler
 
     private final Int2ObjectCache<JsonSchema> schemas;
     private final Int2ObjectCache<JsonProvider> providers;
+    private final Int2ObjectCache<JsonStreamSchema> streamSchemas;
+    private final JsonStreamValidator validator;
     private final JsonProvider schemaProvider;
     private final JsonValidationService service;
     private final JsonParserFactory factory;
 
     private JsonParser parser;
     private DirectBufferInputStream in;
+    private OctetsFW[] extractValues;
 
     public JsonModelHandler(
         JsonModelConfig config,
@@ -74,6 +81,8 @@ public abstract class JsonModelHandler
                 : config.subject;
         this.schemas = new Int2ObjectCache<>(1, 1024, i -> {});
         this.providers = new Int2ObjectCache<>(1, 1024, i -> {});
+        this.streamSchemas = new Int2ObjectCache<>(1, 1024, i -> {});
+        this.validator = new JsonStreamValidator();
         this.in = new DirectBufferInputStream();
         this.event = new JsonModelEventContext(context);
         this.extracted = new HashMap<>();
@@ -86,6 +95,67 @@ public abstract class JsonModelHandler
         DirectBuffer buffer,
         int index,
         int length)
+    {
+        JsonStreamSchema schema = supplyStreamSchema(schemaId);
+
+        return schema != null && schema != JsonStreamSchema.UNSUPPORTED
+            ? validateStream(traceId, bindingId, schema, buffer, index, length)
+            : validateSchema(traceId, bindingId, schemaId, buffer, index, length);
+    }
+
+    protected final JsonStreamSchema supplyStreamSchema(
+        int schemaId)
+    {
+        return streamSchemas.computeIfAbsent(schemaId, this::resolveStreamSchema);
+    }
+
+    private boolean validateStream(
+        long traceId,
+        long bindingId,
+        JsonStreamSchema schema,
+        DirectBuffer buffer,
+        int index,
+        int length)
+    {
+        if (extractValues == null || extractValues.length != extracted.size())
+        {
+            byte[][] extractNames = new byte[extracted.size()][];
+            extractValues = new OctetsFW[extracted.size()];
+
+            int extractIndex = 0;
+            for (Map.Entry<String, OctetsFW> entry : extracted.entrySet())
+            {
+                extractNames[extractIndex] = entry.getKey().getBytes(UTF_8);
+                extractValues[extractIndex] = entry.getValue();
+                extractIndex++;
+            }
+
+            validator.extract(extractNames.length != 0 ? extractNames : null, extractValues);
+        }
+
+        for (OctetsFW value : extractValues)
+        {
+            value.wrap(EMPTY_BUFFER, 0, 0);
+        }
+
+        validator.reset(schema);
+
+        boolean status = validator.validate(buffer, index, length) && validator.complete(index + length);
+        if (!status)
+        {
+            event.validationFailure(traceId, bindingId, validator.failure());
+        }
+
+        return status;
+    }
+
+    private boolean validateSchema(
+        long traceId,
+        long bindingId,
+        int schemaId,
+        DirectBuffer buffer,
+        int index,
+        int length)
     {
         boolean status = true;
         try
@@ -203,6 +273,26 @@ public abstract class JsonModelHandler
         return schema;
     }
 
+    private JsonStreamSchema resolveStreamSchema(
+        int schemaId)
+    {
+        JsonStreamSchema schema = null;
+        String schemaText = handler.resolve(schemaId);
+        if (schemaText != null)
+        {
+            try (JsonReader reader = schemaProvider.createReader(new StringReader(schemaText)))
+            {
+                schema = JsonStreamSchema.compile(reader.readValue());
+            }
+            catch (JsonException ex)
+            {
+                schema = JsonStreamSchema.UNSUPPORTED;
+            }
+        }
+
+        return schema;
+    }
+
     private JsonProvider createProvider(
         int schemaId)
     {
@@ -0,0 +1,425 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.json.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+import org.agrona.DirectBuffer;
+
+public final class JsonStreamSchema
+{
+    public static final int TYPE_NULL = 0x01;
+    public static final int TYPE_BOOLEAN = 0x02;
+    public static final int TYPE_OBJECT = 0x04;
+    public static final int TYPE_ARRAY = 0x08;
+    public static final int TYPE_NUMBER = 0x10;
+    public static final int TYPE_INTEGER = 0x20;
+    public static final int TYPE_STRING = 0x40;
+    public static final int TYPE_ANY = 0x7f;
+
+    public static final JsonStreamSchema TRUE = new JsonStreamSchema(TYPE_ANY);
+    public static final JsonStreamSchema FALSE = new JsonStreamSchema(0);
+    public static final JsonStreamSchema UNSUPPORTED = new JsonStreamSchema(0);
+
+    private static final int MAX_REQUIRED = Long.SIZE;
+
+    private static final Set<String> ANNOTATIONS = Set.of(
+        "$schema", "$id", "id", "$comment", "title", "description", "default", "examples",
+        "readOnly", "writeOnly", "deprecated", "definitions", "$defs");
+
+    static
+    {
+        TRUE.additionalProperties = TRUE;
+        TRUE.items = TRUE;
+    }
+
+    final int types;
+
+    byte[][] propertyNames;
+    JsonStreamSchema[] propertySchemas;
+    long requiredMask;
+    JsonStreamSchema additionalProperties = TRUE;
+    int minProperties;
+    int maxProperties = Integer.MAX_VALUE;
+
+    JsonStreamSchema items = TRUE;
+    int minItems;
+    int maxItems = Integer.MAX_VALUE;
+
+    int minLength;
+    int maxLength = Integer.MAX_VALUE;
+    byte[][] enumValues;
+
+    double minimum = Double.NaN;
+    double maximum = Double.NaN;
+    double exclusiveMinimum = Double.NaN;
+    double exclusiveMaximum = Double.NaN;
+
+    private int[] propertySlots;
+    private int propertyMask;
+
+    private JsonStreamSchema(
+        int types)
+    {
+        this.types = types;
+    }
+
+    public static JsonStreamSchema compile(
+        JsonValue schema)
+    {
+        JsonStreamSchema compiled;
+
+        try
+        {
+            compiled = compileSchema(schema);
+        }
+        catch (UnsupportedOperationException | ClassCastException | ArithmeticException ex)
+        {
+            compiled = UNSUPPORTED;
+        }
+
+        return compiled;
+    }
+
+    int property(
+        DirectBuffer buffer,
+        int offset,
+        int length)
+    {
+        int property = -1;
+
+        if (propertySlots != null)
+        {
+            int slot = hash(buffer, offset, length) & propertyMask;
+            for (int candidate = propertySlots[slot]; candidate != -1; candidate = propertySlots[slot])
+            {
+                if (equals(propertyNames[candidate], buffer, offset, length))
+                {
+                    property = candidate;
+                    break;
+                }
+                slot = (slot + 1) & propertyMask;
+            }
+        }
+
+        return property;
+    }
+
+    boolean required(
+        int property)
+    {
+        return property < MAX_REQUIRED && (requiredMask & (1L << property)) != 0L;
+    }
+
+    boolean enumerates(
+        DirectBuffer buffer,
+        int offset,
+        int length)
+    {
+        boolean matched = false;
+        for (int index = 0; !matched && index < enumValues.length; index++)
+        {
+            matched = equals(enumValues[index], buffer, offset, length);
+        }
+        return matched;
+    }
+
+    static boolean equals(
+        byte[] expected,
+        DirectBuffer buffer,
+        int offset,
+        int length)
+    {
+        boolean equal = expected.length == length;
+        for (int index = 0; equal && index < length; index++)
+        {
+            equal = expected[index] == buffer.getByte(offset + index);
+        }
+        return equal;
+    }
+
+    static int hash(
+        DirectBuffer buffer,
+        int offset,
+        int length)
+    {
+        int hash = 0;
+        for (int index = 0; index < length; index++)
+        {
+            hash = 31 * hash + buffer.getByte(offset + index);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int hash(
+        byte[] bytes)
+    {
+        int hash = 0;
+        for (byte b : bytes)
+        {
+            hash = 31 * hash + b;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static JsonStreamSchema compileSchema(
+        JsonValue schema)
+    {
+        JsonStreamSchema compiled;
+
+        switch (schema.getValueType())
+        {
+        case TRUE:
+            compiled = TRUE;
+            break;
+        case FALSE:
+            compiled = FALSE;
+            break;
+        case OBJECT:
+            compiled = compileObject(schema.asJsonObject());
+            break;
+        default:
+            throw new UnsupportedOperationException();
+        }
+
+        return compiled;
+    }
+
+    private static JsonStreamSchema compileObject(
+        JsonObject schema)
+    {
+        JsonStreamSchema compiled = new JsonStreamSchema(schema.containsKey("type") ? types(schema.get("type")) : TYPE_ANY);
+
+        List<String> names = new ArrayList<>();
+        List<JsonStreamSchema> schemas = new ArrayList<>();
+
+        for (Map.Entry<String, JsonValue> entry : schema.entrySet())
+        {
+            String keyword = entry.getKey();
+            JsonValue value = entry.getValue();
+
+            switch (keyword)
+            {
+            case "type":
+                break;
+            case "properties":
+                value.asJsonObject().forEach((n, s) ->
+                {
+                    names.add(n);
+                    schemas.add(compileSchema(s));
+                });
+                break;
+            case "required":
+            case "additionalProperties":
+                break;
+            case "minProperties":
+                compiled.minProperties = count(value);
+                break;
+            case "maxProperties":
+                compiled.maxProperties = count(value);
+                break;
+            case "items":
+                compiled.items = compileSchema(value);
+                break;
+            case "minItems":
+                compiled.minItems = count(value);
+                break;
+            case "maxItems":
+                compiled.maxItems = count(value);
+                break;
+            case "minLength":
+                compiled.minLength = count(value);
+                break;
+            case "maxLength":
+                compiled.maxLength = count(value);
+                break;
+            case "enum":
+                compiled.enumValues = strings(value.asJsonArray());
+                break;
+            case "const":
+                compiled.enumValues = new byte[][] { string(value) };
+                break;
+            case "minimum":
+                compiled.minimum = number(value);
+                break;
+            case "maximum":
+                compiled.maximum = number(value);
+                break;
+            case "exclusiveMinimum":
+                compiled.exclusiveMinimum = number(value);
+                break;
+            case "exclusiveMaximum":
+                compiled.exclusiveMaximum = number(value);
+                break;
+            default:
+                if (!ANNOTATIONS.contains(keyword))
+                {
+                    throw new UnsupportedOperationException(keyword);
+                }
+                break;
+            }
+        }
+
+        if (schema.containsKey("additionalProperties"))
+        {
+            compiled.additionalProperties = compileSchema(schema.get("additionalProperties"));
+        }
+
+        if (schema.containsKey("required"))
+        {
+            for (JsonValue required : schema.getJsonArray("required"))
+            {
+                String name = ((JsonString) required).getString();
+                int property = names.indexOf(name);
+                if (property == -1)
+                {
+                    property = names.size();
+                    names.add(name);
+                    schemas.add(compiled.additionalProperties);
+                }
+
+                if (property >= MAX_REQUIRED)
+                {
+                    throw new UnsupportedOperationException("required");
+                }
+
+                compiled.requiredMask |= 1L << property;
+            }
+        }
+
+        if (!names.isEmpty())
+        {
+            compiled.index(names, schemas);
+        }
+
+        return compiled;
+    }
+
+    private void index(
+        List<String> names,
+        List<JsonStreamSchema> schemas)
+    {
+        int slots = Integer.highestOneBit(names.size() * 2 - 1) << 1;
+
+        this.propertyNames = new byte[names.size()][];
+        this.propertySchemas = schemas.toArray(JsonStreamSchema[]::new);
+        this.propertySlots = new int[slots];
+        this.propertyMask = slots - 1;
+
+        Arrays.fill(propertySlots, -1);
+        for (int property = 0; property < names.size(); property++)
+        {
+            byte[] name = names.get(property).getBytes(UTF_8);
+            propertyNames[property] = name;
+
+            int slot = hash(name) & propertyMask;
+            while (propertySlots[slot] != -1)
+            {
+                slot = (slot + 1) & propertyMask;
+            }
+            propertySlots[slot] = property;
+        }
+    }
+
+    private static int types(
+        JsonValue type)
+    {
+        int types = 0;
+
+        if (type.getValueType() == JsonValue.ValueType.ARRAY)
+        {
+            for (JsonValue element : type.asJsonArray())
+            {
+                types |= type(element);
+            }
+        }
+        else
+        {
+            types = type(type);
+        }
+
+        return types;
+    }
+
+    private static int type(
+        JsonValue type)
+    {
+        return switch (((JsonString) type).getString())
+        {
+        case "null" -> TYPE_NULL;
+        case "boolean" -> TYPE_BOOLEAN;
+        case "object" -> TYPE_OBJECT;
+        case "array" -> TYPE_ARRAY;
+        case "number" -> TYPE_NUMBER;
+        case "integer" -> TYPE_INTEGER;
+        case "string" -> TYPE_STRING;
+        default -> throw new UnsupportedOperationException("type");
+        };
+    }
+
+    private static int count(
+        JsonValue value)
+    {
+        JsonNumber number = (JsonNumber) value;
+        if (!number.isIntegral())
+        {
+            throw new UnsupportedOperationException();
+        }
+        return number.intValueExact();
+    }
+
+    private static double number(
+        JsonValue value)
+    {
+        if (value.getValueType() != JsonValue.ValueType.NUMBER)
+        {
+            throw new UnsupportedOperationException();
+        }
+        return ((JsonNumber) value).doubleValue();
+    }
+
+    private static byte[] string(
+        JsonValue value)
+    {
+        if (value.getValueType() != JsonValue.ValueType.STRING)
+        {
+            throw new UnsupportedOperationException();
+        }
+        return ((JsonString) value).getString().getBytes(UTF_8);
+    }
+
+    private static byte[][] strings(
+        JsonArray values)
+    {
+        byte[][] strings = new byte[values.size()][];
+        for (int index = 0; index < strings.length; index++)
+        {
+            strings[index] = string(values.get(index));
+        }
+        return strings;
+    }
+}
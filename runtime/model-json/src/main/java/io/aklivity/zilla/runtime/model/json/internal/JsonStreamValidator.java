@@ -0,0 +1,1043 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.json.internal;
+
+import static io.aklivity.zilla.runtime.model.json.internal.JsonStreamSchema.TYPE_ARRAY;
+import static io.aklivity.zilla.runtime.model.json.internal.JsonStreamSchema.TYPE_BOOLEAN;
+import static io.aklivity.zilla.runtime.model.json.internal.JsonStreamSchema.TYPE_INTEGER;
+import static io.aklivity.zilla.runtime.model.json.internal.JsonStreamSchema.TYPE_NULL;
+import static io.aklivity.zilla.runtime.model.json.internal.JsonStreamSchema.TYPE_NUMBER;
+import static io.aklivity.zilla.runtime.model.json.internal.JsonStreamSchema.TYPE_OBJECT;
+import static io.aklivity.zilla.runtime.model.json.internal.JsonStreamSchema.TYPE_STRING;
+
+import java.util.Arrays;
+
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+
+import io.aklivity.zilla.runtime.model.json.internal.types.OctetsFW;
+
+public final class JsonStreamValidator
+{
+    private static final String INVALID_JSON = "Invalid JSON";
+    private static final String INVALID_TYPE = "Invalid type";
+    private static final String INVALID_ENUM = "Value not in enum";
+    private static final String MISSING_REQUIRED = "Missing required property";
+    private static final String INVALID_PROPERTIES = "Invalid number of properties";
+    private static final String INVALID_ITEMS = "Invalid number of items";
+    private static final String INVALID_LENGTH = "Invalid string length";
+    private static final String INVALID_RANGE = "Number out of range";
+
+    private static final int EXPECT_VALUE = 0;
+    private static final int EXPECT_KEY_OR_OBJECT_END = 1;
+    private static final int EXPECT_KEY = 2;
+    private static final int EXPECT_COLON = 3;
+    private static final int EXPECT_COMMA_OR_OBJECT_END = 4;
+    private static final int EXPECT_VALUE_OR_ARRAY_END = 5;
+    private static final int EXPECT_COMMA_OR_ARRAY_END = 6;
+    private static final int EXPECT_END = 7;
+
+    private static final int TOKEN_NONE = 0;
+    private static final int TOKEN_STRING = 1;
+    private static final int TOKEN_NUMBER = 2;
+    private static final int TOKEN_LITERAL = 3;
+
+    private static final int STRING_CHARS = 0;
+    private static final int STRING_ESCAPE = 1;
+    private static final int STRING_UNICODE = 2;
+
+    private static final int NUMBER_SIGN = 0;
+    private static final int NUMBER_ZERO = 1;
+    private static final int NUMBER_INTEGER = 2;
+    private static final int NUMBER_POINT = 3;
+    private static final int NUMBER_FRACTION = 4;
+    private static final int NUMBER_EXPONENT = 5;
+    private static final int NUMBER_EXPONENT_SIGN = 6;
+    private static final int NUMBER_EXPONENT_DIGITS = 7;
+
+    private static final int MAX_MANTISSA_DIGITS = 18;
+    private static final int MAX_EXPONENT = 10000;
+    private static final int DEPTH_INITIAL = 16;
+
+    private static final byte[] LITERAL_TRUE = { 't', 'r', 'u', 'e' };
+    private static final byte[] LITERAL_FALSE = { 'f', 'a', 'l', 's', 'e' };
+    private static final byte[] LITERAL_NULL = { 'n', 'u', 'l', 'l' };
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final MutableDirectBuffer scratch;
+
+    private JsonStreamSchema[] schemas;
+    private long[] seen;
+    private int[] counts;
+    private boolean[] objects;
+    private int depth;
+
+    private byte[][] extractNames;
+    private OctetsFW[] extractValues;
+    private int extractPending;
+    private int extractIndex;
+    private int extractOffset;
+    private DirectBuffer extractBuffer;
+
+    private String failure;
+    private int expect;
+    private int token;
+    private JsonStreamSchema valueSchema;
+    private JsonStreamSchema propertySchema;
+    private DirectBuffer buffer;
+
+    private boolean key;
+    private boolean capture;
+    private int stringState;
+    private int scratchLength;
+    private int codePoints;
+    private int utf8Remaining;
+    private int unicode;
+    private int unicodeDigits;
+    private int highSurrogate;
+
+    private int numberState;
+    private boolean numberNegative;
+    private boolean numberFractionOrExponent;
+    private boolean numberInexact;
+    private long mantissa;
+    private int mantissaDigits;
+    private int fractionDigits;
+    private int decimalExponent;
+    private boolean exponentNegative;
+    private int exponent;
+
+    private byte[] literal;
+    private int literalIndex;
+
+    public JsonStreamValidator()
+    {
+        this.scratch = new ExpandableArrayBuffer(64);
+        this.schemas = new JsonStreamSchema[DEPTH_INITIAL];
+        this.seen = new long[DEPTH_INITIAL];
+        this.counts = new int[DEPTH_INITIAL];
+        this.objects = new boolean[DEPTH_INITIAL];
+    }
+
+    public void extract(
+        byte[][] names,
+        OctetsFW[] values)
+    {
+        this.extractNames = names;
+        this.extractValues = values;
+    }
+
+    public void reset(
+        JsonStreamSchema schema)
+    {
+        this.failure = null;
+        this.expect = EXPECT_VALUE;
+        this.token = TOKEN_NONE;
+        this.valueSchema = schema;
+        this.depth = 0;
+        this.extractPending = -1;
+        this.extractIndex = -1;
+        this.extractBuffer = null;
+        this.highSurrogate = 0;
+    }
+
+    public String failure()
+    {
+        return failure;
+    }
+
+    public boolean validate(
+        DirectBuffer buffer,
+        int index,
+        int length)
+    {
+        this.buffer = buffer;
+
+        if (extractIndex != -1 && extractBuffer != buffer)
+        {
+            extractIndex = -1;
+        }
+
+        final int limit = index + length;
+        int offset = index;
+
+        while (offset < limit && failure == null)
+        {
+            if (token != TOKEN_NONE)
+            {
+                offset = decodeToken(buffer, offset, limit);
+                continue;
+            }
+
+            final byte b = buffer.getByte(offset);
+            if (b == ' ' || b == '\n' || b == '\r' || b == '\t')
+            {
+                offset++;
+                continue;
+            }
+
+            switch (expect)
+            {
+            case EXPECT_VALUE_OR_ARRAY_END:
+                if (b == ']')
+                {
+                    endArray();
+                    offset++;
+                }
+                else
+                {
+                    offset = startValue(b, offset);
+                }
+                break;
+            case EXPECT_VALUE:
+                offset = startValue(b, offset);
+                break;
+            case EXPECT_KEY_OR_OBJECT_END:
+                if (b == '}')
+                {
+                    endObject();
+                }
+                else
+                {
+                    startKey(b);
+                }
+                offset++;
+                break;
+            case EXPECT_KEY:
+                startKey(b);
+                offset++;
+                break;
+            case EXPECT_COLON:
+                if (b == ':')
+                {
+                    valueSchema = propertySchema;
+                    extractIndex = extractPending;
+                    extractPending = -1;
+                    expect = EXPECT_VALUE;
+                }
+                else
+                {
+                    failure = INVALID_JSON;
+                }
+                offset++;
+                break;
+            case EXPECT_COMMA_OR_OBJECT_END:
+                if (b == ',')
+                {
+                    expect = EXPECT_KEY;
+                }
+                else if (b == '}')
+                {
+                    endObject();
+                }
+                else
+                {
+                    failure = INVALID_JSON;
+                }
+                offset++;
+                break;
+            case EXPECT_COMMA_OR_ARRAY_END:
+                if (b == ',')
+                {
+                    valueSchema = schemas[depth - 1].items;
+                    expect = EXPECT_VALUE;
+                }
+                else if (b == ']')
+                {
+                    endArray();
+                }
+                else
+                {
+                    failure = INVALID_JSON;
+                }
+                offset++;
+                break;
+            default:
+                failure = INVALID_JSON;
+                break;
+            }
+        }
+
+        return failure == null;
+    }
+
+    public boolean complete(
+        int limit)
+    {
+        if (failure == null && token == TOKEN_NUMBER)
+        {
+            switch (numberState)
+            {
+            case NUMBER_ZERO:
+            case NUMBER_INTEGER:
+            case NUMBER_FRACTION:
+            case NUMBER_EXPONENT_DIGITS:
+                endNumber(limit);
+                break;
+            default:
+                failure = INVALID_JSON;
+                break;
+            }
+        }
+
+        final boolean empty = expect == EXPECT_VALUE && depth == 0 && token == TOKEN_NONE;
+        if (failure == null && !empty && (token != TOKEN_NONE || expect != EXPECT_END))
+        {
+            failure = INVALID_JSON;
+        }
+
+        return failure == null;
+    }
+
+    private int startValue(
+        byte b,
+        int offset)
+    {
+        final JsonStreamSchema schema = valueSchema;
+
+        int progress = offset + 1;
+        int type;
+
+        switch (b)
+        {
+        case '{':
+            type = TYPE_OBJECT;
+            push(schema, true);
+            expect = EXPECT_KEY_OR_OBJECT_END;
+            break;
+        case '[':
+            type = TYPE_ARRAY;
+            push(schema, false);
+            valueSchema = schema.items;
+            expect = EXPECT_VALUE_OR_ARRAY_END;
+            break;
+        case '"':
+            type = TYPE_STRING;
+            startString(false, schema.enumValues != null);
+            if (extractIndex != -1)
+            {
+                extractBuffer = buffer;
+                extractOffset = progress;
+            }
+            break;
+        case 't':
+            type = TYPE_BOOLEAN;
+            startLiteral(LITERAL_TRUE);
+            break;
+        case 'f':
+            type = TYPE_BOOLEAN;
+            startLiteral(LITERAL_FALSE);
+            break;
+        case 'n':
+            type = TYPE_NULL;
+            startLiteral(LITERAL_NULL);
+            break;
+        default:
+            type = TYPE_NUMBER | TYPE_INTEGER;
+            startNumber();
+            if (extractIndex != -1)
+            {
+                extractBuffer = buffer;
+                extractOffset = offset;
+            }
+            progress = offset;
+            break;
+        }
+
+        if (type != TYPE_STRING && type != (TYPE_NUMBER | TYPE_INTEGER))
+        {
+            extractIndex = -1;
+        }
+
+        if ((schema.types & type) == 0)
+        {
+            failure = INVALID_TYPE;
+        }
+        else if (type != TYPE_STRING && schema.enumValues != null)
+        {
+            failure = INVALID_ENUM;
+        }
+
+        return progress;
+    }
+
+    private void endValue()
+    {
+        if (depth == 0)
+        {
+            expect = EXPECT_END;
+        }
+        else if (objects[depth - 1])
+        {
+            expect = EXPECT_COMMA_OR_OBJECT_END;
+        }
+        else
+        {
+            counts[depth - 1]++;
+            expect = EXPECT_COMMA_OR_ARRAY_END;
+        }
+    }
+
+    private void push(
+        JsonStreamSchema schema,
+        boolean object)
+    {
+        if (depth == schemas.length)
+        {
+            final int newLength = depth << 1;
+            schemas = Arrays.copyOf(schemas, newLength);
+            seen = Arrays.copyOf(seen, newLength);
+            counts = Arrays.copyOf(counts, newLength);
+            objects = Arrays.copyOf(objects, newLength);
+        }
+
+        schemas[depth] = schema;
+        seen[depth] = 0L;
+        counts[depth] = 0;
+        objects[depth] = object;
+        depth++;
+    }
+
+    private void endObject()
+    {
+        final int frame = depth - 1;
+        final JsonStreamSchema schema = schemas[frame];
+
+        if ((seen[frame] & schema.requiredMask) != schema.requiredMask)
+        {
+            failure = MISSING_REQUIRED;
+        }
+        else if (counts[frame] < schema.minProperties || counts[frame] > schema.maxProperties)
+        {
+            failure = INVALID_PROPERTIES;
+        }
+
+        schemas[frame] = null;
+        depth = frame;
+        endValue();
+    }
+
+    private void endArray()
+    {
+        final int frame = depth - 1;
+        final JsonStreamSchema schema = schemas[frame];
+
+        if (counts[frame] < schema.minItems || counts[frame] > schema.maxItems)
+        {
+            failure = INVALID_ITEMS;
+        }
+
+        schemas[frame] = null;
+        depth = frame;
+        endValue();
+    }
+
+    private void startKey(
+        byte b)
+    {
+        if (b == '"')
+        {
+            startString(true, true);
+        }
+        else
+        {
+            failure = INVALID_JSON;
+        }
+    }
+
+    private void endKey()
+    {
+        final int frame = depth - 1;
+        final JsonStreamSchema schema = schemas[frame];
+        final int property = schema.property(scratch, 0, scratchLength);
+
+        if (property != -1)
+        {
+            if (schema.required(property))
+            {
+                seen[frame] |= 1L << property;
+            }
+            propertySchema = schema.propertySchemas[property];
+        }
+        else
+        {
+            propertySchema = schema.additionalProperties;
+        }
+
+        if (extractNames != null)
+        {
+            extractPending = -1;
+            for (int index = 0; index < extractNames.length; index++)
+            {
+                if (JsonStreamSchema.equals(extractNames[index], scratch, 0, scratchLength))
+                {
+                    extractPending = index;
+                    break;
+                }
+            }
+        }
+
+        counts[frame]++;
+        expect = EXPECT_COLON;
+    }
+
+    private int decodeToken(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        int progress;
+
+        switch (token)
+        {
+        case TOKEN_STRING:
+            progress = decodeString(buffer, offset, limit);
+            break;
+        case TOKEN_NUMBER:
+            progress = decodeNumber(buffer, offset, limit);
+            break;
+        default:
+            progress = decodeLiteral(buffer, offset, limit);
+            break;
+        }
+
+        return progress;
+    }
+
+    private void startString(
+        boolean key,
+        boolean capture)
+    {
+        this.token = TOKEN_STRING;
+        this.key = key;
+        this.capture = capture;
+        this.stringState = STRING_CHARS;
+        this.scratchLength = 0;
+        this.codePoints = 0;
+        this.utf8Remaining = 0;
+        this.highSurrogate = 0;
+    }
+
+    private int decodeString(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        int progress = offset;
+
+        decode:
+        while (progress < limit && failure == null)
+        {
+            final byte b = buffer.getByte(progress++);
+
+            switch (stringState)
+            {
+            case STRING_CHARS:
+                if (utf8Remaining > 0)
+                {
+                    if ((b & 0xc0) != 0x80)
+                    {
+                        failure = INVALID_JSON;
+                    }
+                    utf8Remaining--;
+                    append(b);
+                }
+                else if (b == '"')
+                {
+                    flushSurrogate();
+                    endString(progress - 1);
+                    break decode;
+                }
+                else if (b == '\\')
+                {
+                    stringState = STRING_ESCAPE;
+                }
+                else if (b >= 0)
+                {
+                    if (b < 0x20)
+                    {
+                        failure = INVALID_JSON;
+                    }
+                    flushSurrogate();
+                    codePoints++;
+                    append(b);
+                }
+                else
+                {
+                    flushSurrogate();
+                    utf8Remaining = utf8Continuations(b);
+                    codePoints++;
+                    append(b);
+                }
+                break;
+            case STRING_ESCAPE:
+                if (b == 'u')
+                {
+                    stringState = STRING_UNICODE;
+                    unicode = 0;
+                    unicodeDigits = 0;
+                }
+                else
+                {
+                    flushSurrogate();
+                    codePoints++;
+                    append(unescape(b));
+                    stringState = STRING_CHARS;
+                }
+                break;
+            default:
+                final int digit = Character.digit(b, 16);
+                if (digit == -1)
+                {
+                    failure = INVALID_JSON;
+                }
+                unicode = (unicode << 4) | digit;
+                if (++unicodeDigits == 4)
+                {
+                    appendUnicode(unicode);
+                    stringState = STRING_CHARS;
+                }
+                break;
+            }
+        }
+
+        return progress;
+    }
+
+    private void endString(
+        int offset)
+    {
+        token = TOKEN_NONE;
+
+        if (key)
+        {
+            endKey();
+        }
+        else
+        {
+            final JsonStreamSchema schema = valueSchema;
+
+            if (codePoints < schema.minLength || codePoints > schema.maxLength)
+            {
+                failure = INVALID_LENGTH;
+            }
+            else if (schema.enumValues != null && !schema.enumerates(scratch, 0, scratchLength))
+            {
+                failure = INVALID_ENUM;
+            }
+
+            if (extractIndex != -1 && extractBuffer == buffer)
+            {
+                extractValues[extractIndex].wrap(buffer, extractOffset, offset);
+            }
+            extractIndex = -1;
+
+            endValue();
+        }
+    }
+
+    private int utf8Continuations(
+        byte b)
+    {
+        int continuations = 0;
+
+        if ((b & 0xe0) == 0xc0 && (b & 0xff) >= 0xc2)
+        {
+            continuations = 1;
+        }
+        else if ((b & 0xf0) == 0xe0)
+        {
+            continuations = 2;
+        }
+        else if ((b & 0xf8) == 0xf0 && (b & 0xff) <= 0xf4)
+        {
+            continuations = 3;
+        }
+        else
+        {
+            failure = INVALID_JSON;
+        }
+
+        return continuations;
+    }
+
+    private byte unescape(
+        byte b)
+    {
+        byte unescaped = b;
+
+        switch (b)
+        {
+        case '"':
+        case '\\':
+        case '/':
+            break;
+        case 'b':
+            unescaped = '\b';
+            break;
+        case 'f':
+            unescaped = '\f';
+            break;
+        case 'n':
+            unescaped = '\n';
+            break;
+        case 'r':
+            unescaped = '\r';
+            break;
+        case 't':
+            unescaped = '\t';
+            break;
+        default:
+            failure = INVALID_JSON;
+            break;
+        }
+
+        return unescaped;
+    }
+
+    private void appendUnicode(
+        int unit)
+    {
+        if (Character.isHighSurrogate((char) unit))
+        {
+            flushSurrogate();
+            highSurrogate = unit;
+            codePoints++;
+        }
+        else if (Character.isLowSurrogate((char) unit) && highSurrogate != 0)
+        {
+            appendCodePoint(Character.toCodePoint((char) highSurrogate, (char) unit));
+            highSurrogate = 0;
+        }
+        else
+        {
+            flushSurrogate();
+            appendCodePoint(unit);
+            codePoints++;
+        }
+    }
+
+    private void flushSurrogate()
+    {
+        if (highSurrogate != 0)
+        {
+            appendCodePoint(highSurrogate);
+            highSurrogate = 0;
+        }
+    }
+
+    private void appendCodePoint(
+        int codePoint)
+    {
+        if (codePoint < 0x80)
+        {
+            append((byte) codePoint);
+        }
+        else if (codePoint < 0x800)
+        {
+            append((byte) (0xc0 | (codePoint >> 6)));
+            append((byte) (0x80 | (codePoint & 0x3f)));
+        }
+        else if (codePoint < 0x10000)
+        {
+            append((byte) (0xe0 | (codePoint >> 12)));
+            append((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+            append((byte) (0x80 | (codePoint & 0x3f)));
+        }
+        else
+        {
+            append((byte) (0xf0 | (codePoint >> 18)));
+            append((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+            append((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+            append((byte) (0x80 | (codePoint & 0x3f)));
+        }
+    }
+
+    private void append(
+        byte b)
+    {
+        if (capture)
+        {
+            scratch.putByte(scratchLength++, b);
+        }
+    }
+
+    private void startNumber()
+    {
+        this.token = TOKEN_NUMBER;
+        this.numberState = NUMBER_SIGN;
+        this.numberNegative = false;
+        this.numberFractionOrExponent = false;
+        this.numberInexact = false;
+        this.mantissa = 0L;
+        this.mantissaDigits = 0;
+        this.fractionDigits = 0;
+        this.decimalExponent = 0;
+        this.exponentNegative = false;
+        this.exponent = 0;
+    }
+
+    private int decodeNumber(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        int progress = offset;
+
+        decode:
+        while (progress < limit)
+        {
+            final byte b = buffer.getByte(progress);
+            final boolean digit = b >= '0' && b <= '9';
+
+            switch (numberState)
+            {
+            case NUMBER_SIGN:
+                if (b == '-' && !numberNegative && mantissaDigits == 0)
+                {
+                    numberNegative = true;
+                }
+                else if (b == '0')
+                {
+                    numberState = NUMBER_ZERO;
+                }
+                else if (digit)
+                {
+                    appendInteger(b);
+                    numberState = NUMBER_INTEGER;
+                }
+                else
+                {
+                    failure = INVALID_JSON;
+                    break decode;
+                }
+                break;
+            case NUMBER_ZERO:
+            case NUMBER_INTEGER:
+                if (digit && numberState == NUMBER_INTEGER)
+                {
+                    appendInteger(b);
+                }
+                else if (b == '.')
+                {
+                    numberFractionOrExponent = true;
+                    numberState = NUMBER_POINT;
+                }
+                else if (b == 'e' || b == 'E')
+                {
+                    numberFractionOrExponent = true;
+                    numberState = NUMBER_EXPONENT;
+                }
+                else
+                {
+                    endNumber(progress);
+                    break decode;
+                }
+                break;
+            case NUMBER_POINT:
+            case NUMBER_FRACTION:
+                if (digit)
+                {
+                    appendFraction(b);
+                    numberState = NUMBER_FRACTION;
+                }
+                else if (numberState == NUMBER_FRACTION && (b == 'e' || b == 'E'))
+                {
+                    numberState = NUMBER_EXPONENT;
+                }
+                else if (numberState == NUMBER_FRACTION)
+                {
+                    endNumber(progress);
+                    break decode;
+                }
+                else
+                {
+                    failure = INVALID_JSON;
+                    break decode;
+                }
+                break;
+            case NUMBER_EXPONENT:
+                if (b == '+' || b == '-')
+                {
+                    exponentNegative = b == '-';
+                    numberState = NUMBER_EXPONENT_SIGN;
+                }
+                else if (digit)
+                {
+                    appendExponent(b);
+                    numberState = NUMBER_EXPONENT_DIGITS;
+                }
+                else
+                {
+                    failure = INVALID_JSON;
+                    break decode;
+                }
+                break;
+            case NUMBER_EXPONENT_SIGN:
+            case NUMBER_EXPONENT_DIGITS:
+                if (digit)
+                {
+                    appendExponent(b);
+                    numberState = NUMBER_EXPONENT_DIGITS;
+                }
+                else if (numberState == NUMBER_EXPONENT_DIGITS)
+                {
+                    endNumber(progress);
+                    break decode;
+                }
+                else
+                {
+                    failure = INVALID_JSON;
+                    break decode;
+                }
+                break;
+            }
+
+            progress++;
+        }
+
+        return progress;
+    }
+
+    private void appendInteger(
+        byte b)
+    {
+        if (mantissaDigits < MAX_MANTISSA_DIGITS)
+        {
+            mantissa = mantissa * 10 + (b - '0');
+            mantissaDigits++;
+        }
+        else
+        {
+            decimalExponent++;
+            numberInexact = true;
+        }
+    }
+
+    private void appendFraction(
+        byte b)
+    {
+        fractionDigits++;
+
+        if (mantissaDigits < MAX_MANTISSA_DIGITS)
+        {
+            mantissa = mantissa * 10 + (b - '0');
+            mantissaDigits += mantissa != 0L ? 1 : 0;
+            decimalExponent--;
+        }
+        else
+        {
+            numberInexact = true;
+        }
+    }
+
+    private void appendExponent(
+        byte b)
+    {
+        exponent = Math.min(exponent * 10 + (b - '0'), MAX_EXPONENT);
+    }
+
+    private void endNumber(
+        int offset)
+    {
+        token = TOKEN_NONE;
+
+        final JsonStreamSchema schema = valueSchema;
+        final int signedExponent = exponentNegative ? -exponent : exponent;
+        final boolean integral = !numberFractionOrExponent || fractionDigits == signedExponent;
+
+        if ((schema.types & TYPE_NUMBER) == 0 && !integral)
+        {
+            failure = INVALID_TYPE;
+        }
+        else if (!Double.isNaN(schema.minimum) || !Double.isNaN(schema.maximum) ||
+            !Double.isNaN(schema.exclusiveMinimum) || !Double.isNaN(schema.exclusiveMaximum))
+        {
+            final double value = numberValue(signedExponent);
+            if (value < schema.minimum || value > schema.maximum ||
+                value <= schema.exclusiveMinimum || value >= schema.exclusiveMaximum)
+            {
+                failure = INVALID_RANGE;
+            }
+        }
+
+        if (extractIndex != -1 && extractBuffer == buffer)
+        {
+            extractValues[extractIndex].wrap(buffer, extractOffset, offset);
+        }
+        extractIndex = -1;
+
+        endValue();
+    }
+
+    private double numberValue(
+        int signedExponent)
+    {
+        final int scale = decimalExponent + signedExponent;
+
+        double value;
+        if (!numberInexact && mantissa < (1L << 53) && scale >= 0 && scale < POWERS_OF_TEN.length)
+        {
+            value = mantissa * POWERS_OF_TEN[scale];
+        }
+        else if (!numberInexact && mantissa < (1L << 53) && scale < 0 && -scale < POWERS_OF_TEN.length)
+        {
+            value = mantissa / POWERS_OF_TEN[-scale];
+        }
+        else
+        {
+            value = mantissa * Math.pow(10, scale);
+        }
+
+        return numberNegative ? -value : value;
+    }
+
+    private void startLiteral(
+        byte[] literal)
+    {
+        this.token = TOKEN_LITERAL;
+        this.literal = literal;
+        this.literalIndex = 1;
+    }
+
+    private int decodeLiteral(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        int progress = offset;
+
+        while (progress < limit && literalIndex < literal.length && failure == null)
+        {
+            if (buffer.getByte(progress++) != literal[literalIndex++])
+            {
+                failure = INVALID_JSON;
+            }
+        }
+
+        if (literalIndex == literal.length && failure == null)
+        {
+            token = TOKEN_NONE;
+            endValue();
+        }
+
+        return progress;
+    }
+}
@@ -31,8 +31,11 @@ public class JsonValidatorHandler extends JsonModelHandler implements ValidatorH
 {
     private final DirectBufferInputStream in;
     private final ExpandableDirectByteBuffer buffer;
+    private final JsonStreamValidator validator;
 
     private int progress;
+    private int schemaId;
+    private boolean streaming;
     private JsonParser parser;
 
     public JsonValidatorHandler(
@@ -42,6 +45,7 @@ public class JsonValidatorHandler extends JsonModelHandler implements ValidatorH
         super(config, context);
         this.buffer = new ExpandableDirectByteBuffer();
         this.in = new DirectBufferInputStream(buffer);
+        this.validator = new JsonStreamValidator();
     }
 
     @Override
@@ -61,29 +65,54 @@ public class JsonValidatorHandler extends JsonModelHandler implements ValidatorH
             if ((flags & FLAGS_INIT) != 0x00)
             {
                 this.progress = 0;
+                this.schemaId = catalog != null && catalog.id > 0
+                    ? catalog.id
+                    : handler.resolve(subject, catalog.version);
+
+                JsonStreamSchema schema = supplyStreamSchema(schemaId);
+                this.streaming = schema != null && schema != JsonStreamSchema.UNSUPPORTED;
+
+                if (streaming)
+                {
+                    validator.reset(schema);
+                }
             }
 
-            buffer.putBytes(progress, data, index, length);
-            progress += length;
+            if (streaming)
+            {
+                validator.validate(data, index, length);
+                progress += length;
+
+                if ((flags & FLAGS_FIN) != 0x00)
+                {
+                    status = validator.complete(index + length);
 
-            if ((flags & FLAGS_FIN) != 0x00)
+                    if (!status)
+                    {
+                        event.validationFailure(traceId, bindingId, validator.failure());
+                    }
+                }
+            }
+            else
             {
-                in.wrap(buffer, 0, progress);
+                buffer.putBytes(progress, data, index, length);
+                progress += length;
 
-                int schemaId = catalog != null && catalog.id > 0
-                    ? catalog.id
-                    : handler.resolve(subject, catalog.version);
+                if ((flags & FLAGS_FIN) != 0x00)
+                {
+                    in.wrap(buffer, 0, progress);
 
-                JsonProvider provider = supplyProvider(schemaId);
+                    JsonProvider provider = supplyProvider(schemaId);
 
-                status &= provider != null;
+                    status &= provider != null;
 
-                if (status)
-                {
-                    parser = provider.createParser(in);
-                    while (parser.hasNext())
+                    if (status)
                     {
-                        parser.next();
+                        parser = provider.createParser(in);
+                        while (parser.hasNext())
+                        {
+                            parser.next();
+                        }
                     }
                 }
             }
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2021-2024 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.json.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+
+import jakarta.json.Json;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.model.json.internal.types.OctetsFW;
+
+public class JsonStreamValidatorTest
+{
+    private static final String OBJECT_SCHEMA = "{" +
+            "\"type\": \"object\"," +
+            "\"properties\": " +
+            "{" +
+                "\"id\": {" +
+                    "\"type\": \"string\"," +
+                    "\"minLength\": 2" +
+                "}," +
+                "\"status\": {" +
+                    "\"enum\": [\"OK\", \"FAILED\"]" +
+                "}," +
+                "\"count\": {" +
+                    "\"type\": \"integer\"," +
+                    "\"minimum\": 0," +
+                    "\"exclusiveMaximum\": 100" +
+                "}," +
+                "\"tags\": {" +
+                    "\"type\": \"array\"," +
+                    "\"items\": { \"type\": \"string\" }," +
+                    "\"maxItems\": 2" +
+                "}" +
+            "}," +
+            "\"required\": [" +
+                "\"id\"," +
+                "\"status\"" +
+            "]," +
+            "\"additionalProperties\": false" +
+            "}";
+
+    private final JsonStreamValidator validator = new JsonStreamValidator();
+
+    @Test
+    public void shouldValidateObject()
+    {
+        assertValid(OBJECT_SCHEMA, "{\"id\": \"123\", \"status\": \"OK\", \"count\": 42, \"tags\": [\"a\", \"b\"]}");
+        assertValid(OBJECT_SCHEMA, " {\"status\":\"FAILED\",\"id\":\"\\u00e9\\u00e9\",\"count\":1.5e1} ");
+    }
+
+    @Test
+    public void shouldRejectInvalidObject()
+    {
+        assertInvalid(OBJECT_SCHEMA, "{\"id\": \"123\"}");
+        assertInvalid(OBJECT_SCHEMA, "{\"id\": 123, \"status\": \"OK\"}");
+        assertInvalid(OBJECT_SCHEMA, "{\"id\": \"1\", \"status\": \"OK\"}");
+        assertInvalid(OBJECT_SCHEMA, "{\"id\": \"123\", \"status\": \"UNKNOWN\"}");
+        assertInvalid(OBJECT_SCHEMA, "{\"id\": \"123\", \"status\": \"OK\", \"count\": 100}");
+        assertInvalid(OBJECT_SCHEMA, "{\"id\": \"123\", \"status\": \"OK\", \"count\": -1}");
+        assertInvalid(OBJECT_SCHEMA, "{\"id\": \"123\", \"status\": \"OK\", \"count\": 1.5}");
+        assertInvalid(OBJECT_SCHEMA, "{\"id\": \"123\", \"status\": \"OK\", \"tags\": [\"a\", \"b\", \"c\"]}");
+        assertInvalid(OBJECT_SCHEMA, "{\"id\": \"123\", \"status\": \"OK\", \"other\": true}");
+    }
+
+    @Test
+    public void shouldRejectMalformedJson()
+    {
+        assertInvalid("{}", "{\"id\": }");
+        assertInvalid("{}", "{\"id\": 01}");
+        assertInvalid("{}", "[1, 2,]");
+        assertInvalid("{}", "{\"id\": tru}");
+        assertInvalid("{}", "\"unterminated");
+        assertInvalid("{}", "\"\\x\"");
+        assertInvalid("{}", "{} {}");
+        assertInvalid("{}", "-");
+    }
+
+    @Test
+    public void shouldValidateFragmented()
+    {
+        JsonStreamSchema schema = compile(OBJECT_SCHEMA);
+        byte[] bytes = "{\"id\": \"1234\", \"status\": \"FAILED\", \"count\": 99}".getBytes(UTF_8);
+
+        for (int split = 0; split <= bytes.length; split++)
+        {
+            validator.reset(schema);
+            assertTrue(validator.validate(new UnsafeBuffer(bytes, 0, split), 0, split));
+            assertTrue(validator.validate(new UnsafeBuffer(bytes, split, bytes.length - split), 0, bytes.length - split));
+            assertTrue(validator.complete(bytes.length - split));
+        }
+    }
+
+    @Test
+    public void shouldRejectFragmentedAtCompletion()
+    {
+        JsonStreamSchema schema = compile(OBJECT_SCHEMA);
+        byte[] bytes = "{\"id\": \"1234\", \"status\": \"OK\"".getBytes(UTF_8);
+
+        validator.reset(schema);
+        assertTrue(validator.validate(new UnsafeBuffer(bytes), 0, bytes.length));
+        assertFalse(validator.complete(bytes.length));
+    }
+
+    @Test
+    public void shouldExtractValues()
+    {
+        OctetsFW status = new OctetsFW();
+        OctetsFW count = new OctetsFW();
+        validator.extract(new byte[][] { "status".getBytes(UTF_8), "count".getBytes(UTF_8) },
+            new OctetsFW[] { status, count });
+
+        byte[] bytes = "{\"id\": \"123\", \"status\": \"OK\", \"count\": 42}".getBytes(UTF_8);
+        DirectBuffer buffer = new UnsafeBuffer(bytes);
+
+        validator.reset(compile(OBJECT_SCHEMA));
+        assertTrue(validator.validate(buffer, 0, bytes.length) && validator.complete(bytes.length));
+
+        assertEquals("OK", status.buffer().getStringWithoutLengthUtf8(status.offset(), status.sizeof()));
+        assertEquals("42", count.buffer().getStringWithoutLengthUtf8(count.offset(), count.sizeof()));
+    }
+
+    @Test
+    public void shouldNotCompileUnsupportedKeywords()
+    {
+        assertSame(JsonStreamSchema.UNSUPPORTED, compile("{\"$ref\": \"#/definitions/id\"}"));
+        assertSame(JsonStreamSchema.UNSUPPORTED, compile("{\"type\": \"string\", \"pattern\": \"^[a-z]+$\"}"));
+        assertSame(JsonStreamSchema.UNSUPPORTED, compile("{\"oneOf\": [{\"type\": \"string\"}]}"));
+    }
+
+    private void assertValid(
+        String schema,
+        String json)
+    {
+        assertTrue(json, validate(schema, json));
+    }
+
+    private void assertInvalid(
+        String schema,
+        String json)
+    {
+        assertFalse(json, validate(schema, json));
+    }
+
+    private boolean validate(
+        String schema,
+        String json)
+    {
+        byte[] bytes = json.getBytes(UTF_8);
+
+        validator.reset(compile(schema));
+        return validator.validate(new UnsafeBuffer(bytes), 0, bytes.length) && validator.complete(bytes.length);
+    }
+
+    private static JsonStreamSchema compile(
+        String schema)
+    {
+        return JsonStreamSchema.compile(Json.createReader(new StringReader(schema)).readValue());
+    }
+}
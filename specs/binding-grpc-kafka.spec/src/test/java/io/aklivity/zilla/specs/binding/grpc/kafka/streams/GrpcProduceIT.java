@@ -108,6 +108,15 @@ public class GrpcProduceIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${grpc}/unary.rpcs.reply.shared/client",
+        "${grpc}/unary.rpcs.reply.shared/server"})
+    public void shouldExchangeMessagesInUnaryReplyShared() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${grpc}/unary.rpc.oneway/client",
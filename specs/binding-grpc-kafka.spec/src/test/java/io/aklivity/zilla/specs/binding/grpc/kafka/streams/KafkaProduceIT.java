@@ -108,6 +108,15 @@ public class KafkaProduceIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${kafka}/unary.rpcs.reply.shared/client",
+        "${kafka}/unary.rpcs.reply.shared/server"})
+    public void shouldExchangeMessagesInUnaryReplyShared() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${kafka}/unary.rpc.oneway/client",
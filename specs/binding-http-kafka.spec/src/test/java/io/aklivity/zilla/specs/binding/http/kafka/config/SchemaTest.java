@@ -98,6 +98,14 @@ public class SchemaTest
         assertThat(config, not(nullValue()));
     }
 
+    @Test
+    public void shouldValidateProxyGetItemCommandAsync()
+    {
+        JsonObject config = schema.validate("proxy.get.item.command.async.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
     @Test
     public void shouldValidateProxyPostItemCommand()
     {
@@ -106,6 +114,14 @@ public class SchemaTest
         assertThat(config, not(nullValue()));
     }
 
+    @Test
+    public void shouldValidateProxyPostItemCommandExits()
+    {
+        JsonObject config = schema.validate("proxy.post.item.command.exits.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
     @Test
     public void shouldValidateProxyPostItemCommandAsync()
     {
@@ -297,6 +297,15 @@ public class HttpIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${http}/get.item.command.prefer.wait.timeout/client",
+        "${http}/get.item.command.prefer.wait.timeout/server"})
+    public void shouldNotGetItemCommandPreferWaitTimeout() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${http}/get.item.prefer.wait.not.found/client",
@@ -468,6 +477,24 @@ public class HttpIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${http}/post.item.commands.reply.shared/client",
+        "${http}/post.item.commands.reply.shared/server"})
+    public void shouldPostItemCommandsReplyShared() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${http}/post.item.commands.reply.shared.exits/client",
+        "${http}/post.item.commands.reply.shared.exits/server"})
+    public void shouldPostItemCommandsReplySharedExits() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${http}/post.item.command/client",
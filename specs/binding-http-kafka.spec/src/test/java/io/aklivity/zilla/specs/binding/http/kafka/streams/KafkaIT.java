@@ -288,6 +288,15 @@ public class KafkaIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${kafka}/get.item.command.reply.shared.timeout/client",
+        "${kafka}/get.item.command.reply.shared.timeout/server"})
+    public void shouldNotGetItemCommandReplySharedTimeout() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${kafka}/get.item.wait.timeout/client",
@@ -423,6 +432,24 @@ public class KafkaIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${kafka}/post.item.commands.reply.shared/client",
+        "${kafka}/post.item.commands.reply.shared/server"})
+    public void shouldPostItemCommandsReplyShared() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${kafka}/post.item.commands.reply.shared.exits/client",
+        "${kafka}/post.item.commands.reply.shared.exits/server"})
+    public void shouldPostItemCommandsReplySharedExits() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${kafka}/post.item.command/client",
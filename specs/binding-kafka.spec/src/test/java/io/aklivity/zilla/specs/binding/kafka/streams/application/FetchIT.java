@@ -182,6 +182,15 @@ public class FetchIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/message.value.undecodable/client",
+        "${app}/message.value.undecodable/server"})
+    public void shouldSkipMessageValueUndecodable() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/message.value.empty/client",
@@ -18,7 +18,6 @@ package io.aklivity.zilla.specs.binding.kafka.streams.application;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.rules.RuleChain.outerRule;
 
-import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.DisableOnDebug;
@@ -236,7 +235,6 @@ public class ProduceIT
         k3po.finish();
     }
 
-    @Ignore("TODO")
     @Test
     @Specification({
         "${app}/message.value.gzip/client",
@@ -246,7 +244,6 @@ public class ProduceIT
         k3po.finish();
     }
 
-    @Ignore("TODO")
     @Test
     @Specification({
         "${app}/message.value.snappy/client",
@@ -256,7 +253,6 @@ public class ProduceIT
         k3po.finish();
     }
 
-    @Ignore("TODO")
     @Test
     @Specification({
         "${app}/message.value.lz4/client",
@@ -164,6 +164,42 @@ public class FetchIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/message.value.gzip/client",
+        "${net}/message.value.gzip/server"})
+    public void shouldReceiveMessageValueGzip() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/message.value.snappy/client",
+        "${net}/message.value.snappy/server"})
+    public void shouldReceiveMessageValueSnappy() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/message.value.lz4/client",
+        "${net}/message.value.lz4/server"})
+    public void shouldReceiveMessageValueLz4() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/message.value.zstd/client",
+        "${net}/message.value.zstd/server"})
+    public void shouldSkipMessageValueZstd() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/message.value.null/client",
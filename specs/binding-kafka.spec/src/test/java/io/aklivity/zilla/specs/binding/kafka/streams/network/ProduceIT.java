@@ -18,7 +18,6 @@ package io.aklivity.zilla.specs.binding.kafka.streams.network;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.rules.RuleChain.outerRule;
 
-import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.DisableOnDebug;
@@ -209,7 +208,6 @@ public class ProduceIT
         k3po.finish();
     }
 
-    @Ignore("TODO")
     @Test
     @Specification({
         "${net}/message.value.gzip/client",
@@ -219,7 +217,6 @@ public class ProduceIT
         k3po.finish();
     }
 
-    @Ignore("TODO")
     @Test
     @Specification({
         "${net}/message.value.snappy/client",
@@ -229,7 +226,6 @@ public class ProduceIT
         k3po.finish();
     }
 
-    @Ignore("TODO")
     @Test
     @Specification({
         "${net}/message.value.lz4/client",
@@ -19,6 +19,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 
+import jakarta.json.JsonException;
 import jakarta.json.JsonObject;
 
 import org.junit.Rule;
@@ -57,6 +58,20 @@ public class SchemaTest
         assertThat(config, not(nullValue()));
     }
 
+    @Test
+    public void shouldValidateServerPath()
+    {
+        JsonObject config = schema.validate("server.path.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
+    @Test(expected = JsonException.class)
+    public void shouldRejectServerPathAndPort()
+    {
+        schema.validate("server.path.and.port.yaml");
+    }
+
     @Test
     public void shouldValidateClientAuthority()
     {
@@ -113,6 +128,14 @@ public class SchemaTest
         assertThat(config, not(nullValue()));
     }
 
+    @Test
+    public void shouldValidateClientPath()
+    {
+        JsonObject config = schema.validate("client.path.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
     @Test
     public void shouldValidateClientSubnetIPv6()
     {